@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# Builds the stub native library used by the JNI benchmarks into target/native.
+cd "$(dirname "$0")"
+
+JNI_INCLUDE=../java-wrapper/src/main/native/include/jni
+
+case "$(uname -s)" in
+	Darwin)
+		PLATFORM_INCLUDE=$JNI_INCLUDE/mac
+		LIBRARY=libsteamworks4j-benchmark-stub.dylib
+		DEFINES=-DMACOSX
+		;;
+	*)
+		PLATFORM_INCLUDE=$JNI_INCLUDE/linux
+		LIBRARY=libsteamworks4j-benchmark-stub.so
+		DEFINES=-DLINUX
+		;;
+esac
+
+mkdir -p target/native
+g++ -std=c++11 -Wall -O2 -shared -fPIC $DEFINES -I$JNI_INCLUDE -I$PLATFORM_INCLUDE \
+	src/main/native/BenchmarkStub.cpp -o target/native/$LIBRARY
@@ -0,0 +1,151 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object versus raw handle variants of hot path functions. Run with {@code -prof gc} to compare
+ * {@code gc.alloc.rate.norm}: the raw lobby member benchmark is expected to report 0 bytes per operation.
+ * <p>
+ * The connection benchmarks include the allocations of the simulated backend itself, which are the
+ * same for both variants, so only the difference between them is attributed to the wrappers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AllocationBenchmark {
+
+	private SteamMatchmaking matchmaking;
+
+	private SteamID lobby;
+	private long lobbyRaw;
+
+	private SteamID remote;
+	private long remoteRaw;
+
+	@Setup
+	public void setup() throws SteamException {
+		SimulatedSteam.start(new SteamSimulatedBackend.Config()
+				.setCallbackLatency(0)
+				.setLobbyChatRate(0.0)
+				.setLobbyDataRate(0.0)
+				.setLobbyMemberRate(0.0));
+
+		matchmaking = new SteamMatchmaking(new SteamMatchmakingCallback() {
+		});
+
+		matchmaking.requestLobbyList();
+		SteamAPI.runCallbacks();
+
+		// pick the lobby with the most members, and connect to one of them
+		int mostMembers = 0;
+		for (int i = 0; matchmaking.getLobbyByIndexRaw(i) != 0L; i++) {
+			long steamIDLobby = matchmaking.getLobbyByIndexRaw(i);
+			int members = matchmaking.getNumLobbyMembers(steamIDLobby);
+			if (members > mostMembers) {
+				mostMembers = members;
+				lobbyRaw = steamIDLobby;
+			}
+		}
+
+		if (mostMembers == 0) {
+			throw new SteamException("No simulated lobby with members found.");
+		}
+
+		lobby = SteamID.createFromNativeHandle(lobbyRaw);
+		remoteRaw = matchmaking.getLobbyMemberByIndexRaw(lobbyRaw, 0);
+		remote = SteamID.createFromNativeHandle(remoteRaw);
+	}
+
+	@TearDown
+	public void tearDown() {
+		matchmaking.dispose();
+		SimulatedSteam.stop();
+	}
+
+	@State(Scope.Thread)
+	public static class ObjectCallback {
+
+		SteamNetworkingSockets sockets;
+
+		@Setup
+		public void setup(AllocationBenchmark benchmark, Blackhole blackhole) {
+			sockets = new SteamNetworkingSockets((connection, steamID, state, prevState) -> {
+				blackhole.consume(connection);
+				blackhole.consume(steamID);
+				blackhole.consume(state);
+			});
+		}
+
+		@TearDown
+		public void tearDown() {
+			sockets.dispose();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class RawCallback {
+
+		SteamNetworkingSockets sockets;
+
+		@Setup
+		public void setup(AllocationBenchmark benchmark, Blackhole blackhole) {
+			sockets = new SteamNetworkingSockets(new SteamNetworkingSocketsCallback() {
+				@Override
+				public void onConnectionStatusChanged(SteamNetworkingSockets.Connection connection, SteamID steamID,
+													  SteamNetworkingSockets.ConnectionState state,
+													  SteamNetworkingSockets.ConnectionState prevState) {
+				}
+
+				@Override
+				public void onConnectionStatusChangedRaw(int connection, long steamID, int state, int prevState) {
+					blackhole.consume(connection);
+					blackhole.consume(steamID);
+					blackhole.consume(state);
+				}
+			});
+		}
+
+		@TearDown
+		public void tearDown() {
+			sockets.dispose();
+		}
+	}
+
+	@Benchmark
+	public void lobbyMembers(Blackhole blackhole) {
+		int members = matchmaking.getNumLobbyMembers(lobby);
+		for (int i = 0; i < members; i++) {
+			blackhole.consume(matchmaking.getLobbyMemberByIndex(lobby, i));
+		}
+	}
+
+	@Benchmark
+	public void lobbyMembersRaw(Blackhole blackhole) {
+		int members = matchmaking.getNumLobbyMembers(lobbyRaw);
+		for (int i = 0; i < members; i++) {
+			blackhole.consume(matchmaking.getLobbyMemberByIndexRaw(lobbyRaw, i));
+		}
+	}
+
+	@Benchmark
+	public boolean connectionStatus(ObjectCallback callback) {
+		SteamNetworkingSockets.Connection connection = callback.sockets.connectP2P(remote, 0);
+		SteamAPI.runCallbacks();
+		return callback.sockets.closeConnection(connection, 0, false);
+	}
+
+	@Benchmark
+	public boolean connectionStatusRaw(RawCallback callback) {
+		int connection = callback.sockets.connectP2PRaw(remoteRaw, 0);
+		SteamAPI.runCallbacks();
+		return callback.sockets.closeConnection(connection, 0, false);
+	}
+
+}
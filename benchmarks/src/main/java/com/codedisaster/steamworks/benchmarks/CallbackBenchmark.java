@@ -0,0 +1,97 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Callback upcall path, reported per batch of {@link #callbacks} callbacks.
+ * <p>
+ * The simulated benchmark queues {@link SteamUserStatsCallback#onUserStatsStored(long, SteamResult)}
+ * callbacks, and dispatches them with {@link SteamAPI#runCallbacks()}. The JNI benchmark calls a Java
+ * method from native code through a cached method ID, like the wrapper's native callback adapters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CallbackBenchmark {
+
+	@Param({"1", "64"})
+	public int callbacks;
+
+	@State(Scope.Thread)
+	public static class Simulated {
+
+		SteamUserStats userStats;
+
+		@Setup
+		public void setup(Blackhole blackhole) throws SteamException {
+			SimulatedSteam.start(new SteamSimulatedBackend.Config());
+
+			userStats = new SteamUserStats(new SteamUserStatsCallback() {
+				@Override
+				public void onUserStatsStored(long gameId, SteamResult result) {
+					blackhole.consume(result);
+				}
+			});
+		}
+
+		@TearDown
+		public void tearDown() {
+			userStats.dispose();
+			SimulatedSteam.stop();
+		}
+	}
+
+	public static class Receiver {
+
+		private final Blackhole blackhole;
+
+		Receiver(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@SuppressWarnings("unused") // called from native code
+		public void onCallback(long steamID, int result) {
+			blackhole.consume(steamID);
+			blackhole.consume(result);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Stub {
+
+		StubNative natives;
+		long callback;
+
+		@Setup
+		public void setup(StubState stub, Blackhole blackhole) {
+			natives = stub.natives;
+			callback = natives.createCallback(new Receiver(blackhole));
+		}
+
+		@TearDown
+		public void tearDown() {
+			natives.deleteCallback(callback);
+		}
+	}
+
+	@Benchmark
+	public void simulatedRunCallbacks(Simulated simulated) {
+		for (int i = 0; i < callbacks; i++) {
+			simulated.userStats.storeStats();
+		}
+		SteamAPI.runCallbacks();
+	}
+
+	@Benchmark
+	public void jniUpcall(Stub stub) {
+		stub.natives.dispatchCallbacks(stub.callback, callbacks);
+	}
+
+}
@@ -0,0 +1,240 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost and gain of compressing game state snapshots with {@link SteamLZCodec}, without a codec, with the
+ * plain codec, and with a dictionary trained on earlier snapshots.
+ * <p>
+ * {@link #encode()} and {@link #decode()} measure the CPU time per snapshot, where "raw" copies the snapshot
+ * instead. {@link #transfer()} sends a batch of snapshots over a loopback socket pair through a
+ * {@link SteamMessageCodecStage}, limited to {@value #SendRate} bytes per second and advanced by a manual
+ * clock in frames of one millisecond, and returns the number of frames until all snapshots were received.
+ * The compression ratio and the effective snapshots per second of the simulated link are printed when
+ * the trial ends.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+	private static final int SendRate = 256 * 1024;
+	private static final long FrameNanos = 1000000L;
+	private static final int MaxFrames = 100000;
+
+	private static final int Entities = 64;
+	private static final int EntitySize = 16;
+	private static final int SnapshotSize = 8 + Entities * EntitySize;
+
+	private static final int TrainingSnapshots = 256;
+	private static final int Snapshots = 64;
+
+	private static final int DictionarySize = 8 * 1024;
+
+	@Param({ "raw", "lz", "lzDictionary" })
+	public String codec;
+
+	private long now;
+
+	private SteamNetworkingSockets sockets;
+
+	private int client;
+	private int server;
+
+	private SteamLZCodec encoder;
+	private SteamLZCodec decoder;
+
+	private SteamMessageCodecStage clientStage;
+	private SteamMessageCodecStage serverStage;
+
+	private final ByteBuffer[] snapshots = new ByteBuffer[Snapshots];
+	private final ByteBuffer[] encoded = new ByteBuffer[Snapshots];
+
+	private final ByteBuffer target = ByteBuffer.allocateDirect(SnapshotSize + 16);
+	private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(SnapshotSize + 16);
+
+	private long framesTransferred;
+	private long snapshotsTransferred;
+
+	@Setup
+	public void setup() throws SteamException {
+		SimulatedSteam.start(new SteamSimulatedBackend.Config()
+				.setClock(() -> now)
+				.setEcho(false)
+				.setSocketSendRate(SendRate));
+
+		sockets = new SteamNetworkingSockets((connection, steamID, state, prevState) -> {
+		});
+
+		int[] pair = new int[2];
+		if (!sockets.createSocketPairRaw(false, pair)) {
+			throw new SteamException("Failed to create socket pair.");
+		}
+
+		client = pair[0];
+		server = pair[1];
+
+		Random random = new Random(42);
+		short[] positions = new short[Entities * 3];
+
+		ByteBuffer[] training = new ByteBuffer[TrainingSnapshots];
+		for (int tick = 0; tick < TrainingSnapshots; tick++) {
+			training[tick] = snapshot(tick, positions, random);
+		}
+
+		for (int i = 0; i < Snapshots; i++) {
+			snapshots[i] = snapshot(TrainingSnapshots + i, positions, random);
+		}
+
+		if (codec.equals("lz")) {
+			encoder = new SteamLZCodec();
+			decoder = new SteamLZCodec();
+		} else if (codec.equals("lzDictionary")) {
+			ByteBuffer dictionary = SteamLZCodec.trainDictionary(training, DictionarySize);
+			encoder = new SteamLZCodec(dictionary);
+			decoder = new SteamLZCodec(dictionary);
+		}
+
+		if (encoder != null) {
+			clientStage = new SteamMessageCodecStage(sockets, encoder, SnapshotSize);
+			serverStage = new SteamMessageCodecStage(sockets, decoder, SnapshotSize);
+		}
+
+		for (int i = 0; i < Snapshots; i++) {
+			encoded[i] = ByteBuffer.allocateDirect(SnapshotSize + 16);
+			if (encoder != null) {
+				encoder.encode(snapshots[i].duplicate(), encoded[i]);
+			} else {
+				encoded[i].put(snapshots[i].duplicate());
+			}
+			encoded[i].flip();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (snapshotsTransferred > 0) {
+			double ratio = clientStage != null ? clientStage.getSendRatio() : 1.0;
+			double perSecond = snapshotsTransferred * 1000.0 / framesTransferred;
+			System.out.printf("%n%s: compression ratio %.3f, %.0f snapshots/s at %d KB/s%n",
+					codec, ratio, perSecond, SendRate / 1024);
+		}
+
+		sockets.dispose();
+		SimulatedSteam.stop();
+	}
+
+	/**
+	 * Game state of all entities, which move a little each tick.
+	 */
+	private static ByteBuffer snapshot(int tick, short[] positions, Random random) {
+		ByteBuffer snapshot = ByteBuffer.allocateDirect(SnapshotSize);
+
+		snapshot.putInt(0x534e4150);
+		snapshot.putInt(tick);
+
+		for (int entity = 0; entity < Entities; entity++) {
+			for (int axis = 0; axis < 3; axis++) {
+				positions[entity * 3 + axis] += random.nextInt(5) - 2;
+			}
+
+			snapshot.putInt(10000 + entity);
+			snapshot.putShort((short) (entity % 4));
+			snapshot.putShort((short) (random.nextInt(16) == 0 ? 75 : 100));
+			snapshot.putShort(positions[entity * 3]);
+			snapshot.putShort(positions[entity * 3 + 1]);
+			snapshot.putShort(positions[entity * 3 + 2]);
+			snapshot.put((byte) (entity % 3 == 0 ? 1 : 0));
+			snapshot.put((byte) (tick / 8 % 4));
+		}
+
+		snapshot.flip();
+
+		return snapshot;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(Snapshots)
+	public int encode() throws SteamException {
+		int size = 0;
+		for (ByteBuffer snapshot : snapshots) {
+			target.clear();
+			if (encoder != null) {
+				size += encoder.encode(snapshot, target);
+			} else {
+				target.put(snapshot);
+				size += target.position();
+			}
+			snapshot.rewind();
+		}
+		return size;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(Snapshots)
+	public int decode() throws SteamException {
+		int size = 0;
+		for (ByteBuffer message : encoded) {
+			target.clear();
+			if (decoder != null) {
+				size += decoder.decode(message, target);
+			} else {
+				target.put(message);
+				size += target.position();
+			}
+			message.rewind();
+		}
+		return size;
+	}
+
+	/**
+	 * Sends all snapshots, and returns the number of frames until the last one was received and decoded.
+	 */
+	@Benchmark
+	public int transfer() throws SteamException {
+		for (ByteBuffer snapshot : snapshots) {
+			SteamResult result = clientStage != null
+					? clientStage.sendMessageToConnection(client, snapshot, SteamNetworkingSockets.SendFlags.Reliable)
+					: sockets.sendMessageToConnection(client, snapshot, SteamNetworkingSockets.SendFlags.Reliable);
+
+			if (result != SteamResult.OK) {
+				throw new SteamException("Failed to send snapshot: " + result);
+			}
+		}
+
+		int received = 0;
+
+		for (int frames = 1; frames <= MaxFrames; frames++) {
+			now += FrameNanos;
+			SteamAPI.runCallbacks();
+
+			int size;
+			do {
+				receiveBuffer.clear();
+				size = serverStage != null
+						? serverStage.receiveMessageOnConnection(server, receiveBuffer)
+						: sockets.receiveMessageOnConnection(server, receiveBuffer);
+				if (size > 0) {
+					received++;
+				}
+			} while (size > 0);
+
+			if (received == Snapshots) {
+				framesTransferred += frames;
+				snapshotsTransferred += Snapshots;
+				return frames;
+			}
+		}
+
+		throw new SteamException("Snapshots not received after " + MaxFrames + " frames.");
+	}
+
+}
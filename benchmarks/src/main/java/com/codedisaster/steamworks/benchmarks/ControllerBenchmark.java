@@ -0,0 +1,30 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.SteamController;
+import com.codedisaster.steamworks.SteamControllerAnalogActionData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SteamController#getAnalogActionData}, which writes four fields of a Java object from native code.
+ * <p>
+ * {@link SteamController} isn't covered by the simulated backend, so there's only a JNI benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ControllerBenchmark {
+
+	private final SteamControllerAnalogActionData analogActionData = new SteamControllerAnalogActionData();
+
+	@Benchmark
+	public float jniGetAnalogActionData(StubState stub) {
+		stub.natives.getAnalogActionData(1L, 2L, analogActionData);
+		return analogActionData.getX();
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of calling an empty native method, to put the other JNI benchmarks into perspective.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JNIBaselineBenchmark {
+
+	@Benchmark
+	public void noop(StubState stub) {
+		stub.natives.noop();
+	}
+
+}
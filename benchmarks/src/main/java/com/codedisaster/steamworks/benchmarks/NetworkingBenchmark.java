@@ -0,0 +1,75 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SteamNetworking#readP2PPacket(SteamID, ByteBuffer, int)}.
+ * <p>
+ * The simulated benchmark echoes a packet to the local user before reading it. The JNI benchmark
+ * includes the two output arrays the wrapper passes to native code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NetworkingBenchmark {
+
+	@Param({"16", "256", "1200"})
+	public int packetSize;
+
+	private ByteBuffer sendBuffer;
+	private ByteBuffer receiveBuffer;
+
+	private final int[] msgSizeInBytes = new int[1];
+	private final long[] steamIDRemote = new long[1];
+
+	@Setup
+	public void setup() {
+		sendBuffer = ByteBuffer.allocateDirect(packetSize);
+		receiveBuffer = ByteBuffer.allocateDirect(packetSize);
+	}
+
+	@State(Scope.Thread)
+	public static class Simulated {
+
+		SteamNetworking networking;
+		SteamID localSteamID;
+		final SteamID remoteSteamID = new SteamID();
+
+		@Setup
+		public void setup() throws SteamException {
+			SteamSimulatedBackend backend = SimulatedSteam.start(new SteamSimulatedBackend.Config().setEcho(true));
+			networking = new SteamNetworking(new SteamNetworkingCallback() {
+			});
+			localSteamID = backend.getLocalSteamID();
+		}
+
+		@TearDown
+		public void tearDown() {
+			networking.dispose();
+			SimulatedSteam.stop();
+		}
+	}
+
+	@Benchmark
+	public int simulatedSendRead(Simulated simulated) throws SteamException {
+		sendBuffer.clear();
+		simulated.networking.sendP2PPacket(simulated.localSteamID, sendBuffer, SteamNetworking.P2PSend.Unreliable, 0);
+
+		receiveBuffer.clear();
+		return simulated.networking.readP2PPacket(simulated.remoteSteamID, receiveBuffer, 0);
+	}
+
+	@Benchmark
+	public boolean jniReadP2PPacket(StubState stub) {
+		stub.natives.setMessageSize(packetSize);
+		return stub.natives.readP2PPacket(false, receiveBuffer, 0, packetSize, msgSizeInBytes, steamIDRemote, 0);
+	}
+
+}
@@ -0,0 +1,201 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.*;
+import com.codedisaster.steamworks.SteamNetworkingSockets.Connection;
+import com.codedisaster.steamworks.SteamNetworkingSockets.ConnectionState;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SteamNetworkingSockets#sendMessageToConnection(Connection, ByteBuffer, int)},
+ * {@link SteamNetworkingSockets#sendMessages(ByteBuffer, int[], int[], int[], int[], int[], long[], int)},
+ * {@link SteamNetworkingSockets#receiveMessageOnConnection(Connection, ByteBuffer)} and
+ * {@link SteamNetworkingSockets#receiveMessagesOnConnection(Connection, ByteBuffer, int[], int)}.
+ * <p>
+ * The simulated benchmark sends over a loopback connection pair and receives the message on the
+ * other end. The JNI benchmarks call natives with the same signatures as the wrapper. The drain
+ * and broadcast benchmarks receive or send {@value #MessagesPerTick} messages, one per call or all
+ * in one call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NetworkingSocketsBenchmark {
+
+	private static final int VirtualPort = 1;
+	private static final int MessagesPerTick = 16;
+
+	@Param({"16", "256", "1200"})
+	public int messageSize;
+
+	private ByteBuffer sendBuffer;
+	private ByteBuffer receiveBuffer;
+	private ByteBuffer drainBuffer;
+
+	private final int[] sizes = new int[MessagesPerTick];
+	private final int[] offsets = new int[MessagesPerTick];
+	private final int[] sendSizes = new int[MessagesPerTick];
+	private final int[] connections = new int[MessagesPerTick];
+	private final int[] sendFlags = new int[MessagesPerTick];
+	private final long[] results = new long[MessagesPerTick];
+	private final long[] noLongs = new long[0];
+	private final int[] noInts = new int[0];
+
+	@Setup
+	public void setup() {
+		sendBuffer = ByteBuffer.allocateDirect(messageSize);
+		receiveBuffer = ByteBuffer.allocateDirect(messageSize);
+		drainBuffer = ByteBuffer.allocateDirect(messageSize * MessagesPerTick);
+
+		// broadcast the same payload
+		Arrays.fill(sendSizes, messageSize);
+		Arrays.fill(connections, 1);
+		Arrays.fill(sendFlags, SteamNetworkingSockets.SendFlags.Unreliable);
+	}
+
+	@State(Scope.Thread)
+	public static class Simulated {
+
+		SteamNetworkingSockets sockets;
+		Connection client;
+		Connection server;
+
+		final int[] broadcast = new int[MessagesPerTick];
+
+		@Setup
+		public void setup() throws SteamException {
+			SteamSimulatedBackend backend = SimulatedSteam.start(new SteamSimulatedBackend.Config().setEcho(false));
+
+			sockets = new SteamNetworkingSockets(new SteamNetworkingSocketsCallback() {
+				@Override
+				public void onConnectionStatusChanged(Connection connection, SteamID steamID,
+													  ConnectionState state, ConnectionState prevState) {
+					if (state == ConnectionState.Connecting && server == null) {
+						server = connection;
+					}
+				}
+			});
+
+			sockets.createListenSocketP2P(VirtualPort);
+			client = sockets.connectP2P(backend.getLocalSteamID(), VirtualPort);
+			SteamAPI.runCallbacks();
+
+			if (server == null || sockets.acceptConnection(server) != SteamResult.OK) {
+				throw new SteamException("Failed to establish loopback connection.");
+			}
+			SteamAPI.runCallbacks();
+
+			Arrays.fill(broadcast, client.getHandle());
+		}
+
+		@TearDown
+		public void tearDown() {
+			sockets.dispose();
+			SimulatedSteam.stop();
+		}
+	}
+
+	@Benchmark
+	public int simulatedSendReceive(Simulated simulated) throws SteamException {
+		sendBuffer.clear();
+		simulated.sockets.sendMessageToConnection(simulated.client, sendBuffer,
+				SteamNetworkingSockets.SendFlags.Unreliable);
+
+		receiveBuffer.clear();
+		return simulated.sockets.receiveMessageOnConnection(simulated.server, receiveBuffer);
+	}
+
+	@Benchmark
+	public int simulatedDrainLoop(Simulated simulated) throws SteamException {
+		send(simulated);
+
+		int messages = 0;
+		receiveBuffer.clear();
+		while (simulated.sockets.receiveMessageOnConnection(simulated.server, receiveBuffer) > 0) {
+			receiveBuffer.clear();
+			messages++;
+		}
+		return messages;
+	}
+
+	@Benchmark
+	public int simulatedDrainBatch(Simulated simulated) throws SteamException {
+		send(simulated);
+
+		drainBuffer.clear();
+		return simulated.sockets.receiveMessagesOnConnection(simulated.server, drainBuffer, sizes, MessagesPerTick);
+	}
+
+	/**
+	 * Same as {@link #simulatedDrainBatch(Simulated)}, but sends all messages in one call.
+	 */
+	@Benchmark
+	public int simulatedBroadcastBatch(Simulated simulated) throws SteamException {
+		sendBuffer.clear();
+		simulated.sockets.sendMessages(sendBuffer, offsets, sendSizes, simulated.broadcast, sendFlags, null,
+				results, MessagesPerTick);
+
+		drainBuffer.clear();
+		return simulated.sockets.receiveMessagesOnConnection(simulated.server, drainBuffer, sizes, MessagesPerTick);
+	}
+
+	private void send(Simulated simulated) throws SteamException {
+		for (int i = 0; i < MessagesPerTick; i++) {
+			sendBuffer.clear();
+			simulated.sockets.sendMessageToConnection(simulated.client, sendBuffer,
+					SteamNetworkingSockets.SendFlags.Unreliable);
+		}
+	}
+
+	@Benchmark
+	public int jniSendMessageToConnection(StubState stub) {
+		return stub.natives.sendMessageToConnection(1, sendBuffer, 0, messageSize,
+				SteamNetworkingSockets.SendFlags.Unreliable);
+	}
+
+	@Benchmark
+	public int jniBroadcastLoop(StubState stub) {
+		int sent = 0;
+		for (int i = 0; i < MessagesPerTick; i++) {
+			sent += stub.natives.sendMessageToConnection(1, sendBuffer, 0, messageSize,
+					SteamNetworkingSockets.SendFlags.Unreliable);
+		}
+		return sent;
+	}
+
+	@Benchmark
+	public int jniBroadcastBatch(StubState stub) {
+		return stub.natives.sendMessages(sendBuffer, 0, offsets, sendSizes, connections, sendFlags,
+				noInts, false, results, MessagesPerTick);
+	}
+
+	@Benchmark
+	public int jniReceiveMessageOnConnection(StubState stub) {
+		stub.natives.setMessageSize(messageSize);
+		return stub.natives.receiveMessageOnConnection(1, receiveBuffer, 0, messageSize);
+	}
+
+	@Benchmark
+	public int jniDrainLoop(StubState stub) {
+		stub.natives.setMessageSize(messageSize);
+		int bytes = 0;
+		for (int i = 0; i < MessagesPerTick; i++) {
+			bytes += stub.natives.receiveMessageOnConnection(1, receiveBuffer, 0, messageSize);
+		}
+		return bytes;
+	}
+
+	@Benchmark
+	public int jniDrainBatch(StubState stub) {
+		stub.natives.setMessageSize(messageSize);
+		return stub.natives.receiveMessagesOnConnection(1, drainBuffer, 0, messageSize * MessagesPerTick, sizes,
+				noLongs, false, noLongs, false, noInts, false, MessagesPerTick);
+	}
+
+}
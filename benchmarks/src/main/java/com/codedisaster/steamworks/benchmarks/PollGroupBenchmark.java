@@ -0,0 +1,119 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A listen server draining its connections once per tick, by polling each connection, or by polling
+ * one poll group. Only {@value #MessagesPerTick} connections receive a message each tick, so the cost
+ * of polling each connection grows with the number of idle connections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PollGroupBenchmark {
+
+	private static final int VirtualPort = 1;
+	private static final int MessagesPerTick = 4;
+	private static final int MessageSize = 64;
+
+	@Param({"16", "128"})
+	public int connections;
+
+	private SteamNetworkingSockets sockets;
+	private SteamNetworkingSockets.PollGroup pollGroup;
+
+	private int[] clients;
+	private int[] servers;
+	private int accepted;
+
+	private final ByteBuffer sendBuffer = ByteBuffer.allocateDirect(MessageSize);
+	private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(MessageSize * MessagesPerTick);
+
+	private final int[] sizes = new int[MessagesPerTick];
+	private final int[] received = new int[MessagesPerTick];
+
+	@Setup
+	public void setup() throws SteamException {
+		SteamSimulatedBackend backend = SimulatedSteam.start(new SteamSimulatedBackend.Config().setEcho(false));
+
+		clients = new int[connections];
+		servers = new int[connections];
+
+		sockets = new SteamNetworkingSockets(new SteamNetworkingSocketsCallback() {
+			@Override
+			public void onConnectionStatusChanged(SteamNetworkingSockets.Connection connection, SteamID steamID,
+												  SteamNetworkingSockets.ConnectionState state,
+												  SteamNetworkingSockets.ConnectionState prevState) {
+			}
+
+			@Override
+			public void onConnectionStatusChangedRaw(int connection, long steamID, int state, int prevState) {
+				if (state == SteamNetworkingSockets.ConnectionState.Connecting.ordinal()
+						&& prevState == SteamNetworkingSockets.ConnectionState.None.ordinal()) {
+					servers[accepted++] = connection;
+				}
+			}
+		});
+
+		sockets.createListenSocketP2P(VirtualPort);
+		pollGroup = sockets.createPollGroup();
+
+		long localSteamID = SteamID.getNativeHandle(backend.getLocalSteamID());
+		for (int i = 0; i < connections; i++) {
+			clients[i] = sockets.connectP2PRaw(localSteamID, VirtualPort);
+		}
+		SteamAPI.runCallbacks();
+
+		if (accepted != connections) {
+			throw new SteamException("Expected " + connections + " incoming connections, got " + accepted + ".");
+		}
+
+		for (int server : servers) {
+			sockets.acceptConnection(server);
+			sockets.setConnectionPollGroup(server, pollGroup.getHandle());
+		}
+		SteamAPI.runCallbacks();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sockets.destroyPollGroup(pollGroup);
+		sockets.dispose();
+		SimulatedSteam.stop();
+	}
+
+	private void send() throws SteamException {
+		for (int i = 0; i < MessagesPerTick; i++) {
+			sendBuffer.clear();
+			sockets.sendMessageToConnection(clients[i], sendBuffer, SteamNetworkingSockets.SendFlags.Unreliable);
+		}
+	}
+
+	@Benchmark
+	public int perConnection() throws SteamException {
+		send();
+
+		int messages = 0;
+		for (int server : servers) {
+			receiveBuffer.clear();
+			messages += sockets.receiveMessagesOnConnection(server, receiveBuffer, sizes, MessagesPerTick);
+		}
+		return messages;
+	}
+
+	@Benchmark
+	public int pollGroup() throws SteamException {
+		send();
+
+		receiveBuffer.clear();
+		return sockets.receiveMessagesOnPollGroup(pollGroup, receiveBuffer, sizes, received, MessagesPerTick);
+	}
+
+}
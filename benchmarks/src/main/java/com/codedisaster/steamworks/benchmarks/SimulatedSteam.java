@@ -0,0 +1,30 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.SteamAPI;
+import com.codedisaster.steamworks.SteamException;
+import com.codedisaster.steamworks.SteamSimulatedBackend;
+
+/**
+ * Starts and stops the Steam API on a {@link SteamSimulatedBackend}, which measures the Java side of the
+ * wrappers, including callback dispatch, without native libraries.
+ */
+final class SimulatedSteam {
+
+	private SimulatedSteam() {
+
+	}
+
+	static SteamSimulatedBackend start(SteamSimulatedBackend.Config config) throws SteamException {
+		SteamSimulatedBackend backend = new SteamSimulatedBackend(config);
+		SteamAPI.setBackend(backend);
+		if (!SteamAPI.init()) {
+			throw new SteamException("Failed to initialize simulated backend.");
+		}
+		return backend;
+	}
+
+	static void stop() {
+		SteamAPI.shutdown();
+	}
+
+}
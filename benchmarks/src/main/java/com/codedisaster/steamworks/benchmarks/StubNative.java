@@ -0,0 +1,75 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.SteamControllerAnalogActionData;
+import com.codedisaster.steamworks.SteamUGCDetails;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+
+/**
+ * Natives of the benchmark stub library, built by {@code build-stub.sh}. Their signatures match the
+ * wrapper's natives, so benchmarks measure the cost of crossing the JNI boundary without a Steam client.
+ * <p>
+ * The library is loaded from the path given by the {@code steamworks4j.benchmarks.stub} system property,
+ * or from {@code target/native} relative to the working directory.
+ */
+final class StubNative {
+
+	static final StubNative instance = new StubNative();
+
+	private static boolean loaded = false;
+
+	private StubNative() {
+
+	}
+
+	static synchronized StubNative load() {
+		if (!loaded) {
+			String libraryName = System.mapLibraryName("steamworks4j-benchmark-stub");
+			String path = System.getProperty("steamworks4j.benchmarks.stub", "target/native/" + libraryName);
+			File library = new File(path);
+			if (!library.exists()) {
+				throw new IllegalStateException("Benchmark stub library not found at " + library.getAbsolutePath()
+						+ ", run build-stub.sh first.");
+			}
+			System.load(library.getAbsolutePath());
+			loaded = true;
+		}
+		return instance;
+	}
+
+	native void noop();
+
+	native void setMessageSize(int size);
+
+	native int sendMessageToConnection(int connection, ByteBuffer data, int offset, int size, int sendFlags);
+
+	native int sendMessages(ByteBuffer data, int offset, int[] offsets, int[] sizes, int[] connections,
+							int[] sendFlags, int[] lanes, boolean withLanes, long[] results, int numMessages);
+
+	native int receiveMessageOnConnection(int connection, ByteBuffer data, int offset, int size);
+
+	native int receiveMessagesOnConnection(int connection, ByteBuffer data, int offset, int size, int[] sizes,
+										   long[] messageNumbers, boolean withMessageNumbers,
+										   long[] receiveTimes, boolean withReceiveTimes,
+										   int[] lanes, boolean withLanes, int maxMessages);
+
+	native boolean readP2PPacket(boolean server, ByteBuffer dest, int offset, int size,
+								 int[] msgSizeInBytes, long[] steamIDRemote, int channel);
+
+	native void getAnalogActionData(long controllerHandle, long analogActionHandle,
+									SteamControllerAnalogActionData analogActionData);
+
+	native boolean getQueryUGCResult(long query, int index, SteamUGCDetails details);
+
+	/**
+	 * Creates a native callback which calls {@code void onCallback(long, int)} of the receiver,
+	 * using a method ID resolved once, like the wrapper's callback adapters do.
+	 */
+	native long createCallback(Object receiver);
+
+	native void dispatchCallbacks(long callback, int count);
+
+	native void deleteCallback(long callback);
+
+}
@@ -0,0 +1,20 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Loads the benchmark stub library. Only benchmarks which use this state require the library.
+ */
+@State(Scope.Benchmark)
+public class StubState {
+
+	StubNative natives;
+
+	@Setup
+	public void setup() {
+		natives = StubNative.load();
+	}
+
+}
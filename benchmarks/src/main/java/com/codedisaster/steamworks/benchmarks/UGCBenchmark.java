@@ -0,0 +1,72 @@
+package com.codedisaster.steamworks.benchmarks;
+
+import com.codedisaster.steamworks.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SteamUGC#getQueryUGCResult(SteamUGCQuery, int, SteamUGCDetails)}, which copies a result struct,
+ * including five strings, into a {@link SteamUGCDetails} instance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UGCBenchmark {
+
+	private final SteamUGCDetails details = new SteamUGCDetails();
+	private int index;
+
+	@State(Scope.Thread)
+	public static class Simulated {
+
+		SteamUGC ugc;
+		SteamUGCQuery query;
+		int results;
+
+		@Setup
+		public void setup() throws SteamException {
+			SimulatedSteam.start(new SteamSimulatedBackend.Config().setWorkshopItems(1000));
+
+			ugc = new SteamUGC(new SteamUGCCallback() {
+				@Override
+				public void onUGCQueryCompleted(SteamUGCQuery query, int numResultsReturned, int totalMatchingResults,
+												boolean isCachedData, SteamResult result) {
+					results = numResultsReturned;
+				}
+			});
+
+			query = ugc.createQueryAllUGCRequest(SteamUGC.UGCQueryType.RankedByPublicationDate,
+					SteamUGC.MatchingUGCType.Items, 480, 480, 1);
+			ugc.sendQueryUGCRequest(query);
+			SteamAPI.runCallbacks();
+
+			if (results == 0) {
+				throw new SteamException("UGC query returned no results.");
+			}
+		}
+
+		@TearDown
+		public void tearDown() {
+			ugc.releaseQueryUserUGCRequest(query);
+			ugc.dispose();
+			SimulatedSteam.stop();
+		}
+	}
+
+	@Benchmark
+	public boolean simulatedGetQueryUGCResult(Simulated simulated) {
+		index = (index + 1) % simulated.results;
+		return simulated.ugc.getQueryUGCResult(simulated.query, index, details);
+	}
+
+	@Benchmark
+	public boolean jniGetQueryUGCResult(StubState stub) {
+		index = (index + 1) % 50;
+		return stub.natives.getQueryUGCResult(1L, index, details);
+	}
+
+}
@@ -0,0 +1,285 @@
+/**
+	Stand-in for libsteamworks4j used by the JNI benchmarks. Each native function does the same
+	JNI work as its counterpart in the wrapper - buffer address lookups, critical array access,
+	field writes, string creation, upcalls through cached method IDs - but reads from and writes
+	to static memory instead of calling into the Steamworks API.
+*/
+
+#include <jni.h>
+#include <string.h>
+
+#define STUB_FUNCTION(ret, name) extern "C" JNIEXPORT ret JNICALL Java_com_codedisaster_steamworks_benchmarks_StubNative_##name
+
+static const int MaxMessageSize = 512 * 1024;
+
+static char s_message[MaxMessageSize];
+static jint s_messageSize = 0;
+
+static jfieldID s_analogMode;
+static jfieldID s_analogX;
+static jfieldID s_analogY;
+static jfieldID s_analogActive;
+
+static jfieldID s_ugcPublishedFileID;
+static jfieldID s_ugcResult;
+static jfieldID s_ugcFileType;
+static jfieldID s_ugcTitle;
+static jfieldID s_ugcDescription;
+static jfieldID s_ugcOwnerID;
+static jfieldID s_ugcTimeCreated;
+static jfieldID s_ugcTimeUpdated;
+static jfieldID s_ugcTagsTruncated;
+static jfieldID s_ugcTags;
+static jfieldID s_ugcFileHandle;
+static jfieldID s_ugcPreviewFileHandle;
+static jfieldID s_ugcFileName;
+static jfieldID s_ugcFileSize;
+static jfieldID s_ugcPreviewFileSize;
+static jfieldID s_ugcURL;
+static jfieldID s_ugcVotesUp;
+static jfieldID s_ugcVotesDown;
+
+struct StubCallback {
+	jobject receiver;
+	jmethodID method;
+};
+
+JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM* vm, void* reserved) {
+	JNIEnv* env;
+	if (vm->GetEnv((void**) &env, JNI_VERSION_1_6) != JNI_OK) {
+		return JNI_ERR;
+	}
+
+	jclass analog = env->FindClass("com/codedisaster/steamworks/SteamControllerAnalogActionData");
+	if (analog == nullptr) {
+		return JNI_ERR;
+	}
+
+	s_analogMode = env->GetFieldID(analog, "mode", "I");
+	s_analogX = env->GetFieldID(analog, "x", "F");
+	s_analogY = env->GetFieldID(analog, "y", "F");
+	s_analogActive = env->GetFieldID(analog, "active", "Z");
+
+	jclass ugc = env->FindClass("com/codedisaster/steamworks/SteamUGCDetails");
+	if (ugc == nullptr) {
+		return JNI_ERR;
+	}
+
+	s_ugcPublishedFileID = env->GetFieldID(ugc, "publishedFileID", "J");
+	s_ugcResult = env->GetFieldID(ugc, "result", "I");
+	s_ugcFileType = env->GetFieldID(ugc, "fileType", "I");
+	s_ugcTitle = env->GetFieldID(ugc, "title", "Ljava/lang/String;");
+	s_ugcDescription = env->GetFieldID(ugc, "description", "Ljava/lang/String;");
+	s_ugcOwnerID = env->GetFieldID(ugc, "ownerID", "J");
+	s_ugcTimeCreated = env->GetFieldID(ugc, "timeCreated", "I");
+	s_ugcTimeUpdated = env->GetFieldID(ugc, "timeUpdated", "I");
+	s_ugcTagsTruncated = env->GetFieldID(ugc, "tagsTruncated", "Z");
+	s_ugcTags = env->GetFieldID(ugc, "tags", "Ljava/lang/String;");
+	s_ugcFileHandle = env->GetFieldID(ugc, "fileHandle", "J");
+	s_ugcPreviewFileHandle = env->GetFieldID(ugc, "previewFileHandle", "J");
+	s_ugcFileName = env->GetFieldID(ugc, "fileName", "Ljava/lang/String;");
+	s_ugcFileSize = env->GetFieldID(ugc, "fileSize", "I");
+	s_ugcPreviewFileSize = env->GetFieldID(ugc, "previewFileSize", "I");
+	s_ugcURL = env->GetFieldID(ugc, "url", "Ljava/lang/String;");
+	s_ugcVotesUp = env->GetFieldID(ugc, "votesUp", "I");
+	s_ugcVotesDown = env->GetFieldID(ugc, "votesDown", "I");
+
+	env->DeleteLocalRef(analog);
+	env->DeleteLocalRef(ugc);
+
+	return env->ExceptionCheck() ? JNI_ERR : JNI_VERSION_1_6;
+}
+
+STUB_FUNCTION(void, noop)(JNIEnv* env, jobject object) {
+}
+
+STUB_FUNCTION(void, setMessageSize)(JNIEnv* env, jobject object, jint size) {
+	s_messageSize = size < MaxMessageSize ? size : MaxMessageSize;
+}
+
+STUB_FUNCTION(jint, sendMessageToConnection)(JNIEnv* env, jobject object, jint connection,
+		jobject obj_data, jint offset, jint size, jint sendFlags) {
+
+	char* data = (char*) env->GetDirectBufferAddress(obj_data);
+
+	if (size > MaxMessageSize) {
+		return 8; // k_EResultInvalidParam
+	}
+
+	memcpy(s_message, &data[offset], size);
+	return 1; // k_EResultOK
+}
+
+STUB_FUNCTION(jint, sendMessages)(JNIEnv* env, jobject object, jobject obj_data, jint offset,
+		jintArray obj_offsets, jintArray obj_sizes, jintArray obj_connections, jintArray obj_sendFlags,
+		jintArray obj_lanes, jboolean withLanes, jlongArray obj_results, jint numMessages) {
+
+	char* data = (char*) env->GetDirectBufferAddress(obj_data);
+	jint* offsets = (jint*) env->GetPrimitiveArrayCritical(obj_offsets, 0);
+	jint* sizes = (jint*) env->GetPrimitiveArrayCritical(obj_sizes, 0);
+	jlong* results = (jlong*) env->GetPrimitiveArrayCritical(obj_results, 0);
+
+	jint sent = 0;
+	for (jint i = 0; i < numMessages; i++) {
+		if (sizes[i] > MaxMessageSize) {
+			results[i] = -8; // k_EResultInvalidParam
+			continue;
+		}
+		memcpy(s_message, &data[offset + offsets[i]], sizes[i]);
+		results[i] = i + 1;
+		sent++;
+	}
+
+	env->ReleasePrimitiveArrayCritical(obj_results, results, 0);
+	env->ReleasePrimitiveArrayCritical(obj_sizes, sizes, 0);
+	env->ReleasePrimitiveArrayCritical(obj_offsets, offsets, 0);
+
+	return sent;
+}
+
+STUB_FUNCTION(jint, receiveMessageOnConnection)(JNIEnv* env, jobject object, jint connection,
+		jobject obj_data, jint offset, jint size) {
+
+	char* data = (char*) env->GetDirectBufferAddress(obj_data);
+
+	if (s_messageSize > size) {
+		return -s_messageSize;
+	}
+
+	memcpy(&data[offset], s_message, s_messageSize);
+	return s_messageSize;
+}
+
+STUB_FUNCTION(jint, receiveMessagesOnConnection)(JNIEnv* env, jobject object, jint connection,
+		jobject obj_data, jint offset, jint size, jintArray obj_sizes,
+		jlongArray obj_messageNumbers, jboolean withMessageNumbers,
+		jlongArray obj_receiveTimes, jboolean withReceiveTimes,
+		jintArray obj_lanes, jboolean withLanes, jint maxMessages) {
+
+	char* data = (char*) env->GetDirectBufferAddress(obj_data);
+	jint* sizes = (jint*) env->GetPrimitiveArrayCritical(obj_sizes, 0);
+	jlong* messageNumbers = (jlong*) env->GetPrimitiveArrayCritical(obj_messageNumbers, 0);
+	jlong* receiveTimes = (jlong*) env->GetPrimitiveArrayCritical(obj_receiveTimes, 0);
+	jint* lanes = (jint*) env->GetPrimitiveArrayCritical(obj_lanes, 0);
+
+	jint count = 0;
+	jint written = 0;
+
+	for (; count < maxMessages && s_messageSize <= size - written; count++) {
+		memcpy(&data[offset + written], s_message, s_messageSize);
+		written += s_messageSize;
+
+		sizes[count] = s_messageSize;
+		if (withMessageNumbers) {
+			messageNumbers[count] = count + 1;
+		}
+		if (withReceiveTimes) {
+			receiveTimes[count] = 1000000;
+		}
+		if (withLanes) {
+			lanes[count] = 0;
+		}
+	}
+
+	env->ReleasePrimitiveArrayCritical(obj_lanes, lanes, 0);
+	env->ReleasePrimitiveArrayCritical(obj_receiveTimes, receiveTimes, 0);
+	env->ReleasePrimitiveArrayCritical(obj_messageNumbers, messageNumbers, 0);
+	env->ReleasePrimitiveArrayCritical(obj_sizes, sizes, 0);
+
+	return count;
+}
+
+STUB_FUNCTION(jboolean, readP2PPacket)(JNIEnv* env, jobject object, jboolean server,
+		jobject obj_dest, jint offset, jint size, jintArray obj_msgSizeInBytes, jlongArray obj_steamIDRemote,
+		jint channel) {
+
+	char* dest = (char*) env->GetDirectBufferAddress(obj_dest);
+	jint* msgSizeInBytes = (jint*) env->GetPrimitiveArrayCritical(obj_msgSizeInBytes, 0);
+	jlong* steamIDRemote = (jlong*) env->GetPrimitiveArrayCritical(obj_steamIDRemote, 0);
+
+	jint length = s_messageSize < size ? s_messageSize : size;
+	memcpy(&dest[offset], s_message, length);
+
+	msgSizeInBytes[0] = length;
+	steamIDRemote[0] = 76561197961265728LL;
+
+	env->ReleasePrimitiveArrayCritical(obj_steamIDRemote, steamIDRemote, 0);
+	env->ReleasePrimitiveArrayCritical(obj_msgSizeInBytes, msgSizeInBytes, 0);
+
+	return JNI_TRUE;
+}
+
+STUB_FUNCTION(void, getAnalogActionData)(JNIEnv* env, jobject object, jlong controllerHandle,
+		jlong analogActionHandle, jobject analogActionData) {
+
+	env->SetIntField(analogActionData, s_analogMode, 1);
+	env->SetFloatField(analogActionData, s_analogX, 0.5f);
+	env->SetFloatField(analogActionData, s_analogY, -0.5f);
+	env->SetBooleanField(analogActionData, s_analogActive, JNI_TRUE);
+}
+
+STUB_FUNCTION(jboolean, getQueryUGCResult)(JNIEnv* env, jobject object, jlong query, jint index,
+		jobject details) {
+
+	env->SetLongField(details, s_ugcPublishedFileID, (jlong) (1000000 + index));
+	env->SetIntField(details, s_ugcResult, 1);
+	env->SetIntField(details, s_ugcFileType, 0);
+
+	jstring title = env->NewStringUTF("Benchmark item");
+	env->SetObjectField(details, s_ugcTitle, title);
+
+	jstring description = env->NewStringUTF("Workshop item description returned by the benchmark stub.");
+	env->SetObjectField(details, s_ugcDescription, description);
+
+	env->SetLongField(details, s_ugcOwnerID, 76561197961265728LL);
+	env->SetIntField(details, s_ugcTimeCreated, 1700000000);
+	env->SetIntField(details, s_ugcTimeUpdated, 1700000000);
+	env->SetBooleanField(details, s_ugcTagsTruncated, JNI_FALSE);
+
+	jstring tags = env->NewStringUTF("Maps,Skins");
+	env->SetObjectField(details, s_ugcTags, tags);
+
+	env->SetLongField(details, s_ugcFileHandle, 1);
+	env->SetLongField(details, s_ugcPreviewFileHandle, 2);
+
+	jstring fileName = env->NewStringUTF("item.zip");
+	env->SetObjectField(details, s_ugcFileName, fileName);
+
+	env->SetIntField(details, s_ugcFileSize, 65536);
+	env->SetIntField(details, s_ugcPreviewFileSize, 4096);
+
+	jstring url = env->NewStringUTF("");
+	env->SetObjectField(details, s_ugcURL, url);
+
+	env->SetIntField(details, s_ugcVotesUp, 10);
+	env->SetIntField(details, s_ugcVotesDown, 1);
+
+	return JNI_TRUE;
+}
+
+STUB_FUNCTION(jlong, createCallback)(JNIEnv* env, jobject object, jobject receiver) {
+	jclass clazz = env->GetObjectClass(receiver);
+
+	StubCallback* callback = new StubCallback();
+	callback->receiver = env->NewGlobalRef(receiver);
+	callback->method = env->GetMethodID(clazz, "onCallback", "(JI)V");
+
+	env->DeleteLocalRef(clazz);
+	return (jlong) callback;
+}
+
+STUB_FUNCTION(void, dispatchCallbacks)(JNIEnv* env, jobject object, jlong handle, jint count) {
+	StubCallback* callback = (StubCallback*) handle;
+	for (jint i = 0; i < count; i++) {
+		env->CallVoidMethod(callback->receiver, callback->method, (jlong) 76561197961265728LL, i);
+		if (env->ExceptionCheck()) {
+			return;
+		}
+	}
+}
+
+STUB_FUNCTION(void, deleteCallback)(JNIEnv* env, jobject object, jlong handle) {
+	StubCallback* callback = (StubCallback*) handle;
+	env->DeleteGlobalRef(callback->receiver);
+	delete callback;
+}
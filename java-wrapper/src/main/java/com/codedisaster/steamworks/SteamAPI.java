@@ -19,6 +19,7 @@ public class SteamAPI {
 
 	private static boolean isRunning = false;
 	private static boolean isNativeAPILoaded = false;
+	private static SteamBackend backend = new SteamNativeBackend();
 
 	public static boolean loadLibraries(SteamLibraryLoader loader) {
 
@@ -30,13 +31,29 @@ public class SteamAPI {
 		return isNativeAPILoaded;
 	}
 
-	public static boolean restartAppIfNecessary(int appId) throws SteamException {
+	/**
+	 * Selects the implementation of the Steam API, either the default native backend or a
+	 * {@link SteamSimulatedBackend}. This must be called before {@link #init()}, and before any interface
+	 * is created. The native libraries don't need to be loaded if the simulated backend is used.
+	 *
+	 * @see SteamBackend
+	 * @see SteamSimulatedBackend
+	 */
+	public static void setBackend(SteamBackend backend) throws SteamException {
 
-		if (!isNativeAPILoaded) {
-			throw new SteamException("Native libraries not loaded.\nEnsure to call SteamAPI.loadLibraries() first!");
+		if (isRunning) {
+			throw new SteamException("Steam API already initialized.\nEnsure to call SteamAPI.setBackend() first!");
 		}
 
-		return nativeRestartAppIfNecessary(appId);
+		SteamAPI.backend = backend;
+	}
+
+	public static SteamBackend getBackend() {
+		return backend;
+	}
+
+	public static boolean restartAppIfNecessary(int appId) throws SteamException {
+		return backend.restartAppIfNecessary(appId);
 	}
 
 	public static boolean init() throws SteamException {
@@ -45,11 +62,7 @@ public class SteamAPI {
 
 	public static InitResult initEx() throws SteamException {
 
-		if (!isNativeAPILoaded) {
-			throw new SteamException("Native libraries not loaded.\nEnsure to call SteamAPI.loadLibraries() first!");
-		}
-
-		InitResult result = InitResult.byOrdinal(nativeInit());
+		InitResult result = backend.init();
 		isRunning = result == InitResult.OK;
 
 		return result;
@@ -57,7 +70,93 @@ public class SteamAPI {
 
 	public static void shutdown() {
 		isRunning = false;
-		nativeShutdown();
+		backend.shutdown();
+	}
+
+	/**
+	 * Runs Steam callbacks. If batched callbacks are enabled, this crosses the JNI boundary once, then
+	 * dispatches the events queued by native code to their callback interfaces.
+	 */
+	public static void runCallbacks() {
+		runCallbacks(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Runs Steam callbacks. In manual dispatch mode, at most <code>maxCallbacks</code> events are
+	 * dispatched, and the remaining ones are left for the next call. Otherwise, this parameter is
+	 * ignored.
+	 *
+	 * @see #initManualDispatch()
+	 */
+	public static void runCallbacks(int maxCallbacks) {
+		long start = SteamMetrics.begin();
+		Object event = SteamFlightRecorder.beginRunCallbacks();
+		try {
+			backend.runCallbacks(maxCallbacks);
+			SteamCallResults.expire();
+		} finally {
+			SteamFlightRecorder.endRunCallbacks(event, false);
+			SteamMetrics.end(SteamMetrics.runCallbacks, start);
+		}
+	}
+
+	/**
+	 * Switches to manual callback dispatch, using a buffer size of 64 KB.
+	 *
+	 * @see #initManualDispatch(int)
+	 */
+	public static void initManualDispatch() throws SteamException {
+		initManualDispatch(64 * 1024);
+	}
+
+	/**
+	 * Switches to manual callback dispatch. This must be called after {@link #init()}.
+	 * <p>
+	 * In this mode, {@link #runCallbacks()} doesn't let the Steam API call into the native
+	 * callback objects. Instead, it pulls events with SteamAPI_ManualDispatch_GetNextCallback(),
+	 * copies them into a direct buffer, and routes them to the callback interfaces from Java.
+	 * <p>
+	 * Call results are routed to all callback interfaces of the matching type, not just to the
+	 * one of the interface instance which issued the call. The results of
+	 * {@link SteamUGC#stopPlaytimeTracking(SteamPublishedFileID[])} and
+	 * {@link SteamUGC#stopPlaytimeTrackingForAllItems()} can't be told apart, and are both
+	 * reported by {@link SteamUGCCallback#onStopPlaytimeTracking(SteamResult)}.
+	 * This mode can't be turned off again, other than by calling {@link #shutdown()}.
+	 *
+	 * @param bufferSize Size of the event buffer, in bytes. At least 16 KB are used.
+	 */
+	public static void initManualDispatch(int bufferSize) throws SteamException {
+
+		if (!isRunning) {
+			throw new SteamException("Steam API not initialized.\nEnsure to call SteamAPI.init() first!");
+		}
+
+		backend.initManualDispatch(bufferSize);
+	}
+
+	/**
+	 * Enables batched callbacks. Instead of calling into Java for each event, native code writes
+	 * compact records into a direct buffer, which are decoded and dispatched after the native
+	 * part of {@link #runCallbacks()} returned.
+	 * <p>
+	 * Only callback methods with primitive arguments are queued. Callbacks passing strings or
+	 * objects are still called directly, after the events queued before them have been dispatched,
+	 * so the order of events is kept. If an event doesn't fit into the remaining buffer space,
+	 * the queue is dispatched to make room for it the same way. Events from Steam's own threads
+	 * are dispatched with the next call to {@link #runCallbacks()}; if the buffer is full, they are
+	 * called directly, and may overtake events still queued.
+	 *
+	 * @param bufferSize Size of the event buffer, in bytes. Most records are 20 to 40 bytes.
+	 */
+	public static void enableBatchedCallbacks(int bufferSize) {
+		backend.enableBatchedCallbacks(bufferSize);
+	}
+
+	/**
+	 * Dispatches pending events, then returns to calling into Java for each event.
+	 */
+	public static void disableBatchedCallbacks() {
+		backend.disableBatchedCallbacks();
 	}
 
 	/**
@@ -73,11 +172,12 @@ public class SteamAPI {
 	}
 
 	public static boolean isSteamRunning(boolean checkNative) {
-		return isRunning && (!checkNative || isSteamRunningNative());
+		return isRunning && (!checkNative || backend.isSteamRunning());
 	}
 
 	public static void printDebugInfo(PrintStream stream) {
 		stream.println("  Steam API initialized: " + isRunning);
+		stream.println("  Steam API backend: " + backend.getClass().getSimpleName());
 		stream.println("  Steam client active: " + isSteamRunning());
 	}
 
@@ -89,11 +189,12 @@ public class SteamAPI {
 
 	/*JNI
 		#include <steam_api.h>
+		#include "SteamCallbackAdapter.h"
 
 		static JavaVM* staticVM = 0;
 	*/
 
-	private static native boolean nativeRestartAppIfNecessary(int appId); /*
+	static native boolean nativeRestartAppIfNecessary(int appId); /*
 		return SteamAPI_RestartAppIfNecessary(appId);
 	*/
 
@@ -101,7 +202,7 @@ public class SteamAPI {
 		SteamAPI_ReleaseCurrentThreadMemory();
 	*/
 
-	private static native int nativeInit(); /*
+	static native int nativeInit(); /*
 		if (env->GetJavaVM(&staticVM) != 0) {
 			return false;
 		}
@@ -109,15 +210,24 @@ public class SteamAPI {
 		return SteamAPI_InitEx(nullptr);
 	*/
 
-	private static native void nativeShutdown(); /*
+	static native void nativeShutdown(); /*
 		SteamAPI_Shutdown();
 	*/
 
-	public static native void runCallbacks(); /*
+	static native void nativeRunCallbacks(); /*
 		SteamAPI_RunCallbacks();
 	*/
 
-	private static native boolean isSteamRunningNative(); /*
+	/**
+	 * Returns how often a native thread, e.g. one of Steam's networking threads, has been attached
+	 * to the JVM to dispatch a callback. Threads stay attached until they exit, so this number is
+	 * expected to settle after startup.
+	 */
+	public static native long getCallbackThreadAttachCount(); /*
+		return SteamCallbackAdapter::getThreadAttachCount();
+	*/
+
+	static native boolean isSteamRunningNative(); /*
 		return SteamAPI_IsSteamRunning();
 	*/
 
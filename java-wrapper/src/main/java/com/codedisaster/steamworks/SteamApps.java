@@ -3,72 +3,139 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 public class SteamApps extends SteamInterface {
 
+	private static final SteamMetrics.Timer IsSubscribed = SteamMetrics.nativeCall("SteamApps.isSubscribed");
+	private static final SteamMetrics.Timer IsLowViolence = SteamMetrics.nativeCall("SteamApps.isLowViolence");
+	private static final SteamMetrics.Timer IsCybercafe = SteamMetrics.nativeCall("SteamApps.isCybercafe");
+	private static final SteamMetrics.Timer IsVACBanned = SteamMetrics.nativeCall("SteamApps.isVACBanned");
+	private static final SteamMetrics.Timer GetCurrentGameLanguage =
+			SteamMetrics.nativeCall("SteamApps.getCurrentGameLanguage");
+	private static final SteamMetrics.Timer GetAvailableGameLanguages =
+			SteamMetrics.nativeCall("SteamApps.getAvailableGameLanguages");
+	private static final SteamMetrics.Timer IsSubscribedApp = SteamMetrics.nativeCall("SteamApps.isSubscribedApp");
+	private static final SteamMetrics.Timer IsDlcInstalled = SteamMetrics.nativeCall("SteamApps.isDlcInstalled");
+	private static final SteamMetrics.Timer GetEarliestPurchaseUnixTime =
+			SteamMetrics.nativeCall("SteamApps.getEarliestPurchaseUnixTime");
+	private static final SteamMetrics.Timer IsSubscribedFromFreeWeekend =
+			SteamMetrics.nativeCall("SteamApps.isSubscribedFromFreeWeekend");
+	private static final SteamMetrics.Timer GetDLCCount = SteamMetrics.nativeCall("SteamApps.getDLCCount");
+	private static final SteamMetrics.Timer InstallDLC = SteamMetrics.nativeCall("SteamApps.installDLC");
+	private static final SteamMetrics.Timer UninstallDLC = SteamMetrics.nativeCall("SteamApps.uninstallDLC");
+	private static final SteamMetrics.Timer GetAppOwner = SteamMetrics.nativeCall("SteamApps.getAppOwner");
+	private static final SteamMetrics.Timer GetAppBuildId = SteamMetrics.nativeCall("SteamApps.getAppBuildId");
+	private static final SteamMetrics.Timer SetDlcContext = SteamMetrics.nativeCall("SteamApps.setDlcContext");
+
 	public SteamApps() {
 
 	}
 
 	public boolean isSubscribed() {
-		return SteamAppsNative.isSubscribed();
+		long start = SteamMetrics.begin();
+		boolean result = SteamAppsNative.isSubscribed();
+		SteamMetrics.end(IsSubscribed, start);
+		return result;
 	}
 
 	public boolean isLowViolence() {
-		return SteamAppsNative.isLowViolence();
+		long start = SteamMetrics.begin();
+		boolean result = SteamAppsNative.isLowViolence();
+		SteamMetrics.end(IsLowViolence, start);
+		return result;
 	}
 
 	public boolean isCybercafe() {
-		return SteamAppsNative.isCybercafe();
+		long start = SteamMetrics.begin();
+		boolean result = SteamAppsNative.isCybercafe();
+		SteamMetrics.end(IsCybercafe, start);
+		return result;
 	}
 
 	public boolean isVACBanned() {
-		return SteamAppsNative.isVACBanned();
+		long start = SteamMetrics.begin();
+		boolean result = SteamAppsNative.isVACBanned();
+		SteamMetrics.end(IsVACBanned, start);
+		return result;
 	}
 
 	public String getCurrentGameLanguage() {
-		return SteamAppsNative.getCurrentGameLanguage();
+		long start = SteamMetrics.begin();
+		String result = SteamAppsNative.getCurrentGameLanguage();
+		SteamMetrics.end(GetCurrentGameLanguage, start);
+		return result;
 	}
 
 	public String getAvailableGameLanguages() {
-		return SteamAppsNative.getAvailableGameLanguages();
+		long start = SteamMetrics.begin();
+		String result = SteamAppsNative.getAvailableGameLanguages();
+		SteamMetrics.end(GetAvailableGameLanguages, start);
+		return result;
 	}
 
 	public boolean isSubscribedApp(int appID) {
-		return SteamAppsNative.isSubscribedApp(appID);
+		long start = SteamMetrics.begin();
+		boolean result = SteamAppsNative.isSubscribedApp(appID);
+		SteamMetrics.end(IsSubscribedApp, start);
+		return result;
 	}
 
 	public boolean isDlcInstalled(int appID) {
-		return SteamAppsNative.isDlcInstalled(appID);
+		long start = SteamMetrics.begin();
+		boolean result = SteamAppsNative.isDlcInstalled(appID);
+		SteamMetrics.end(IsDlcInstalled, start);
+		return result;
 	}
 
 	public int getEarliestPurchaseUnixTime(int appID) {
-		return SteamAppsNative.getEarliestPurchaseUnixTime(appID);
+		long start = SteamMetrics.begin();
+		int result = SteamAppsNative.getEarliestPurchaseUnixTime(appID);
+		SteamMetrics.end(GetEarliestPurchaseUnixTime, start);
+		return result;
 	}
 
 	public boolean isSubscribedFromFreeWeekend() {
-		return SteamAppsNative.isSubscribedFromFreeWeekend();
+		long start = SteamMetrics.begin();
+		boolean result = SteamAppsNative.isSubscribedFromFreeWeekend();
+		SteamMetrics.end(IsSubscribedFromFreeWeekend, start);
+		return result;
 	}
 
 	public int getDLCCount() {
-		return SteamAppsNative.getDLCCount();
+		long start = SteamMetrics.begin();
+		int result = SteamAppsNative.getDLCCount();
+		SteamMetrics.end(GetDLCCount, start);
+		return result;
 	}
 
 	public void installDLC(int appID) {
+		long start = SteamMetrics.begin();
 		SteamAppsNative.installDLC(appID);
+		SteamMetrics.end(InstallDLC, start);
 	}
 
 	public void uninstallDLC(int appID) {
+		long start = SteamMetrics.begin();
 		SteamAppsNative.uninstallDLC(appID);
+		SteamMetrics.end(UninstallDLC, start);
 	}
 
 	public SteamID getAppOwner() {
-		return new SteamID(SteamAppsNative.getAppOwner());
+		long start = SteamMetrics.begin();
+		long result = SteamAppsNative.getAppOwner();
+		SteamMetrics.end(GetAppOwner, start);
+		return new SteamID(result);
 	}
 
 	public int getAppBuildId() {
-		return SteamAppsNative.getAppBuildId();
+		long start = SteamMetrics.begin();
+		int result = SteamAppsNative.getAppBuildId();
+		SteamMetrics.end(GetAppBuildId, start);
+		return result;
 	}
 
 	public boolean setDlcContext(int appID) {
-		return SteamAppsNative.setDlcContext(appID);
+		long start = SteamMetrics.begin();
+		boolean result = SteamAppsNative.setDlcContext(appID);
+		SteamMetrics.end(SetDlcContext, start);
+		return result;
 	}
 
 }
@@ -0,0 +1,71 @@
+package com.codedisaster.steamworks;
+
+/**
+ * Implementation of the Steam API lifecycle, and of the calls made by {@link SteamMatchmaking},
+ * {@link SteamUGC}, {@link SteamUserStats}, {@link SteamNetworking}, {@link SteamNetworkingSockets},
+ * {@link SteamNetworkingMessages} and {@link SteamNetworkingUtils}.
+ * <p>
+ * By default, these calls go to the Steamworks SDK through JNI. {@link SteamSimulatedBackend} replaces
+ * them with an in-process simulation which doesn't need the native libraries or a running Steam client.
+ * <p>
+ * The backend is selected with {@link SteamAPI#setBackend(SteamBackend)}, before {@link SteamAPI#init()}
+ * and before any interface is created. All other interfaces always call native code, and can only be
+ * used with the default backend.
+ * <p>
+ * This is not an extension point. The choice is between the native backend and {@link SteamSimulatedBackend},
+ * which is why the constructor and all methods are package-private, and both implementations are final.
+ */
+public abstract class SteamBackend {
+
+	final SteamMatchmakingBackend matchmaking;
+	final SteamUGCBackend ugc;
+	final SteamUserStatsBackend userStats;
+	final SteamNetworkingBackend networking;
+	final SteamNetworkingSocketsBackend networkingSockets;
+	final SteamNetworkingMessagesBackend networkingMessages;
+
+	SteamBackend(SteamMatchmakingBackend matchmaking,
+				 SteamUGCBackend ugc,
+				 SteamUserStatsBackend userStats,
+				 SteamNetworkingBackend networking,
+				 SteamNetworkingSocketsBackend networkingSockets,
+				 SteamNetworkingMessagesBackend networkingMessages) {
+
+		this.matchmaking = matchmaking;
+		this.ugc = ugc;
+		this.userStats = userStats;
+		this.networking = networking;
+		this.networkingSockets = networkingSockets;
+		this.networkingMessages = networkingMessages;
+	}
+
+	abstract boolean restartAppIfNecessary(int appId) throws SteamException;
+
+	abstract SteamAPI.InitResult init() throws SteamException;
+
+	abstract void shutdown();
+
+	abstract void runCallbacks(int maxCallbacks);
+
+	abstract boolean isSteamRunning();
+
+	abstract void deleteCallback(long callback);
+
+	/*
+		Callback dispatch modes of the native backend. Other backends already
+		dispatch callbacks from Java, and ignore these calls.
+	 */
+
+	void enableBatchedCallbacks(int bufferSize) {
+
+	}
+
+	void disableBatchedCallbacks() {
+
+	}
+
+	void initManualDispatch(int bufferSize) {
+
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.codedisaster.steamworks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A future which completes with the result of a {@link SteamAPICall}.
+ * <p>
+ * Futures are completed from {@link SteamAPI#runCallbacks()}, after the callback interface of the issuing
+ * instance has been notified. By default, dependent stages run on the same thread. Use
+ * {@link #completeOn(Executor)} to hand them to an executor instead.
+ * <p>
+ * Cancelling the future stops waiting for the result. It does not cancel the call in Steam.
+ *
+ * @see SteamCallResults
+ */
+public class SteamCallResult<T> extends CompletableFuture<T> {
+
+	private final SteamAPICall call;
+
+	final int event;
+
+	/**
+	 * Optional state the callback adapter needs to complete the future.
+	 */
+	final Object context;
+
+	private volatile Executor executor;
+	volatile long deadline;
+
+	SteamCallResult(long handle, int event, Object context, Executor executor) {
+		this.call = new SteamAPICall(handle);
+		this.event = event;
+		this.context = context;
+		this.executor = executor;
+	}
+
+	public SteamAPICall getAPICall() {
+		return call;
+	}
+
+	/**
+	 * Sets the executor which completes this future. This should be called right after the call was issued,
+	 * before {@link SteamAPI#runCallbacks()} has a chance to dispatch the result.
+	 */
+	public SteamCallResult<T> completeOn(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Completes this future with a {@link java.util.concurrent.TimeoutException} if the result hasn't arrived
+	 * in time. Timeouts are checked by {@link SteamAPI#runCallbacks()}. A timeout of zero waits forever.
+	 */
+	public SteamCallResult<T> timeout(long timeout, TimeUnit unit) {
+		deadline = timeout > 0 ? System.nanoTime() + unit.toNanos(timeout) : 0L;
+		return this;
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		boolean cancelled = super.cancel(mayInterruptIfRunning);
+		SteamCallResults.remove(this);
+		return cancelled;
+	}
+
+	void succeed(T value) {
+		executor.execute(() -> complete(value));
+	}
+
+	void fail(Throwable throwable) {
+		executor.execute(() -> completeExceptionally(throwable));
+	}
+
+	/**
+	 * Succeeds with {@code value} if the call returned {@link SteamResult#OK}, or fails with a
+	 * {@link SteamException} starting with {@code failure}.
+	 */
+	void succeedIfOK(SteamResult result, T value, String failure) {
+		if (result == SteamResult.OK) {
+			succeed(value);
+		} else {
+			fail(new SteamException(failure + ": " + result));
+		}
+	}
+
+}
@@ -0,0 +1,186 @@
+package com.codedisaster.steamworks;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Registry of pending {@link SteamCallResult} futures, keyed by their {@link SteamAPICall} handle.
+ * <p>
+ * Results are matched by the handle of the call being dispatched, which is passed along by native callback adapters,
+ * by manual dispatch and by the simulated backend. Any number of calls of the same type can be in flight.
+ */
+public final class SteamCallResults {
+
+	private static final class Dispatch {
+		long apiCall;
+		boolean ioFailure;
+	}
+
+	private static final Map<Long, SteamCallResult<?>> pending = new ConcurrentHashMap<>();
+
+	private static final ThreadLocal<Dispatch> dispatch = ThreadLocal.withInitial(Dispatch::new);
+
+	private static volatile Executor defaultExecutor = Runnable::run;
+	private static volatile long defaultTimeout = 0L;
+
+	private SteamCallResults() {
+
+	}
+
+	/**
+	 * Sets the executor used to complete new futures. The default runs dependent stages on the thread calling
+	 * {@link SteamAPI#runCallbacks()}.
+	 */
+	public static void setDefaultExecutor(Executor executor) {
+		defaultExecutor = executor;
+	}
+
+	/**
+	 * Sets the timeout of new futures, or zero to wait forever, which is the default.
+	 */
+	public static void setDefaultTimeout(long timeout, TimeUnit unit) {
+		defaultTimeout = timeout > 0 ? unit.toNanos(timeout) : 0L;
+	}
+
+	public static int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Cancels all pending futures, e.g. before calling {@link SteamAPI#shutdown()}.
+	 */
+	public static void cancelAll() {
+		for (SteamCallResult<?> result : pending.values()) {
+			result.cancel(false);
+		}
+	}
+
+	static <T> SteamCallResult<T> register(long handle, int event, boolean nativeCall, Object context) {
+		SteamCallResult<T> result = new SteamCallResult<>(handle, event, context, defaultExecutor);
+
+		if (handle == 0L) {
+			result.fail(new SteamException("Invalid API call handle."));
+			return result;
+		}
+
+		long timeout = defaultTimeout;
+		if (timeout > 0) {
+			result.deadline = System.nanoTime() + timeout;
+		}
+
+		pending.put(handle, result);
+
+		if (nativeCall) {
+			SteamFlightRecorder.apiCallIssued(handle);
+		}
+
+		return result;
+	}
+
+	static void remove(SteamCallResult<?> result) {
+		pending.remove(getHandle(result), result);
+	}
+
+	/**
+	 * Called by dispatchers with the handle of the call result they are about to dispatch.
+	 */
+	static void beginDispatch(long apiCall, boolean ioFailure) {
+		Dispatch current = dispatch.get();
+		current.apiCall = apiCall;
+		current.ioFailure = ioFailure;
+	}
+
+	static void endDispatch() {
+		dispatch.get().apiCall = 0L;
+	}
+
+	/**
+	 * Called by native callback adapters, and by {@link SteamCallbackQueue}, after a call result dispatched
+	 * through CCallResult.
+	 */
+	static void endNativeDispatch() {
+		Dispatch current = dispatch.get();
+		SteamFlightRecorder.apiCallCompleted(current.apiCall, current.ioFailure);
+		current.apiCall = 0L;
+	}
+
+	/**
+	 * Removes and returns the pending future for the call result being dispatched, or null if there is none.
+	 * Results with an I/O failure complete the future exceptionally, and return null, too.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> SteamCallResult<T> take(int event) {
+		if (pending.isEmpty()) {
+			return null;
+		}
+
+		Dispatch current = dispatch.get();
+		if (current.apiCall == 0L) {
+			return null;
+		}
+
+		SteamCallResult<?> result = pending.get(current.apiCall);
+		if (result == null || result.event != event || !pending.remove(current.apiCall, result)) {
+			return null;
+		}
+
+		if (current.ioFailure) {
+			result.fail(new SteamException("I/O failure."));
+			return null;
+		}
+
+		return (SteamCallResult<T>) result;
+	}
+
+	/**
+	 * Removes and returns the pending future for a call result which reports its own handle.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> SteamCallResult<T> take(long handle) {
+		if (pending.isEmpty()) {
+			return null;
+		}
+
+		SteamCallResult<?> result = pending.remove(handle);
+		if (result == null) {
+			return null;
+		}
+
+		Dispatch current = dispatch.get();
+		if (current.apiCall == handle && current.ioFailure) {
+			result.fail(new SteamException("I/O failure."));
+			return null;
+		}
+
+		return (SteamCallResult<T>) result;
+	}
+
+	/**
+	 * Fails all futures whose timeout has passed. Called by {@link SteamAPI#runCallbacks()}.
+	 */
+	static void expire() {
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		long now = System.nanoTime();
+
+		for (Iterator<SteamCallResult<?>> i = pending.values().iterator(); i.hasNext(); ) {
+			SteamCallResult<?> result = i.next();
+			long deadline = result.deadline;
+			if (deadline != 0L && now - deadline >= 0L) {
+				i.remove();
+				result.fail(new TimeoutException("No result for API call " + result.getAPICall() + "."));
+			}
+		}
+	}
+
+	private static long getHandle(SteamCallResult<?> result) {
+		return result.getAPICall().handle;
+	}
+
+}
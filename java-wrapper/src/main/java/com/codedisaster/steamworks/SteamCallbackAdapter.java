@@ -1,10 +1,48 @@
 package com.codedisaster.steamworks;
 
+import java.lang.invoke.MethodHandle;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 abstract class SteamCallbackAdapter<T> {
 
 	protected final T callback;
 
+	/**
+	 * Identifies this adapter in records written to the {@link SteamCallbackQueue}.
+	 * Read by native code when the callback object is created.
+	 */
+	final int id;
+
+	private String[] queuedMethodNames = new String[0];
+	private String[] queuedMethodSignatures = new String[0];
+	private MethodHandle[] queuedMethods = new MethodHandle[0];
+
 	SteamCallbackAdapter(T callback) {
 		this.callback = callback;
+		this.id = SteamCallbackQueue.register(this);
+	}
+
+	/**
+	 * Called by native code for each callback method which can be dispatched from the queue.
+	 */
+	@SuppressWarnings("unused")
+	private void registerQueuedMethod(int index, String name, String signature) {
+		if (index >= queuedMethods.length) {
+			queuedMethodNames = Arrays.copyOf(queuedMethodNames, index + 1);
+			queuedMethodSignatures = Arrays.copyOf(queuedMethodSignatures, index + 1);
+			queuedMethods = Arrays.copyOf(queuedMethods, index + 1);
+		}
+		queuedMethodNames[index] = name;
+		queuedMethodSignatures[index] = signature;
+	}
+
+	void dispatchQueuedMethod(int index, ByteBuffer record) throws Throwable {
+		MethodHandle method = queuedMethods[index];
+		if (method == null) {
+			method = SteamCallbackQueue.createDecoder(this, queuedMethodNames[index], queuedMethodSignatures[index]);
+			queuedMethods[index] = method;
+		}
+		method.invokeExact(record);
 	}
 }
@@ -0,0 +1,283 @@
+package com.codedisaster.steamworks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Java side of the batched callback mode, see {@link SteamAPI#enableBatchedCallbacks(int)}.
+ *
+ * Native callback adapters append binary records to a shared direct buffer instead of calling
+ * into Java one by one. After SteamAPI_RunCallbacks() returned, the records are decoded here and
+ * passed to the callback adapters. Each callback method is invoked through a {@link MethodHandle}
+ * which reads its arguments straight from the buffer, so decoding a record doesn't allocate.
+ */
+final class SteamCallbackQueue {
+
+	private static final int HeaderSize = 24;
+
+	private static final List<WeakReference<SteamCallbackAdapter<?>>> adapters = new ArrayList<>();
+
+	/*
+		IDs of deleted adapters. Released IDs may still be referenced by records which haven't been
+		dispatched yet, so they are only moved to the free list after the next dispatch pass.
+	 */
+	private static int[] freeIDs = new int[16];
+	private static int freeCount;
+	private static int[] releasedIDs = new int[16];
+	private static int releasedCount;
+
+	private static ByteBuffer buffer;
+	private static int consumed;
+
+	static synchronized int register(SteamCallbackAdapter<?> adapter) {
+		if (freeCount > 0) {
+			int id = freeIDs[--freeCount];
+			adapters.set(id - 1, new WeakReference<>(adapter));
+			return id;
+		}
+		adapters.add(new WeakReference<>(adapter));
+		return adapters.size();
+	}
+
+	/**
+	 * Clears the slot of a deleted callback adapter, so its ID can be reused.
+	 */
+	static synchronized void unregister(int id) {
+		if (id <= 0 || id > adapters.size() || adapters.get(id - 1) == null) {
+			return;
+		}
+
+		adapters.set(id - 1, null);
+
+		if (buffer == null && !SteamCallbackRouter.isEnabled()) {
+			freeIDs = push(freeIDs, freeCount++, id);
+		} else {
+			releasedIDs = push(releasedIDs, releasedCount++, id);
+		}
+	}
+
+	/**
+	 * Called after a dispatch pass, once no pending record can refer to the released IDs anymore.
+	 */
+	static synchronized void recycleReleasedIDs() {
+		for (int i = 0; i < releasedCount; i++) {
+			freeIDs = push(freeIDs, freeCount++, releasedIDs[i]);
+		}
+		releasedCount = 0;
+	}
+
+	private static int[] push(int[] ids, int count, int id) {
+		if (count == ids.length) {
+			ids = Arrays.copyOf(ids, count * 2);
+		}
+		ids[count] = id;
+		return ids;
+	}
+
+	static synchronized int getAdapterCount() {
+		return adapters.size();
+	}
+
+	static synchronized SteamCallbackAdapter<?> getAdapter(int id) {
+		if (id <= 0 || id > adapters.size()) {
+			return null;
+		}
+		WeakReference<SteamCallbackAdapter<?>> adapter = adapters.get(id - 1);
+		return adapter != null ? adapter.get() : null;
+	}
+
+	static boolean isEnabled() {
+		return buffer != null;
+	}
+
+	static void enable(int capacity) {
+		disable();
+		buffer = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+		consumed = 0;
+		setBuffer(buffer);
+	}
+
+	static void disable() {
+		if (buffer != null) {
+			dispatch(consume(consumed));
+			setBuffer(null);
+			buffer = null;
+			consumed = 0;
+		}
+	}
+
+	static void runCallbacks() {
+		// flush() may run during the native call, and expects no bytes left to consume
+		int previous = consumed;
+		consumed = 0;
+
+		int length = runCallbacks(previous);
+		dispatch(length);
+		consumed = length;
+	}
+
+	/**
+	 * Called by native callback adapters while SteamAPI_RunCallbacks() runs, before a callback which can't
+	 * be queued is called directly, so it doesn't overtake the records queued before it. The records are
+	 * consumed right away, because the native part of {@link #runCallbacks()} returns all bytes pending.
+	 */
+	static void flush() {
+		int length = consume(0);
+		dispatch(length);
+		consume(length);
+	}
+
+	private static void dispatch(int length) {
+		ByteBuffer records = buffer;
+		int position = 0;
+
+		while (position < length) {
+			int size = records.getInt(position);
+			SteamCallbackAdapter<?> adapter = getAdapter(records.getInt(position + 4));
+
+			long apiCall = records.getLong(position + 16);
+
+			if (adapter != null) {
+				if (apiCall != 0L) {
+					SteamCallResults.beginDispatch(apiCall, records.getInt(position + 12) != 0);
+				}
+				records.position(position + HeaderSize);
+				try {
+					adapter.dispatchQueuedMethod(records.getInt(position + 8), records);
+				} catch (Throwable e) {
+					// same as an exception thrown from a direct upcall, which is printed and cleared
+					e.printStackTrace();
+				}
+				if (apiCall != 0L) {
+					SteamCallResults.endNativeDispatch();
+				}
+			}
+
+			position += size;
+		}
+
+		records.clear();
+		recycleReleasedIDs();
+	}
+
+	static MethodHandle createDecoder(SteamCallbackAdapter<?> adapter,
+									  String name, String signature) throws ReflectiveOperationException {
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		int count = signature.indexOf(')') - 1;
+		Class<?>[] types = new Class<?>[count];
+		MethodHandle[] readers = new MethodHandle[count];
+		int offset = 0;
+
+		for (int i = 0; i < count; i++) {
+			char type = signature.charAt(i + 1);
+			types[i] = getPrimitiveType(type);
+
+			MethodHandle reader = lookup.findStatic(SteamCallbackQueue.class, getReaderName(type),
+					MethodType.methodType(types[i], ByteBuffer.class, int.class));
+			readers[i] = MethodHandles.insertArguments(reader, 1, offset);
+
+			offset += (type == 'J' || type == 'D') ? 8 : 4;
+		}
+
+		MethodHandle method = lookup.findVirtual(adapter.getClass(), name,
+				MethodType.methodType(void.class, types)).bindTo(adapter);
+
+		method = MethodHandles.filterArguments(method, 0, readers);
+
+		// all readers share the same buffer argument
+		return MethodHandles.permuteArguments(method,
+				MethodType.methodType(void.class, ByteBuffer.class), new int[count]);
+	}
+
+	private static Class<?> getPrimitiveType(char type) {
+		switch (type) {
+			case 'Z': return boolean.class;
+			case 'B': return byte.class;
+			case 'C': return char.class;
+			case 'S': return short.class;
+			case 'I': return int.class;
+			case 'J': return long.class;
+			case 'F': return float.class;
+			case 'D': return double.class;
+			default: throw new IllegalArgumentException("Unsupported argument type: " + type);
+		}
+	}
+
+	private static String getReaderName(char type) {
+		switch (type) {
+			case 'Z': return "readBoolean";
+			case 'B': return "readByte";
+			case 'C': return "readChar";
+			case 'S': return "readShort";
+			case 'I': return "readInt";
+			case 'J': return "readLong";
+			case 'F': return "readFloat";
+			default: return "readDouble";
+		}
+	}
+
+	private static boolean readBoolean(ByteBuffer record, int offset) {
+		return record.getInt(record.position() + offset) != 0;
+	}
+
+	private static byte readByte(ByteBuffer record, int offset) {
+		return (byte) record.getInt(record.position() + offset);
+	}
+
+	private static char readChar(ByteBuffer record, int offset) {
+		return (char) record.getInt(record.position() + offset);
+	}
+
+	private static short readShort(ByteBuffer record, int offset) {
+		return (short) record.getInt(record.position() + offset);
+	}
+
+	private static int readInt(ByteBuffer record, int offset) {
+		return record.getInt(record.position() + offset);
+	}
+
+	private static long readLong(ByteBuffer record, int offset) {
+		return record.getLong(record.position() + offset);
+	}
+
+	private static float readFloat(ByteBuffer record, int offset) {
+		return record.getFloat(record.position() + offset);
+	}
+
+	private static double readDouble(ByteBuffer record, int offset) {
+		return record.getDouble(record.position() + offset);
+	}
+
+	// @off
+
+	/*JNI
+		#include <steam_api.h>
+		#include "SteamCallbackQueue.h"
+	*/
+
+	private static native void setBuffer(ByteBuffer buffer); /*
+		SteamCallbackQueue::setBuffer(buffer, buffer != nullptr ? env->GetDirectBufferCapacity(obj_buffer) : 0);
+	*/
+
+	private static native int consume(int consumed); /*
+		return SteamCallbackQueue::consume(consumed);
+	*/
+
+	private static native int runCallbacks(int consumed); /*
+		SteamCallbackQueue::consume(consumed);
+		SteamCallbackQueue::setDispatching(true);
+		SteamAPI_RunCallbacks();
+		SteamCallbackQueue::setDispatching(false);
+		return SteamCallbackQueue::consume(0);
+	*/
+
+}
@@ -0,0 +1,513 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Java side of the manual callback dispatch mode, see {@link SteamAPI#initManualDispatch()}.
+ *
+ * Native code pulls callbacks and call results with SteamAPI_ManualDispatch_GetNextCallback(),
+ * and writes them as records into a direct buffer. They are decoded here, and passed to all
+ * callback adapters of the matching type.
+ */
+final class SteamCallbackRouter {
+
+	// must match SteamManualDispatch::Event, grouped by callback adapter in steps of 100
+	// call result events with package visibility also identify result types in SteamCallResults
+
+	private static final int PersonaStateChange = 1;
+	private static final int GameOverlayActivated = 2;
+	private static final int GameLobbyJoinRequested = 3;
+	private static final int AvatarImageLoaded = 4;
+	private static final int FriendRichPresenceUpdate = 5;
+	private static final int GameRichPresenceJoinRequested = 6;
+	private static final int GameServerChangeRequested = 7;
+
+	static final int HTTPRequestCompleted = 100;
+	private static final int HTTPRequestHeadersReceived = 101;
+	private static final int HTTPRequestDataReceived = 102;
+
+	static final int LobbyMatchList = 200;
+	static final int LobbyCreated = 201;
+	static final int LobbyEnter = 202;
+	private static final int LobbyInvite = 203;
+	private static final int LobbyKicked = 204;
+	private static final int LobbyDataUpdate = 205;
+	private static final int LobbyChatUpdate = 206;
+	private static final int LobbyChatMsg = 207;
+
+	private static final int P2PSessionConnectFail = 300;
+	private static final int P2PSessionRequest = 301;
+
+	private static final int ConnectionStatusChanged = 400;
+
+	static final int FileWriteAsyncComplete = 500;
+	static final int FileReadAsyncComplete = 501;
+	static final int FileShareResult = 502;
+	static final int DownloadUGCResult = 503;
+	static final int PublishFileResult = 504;
+	static final int UpdatePublishedFileResult = 505;
+	private static final int PublishedFileSubscribed = 506;
+	private static final int PublishedFileUnsubscribed = 507;
+	private static final int PublishedFileDeleted = 508;
+
+	private static final int ScreenshotReady = 600;
+	private static final int ScreenshotRequested = 601;
+
+	static final int UGCQueryCompleted = 700;
+	static final int SubscribeItem = 701;
+	static final int UnsubscribeItem = 702;
+	static final int RequestUGCDetails = 703;
+	static final int CreateItem = 704;
+	static final int SubmitItemUpdate = 705;
+	private static final int DownloadItemResult = 706;
+	static final int UserFavoriteItemsListChanged = 707;
+	static final int SetUserItemVote = 708;
+	static final int GetUserItemVote = 709;
+	static final int StartPlaytimeTracking = 710;
+	static final int StopPlaytimeTracking = 711;
+	static final int DeleteItem = 712;
+
+	private static final int AuthSessionTicket = 800;
+	private static final int ValidateAuthTicket = 801;
+	private static final int MicroTxnAuthorization = 802;
+	static final int EncryptedAppTicket = 803;
+	private static final int GetTicketForWebApi = 804;
+
+	private static final int UserStatsReceived = 900;
+	private static final int UserStatsStored = 901;
+	private static final int UserStatsUnloaded = 902;
+	private static final int UserAchievementStored = 903;
+	static final int LeaderboardFindResult = 904;
+	static final int LeaderboardScoresDownloaded = 905;
+	static final int LeaderboardScoreUploaded = 906;
+	static final int NumberOfCurrentPlayers = 907;
+	static final int GlobalStatsReceived = 908;
+
+	private static final int SteamShutdown = 1000;
+	private static final int FloatingGamepadTextInputDismissed = 1001;
+
+	private static final int NetworkingMessagesSessionRequest = 1100;
+	private static final int NetworkingMessagesSessionFailed = 1101;
+
+	private static final int HeaderSize = 20;
+
+	/**
+	 * Must match SteamManualDispatch::MaxRecordSize.
+	 */
+	static final int MaxRecordSize = 16 * 1024;
+
+	private static ByteBuffer buffer;
+
+	static boolean isEnabled() {
+		return buffer != null;
+	}
+
+	static void enable(int bufferSize) {
+		if (buffer == null) {
+			buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, MaxRecordSize)).order(ByteOrder.nativeOrder());
+			init();
+		}
+	}
+
+	static void disable() {
+		buffer = null;
+		SteamCallbackQueue.recycleReleasedIDs();
+	}
+
+	static void runFrame(int maxCallbacks) {
+		ByteBuffer records = buffer;
+		int length = runFrame(records, maxCallbacks);
+		int position = 0;
+
+		while (position < length) {
+			int size = records.getInt(position);
+			long apiCall = records.getLong(position + 8);
+			boolean ioFailure = records.getInt(position + 16) != 0;
+
+			SteamCallResults.beginDispatch(apiCall, ioFailure);
+			route(records, records.getInt(position + 4), position + HeaderSize);
+			SteamCallResults.endDispatch();
+
+			if (apiCall != 0L) {
+				SteamFlightRecorder.apiCallCompleted(apiCall, ioFailure);
+			}
+
+			position += size;
+		}
+
+		records.clear();
+		SteamCallbackQueue.recycleReleasedIDs();
+	}
+
+	private static void route(ByteBuffer records, int event, int offset) {
+		for (int id = 1, count = SteamCallbackQueue.getAdapterCount(); id <= count; id++) {
+			SteamCallbackAdapter<?> adapter = SteamCallbackQueue.getAdapter(id);
+			if (adapter == null) {
+				continue;
+			}
+
+			records.position(offset);
+
+			try {
+				switch (event / 100) {
+					case 0:
+						if (adapter instanceof SteamFriendsCallbackAdapter) {
+							route(event, (SteamFriendsCallbackAdapter) adapter, records);
+						}
+						break;
+					case 1:
+						if (adapter instanceof SteamHTTPCallbackAdapter) {
+							route(event, (SteamHTTPCallbackAdapter) adapter, records);
+						}
+						break;
+					case 2:
+						if (adapter instanceof SteamMatchmakingCallbackAdapter) {
+							route(event, (SteamMatchmakingCallbackAdapter) adapter, records);
+						}
+						break;
+					case 3:
+						if (adapter instanceof SteamNetworkingCallbackAdapter) {
+							route(event, (SteamNetworkingCallbackAdapter) adapter, records);
+						}
+						break;
+					case 4:
+						if (adapter instanceof SteamNetworkingSocketsCallbackAdapter) {
+							route(event, (SteamNetworkingSocketsCallbackAdapter) adapter, records);
+						}
+						break;
+					case 5:
+						if (adapter instanceof SteamRemoteStorageCallbackAdapter) {
+							route(event, (SteamRemoteStorageCallbackAdapter) adapter, records);
+						}
+						break;
+					case 6:
+						if (adapter instanceof SteamScreenshotsCallbackAdapter) {
+							route(event, (SteamScreenshotsCallbackAdapter) adapter, records);
+						}
+						break;
+					case 7:
+						if (adapter instanceof SteamUGCCallbackAdapter) {
+							route(event, (SteamUGCCallbackAdapter) adapter, records);
+						}
+						break;
+					case 8:
+						if (adapter instanceof SteamUserCallbackAdapter) {
+							route(event, (SteamUserCallbackAdapter) adapter, records);
+						}
+						break;
+					case 9:
+						if (adapter instanceof SteamUserStatsCallbackAdapter) {
+							route(event, (SteamUserStatsCallbackAdapter) adapter, records);
+						}
+						break;
+					case 10:
+						if (adapter instanceof SteamUtilsCallbackAdapter) {
+							route(event, (SteamUtilsCallbackAdapter) adapter, records);
+						}
+						break;
+					case 11:
+						if (adapter instanceof SteamNetworkingMessagesCallbackAdapter) {
+							route(event, (SteamNetworkingMessagesCallbackAdapter) adapter, records);
+						}
+						break;
+				}
+			} catch (Throwable e) {
+				// same as an exception thrown from a direct upcall, which is printed and cleared
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private static void route(int event, SteamFriendsCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case PersonaStateChange:
+				adapter.onPersonaStateChange(r.getLong(), r.getInt());
+				break;
+			case GameOverlayActivated:
+				adapter.onGameOverlayActivated(getBoolean(r), getBoolean(r), r.getInt());
+				break;
+			case GameLobbyJoinRequested:
+				adapter.onGameLobbyJoinRequested(r.getLong(), r.getLong());
+				break;
+			case AvatarImageLoaded:
+				adapter.onAvatarImageLoaded(r.getLong(), r.getInt(), r.getInt(), r.getInt());
+				break;
+			case FriendRichPresenceUpdate:
+				adapter.onFriendRichPresenceUpdate(r.getLong(), r.getInt());
+				break;
+			case GameRichPresenceJoinRequested:
+				adapter.onGameRichPresenceJoinRequested(r.getLong(), getString(r));
+				break;
+			case GameServerChangeRequested:
+				adapter.onGameServerChangeRequested(getString(r), getString(r));
+				break;
+		}
+	}
+
+	private static void route(int event, SteamHTTPCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case HTTPRequestCompleted:
+				adapter.onHTTPRequestCompleted(r.getLong(), r.getLong(), getBoolean(r), r.getInt(), r.getInt());
+				break;
+			case HTTPRequestHeadersReceived:
+				adapter.onHTTPRequestHeadersReceived(r.getLong(), r.getLong());
+				break;
+			case HTTPRequestDataReceived:
+				adapter.onHTTPRequestDataReceived(r.getLong(), r.getLong(), r.getInt(), r.getInt());
+				break;
+		}
+	}
+
+	private static void route(int event, SteamMatchmakingCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case LobbyMatchList:
+				adapter.onLobbyMatchList(r.getInt());
+				break;
+			case LobbyCreated:
+				adapter.onLobbyCreated(r.getInt(), r.getLong());
+				break;
+			case LobbyEnter:
+				adapter.onLobbyEnter(r.getLong(), r.getInt(), getBoolean(r), r.getInt());
+				break;
+			case LobbyInvite:
+				adapter.onLobbyInvite(r.getLong(), r.getLong(), r.getLong());
+				break;
+			case LobbyKicked:
+				adapter.onLobbyKicked(r.getLong(), r.getLong(), getBoolean(r));
+				break;
+			case LobbyDataUpdate:
+				adapter.onLobbyDataUpdate(r.getLong(), r.getLong(), getBoolean(r));
+				break;
+			case LobbyChatUpdate:
+				adapter.onLobbyChatUpdate(r.getLong(), r.getLong(), r.getLong(), r.getInt());
+				break;
+			case LobbyChatMsg:
+				adapter.onLobbyChatMessage(r.getLong(), r.getLong(), r.getInt(), r.getInt());
+				break;
+		}
+	}
+
+	private static void route(int event, SteamNetworkingCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case P2PSessionConnectFail:
+				adapter.onP2PSessionConnectFail(r.getLong(), r.getInt());
+				break;
+			case P2PSessionRequest:
+				adapter.onP2PSessionRequest(r.getLong());
+				break;
+		}
+	}
+
+	private static void route(int event, SteamNetworkingSocketsCallbackAdapter adapter, ByteBuffer r) {
+		if (event == ConnectionStatusChanged) {
+			adapter.onConnectionStatusChanged(r.getInt(), r.getLong(), r.getInt(), r.getInt(),
+					r.getLong(), r.getInt(), r.getInt(), r.getInt());
+		}
+	}
+
+	private static void route(int event, SteamRemoteStorageCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case FileWriteAsyncComplete:
+				adapter.onFileWriteAsyncComplete(r.getInt());
+				break;
+			case FileReadAsyncComplete:
+				adapter.onFileReadAsyncComplete(r.getLong(), r.getInt(), r.getInt(), r.getInt());
+				break;
+			case FileShareResult:
+				adapter.onFileShareResult(r.getLong(), getString(r), r.getInt());
+				break;
+			case DownloadUGCResult:
+				adapter.onDownloadUGCResult(r.getLong(), r.getInt());
+				break;
+			case PublishFileResult:
+				adapter.onPublishFileResult(r.getLong(), getBoolean(r), r.getInt());
+				break;
+			case UpdatePublishedFileResult:
+				adapter.onUpdatePublishedFileResult(r.getLong(), getBoolean(r), r.getInt());
+				break;
+			case PublishedFileSubscribed:
+				adapter.onPublishedFileSubscribed(r.getLong(), r.getInt());
+				break;
+			case PublishedFileUnsubscribed:
+				adapter.onPublishedFileUnsubscribed(r.getLong(), r.getInt());
+				break;
+			case PublishedFileDeleted:
+				adapter.onPublishedFileDeleted(r.getLong(), r.getInt());
+				break;
+		}
+	}
+
+	private static void route(int event, SteamScreenshotsCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case ScreenshotReady:
+				adapter.onScreenshotReady(r.getInt(), r.getInt());
+				break;
+			case ScreenshotRequested:
+				adapter.onScreenshotRequested();
+				break;
+		}
+	}
+
+	private static void route(int event, SteamUGCCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case UGCQueryCompleted:
+				adapter.onUGCQueryCompleted(r.getLong(), r.getInt(), r.getInt(), getBoolean(r), r.getInt());
+				break;
+			case SubscribeItem:
+				adapter.onSubscribeItem(r.getLong(), r.getInt());
+				break;
+			case UnsubscribeItem:
+				adapter.onUnsubscribeItem(r.getLong(), r.getInt());
+				break;
+			case RequestUGCDetails:
+				adapter.onRequestUGCDetails(r.getLong(), r.getInt(), r.getInt(), getString(r), getString(r),
+						getBoolean(r), getString(r), r.getLong(), r.getLong(), getString(r), r.getInt(), r.getInt(),
+						getString(r), r.getInt(), r.getInt(), r.getLong(), r.getInt(), r.getInt(), r.getFloat(),
+						r.getInt(), r.getLong());
+				break;
+			case CreateItem:
+				adapter.onCreateItem(r.getLong(), getBoolean(r), r.getInt());
+				break;
+			case SubmitItemUpdate:
+				adapter.onSubmitItemUpdate(r.getLong(), getBoolean(r), r.getInt());
+				break;
+			case DownloadItemResult:
+				adapter.onDownloadItemResult(r.getInt(), r.getLong(), r.getInt());
+				break;
+			case UserFavoriteItemsListChanged:
+				adapter.onUserFavoriteItemsListChanged(r.getLong(), getBoolean(r), r.getInt());
+				break;
+			case SetUserItemVote:
+				adapter.onSetUserItemVote(r.getLong(), getBoolean(r), r.getInt());
+				break;
+			case GetUserItemVote:
+				adapter.onGetUserItemVote(r.getLong(), getBoolean(r), getBoolean(r), getBoolean(r), r.getInt());
+				break;
+			case StartPlaytimeTracking:
+				adapter.onStartPlaytimeTracking(r.getInt());
+				break;
+			case StopPlaytimeTracking:
+				adapter.onStopPlaytimeTracking(r.getInt());
+				break;
+			case DeleteItem:
+				adapter.onDeleteItem(r.getLong(), r.getInt());
+				break;
+		}
+	}
+
+	private static void route(int event, SteamUserCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case AuthSessionTicket:
+				adapter.onAuthSessionTicket(r.getLong(), r.getInt());
+				break;
+			case ValidateAuthTicket:
+				adapter.onValidateAuthTicket(r.getLong(), r.getInt(), r.getLong());
+				break;
+			case MicroTxnAuthorization:
+				adapter.onMicroTxnAuthorization(r.getInt(), r.getLong(), getBoolean(r));
+				break;
+			case EncryptedAppTicket:
+				adapter.onEncryptedAppTicket(r.getInt());
+				break;
+			case GetTicketForWebApi:
+				adapter.onGetTicketForWebApi(r.getLong(), r.getInt(), getBytes(r));
+				break;
+		}
+	}
+
+	private static void route(int event, SteamUserStatsCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case UserStatsReceived:
+				adapter.onUserStatsReceived(r.getLong(), r.getLong(), r.getInt());
+				break;
+			case UserStatsStored:
+				adapter.onUserStatsStored(r.getLong(), r.getInt());
+				break;
+			case UserStatsUnloaded:
+				adapter.onUserStatsUnloaded(r.getLong());
+				break;
+			case UserAchievementStored:
+				adapter.onUserAchievementStored(r.getLong(), getBoolean(r), getString(r), r.getInt(), r.getInt());
+				break;
+			case LeaderboardFindResult:
+				adapter.onLeaderboardFindResult(r.getLong(), getBoolean(r));
+				break;
+			case LeaderboardScoresDownloaded:
+				adapter.onLeaderboardScoresDownloaded(r.getLong(), r.getLong(), r.getInt());
+				break;
+			case LeaderboardScoreUploaded:
+				adapter.onLeaderboardScoreUploaded(getBoolean(r), r.getLong(), r.getInt(), getBoolean(r),
+						r.getInt(), r.getInt());
+				break;
+			case NumberOfCurrentPlayers:
+				adapter.onNumberOfCurrentPlayersReceived(getBoolean(r), r.getInt());
+				break;
+			case GlobalStatsReceived:
+				adapter.onGlobalStatsReceived(r.getLong(), r.getInt());
+				break;
+		}
+	}
+
+	private static void route(int event, SteamUtilsCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case SteamShutdown:
+				adapter.onSteamShutdown();
+				break;
+			case FloatingGamepadTextInputDismissed:
+				adapter.onFloatingGamepadTextInputDismissed();
+				break;
+		}
+	}
+
+	private static void route(int event, SteamNetworkingMessagesCallbackAdapter adapter, ByteBuffer r) {
+		switch (event) {
+			case NetworkingMessagesSessionRequest:
+				adapter.onSessionRequest(r.getLong());
+				break;
+			case NetworkingMessagesSessionFailed:
+				adapter.onSessionFailed(r.getLong(), r.getInt(), getString(r));
+				break;
+		}
+	}
+
+	private static boolean getBoolean(ByteBuffer r) {
+		return r.getInt() != 0;
+	}
+
+	private static String getString(ByteBuffer r) {
+		int length = r.getInt();
+		if (length == 0) {
+			return "";
+		}
+		byte[] bytes = new byte[length];
+		r.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] getBytes(ByteBuffer r) {
+		int length = r.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		r.get(bytes);
+		return bytes;
+	}
+
+	// @off
+
+	/*JNI
+		#include "SteamManualDispatch.h"
+	*/
+
+	private static native void init(); /*
+		SteamManualDispatch::init();
+	*/
+
+	private static native int runFrame(ByteBuffer buffer, int maxCallbacks); /*
+		return SteamManualDispatch::runFrame(buffer, env->GetDirectBufferCapacity(obj_buffer), maxCallbacks);
+	*/
+
+}
@@ -0,0 +1,363 @@
+package com.codedisaster.steamworks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Streams payloads larger than the maximum message size of {@link SteamNetworkingSockets}, e.g. map and mod data
+ * sent on join, as a sequence of reliable chunks on one lane of a connection.
+ * <p>
+ * The {@link Sender} reads chunks from a channel or buffer only as fast as the connection drains them,
+ * and the {@link Receiver} writes them straight into a {@link FileChannel}, so neither side holds the whole
+ * payload in memory.
+ * <p>
+ * Each chunk starts with a header of {@value #HeaderSize} bytes, in network byte order: the transfer ID,
+ * flags, the offset of the chunk, and the total size of the payload, or -1 if unknown. Transfers should use
+ * a lane of their own, see {@link SteamNetworkingSockets#configureConnectionLanes(int, int[], short[])}, so
+ * that the receiver can tell chunks from other messages by their lane, and so that other messages don't
+ * wait behind them.
+ */
+public final class SteamChunkedTransfer {
+
+    public static final int HeaderSize = 24;
+
+    /**
+     * Default size of a chunk, including the header.
+     */
+    public static final int DefaultChunkSize = 64 * 1024;
+
+    /**
+     * Default limit of reliable bytes queued on the lane, below the default send buffer size of 512 KB.
+     */
+    public static final int DefaultMaxPendingBytes = 256 * 1024;
+
+    private static final int FlagLast = 1;
+
+    private SteamChunkedTransfer() {
+    }
+
+    /**
+     * Returns the transfer ID of a chunk, without changing the position of the message.
+     */
+    public static int getTransferID(ByteBuffer message) {
+        return message.getInt(message.position());
+    }
+
+    public enum State {
+        Sending,
+        Completed,
+        Failed
+    }
+
+    /**
+     * Sends a payload in chunks. Call {@link #update()} once per frame until the transfer completed or failed.
+     * Chunks are only read and sent while the reliable bytes pending on the lane stay below the limit set
+     * with {@link #setMaxPendingBytes(int)}, which avoids {@link SteamResult#LimitExceeded}.
+     */
+    public static final class Sender {
+
+        private final SteamNetworkingSockets sockets;
+        private final int connection;
+        private final int lane;
+        private final int transferID;
+        private final long size;
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer source;
+
+        private final SteamNetworkingSockets.ConnectionRealTimeStatus status;
+
+        private int chunkSize = DefaultChunkSize;
+        private int maxPendingBytes = DefaultMaxPendingBytes;
+
+        private ByteBuffer chunk;
+        private boolean chunkReady;
+        private long offset;
+        private boolean endOfStream;
+
+        private State state = State.Sending;
+        private SteamResult result = SteamResult.OK;
+
+        /**
+         * @param lane The lane to send chunks on, which must have been configured for the connection.
+         * @param size The number of bytes to read from the channel, or -1 to read until its end.
+         */
+        public Sender(SteamNetworkingSockets sockets, int connection, int lane, int transferID,
+                      ReadableByteChannel channel, long size) {
+            this(sockets, connection, lane, transferID, channel, null, size);
+        }
+
+        /**
+         * Sends the remaining bytes of a buffer, e.g. a memory-mapped file. The position of the buffer is
+         * not changed.
+         */
+        public Sender(SteamNetworkingSockets sockets, int connection, int lane, int transferID, ByteBuffer source) {
+            this(sockets, connection, lane, transferID, null, source.slice(), source.remaining());
+        }
+
+        private Sender(SteamNetworkingSockets sockets, int connection, int lane, int transferID,
+                       ReadableByteChannel channel, ByteBuffer source, long size) {
+            this.sockets = sockets;
+            this.connection = connection;
+            this.lane = lane;
+            this.transferID = transferID;
+            this.channel = channel;
+            this.source = source;
+            this.size = size;
+            this.status = new SteamNetworkingSockets.ConnectionRealTimeStatus(lane + 1);
+        }
+
+        /**
+         * Sets the size of each chunk, including the header. Must be called before the first update.
+         */
+        public Sender setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public Sender setMaxPendingBytes(int maxPendingBytes) {
+            this.maxPendingBytes = maxPendingBytes;
+            return this;
+        }
+
+        /**
+         * Sends as many chunks as the lane has room for.
+         *
+         * @return The state of the transfer. Once completed, all chunks have been queued for sending, and are
+         *         delivered unless the connection is closed without linger.
+         *
+         * @throws IOException If reading from the channel fails.
+         * @throws SteamException If the chunk size is invalid.
+         */
+        public State update() throws IOException, SteamException {
+            if (state != State.Sending) {
+                return state;
+            }
+
+            if (chunk == null) {
+                if (chunkSize <= HeaderSize) {
+                    throw new SteamException("Chunk size must exceed the header size.");
+                }
+                chunk = ByteBuffer.allocateDirect(chunkSize);
+            }
+
+            result = sockets.getConnectionRealTimeStatus(connection, status);
+            if (result != SteamResult.OK) {
+                state = State.Failed;
+                return state;
+            }
+
+            int pending = status.getLanePendingReliable(lane);
+
+            while (pending < maxPendingBytes) {
+                if (!chunkReady && !readChunk()) {
+                    // non-blocking channel without data, or the channel ended early
+                    break;
+                }
+
+                chunk.rewind();
+                int chunkBytes = chunk.remaining();
+
+                result = sockets.sendMessageToConnection(connection, chunk, SteamNetworkingSockets.SendFlags.Reliable,
+                        lane);
+
+                if (result == SteamResult.LimitExceeded) {
+                    // retried with the next update
+                    break;
+                }
+
+                if (result != SteamResult.OK) {
+                    state = State.Failed;
+                    break;
+                }
+
+                chunkReady = false;
+                offset += chunkBytes - HeaderSize;
+                pending += chunkBytes;
+
+                if ((chunk.getInt(4) & FlagLast) != 0) {
+                    state = State.Completed;
+                    break;
+                }
+            }
+
+            return state;
+        }
+
+        /**
+         * Reads the next chunk. Returns false if the channel has no data available right now, or if it ended
+         * before the size passed to the constructor, which fails the transfer.
+         */
+        private boolean readChunk() throws IOException {
+            chunk.clear();
+            chunk.position(HeaderSize);
+
+            if (size >= 0) {
+                chunk.limit((int) Math.min(chunkSize, HeaderSize + size - offset));
+            }
+
+            if (source != null) {
+                int count = chunk.remaining();
+                source.limit(source.position() + count);
+                chunk.put(source);
+                source.limit(source.capacity());
+            } else {
+                while (chunk.hasRemaining() && !endOfStream) {
+                    int count = channel.read(chunk);
+                    if (count < 0) {
+                        endOfStream = true;
+                    } else if (count == 0) {
+                        break;
+                    }
+                }
+            }
+
+            int payload = chunk.position() - HeaderSize;
+
+            if (endOfStream && size >= 0 && offset + payload < size) {
+                // the receiver would wait for the missing bytes forever
+                state = State.Failed;
+                result = SteamResult.IOFailure;
+                return false;
+            }
+
+            boolean last = endOfStream || (size >= 0 && offset + payload == size);
+
+            if (payload == 0 && !last) {
+                return false;
+            }
+
+            chunk.putInt(0, transferID);
+            chunk.putInt(4, last ? FlagLast : 0);
+            chunk.putLong(8, offset);
+            chunk.putLong(16, size);
+
+            chunk.flip();
+            chunkReady = true;
+
+            return true;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        /**
+         * Returns the result of the last call which failed the transfer, {@link SteamResult#IOFailure} if the
+         * channel ended before the size passed to the constructor, or {@link SteamResult#OK}.
+         */
+        public SteamResult getResult() {
+            return result;
+        }
+
+        /**
+         * Returns the number of payload bytes queued for sending so far.
+         */
+        public long getBytesSent() {
+            return offset;
+        }
+
+        /**
+         * Returns the size of the payload, or -1 if unknown.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        public int getTransferID() {
+            return transferID;
+        }
+    }
+
+    /**
+     * Writes the chunks of one transfer into a file, at their offset.
+     */
+    public static final class Receiver {
+
+        private final int transferID;
+        private final FileChannel target;
+        private final long targetOffset;
+
+        private long size = -1L;
+        private long bytesReceived;
+        private boolean completed;
+
+        public Receiver(int transferID, FileChannel target) {
+            this(transferID, target, 0L);
+        }
+
+        /**
+         * @param targetOffset The position in the file to write the payload to.
+         */
+        public Receiver(int transferID, FileChannel target, long targetOffset) {
+            this.transferID = transferID;
+            this.target = target;
+            this.targetOffset = targetOffset;
+        }
+
+        /**
+         * Writes the payload of a chunk, from the position of the message to its limit. The message buffer is
+         * read without copying, so leased messages, see {@link SteamNetworkingMessage}, are written straight
+         * from native memory. The position of the message is advanced to its limit.
+         *
+         * @return True if this was the last chunk, and the transfer is complete.
+         *
+         * @throws SteamException If the message isn't a chunk of this transfer, or the payload size doesn't match.
+         * @throws IOException If writing to the file fails.
+         */
+        public boolean write(ByteBuffer message) throws SteamException, IOException {
+            int position = message.position();
+
+            if (message.remaining() < HeaderSize || message.getInt(position) != transferID) {
+                throw new SteamException("Not a chunk of transfer " + transferID);
+            }
+
+            int flags = message.getInt(position + 4);
+            long offset = message.getLong(position + 8);
+            size = message.getLong(position + 16);
+
+            message.position(position + HeaderSize);
+            int payload = message.remaining();
+
+            long filePosition = targetOffset + offset;
+            while (message.hasRemaining()) {
+                filePosition += target.write(message, filePosition);
+            }
+
+            bytesReceived += payload;
+
+            if ((flags & FlagLast) != 0) {
+                long end = offset + payload;
+                if ((size >= 0 && end != size) || bytesReceived != end) {
+                    throw new SteamException("Transfer " + transferID + " incomplete, received " + bytesReceived
+                            + " of " + (size >= 0 ? size : end) + " bytes");
+                }
+                completed = true;
+            }
+
+            return completed;
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        /**
+         * Returns the size of the payload announced by the sender, or -1 if unknown, or no chunk was received yet.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        public long getBytesReceived() {
+            return bytesReceived;
+        }
+
+        public int getTransferID() {
+            return transferID;
+        }
+    }
+
+}
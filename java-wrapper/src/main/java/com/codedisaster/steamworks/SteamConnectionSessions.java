@@ -0,0 +1,166 @@
+package com.codedisaster.steamworks;
+
+import java.util.Arrays;
+
+/**
+ * Maps connections to game-side session objects through their user data, see
+ * {@link SteamNetworkingSockets#setConnectionUserData(int, long)}. Lookups index an array, and don't allocate.
+ * <p>
+ * The user data of each connection is set to the slot of its session, combined with a generation count,
+ * so that the stale user data of a removed session never resolves to another session which reuses its slot.
+ * <p>
+ * This class is not thread safe.
+ */
+public class SteamConnectionSessions<S> {
+
+    private final SteamNetworkingSockets sockets;
+
+    private Object[] sessions;
+    private int[] connections;
+    private int[] generations;
+
+    private int[] freeSlots;
+    private int freeCount;
+    private int usedSlots;
+    private int size;
+
+    public SteamConnectionSessions(SteamNetworkingSockets sockets) {
+        this(sockets, 16);
+    }
+
+    public SteamConnectionSessions(SteamNetworkingSockets sockets, int initialCapacity) {
+        this.sockets = sockets;
+        int capacity = Math.max(initialCapacity, 1);
+        sessions = new Object[capacity];
+        connections = new int[capacity];
+        generations = new int[capacity];
+        freeSlots = new int[capacity];
+        Arrays.fill(generations, 1);
+    }
+
+    /**
+     * Adds a session, and sets the user data of its connection to look it up.
+     *
+     * @return The user data of the connection, or -1 if the connection handle is invalid.
+     */
+    public long put(int connection, S session) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (usedSlots == sessions.length) {
+                grow();
+            }
+            slot = usedSlots++;
+        }
+
+        long userData = ((long) generations[slot] << 32) | slot;
+
+        if (!sockets.setConnectionUserData(connection, userData)) {
+            freeSlots[freeCount++] = slot;
+            return -1L;
+        }
+
+        sessions[slot] = session;
+        connections[slot] = connection;
+        size++;
+
+        return userData;
+    }
+
+    public long put(SteamNetworkingSockets.Connection connection, S session) {
+        return put(connection.getHandle(), session);
+    }
+
+    /**
+     * Returns the session of the connection with this user data, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public S get(long userData) {
+        int slot = getSlot(userData);
+        return slot >= 0 ? (S) sessions[slot] : null;
+    }
+
+    public S get(SteamNetworkingSockets.ConnectionInfo info) {
+        return get(info.getUserData());
+    }
+
+    public S get(SteamNetworkingMessage message) {
+        return get(message.getConnectionUserData());
+    }
+
+    /**
+     * Returns the session of a connection. This queries the user data of the connection, so looking up sessions
+     * by the user data reported with status changes and messages is preferred.
+     */
+    @SuppressWarnings("unchecked")
+    public S getByConnection(int connection) {
+        int slot = getSlot(sockets.getConnectionUserData(connection));
+        return slot >= 0 && connections[slot] == connection ? (S) sessions[slot] : null;
+    }
+
+    /**
+     * Returns the connection handle of the session with this user data, or 0 if there is none.
+     */
+    public int getConnection(long userData) {
+        int slot = getSlot(userData);
+        return slot >= 0 ? connections[slot] : 0;
+    }
+
+    /**
+     * Removes the session with this user data. The user data of the connection is left unchanged, but
+     * doesn't resolve to a session anymore.
+     *
+     * @return The session removed, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public S remove(long userData) {
+        int slot = getSlot(userData);
+
+        if (slot < 0) {
+            return null;
+        }
+
+        S session = (S) sessions[slot];
+        sessions[slot] = null;
+        connections[slot] = 0;
+
+        // skip 0 on overflow, so user data is never 0 or -1
+        generations[slot] = generations[slot] == Integer.MAX_VALUE ? 1 : generations[slot] + 1;
+        freeSlots[freeCount++] = slot;
+        size--;
+
+        return session;
+    }
+
+    public S remove(SteamNetworkingSockets.ConnectionInfo info) {
+        return remove(info.getUserData());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int getSlot(long userData) {
+        int slot = (int) userData;
+        int generation = (int) (userData >>> 32);
+
+        if (slot < 0 || slot >= usedSlots || generations[slot] != generation || sessions[slot] == null) {
+            return -1;
+        }
+
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = 2 * sessions.length;
+        sessions = Arrays.copyOf(sessions, capacity);
+        connections = Arrays.copyOf(connections, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+
+        int previous = generations.length;
+        generations = Arrays.copyOf(generations, capacity);
+        Arrays.fill(generations, previous, capacity, 1);
+    }
+
+}
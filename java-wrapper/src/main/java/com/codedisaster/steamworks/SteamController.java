@@ -519,6 +519,52 @@ public class SteamController extends SteamInterface {
 		RestoreUserDefault
 	}
 
+	private static final SteamMetrics.Timer Init = SteamMetrics.nativeCall("SteamController.init");
+	private static final SteamMetrics.Timer Shutdown = SteamMetrics.nativeCall("SteamController.shutdown");
+	private static final SteamMetrics.Timer RunFrame = SteamMetrics.nativeCall("SteamController.runFrame");
+	private static final SteamMetrics.Timer GetConnectedControllers =
+			SteamMetrics.nativeCall("SteamController.getConnectedControllers");
+	private static final SteamMetrics.Timer ShowBindingPanel =
+			SteamMetrics.nativeCall("SteamController.showBindingPanel");
+	private static final SteamMetrics.Timer GetActionSetHandle =
+			SteamMetrics.nativeCall("SteamController.getActionSetHandle");
+	private static final SteamMetrics.Timer ActivateActionSet =
+			SteamMetrics.nativeCall("SteamController.activateActionSet");
+	private static final SteamMetrics.Timer GetCurrentActionSet =
+			SteamMetrics.nativeCall("SteamController.getCurrentActionSet");
+	private static final SteamMetrics.Timer GetDigitalActionHandle =
+			SteamMetrics.nativeCall("SteamController.getDigitalActionHandle");
+	private static final SteamMetrics.Timer GetDigitalActionData =
+			SteamMetrics.nativeCall("SteamController.getDigitalActionData");
+	private static final SteamMetrics.Timer GetDigitalActionOrigins =
+			SteamMetrics.nativeCall("SteamController.getDigitalActionOrigins");
+	private static final SteamMetrics.Timer GetAnalogActionHandle =
+			SteamMetrics.nativeCall("SteamController.getAnalogActionHandle");
+	private static final SteamMetrics.Timer GetAnalogActionData =
+			SteamMetrics.nativeCall("SteamController.getAnalogActionData");
+	private static final SteamMetrics.Timer GetAnalogActionOrigins =
+			SteamMetrics.nativeCall("SteamController.getAnalogActionOrigins");
+	private static final SteamMetrics.Timer StopAnalogActionMomentum =
+			SteamMetrics.nativeCall("SteamController.stopAnalogActionMomentum");
+	private static final SteamMetrics.Timer TriggerHapticPulse =
+			SteamMetrics.nativeCall("SteamController.triggerHapticPulse");
+	private static final SteamMetrics.Timer TriggerRepeatedHapticPulse =
+			SteamMetrics.nativeCall("SteamController.triggerRepeatedHapticPulse");
+	private static final SteamMetrics.Timer TriggerVibration =
+			SteamMetrics.nativeCall("SteamController.triggerVibration");
+	private static final SteamMetrics.Timer SetLEDColor = SteamMetrics.nativeCall("SteamController.setLEDColor");
+	private static final SteamMetrics.Timer GetGamepadIndexForController =
+			SteamMetrics.nativeCall("SteamController.getGamepadIndexForController");
+	private static final SteamMetrics.Timer GetControllerForGamepadIndex =
+			SteamMetrics.nativeCall("SteamController.getControllerForGamepadIndex");
+	private static final SteamMetrics.Timer GetMotionData = SteamMetrics.nativeCall("SteamController.getMotionData");
+	private static final SteamMetrics.Timer GetStringForActionOrigin =
+			SteamMetrics.nativeCall("SteamController.getStringForActionOrigin");
+	private static final SteamMetrics.Timer GetGlyphForActionOrigin =
+			SteamMetrics.nativeCall("SteamController.getGlyphForActionOrigin");
+	private static final SteamMetrics.Timer GetInputTypeForHandle =
+			SteamMetrics.nativeCall("SteamController.getInputTypeForHandle");
+
 	public static final int STEAM_CONTROLLER_MAX_COUNT = 16;
 	public static final int STEAM_CONTROLLER_MAX_ANALOG_ACTIONS = 24;
 	public static final int STEAM_CONTROLLER_MAX_DIGITAL_ACTIONS = 256;
@@ -537,15 +583,23 @@ public class SteamController extends SteamInterface {
 	}
 
 	public boolean init() {
-		return SteamControllerNative.init();
+		long start = SteamMetrics.begin();
+		boolean result = SteamControllerNative.init();
+		SteamMetrics.end(Init, start);
+		return result;
 	}
 
 	public boolean shutdown() {
-		return SteamControllerNative.shutdown();
+		long start = SteamMetrics.begin();
+		boolean result = SteamControllerNative.shutdown();
+		SteamMetrics.end(Shutdown, start);
+		return result;
 	}
 
 	public void runFrame() {
+		long start = SteamMetrics.begin();
 		SteamControllerNative.runFrame();
+		SteamMetrics.end(RunFrame, start);
 	}
 
 	public int getConnectedControllers(SteamControllerHandle[] handlesOut) {
@@ -553,7 +607,9 @@ public class SteamController extends SteamInterface {
 			throw new IllegalArgumentException("Array size must be at least STEAM_CONTROLLER_MAX_COUNT");
 		}
 
+		long start = SteamMetrics.begin();
 		int count = SteamControllerNative.getConnectedControllers(controllerHandles);
+		SteamMetrics.end(GetConnectedControllers, start);
 
 		for (int i = 0; i < count; i++) {
 			handlesOut[i] = new SteamControllerHandle(controllerHandles[i]);
@@ -563,30 +619,46 @@ public class SteamController extends SteamInterface {
 	}
 
 	public boolean showBindingPanel(SteamControllerHandle controller) {
-		return SteamControllerNative.showBindingPanel(controller.handle);
+		long start = SteamMetrics.begin();
+		boolean result = SteamControllerNative.showBindingPanel(controller.handle);
+		SteamMetrics.end(ShowBindingPanel, start);
+		return result;
 	}
 
 	public SteamControllerActionSetHandle getActionSetHandle(String actionSetName) {
-		return new SteamControllerActionSetHandle(SteamControllerNative.getActionSetHandle(actionSetName));
+		long start = SteamMetrics.begin();
+		long result = SteamControllerNative.getActionSetHandle(actionSetName);
+		SteamMetrics.end(GetActionSetHandle, start);
+		return new SteamControllerActionSetHandle(result);
 	}
 
 	public void activateActionSet(SteamControllerHandle controller, SteamControllerActionSetHandle actionSet) {
+		long start = SteamMetrics.begin();
 		SteamControllerNative.activateActionSet(controller.handle, actionSet.handle);
+		SteamMetrics.end(ActivateActionSet, start);
 	}
 
 	public SteamControllerActionSetHandle getCurrentActionSet(SteamControllerHandle controller) {
-		return new SteamControllerActionSetHandle(SteamControllerNative.getCurrentActionSet(controller.handle));
+		long start = SteamMetrics.begin();
+		long result = SteamControllerNative.getCurrentActionSet(controller.handle);
+		SteamMetrics.end(GetCurrentActionSet, start);
+		return new SteamControllerActionSetHandle(result);
 	}
 
 	public SteamControllerDigitalActionHandle getDigitalActionHandle(String actionName) {
-		return new SteamControllerDigitalActionHandle(SteamControllerNative.getDigitalActionHandle(actionName));
+		long start = SteamMetrics.begin();
+		long result = SteamControllerNative.getDigitalActionHandle(actionName);
+		SteamMetrics.end(GetDigitalActionHandle, start);
+		return new SteamControllerDigitalActionHandle(result);
 	}
 
 	public void getDigitalActionData(SteamControllerHandle controller,
 									 SteamControllerDigitalActionHandle digitalAction,
 									 SteamControllerDigitalActionData digitalActionData) {
 
+		long start = SteamMetrics.begin();
 		SteamControllerNative.getDigitalActionData(controller.handle, digitalAction.handle, digitalActionData);
+		SteamMetrics.end(GetDigitalActionData, start);
 	}
 
 	public int getDigitalActionOrigins(SteamControllerHandle controller,
@@ -598,8 +670,10 @@ public class SteamController extends SteamInterface {
 			throw new IllegalArgumentException("Array size must be at least STEAM_CONTROLLER_MAX_ORIGINS");
 		}
 
+		long start = SteamMetrics.begin();
 		int count = SteamControllerNative.getDigitalActionOrigins(controller.handle,
 				actionSet.handle, digitalAction.handle, actionOrigins);
+		SteamMetrics.end(GetDigitalActionOrigins, start);
 
 		for (int i = 0; i < count; i++) {
 			originsOut[i] = ActionOrigin.byOrdinal(actionOrigins[i]);
@@ -609,14 +683,19 @@ public class SteamController extends SteamInterface {
 	}
 
 	public SteamControllerAnalogActionHandle getAnalogActionHandle(String actionName) {
-		return new SteamControllerAnalogActionHandle(SteamControllerNative.getAnalogActionHandle(actionName));
+		long start = SteamMetrics.begin();
+		long result = SteamControllerNative.getAnalogActionHandle(actionName);
+		SteamMetrics.end(GetAnalogActionHandle, start);
+		return new SteamControllerAnalogActionHandle(result);
 	}
 
 	public void getAnalogActionData(SteamControllerHandle controller,
 									SteamControllerAnalogActionHandle analogAction,
 									SteamControllerAnalogActionData analoglActionData) {
 
+		long start = SteamMetrics.begin();
 		SteamControllerNative.getAnalogActionData(controller.handle, analogAction.handle, analoglActionData);
+		SteamMetrics.end(GetAnalogActionData, start);
 	}
 
 	public int getAnalogActionOrigins(SteamControllerHandle controller,
@@ -628,8 +707,10 @@ public class SteamController extends SteamInterface {
 			throw new IllegalArgumentException("Array size must be at least STEAM_CONTROLLER_MAX_ORIGINS");
 		}
 
+		long start = SteamMetrics.begin();
 		int count = SteamControllerNative.getAnalogActionOrigins(controller.handle,
 				actionSet.handle, analogAction.handle, actionOrigins);
+		SteamMetrics.end(GetAnalogActionOrigins, start);
 
 		for (int i = 0; i < count; i++) {
 			originsOut[i] = ActionOrigin.byOrdinal(actionOrigins[i]);
@@ -641,51 +722,78 @@ public class SteamController extends SteamInterface {
 	public void stopAnalogActionMomentum(SteamControllerHandle controller,
 										 SteamControllerAnalogActionHandle analogAction) {
 
+		long start = SteamMetrics.begin();
 		SteamControllerNative.stopAnalogActionMomentum(controller.handle, analogAction.handle);
+		SteamMetrics.end(StopAnalogActionMomentum, start);
 	}
 
 	public void triggerHapticPulse(SteamControllerHandle controller, Pad targetPad, int durationMicroSec) {
+		long start = SteamMetrics.begin();
 		SteamControllerNative.triggerHapticPulse(controller.handle, targetPad.ordinal(), durationMicroSec);
+		SteamMetrics.end(TriggerHapticPulse, start);
 	}
 
 	public void triggerRepeatedHapticPulse(SteamControllerHandle controller, Pad targetPad,
 										   int durationMicroSec, int offMicroSec, int repeat, int flags) {
 
+		long start = SteamMetrics.begin();
 		SteamControllerNative.triggerRepeatedHapticPulse(controller.handle, targetPad.ordinal(),
 				durationMicroSec, offMicroSec, repeat, flags);
+		SteamMetrics.end(TriggerRepeatedHapticPulse, start);
 	}
 
 	public void triggerVibration(SteamControllerHandle controller, short leftSpeed, short rightSpeed) {
+		long start = SteamMetrics.begin();
 		SteamControllerNative.triggerVibration(controller.handle, leftSpeed, rightSpeed);
+		SteamMetrics.end(TriggerVibration, start);
 	}
 
 	public void setLEDColor(SteamControllerHandle controller, int colorR, int colorG, int colorB, LEDFlag flags) {
+		long start = SteamMetrics.begin();
 		SteamControllerNative.setLEDColor(controller.handle, (byte) (colorR & 0xff),
 				(byte) (colorG & 0xff), (byte) (colorB & 0xff), flags.ordinal());
+		SteamMetrics.end(SetLEDColor, start);
 	}
 
 	public int getGamepadIndexForController(SteamControllerHandle controller) {
-		return SteamControllerNative.getGamepadIndexForController(controller.handle);
+		long start = SteamMetrics.begin();
+		int result = SteamControllerNative.getGamepadIndexForController(controller.handle);
+		SteamMetrics.end(GetGamepadIndexForController, start);
+		return result;
 	}
 
 	public SteamControllerHandle getControllerForGamepadIndex(int index) {
-		return new SteamControllerHandle(SteamControllerNative.getControllerForGamepadIndex(index));
+		long start = SteamMetrics.begin();
+		long result = SteamControllerNative.getControllerForGamepadIndex(index);
+		SteamMetrics.end(GetControllerForGamepadIndex, start);
+		return new SteamControllerHandle(result);
 	}
 
 	public void getMotionData(SteamControllerHandle controller, SteamControllerMotionData motionData) {
+		long start = SteamMetrics.begin();
 		SteamControllerNative.getMotionData(controller.handle, motionData.data);
+		SteamMetrics.end(GetMotionData, start);
 	}
 
 	public String getStringForActionOrigin(ActionOrigin origin) {
-		return SteamControllerNative.getStringForActionOrigin(origin.ordinal());
+		long start = SteamMetrics.begin();
+		String result = SteamControllerNative.getStringForActionOrigin(origin.ordinal());
+		SteamMetrics.end(GetStringForActionOrigin, start);
+		return result;
 	}
 
 	public String getGlyphForActionOrigin(ActionOrigin origin) {
-		return SteamControllerNative.getGlyphForActionOrigin(origin.ordinal());
+		long start = SteamMetrics.begin();
+		String result = SteamControllerNative.getGlyphForActionOrigin(origin.ordinal());
+		SteamMetrics.end(GetGlyphForActionOrigin, start);
+		return result;
 	}
 
 	public InputType getInputTypeForHandle(SteamControllerHandle controller) {
-		return InputType.byOrdinal(SteamControllerNative.getInputTypeForHandle(controller.handle));
+		long start = SteamMetrics.begin();
+		int result = SteamControllerNative.getInputTypeForHandle(controller.handle);
+		SteamMetrics.end(GetInputTypeForHandle, start);
+		return InputType.byOrdinal(result);
 	}
 
 }
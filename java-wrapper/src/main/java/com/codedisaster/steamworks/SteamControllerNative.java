@@ -6,6 +6,7 @@ final class SteamControllerNative {
 
 	/*JNI
 		#include <steam_api.h>
+		#include "SteamJavaClasses.h"
 		#include "isteamcontroller.h"
 	*/
 
@@ -53,13 +54,10 @@ final class SteamControllerNative {
 			(ControllerHandle_t) controllerHandle, (ControllerDigitalActionHandle_t) digitalActionHandle);
 
 		{
-			jclass clazz = env->GetObjectClass(digitalActionData);
+			const SteamJavaClasses::ControllerDigitalActionData& fields = SteamJavaClasses::controllerDigitalActionData;
 
-			jfieldID field = env->GetFieldID(clazz, "state", "Z");
-			env->SetBooleanField(digitalActionData, field, (jboolean) result.bState);
-
-			field = env->GetFieldID(clazz, "active", "Z");
-			env->SetBooleanField(digitalActionData, field, (jboolean) result.bActive);
+			env->SetBooleanField(digitalActionData, fields.state, (jboolean) result.bState);
+			env->SetBooleanField(digitalActionData, fields.active, (jboolean) result.bActive);
 		}
 	*/
 
@@ -85,19 +83,12 @@ final class SteamControllerNative {
 			(ControllerHandle_t) controllerHandle, (ControllerAnalogActionHandle_t) analogActionHandle);
 
 		{
-			jclass clazz = env->GetObjectClass(analogActionData);
-
-			jfieldID field = env->GetFieldID(clazz, "mode", "I");
-			env->SetIntField(analogActionData, field, (jint) result.eMode);
-
-			field = env->GetFieldID(clazz, "x", "F");
-			env->SetFloatField(analogActionData, field, (jfloat) result.x);
-
-			field = env->GetFieldID(clazz, "y", "F");
-			env->SetFloatField(analogActionData, field, (jfloat) result.y);
+			const SteamJavaClasses::ControllerAnalogActionData& fields = SteamJavaClasses::controllerAnalogActionData;
 
-			field = env->GetFieldID(clazz, "active", "Z");
-			env->SetBooleanField(analogActionData, field, (jboolean) result.bActive);
+			env->SetIntField(analogActionData, fields.mode, (jint) result.eMode);
+			env->SetFloatField(analogActionData, fields.x, (jfloat) result.x);
+			env->SetFloatField(analogActionData, fields.y, (jfloat) result.y);
+			env->SetBooleanField(analogActionData, fields.active, (jboolean) result.bActive);
 		}
 	*/
 
@@ -0,0 +1,107 @@
+package com.codedisaster.steamworks;
+
+/**
+ * Emits Java Flight Recorder events for Steam API calls and callbacks.
+ * <p>
+ * JFR events require Java 11 or newer. The steamworks4j jar is a multi-release jar, which contains
+ * the event classes compiled for Java 11. On Java 8, {@link #isSupported()} returns false, and this
+ * class does nothing.
+ * <p>
+ * Once enabled, the following events are emitted, in the "Steamworks" category:
+ * <ul>
+ *   <li>steamworks4j.NativeCall: native calls which take longer than a threshold, 1 ms by default, see
+ *   {@link #setNativeCallThreshold(long)}</li>
+ *   <li>steamworks4j.RunCallbacks: each call to {@link SteamAPI#runCallbacks()} and
+ *   {@code SteamGameServerAPI.runCallbacks()}</li>
+ *   <li>steamworks4j.Callback: each callback delivered, with the duration of its handler</li>
+ *   <li>steamworks4j.Networking: each send or receive call of {@link SteamNetworking} and
+ *   {@link SteamNetworkingSockets}, with the number of messages and bytes</li>
+ *   <li>steamworks4j.APICall: completion of an asynchronous {@link SteamAPICall}, with its latency
+ *   from issue to result</li>
+ * </ul>
+ * Native calls and callbacks are timed by the same inline probes as {@link SteamMetrics}. Their events
+ * are committed once the call returned, with the measured time in their "Call Duration" field.
+ * <p>
+ * Each event still needs to be enabled in the recording settings. Events which are not enabled, or
+ * emitted while no recording is running, are discarded by JFR at little cost.
+ */
+public final class SteamFlightRecorder {
+
+	private static volatile boolean enabled = false;
+	private static volatile long nativeCallThreshold = 1000000L;
+
+	private SteamFlightRecorder() {
+
+	}
+
+	public static boolean isSupported() {
+		return SteamFlightRecorderEvents.isSupported();
+	}
+
+	/**
+	 * Enables JFR events, if supported by the Java runtime.
+	 */
+	public static void enable() {
+		enabled = isSupported();
+	}
+
+	public static void disable() {
+		enabled = false;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Sets the minimum duration of native calls which emit an event. Defaults to 1 ms.
+	 */
+	public static void setNativeCallThreshold(long nanos) {
+		nativeCallThreshold = nanos;
+	}
+
+	static void nativeCall(String method, long nanos) {
+		if (enabled && nanos >= nativeCallThreshold) {
+			SteamFlightRecorderEvents.nativeCall(method, nanos);
+		}
+	}
+
+	static Object beginRunCallbacks() {
+		return enabled ? SteamFlightRecorderEvents.beginRunCallbacks() : null;
+	}
+
+	static void endRunCallbacks(Object event, boolean gameServer) {
+		if (event != null) {
+			SteamFlightRecorderEvents.endRunCallbacks(event, gameServer);
+		}
+	}
+
+	static void callback(String callback, long nanos) {
+		if (enabled) {
+			SteamFlightRecorderEvents.callback(callback, nanos);
+		}
+	}
+
+	static Object beginNetworking() {
+		return enabled ? SteamFlightRecorderEvents.beginNetworking() : null;
+	}
+
+	static void endNetworking(Object event, String operation, int messages, long bytes) {
+		if (event != null) {
+			SteamFlightRecorderEvents.endNetworking(event, operation, messages, bytes);
+		}
+	}
+
+	static void apiCallIssued(long apiCall) {
+		if (enabled) {
+			SteamFlightRecorderEvents.apiCallIssued(apiCall);
+		}
+	}
+
+	static void apiCallCompleted(long apiCall, boolean ioFailure) {
+		if (enabled) {
+			SteamFlightRecorderEvents.apiCallCompleted(apiCall, ioFailure);
+		}
+	}
+
+}
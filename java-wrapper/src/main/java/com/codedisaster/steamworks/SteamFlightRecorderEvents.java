@@ -0,0 +1,45 @@
+package com.codedisaster.steamworks;
+
+/**
+ * Java 8 version of the JFR event factory, which does nothing. On Java 11 and newer, it's replaced by
+ * the version in {@code src/main/java11}, which is packaged as part of the multi-release jar.
+ */
+final class SteamFlightRecorderEvents {
+
+	static boolean isSupported() {
+		return false;
+	}
+
+	static void nativeCall(String method, long nanos) {
+
+	}
+
+	static Object beginRunCallbacks() {
+		return null;
+	}
+
+	static void endRunCallbacks(Object event, boolean gameServer) {
+
+	}
+
+	static void callback(String callback, long nanos) {
+
+	}
+
+	static Object beginNetworking() {
+		return null;
+	}
+
+	static void endNetworking(Object event, String operation, int messages, long bytes) {
+
+	}
+
+	static void apiCallIssued(long apiCall) {
+
+	}
+
+	static void apiCallCompleted(long apiCall, boolean ioFailure) {
+
+	}
+
+}
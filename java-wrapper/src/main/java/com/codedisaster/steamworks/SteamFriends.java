@@ -179,136 +179,318 @@ public class SteamFriends extends SteamInterface {
 		Modal
 	}
 
+	private static final SteamMetrics.Timer GetPersonaName = SteamMetrics.nativeCall("SteamFriends.getPersonaName");
+	private static final SteamMetrics.Timer GetPersonaState = SteamMetrics.nativeCall("SteamFriends.getPersonaState");
+	private static final SteamMetrics.Timer GetFriendCount = SteamMetrics.nativeCall("SteamFriends.getFriendCount");
+	private static final SteamMetrics.Timer GetFriendByIndex = SteamMetrics.nativeCall("SteamFriends.getFriendByIndex");
+	private static final SteamMetrics.Timer GetFriendByIndexRaw =
+			SteamMetrics.nativeCall("SteamFriends.getFriendByIndexRaw");
+	private static final SteamMetrics.Timer GetFriendRelationship =
+			SteamMetrics.nativeCall("SteamFriends.getFriendRelationship");
+	private static final SteamMetrics.Timer GetFriendPersonaState =
+			SteamMetrics.nativeCall("SteamFriends.getFriendPersonaState");
+	private static final SteamMetrics.Timer GetFriendPersonaName =
+			SteamMetrics.nativeCall("SteamFriends.getFriendPersonaName");
+	private static final SteamMetrics.Timer GetFriendGamePlayed =
+			SteamMetrics.nativeCall("SteamFriends.getFriendGamePlayed");
+	private static final SteamMetrics.Timer SetInGameVoiceSpeaking =
+			SteamMetrics.nativeCall("SteamFriends.setInGameVoiceSpeaking");
+	private static final SteamMetrics.Timer GetSmallFriendAvatar =
+			SteamMetrics.nativeCall("SteamFriends.getSmallFriendAvatar");
+	private static final SteamMetrics.Timer GetMediumFriendAvatar =
+			SteamMetrics.nativeCall("SteamFriends.getMediumFriendAvatar");
+	private static final SteamMetrics.Timer GetLargeFriendAvatar =
+			SteamMetrics.nativeCall("SteamFriends.getLargeFriendAvatar");
+	private static final SteamMetrics.Timer RequestUserInformation =
+			SteamMetrics.nativeCall("SteamFriends.requestUserInformation");
+	private static final SteamMetrics.Timer ActivateGameOverlay =
+			SteamMetrics.nativeCall("SteamFriends.activateGameOverlay");
+	private static final SteamMetrics.Timer ActivateGameOverlayToUser =
+			SteamMetrics.nativeCall("SteamFriends.activateGameOverlayToUser");
+	private static final SteamMetrics.Timer ActivateGameOverlayToWebPage =
+			SteamMetrics.nativeCall("SteamFriends.activateGameOverlayToWebPage");
+	private static final SteamMetrics.Timer ActivateGameOverlayToStore =
+			SteamMetrics.nativeCall("SteamFriends.activateGameOverlayToStore");
+	private static final SteamMetrics.Timer SetPlayedWith = SteamMetrics.nativeCall("SteamFriends.setPlayedWith");
+	private static final SteamMetrics.Timer ActivateGameOverlayInviteDialog =
+			SteamMetrics.nativeCall("SteamFriends.activateGameOverlayInviteDialog");
+	private static final SteamMetrics.Timer SetRichPresence = SteamMetrics.nativeCall("SteamFriends.setRichPresence");
+	private static final SteamMetrics.Timer ClearRichPresence =
+			SteamMetrics.nativeCall("SteamFriends.clearRichPresence");
+	private static final SteamMetrics.Timer GetFriendRichPresence =
+			SteamMetrics.nativeCall("SteamFriends.getFriendRichPresence");
+	private static final SteamMetrics.Timer GetFriendRichPresenceKeyCount =
+			SteamMetrics.nativeCall("SteamFriends.getFriendRichPresenceKeyCount");
+	private static final SteamMetrics.Timer GetFriendRichPresenceKeyByIndex =
+			SteamMetrics.nativeCall("SteamFriends.getFriendRichPresenceKeyByIndex");
+	private static final SteamMetrics.Timer RequestFriendRichPresence =
+			SteamMetrics.nativeCall("SteamFriends.requestFriendRichPresence");
+	private static final SteamMetrics.Timer InviteUserToGame = SteamMetrics.nativeCall("SteamFriends.inviteUserToGame");
+	private static final SteamMetrics.Timer GetCoplayFriendCount =
+			SteamMetrics.nativeCall("SteamFriends.getCoplayFriendCount");
+	private static final SteamMetrics.Timer GetCoplayFriend = SteamMetrics.nativeCall("SteamFriends.getCoplayFriend");
+	private static final SteamMetrics.Timer GetCoplayFriendRaw =
+			SteamMetrics.nativeCall("SteamFriends.getCoplayFriendRaw");
+	private static final SteamMetrics.Timer GetFriendCoplayTime =
+			SteamMetrics.nativeCall("SteamFriends.getFriendCoplayTime");
+	private static final SteamMetrics.Timer GetFriendCoplayGame =
+			SteamMetrics.nativeCall("SteamFriends.getFriendCoplayGame");
+
 	public SteamFriends(SteamFriendsCallback callback) {
 		super(SteamFriendsNative.createCallback(new SteamFriendsCallbackAdapter(callback)));
 	}
 
 	public String getPersonaName() {
-		return SteamFriendsNative.getPersonaName();
+		long start = SteamMetrics.begin();
+		String result = SteamFriendsNative.getPersonaName();
+		SteamMetrics.end(GetPersonaName, start);
+		return result;
 	}
 
 	public PersonaState getPersonaState() {
-		return PersonaState.byOrdinal(SteamFriendsNative.getPersonaState());
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getPersonaState();
+		SteamMetrics.end(GetPersonaState, start);
+		return PersonaState.byOrdinal(result);
 	}
 
 	public int getFriendCount(FriendFlags friendFlag) {
-		return SteamFriendsNative.getFriendCount(friendFlag.bits);
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getFriendCount(friendFlag.bits);
+		SteamMetrics.end(GetFriendCount, start);
+		return result;
 	}
 
 	public int getFriendCount(Collection<FriendFlags> friendFlags) {
-		return SteamFriendsNative.getFriendCount(FriendFlags.asBits(friendFlags));
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getFriendCount(FriendFlags.asBits(friendFlags));
+		SteamMetrics.end(GetFriendCount, start);
+		return result;
 	}
 
 	public SteamID getFriendByIndex(int friend, FriendFlags friendFlag) {
-		return new SteamID(SteamFriendsNative.getFriendByIndex(friend, friendFlag.bits));
+		long start = SteamMetrics.begin();
+		long result = SteamFriendsNative.getFriendByIndex(friend, friendFlag.bits);
+		SteamMetrics.end(GetFriendByIndex, start);
+		return new SteamID(result);
 	}
 
 	public SteamID getFriendByIndex(int friend, Collection<FriendFlags> friendFlags) {
-		return new SteamID(SteamFriendsNative.getFriendByIndex(friend, FriendFlags.asBits(friendFlags)));
+		long start = SteamMetrics.begin();
+		long result = SteamFriendsNative.getFriendByIndex(friend, FriendFlags.asBits(friendFlags));
+		SteamMetrics.end(GetFriendByIndex, start);
+		return new SteamID(result);
+	}
+
+	/**
+	 * Same as {@link #getFriendByIndex(int, FriendFlags)}, but returns the raw handle instead of a new {@link SteamID}.
+	 */
+	public long getFriendByIndexRaw(int friend, FriendFlags friendFlag) {
+		long start = SteamMetrics.begin();
+		long result = SteamFriendsNative.getFriendByIndex(friend, friendFlag.bits);
+		SteamMetrics.end(GetFriendByIndexRaw, start);
+		return result;
+	}
+
+	public long getFriendByIndexRaw(int friend, Collection<FriendFlags> friendFlags) {
+		long start = SteamMetrics.begin();
+		long result = SteamFriendsNative.getFriendByIndex(friend, FriendFlags.asBits(friendFlags));
+		SteamMetrics.end(GetFriendByIndexRaw, start);
+		return result;
 	}
 
 	public FriendRelationship getFriendRelationship(SteamID steamIDFriend) {
-		return FriendRelationship.byOrdinal(SteamFriendsNative.getFriendRelationship(steamIDFriend.handle));
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getFriendRelationship(steamIDFriend.handle);
+		SteamMetrics.end(GetFriendRelationship, start);
+		return FriendRelationship.byOrdinal(result);
 	}
 
 	public PersonaState getFriendPersonaState(SteamID steamIDFriend) {
-		return PersonaState.byOrdinal(SteamFriendsNative.getFriendPersonaState(steamIDFriend.handle));
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getFriendPersonaState(steamIDFriend.handle);
+		SteamMetrics.end(GetFriendPersonaState, start);
+		return PersonaState.byOrdinal(result);
 	}
 
 	public String getFriendPersonaName(SteamID steamIDFriend) {
-		return SteamFriendsNative.getFriendPersonaName(steamIDFriend.handle);
+		long start = SteamMetrics.begin();
+		String result = SteamFriendsNative.getFriendPersonaName(steamIDFriend.handle);
+		SteamMetrics.end(GetFriendPersonaName, start);
+		return result;
+	}
+
+	public PersonaState getFriendPersonaState(long steamIDFriend) {
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getFriendPersonaState(steamIDFriend);
+		SteamMetrics.end(GetFriendPersonaState, start);
+		return PersonaState.byOrdinal(result);
+	}
+
+	public String getFriendPersonaName(long steamIDFriend) {
+		long start = SteamMetrics.begin();
+		String result = SteamFriendsNative.getFriendPersonaName(steamIDFriend);
+		SteamMetrics.end(GetFriendPersonaName, start);
+		return result;
 	}
 
 	public boolean getFriendGamePlayed(SteamID steamIDFriend, FriendGameInfo friendGameInfo) {
-		return SteamFriendsNative.getFriendGamePlayed(steamIDFriend.handle, friendGameInfo);
+		long start = SteamMetrics.begin();
+		boolean result = SteamFriendsNative.getFriendGamePlayed(steamIDFriend.handle, friendGameInfo);
+		SteamMetrics.end(GetFriendGamePlayed, start);
+		return result;
 	}
 
 	public void setInGameVoiceSpeaking(SteamID steamID, boolean speaking) {
+		long start = SteamMetrics.begin();
 		SteamFriendsNative.setInGameVoiceSpeaking(steamID.handle, speaking);
+		SteamMetrics.end(SetInGameVoiceSpeaking, start);
 	}
 
 	public int getSmallFriendAvatar(SteamID steamID) {
-		return SteamFriendsNative.getSmallFriendAvatar(steamID.handle);
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getSmallFriendAvatar(steamID.handle);
+		SteamMetrics.end(GetSmallFriendAvatar, start);
+		return result;
 	}
 
 	public int getMediumFriendAvatar(SteamID steamID) {
-		return SteamFriendsNative.getMediumFriendAvatar(steamID.handle);
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getMediumFriendAvatar(steamID.handle);
+		SteamMetrics.end(GetMediumFriendAvatar, start);
+		return result;
 	}
 
 	public int getLargeFriendAvatar(SteamID steamID) {
-		return SteamFriendsNative.getLargeFriendAvatar(steamID.handle);
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getLargeFriendAvatar(steamID.handle);
+		SteamMetrics.end(GetLargeFriendAvatar, start);
+		return result;
 	}
 
 	public boolean requestUserInformation(SteamID steamID, boolean requireNameOnly) {
-		return SteamFriendsNative.requestUserInformation(steamID.handle, requireNameOnly);
+		long start = SteamMetrics.begin();
+		boolean result = SteamFriendsNative.requestUserInformation(steamID.handle, requireNameOnly);
+		SteamMetrics.end(RequestUserInformation, start);
+		return result;
 	}
 
 	public void activateGameOverlay(OverlayDialog dialog) {
+		long start = SteamMetrics.begin();
 		SteamFriendsNative.activateGameOverlay(dialog.id);
+		SteamMetrics.end(ActivateGameOverlay, start);
 	}
 
 	public void activateGameOverlayToUser(OverlayToUserDialog dialog, SteamID steamID) {
+		long start = SteamMetrics.begin();
 		SteamFriendsNative.activateGameOverlayToUser(dialog.id, steamID.handle);
+		SteamMetrics.end(ActivateGameOverlayToUser, start);
 	}
 
 	public void activateGameOverlayToWebPage(String url, OverlayToWebPageMode mode) {
+		long start = SteamMetrics.begin();
 		SteamFriendsNative.activateGameOverlayToWebPage(url, mode.ordinal());
+		SteamMetrics.end(ActivateGameOverlayToWebPage, start);
 	}
 
 	public void activateGameOverlayToStore(int appID, OverlayToStoreFlag flag) {
+		long start = SteamMetrics.begin();
 		SteamFriendsNative.activateGameOverlayToStore(appID, flag.ordinal());
+		SteamMetrics.end(ActivateGameOverlayToStore, start);
 	}
 
 	public void setPlayedWith(SteamID steamIDUserPlayedWith) {
+		long start = SteamMetrics.begin();
 		SteamFriendsNative.setPlayedWith(steamIDUserPlayedWith.handle);
+		SteamMetrics.end(SetPlayedWith, start);
 	}
 
 	public void activateGameOverlayInviteDialog(SteamID steamIDLobby) {
+		long start = SteamMetrics.begin();
 		SteamFriendsNative.activateGameOverlayInviteDialog(steamIDLobby.handle);
+		SteamMetrics.end(ActivateGameOverlayInviteDialog, start);
 	}
 
 	public boolean setRichPresence(String key, String value) {
-		return SteamFriendsNative.setRichPresence(key, value != null ? value : "");
+		long start = SteamMetrics.begin();
+		boolean result = SteamFriendsNative.setRichPresence(key, value != null ? value : "");
+		SteamMetrics.end(SetRichPresence, start);
+		return result;
 	}
 
 	public void clearRichPresence() {
+		long start = SteamMetrics.begin();
 		SteamFriendsNative.clearRichPresence();
+		SteamMetrics.end(ClearRichPresence, start);
 	}
 
 	public String getFriendRichPresence(SteamID steamIDFriend, String key) {
-		return SteamFriendsNative.getFriendRichPresence(steamIDFriend.handle, key);
+		long start = SteamMetrics.begin();
+		String result = SteamFriendsNative.getFriendRichPresence(steamIDFriend.handle, key);
+		SteamMetrics.end(GetFriendRichPresence, start);
+		return result;
 	}
 
 	public int getFriendRichPresenceKeyCount(SteamID steamIDFriend) {
-		return SteamFriendsNative.getFriendRichPresenceKeyCount(steamIDFriend.handle);
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getFriendRichPresenceKeyCount(steamIDFriend.handle);
+		SteamMetrics.end(GetFriendRichPresenceKeyCount, start);
+		return result;
 	}
 
 	public String getFriendRichPresenceKeyByIndex(SteamID steamIDFriend, int index) {
-		return SteamFriendsNative.getFriendRichPresenceKeyByIndex(steamIDFriend.handle, index);
+		long start = SteamMetrics.begin();
+		String result = SteamFriendsNative.getFriendRichPresenceKeyByIndex(steamIDFriend.handle, index);
+		SteamMetrics.end(GetFriendRichPresenceKeyByIndex, start);
+		return result;
 	}
 
 	public void requestFriendRichPresence(SteamID steamIDFriend) {
+		long start = SteamMetrics.begin();
 		SteamFriendsNative.requestFriendRichPresence(steamIDFriend.handle);
+		SteamMetrics.end(RequestFriendRichPresence, start);
 	}
 
 	public boolean inviteUserToGame(SteamID steamIDFriend, String connectString) {
-		return SteamFriendsNative.inviteUserToGame(steamIDFriend.handle, connectString);
+		long start = SteamMetrics.begin();
+		boolean result = SteamFriendsNative.inviteUserToGame(steamIDFriend.handle, connectString);
+		SteamMetrics.end(InviteUserToGame, start);
+		return result;
 	}
 
 	public int getCoplayFriendCount() {
-		return SteamFriendsNative.getCoplayFriendCount();
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getCoplayFriendCount();
+		SteamMetrics.end(GetCoplayFriendCount, start);
+		return result;
 	}
 
 	public SteamID getCoplayFriend(int index) {
-		return new SteamID(SteamFriendsNative.getCoplayFriend(index));
+		long start = SteamMetrics.begin();
+		long result = SteamFriendsNative.getCoplayFriend(index);
+		SteamMetrics.end(GetCoplayFriend, start);
+		return new SteamID(result);
+	}
+
+	public long getCoplayFriendRaw(int index) {
+		long start = SteamMetrics.begin();
+		long result = SteamFriendsNative.getCoplayFriend(index);
+		SteamMetrics.end(GetCoplayFriendRaw, start);
+		return result;
 	}
 
 	public int getFriendCoplayTime(SteamID steamIDFriend) {
-		return SteamFriendsNative.getFriendCoplayTime(steamIDFriend.handle);
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getFriendCoplayTime(steamIDFriend.handle);
+		SteamMetrics.end(GetFriendCoplayTime, start);
+		return result;
 	}
 
 	public int getFriendCoplayGame(SteamID steamIDFriend) {
-		return SteamFriendsNative.getFriendCoplayGame(steamIDFriend.handle);
+		long start = SteamMetrics.begin();
+		int result = SteamFriendsNative.getFriendCoplayGame(steamIDFriend.handle);
+		SteamMetrics.end(GetFriendCoplayGame, start);
+		return result;
 	}
 
 }
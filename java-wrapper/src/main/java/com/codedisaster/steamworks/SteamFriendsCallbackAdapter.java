@@ -3,6 +3,21 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamFriendsCallbackAdapter extends SteamCallbackAdapter<SteamFriendsCallback> {
 
+	private static final SteamMetrics.Timer OnPersonaStateChange =
+			SteamMetrics.callback("SteamFriendsCallback.onPersonaStateChange");
+	private static final SteamMetrics.Timer OnGameOverlayActivated =
+			SteamMetrics.callback("SteamFriendsCallback.onGameOverlayActivated");
+	private static final SteamMetrics.Timer OnGameLobbyJoinRequested =
+			SteamMetrics.callback("SteamFriendsCallback.onGameLobbyJoinRequested");
+	private static final SteamMetrics.Timer OnAvatarImageLoaded =
+			SteamMetrics.callback("SteamFriendsCallback.onAvatarImageLoaded");
+	private static final SteamMetrics.Timer OnFriendRichPresenceUpdate =
+			SteamMetrics.callback("SteamFriendsCallback.onFriendRichPresenceUpdate");
+	private static final SteamMetrics.Timer OnGameRichPresenceJoinRequested =
+			SteamMetrics.callback("SteamFriendsCallback.onGameRichPresenceJoinRequested");
+	private static final SteamMetrics.Timer OnGameServerChangeRequested =
+			SteamMetrics.callback("SteamFriendsCallback.onGameServerChangeRequested");
+
 	private static final SteamFriends.PersonaChange[] personaChangeValues = SteamFriends.PersonaChange.values();
 
 	SteamFriendsCallbackAdapter(SteamFriendsCallback callback) {
@@ -13,32 +28,67 @@ class SteamFriendsCallbackAdapter extends SteamCallbackAdapter<SteamFriendsCallb
 		SteamID id = new SteamID(steamID);
 		for (SteamFriends.PersonaChange value : personaChangeValues) {
 			if (SteamFriends.PersonaChange.isSet(value, changeFlags)) {
-				callback.onPersonaStateChange(id, value);
+				long start = SteamMetrics.begin();
+				try {
+					callback.onPersonaStateChange(id, value);
+				} finally {
+					SteamMetrics.end(OnPersonaStateChange, start);
+				}
 			}
 		}
 	}
 
 	void onGameOverlayActivated(boolean active, boolean userInitiated, int appID) {
-		callback.onGameOverlayActivated(active, userInitiated, appID);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onGameOverlayActivated(active, userInitiated, appID);
+		} finally {
+			SteamMetrics.end(OnGameOverlayActivated, start);
+		}
 	}
 
 	void onGameLobbyJoinRequested(long steamIDLobby, long steamIDFriend) {
-		callback.onGameLobbyJoinRequested(new SteamID(steamIDLobby), new SteamID(steamIDFriend));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onGameLobbyJoinRequested(new SteamID(steamIDLobby), new SteamID(steamIDFriend));
+		} finally {
+			SteamMetrics.end(OnGameLobbyJoinRequested, start);
+		}
 	}
 
 	void onAvatarImageLoaded(long steamID, int image, int width, int height) {
-		callback.onAvatarImageLoaded(new SteamID(steamID), image, width, height);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onAvatarImageLoaded(new SteamID(steamID), image, width, height);
+		} finally {
+			SteamMetrics.end(OnAvatarImageLoaded, start);
+		}
 	}
 
 	void onFriendRichPresenceUpdate(long steamIDFriend, int appID) {
-		callback.onFriendRichPresenceUpdate(new SteamID(steamIDFriend), appID);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onFriendRichPresenceUpdate(new SteamID(steamIDFriend), appID);
+		} finally {
+			SteamMetrics.end(OnFriendRichPresenceUpdate, start);
+		}
 	}
 
 	void onGameRichPresenceJoinRequested(long steamIDFriend, String connect) {
-		callback.onGameRichPresenceJoinRequested(new SteamID(steamIDFriend), connect);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onGameRichPresenceJoinRequested(new SteamID(steamIDFriend), connect);
+		} finally {
+			SteamMetrics.end(OnGameRichPresenceJoinRequested, start);
+		}
 	}
 
 	void onGameServerChangeRequested(String server, String password) {
-		callback.onGameServerChangeRequested(server, password);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onGameServerChangeRequested(server, password);
+		} finally {
+			SteamMetrics.end(OnGameServerChangeRequested, start);
+		}
 	}
 }
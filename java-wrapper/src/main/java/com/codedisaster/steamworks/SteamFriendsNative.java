@@ -7,6 +7,7 @@ final class SteamFriendsNative {
 	/*JNI
 		#include <steam_api.h>
 		#include "SteamFriendsCallback.h"
+		#include "SteamJavaClasses.h"
 	*/
 
 	static native long createCallback(SteamFriendsCallbackAdapter javaCallback); /*
@@ -50,22 +51,13 @@ final class SteamFriendsNative {
 		FriendGameInfo_t result;
 		bool success = SteamFriends()->GetFriendGamePlayed((uint64) steamIDFriend, &result);
 		if (success) {
-			jclass clazz = env->GetObjectClass(friendGameInfo);
+			const SteamJavaClasses::FriendGameInfo& fields = SteamJavaClasses::friendGameInfo;
 
-			jfieldID field = env->GetFieldID(clazz, "gameID", "J");
-			env->SetLongField(friendGameInfo, field, (jlong) result.m_gameID.ToUint64());
-
-			field = env->GetFieldID(clazz, "gameIP", "I");
-			env->SetIntField(friendGameInfo, field, (jint) result.m_unGameIP);
-
-			field = env->GetFieldID(clazz, "gamePort", "S");
-			env->SetShortField(friendGameInfo, field, (jshort) result.m_usGamePort);
-
-			field = env->GetFieldID(clazz, "queryPort", "S");
-			env->SetShortField(friendGameInfo, field, (jshort) result.m_usQueryPort);
-
-			field = env->GetFieldID(clazz, "steamIDLobby", "J");
-			env->SetLongField(friendGameInfo, field, (jlong) result.m_steamIDLobby.ConvertToUint64());
+			env->SetLongField(friendGameInfo, fields.gameID, (jlong) result.m_gameID.ToUint64());
+			env->SetIntField(friendGameInfo, fields.gameIP, (jint) result.m_unGameIP);
+			env->SetShortField(friendGameInfo, fields.gamePort, (jshort) result.m_usGamePort);
+			env->SetShortField(friendGameInfo, fields.queryPort, (jshort) result.m_usQueryPort);
+			env->SetLongField(friendGameInfo, fields.steamIDLobby, (jlong) result.m_steamIDLobby.ConvertToUint64());
 		}
 		return success;
 	*/
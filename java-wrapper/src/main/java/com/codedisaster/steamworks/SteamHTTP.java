@@ -103,6 +103,62 @@ public class SteamHTTP extends SteamInterface {
 		}
 	}
 
+	public static class RequestCompleted {
+
+		private final SteamHTTPRequestHandle request;
+		private final long contextValue;
+		private final HTTPStatusCode statusCode;
+		private final int bodySize;
+
+		RequestCompleted(SteamHTTPRequestHandle request, long contextValue, HTTPStatusCode statusCode, int bodySize) {
+			this.request = request;
+			this.contextValue = contextValue;
+			this.statusCode = statusCode;
+			this.bodySize = bodySize;
+		}
+
+		public SteamHTTPRequestHandle getRequest() {
+			return request;
+		}
+
+		public long getContextValue() {
+			return contextValue;
+		}
+
+		public HTTPStatusCode getStatusCode() {
+			return statusCode;
+		}
+
+		public int getBodySize() {
+			return bodySize;
+		}
+	}
+
+	private static final SteamMetrics.Timer CreateHTTPRequest = SteamMetrics.nativeCall("SteamHTTP.createHTTPRequest");
+	private static final SteamMetrics.Timer SetHTTPRequestContextValue =
+			SteamMetrics.nativeCall("SteamHTTP.setHTTPRequestContextValue");
+	private static final SteamMetrics.Timer SetHTTPRequestNetworkActivityTimeout =
+			SteamMetrics.nativeCall("SteamHTTP.setHTTPRequestNetworkActivityTimeout");
+	private static final SteamMetrics.Timer SetHTTPRequestHeaderValue =
+			SteamMetrics.nativeCall("SteamHTTP.setHTTPRequestHeaderValue");
+	private static final SteamMetrics.Timer SetHTTPRequestGetOrPostParameter =
+			SteamMetrics.nativeCall("SteamHTTP.setHTTPRequestGetOrPostParameter");
+	private static final SteamMetrics.Timer SendHTTPRequest = SteamMetrics.nativeCall("SteamHTTP.sendHTTPRequest");
+	private static final SteamMetrics.Timer SendHTTPRequestAndStreamResponse =
+			SteamMetrics.nativeCall("SteamHTTP.sendHTTPRequestAndStreamResponse");
+	private static final SteamMetrics.Timer GetHTTPResponseHeaderSize =
+			SteamMetrics.nativeCall("SteamHTTP.getHTTPResponseHeaderSize");
+	private static final SteamMetrics.Timer GetHTTPResponseHeaderValue =
+			SteamMetrics.nativeCall("SteamHTTP.getHTTPResponseHeaderValue");
+	private static final SteamMetrics.Timer GetHTTPResponseBodySize =
+			SteamMetrics.nativeCall("SteamHTTP.getHTTPResponseBodySize");
+	private static final SteamMetrics.Timer GetHTTPResponseBodyData =
+			SteamMetrics.nativeCall("SteamHTTP.getHTTPResponseBodyData");
+	private static final SteamMetrics.Timer GetHTTPStreamingResponseBodyData =
+			SteamMetrics.nativeCall("SteamHTTP.getHTTPStreamingResponseBodyData");
+	private static final SteamMetrics.Timer ReleaseHTTPRequest =
+			SteamMetrics.nativeCall("SteamHTTP.releaseHTTPRequest");
+
 	private final boolean isServer;
 
 	public SteamHTTP(SteamHTTPCallback callback) {
@@ -115,39 +171,88 @@ public class SteamHTTP extends SteamInterface {
 	}
 
 	public SteamHTTPRequestHandle createHTTPRequest(HTTPMethod requestMethod, String absoluteURL) {
-		return new SteamHTTPRequestHandle(SteamHTTPNative.createHTTPRequest(isServer, requestMethod.ordinal(), absoluteURL));
+		long start = SteamMetrics.begin();
+		long result = SteamHTTPNative.createHTTPRequest(isServer, requestMethod.ordinal(), absoluteURL);
+		SteamMetrics.end(CreateHTTPRequest, start);
+		return new SteamHTTPRequestHandle(result);
 	}
 
 	public boolean setHTTPRequestContextValue(SteamHTTPRequestHandle request, long contextValue) {
-		return SteamHTTPNative.setHTTPRequestContextValue(isServer, request.handle, contextValue);
+		long start = SteamMetrics.begin();
+		boolean result = SteamHTTPNative.setHTTPRequestContextValue(isServer, request.handle, contextValue);
+		SteamMetrics.end(SetHTTPRequestContextValue, start);
+		return result;
 	}
 
 	public boolean setHTTPRequestNetworkActivityTimeout(SteamHTTPRequestHandle request, int timeoutSeconds) {
-		return SteamHTTPNative.setHTTPRequestNetworkActivityTimeout(isServer, request.handle, timeoutSeconds);
+		long start = SteamMetrics.begin();
+		boolean result = SteamHTTPNative.setHTTPRequestNetworkActivityTimeout(isServer, request.handle, timeoutSeconds);
+		SteamMetrics.end(SetHTTPRequestNetworkActivityTimeout, start);
+		return result;
 	}
 
 	public boolean setHTTPRequestHeaderValue(SteamHTTPRequestHandle request,
 											 String headerName, String headerValue) {
 
-		return SteamHTTPNative.setHTTPRequestHeaderValue(isServer, request.handle, headerName, headerValue);
+		long start = SteamMetrics.begin();
+		boolean result = SteamHTTPNative.setHTTPRequestHeaderValue(isServer, request.handle, headerName, headerValue);
+		SteamMetrics.end(SetHTTPRequestHeaderValue, start);
+		return result;
 	}
 
 	public boolean setHTTPRequestGetOrPostParameter(SteamHTTPRequestHandle request,
 													String paramName, String paramValue) {
 
-		return SteamHTTPNative.setHTTPRequestGetOrPostParameter(isServer, request.handle, paramName, paramValue);
+		long start = SteamMetrics.begin();
+		boolean result = SteamHTTPNative.setHTTPRequestGetOrPostParameter(
+				isServer, request.handle, paramName, paramValue);
+		SteamMetrics.end(SetHTTPRequestGetOrPostParameter, start);
+		return result;
 	}
 
 	public SteamAPICall sendHTTPRequest(SteamHTTPRequestHandle request) {
-		return new SteamAPICall(SteamHTTPNative.sendHTTPRequest(isServer, callback, request.handle));
+		long start = SteamMetrics.begin();
+		long result = SteamHTTPNative.sendHTTPRequest(isServer, callback, request.handle);
+		SteamMetrics.end(SendHTTPRequest, start);
+		return new SteamAPICall(result);
+	}
+
+	/**
+	 * Same as {@link #sendHTTPRequest(SteamHTTPRequestHandle)}, but returns a future which completes once the
+	 * response body can be read, or with a {@link SteamException} if the request failed. The request must still
+	 * be released by the caller.
+	 */
+	public SteamCallResult<RequestCompleted> sendHTTPRequestAsync(SteamHTTPRequestHandle request) {
+		long start = SteamMetrics.begin();
+		long handle = SteamHTTPNative.sendHTTPRequest(isServer, callback, request.handle);
+		SteamMetrics.end(SendHTTPRequest, start);
+		return SteamCallResults.register(handle, SteamCallbackRouter.HTTPRequestCompleted, true, null);
 	}
 
 	public SteamAPICall sendHTTPRequestAndStreamResponse(SteamHTTPRequestHandle request) {
-		return new SteamAPICall(SteamHTTPNative.sendHTTPRequestAndStreamResponse(isServer, request.handle));
+		long start = SteamMetrics.begin();
+		long result = SteamHTTPNative.sendHTTPRequestAndStreamResponse(isServer, 0, request.handle);
+		SteamMetrics.end(SendHTTPRequestAndStreamResponse, start);
+		return new SteamAPICall(result);
+	}
+
+	/**
+	 * Same as {@link #sendHTTPRequestAndStreamResponse(SteamHTTPRequestHandle)}, but returns a future which
+	 * completes once all data was received, or with a {@link SteamException} if the request failed. The
+	 * request must still be released by the caller.
+	 */
+	public SteamCallResult<RequestCompleted> sendHTTPRequestAndStreamResponseAsync(SteamHTTPRequestHandle request) {
+		long start = SteamMetrics.begin();
+		long handle = SteamHTTPNative.sendHTTPRequestAndStreamResponse(isServer, callback, request.handle);
+		SteamMetrics.end(SendHTTPRequestAndStreamResponse, start);
+		return SteamCallResults.register(handle, SteamCallbackRouter.HTTPRequestCompleted, true, null);
 	}
 
 	public int getHTTPResponseHeaderSize(SteamHTTPRequestHandle request, String headerName) {
-		return SteamHTTPNative.getHTTPResponseHeaderSize(isServer, request.handle, headerName);
+		long start = SteamMetrics.begin();
+		int result = SteamHTTPNative.getHTTPResponseHeaderSize(isServer, request.handle, headerName);
+		SteamMetrics.end(GetHTTPResponseHeaderSize, start);
+		return result;
 	}
 
 	public boolean getHTTPResponseHeaderValue(SteamHTTPRequestHandle request, String headerName,
@@ -157,12 +262,18 @@ public class SteamHTTP extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
-		return SteamHTTPNative.getHTTPResponseHeaderValue(isServer, request.handle, headerName,
+		long start = SteamMetrics.begin();
+		boolean result = SteamHTTPNative.getHTTPResponseHeaderValue(isServer, request.handle, headerName,
 				value, value.position(), value.remaining());
+		SteamMetrics.end(GetHTTPResponseHeaderValue, start);
+		return result;
 	}
 
 	public int getHTTPResponseBodySize(SteamHTTPRequestHandle request) {
-		return SteamHTTPNative.getHTTPResponseBodySize(isServer, request.handle);
+		long start = SteamMetrics.begin();
+		int result = SteamHTTPNative.getHTTPResponseBodySize(isServer, request.handle);
+		SteamMetrics.end(GetHTTPResponseBodySize, start);
+		return result;
 	}
 
 	public boolean getHTTPResponseBodyData(SteamHTTPRequestHandle request, ByteBuffer data) throws SteamException {
@@ -171,7 +282,11 @@ public class SteamHTTP extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
-		return SteamHTTPNative.getHTTPResponseBodyData(isServer, request.handle, data, data.position(), data.remaining());
+		long start = SteamMetrics.begin();
+		boolean result = SteamHTTPNative.getHTTPResponseBodyData(
+				isServer, request.handle, data, data.position(), data.remaining());
+		SteamMetrics.end(GetHTTPResponseBodyData, start);
+		return result;
 	}
 
 	public boolean getHTTPStreamingResponseBodyData(SteamHTTPRequestHandle request, int bodyDataOffset,
@@ -181,12 +296,18 @@ public class SteamHTTP extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
-		return SteamHTTPNative.getHTTPStreamingResponseBodyData(isServer, request.handle, bodyDataOffset,
+		long start = SteamMetrics.begin();
+		boolean result = SteamHTTPNative.getHTTPStreamingResponseBodyData(isServer, request.handle, bodyDataOffset,
 				data, data.position(), data.remaining());
+		SteamMetrics.end(GetHTTPStreamingResponseBodyData, start);
+		return result;
 	}
 
 	public boolean releaseHTTPRequest(SteamHTTPRequestHandle request) {
-		return SteamHTTPNative.releaseHTTPRequest(isServer, request.handle);
+		long start = SteamMetrics.begin();
+		boolean result = SteamHTTPNative.releaseHTTPRequest(isServer, request.handle);
+		SteamMetrics.end(ReleaseHTTPRequest, start);
+		return result;
 	}
 
 }
@@ -3,6 +3,13 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamHTTPCallbackAdapter extends SteamCallbackAdapter<SteamHTTPCallback> {
 
+	private static final SteamMetrics.Timer OnHTTPRequestCompleted =
+			SteamMetrics.callback("SteamHTTPCallback.onHTTPRequestCompleted");
+	private static final SteamMetrics.Timer OnHTTPRequestHeadersReceived =
+			SteamMetrics.callback("SteamHTTPCallback.onHTTPRequestHeadersReceived");
+	private static final SteamMetrics.Timer OnHTTPRequestDataReceived =
+			SteamMetrics.callback("SteamHTTPCallback.onHTTPRequestDataReceived");
+
 	SteamHTTPCallbackAdapter(SteamHTTPCallback callback) {
 		super(callback);
 	}
@@ -10,16 +17,42 @@ class SteamHTTPCallbackAdapter extends SteamCallbackAdapter<SteamHTTPCallback> {
 	void onHTTPRequestCompleted(long request, long contextValue, boolean requestSuccessful,
 								int statusCode, int bodySize) {
 
-		callback.onHTTPRequestCompleted(new SteamHTTPRequestHandle(request), contextValue,
-				requestSuccessful, SteamHTTP.HTTPStatusCode.byValue(statusCode), bodySize);
+		SteamHTTPRequestHandle requestHandle = new SteamHTTPRequestHandle(request);
+		SteamHTTP.HTTPStatusCode status = SteamHTTP.HTTPStatusCode.byValue(statusCode);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onHTTPRequestCompleted(requestHandle, contextValue, requestSuccessful, status, bodySize);
+		} finally {
+			SteamMetrics.end(OnHTTPRequestCompleted, start);
+		}
+
+		SteamCallResult<SteamHTTP.RequestCompleted> call = SteamCallResults.take(SteamCallbackRouter.HTTPRequestCompleted);
+		if (call != null) {
+			if (requestSuccessful) {
+				call.succeed(new SteamHTTP.RequestCompleted(requestHandle, contextValue, status, bodySize));
+			} else {
+				call.fail(new SteamException("HTTP request failed: " + status));
+			}
+		}
 	}
 
 	void onHTTPRequestHeadersReceived(long request, long contextValue) {
-		callback.onHTTPRequestHeadersReceived(new SteamHTTPRequestHandle(request), contextValue);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onHTTPRequestHeadersReceived(new SteamHTTPRequestHandle(request), contextValue);
+		} finally {
+			SteamMetrics.end(OnHTTPRequestHeadersReceived, start);
+		}
 	}
 
 	void onHTTPRequestDataReceived(long request, long contextValue, int offset, int bytesReceived) {
-		callback.onHTTPRequestDataReceived(new SteamHTTPRequestHandle(request), contextValue, offset, bytesReceived);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onHTTPRequestDataReceived(
+					new SteamHTTPRequestHandle(request), contextValue, offset, bytesReceived);
+		} finally {
+			SteamMetrics.end(OnHTTPRequestDataReceived, start);
+		}
 	}
 
 }
@@ -50,16 +50,20 @@ final class SteamHTTPNative {
 		SteamAPICall_t handle;
 		if (http->SendHTTPRequest((HTTPRequestHandle) request, &handle)) {
 			SteamHTTPCallback* cb = (SteamHTTPCallback*) callback;
-			cb->onHTTPRequestCompletedCall.Set(handle, cb, &SteamHTTPCallback::onHTTPRequestCompleted);
+			cb->setCallResult(handle, cb, &SteamHTTPCallback::onHTTPRequestCompleted);
 			return handle;
 		}
 		return 0;
 	*/
 
-	static native long sendHTTPRequestAndStreamResponse(boolean server, long request); /*
+	static native long sendHTTPRequestAndStreamResponse(boolean server, long callback, long request); /*
 		ISteamHTTP* http = server ? SteamGameServerHTTP() : SteamHTTP();
 		SteamAPICall_t handle;
 		if (http->SendHTTPRequestAndStreamResponse((HTTPRequestHandle) request, &handle)) {
+			if (callback != 0) {
+				SteamHTTPCallback* cb = (SteamHTTPCallback*) callback;
+				cb->setCallResult(handle, cb, &SteamHTTPCallback::onHTTPRequestCompleted);
+			}
 			return handle;
 		}
 		return 0;
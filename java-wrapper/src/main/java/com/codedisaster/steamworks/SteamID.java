@@ -1,8 +1,60 @@
 package com.codedisaster.steamworks;
 
+/**
+ * A 64-bit Steam ID. The layout is decoded in Java, the same way as {@code CSteamID} in steamclientpublic.h:
+ * <ul>
+ *   <li>bits 0-31: account ID</li>
+ *   <li>bits 32-51: account instance</li>
+ *   <li>bits 52-55: account type</li>
+ *   <li>bits 56-63: universe</li>
+ * </ul>
+ * The static functions work on raw handles, e.g. those returned by the {@code ...Raw()} functions, and
+ * don't need an instance, nor the native library.
+ */
 public class SteamID extends SteamNativeHandle {
 
-	private static final long InvalidSteamID = getInvalidSteamID();
+	public enum AccountType {
+		Invalid(0),
+		Individual(1),
+		Multiseat(2),
+		GameServer(3),
+		AnonGameServer(4),
+		Pending(5),
+		ContentServer(6),
+		Clan(7),
+		Chat(8),
+		ConsoleUser(9),
+		AnonUser(10);
+
+		private final int value;
+		private static final AccountType[] values = values();
+
+		AccountType(int value) {
+			this.value = value;
+		}
+
+		public int getValue() {
+			return value;
+		}
+
+		static AccountType byValue(int value) {
+			return value >= 0 && value < values.length ? values[value] : Invalid;
+		}
+	}
+
+	/**
+	 * Same value as {@code k_steamIDNil}, so creating an invalid ID doesn't require the native library.
+	 */
+	private static final long InvalidSteamID = 0L;
+
+	private static final int AccountTypeMax = 11;
+	private static final int UniverseInvalid = 0;
+	private static final int UniverseMax = 5;
+
+	private static final int InstanceMask = 0xfffff;
+	private static final int SteamUserWebInstance = 4;
+
+	private static final int ChatInstanceFlagLobby = (InstanceMask + 1) >> 2;
 
 	public SteamID() {
 		super(InvalidSteamID);
@@ -29,7 +81,43 @@ public class SteamID extends SteamNativeHandle {
 	}
 
 	public int getAccountID() {
-		return (int) (handle % (1L << 32));
+		return getAccountID(handle);
+	}
+
+	public int getAccountInstance() {
+		return getAccountInstance(handle);
+	}
+
+	public AccountType getAccountType() {
+		return AccountType.byValue(getAccountTypeValue(handle));
+	}
+
+	public SteamUniverse getUniverse() {
+		return SteamUniverse.byValue(getUniverseValue(handle));
+	}
+
+	public boolean isIndividualAccount() {
+		return isIndividualAccount(handle);
+	}
+
+	public boolean isGameServerAccount() {
+		return isGameServerAccount(handle);
+	}
+
+	public boolean isAnonAccount() {
+		return isAnonAccount(handle);
+	}
+
+	public boolean isClanAccount() {
+		return isClanAccount(handle);
+	}
+
+	public boolean isChatAccount() {
+		return isChatAccount(handle);
+	}
+
+	public boolean isLobby() {
+		return isLobby(handle);
 	}
 
 	/**
@@ -40,18 +128,91 @@ public class SteamID extends SteamNativeHandle {
 		return new SteamID(id);
 	}
 
-	// @off
+	/**
+	 * Same rules as {@code CSteamID::IsValid()}.
+	 */
+	public static boolean isValid(long handle) {
+		int accountType = getAccountTypeValue(handle);
+		if (accountType <= AccountType.Invalid.value || accountType >= AccountTypeMax) {
+			return false;
+		}
+
+		int universe = getUniverseValue(handle);
+		if (universe <= UniverseInvalid || universe >= UniverseMax) {
+			return false;
+		}
 
-	/*JNI
-		#include <steam_api.h>
-	*/
+		int accountID = getAccountID(handle);
 
-	private static native boolean isValid(long handle); /*
-		return CSteamID((uint64) handle).IsValid();
-	*/
+		if (accountType == AccountType.Individual.value) {
+			return accountID != 0 && getAccountInstance(handle) <= SteamUserWebInstance;
+		}
 
-	private static native long getInvalidSteamID(); /*
-		return k_steamIDNil.ConvertToUint64();
-	*/
+		if (accountType == AccountType.Clan.value) {
+			return accountID != 0 && getAccountInstance(handle) == 0;
+		}
+
+		if (accountType == AccountType.GameServer.value) {
+			return accountID != 0;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the 32-bit account ID. Account IDs are unsigned, so values above
+	 * {@link Integer#MAX_VALUE} are returned as negative numbers.
+	 */
+	public static int getAccountID(long handle) {
+		return (int) handle;
+	}
+
+	public static int getAccountInstance(long handle) {
+		return (int) (handle >>> 32) & InstanceMask;
+	}
+
+	/**
+	 * Returns the account type, see {@link AccountType#getValue()}.
+	 */
+	public static int getAccountTypeValue(long handle) {
+		return (int) (handle >>> 52) & 0xf;
+	}
+
+	/**
+	 * Returns the universe, see {@link SteamUniverse}.
+	 */
+	public static int getUniverseValue(long handle) {
+		return (int) (handle >>> 56);
+	}
+
+	public static boolean isIndividualAccount(long handle) {
+		int accountType = getAccountTypeValue(handle);
+		return accountType == AccountType.Individual.value || accountType == AccountType.ConsoleUser.value;
+	}
+
+	public static boolean isGameServerAccount(long handle) {
+		int accountType = getAccountTypeValue(handle);
+		return accountType == AccountType.GameServer.value || accountType == AccountType.AnonGameServer.value;
+	}
+
+	public static boolean isAnonAccount(long handle) {
+		int accountType = getAccountTypeValue(handle);
+		return accountType == AccountType.AnonUser.value || accountType == AccountType.AnonGameServer.value;
+	}
+
+	public static boolean isClanAccount(long handle) {
+		return getAccountTypeValue(handle) == AccountType.Clan.value;
+	}
+
+	public static boolean isChatAccount(long handle) {
+		return getAccountTypeValue(handle) == AccountType.Chat.value;
+	}
+
+	/**
+	 * Returns true if this is the ID of a matchmaking lobby, a chat account with the lobby instance flag.
+	 */
+	public static boolean isLobby(long handle) {
+		return isChatAccount(handle) && (getAccountInstance(handle) & ChatInstanceFlagLobby) != 0;
+	}
 
 }
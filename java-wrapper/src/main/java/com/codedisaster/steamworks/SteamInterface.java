@@ -19,7 +19,7 @@ abstract class SteamInterface {
 	}
 
 	public void dispose() {
-		deleteCallback(callback);
+		SteamAPI.getBackend().deleteCallback(callback);
 	}
 
 	void checkBuffer(Buffer buffer) throws SteamException {
@@ -48,8 +48,14 @@ abstract class SteamInterface {
 		#include "SteamCallbackAdapter.h"
 	*/
 
-	protected static native void deleteCallback(long callback); /*
-		delete (SteamCallbackAdapter*) callback;
+	/**
+	 * Deletes the native callback adapter, and returns the ID of its Java adapter in the callback queue.
+	 */
+	protected static native int deleteCallback(long callback); /*
+		SteamCallbackAdapter* adapter = (SteamCallbackAdapter*) callback;
+		jint adapterID = adapter != nullptr ? adapter->getAdapterID() : 0;
+		delete adapter;
+		return adapterID;
 	*/
 
 }
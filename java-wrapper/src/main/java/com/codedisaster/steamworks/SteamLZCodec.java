@@ -0,0 +1,601 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * A fast LZ77 compressor for messages, in plain Java, which reads and writes direct buffers in place.
+ * <p>
+ * Messages are compressed one by one, in the sequence format of LZ4 blocks: literal runs and matches of at
+ * least four bytes, at most 64 KB back. Small messages, like game state snapshots, repeat little within
+ * themselves, so the codec can be given a dictionary of content common to many messages, see
+ * {@link #trainDictionary(ByteBuffer[], int)}, which matches may also refer to. Both ends must use the same
+ * dictionary.
+ * <p>
+ * Each message starts with a method byte. Messages which don't get smaller are sent as they are, after the
+ * method byte, so the encoded size never exceeds the message size by more than one byte. Compressed messages
+ * store their original size, and the ID of the dictionary if one was used.
+ * <p>
+ * Codecs keep a hash table between calls, and must not be used by more than one thread at a time.
+ */
+public class SteamLZCodec implements SteamMessageCodec {
+
+    /**
+     * Matches can refer to at most this many bytes at the end of the dictionary.
+     */
+    public static final int MaxDictionarySize = 65535;
+
+    private static final int MethodStored = 0;
+    private static final int MethodCompressed = 1;
+    private static final int MethodDictionary = 2;
+
+    private static final int MinMatch = 4;
+    private static final int MaxOffset = 65535;
+
+    // the last bytes of a message are always literals, like in LZ4 blocks
+    private static final int LastLiterals = 5;
+    private static final int MatchSearchLimit = 12;
+
+    private static final int HashLog = 12;
+
+    // the search step grows by one for each 64 bytes without a match
+    private static final int SkipStrength = 6;
+
+    // shorter runs are copied byte by byte, instead of adjusting buffer positions for a bulk copy
+    private static final int BulkCopyThreshold = 16;
+
+    private static final int DictionarySegmentSize = 16;
+    private static final int DictionarySegmentStep = 4;
+
+    /**
+     * Positions of the current message, offset by {@link #base}. Entries below the base are left from
+     * previous messages, so the table doesn't need to be cleared for each message.
+     */
+    private final int[] table = new int[1 << HashLog];
+    private int base = 1;
+
+    private final ByteBuffer dictionary;
+    private final int dictionaryLength;
+    private final int dictionaryID;
+
+    /**
+     * Positions in the dictionary, plus one.
+     */
+    private final int[] dictionaryTable;
+
+    public SteamLZCodec() {
+        dictionary = null;
+        dictionaryLength = 0;
+        dictionaryID = 0;
+        dictionaryTable = null;
+    }
+
+    /**
+     * Creates a codec using the remaining bytes of {@code dictionary}, which are copied. Only the last
+     * {@value #MaxDictionarySize} bytes are used.
+     */
+    public SteamLZCodec(ByteBuffer dictionary) {
+        dictionaryLength = Math.min(dictionary.remaining(), MaxDictionarySize);
+
+        ByteBuffer source = dictionary.duplicate();
+        source.position(source.limit() - dictionaryLength);
+
+        this.dictionary = ByteBuffer.allocateDirect(dictionaryLength);
+        this.dictionary.put(source);
+        this.dictionary.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(this.dictionary);
+        this.dictionary.clear();
+        dictionaryID = (int) crc.getValue();
+
+        // later positions overwrite earlier ones, since they are closer to the message
+        dictionaryTable = new int[1 << HashLog];
+        for (int i = 0; i + MinMatch <= dictionaryLength; i++) {
+            dictionaryTable[hash(read32(this.dictionary, i, true))] = i + 1;
+        }
+    }
+
+    /**
+     * Returns the CRC32 of the dictionary, which is stored in each message compressed with it, or 0 if
+     * the codec has no dictionary.
+     */
+    public int getDictionaryID() {
+        return dictionaryID;
+    }
+
+    @Override
+    public int getMaxEncodedSize(int size) {
+        return size + 1;
+    }
+
+    @Override
+    public int encode(ByteBuffer source, ByteBuffer target) throws SteamException {
+        int size = source.remaining();
+        int sourceStart = source.position();
+        int sourceLimit = source.limit();
+        int targetStart = target.position();
+        int targetLimit = target.limit();
+
+        if (target.remaining() < getMaxEncodedSize(size)) {
+            throw new SteamException("Buffer too small, " + target.remaining() + " bytes remaining but "
+                    + getMaxEncodedSize(size) + " required.");
+        }
+
+        int headerSize = dictionary != null ? 9 : 5;
+        int end = -1;
+
+        try {
+            if (size > MatchSearchLimit) {
+                // only keep the compressed message if it's smaller than the stored one
+                end = compress(source, sourceStart, size, target, targetStart + headerSize, targetStart + size);
+            }
+
+            if (end < 0) {
+                target.put(targetStart, (byte) MethodStored);
+                copy(source, sourceStart, target, targetStart + 1, size);
+                end = targetStart + 1 + size;
+            } else {
+                target.put(targetStart, (byte) (dictionary != null ? MethodDictionary : MethodCompressed));
+                writeInt(target, targetStart + 1, size);
+                if (dictionary != null) {
+                    writeInt(target, targetStart + 5, dictionaryID);
+                }
+            }
+        } finally {
+            source.limit(sourceLimit);
+            target.limit(targetLimit);
+        }
+
+        source.position(sourceStart + size);
+        target.position(end);
+
+        return end - targetStart;
+    }
+
+    @Override
+    public int getDecodedSize(ByteBuffer source) throws SteamException {
+        int start = source.position();
+        int encodedSize = source.remaining();
+
+        if (encodedSize < 1) {
+            throw new SteamException("Empty message.");
+        }
+
+        int method = source.get(start);
+
+        if (method == MethodStored) {
+            return encodedSize - 1;
+        }
+
+        if ((method != MethodCompressed && method != MethodDictionary)
+                || encodedSize < (method == MethodDictionary ? 9 : 5)) {
+            throw new SteamException("Not a compressed message, method " + method + ", size " + encodedSize);
+        }
+
+        int size = readInt(source, start + 1);
+        if (size < 0) {
+            throw new SteamException("Corrupt message, size " + size);
+        }
+
+        return size;
+    }
+
+    @Override
+    public int decode(ByteBuffer source, ByteBuffer target) throws SteamException {
+        int size = getDecodedSize(source);
+
+        int sourceStart = source.position();
+        int sourceLimit = source.limit();
+        int targetStart = target.position();
+        int targetLimit = target.limit();
+
+        if (size > target.remaining()) {
+            throw new SteamException("Buffer Overflow, bytes decoded: " + size + " bytes remaining: "
+                    + target.remaining());
+        }
+
+        int method = source.get(sourceStart);
+
+        if (method == MethodDictionary) {
+            int id = readInt(source, sourceStart + 5);
+            if (dictionary == null || id != dictionaryID) {
+                throw new SteamException("Message compressed with unknown dictionary " + Integer.toHexString(id));
+            }
+        }
+
+        try {
+            if (method == MethodStored) {
+                copy(source, sourceStart + 1, target, targetStart, size);
+            } else {
+                int headerSize = method == MethodDictionary ? 9 : 5;
+                decompress(source, sourceStart + headerSize, sourceLimit, target, targetStart, targetStart + size);
+            }
+        } finally {
+            source.limit(sourceLimit);
+            target.limit(targetLimit);
+        }
+
+        source.position(sourceLimit);
+        target.position(targetStart + size);
+
+        return size;
+    }
+
+    /**
+     * Compresses {@code size} bytes at {@code start} of the source into the target, starting at {@code op}.
+     *
+     * @return The end of the compressed message, or -1 if it would exceed {@code outEnd}.
+     */
+    private int compress(ByteBuffer source, int start, int size, ByteBuffer target, int op, int outEnd) {
+        boolean bigEndian = source.order() == ByteOrder.BIG_ENDIAN;
+
+        if (base > Integer.MAX_VALUE - size) {
+            Arrays.fill(table, 0);
+            base = 1;
+        }
+
+        int base = this.base - start;
+        this.base += size;
+
+        int end = start + size;
+        int matchEnd = end - LastLiterals;
+        int searchEnd = end - MatchSearchLimit;
+
+        int ip = start;
+        int anchor = start;
+
+        while (ip < searchEnd) {
+            int sequence = read32(source, ip, bigEndian);
+            int h = hash(sequence);
+
+            int ref = table[h] - base;
+            table[h] = base + ip;
+
+            int offset = 0;
+            int length = 0;
+
+            if (ref >= start && ip - ref <= MaxOffset && read32(source, ref, bigEndian) == sequence) {
+                offset = ip - ref;
+                length = MinMatch + commonLength(source, ref + MinMatch, bigEndian,
+                        source, ip + MinMatch, bigEndian, matchEnd - ip - MinMatch);
+
+            } else if (dictionaryTable != null) {
+                int dictionaryRef = dictionaryTable[h] - 1;
+                int dictionaryOffset = ip - start + dictionaryLength - dictionaryRef;
+
+                if (dictionaryRef >= 0 && dictionaryOffset <= MaxOffset
+                        && read32(dictionary, dictionaryRef, true) == sequence) {
+                    // matches in the dictionary end with it, see decompress()
+                    offset = dictionaryOffset;
+                    length = MinMatch + commonLength(dictionary, dictionaryRef + MinMatch, true,
+                            source, ip + MinMatch, bigEndian,
+                            Math.min(dictionaryLength - dictionaryRef, matchEnd - ip) - MinMatch);
+                }
+            }
+
+            if (length == 0) {
+                ip += 1 + ((ip - anchor) >>> SkipStrength);
+                continue;
+            }
+
+            op = writeSequence(source, anchor, ip - anchor, offset, length, target, op, outEnd);
+            if (op < 0) {
+                return -1;
+            }
+
+            ip += length;
+            anchor = ip;
+
+            if (ip < searchEnd) {
+                table[hash(read32(source, ip - 2, bigEndian))] = base + ip - 2;
+            }
+        }
+
+        return writeLiterals(source, anchor, end - anchor, target, op, outEnd);
+    }
+
+    private void decompress(ByteBuffer source, int ip, int end,
+                            ByteBuffer target, int outStart, int outEnd) throws SteamException {
+        int op = outStart;
+
+        while (true) {
+            if (ip >= end) {
+                throw corrupt(op - outStart);
+            }
+
+            int token = source.get(ip++) & 0xff;
+
+            int literalLength = token >>> 4;
+            if (literalLength == 15) {
+                int b;
+                do {
+                    if (ip >= end) {
+                        throw corrupt(op - outStart);
+                    }
+                    b = source.get(ip++) & 0xff;
+                    literalLength += b;
+                } while (b == 255);
+            }
+
+            if (literalLength > end - ip || literalLength > outEnd - op) {
+                throw corrupt(op - outStart);
+            }
+
+            copy(source, ip, target, op, literalLength);
+            ip += literalLength;
+            op += literalLength;
+
+            if (ip == end) {
+                break;
+            }
+
+            if (end - ip < 2) {
+                throw corrupt(op - outStart);
+            }
+
+            int offset = (source.get(ip) & 0xff) | (source.get(ip + 1) & 0xff) << 8;
+            ip += 2;
+
+            int matchLength = token & 15;
+            if (matchLength == 15) {
+                int b;
+                do {
+                    if (ip >= end) {
+                        throw corrupt(op - outStart);
+                    }
+                    b = source.get(ip++) & 0xff;
+                    matchLength += b;
+                } while (b == 255);
+            }
+            matchLength += MinMatch;
+
+            if (offset == 0 || matchLength > outEnd - op) {
+                throw corrupt(op - outStart);
+            }
+
+            int beforeStart = offset - (op - outStart);
+            if (beforeStart > 0) {
+                // the match starts in the dictionary
+                if (beforeStart > dictionaryLength) {
+                    throw corrupt(op - outStart);
+                }
+
+                int count = Math.min(matchLength, beforeStart);
+                copy(dictionary, dictionaryLength - beforeStart, target, op, count);
+                op += count;
+                matchLength -= count;
+            }
+
+            copyMatch(target, op, offset, matchLength);
+            op += matchLength;
+        }
+
+        if (op != outEnd) {
+            throw corrupt(op - outStart);
+        }
+    }
+
+    private static SteamException corrupt(int decoded) {
+        return new SteamException("Corrupt message, after " + decoded + " bytes decoded.");
+    }
+
+    private static int writeSequence(ByteBuffer source, int literals, int literalLength, int offset, int matchLength,
+                                     ByteBuffer target, int op, int outEnd) {
+        int matchCode = matchLength - MinMatch;
+
+        if (op + 1 + lengthBytes(literalLength) + literalLength + 2 + lengthBytes(matchCode) > outEnd) {
+            return -1;
+        }
+
+        target.put(op++, (byte) ((Math.min(literalLength, 15) << 4) | Math.min(matchCode, 15)));
+
+        op = writeLength(target, op, literalLength);
+        copy(source, literals, target, op, literalLength);
+        op += literalLength;
+
+        target.put(op++, (byte) offset);
+        target.put(op++, (byte) (offset >>> 8));
+
+        return writeLength(target, op, matchCode);
+    }
+
+    private static int writeLiterals(ByteBuffer source, int literals, int literalLength,
+                                     ByteBuffer target, int op, int outEnd) {
+        if (op + 1 + lengthBytes(literalLength) + literalLength > outEnd) {
+            return -1;
+        }
+
+        target.put(op++, (byte) (Math.min(literalLength, 15) << 4));
+
+        op = writeLength(target, op, literalLength);
+        copy(source, literals, target, op, literalLength);
+
+        return op + literalLength;
+    }
+
+    private static int lengthBytes(int length) {
+        return length < 15 ? 0 : (length - 15) / 255 + 1;
+    }
+
+    private static int writeLength(ByteBuffer target, int op, int length) {
+        if (length >= 15) {
+            length -= 15;
+            while (length >= 255) {
+                target.put(op++, (byte) 255);
+                length -= 255;
+            }
+            target.put(op++, (byte) length);
+        }
+        return op;
+    }
+
+    /**
+     * Copies a match which may overlap the bytes it's copied to, if the offset is less than its length.
+     */
+    private static void copyMatch(ByteBuffer target, int op, int offset, int length) {
+        int ref = op - offset;
+
+        if (offset >= 8) {
+            for (; length >= 8; length -= 8, op += 8, ref += 8) {
+                target.putLong(op, target.getLong(ref));
+            }
+        }
+
+        while (length-- > 0) {
+            target.put(op++, target.get(ref++));
+        }
+    }
+
+    /**
+     * Copies bytes between buffers with absolute indices. Longer runs are copied in bulk, which leaves the
+     * limits of both buffers at their capacity, to be restored by the caller.
+     */
+    private static void copy(ByteBuffer source, int sourceIndex, ByteBuffer target, int targetIndex, int length) {
+        if (length < BulkCopyThreshold) {
+            int i = 0;
+            if (length >= 8 && source.order() == target.order()) {
+                target.putLong(targetIndex, source.getLong(sourceIndex));
+                i = 8;
+            }
+            for (; i < length; i++) {
+                target.put(targetIndex + i, source.get(sourceIndex + i));
+            }
+            return;
+        }
+
+        source.limit(sourceIndex + length).position(sourceIndex);
+        target.limit(targetIndex + length).position(targetIndex);
+        target.put(source);
+
+        source.limit(source.capacity());
+        target.limit(target.capacity());
+    }
+
+    /**
+     * Returns the number of equal bytes, up to {@code max}, comparing eight bytes at a time.
+     */
+    private static int commonLength(ByteBuffer a, int aIndex, boolean aBigEndian,
+                                    ByteBuffer b, int bIndex, boolean bBigEndian, int max) {
+        int length = 0;
+
+        while (length <= max - 8) {
+            long diff = read64(a, aIndex + length, aBigEndian) ^ read64(b, bIndex + length, bBigEndian);
+            if (diff != 0) {
+                return length + (Long.numberOfLeadingZeros(diff) >>> 3);
+            }
+            length += 8;
+        }
+
+        while (length < max && a.get(aIndex + length) == b.get(bIndex + length)) {
+            length++;
+        }
+
+        return length;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HashLog);
+    }
+
+    /**
+     * Reads four bytes in big endian order, whatever the byte order of the buffer.
+     */
+    private static int read32(ByteBuffer buffer, int index, boolean bigEndian) {
+        int value = buffer.getInt(index);
+        return bigEndian ? value : Integer.reverseBytes(value);
+    }
+
+    private static long read64(ByteBuffer buffer, int index, boolean bigEndian) {
+        long value = buffer.getLong(index);
+        return bigEndian ? value : Long.reverseBytes(value);
+    }
+
+    private static int readInt(ByteBuffer buffer, int index) {
+        return (buffer.get(index) & 0xff) | (buffer.get(index + 1) & 0xff) << 8
+                | (buffer.get(index + 2) & 0xff) << 16 | (buffer.get(index + 3) & 0xff) << 24;
+    }
+
+    private static void writeInt(ByteBuffer buffer, int index, int value) {
+        buffer.put(index, (byte) value);
+        buffer.put(index + 1, (byte) (value >>> 8));
+        buffer.put(index + 2, (byte) (value >>> 16));
+        buffer.put(index + 3, (byte) (value >>> 24));
+    }
+
+    private static final class Segment {
+
+        final ByteBuffer sample;
+        final int offset;
+        int count = 1;
+
+        Segment(ByteBuffer sample, int offset) {
+            this.sample = sample;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Builds a dictionary from sample messages, e.g. snapshots recorded from a play session. Segments of
+     * {@value #DictionarySegmentSize} bytes which occur repeatedly are packed into the dictionary, with the
+     * most frequent ones at its end, where offsets are shortest. The positions of the samples aren't changed.
+     *
+     * @param size The maximum size of the dictionary, at most {@value #MaxDictionarySize} bytes.
+     *
+     * @return A direct buffer with the dictionary between its position and limit, which may be shorter than
+     *         {@code size} if the samples didn't repeat enough.
+     */
+    public static ByteBuffer trainDictionary(ByteBuffer[] samples, int size) {
+        size = Math.min(size, MaxDictionarySize);
+
+        Map<Long, Segment> segments = new HashMap<>();
+        List<Segment> order = new ArrayList<>();
+
+        for (ByteBuffer sample : samples) {
+            for (int i = sample.position(); i + DictionarySegmentSize <= sample.limit(); i += DictionarySegmentStep) {
+                // FNV-1a
+                long key = 0xcbf29ce484222325L;
+                for (int j = 0; j < DictionarySegmentSize; j++) {
+                    key = (key ^ (sample.get(i + j) & 0xff)) * 0x100000001b3L;
+                }
+
+                Segment segment = segments.get(key);
+                if (segment == null) {
+                    segment = new Segment(sample, i);
+                    segments.put(key, segment);
+                    order.add(segment);
+                } else {
+                    segment.count++;
+                }
+            }
+        }
+
+        order.removeIf(segment -> segment.count < 2);
+        // stable, so segments seen first win ties
+        order.sort((a, b) -> Integer.compare(b.count, a.count));
+
+        ByteBuffer dictionary = ByteBuffer.allocateDirect(size);
+
+        int position = size;
+        for (Segment segment : order) {
+            if (position < DictionarySegmentSize) {
+                break;
+            }
+            position -= DictionarySegmentSize;
+            for (int j = 0; j < DictionarySegmentSize; j++) {
+                dictionary.put(position + j, segment.sample.get(segment.offset + j));
+            }
+        }
+
+        dictionary.position(position);
+
+        return dictionary;
+    }
+
+}
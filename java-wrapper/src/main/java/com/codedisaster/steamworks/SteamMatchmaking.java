@@ -74,6 +74,7 @@ public class SteamMatchmaking extends SteamInterface {
 		Banned(0x0010);
 
 		private final int bits;
+		static final ChatMemberStateChange[] values = values();
 
 		ChatMemberStateChange(int bits) {
 			this.bits = bits;
@@ -119,8 +120,8 @@ public class SteamMatchmaking extends SteamInterface {
 
 	public static class ChatEntry {
 
-		private long steamIDUser;
-		private int chatEntryType;
+		long steamIDUser;
+		int chatEntryType;
 
 		public SteamID getSteamIDUser() {
 			return new SteamID(steamIDUser);
@@ -131,126 +132,343 @@ public class SteamMatchmaking extends SteamInterface {
 		}
 	}
 
+	private static final SteamMetrics.Timer GetFavoriteGameCount =
+			SteamMetrics.nativeCall("SteamMatchmaking.getFavoriteGameCount");
+	private static final SteamMetrics.Timer GetFavoriteGame =
+			SteamMetrics.nativeCall("SteamMatchmaking.getFavoriteGame");
+	private static final SteamMetrics.Timer AddFavoriteGame =
+			SteamMetrics.nativeCall("SteamMatchmaking.addFavoriteGame");
+	private static final SteamMetrics.Timer RemoveFavoriteGame =
+			SteamMetrics.nativeCall("SteamMatchmaking.removeFavoriteGame");
+	private static final SteamMetrics.Timer RequestLobbyList =
+			SteamMetrics.nativeCall("SteamMatchmaking.requestLobbyList");
+	private static final SteamMetrics.Timer AddRequestLobbyListStringFilter =
+			SteamMetrics.nativeCall("SteamMatchmaking.addRequestLobbyListStringFilter");
+	private static final SteamMetrics.Timer AddRequestLobbyListNumericalFilter =
+			SteamMetrics.nativeCall("SteamMatchmaking.addRequestLobbyListNumericalFilter");
+	private static final SteamMetrics.Timer AddRequestLobbyListNearValueFilter =
+			SteamMetrics.nativeCall("SteamMatchmaking.addRequestLobbyListNearValueFilter");
+	private static final SteamMetrics.Timer AddRequestLobbyListFilterSlotsAvailable =
+			SteamMetrics.nativeCall("SteamMatchmaking.addRequestLobbyListFilterSlotsAvailable");
+	private static final SteamMetrics.Timer AddRequestLobbyListDistanceFilter =
+			SteamMetrics.nativeCall("SteamMatchmaking.addRequestLobbyListDistanceFilter");
+	private static final SteamMetrics.Timer AddRequestLobbyListResultCountFilter =
+			SteamMetrics.nativeCall("SteamMatchmaking.addRequestLobbyListResultCountFilter");
+	private static final SteamMetrics.Timer AddRequestLobbyListCompatibleMembersFilter =
+			SteamMetrics.nativeCall("SteamMatchmaking.addRequestLobbyListCompatibleMembersFilter");
+	private static final SteamMetrics.Timer GetLobbyByIndex =
+			SteamMetrics.nativeCall("SteamMatchmaking.getLobbyByIndex");
+	private static final SteamMetrics.Timer CreateLobby = SteamMetrics.nativeCall("SteamMatchmaking.createLobby");
+	private static final SteamMetrics.Timer JoinLobby = SteamMetrics.nativeCall("SteamMatchmaking.joinLobby");
+	private static final SteamMetrics.Timer LeaveLobby = SteamMetrics.nativeCall("SteamMatchmaking.leaveLobby");
+	private static final SteamMetrics.Timer InviteUserToLobby =
+			SteamMetrics.nativeCall("SteamMatchmaking.inviteUserToLobby");
+	private static final SteamMetrics.Timer GetNumLobbyMembers =
+			SteamMetrics.nativeCall("SteamMatchmaking.getNumLobbyMembers");
+	private static final SteamMetrics.Timer GetLobbyMemberByIndex =
+			SteamMetrics.nativeCall("SteamMatchmaking.getLobbyMemberByIndex");
+	private static final SteamMetrics.Timer GetLobbyData = SteamMetrics.nativeCall("SteamMatchmaking.getLobbyData");
+	private static final SteamMetrics.Timer SetLobbyData = SteamMetrics.nativeCall("SteamMatchmaking.setLobbyData");
+	private static final SteamMetrics.Timer GetLobbyMemberData =
+			SteamMetrics.nativeCall("SteamMatchmaking.getLobbyMemberData");
+	private static final SteamMetrics.Timer SetLobbyMemberData =
+			SteamMetrics.nativeCall("SteamMatchmaking.setLobbyMemberData");
+	private static final SteamMetrics.Timer GetLobbyDataCount =
+			SteamMetrics.nativeCall("SteamMatchmaking.getLobbyDataCount");
+	private static final SteamMetrics.Timer GetLobbyDataByIndex =
+			SteamMetrics.nativeCall("SteamMatchmaking.getLobbyDataByIndex");
+	private static final SteamMetrics.Timer DeleteLobbyData =
+			SteamMetrics.nativeCall("SteamMatchmaking.deleteLobbyData");
+	private static final SteamMetrics.Timer SendLobbyChatMsg =
+			SteamMetrics.nativeCall("SteamMatchmaking.sendLobbyChatMsg");
+	private static final SteamMetrics.Timer GetLobbyChatEntry =
+			SteamMetrics.nativeCall("SteamMatchmaking.getLobbyChatEntry");
+	private static final SteamMetrics.Timer RequestLobbyData =
+			SteamMetrics.nativeCall("SteamMatchmaking.requestLobbyData");
+	private static final SteamMetrics.Timer SetLobbyGameServer =
+			SteamMetrics.nativeCall("SteamMatchmaking.setLobbyGameServer");
+	private static final SteamMetrics.Timer GetLobbyGameServer =
+			SteamMetrics.nativeCall("SteamMatchmaking.getLobbyGameServer");
+	private static final SteamMetrics.Timer SetLobbyMemberLimit =
+			SteamMetrics.nativeCall("SteamMatchmaking.setLobbyMemberLimit");
+	private static final SteamMetrics.Timer GetLobbyMemberLimit =
+			SteamMetrics.nativeCall("SteamMatchmaking.getLobbyMemberLimit");
+	private static final SteamMetrics.Timer SetLobbyType = SteamMetrics.nativeCall("SteamMatchmaking.setLobbyType");
+	private static final SteamMetrics.Timer SetLobbyJoinable =
+			SteamMetrics.nativeCall("SteamMatchmaking.setLobbyJoinable");
+	private static final SteamMetrics.Timer GetLobbyOwner = SteamMetrics.nativeCall("SteamMatchmaking.getLobbyOwner");
+	private static final SteamMetrics.Timer SetLobbyOwner = SteamMetrics.nativeCall("SteamMatchmaking.setLobbyOwner");
+	private static final SteamMetrics.Timer SetLinkedLobby = SteamMetrics.nativeCall("SteamMatchmaking.setLinkedLobby");
+
+	private final SteamMatchmakingBackend backend =
+			SteamAPI.getBackend().matchmaking;
+
 	public SteamMatchmaking(SteamMatchmakingCallback callback) {
-		super(SteamMatchmakingNative.createCallback(new SteamMatchmakingCallbackAdapter(callback)));
+		super(SteamAPI.getBackend().matchmaking.createCallback(new SteamMatchmakingCallbackAdapter(callback)));
 	}
 
 	public int getFavoriteGameCount() {
-		return SteamMatchmakingNative.getFavoriteGameCount();
+		long start = SteamMetrics.begin();
+		int result = backend.getFavoriteGameCount();
+		SteamMetrics.end(GetFavoriteGameCount, start);
+		return result;
 	}
 
 	public boolean getFavoriteGame(int game, int[] appID, int[] ip, short[] connPort,
 								   short[] queryPort, int[] flags, int[] lastPlayedOnServer) {
-		return SteamMatchmakingNative.getFavoriteGame(game, appID, ip, connPort, queryPort, flags, lastPlayedOnServer);
+		long start = SteamMetrics.begin();
+		boolean result = backend.getFavoriteGame(game, appID, ip, connPort, queryPort, flags, lastPlayedOnServer);
+		SteamMetrics.end(GetFavoriteGame, start);
+		return result;
 	}
 
 	public int addFavoriteGame(int appID, int ip, short connPort, short queryPort, int flags, int lastPlayedOnServer) {
-		return SteamMatchmakingNative.addFavoriteGame(appID, ip, connPort, queryPort, flags, lastPlayedOnServer);
+		long start = SteamMetrics.begin();
+		int result = backend.addFavoriteGame(appID, ip, connPort, queryPort, flags, lastPlayedOnServer);
+		SteamMetrics.end(AddFavoriteGame, start);
+		return result;
 	}
 
 	public boolean removeFavoriteGame(int appID, int ip, short connPort, short queryPort, int flags) {
-		return SteamMatchmakingNative.removeFavoriteGame(appID, ip, connPort, queryPort, flags);
+		long start = SteamMetrics.begin();
+		boolean result = backend.removeFavoriteGame(appID, ip, connPort, queryPort, flags);
+		SteamMetrics.end(RemoveFavoriteGame, start);
+		return result;
 	}
 
 	public SteamAPICall requestLobbyList() {
-		return new SteamAPICall(SteamMatchmakingNative.requestLobbyList(callback));
+		long start = SteamMetrics.begin();
+		long handle = backend.requestLobbyList(callback);
+		SteamMetrics.end(RequestLobbyList, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #requestLobbyList()}, but returns a future which completes with the number of lobbies
+	 * found, which can then be queried with {@link #getLobbyByIndex(int)}.
+	 */
+	public SteamCallResult<Integer> requestLobbyListAsync() {
+		return SteamCallResults.register(requestLobbyList().handle, SteamCallbackRouter.LobbyMatchList,
+				SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public void addRequestLobbyListStringFilter(String keyToMatch,
 												String valueToMatch,
 												LobbyComparison comparisonType) {
-		SteamMatchmakingNative.addRequestLobbyListStringFilter(keyToMatch, valueToMatch, comparisonType.value);
+		long start = SteamMetrics.begin();
+		backend.addRequestLobbyListStringFilter(keyToMatch, valueToMatch, comparisonType.value);
+		SteamMetrics.end(AddRequestLobbyListStringFilter, start);
 	}
 
 	public void addRequestLobbyListNumericalFilter(String keyToMatch,
 												   int valueToMatch,
 												   LobbyComparison comparisonType) {
-		SteamMatchmakingNative.addRequestLobbyListNumericalFilter(keyToMatch, valueToMatch, comparisonType.value);
+		long start = SteamMetrics.begin();
+		backend.addRequestLobbyListNumericalFilter(keyToMatch, valueToMatch, comparisonType.value);
+		SteamMetrics.end(AddRequestLobbyListNumericalFilter, start);
 	}
 
 	public void addRequestLobbyListNearValueFilter(String keyToMatch, int valueToBeCloseTo) {
-		SteamMatchmakingNative.addRequestLobbyListNearValueFilter(keyToMatch, valueToBeCloseTo);
+		long start = SteamMetrics.begin();
+		backend.addRequestLobbyListNearValueFilter(keyToMatch, valueToBeCloseTo);
+		SteamMetrics.end(AddRequestLobbyListNearValueFilter, start);
 	}
 
 	public void addRequestLobbyListFilterSlotsAvailable(int slotsAvailable) {
-		SteamMatchmakingNative.addRequestLobbyListFilterSlotsAvailable(slotsAvailable);
+		long start = SteamMetrics.begin();
+		backend.addRequestLobbyListFilterSlotsAvailable(slotsAvailable);
+		SteamMetrics.end(AddRequestLobbyListFilterSlotsAvailable, start);
 	}
 
 	public void addRequestLobbyListDistanceFilter(LobbyDistanceFilter lobbyDistanceFilter) {
-		SteamMatchmakingNative.addRequestLobbyListDistanceFilter(lobbyDistanceFilter.ordinal());
+		long start = SteamMetrics.begin();
+		backend.addRequestLobbyListDistanceFilter(lobbyDistanceFilter.ordinal());
+		SteamMetrics.end(AddRequestLobbyListDistanceFilter, start);
 	}
 
 	public void addRequestLobbyListResultCountFilter(int maxResults) {
-		SteamMatchmakingNative.addRequestLobbyListResultCountFilter(maxResults);
+		long start = SteamMetrics.begin();
+		backend.addRequestLobbyListResultCountFilter(maxResults);
+		SteamMetrics.end(AddRequestLobbyListResultCountFilter, start);
 	}
 
 	public void addRequestLobbyListCompatibleMembersFilter(SteamID steamIDLobby) {
-		SteamMatchmakingNative.addRequestLobbyListCompatibleMembersFilter(steamIDLobby.handle);
+		long start = SteamMetrics.begin();
+		backend.addRequestLobbyListCompatibleMembersFilter(steamIDLobby.handle);
+		SteamMetrics.end(AddRequestLobbyListCompatibleMembersFilter, start);
 	}
 
 	public SteamID getLobbyByIndex(int lobby) {
-		return new SteamID(SteamMatchmakingNative.getLobbyByIndex(lobby));
+		long start = SteamMetrics.begin();
+		long result = backend.getLobbyByIndex(lobby);
+		SteamMetrics.end(GetLobbyByIndex, start);
+		return new SteamID(result);
+	}
+
+	/**
+	 * Same as {@link #getLobbyByIndex(int)}, but returns the raw lobby handle instead of a new {@link SteamID}.
+	 */
+	public long getLobbyByIndexRaw(int lobby) {
+		long start = SteamMetrics.begin();
+		long result = backend.getLobbyByIndex(lobby);
+		SteamMetrics.end(GetLobbyByIndex, start);
+		return result;
 	}
 
 	public SteamAPICall createLobby(LobbyType lobbyType, int maxMembers) {
-		return new SteamAPICall(SteamMatchmakingNative.createLobby(callback, lobbyType.ordinal(), maxMembers));
+		long start = SteamMetrics.begin();
+		long handle = backend.createLobby(callback, lobbyType.ordinal(), maxMembers);
+		SteamMetrics.end(CreateLobby, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #createLobby(LobbyType, int)}, but returns a future which completes with the ID of the new
+	 * lobby, or with a {@link SteamException} if it couldn't be created.
+	 */
+	public SteamCallResult<SteamID> createLobbyAsync(LobbyType lobbyType, int maxMembers) {
+		long start = SteamMetrics.begin();
+		long handle = backend.createLobby(callback, lobbyType.ordinal(), maxMembers);
+		SteamMetrics.end(CreateLobby, start);
+
+		return SteamCallResults.register(handle, SteamCallbackRouter.LobbyCreated,
+				SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall joinLobby(SteamID steamIDLobby) {
-		return new SteamAPICall(SteamMatchmakingNative.joinLobby(callback, steamIDLobby.handle));
+		long start = SteamMetrics.begin();
+		long handle = backend.joinLobby(callback, steamIDLobby.handle);
+		SteamMetrics.end(JoinLobby, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #joinLobby(SteamID)}, but returns a future which completes with the ID of the lobby once
+	 * it was entered, or with a {@link SteamException} if it couldn't be entered.
+	 */
+	public SteamCallResult<SteamID> joinLobbyAsync(SteamID steamIDLobby) {
+		return SteamCallResults.register(joinLobby(steamIDLobby).handle, SteamCallbackRouter.LobbyEnter,
+				SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public void leaveLobby(SteamID steamIDLobby) {
-		SteamMatchmakingNative.leaveLobby(steamIDLobby.handle);
+		long start = SteamMetrics.begin();
+		backend.leaveLobby(steamIDLobby.handle);
+		SteamMetrics.end(LeaveLobby, start);
 	}
 
 	public boolean inviteUserToLobby(SteamID steamIDLobby, SteamID steamIDInvitee) {
-		return SteamMatchmakingNative.inviteUserToLobby(steamIDLobby.handle, steamIDInvitee.handle);
+		long start = SteamMetrics.begin();
+		boolean result = backend.inviteUserToLobby(steamIDLobby.handle, steamIDInvitee.handle);
+		SteamMetrics.end(InviteUserToLobby, start);
+		return result;
 	}
 
 	public int getNumLobbyMembers(SteamID steamIDLobby) {
-		return SteamMatchmakingNative.getNumLobbyMembers(steamIDLobby.handle);
+		long start = SteamMetrics.begin();
+		int result = backend.getNumLobbyMembers(steamIDLobby.handle);
+		SteamMetrics.end(GetNumLobbyMembers, start);
+		return result;
+	}
+
+	public int getNumLobbyMembers(long steamIDLobby) {
+		long start = SteamMetrics.begin();
+		int result = backend.getNumLobbyMembers(steamIDLobby);
+		SteamMetrics.end(GetNumLobbyMembers, start);
+		return result;
 	}
 
 	public SteamID getLobbyMemberByIndex(SteamID steamIDLobby, int memberIndex) {
-		return new SteamID(SteamMatchmakingNative.getLobbyMemberByIndex(steamIDLobby.handle, memberIndex));
+		long start = SteamMetrics.begin();
+		long result = backend.getLobbyMemberByIndex(steamIDLobby.handle, memberIndex);
+		SteamMetrics.end(GetLobbyMemberByIndex, start);
+		return new SteamID(result);
+	}
+
+	/**
+	 * Same as {@link #getLobbyMemberByIndex(SteamID, int)}, but works on raw handles, and doesn't allocate.
+	 */
+	public long getLobbyMemberByIndexRaw(long steamIDLobby, int memberIndex) {
+		long start = SteamMetrics.begin();
+		long result = backend.getLobbyMemberByIndex(steamIDLobby, memberIndex);
+		SteamMetrics.end(GetLobbyMemberByIndex, start);
+		return result;
 	}
 
 	public String getLobbyData(SteamID steamIDLobby, String key) {
-		return SteamMatchmakingNative.getLobbyData(steamIDLobby.handle, key);
+		long start = SteamMetrics.begin();
+		String result = backend.getLobbyData(steamIDLobby.handle, key);
+		SteamMetrics.end(GetLobbyData, start);
+		return result;
+	}
+
+	public String getLobbyData(long steamIDLobby, String key) {
+		long start = SteamMetrics.begin();
+		String result = backend.getLobbyData(steamIDLobby, key);
+		SteamMetrics.end(GetLobbyData, start);
+		return result;
 	}
 
 	public boolean setLobbyData(SteamID steamIDLobby, String key, String value) {
-		return SteamMatchmakingNative.setLobbyData(steamIDLobby.handle, key, value);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setLobbyData(steamIDLobby.handle, key, value);
+		SteamMetrics.end(SetLobbyData, start);
+		return result;
 	}
 
 	public boolean setLobbyData(SteamID steamIDLobby, SteamMatchmakingKeyValuePair keyValuePair) {
-		return SteamMatchmakingNative.setLobbyData(steamIDLobby.handle, keyValuePair.getKey(), keyValuePair.getValue());
+		long start = SteamMetrics.begin();
+		boolean result = backend.setLobbyData(steamIDLobby.handle, keyValuePair.getKey(), keyValuePair.getValue());
+		SteamMetrics.end(SetLobbyData, start);
+		return result;
 	}
 
 	public String getLobbyMemberData(SteamID steamIDLobby, SteamID steamIDUser, String key) {
-		return SteamMatchmakingNative.getLobbyMemberData(steamIDLobby.handle, steamIDUser.handle, key);
+		long start = SteamMetrics.begin();
+		String result = backend.getLobbyMemberData(steamIDLobby.handle, steamIDUser.handle, key);
+		SteamMetrics.end(GetLobbyMemberData, start);
+		return result;
+	}
+
+	public String getLobbyMemberData(long steamIDLobby, long steamIDUser, String key) {
+		long start = SteamMetrics.begin();
+		String result = backend.getLobbyMemberData(steamIDLobby, steamIDUser, key);
+		SteamMetrics.end(GetLobbyMemberData, start);
+		return result;
 	}
 
 	public void setLobbyMemberData(SteamID steamIDLobby, String key, String value) {
-		SteamMatchmakingNative.setLobbyMemberData(steamIDLobby.handle, key, value);
+		long start = SteamMetrics.begin();
+		backend.setLobbyMemberData(steamIDLobby.handle, key, value);
+		SteamMetrics.end(SetLobbyMemberData, start);
 	}
 
 	public void setLobbyMemberData(SteamID steamIDLobby, SteamMatchmakingKeyValuePair keyValuePair) {
-		SteamMatchmakingNative.setLobbyMemberData(steamIDLobby.handle, keyValuePair.getKey(), keyValuePair.getValue());
+		long start = SteamMetrics.begin();
+		backend.setLobbyMemberData(steamIDLobby.handle, keyValuePair.getKey(), keyValuePair.getValue());
+		SteamMetrics.end(SetLobbyMemberData, start);
 	}
 
 	public int getLobbyDataCount(SteamID steamIDLobby) {
-		return SteamMatchmakingNative.getLobbyDataCount(steamIDLobby.handle);
+		long start = SteamMetrics.begin();
+		int result = backend.getLobbyDataCount(steamIDLobby.handle);
+		SteamMetrics.end(GetLobbyDataCount, start);
+		return result;
 	}
 
 	public boolean getLobbyDataByIndex(SteamID steamIDLobby, int lobbyDataIndex,
 									   SteamMatchmakingKeyValuePair keyValuePair) {
-		return SteamMatchmakingNative.getLobbyDataByIndex(steamIDLobby.handle, lobbyDataIndex, keyValuePair);
+		long start = SteamMetrics.begin();
+		boolean result = backend.getLobbyDataByIndex(steamIDLobby.handle, lobbyDataIndex, keyValuePair);
+		SteamMetrics.end(GetLobbyDataByIndex, start);
+		return result;
 	}
 
 	public boolean deleteLobbyData(SteamID steamIDLobby, String key) {
-		return SteamMatchmakingNative.deleteLobbyData(steamIDLobby.handle, key);
+		long start = SteamMetrics.begin();
+		boolean result = backend.deleteLobbyData(steamIDLobby.handle, key);
+		SteamMetrics.end(DeleteLobbyData, start);
+		return result;
 	}
 
 	/**
@@ -262,11 +480,17 @@ public class SteamMatchmaking extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
-		return SteamMatchmakingNative.sendLobbyChatMsg(steamIDLobby.handle, data, data.position(), data.remaining());
+		long start = SteamMetrics.begin();
+		boolean result = backend.sendLobbyChatMsg(steamIDLobby.handle, data, data.position(), data.remaining());
+		SteamMetrics.end(SendLobbyChatMsg, start);
+		return result;
 	}
 
 	public boolean sendLobbyChatMsg(SteamID steamIDLobby, String data) {
-		return SteamMatchmakingNative.sendLobbyChatMsg(steamIDLobby.handle, data);
+		long start = SteamMetrics.begin();
+		boolean result = backend.sendLobbyChatMsg(steamIDLobby.handle, data);
+		SteamMetrics.end(SendLobbyChatMsg, start);
+		return result;
 	}
 
 	/**
@@ -280,24 +504,35 @@ public class SteamMatchmaking extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
-		return SteamMatchmakingNative.getLobbyChatEntry(steamIDLobby.handle, chatID, chatEntry,
+		long start = SteamMetrics.begin();
+		int result = backend.getLobbyChatEntry(steamIDLobby.handle, chatID, chatEntry,
 				dest, dest.position(), dest.remaining());
+		SteamMetrics.end(GetLobbyChatEntry, start);
+		return result;
 	}
 
 	public boolean requestLobbyData(SteamID steamIDLobby) {
-		return SteamMatchmakingNative.requestLobbyData(steamIDLobby.handle);
+		long start = SteamMetrics.begin();
+		boolean result = backend.requestLobbyData(steamIDLobby.handle);
+		SteamMetrics.end(RequestLobbyData, start);
+		return result;
 	}
 
 	public void setLobbyGameServer(SteamID steamIDLobby, int gameServerIP,
 								   short gameServerPort, SteamID steamIDGameServer) {
-		SteamMatchmakingNative.setLobbyGameServer(steamIDLobby.handle, gameServerIP, gameServerPort, steamIDGameServer.handle);
+		long start = SteamMetrics.begin();
+		backend.setLobbyGameServer(steamIDLobby.handle, gameServerIP, gameServerPort, steamIDGameServer.handle);
+		SteamMetrics.end(SetLobbyGameServer, start);
 	}
 
 	public boolean getLobbyGameServer(SteamID steamIDLobby, int[] gameServerIP,
 									  short[] gameServerPort, SteamID steamIDGameServer) {
 		long[] id = new long[1];
 
-		if (SteamMatchmakingNative.getLobbyGameServer(steamIDLobby.handle, gameServerIP, gameServerPort, id)) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.getLobbyGameServer(steamIDLobby.handle, gameServerIP, gameServerPort, id);
+		SteamMetrics.end(GetLobbyGameServer, start);
+		if (result) {
 			steamIDGameServer.handle = id[0];
 			return true;
 		}
@@ -306,31 +541,62 @@ public class SteamMatchmaking extends SteamInterface {
 	}
 
 	public boolean setLobbyMemberLimit(SteamID steamIDLobby, int maxMembers) {
-		return SteamMatchmakingNative.setLobbyMemberLimit(steamIDLobby.handle, maxMembers);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setLobbyMemberLimit(steamIDLobby.handle, maxMembers);
+		SteamMetrics.end(SetLobbyMemberLimit, start);
+		return result;
 	}
 
 	public int getLobbyMemberLimit(SteamID steamIDLobby) {
-		return SteamMatchmakingNative.getLobbyMemberLimit(steamIDLobby.handle);
+		long start = SteamMetrics.begin();
+		int result = backend.getLobbyMemberLimit(steamIDLobby.handle);
+		SteamMetrics.end(GetLobbyMemberLimit, start);
+		return result;
 	}
 
 	public boolean setLobbyType(SteamID steamIDLobby, LobbyType lobbyType) {
-		return SteamMatchmakingNative.setLobbyType(steamIDLobby.handle, lobbyType.ordinal());
+		long start = SteamMetrics.begin();
+		boolean result = backend.setLobbyType(steamIDLobby.handle, lobbyType.ordinal());
+		SteamMetrics.end(SetLobbyType, start);
+		return result;
 	}
 
 	public boolean setLobbyJoinable(SteamID steamIDLobby, boolean joinable) {
-		return SteamMatchmakingNative.setLobbyJoinable(steamIDLobby.handle, joinable);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setLobbyJoinable(steamIDLobby.handle, joinable);
+		SteamMetrics.end(SetLobbyJoinable, start);
+		return result;
 	}
 
 	public SteamID getLobbyOwner(SteamID steamIDLobby) {
-		return new SteamID(SteamMatchmakingNative.getLobbyOwner(steamIDLobby.handle));
+		long start = SteamMetrics.begin();
+		long result = backend.getLobbyOwner(steamIDLobby.handle);
+		SteamMetrics.end(GetLobbyOwner, start);
+		return new SteamID(result);
+	}
+
+	/**
+	 * Same as {@link #getLobbyOwner(SteamID)}, but works on raw handles, and doesn't allocate.
+	 */
+	public long getLobbyOwnerRaw(long steamIDLobby) {
+		long start = SteamMetrics.begin();
+		long result = backend.getLobbyOwner(steamIDLobby);
+		SteamMetrics.end(GetLobbyOwner, start);
+		return result;
 	}
 
 	public boolean setLobbyOwner(SteamID steamIDLobby, SteamID steamIDNewOwner) {
-		return SteamMatchmakingNative.setLobbyOwner(steamIDLobby.handle, steamIDNewOwner.handle);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setLobbyOwner(steamIDLobby.handle, steamIDNewOwner.handle);
+		SteamMetrics.end(SetLobbyOwner, start);
+		return result;
 	}
 
 	public boolean setLinkedLobby(SteamID steamIDLobby, SteamID steamIDLobbyDependent) {
-		return SteamMatchmakingNative.setLinkedLobby(steamIDLobby.handle, steamIDLobbyDependent.handle);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setLinkedLobby(steamIDLobby.handle, steamIDLobbyDependent.handle);
+		SteamMetrics.end(SetLinkedLobby, start);
+		return result;
 	}
 
 }
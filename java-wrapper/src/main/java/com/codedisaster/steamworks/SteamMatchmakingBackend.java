@@ -0,0 +1,51 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Calls made by {@link SteamMatchmaking}, implemented by {@link SteamMatchmakingNative} and by the simulated backend.
+ */
+interface SteamMatchmakingBackend {
+
+	long createCallback(SteamMatchmakingCallbackAdapter javaCallback);
+	int getFavoriteGameCount();
+	boolean getFavoriteGame(int game, int[] appID, int[] ip, short[] connPort, short[] queryPort, int[] flags, int[] lastPlayedOnServer);
+	int addFavoriteGame(int appID, int ip, short connPort, short queryPort, int flags, int lastPlayedOnServer);
+	boolean removeFavoriteGame(int appID, int ip, short connPort, short queryPort, int flags);
+	long requestLobbyList(long callback);
+	void addRequestLobbyListStringFilter(String keyToMatch, String valueToMatch, int comparisonType);
+	void addRequestLobbyListNumericalFilter(String keyToMatch, int valueToMatch, int comparisonType);
+	void addRequestLobbyListNearValueFilter(String keyToMatch, int valueToBeCloseTo);
+	void addRequestLobbyListFilterSlotsAvailable(int slotsAvailable);
+	void addRequestLobbyListDistanceFilter(int lobbyDistanceFilter);
+	void addRequestLobbyListResultCountFilter(int maxResults);
+	void addRequestLobbyListCompatibleMembersFilter(long steamIDLobby);
+	long getLobbyByIndex(int lobby);
+	long createLobby(long callback, int lobbyType, int maxMembers);
+	long joinLobby(long callback, long steamIDLobby);
+	void leaveLobby(long steamIDLobby);
+	boolean inviteUserToLobby(long steamIDLobby, long steamIDInvitee);
+	int getNumLobbyMembers(long steamIDLobby);
+	long getLobbyMemberByIndex(long steamIDLobby, int memberIndex);
+	String getLobbyData(long steamIDLobby, String key);
+	boolean setLobbyData(long steamIDLobby, String key, String value);
+	String getLobbyMemberData(long steamIDLobby, long steamIDUser, String key);
+	void setLobbyMemberData(long steamIDLobby, String key, String value);
+	int getLobbyDataCount(long steamIDLobby);
+	boolean getLobbyDataByIndex(long steamIDLobby, int lobbyDataIndex, SteamMatchmakingKeyValuePair keyValuePair);
+	boolean deleteLobbyData(long steamIDLobby, String key);
+	boolean sendLobbyChatMsg(long steamIDLobby, ByteBuffer data, int offset, int size);
+	boolean sendLobbyChatMsg(long steamIDLobby, String message);
+	int getLobbyChatEntry(long steamIDLobby, int chatID, SteamMatchmaking.ChatEntry chatEntry, ByteBuffer buffer, int offset, int size);
+	boolean requestLobbyData(long steamIDLobby);
+	void setLobbyGameServer(long steamIDLobby, int gameServerIP, short gameServerPort, long steamIDGameServer);
+	boolean getLobbyGameServer(long steamIDLobby, int[] gameServerIP, short[] gameServerPort, long[] steamIDGameServer);
+	boolean setLobbyMemberLimit(long steamIDLobby, int maxMembers);
+	int getLobbyMemberLimit(long steamIDLobby);
+	boolean setLobbyType(long steamIDLobby, int lobbyType);
+	boolean setLobbyJoinable(long steamIDLobby, boolean joinable);
+	long getLobbyOwner(long steamIDLobby);
+	boolean setLobbyOwner(long steamIDLobby, long steamIDNewOwner);
+	boolean setLinkedLobby(long steamIDLobby, long steamIDLobbyDependent);
+
+}
@@ -15,14 +15,46 @@ public interface SteamMatchmakingCallback {
 	default void onLobbyDataUpdate(SteamID steamIDLobby, SteamID steamIDMember, boolean success) {
 	}
 
+	/**
+	 * Raw variant of {@link #onLobbyDataUpdate(SteamID, SteamID, boolean)}, which is the method called by the
+	 * callback adapter. Override it to receive the event without allocation.
+	 */
+	default void onLobbyDataUpdateRaw(long steamIDLobby, long steamIDMember, boolean success) {
+		onLobbyDataUpdate(new SteamID(steamIDLobby), new SteamID(steamIDMember), success);
+	}
+
 	default void onLobbyChatUpdate(SteamID steamIDLobby, SteamID steamIDUserChanged,
 								   SteamID steamIDMakingChange, SteamMatchmaking.ChatMemberStateChange stateChange) {
 	}
 
+	/**
+	 * Raw variant of {@link #onLobbyChatUpdate(SteamID, SteamID, SteamID, SteamMatchmaking.ChatMemberStateChange)}.
+	 * Unlike the object variant, which is called once per flag, this receives the combined state change bits.
+	 */
+	default void onLobbyChatUpdateRaw(long steamIDLobby, long steamIDUserChanged,
+									  long steamIDMakingChange, int stateChange) {
+		SteamID lobby = new SteamID(steamIDLobby);
+		SteamID userChanged = new SteamID(steamIDUserChanged);
+		SteamID makingChange = new SteamID(steamIDMakingChange);
+		for (SteamMatchmaking.ChatMemberStateChange value : SteamMatchmaking.ChatMemberStateChange.values) {
+			if (SteamMatchmaking.ChatMemberStateChange.isSet(value, stateChange)) {
+				onLobbyChatUpdate(lobby, userChanged, makingChange, value);
+			}
+		}
+	}
+
 	default void onLobbyChatMessage(SteamID steamIDLobby, SteamID steamIDUser,
 									SteamMatchmaking.ChatEntryType entryType, int chatID) {
 	}
 
+	/**
+	 * Raw variant of {@link #onLobbyChatMessage(SteamID, SteamID, SteamMatchmaking.ChatEntryType, int)}.
+	 */
+	default void onLobbyChatMessageRaw(long steamIDLobby, long steamIDUser, int entryType, int chatID) {
+		onLobbyChatMessage(new SteamID(steamIDLobby), new SteamID(steamIDUser),
+				SteamMatchmaking.ChatEntryType.byValue(entryType), chatID);
+	}
+
 	default void onLobbyGameCreated(SteamID steamIDLobby, SteamID steamIDGameServer, int ip, short port) {
 	}
 
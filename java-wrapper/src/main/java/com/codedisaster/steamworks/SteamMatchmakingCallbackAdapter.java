@@ -3,64 +3,153 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamMatchmakingCallbackAdapter extends SteamCallbackAdapter<SteamMatchmakingCallback> {
 
-	private static final SteamMatchmaking.ChatMemberStateChange[] stateChangeValues =
-			SteamMatchmaking.ChatMemberStateChange.values();
+	private static final SteamMetrics.Timer OnFavoritesListChanged =
+			SteamMetrics.callback("SteamMatchmakingCallback.onFavoritesListChanged");
+	private static final SteamMetrics.Timer OnLobbyInvite =
+			SteamMetrics.callback("SteamMatchmakingCallback.onLobbyInvite");
+	private static final SteamMetrics.Timer OnLobbyEnter =
+			SteamMetrics.callback("SteamMatchmakingCallback.onLobbyEnter");
+	private static final SteamMetrics.Timer OnLobbyDataUpdate =
+			SteamMetrics.callback("SteamMatchmakingCallback.onLobbyDataUpdate");
+	private static final SteamMetrics.Timer OnLobbyChatUpdate =
+			SteamMetrics.callback("SteamMatchmakingCallback.onLobbyChatUpdate");
+	private static final SteamMetrics.Timer OnLobbyChatMessage =
+			SteamMetrics.callback("SteamMatchmakingCallback.onLobbyChatMessage");
+	private static final SteamMetrics.Timer OnLobbyGameCreated =
+			SteamMetrics.callback("SteamMatchmakingCallback.onLobbyGameCreated");
+	private static final SteamMetrics.Timer OnLobbyMatchList =
+			SteamMetrics.callback("SteamMatchmakingCallback.onLobbyMatchList");
+	private static final SteamMetrics.Timer OnLobbyKicked =
+			SteamMetrics.callback("SteamMatchmakingCallback.onLobbyKicked");
+	private static final SteamMetrics.Timer OnLobbyCreated =
+			SteamMetrics.callback("SteamMatchmakingCallback.onLobbyCreated");
+	private static final SteamMetrics.Timer OnFavoritesListAccountsUpdated =
+			SteamMetrics.callback("SteamMatchmakingCallback.onFavoritesListAccountsUpdated");
 
 	SteamMatchmakingCallbackAdapter(SteamMatchmakingCallback callback) {
 		super(callback);
 	}
 
 	void onFavoritesListChanged(int ip, int queryPort, int connPort, int appID, int flags, boolean add, int accountID) {
-		callback.onFavoritesListChanged(ip, queryPort, connPort, appID, flags, add, accountID);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onFavoritesListChanged(ip, queryPort, connPort, appID, flags, add, accountID);
+		} finally {
+			SteamMetrics.end(OnFavoritesListChanged, start);
+		}
 	}
 
 	void onLobbyInvite(long steamIDUser, long steamIDLobby, long gameID) {
-		callback.onLobbyInvite(new SteamID(steamIDUser), new SteamID(steamIDLobby), gameID);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLobbyInvite(new SteamID(steamIDUser), new SteamID(steamIDLobby), gameID);
+		} finally {
+			SteamMetrics.end(OnLobbyInvite, start);
+		}
 	}
 
 	void onLobbyEnter(long steamIDLobby, int chatPermissions, boolean blocked, int response) {
-		callback.onLobbyEnter(new SteamID(steamIDLobby), chatPermissions, blocked,
-				SteamMatchmaking.ChatRoomEnterResponse.byValue(response));
+		SteamID lobby = new SteamID(steamIDLobby);
+		SteamMatchmaking.ChatRoomEnterResponse enterResponse = SteamMatchmaking.ChatRoomEnterResponse.byValue(response);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLobbyEnter(lobby, chatPermissions, blocked, enterResponse);
+		} finally {
+			SteamMetrics.end(OnLobbyEnter, start);
+		}
+
+		SteamCallResult<SteamID> call = SteamCallResults.take(SteamCallbackRouter.LobbyEnter);
+		if (call != null) {
+			if (enterResponse == SteamMatchmaking.ChatRoomEnterResponse.Success) {
+				call.succeed(lobby);
+			} else {
+				call.fail(new SteamException("Failed to enter lobby: " + enterResponse));
+			}
+		}
 	}
 
 	void onLobbyDataUpdate(long steamIDLobby, long steamIDMember, boolean success) {
-		callback.onLobbyDataUpdate(new SteamID(steamIDLobby), new SteamID(steamIDMember), success);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLobbyDataUpdateRaw(steamIDLobby, steamIDMember, success);
+		} finally {
+			SteamMetrics.end(OnLobbyDataUpdate, start);
+		}
 	}
 
 	void onLobbyChatUpdate(long steamIDLobby, long steamIDUserChanged, long steamIDMakingChange, int stateChange) {
-		SteamID lobby = new SteamID(steamIDLobby);
-		SteamID userChanged = new SteamID(steamIDUserChanged);
-		SteamID makingChange = new SteamID(steamIDMakingChange);
-		for (SteamMatchmaking.ChatMemberStateChange value : stateChangeValues) {
-			if (SteamMatchmaking.ChatMemberStateChange.isSet(value, stateChange)) {
-				callback.onLobbyChatUpdate(lobby, userChanged, makingChange, value);
-			}
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLobbyChatUpdateRaw(steamIDLobby, steamIDUserChanged, steamIDMakingChange, stateChange);
+		} finally {
+			SteamMetrics.end(OnLobbyChatUpdate, start);
 		}
 	}
 
 	void onLobbyChatMessage(long steamIDLobby, long steamIDUser, int entryType, int chatID) {
-		callback.onLobbyChatMessage(new SteamID(steamIDLobby), new SteamID(steamIDUser),
-				SteamMatchmaking.ChatEntryType.byValue(entryType), chatID);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLobbyChatMessageRaw(steamIDLobby, steamIDUser, entryType, chatID);
+		} finally {
+			SteamMetrics.end(OnLobbyChatMessage, start);
+		}
 	}
 
 	void onLobbyGameCreated(long steamIDLobby, long steamIDGameServer, int ip, short port) {
-		callback.onLobbyGameCreated(new SteamID(steamIDLobby), new SteamID(steamIDGameServer), ip, port);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLobbyGameCreated(new SteamID(steamIDLobby), new SteamID(steamIDGameServer), ip, port);
+		} finally {
+			SteamMetrics.end(OnLobbyGameCreated, start);
+		}
 	}
 
 	void onLobbyMatchList(int lobbiesMatching) {
-		callback.onLobbyMatchList(lobbiesMatching);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLobbyMatchList(lobbiesMatching);
+		} finally {
+			SteamMetrics.end(OnLobbyMatchList, start);
+		}
+
+		SteamCallResult<Integer> call = SteamCallResults.take(SteamCallbackRouter.LobbyMatchList);
+		if (call != null) {
+			call.succeed(lobbiesMatching);
+		}
 	}
 
 	void onLobbyKicked(long steamIDLobby, long steamIDAdmin, boolean kickedDueToDisconnect) {
-		callback.onLobbyKicked(new SteamID(steamIDLobby), new SteamID(steamIDAdmin), kickedDueToDisconnect);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLobbyKicked(new SteamID(steamIDLobby), new SteamID(steamIDAdmin), kickedDueToDisconnect);
+		} finally {
+			SteamMetrics.end(OnLobbyKicked, start);
+		}
 	}
 
 	void onLobbyCreated(int result, long steamIDLobby) {
-		callback.onLobbyCreated(SteamResult.byValue(result), new SteamID(steamIDLobby));
+		SteamResult steamResult = SteamResult.byValue(result);
+		SteamID lobby = new SteamID(steamIDLobby);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLobbyCreated(steamResult, lobby);
+		} finally {
+			SteamMetrics.end(OnLobbyCreated, start);
+		}
+
+		SteamCallResult<SteamID> call = SteamCallResults.take(SteamCallbackRouter.LobbyCreated);
+		if (call != null) {
+			call.succeedIfOK(steamResult, lobby, "Failed to create lobby");
+		}
 	}
 
 	void onFavoritesListAccountsUpdated(int result) {
-		callback.onFavoritesListAccountsUpdated(SteamResult.byValue(result));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onFavoritesListAccountsUpdated(SteamResult.byValue(result));
+		} finally {
+			SteamMetrics.end(OnFavoritesListAccountsUpdated, start);
+		}
 	}
 
 }
@@ -2,8 +2,8 @@ package com.codedisaster.steamworks;
 
 public class SteamMatchmakingKeyValuePair {
 
-	private String key;
-	private String value;
+	String key;
+	String value;
 
 	public SteamMatchmakingKeyValuePair() {
 
@@ -3,6 +3,40 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 public class SteamMatchmakingServers extends SteamInterface {
 
+	private static final SteamMetrics.Timer RequestInternetServerList =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.requestInternetServerList");
+	private static final SteamMetrics.Timer RequestLANServerList =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.requestLANServerList");
+	private static final SteamMetrics.Timer RequestFriendsServerList =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.requestFriendsServerList");
+	private static final SteamMetrics.Timer RequestFavoritesServerList =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.requestFavoritesServerList");
+	private static final SteamMetrics.Timer RequestHistoryServerList =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.requestHistoryServerList");
+	private static final SteamMetrics.Timer RequestSpectatorServerList =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.requestSpectatorServerList");
+	private static final SteamMetrics.Timer ReleaseRequest =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.releaseRequest");
+	private static final SteamMetrics.Timer GetServerDetails =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.getServerDetails");
+	private static final SteamMetrics.Timer CancelQuery =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.cancelQuery");
+	private static final SteamMetrics.Timer RefreshQuery =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.refreshQuery");
+	private static final SteamMetrics.Timer IsRefreshing =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.isRefreshing");
+	private static final SteamMetrics.Timer GetServerCount =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.getServerCount");
+	private static final SteamMetrics.Timer RefreshServer =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.refreshServer");
+	private static final SteamMetrics.Timer PingServer = SteamMetrics.nativeCall("SteamMatchmakingServers.pingServer");
+	private static final SteamMetrics.Timer PlayerDetails =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.playerDetails");
+	private static final SteamMetrics.Timer ServerRules =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.serverRules");
+	private static final SteamMetrics.Timer CancelServerQuery =
+			SteamMetrics.nativeCall("SteamMatchmakingServers.cancelServerQuery");
+
 	public SteamMatchmakingServers() {
 		super(-1);
 	}
@@ -10,86 +44,132 @@ public class SteamMatchmakingServers extends SteamInterface {
 	public SteamServerListRequest requestInternetServerList(int appID, SteamMatchmakingKeyValuePair[] filters,
 															SteamMatchmakingServerListResponse requestServersResponse) {
 
-		return new SteamServerListRequest(SteamMatchmakingServersNative.requestInternetServerList(appID,
-				filters, filters.length, requestServersResponse.callback));
+		long start = SteamMetrics.begin();
+		long result = SteamMatchmakingServersNative.requestInternetServerList(appID,
+				filters, filters.length, requestServersResponse.callback);
+		SteamMetrics.end(RequestInternetServerList, start);
+		return new SteamServerListRequest(result);
 	}
 
 	public SteamServerListRequest requestLANServerList(int appID,
 													   SteamMatchmakingServerListResponse requestServersResponse) {
 
-		return new SteamServerListRequest(SteamMatchmakingServersNative.requestLANServerList(appID, requestServersResponse.callback));
+		long start = SteamMetrics.begin();
+		long result = SteamMatchmakingServersNative.requestLANServerList(appID, requestServersResponse.callback);
+		SteamMetrics.end(RequestLANServerList, start);
+		return new SteamServerListRequest(result);
 	}
 
 	public SteamServerListRequest requestFriendsServerList(int appID, SteamMatchmakingKeyValuePair[] filters,
 														   SteamMatchmakingServerListResponse requestServersResponse) {
 
-		return new SteamServerListRequest(SteamMatchmakingServersNative.requestFriendsServerList(appID,
-				filters, filters.length, requestServersResponse.callback));
+		long start = SteamMetrics.begin();
+		long result = SteamMatchmakingServersNative.requestFriendsServerList(appID,
+				filters, filters.length, requestServersResponse.callback);
+		SteamMetrics.end(RequestFriendsServerList, start);
+		return new SteamServerListRequest(result);
 	}
 
 	public SteamServerListRequest requestFavoritesServerList(int appID, SteamMatchmakingKeyValuePair[] filters,
 															 SteamMatchmakingServerListResponse requestServersResponse) {
 
-		return new SteamServerListRequest(SteamMatchmakingServersNative.requestFavoritesServerList(appID,
-				filters, filters.length, requestServersResponse.callback));
+		long start = SteamMetrics.begin();
+		long result = SteamMatchmakingServersNative.requestFavoritesServerList(appID,
+				filters, filters.length, requestServersResponse.callback);
+		SteamMetrics.end(RequestFavoritesServerList, start);
+		return new SteamServerListRequest(result);
 	}
 
 	public SteamServerListRequest requestHistoryServerList(int appID, SteamMatchmakingKeyValuePair[] filters,
 														   SteamMatchmakingServerListResponse requestServersResponse) {
 
-		return new SteamServerListRequest(SteamMatchmakingServersNative.requestHistoryServerList(appID,
-				filters, filters.length, requestServersResponse.callback));
+		long start = SteamMetrics.begin();
+		long result = SteamMatchmakingServersNative.requestHistoryServerList(appID,
+				filters, filters.length, requestServersResponse.callback);
+		SteamMetrics.end(RequestHistoryServerList, start);
+		return new SteamServerListRequest(result);
 	}
 
 	public SteamServerListRequest requestSpectatorServerList(int appID, SteamMatchmakingKeyValuePair[] filters,
 															 SteamMatchmakingServerListResponse requestServersResponse) {
 
-		return new SteamServerListRequest(SteamMatchmakingServersNative.requestSpectatorServerList(appID,
-				filters, filters.length, requestServersResponse.callback));
+		long start = SteamMetrics.begin();
+		long result = SteamMatchmakingServersNative.requestSpectatorServerList(appID,
+				filters, filters.length, requestServersResponse.callback);
+		SteamMetrics.end(RequestSpectatorServerList, start);
+		return new SteamServerListRequest(result);
 	}
 
 	public void releaseRequest(SteamServerListRequest request) {
+		long start = SteamMetrics.begin();
 		SteamMatchmakingServersNative.releaseRequest(request.handle);
+		SteamMetrics.end(ReleaseRequest, start);
 	}
 
 	public boolean getServerDetails(SteamServerListRequest request, int server, SteamMatchmakingGameServerItem details) {
-		return SteamMatchmakingServersNative.getServerDetails(request.handle, server, details);
+		long start = SteamMetrics.begin();
+		boolean result = SteamMatchmakingServersNative.getServerDetails(request.handle, server, details);
+		SteamMetrics.end(GetServerDetails, start);
+		return result;
 	}
 
 	public void cancelQuery(SteamServerListRequest request) {
+		long start = SteamMetrics.begin();
 		SteamMatchmakingServersNative.cancelQuery(request.handle);
+		SteamMetrics.end(CancelQuery, start);
 	}
 
 	public void refreshQuery(SteamServerListRequest request) {
+		long start = SteamMetrics.begin();
 		SteamMatchmakingServersNative.refreshQuery(request.handle);
+		SteamMetrics.end(RefreshQuery, start);
 	}
 
 	public boolean isRefreshing(SteamServerListRequest request) {
-		return SteamMatchmakingServersNative.isRefreshing(request.handle);
+		long start = SteamMetrics.begin();
+		boolean result = SteamMatchmakingServersNative.isRefreshing(request.handle);
+		SteamMetrics.end(IsRefreshing, start);
+		return result;
 	}
 
 	public int getServerCount(SteamServerListRequest request) {
-		return SteamMatchmakingServersNative.getServerCount(request.handle);
+		long start = SteamMetrics.begin();
+		int result = SteamMatchmakingServersNative.getServerCount(request.handle);
+		SteamMetrics.end(GetServerCount, start);
+		return result;
 	}
 
 	public void refreshServer(SteamServerListRequest request, int server) {
+		long start = SteamMetrics.begin();
 		SteamMatchmakingServersNative.refreshServer(request.handle, server);
+		SteamMetrics.end(RefreshServer, start);
 	}
 
 	public SteamServerQuery pingServer(int ip, short port, SteamMatchmakingPingResponse requestServersResponse) {
-		return new SteamServerQuery(SteamMatchmakingServersNative.pingServer(ip, port, requestServersResponse.callback));
+		long start = SteamMetrics.begin();
+		int result = SteamMatchmakingServersNative.pingServer(ip, port, requestServersResponse.callback);
+		SteamMetrics.end(PingServer, start);
+		return new SteamServerQuery(result);
 	}
 
 	public SteamServerQuery playerDetails(int ip, short port, SteamMatchmakingPlayersResponse requestServersResponse) {
-		return new SteamServerQuery(SteamMatchmakingServersNative.playerDetails(ip, port, requestServersResponse.callback));
+		long start = SteamMetrics.begin();
+		int result = SteamMatchmakingServersNative.playerDetails(ip, port, requestServersResponse.callback);
+		SteamMetrics.end(PlayerDetails, start);
+		return new SteamServerQuery(result);
 	}
 
 	public SteamServerQuery serverRules(int ip, short port, SteamMatchmakingRulesResponse requestServersResponse) {
-		return new SteamServerQuery(SteamMatchmakingServersNative.serverRules(ip, port, requestServersResponse.callback));
+		long start = SteamMetrics.begin();
+		int result = SteamMatchmakingServersNative.serverRules(ip, port, requestServersResponse.callback);
+		SteamMetrics.end(ServerRules, start);
+		return new SteamServerQuery(result);
 	}
 
 	public void cancelServerQuery(SteamServerQuery serverQuery) {
+		long start = SteamMetrics.begin();
 		SteamMatchmakingServersNative.cancelServerQuery(serverQuery.handle);
+		SteamMetrics.end(CancelServerQuery, start);
 	}
 
 }
@@ -0,0 +1,47 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Transforms message payloads between game code and {@link SteamNetworkingSockets}, e.g. to compress them, see
+ * {@link SteamMessageCodecStage} and {@link SteamLZCodec}.
+ * <p>
+ * Codecs read and write buffers with absolute and bulk operations, without copying them to the heap. They
+ * write their own framing, so that {@link #decode} can tell how a message was encoded.
+ */
+public interface SteamMessageCodec {
+
+    /**
+     * Returns the maximum size of a message of {@code size} bytes after encoding.
+     */
+    int getMaxEncodedSize(int size);
+
+    /**
+     * Encodes the remaining bytes of {@code source} into {@code target}, at its position. Advances the position
+     * of both buffers.
+     *
+     * @return The size of the encoded message.
+     *
+     * @throws SteamException If less than {@link #getMaxEncodedSize(int)} bytes remain in {@code target}.
+     */
+    int encode(ByteBuffer source, ByteBuffer target) throws SteamException;
+
+    /**
+     * Returns the size of the remaining bytes of {@code source} after decoding, read from the framing of the
+     * encoded message.
+     *
+     * @throws SteamException If the message wasn't encoded by this codec.
+     */
+    int getDecodedSize(ByteBuffer source) throws SteamException;
+
+    /**
+     * Decodes the remaining bytes of {@code source} into {@code target}, at its position. Advances the position
+     * of both buffers.
+     *
+     * @return The size of the decoded message.
+     *
+     * @throws SteamException If the message is corrupt, or doesn't fit into {@code target}.
+     */
+    int decode(ByteBuffer source, ByteBuffer target) throws SteamException;
+
+}
@@ -0,0 +1,179 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes messages with a {@link SteamMessageCodec} before they are sent on a connection, and decodes them
+ * after they are received, e.g. to compress game state snapshots with {@link SteamLZCodec}.
+ * <pre>
+ * SteamMessageCodecStage stage = new SteamMessageCodecStage(sockets, new SteamLZCodec(dictionary));
+ *
+ * stage.sendMessageToConnection(connection, snapshot, SteamNetworkingSockets.SendFlags.UnreliableNoNagle);
+ *
+ * int size;
+ * while ((size = stage.receiveMessageOnConnection(connection, buffer)) > 0) {
+ *     // handle the decoded message
+ * }
+ * </pre>
+ * Messages are encoded into, and received into, direct buffers owned by the stage, so no payload is
+ * copied to the heap. Both ends of a connection must use the same codec, and the same dictionary, for all
+ * messages on it. A stage must not be used by more than one thread at a time.
+ */
+public class SteamMessageCodecStage {
+
+    /**
+     * Default maximum size of a message before encoding, the maximum message size of Steam.
+     */
+    public static final int DefaultMaxMessageSize = 512 * 1024;
+
+    private final SteamNetworkingSockets sockets;
+    private final SteamMessageCodec codec;
+    private final int maxMessageSize;
+
+    private final ByteBuffer encodeBuffer;
+    private final ByteBuffer receiveBuffer;
+
+    private long bytesSent;
+    private long encodedBytesSent;
+    private long bytesReceived;
+    private long encodedBytesReceived;
+
+    public SteamMessageCodecStage(SteamNetworkingSockets sockets, SteamMessageCodec codec) {
+        this(sockets, codec, DefaultMaxMessageSize);
+    }
+
+    /**
+     * @param maxMessageSize The maximum size of a message before encoding, which sizes the buffers of the stage.
+     */
+    public SteamMessageCodecStage(SteamNetworkingSockets sockets, SteamMessageCodec codec, int maxMessageSize) {
+        this.sockets = sockets;
+        this.codec = codec;
+        this.maxMessageSize = maxMessageSize;
+
+        encodeBuffer = ByteBuffer.allocateDirect(codec.getMaxEncodedSize(maxMessageSize));
+        receiveBuffer = ByteBuffer.allocateDirect(codec.getMaxEncodedSize(maxMessageSize));
+    }
+
+    public SteamMessageCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Encodes and sends the remaining bytes of {@code data}, without changing its position.
+     *
+     * @return The result of {@link SteamNetworkingSockets#sendMessageToConnection(int, ByteBuffer, int)}.
+     *
+     * @throws SteamException If the message is larger than the maximum message size of the stage.
+     */
+    public SteamResult sendMessageToConnection(int connection, ByteBuffer data, int sendFlags) throws SteamException {
+        return sendMessageToConnection(connection, data, sendFlags, 0);
+    }
+
+    /**
+     * Same as {@link #sendMessageToConnection(int, ByteBuffer, int)}, but sends the message on a lane, see
+     * {@link SteamNetworkingSockets#configureConnectionLanes(int, int[], short[])}.
+     */
+    public SteamResult sendMessageToConnection(int connection, ByteBuffer data, int sendFlags,
+                                               int lane) throws SteamException {
+        int size = data.remaining();
+        if (size > maxMessageSize) {
+            throw new SteamException("Message size " + size + " exceeds maximum message size " + maxMessageSize);
+        }
+
+        int position = data.position();
+
+        encodeBuffer.clear();
+        int encodedSize = codec.encode(data, encodeBuffer);
+        encodeBuffer.flip();
+
+        data.position(position);
+
+        SteamResult result = sockets.sendMessageToConnection(connection, encodeBuffer, sendFlags, lane);
+
+        if (result == SteamResult.OK) {
+            bytesSent += size;
+            encodedBytesSent += encodedSize;
+        }
+
+        return result;
+    }
+
+    /**
+     * Receives and decodes the next message of a connection into {@code data}, starting at its position, and
+     * advances the position by the decoded size.
+     *
+     * @return The size of the decoded message, or {@code 0} if no message is currently available.
+     *
+     * @throws SteamException If the decoded message exceeds the remaining capacity of {@code data}, in which
+     *                        case the message is dropped, or if it can't be decoded.
+     */
+    public int receiveMessageOnConnection(int connection, ByteBuffer data) throws SteamException {
+        receiveBuffer.clear();
+
+        int encodedSize = sockets.receiveMessageOnConnection(connection, receiveBuffer);
+        if (encodedSize == 0) {
+            return 0;
+        }
+
+        receiveBuffer.position(0).limit(encodedSize);
+
+        return decode(receiveBuffer, data);
+    }
+
+    /**
+     * Decodes a leased message into {@code data}, starting at its position, and advances the position by the
+     * decoded size. The message isn't released.
+     *
+     * @see SteamNetworkingSockets#receiveMessagesOnConnection(int, SteamNetworkingMessage[], int)
+     */
+    public int decode(SteamNetworkingMessage message, ByteBuffer data) throws SteamException {
+        return decode(message.getData(), data);
+    }
+
+    private int decode(ByteBuffer source, ByteBuffer data) throws SteamException {
+        int encodedSize = source.remaining();
+        int size = codec.decode(source, data);
+
+        bytesReceived += size;
+        encodedBytesReceived += encodedSize;
+
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes sent, before encoding.
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Returns the number of bytes sent, after encoding.
+     */
+    public long getEncodedBytesSent() {
+        return encodedBytesSent;
+    }
+
+    /**
+     * Returns the number of bytes received, after decoding.
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Returns the number of bytes received, before decoding.
+     */
+    public long getEncodedBytesReceived() {
+        return encodedBytesReceived;
+    }
+
+    /**
+     * Returns the size of the messages sent after encoding, relative to their size before, or 1 if no message
+     * has been sent yet.
+     */
+    public double getSendRatio() {
+        return bytesSent > 0 ? (double) encodedBytesSent / bytesSent : 1.0;
+    }
+
+}
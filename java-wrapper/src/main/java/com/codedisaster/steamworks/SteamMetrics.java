@@ -0,0 +1,346 @@
+package com.codedisaster.steamworks;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Opt-in call counts and latency histograms of the Steam API layer.
+ * <p>
+ * When enabled, this records:
+ * <ul>
+ *   <li>each native call of the Steam interfaces, from {@link SteamApps} to {@link SteamUtils}, keyed by
+ *   interface and method, e.g. "SteamNetworkingSockets.sendMessageToConnection"; the static functions of
+ *   {@link SteamAPI} and {@code SteamGameServerAPI}, which init, shut down and query the API itself, are
+ *   not timed</li>
+ *   <li>each callback delivered to an application callback interface, keyed by interface and method,
+ *   e.g. "SteamUGCCallback.onUGCQueryCompleted", measuring the time spent in the handler</li>
+ *   <li>each call to {@link SteamAPI#runCallbacks()} and {@code SteamGameServerAPI.runCallbacks()}</li>
+ * </ul>
+ * Calls are timed inline, where the Steam interfaces call into the backend, and where callback adapters
+ * call into the application. Recording starts and stops with {@link #enable()} and {@link #disable()},
+ * also for interfaces created before. While metrics and {@link SteamFlightRecorder} are disabled, the
+ * only cost of a call is reading the two flags.
+ * <p>
+ * Histograms are lock-free, and striped by thread. They can be read with {@link #getNativeCalls()},
+ * {@link #getCallbacks()} and {@link #getRunCallbacks()} from any thread, without blocking the
+ * threads which record values.
+ */
+public final class SteamMetrics {
+
+	/**
+	 * Point-in-time copy of a {@link Histogram}, in nanoseconds.
+	 */
+	public static final class Snapshot {
+
+		private final long[] counts;
+		private final long count;
+		private final long totalNanos;
+		private final long maxNanos;
+
+		private Snapshot(long[] counts, long totalNanos, long maxNanos) {
+			long count = 0;
+			for (long bucket : counts) {
+				count += bucket;
+			}
+			this.counts = counts;
+			this.count = count;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		public double getMeanNanos() {
+			return count > 0 ? (double) totalNanos / count : 0.0;
+		}
+
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		/**
+		 * Returns the value below which the given percentage of values fall. The result has a relative
+		 * error of at most 12.5%, and is never larger than {@link #getMaxNanos()}.
+		 */
+		public long getPercentileNanos(double percentile) {
+			if (count == 0) {
+				return 0;
+			}
+
+			long rank = (long) Math.ceil(Math.max(0.0, Math.min(percentile, 100.0)) / 100.0 * count);
+			long seen = 0;
+
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= Math.max(rank, 1)) {
+					return Math.min(Histogram.getHighestValue(i), maxNanos);
+				}
+			}
+
+			return maxNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("count=%d mean=%.0fns p50=%dns p99=%dns max=%dns",
+					count, getMeanNanos(), getPercentileNanos(50.0), getPercentileNanos(99.0), maxNanos);
+		}
+	}
+
+	/**
+	 * Log-linear histogram of durations, in nanoseconds. Each power of two is split into eight
+	 * linear sub-buckets. Values are counted in one of several stripes, selected by thread, which
+	 * are allocated on first use.
+	 */
+	static final class Histogram {
+
+		private static final int SubBucketBits = 3;
+		private static final int SubBuckets = 1 << SubBucketBits;
+		private static final int MaxExponent = 40;
+		private static final long MaxValue = (1L << MaxExponent) - 1;
+
+		static final int BucketCount = (MaxExponent - SubBucketBits + 1) * SubBuckets;
+
+		private static final int TotalIndex = BucketCount;
+		private static final int MaxIndex = BucketCount + 1;
+
+		private static final int StripeCount = Math.min(
+				Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1) * 2 - 1), 16);
+
+		private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(StripeCount);
+
+		void record(long nanos) {
+			long value = Math.max(nanos, 0);
+			AtomicLongArray stripe = getStripe();
+
+			stripe.incrementAndGet(getBucket(Math.min(value, MaxValue)));
+			stripe.addAndGet(TotalIndex, value);
+
+			long max;
+			while (value > (max = stripe.get(MaxIndex))) {
+				if (stripe.compareAndSet(MaxIndex, max, value)) {
+					break;
+				}
+			}
+		}
+
+		Snapshot snapshot() {
+			long[] counts = new long[BucketCount];
+			long total = 0;
+			long max = 0;
+
+			for (int s = 0; s < StripeCount; s++) {
+				AtomicLongArray stripe = stripes.get(s);
+				if (stripe != null) {
+					for (int i = 0; i < BucketCount; i++) {
+						counts[i] += stripe.get(i);
+					}
+					total += stripe.get(TotalIndex);
+					max = Math.max(max, stripe.get(MaxIndex));
+				}
+			}
+
+			return new Snapshot(counts, total, max);
+		}
+
+		void reset() {
+			for (int s = 0; s < StripeCount; s++) {
+				stripes.set(s, null);
+			}
+		}
+
+		private AtomicLongArray getStripe() {
+			long id = Thread.currentThread().getId();
+			int index = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (StripeCount - 1);
+
+			AtomicLongArray stripe = stripes.get(index);
+			if (stripe == null) {
+				stripes.compareAndSet(index, null, new AtomicLongArray(BucketCount + 2));
+				stripe = stripes.get(index);
+			}
+			return stripe;
+		}
+
+		static int getBucket(long value) {
+			if (value < SubBuckets) {
+				return (int) value;
+			}
+			int exponent = 63 - Long.numberOfLeadingZeros(value);
+			int subBucket = (int) (value >>> (exponent - SubBucketBits)) & (SubBuckets - 1);
+			return (exponent - SubBucketBits + 1) * SubBuckets + subBucket;
+		}
+
+		static long getHighestValue(int bucket) {
+			if (bucket < SubBuckets) {
+				return bucket;
+			}
+			int exponent = bucket / SubBuckets + SubBucketBits - 1;
+			long subBucket = bucket % SubBuckets;
+			long width = 1L << (exponent - SubBucketBits);
+			return (1L << exponent) + subBucket * width + width - 1;
+		}
+	}
+
+	/**
+	 * Histogram of one native call or callback method, kept in a static field where the call is made.
+	 * Calls are timed inline, between {@link SteamMetrics#begin()} and {@link SteamMetrics#end(Timer, long)},
+	 * so recording doesn't allocate.
+	 */
+	static final class Timer {
+
+		final String name;
+		final Histogram histogram;
+		private final boolean nativeCall;
+
+		private Timer(String name, Histogram histogram, boolean nativeCall) {
+			this.name = name;
+			this.histogram = histogram;
+			this.nativeCall = nativeCall;
+		}
+	}
+
+	private static volatile boolean enabled = false;
+
+	private static final Map<String, Histogram> nativeCalls = new ConcurrentHashMap<>();
+	private static final Map<String, Histogram> callbacks = new ConcurrentHashMap<>();
+
+	static final Histogram runCallbacks = new Histogram();
+	static final Histogram gameServerRunCallbacks = new Histogram();
+
+	private SteamMetrics() {
+
+	}
+
+	/**
+	 * Enables metrics.
+	 */
+	public static void enable() {
+		enabled = true;
+	}
+
+	/**
+	 * Stops recording. Values recorded so far are kept.
+	 */
+	public static void disable() {
+		enabled = false;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Clears all histograms. Values recorded concurrently may or may not be cleared.
+	 */
+	public static void reset() {
+		nativeCalls.values().forEach(Histogram::reset);
+		callbacks.values().forEach(Histogram::reset);
+		runCallbacks.reset();
+		gameServerRunCallbacks.reset();
+	}
+
+	/**
+	 * Returns a snapshot of each native method called, sorted by name.
+	 */
+	public static Map<String, Snapshot> getNativeCalls() {
+		return snapshot(nativeCalls);
+	}
+
+	/**
+	 * Returns a snapshot of each callback method delivered, sorted by name.
+	 */
+	public static Map<String, Snapshot> getCallbacks() {
+		return snapshot(callbacks);
+	}
+
+	public static Snapshot getRunCallbacks() {
+		return runCallbacks.snapshot();
+	}
+
+	public static Snapshot getGameServerRunCallbacks() {
+		return gameServerRunCallbacks.snapshot();
+	}
+
+	public static void print(PrintStream stream) {
+		stream.println("  SteamAPI.runCallbacks(): " + getRunCallbacks());
+		stream.println("  SteamGameServerAPI.runCallbacks(): " + getGameServerRunCallbacks());
+		for (Map.Entry<String, Snapshot> entry : getNativeCalls().entrySet()) {
+			stream.println("  " + entry.getKey() + "(): " + entry.getValue());
+		}
+		for (Map.Entry<String, Snapshot> entry : getCallbacks().entrySet()) {
+			stream.println("  " + entry.getKey() + "(): " + entry.getValue());
+		}
+	}
+
+	/**
+	 * Returns the timer of a native call, e.g. "SteamNetworkingSockets.sendMessageToConnection".
+	 * Overloads of the same method share one histogram.
+	 */
+	static Timer nativeCall(String name) {
+		return new Timer(name, getHistogram(nativeCalls, name), true);
+	}
+
+	/**
+	 * Returns the timer of a callback method, e.g. "SteamUGCCallback.onUGCQueryCompleted".
+	 */
+	static Timer callback(String name) {
+		return new Timer(name, getHistogram(callbacks, name), false);
+	}
+
+	/**
+	 * Returns the start time of a measured call, or zero if neither metrics nor JFR events are enabled.
+	 */
+	static long begin() {
+		return enabled || SteamFlightRecorder.isEnabled() ? System.nanoTime() : 0L;
+	}
+
+	static void end(Histogram histogram, long start) {
+		if (start != 0L && enabled) {
+			histogram.record(System.nanoTime() - start);
+		}
+	}
+
+	static void end(Timer timer, long start) {
+		if (start == 0L) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - start;
+
+		if (enabled) {
+			timer.histogram.record(nanos);
+		}
+
+		if (timer.nativeCall) {
+			SteamFlightRecorder.nativeCall(timer.name, nanos);
+		} else {
+			SteamFlightRecorder.callback(timer.name, nanos);
+		}
+	}
+
+	private static Histogram getHistogram(Map<String, Histogram> registry, String name) {
+		return registry.computeIfAbsent(name, key -> new Histogram());
+	}
+
+	private static Map<String, Snapshot> snapshot(Map<String, Histogram> registry) {
+		Map<String, Snapshot> snapshots = new TreeMap<>();
+		registry.forEach((name, histogram) -> {
+			Snapshot snapshot = histogram.snapshot();
+			if (snapshot.getCount() > 0) {
+				snapshots.put(name, snapshot);
+			}
+		});
+		return snapshots;
+	}
+
+}
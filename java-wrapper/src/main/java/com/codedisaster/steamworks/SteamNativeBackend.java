@@ -0,0 +1,79 @@
+package com.codedisaster.steamworks;
+
+/**
+ * The default backend, which calls the Steamworks SDK through JNI.
+ */
+final class SteamNativeBackend extends SteamBackend {
+
+	SteamNativeBackend() {
+		super(new SteamMatchmakingNative(),
+				new SteamUGCNative(),
+				new SteamUserStatsNative(),
+				new SteamNetworkingNative(),
+				new SteamNetworkingSocketsNative(),
+				new SteamNetworkingMessagesNative());
+	}
+
+	@Override
+	boolean restartAppIfNecessary(int appId) throws SteamException {
+		checkNativeAPILoaded();
+		return SteamAPI.nativeRestartAppIfNecessary(appId);
+	}
+
+	@Override
+	SteamAPI.InitResult init() throws SteamException {
+		checkNativeAPILoaded();
+		return SteamAPI.InitResult.byOrdinal(SteamAPI.nativeInit());
+	}
+
+	@Override
+	void shutdown() {
+		SteamCallbackQueue.disable();
+		SteamCallbackRouter.disable();
+		SteamAPI.nativeShutdown();
+	}
+
+	@Override
+	void runCallbacks(int maxCallbacks) {
+		if (SteamCallbackRouter.isEnabled()) {
+			SteamCallbackRouter.runFrame(maxCallbacks);
+		} else if (SteamCallbackQueue.isEnabled()) {
+			SteamCallbackQueue.runCallbacks();
+		} else {
+			SteamAPI.nativeRunCallbacks();
+		}
+	}
+
+	@Override
+	boolean isSteamRunning() {
+		return SteamAPI.isSteamRunningNative();
+	}
+
+	@Override
+	void deleteCallback(long callback) {
+		SteamCallbackQueue.unregister(SteamInterface.deleteCallback(callback));
+	}
+
+	@Override
+	void enableBatchedCallbacks(int bufferSize) {
+		SteamCallbackQueue.enable(bufferSize);
+	}
+
+	@Override
+	void disableBatchedCallbacks() {
+		SteamCallbackQueue.disable();
+	}
+
+	@Override
+	void initManualDispatch(int bufferSize) {
+		SteamCallbackQueue.disable();
+		SteamCallbackRouter.enable(bufferSize);
+	}
+
+	private static void checkNativeAPILoaded() throws SteamException {
+		if (!SteamAPI.isIsNativeAPILoaded()) {
+			throw new SteamException("Native libraries not loaded.\nEnsure to call SteamAPI.loadLibraries() first!");
+		}
+	}
+
+}
@@ -0,0 +1,499 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves the send, receive and flush calls of {@link SteamNetworkingSockets} to a dedicated thread, so that
+ * network work doesn't compete with the simulation time of the game thread.
+ * <p>
+ * The pump receives the messages of all connections in a poll group, and hands them to the game thread
+ * through a pre-allocated ring of fixed-size slots. Outbound messages are handed to the pump through a
+ * second ring, and sent in batches with {@link SteamNetworkingSockets#sendMessages}. Each ring has a single
+ * producer and a single consumer, and neither side takes a lock or allocates.
+ * <pre>
+ * SteamNetworkPump pump = new SteamNetworkPump(sockets, pollGroup, new SteamNetworkPump.Config()
+ *     .setInboundSlots(4096)
+ *     .setSlotSize(1200));
+ * pump.start();
+ *
+ * // each frame, on the game thread
+ * int count = pump.receive(buffer, sizes, connections, sizes.length);
+ * pump.send(connection, snapshot, SteamNetworkingSockets.SendFlags.UnreliableNoNagle);
+ * </pre>
+ * {@link #send} and {@link #receive} must always be called from the same thread. Callbacks still need to be
+ * dispatched by {@link SteamAPI#runCallbacks()} on the game thread.
+ */
+public class SteamNetworkPump {
+
+    /**
+     * What happens to messages when there's no free slot in a ring.
+     */
+    public enum OverflowPolicy {
+        /**
+         * New messages are dropped while the ring is full, and counted by {@link #getInboundDropped()} and
+         * {@link #getOutboundDropped()}. Messages already in the ring are kept, so after an overflow the game
+         * thread first gets the older messages. The pump keeps draining the poll group, so messages don't pile
+         * up in Steam meanwhile.
+         */
+        Drop,
+
+        /**
+         * The producer waits for a free slot. Inbound messages stay queued by Steam meanwhile, and
+         * {@link #send} blocks the game thread until the pump sent a message.
+         */
+        Wait
+    }
+
+    /**
+     * Settings of the pump. Slot counts are rounded up to the next power of two.
+     */
+    public static final class Config {
+
+        int inboundSlots = 1024;
+        int outboundSlots = 1024;
+        int slotSize = 1200;
+        OverflowPolicy overflowPolicy = OverflowPolicy.Drop;
+        long idleNanos = 100000L;
+        boolean flushAfterSend;
+
+        public Config setInboundSlots(int inboundSlots) {
+            this.inboundSlots = inboundSlots;
+            return this;
+        }
+
+        public Config setOutboundSlots(int outboundSlots) {
+            this.outboundSlots = outboundSlots;
+            return this;
+        }
+
+        /**
+         * Maximum size of a message passed through the pump. Larger inbound messages are dropped, and larger
+         * outbound messages are rejected by {@link #send}. Defaults to 1200 bytes.
+         */
+        public Config setSlotSize(int slotSize) {
+            this.slotSize = slotSize;
+            return this;
+        }
+
+        public Config setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Time the pump thread sleeps if there was nothing to send or receive. Defaults to 100 microseconds.
+         */
+        public Config setIdleTime(int microseconds) {
+            this.idleNanos = microseconds * 1000L;
+            return this;
+        }
+
+        /**
+         * If set, the pump flushes each connection it sent messages to, after each batch.
+         */
+        public Config setFlushAfterSend(boolean flushAfterSend) {
+            this.flushAfterSend = flushAfterSend;
+            return this;
+        }
+    }
+
+    /**
+     * Slots of {@code slotSize} bytes in one direct buffer, with the size, connection, and send flags and lane
+     * of each message. The producer owns {@code tail}, the consumer owns {@code head}, and each side caches
+     * the last seen position of the other, to read it only when the cached position leaves fewer slots
+     * than it asks for.
+     */
+    private static final class Ring {
+
+        final int capacity;
+        final int mask;
+        final int slotSize;
+
+        final ByteBuffer data;
+        final ByteBuffer producerView;
+        final ByteBuffer consumerView;
+
+        final int[] sizes;
+        final int[] connections;
+        final int[] sendFlags;
+        final int[] lanes;
+
+        final AtomicLong head = new AtomicLong();
+        final AtomicLong tail = new AtomicLong();
+
+        long cachedHead;
+        long cachedTail;
+
+        Ring(int slots, int slotSize) {
+            capacity = Integer.highestOneBit(Math.max(slots, 2) - 1) << 1;
+            mask = capacity - 1;
+            this.slotSize = slotSize;
+
+            data = ByteBuffer.allocateDirect(capacity * slotSize);
+            producerView = data.duplicate();
+            consumerView = data.duplicate();
+
+            sizes = new int[capacity];
+            connections = new int[capacity];
+            sendFlags = new int[capacity];
+            lanes = new int[capacity];
+        }
+
+        /**
+         * Returns the number of slots the producer can write, starting at {@code tail}. The consumer's
+         * position is only read if the cached one leaves less than {@code required} slots.
+         */
+        int free(int required) {
+            long tail = this.tail.get();
+            if (capacity - (tail - cachedHead) < required) {
+                cachedHead = head.get();
+            }
+            return capacity - (int) (tail - cachedHead);
+        }
+
+        /**
+         * Returns the number of slots the consumer can read, starting at {@code head}. The producer's
+         * position is only read if the cached one leaves less than {@code required} slots.
+         */
+        int available(int required) {
+            long head = this.head.get();
+            if (cachedTail - head < required) {
+                cachedTail = tail.get();
+            }
+            return (int) (cachedTail - head);
+        }
+
+        int producerSlot(int index) {
+            return (int) ((tail.get() + index) & mask);
+        }
+
+        int consumerSlot(int index) {
+            return (int) ((head.get() + index) & mask);
+        }
+
+        void publish(int count) {
+            tail.lazySet(tail.get() + count);
+        }
+
+        void consume(int count) {
+            head.lazySet(head.get() + count);
+        }
+
+        /**
+         * Copies {@code size} bytes at {@code offset} of {@code source} into a slot. The position and limit
+         * of the source are restored, instead of copying from a duplicate, which would allocate.
+         */
+        void write(int slot, ByteBuffer source, int offset, int size) {
+            int position = source.position();
+            int limit = source.limit();
+
+            source.limit(offset + size).position(offset);
+            producerView.limit(slot * slotSize + size).position(slot * slotSize);
+            producerView.put(source);
+
+            source.limit(limit).position(position);
+        }
+    }
+
+    /**
+     * Largest message size accepted by {@link SteamNetworkingSockets}, which bounds the receive buffer
+     * of the pump thread.
+     */
+    private static final int MaxMessageSize = 512 * 1024;
+
+    private final SteamNetworkingSockets sockets;
+    private final int pollGroup;
+    private final Config config;
+
+    private final Ring inbound;
+    private final Ring outbound;
+
+    // pump thread state
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(MaxMessageSize);
+    private final int[] receiveSizes = new int[SteamNetworkingSockets.MaxMessagesPerReceive];
+    private final int[] receiveConnections = new int[SteamNetworkingSockets.MaxMessagesPerReceive];
+    private final int[] sendOffsets = new int[SteamNetworkingSockets.MaxMessagesPerReceive];
+    private final int[] sendSizes = new int[SteamNetworkingSockets.MaxMessagesPerReceive];
+    private final int[] sendConnections = new int[SteamNetworkingSockets.MaxMessagesPerReceive];
+    private final int[] sendFlags = new int[SteamNetworkingSockets.MaxMessagesPerReceive];
+    private final int[] sendLanes = new int[SteamNetworkingSockets.MaxMessagesPerReceive];
+    private final long[] sendResults = new long[SteamNetworkingSockets.MaxMessagesPerReceive];
+
+    private volatile Thread thread;
+    private volatile boolean running;
+    private volatile Throwable failure;
+
+    // counters are only written by one thread each
+    private volatile long inboundDropped;
+    private volatile long outboundDropped;
+    private volatile long sendFailures;
+
+    public SteamNetworkPump(SteamNetworkingSockets sockets, SteamNetworkingSockets.PollGroup pollGroup) {
+        this(sockets, pollGroup.getHandle(), new Config());
+    }
+
+    /**
+     * @param pollGroup The poll group to receive messages from. Connections can be added to and removed from
+     *                  it while the pump is running.
+     */
+    public SteamNetworkPump(SteamNetworkingSockets sockets, int pollGroup, Config config) {
+        this.sockets = sockets;
+        this.pollGroup = pollGroup;
+        this.config = config;
+
+        inbound = new Ring(config.inboundSlots, config.slotSize);
+        outbound = new Ring(config.outboundSlots, config.slotSize);
+    }
+
+    /**
+     * Starts the pump thread.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+
+        running = true;
+        failure = null;
+
+        thread = new Thread(this::run, "SteamNetworkPump");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the pump thread, and waits for it to exit. Messages left in the outbound ring are sent
+     * when the pump is started again.
+     */
+    public synchronized void stop() {
+        Thread thread = this.thread;
+        if (thread == null) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.thread = null;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the exception which stopped the pump thread, or null.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Queues a message for the pump thread to send. Copies the remaining bytes of {@code data}, without
+     * changing its position.
+     *
+     * @return False if the message was dropped because the outbound ring is full, or if the pump
+     *         isn't running while {@link OverflowPolicy#Wait} is set.
+     *
+     * @throws SteamException If the message is larger than the slot size.
+     */
+    public boolean send(int connection, ByteBuffer data, int sendFlags) throws SteamException {
+        return send(connection, data, sendFlags, 0);
+    }
+
+    /**
+     * Same as {@link #send(int, ByteBuffer, int)}, but sends the message on a lane, see
+     * {@link SteamNetworkingSockets#configureConnectionLanes(int, int[], short[])}.
+     */
+    public boolean send(int connection, ByteBuffer data, int sendFlags, int lane) throws SteamException {
+        int size = data.remaining();
+        if (size > outbound.slotSize) {
+            throw new SteamException("Message size " + size + " exceeds slot size " + outbound.slotSize);
+        }
+
+        while (outbound.free(1) == 0) {
+            if (config.overflowPolicy == OverflowPolicy.Drop || !running) {
+                outboundDropped++;
+                return false;
+            }
+            Thread.yield();
+        }
+
+        int slot = outbound.producerSlot(0);
+        outbound.write(slot, data, data.position(), size);
+        outbound.sizes[slot] = size;
+        outbound.connections[slot] = connection;
+        outbound.sendFlags[slot] = sendFlags;
+        outbound.lanes[slot] = lane;
+        outbound.publish(1);
+
+        return true;
+    }
+
+    /**
+     * Takes up to {@code maxMessages} messages received by the pump thread. The payloads are copied back to
+     * back into {@code data}, starting at its position, and the position is advanced past the last message.
+     * Messages which don't fit anymore are returned by the next call.
+     *
+     * @return The number of messages received.
+     *
+     * @throws SteamException If the next message exceeds the buffer's remaining capacity.
+     */
+    public int receive(ByteBuffer data, int[] sizes, int[] connections, int maxMessages) throws SteamException {
+        maxMessages = Math.min(Math.min(maxMessages, sizes.length), connections.length);
+
+        int count = Math.min(inbound.available(maxMessages), maxMessages);
+        int position = data.position();
+        int remaining = data.remaining();
+
+        for (int i = 0; i < count; i++) {
+            int slot = inbound.consumerSlot(i);
+            int size = inbound.sizes[slot];
+
+            if (size > remaining) {
+                if (i == 0) {
+                    throw new SteamException("Buffer Overflow, bytes received: " + size
+                            + " bytes remaining: " + remaining);
+                }
+                count = i;
+                break;
+            }
+
+            inbound.consumerView.limit(slot * inbound.slotSize + size).position(slot * inbound.slotSize);
+            data.put(inbound.consumerView);
+            remaining -= size;
+
+            sizes[i] = size;
+            connections[i] = inbound.connections[slot];
+        }
+
+        inbound.consume(count);
+
+        return count;
+    }
+
+    /**
+     * Returns the number of inbound messages dropped, because the inbound ring was full, or they were larger
+     * than the slot size.
+     */
+    public long getInboundDropped() {
+        return inboundDropped;
+    }
+
+    /**
+     * Returns the number of outbound messages dropped by {@link #send}, because the outbound ring was full.
+     */
+    public long getOutboundDropped() {
+        return outboundDropped;
+    }
+
+    /**
+     * Returns the number of outbound messages rejected by Steam, e.g. because the connection was closed.
+     */
+    public long getSendFailures() {
+        return sendFailures;
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                int work = pumpOutbound() + pumpInbound();
+                if (work == 0 && running) {
+                    LockSupport.parkNanos(config.idleNanos);
+                }
+            }
+
+            // send what the game thread queued before stop()
+            pumpOutbound();
+
+        } catch (Throwable e) {
+            failure = e;
+            running = false;
+        }
+    }
+
+    private int pumpOutbound() throws SteamException {
+        int count = Math.min(outbound.available(sendOffsets.length), sendOffsets.length);
+        if (count == 0) {
+            return 0;
+        }
+
+        for (int i = 0; i < count; i++) {
+            int slot = outbound.consumerSlot(i);
+            sendOffsets[i] = slot * outbound.slotSize;
+            sendSizes[i] = outbound.sizes[slot];
+            sendConnections[i] = outbound.connections[slot];
+            sendFlags[i] = outbound.sendFlags[slot];
+            sendLanes[i] = outbound.lanes[slot];
+        }
+
+        // offsets are relative to the start of the ring
+        outbound.consumerView.clear();
+        int sent = sockets.sendMessages(outbound.consumerView, sendOffsets, sendSizes, sendConnections,
+                sendFlags, sendLanes, sendResults, count);
+
+        outbound.consume(count);
+
+        if (sent < count) {
+            sendFailures += count - sent;
+        }
+
+        if (config.flushAfterSend) {
+            for (int i = 0; i < count; i++) {
+                if (i == 0 || sendConnections[i] != sendConnections[i - 1]) {
+                    sockets.flushMessages(sendConnections[i]);
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private int pumpInbound() throws SteamException {
+        int maxMessages = receiveSizes.length;
+
+        if (config.overflowPolicy == OverflowPolicy.Wait) {
+            // leave messages queued by Steam until the game thread caught up
+            maxMessages = Math.min(maxMessages, inbound.free(maxMessages));
+            if (maxMessages == 0) {
+                return 0;
+            }
+        }
+
+        receiveBuffer.clear();
+        int count = sockets.receiveMessagesOnPollGroup(pollGroup, receiveBuffer, receiveSizes, receiveConnections,
+                null, null, null, maxMessages);
+
+        int free = inbound.free(count);
+        int published = 0;
+        int offset = 0;
+
+        for (int i = 0; i < count; i++) {
+            int size = receiveSizes[i];
+
+            if (size > inbound.slotSize || published == free) {
+                inboundDropped++;
+            } else {
+                int slot = inbound.producerSlot(published++);
+                inbound.write(slot, receiveBuffer, offset, size);
+                inbound.sizes[slot] = size;
+                inbound.connections[slot] = receiveConnections[i];
+            }
+
+            offset += size;
+        }
+
+        inbound.publish(published);
+
+        return count;
+    }
+
+}
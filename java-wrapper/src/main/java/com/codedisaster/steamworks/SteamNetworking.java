@@ -70,12 +70,29 @@ public class SteamNetworking extends SteamInterface {
 		}
 	}
 
+	private static final SteamMetrics.Timer SendP2PPacket = SteamMetrics.nativeCall("SteamNetworking.sendP2PPacket");
+	private static final SteamMetrics.Timer IsP2PPacketAvailable =
+			SteamMetrics.nativeCall("SteamNetworking.isP2PPacketAvailable");
+	private static final SteamMetrics.Timer ReadP2PPacket = SteamMetrics.nativeCall("SteamNetworking.readP2PPacket");
+	private static final SteamMetrics.Timer AcceptP2PSessionWithUser =
+			SteamMetrics.nativeCall("SteamNetworking.acceptP2PSessionWithUser");
+	private static final SteamMetrics.Timer CloseP2PSessionWithUser =
+			SteamMetrics.nativeCall("SteamNetworking.closeP2PSessionWithUser");
+	private static final SteamMetrics.Timer CloseP2PChannelWithUser =
+			SteamMetrics.nativeCall("SteamNetworking.closeP2PChannelWithUser");
+	private static final SteamMetrics.Timer GetP2PSessionState =
+			SteamMetrics.nativeCall("SteamNetworking.getP2PSessionState");
+	private static final SteamMetrics.Timer AllowP2PPacketRelay =
+			SteamMetrics.nativeCall("SteamNetworking.allowP2PPacketRelay");
+
+	private final SteamNetworkingBackend backend =
+			SteamAPI.getBackend().networking;
 	private final boolean isServer;
 	private final int[] tmpIntResult = new int[1];
 	private final long[] tmpLongResult = new long[1];
 
 	public SteamNetworking(SteamNetworkingCallback callback) {
-		this(false, SteamNetworkingNative.createCallback(new SteamNetworkingCallbackAdapter(callback)));
+		this(false, SteamAPI.getBackend().networking.createCallback(new SteamNetworkingCallbackAdapter(callback)));
 	}
 
 	SteamNetworking(boolean isServer, long callback) {
@@ -90,12 +107,23 @@ public class SteamNetworking extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
-		return SteamNetworkingNative.sendP2PPacket(isServer, steamIDRemote.handle, data,
-				data.position(), data.remaining(), sendType.ordinal(), channel);
+		Object event = SteamFlightRecorder.beginNetworking();
+		int size = data.remaining();
+
+		long start = SteamMetrics.begin();
+		boolean sent = backend.sendP2PPacket(isServer, steamIDRemote.handle, data,
+				data.position(), size, sendType.ordinal(), channel);
+		SteamMetrics.end(SendP2PPacket, start);
+
+		SteamFlightRecorder.endNetworking(event, "SteamNetworking.sendP2PPacket", sent ? 1 : 0, sent ? size : 0);
+		return sent;
 	}
 
 	public boolean isP2PPacketAvailable(int channel, int[] msgSize) {
-		return SteamNetworkingNative.isP2PPacketAvailable(isServer, msgSize, channel);
+		long start = SteamMetrics.begin();
+		boolean result = backend.isP2PPacketAvailable(isServer, msgSize, channel);
+		SteamMetrics.end(IsP2PPacketAvailable, start);
+		return result;
 	}
 
 	/**
@@ -110,32 +138,54 @@ public class SteamNetworking extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
-		if (SteamNetworkingNative.readP2PPacket(isServer, dest, dest.position(), dest.remaining(), tmpIntResult, tmpLongResult, channel)) {
+		Object event = SteamFlightRecorder.beginNetworking();
+		int bytesRead = 0;
+
+		long start = SteamMetrics.begin();
+		boolean result = backend.readP2PPacket(isServer, dest, dest.position(), dest.remaining(), tmpIntResult, tmpLongResult, channel);
+		SteamMetrics.end(ReadP2PPacket, start);
+		if (result) {
 			steamIDRemote.handle = tmpLongResult[0];
-			return tmpIntResult[0];
+			bytesRead = tmpIntResult[0];
 		}
 
-		return 0;
+		SteamFlightRecorder.endNetworking(event, "SteamNetworking.readP2PPacket", bytesRead > 0 ? 1 : 0, bytesRead);
+		return bytesRead;
 	}
 
 	public boolean acceptP2PSessionWithUser(SteamID steamIDRemote) {
-		return SteamNetworkingNative.acceptP2PSessionWithUser(isServer, steamIDRemote.handle);
+		long start = SteamMetrics.begin();
+		boolean result = backend.acceptP2PSessionWithUser(isServer, steamIDRemote.handle);
+		SteamMetrics.end(AcceptP2PSessionWithUser, start);
+		return result;
 	}
 
 	public boolean closeP2PSessionWithUser(SteamID steamIDRemote) {
-		return SteamNetworkingNative.closeP2PSessionWithUser(isServer, steamIDRemote.handle);
+		long start = SteamMetrics.begin();
+		boolean result = backend.closeP2PSessionWithUser(isServer, steamIDRemote.handle);
+		SteamMetrics.end(CloseP2PSessionWithUser, start);
+		return result;
 	}
 
 	public boolean closeP2PChannelWithUser(SteamID steamIDRemote, int channel) {
-		return SteamNetworkingNative.closeP2PChannelWithUser(isServer, steamIDRemote.handle, channel);
+		long start = SteamMetrics.begin();
+		boolean result = backend.closeP2PChannelWithUser(isServer, steamIDRemote.handle, channel);
+		SteamMetrics.end(CloseP2PChannelWithUser, start);
+		return result;
 	}
 
 	public boolean getP2PSessionState(SteamID steamIDRemote, P2PSessionState connectionState) {
-		return SteamNetworkingNative.getP2PSessionState(isServer, steamIDRemote.handle, connectionState);
+		long start = SteamMetrics.begin();
+		boolean result = backend.getP2PSessionState(isServer, steamIDRemote.handle, connectionState);
+		SteamMetrics.end(GetP2PSessionState, start);
+		return result;
 	}
 
 	public boolean allowP2PPacketRelay(boolean allow) {
-		return SteamNetworkingNative.allowP2PPacketRelay(isServer, allow);
+		long start = SteamMetrics.begin();
+		boolean result = backend.allowP2PPacketRelay(isServer, allow);
+		SteamMetrics.end(AllowP2PPacketRelay, start);
+		return result;
 	}
 
 }
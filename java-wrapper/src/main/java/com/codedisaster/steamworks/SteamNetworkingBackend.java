@@ -0,0 +1,20 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Calls made by {@link SteamNetworking}, implemented by {@link SteamNetworkingNative} and by the simulated backend.
+ */
+interface SteamNetworkingBackend {
+
+	long createCallback(SteamNetworkingCallbackAdapter javaCallback);
+	boolean sendP2PPacket(boolean server, long steamIDRemote, ByteBuffer data, int offset, int size, int sendType, int channel);
+	boolean isP2PPacketAvailable(boolean server, int[] msgSize, int channel);
+	boolean readP2PPacket(boolean server, ByteBuffer dest, int offset, int size, int[] msgSizeInBytes, long[] steamIDRemote, int channel);
+	boolean acceptP2PSessionWithUser(boolean server, long steamIDRemote);
+	boolean closeP2PSessionWithUser(boolean server, long steamIDRemote);
+	boolean closeP2PChannelWithUser(boolean server, long steamIDRemote, int channel);
+	boolean getP2PSessionState(boolean server, long steamIDRemote, SteamNetworking.P2PSessionState connectionState);
+	boolean allowP2PPacketRelay(boolean server, boolean allow);
+
+}
@@ -8,4 +8,19 @@ public interface SteamNetworkingCallback {
 	default void onP2PSessionRequest(SteamID steamIDRemote) {
 	}
 
+	/**
+	 * Raw variant of {@link #onP2PSessionConnectFail(SteamID, SteamNetworking.P2PSessionError)}, which is the
+	 * method called by the callback adapter. Override it to receive the event without allocation.
+	 */
+	default void onP2PSessionConnectFailRaw(long steamIDRemote, int sessionError) {
+		onP2PSessionConnectFail(new SteamID(steamIDRemote), SteamNetworking.P2PSessionError.byOrdinal(sessionError));
+	}
+
+	/**
+	 * Raw variant of {@link #onP2PSessionRequest(SteamID)}.
+	 */
+	default void onP2PSessionRequestRaw(long steamIDRemote) {
+		onP2PSessionRequest(new SteamID(steamIDRemote));
+	}
+
 }
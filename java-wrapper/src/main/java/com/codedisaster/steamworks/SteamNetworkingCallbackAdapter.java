@@ -3,17 +3,30 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamNetworkingCallbackAdapter extends SteamCallbackAdapter<SteamNetworkingCallback> {
 
+	private static final SteamMetrics.Timer OnP2PSessionConnectFail =
+			SteamMetrics.callback("SteamNetworkingCallback.onP2PSessionConnectFail");
+	private static final SteamMetrics.Timer OnP2PSessionRequest =
+			SteamMetrics.callback("SteamNetworkingCallback.onP2PSessionRequest");
+
 	SteamNetworkingCallbackAdapter(SteamNetworkingCallback callback) {
 		super(callback);
 	}
 
 	void onP2PSessionConnectFail(long steamIDRemote, int sessionError) {
-		SteamID id = new SteamID(steamIDRemote);
-		callback.onP2PSessionConnectFail(id, SteamNetworking.P2PSessionError.byOrdinal(sessionError));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onP2PSessionConnectFailRaw(steamIDRemote, sessionError);
+		} finally {
+			SteamMetrics.end(OnP2PSessionConnectFail, start);
+		}
 	}
 
 	void onP2PSessionRequest(long steamIDRemote) {
-		SteamID id = new SteamID(steamIDRemote);
-		callback.onP2PSessionRequest(id);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onP2PSessionRequestRaw(steamIDRemote);
+		} finally {
+			SteamMetrics.end(OnP2PSessionRequest, start);
+		}
 	}
 }
@@ -0,0 +1,174 @@
+package com.codedisaster.steamworks;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A message received with {@link SteamNetworkingSockets#receiveMessagesOnConnection(SteamNetworkingSockets.Connection,
+ * SteamNetworkingMessage[], int)}, which leases the native message instead of copying its payload.
+ * <p>
+ * {@link #getData()} is a direct buffer over the payload owned by Steam. It stays valid until {@link #release()}
+ * is called, and must not be accessed afterwards, including any slices or duplicates made from it.
+ * <p>
+ * Messages should always be released explicitly. As a safety net, messages whose payload buffer became
+ * unreachable are released on the next receive call.
+ */
+public final class SteamNetworkingMessage {
+
+    /**
+     * Releases the native message once its payload buffer is unreachable. Tracking the buffer, not the message,
+     * keeps the native memory alive as long as the buffer, or a view derived from it, is still in use.
+     */
+    private static final class Lease extends PhantomReference<ByteBuffer> {
+
+        final SteamNetworkingSocketsBackend backend;
+        final long message;
+
+        Lease(ByteBuffer data, SteamNetworkingSocketsBackend backend, long message) {
+            super(data, queue);
+            this.backend = backend;
+            this.message = message;
+        }
+    }
+
+    private static final SteamMetrics.Timer ReleaseMessage =
+            SteamMetrics.nativeCall("SteamNetworkingMessage.releaseMessage");
+
+    private static final ReferenceQueue<ByteBuffer> queue = new ReferenceQueue<>();
+    private static final Map<Lease, Boolean> leases = new ConcurrentHashMap<>();
+
+    /**
+     * Size of the metadata written by the native receive functions for each message.
+     */
+    static final int InfoSize = 48;
+
+    private final Lease lease;
+    private final ByteBuffer data;
+
+    private final int connection;
+    private final long messageNumber;
+    private final long timeReceived;
+    private final int flags;
+    private final int lane;
+    private final long connectionUserData;
+
+    private SteamNetworkingMessage(Lease lease, ByteBuffer data, int connection, long messageNumber,
+                                   long timeReceived, int flags, int lane, long connectionUserData) {
+        this.lease = lease;
+        this.data = data;
+        this.connection = connection;
+        this.messageNumber = messageNumber;
+        this.timeReceived = timeReceived;
+        this.flags = flags;
+        this.lane = lane;
+        this.connectionUserData = connectionUserData;
+    }
+
+    /**
+     * Wraps a message received by the backend, described by {@link #InfoSize} bytes at {@code offset} of
+     * {@code info}. The payload buffer is wrapped by the backend, too.
+     */
+    static SteamNetworkingMessage lease(SteamNetworkingSocketsBackend backend, ByteBuffer info, int offset,
+                                        ByteBuffer data) {
+
+        long message = info.getLong(offset);
+        long messageNumber = info.getLong(offset + 8);
+        long timeReceived = info.getLong(offset + 16);
+        int connection = info.getInt(offset + 24);
+        int flags = info.getInt(offset + 32);
+        int lane = info.getInt(offset + 36);
+        long connectionUserData = info.getLong(offset + 40);
+
+        Lease lease = new Lease(data, backend, message);
+        leases.put(lease, Boolean.TRUE);
+
+        return new SteamNetworkingMessage(lease, data, connection, messageNumber, timeReceived, flags, lane,
+                connectionUserData);
+    }
+
+    /**
+     * Releases messages whose payload buffer was collected without being released.
+     */
+    static void releaseUnreachable() {
+        Reference<? extends ByteBuffer> reference;
+        while ((reference = queue.poll()) != null) {
+            release((Lease) reference);
+        }
+    }
+
+    private static void release(Lease lease) {
+        if (leases.remove(lease) != null) {
+            long start = SteamMetrics.begin();
+            lease.backend.releaseMessage(lease.message);
+            SteamMetrics.end(ReleaseMessage, start);
+        }
+    }
+
+    /**
+     * Returns the number of leased messages which haven't been released yet.
+     */
+    public static int getLeasedCount() {
+        return leases.size();
+    }
+
+    /**
+     * Returns the payload. The buffer is positioned at zero, with its limit at the message size.
+     */
+    public ByteBuffer getData() {
+        return data;
+    }
+
+    public int getSize() {
+        return data.capacity();
+    }
+
+    public int getConnection() {
+        return connection;
+    }
+
+    public long getMessageNumber() {
+        return messageNumber;
+    }
+
+    /**
+     * Returns the local time, in microseconds, when the message was received.
+     */
+    public long getTimeReceived() {
+        return timeReceived;
+    }
+
+    /**
+     * Returns the {@link SteamNetworkingSockets.SendFlags} the message was sent with.
+     */
+    public int getFlags() {
+        return flags;
+    }
+
+    public int getLane() {
+        return lane;
+    }
+
+    /**
+     * Returns the user data of the connection, see {@link SteamNetworkingSockets#setConnectionUserData(int, long)}.
+     */
+    public long getConnectionUserData() {
+        return connectionUserData;
+    }
+
+    public boolean isReleased() {
+        return !leases.containsKey(lease);
+    }
+
+    /**
+     * Returns the native message to Steam. Calling this more than once has no effect.
+     */
+    public void release() {
+        release(lease);
+        lease.clear();
+    }
+
+}
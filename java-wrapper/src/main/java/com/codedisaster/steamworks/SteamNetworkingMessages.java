@@ -0,0 +1,197 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Connectionless, datagram-style messages to other users, on numbered channels. This replaces the deprecated
+ * {@link SteamNetworking} P2P API. Sessions with other users are established and kept alive by Steam.
+ * <p>
+ * Messages are sent with the same {@link SteamNetworkingSockets.SendFlags} as connection messages, and
+ * the first message to a user implicitly accepts a session with this user. Messages received from other
+ * users are queued by channel, and are only returned after their session has been accepted, see
+ * {@link SteamNetworkingMessagesCallback#onSessionRequest(SteamID)}.
+ */
+@SuppressWarnings({ "unused", "UnusedReturnValue" })
+public class SteamNetworkingMessages extends SteamInterface {
+
+	/**
+	 * The maximum number of messages returned by a single call to
+	 * {@link #receiveMessagesOnChannel(int, ByteBuffer, int[], long[], int)}.
+	 */
+	public static final int MaxMessagesPerReceive = SteamNetworkingSockets.MaxMessagesPerReceive;
+
+	private static final SteamMetrics.Timer SendMessageToUser =
+			SteamMetrics.nativeCall("SteamNetworkingMessages.sendMessageToUser");
+	private static final SteamMetrics.Timer ReceiveMessagesOnChannel =
+			SteamMetrics.nativeCall("SteamNetworkingMessages.receiveMessagesOnChannel");
+	private static final SteamMetrics.Timer AcceptSessionWithUser =
+			SteamMetrics.nativeCall("SteamNetworkingMessages.acceptSessionWithUser");
+	private static final SteamMetrics.Timer CloseSessionWithUser =
+			SteamMetrics.nativeCall("SteamNetworkingMessages.closeSessionWithUser");
+	private static final SteamMetrics.Timer CloseChannelWithUser =
+			SteamMetrics.nativeCall("SteamNetworkingMessages.closeChannelWithUser");
+	private static final SteamMetrics.Timer GetSessionConnectionState =
+			SteamMetrics.nativeCall("SteamNetworkingMessages.getSessionConnectionState");
+
+	private final SteamNetworkingMessagesBackend backend =
+			SteamAPI.getBackend().networkingMessages;
+
+	public SteamNetworkingMessages(SteamNetworkingMessagesCallback callback) {
+		super(SteamAPI.getBackend().networkingMessages.createCallback(
+				new SteamNetworkingMessagesCallbackAdapter(callback)));
+	}
+
+	/**
+	 * Sends the remaining bytes of a direct buffer to a user, and opens a session with this user if needed.
+	 *
+	 * @param sendFlags Flags controlling how the message is sent, see {@link SteamNetworkingSockets.SendFlags}.
+	 * @param channel The channel to receive the message on, which is like a port number.
+	 *
+	 * @return {@link SteamResult#OK}, or the result documented in
+	 *         {@link SteamNetworkingSockets#sendMessageToConnection(SteamNetworkingSockets.Connection, ByteBuffer, int)}.
+	 *         {@link SteamResult#NoConnection} is returned if the session with this user failed, and
+	 *         {@link SteamNetworkingSockets.SendFlags#AutoRestartBrokenSession} is not set.
+	 */
+	public SteamResult sendMessageToUser(SteamID steamIDRemote, ByteBuffer data,
+										 int sendFlags, int channel) throws SteamException {
+		return sendMessageToUser(steamIDRemote.handle, data, sendFlags, channel);
+	}
+
+	/**
+	 * Same as {@link #sendMessageToUser(SteamID, ByteBuffer, int, int)}, but takes the raw Steam ID.
+	 */
+	public SteamResult sendMessageToUser(long steamIDRemote, ByteBuffer data,
+										 int sendFlags, int channel) throws SteamException {
+		checkBuffer(data);
+
+		Object event = SteamFlightRecorder.beginNetworking();
+		int size = data.remaining();
+
+		long start = SteamMetrics.begin();
+		int result = backend.sendMessageToUser(steamIDRemote, data, data.position(), size, sendFlags, channel);
+		SteamMetrics.end(SendMessageToUser, start);
+
+		boolean sent = result == SteamResult.OK.getCode();
+		SteamFlightRecorder.endNetworking(event, "SteamNetworkingMessages.sendMessageToUser",
+				sent ? 1 : 0, sent ? size : 0);
+		return SteamResult.byValue(result);
+	}
+
+	/**
+	 * Receives up to {@code maxMessages} pending messages of a channel, from any user, with a single native call.
+	 * <p>
+	 * The message payloads are copied back to back into the provided direct {@link ByteBuffer}, starting at its
+	 * current position, and the buffer position is advanced past the last message. The size of each message is
+	 * written to {@code sizes}, and the Steam ID of its sender to {@code steamIDsRemote}.
+	 * <p>
+	 * Messages which don't fit into the buffer anymore stay queued, and are returned by the next call.
+	 *
+	 * @param channel The channel to receive messages on.
+	 * @param data A direct {@link ByteBuffer} into which the message payloads will be written.
+	 * @param sizes Receives the size of each message.
+	 * @param steamIDsRemote Receives the raw Steam ID of the sender of each message.
+	 * @param maxMessages The maximum number of messages to receive, limited by the length of both arrays and by
+	 *                    {@link #MaxMessagesPerReceive}.
+	 *
+	 * @return The number of messages received, or {@code 0} if no message is currently available.
+	 *
+	 * @throws SteamException
+	 *     If {@code data} is not a direct buffer, or if the next message exceeds the buffer's remaining capacity.
+	 */
+	public int receiveMessagesOnChannel(int channel, ByteBuffer data, int[] sizes,
+										long[] steamIDsRemote, int maxMessages) throws SteamException {
+		checkBuffer(data);
+
+		maxMessages = Math.min(Math.min(maxMessages, MaxMessagesPerReceive),
+				Math.min(sizes.length, steamIDsRemote.length));
+
+		if (maxMessages <= 0) {
+			return 0;
+		}
+
+		Object event = SteamFlightRecorder.beginNetworking();
+
+		long start = SteamMetrics.begin();
+		int messages = backend.receiveMessagesOnChannel(channel, data, data.position(), data.remaining(),
+				sizes, steamIDsRemote, maxMessages);
+		SteamMetrics.end(ReceiveMessagesOnChannel, start);
+
+		if (messages < 0) {
+			SteamFlightRecorder.endNetworking(event, "SteamNetworkingMessages.receiveMessagesOnChannel", 0, 0);
+			throw new SteamException("Buffer Overflow, bytes received: " + (-messages) + " bytes remaining: " + data.remaining());
+		}
+
+		int bytesWritten = 0;
+		for (int i = 0; i < messages; i++) {
+			bytesWritten += sizes[i];
+		}
+
+		data.position(data.position() + bytesWritten);
+
+		SteamFlightRecorder.endNetworking(event, "SteamNetworkingMessages.receiveMessagesOnChannel",
+				messages, bytesWritten);
+
+		return messages;
+	}
+
+	/**
+	 * Accepts the session requested by a user, see {@link SteamNetworkingMessagesCallback#onSessionRequest(SteamID)}.
+	 *
+	 * @return False if there is no session request of this user.
+	 */
+	public boolean acceptSessionWithUser(SteamID steamIDRemote) {
+		return acceptSessionWithUser(steamIDRemote.handle);
+	}
+
+	public boolean acceptSessionWithUser(long steamIDRemote) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.acceptSessionWithUser(steamIDRemote);
+		SteamMetrics.end(AcceptSessionWithUser, start);
+		return result;
+	}
+
+	/**
+	 * Closes the session with a user, and discards the messages received from this user which haven't been
+	 * returned yet.
+	 */
+	public boolean closeSessionWithUser(SteamID steamIDRemote) {
+		return closeSessionWithUser(steamIDRemote.handle);
+	}
+
+	public boolean closeSessionWithUser(long steamIDRemote) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.closeSessionWithUser(steamIDRemote);
+		SteamMetrics.end(CloseSessionWithUser, start);
+		return result;
+	}
+
+	/**
+	 * Closes one channel of the session with a user. The session is closed once all its channels are closed.
+	 */
+	public boolean closeChannelWithUser(SteamID steamIDRemote, int channel) {
+		return closeChannelWithUser(steamIDRemote.handle, channel);
+	}
+
+	public boolean closeChannelWithUser(long steamIDRemote, int channel) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.closeChannelWithUser(steamIDRemote, channel);
+		SteamMetrics.end(CloseChannelWithUser, start);
+		return result;
+	}
+
+	/**
+	 * Returns the state of the connection underlying the session with a user, or
+	 * {@link SteamNetworkingSockets.ConnectionState#None} if there is no session.
+	 */
+	public SteamNetworkingSockets.ConnectionState getSessionConnectionState(SteamID steamIDRemote) {
+		return SteamNetworkingSockets.ConnectionState.byValue(getSessionConnectionState(steamIDRemote.handle));
+	}
+
+	public int getSessionConnectionState(long steamIDRemote) {
+		long start = SteamMetrics.begin();
+		int result = backend.getSessionConnectionState(steamIDRemote);
+		SteamMetrics.end(GetSessionConnectionState, start);
+		return result;
+	}
+
+}
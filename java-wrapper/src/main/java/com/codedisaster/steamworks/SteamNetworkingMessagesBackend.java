@@ -0,0 +1,31 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Calls made by {@link SteamNetworkingMessages}, implemented by {@link SteamNetworkingMessagesNative} and by the
+ * simulated backend.
+ */
+interface SteamNetworkingMessagesBackend {
+
+	long createCallback(SteamNetworkingMessagesCallbackAdapter javaCallback);
+	int sendMessageToUser(long steamIDRemote, ByteBuffer data, int offset, int size, int sendFlags, int channel);
+
+	/**
+	 * Copies messages back to back into {@code data}, and writes the size and sender of each message. Returns
+	 * the number of messages received, or the negative size of the next message if it doesn't fit into the
+	 * buffer, in which case it stays queued.
+	 */
+	int receiveMessagesOnChannel(int channel, ByteBuffer data, int offset, int size, int[] sizes,
+								 long[] steamIDsRemote, int maxMessages);
+
+	boolean acceptSessionWithUser(long steamIDRemote);
+	boolean closeSessionWithUser(long steamIDRemote);
+	boolean closeChannelWithUser(long steamIDRemote, int channel);
+
+	/**
+	 * Returns the {@link SteamNetworkingSockets.ConnectionState} of the session, or 0 if there is none.
+	 */
+	int getSessionConnectionState(long steamIDRemote);
+
+}
@@ -0,0 +1,37 @@
+package com.codedisaster.steamworks;
+
+public interface SteamNetworkingMessagesCallback {
+
+	/**
+	 * A user sent the first message of a new session. Its messages are only received after the session has
+	 * been accepted with {@link SteamNetworkingMessages#acceptSessionWithUser(SteamID)}.
+	 */
+	default void onSessionRequest(SteamID steamIDRemote) {
+	}
+
+	/**
+	 * A session failed, and messages sent to this user fail with {@link SteamResult#NoConnection} until
+	 * the session is closed, or {@link SteamNetworkingSockets.SendFlags#AutoRestartBrokenSession} is set.
+	 *
+	 * @param endReason The {@code ESteamNetConnectionEnd} reason.
+	 * @param endDebug A human readable explanation of the end reason, or an empty string.
+	 */
+	default void onSessionFailed(SteamID steamIDRemote, int endReason, String endDebug) {
+	}
+
+	/**
+	 * Raw variant of {@link #onSessionRequest(SteamID)}, which is the method called by the callback adapter.
+	 * Override it to receive the event without allocation.
+	 */
+	default void onSessionRequestRaw(long steamIDRemote) {
+		onSessionRequest(new SteamID(steamIDRemote));
+	}
+
+	/**
+	 * Raw variant of {@link #onSessionFailed(SteamID, int, String)}.
+	 */
+	default void onSessionFailedRaw(long steamIDRemote, int endReason, String endDebug) {
+		onSessionFailed(new SteamID(steamIDRemote), endReason, endDebug);
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.codedisaster.steamworks;
+
+@SuppressWarnings("unused")
+class SteamNetworkingMessagesCallbackAdapter extends SteamCallbackAdapter<SteamNetworkingMessagesCallback> {
+
+	private static final SteamMetrics.Timer OnSessionRequest =
+			SteamMetrics.callback("SteamNetworkingMessagesCallback.onSessionRequest");
+	private static final SteamMetrics.Timer OnSessionFailed =
+			SteamMetrics.callback("SteamNetworkingMessagesCallback.onSessionFailed");
+
+	SteamNetworkingMessagesCallbackAdapter(SteamNetworkingMessagesCallback callback) {
+		super(callback);
+	}
+
+	void onSessionRequest(long steamIDRemote) {
+		long start = SteamMetrics.begin();
+		try {
+			callback.onSessionRequestRaw(steamIDRemote);
+		} finally {
+			SteamMetrics.end(OnSessionRequest, start);
+		}
+	}
+
+	void onSessionFailed(long steamIDRemote, int endReason, String endDebug) {
+		long start = SteamMetrics.begin();
+		try {
+			callback.onSessionFailedRaw(steamIDRemote, endReason, endDebug != null ? endDebug : "");
+		} finally {
+			SteamMetrics.end(OnSessionFailed, start);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+
+final class SteamNetworkingMessagesNative implements SteamNetworkingMessagesBackend {
+
+	// @off
+
+	/*JNI
+		#include <steam_api.h>
+		#include "SteamNetworkingMessagesCallback.h"
+		#include "SteamPendingMessages.h"
+
+		static const int MaxMessagesPerReceive = 256;
+
+		// Messages which didn't fit into the caller's buffer are kept by channel.
+		static SteamPendingMessages s_pendingMessages;
+
+		static int receiveMessages(int channel, SteamNetworkingMessage_t** messages, int maxMessages) {
+			int count = s_pendingMessages.take((uint64) channel, messages, maxMessages);
+			if (count < maxMessages) {
+				int received = SteamNetworkingMessages()->ReceiveMessagesOnChannel(channel, &messages[count], maxMessages - count);
+				if (received > 0) {
+					count += received;
+				}
+			}
+			return count;
+		}
+
+		// Releases kept messages of a user, on one channel, or on all channels if the channel is -1.
+		static void releasePendingMessages(uint64 steamIDRemote, int channel) {
+			s_pendingMessages.release([=] (uint64 key, SteamNetworkingMessage_t* message) {
+				return (channel < 0 || key == (uint64) channel) && message->m_identityPeer.GetSteamID64() == steamIDRemote;
+			});
+		}
+
+		static SteamNetworkingIdentity toIdentity(uint64 steamID) {
+			SteamNetworkingIdentity identity;
+			identity.SetSteamID64(steamID);
+			return identity;
+		}
+	*/
+
+	public native long createCallback(SteamNetworkingMessagesCallbackAdapter javaCallback); /*
+		return (intp) new SteamNetworkingMessagesCallback(env, javaCallback);
+	*/
+
+	public native int sendMessageToUser(long steamIDRemote, ByteBuffer data, int offset, int size,
+										int sendFlags, int channel); /*
+
+		return SteamNetworkingMessages()->SendMessageToUser(toIdentity((uint64) steamIDRemote),
+			&data[offset], size, sendFlags, channel);
+	*/
+
+	public native int receiveMessagesOnChannel(int channel, ByteBuffer data, int offset, int size, int[] sizes,
+											   long[] steamIDsRemote, int maxMessages); /*
+
+		SteamNetworkingMessage_t* messages[MaxMessagesPerReceive];
+
+		if (maxMessages > MaxMessagesPerReceive) {
+			maxMessages = MaxMessagesPerReceive;
+		}
+
+		int messagesReceived = receiveMessages(channel, messages, maxMessages);
+
+		return s_pendingMessages.copy((uint64) channel, messages, messagesReceived, &data[offset], size, sizes,
+			SteamPendingMessages::SteamID, steamIDsRemote, NULL, NULL, NULL);
+	*/
+
+	public native boolean acceptSessionWithUser(long steamIDRemote); /*
+		return SteamNetworkingMessages()->AcceptSessionWithUser(toIdentity((uint64) steamIDRemote));
+	*/
+
+	public native boolean closeSessionWithUser(long steamIDRemote); /*
+		releasePendingMessages((uint64) steamIDRemote, -1);
+		return SteamNetworkingMessages()->CloseSessionWithUser(toIdentity((uint64) steamIDRemote));
+	*/
+
+	public native boolean closeChannelWithUser(long steamIDRemote, int channel); /*
+		releasePendingMessages((uint64) steamIDRemote, channel);
+		return SteamNetworkingMessages()->CloseChannelWithUser(toIdentity((uint64) steamIDRemote), channel);
+	*/
+
+	public native int getSessionConnectionState(long steamIDRemote); /*
+		return SteamNetworkingMessages()->GetSessionConnectionInfo(toIdentity((uint64) steamIDRemote), NULL, NULL);
+	*/
+
+}
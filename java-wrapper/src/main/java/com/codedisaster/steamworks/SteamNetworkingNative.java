@@ -2,31 +2,32 @@ package com.codedisaster.steamworks;
 
 import java.nio.ByteBuffer;
 
-final class SteamNetworkingNative {
+final class SteamNetworkingNative implements SteamNetworkingBackend {
 
 	// @off
 
 	/*JNI
 		#include "SteamNetworkingCallback.h"
+		#include "SteamJavaClasses.h"
 	*/
 
-	static native long createCallback(SteamNetworkingCallbackAdapter javaCallback); /*
+	public native long createCallback(SteamNetworkingCallbackAdapter javaCallback); /*
 		return (intp) new SteamNetworkingCallback(env, javaCallback);
 	*/
 
-	static native boolean sendP2PPacket(boolean server, long steamIDRemote, ByteBuffer data,
+	public native boolean sendP2PPacket(boolean server, long steamIDRemote, ByteBuffer data,
 										int offset, int size, int sendType, int channel); /*
 
 		ISteamNetworking* net = server ? SteamGameServerNetworking() : SteamNetworking();
 		return net->SendP2PPacket((uint64) steamIDRemote, &data[offset], size, (EP2PSend) sendType, channel);
 	*/
 
-	static native boolean isP2PPacketAvailable(boolean server, int[] msgSize, int channel); /*
+	public native boolean isP2PPacketAvailable(boolean server, int[] msgSize, int channel); /*
 		ISteamNetworking* net = server ? SteamGameServerNetworking() : SteamNetworking();
 		return net->IsP2PPacketAvailable((uint32 *)msgSize, channel);
 	*/
 
-	static native boolean readP2PPacket(boolean server, ByteBuffer dest, int offset, int size,
+	public native boolean readP2PPacket(boolean server, ByteBuffer dest, int offset, int size,
 										int[] msgSizeInBytes, long[] steamIDRemote, int channel); /*
 
 		ISteamNetworking* net = server ? SteamGameServerNetworking() : SteamNetworking();
@@ -38,53 +39,38 @@ final class SteamNetworkingNative {
 		return false;
 	*/
 
-	static native boolean acceptP2PSessionWithUser(boolean server, long steamIDRemote); /*
+	public native boolean acceptP2PSessionWithUser(boolean server, long steamIDRemote); /*
 		ISteamNetworking* net = server ? SteamGameServerNetworking() : SteamNetworking();
 		return net->AcceptP2PSessionWithUser((uint64) steamIDRemote);
 	*/
 
-	static native boolean closeP2PSessionWithUser(boolean server, long steamIDRemote); /*
+	public native boolean closeP2PSessionWithUser(boolean server, long steamIDRemote); /*
 		ISteamNetworking* net = server ? SteamGameServerNetworking() : SteamNetworking();
 		return net->CloseP2PSessionWithUser((uint64) steamIDRemote);
 	*/
 
-	static native boolean closeP2PChannelWithUser(boolean server, long steamIDRemote, int channel); /*
+	public native boolean closeP2PChannelWithUser(boolean server, long steamIDRemote, int channel); /*
 		ISteamNetworking* net = server ? SteamGameServerNetworking() : SteamNetworking();
 		return net->CloseP2PChannelWithUser((uint64) steamIDRemote, channel);
 	*/
 
-	static native boolean getP2PSessionState(boolean server, long steamIDRemote,
+	public native boolean getP2PSessionState(boolean server, long steamIDRemote,
 											 SteamNetworking.P2PSessionState connectionState); /*
 
 		ISteamNetworking* net = server ? SteamGameServerNetworking() : SteamNetworking();
 		P2PSessionState_t result;
 
 		if (net->GetP2PSessionState((uint64) steamIDRemote, &result)) {
-			jclass clazz = env->GetObjectClass(connectionState);
+			const SteamJavaClasses::P2PSessionState& fields = SteamJavaClasses::p2pSessionState;
 
-			jfieldID field = env->GetFieldID(clazz, "connectionActive", "B");
-			env->SetByteField(connectionState, field, (jbyte) result.m_bConnectionActive);
-
-			field = env->GetFieldID(clazz, "connecting", "B");
-			env->SetByteField(connectionState, field, (jbyte) result.m_bConnecting);
-
-			field = env->GetFieldID(clazz, "sessionError", "B");
-			env->SetByteField(connectionState, field, (jbyte) result.m_eP2PSessionError);
-
-			field = env->GetFieldID(clazz, "usingRelay", "B");
-			env->SetByteField(connectionState, field, (jbyte) result.m_bUsingRelay);
-
-			field = env->GetFieldID(clazz, "bytesQueuedForSend", "I");
-			env->SetIntField(connectionState, field, result.m_nBytesQueuedForSend);
-
-			field = env->GetFieldID(clazz, "packetsQueuedForSend", "I");
-			env->SetIntField(connectionState, field, result.m_nPacketsQueuedForSend);
-
-			field = env->GetFieldID(clazz, "remoteIP", "I");
-			env->SetIntField(connectionState, field, (jint) result.m_nRemoteIP);
-
-			field = env->GetFieldID(clazz, "remotePort", "S");
-			env->SetShortField(connectionState, field, (jshort) result.m_nRemotePort);
+			env->SetByteField(connectionState, fields.connectionActive, (jbyte) result.m_bConnectionActive);
+			env->SetByteField(connectionState, fields.connecting, (jbyte) result.m_bConnecting);
+			env->SetByteField(connectionState, fields.sessionError, (jbyte) result.m_eP2PSessionError);
+			env->SetByteField(connectionState, fields.usingRelay, (jbyte) result.m_bUsingRelay);
+			env->SetIntField(connectionState, fields.bytesQueuedForSend, result.m_nBytesQueuedForSend);
+			env->SetIntField(connectionState, fields.packetsQueuedForSend, result.m_nPacketsQueuedForSend);
+			env->SetIntField(connectionState, fields.remoteIP, (jint) result.m_nRemoteIP);
+			env->SetShortField(connectionState, fields.remotePort, (jshort) result.m_nRemotePort);
 
 			return true;
         }
@@ -92,7 +78,7 @@ final class SteamNetworkingNative {
         return false;
 	*/
 
-	static native boolean allowP2PPacketRelay(boolean server, boolean allow); /*
+	public native boolean allowP2PPacketRelay(boolean server, boolean allow); /*
 		ISteamNetworking* net = server ? SteamGameServerNetworking() : SteamNetworking();
 		return net->AllowP2PPacketRelay(allow);
 	*/
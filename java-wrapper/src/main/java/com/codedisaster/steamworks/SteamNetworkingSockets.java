@@ -1,6 +1,8 @@
 package com.codedisaster.steamworks;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 
 public class SteamNetworkingSockets extends SteamInterface {
 
@@ -11,6 +13,10 @@ public class SteamNetworkingSockets extends SteamInterface {
             this.handle = handle;
         }
 
+        public int getHandle() {
+            return handle;
+        }
+
         public boolean isValid() {
             return handle != 0;
         }
@@ -41,6 +47,10 @@ public class SteamNetworkingSockets extends SteamInterface {
             this.handle = handle;
         }
 
+        public int getHandle() {
+            return handle;
+        }
+
         public boolean isValid() {
             return handle != 0;
         }
@@ -64,6 +74,40 @@ public class SteamNetworkingSockets extends SteamInterface {
         }
     }
 
+    public static final class PollGroup {
+        private final int handle;
+
+        public PollGroup(int handle) {
+            this.handle = handle;
+        }
+
+        public int getHandle() {
+            return handle;
+        }
+
+        public boolean isValid() {
+            return handle != 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PollGroup)) return false;
+
+            PollGroup that = (PollGroup) o;
+            return handle == that.handle;
+        }
+
+        @Override
+        public int hashCode() {
+            return handle;
+        }
+
+        @Override
+        public String toString() {
+            return Integer.toHexString(handle);
+        }
+    }
+
     public enum ConnectionState {
         /**
          * Dummy value used to indicate an error condition in the API.
@@ -163,6 +207,283 @@ public class SteamNetworkingSockets extends SteamInterface {
         }
     }
 
+    /**
+     * Connection info of a status change, see
+     * {@link SteamNetworkingSocketsCallback#onConnectionStatusChanged(ConnectionInfo, int)}. The instance is
+     * reused for all status changes reported to the same callback interface, and is only valid during the call.
+     */
+    public static final class ConnectionInfo {
+
+        private int connection;
+        private long steamIDRemote;
+        private long userData;
+        private int listenSocket;
+        private int state;
+        private int endReason;
+        private String endDebug;
+        private int flags;
+
+        void set(int connection, long steamIDRemote, int state, long userData, int listenSocket,
+                 int endReason, int flags) {
+            this.connection = connection;
+            this.steamIDRemote = steamIDRemote;
+            this.state = state;
+            this.userData = userData;
+            this.listenSocket = listenSocket;
+            this.endReason = endReason;
+            this.endDebug = null;
+            this.flags = flags;
+        }
+
+        public int getConnection() {
+            return connection;
+        }
+
+        /**
+         * Returns the raw Steam ID of the remote end.
+         */
+        public long getSteamIDRemote() {
+            return steamIDRemote;
+        }
+
+        /**
+         * Returns the value set with {@link #setConnectionUserData(Connection, long)}, or -1 if none was set.
+         */
+        public long getUserData() {
+            return userData;
+        }
+
+        /**
+         * Returns the listen socket which accepted the connection, or 0 if it was initiated locally.
+         */
+        public int getListenSocket() {
+            return listenSocket;
+        }
+
+        public ConnectionState getState() {
+            return ConnectionState.byValue(state);
+        }
+
+        public int getStateRaw() {
+            return state;
+        }
+
+        /**
+         * Returns the {@code ESteamNetConnectionEnd} reason of a closed connection, or 0.
+         */
+        public int getEndReason() {
+            return endReason;
+        }
+
+        /**
+         * Returns the human readable explanation of the end reason, or an empty string. The text isn't passed
+         * with the status change, but queried from the connection on first use.
+         */
+        public String getEndDebug() {
+            if (endDebug == null) {
+                String text = SteamAPI.getBackend().networkingSockets.getConnectionEndDebug(connection);
+                endDebug = text != null ? text : "";
+            }
+            return endDebug;
+        }
+
+        /**
+         * Returns the {@code k_nSteamNetworkConnectionInfoFlags} of the connection.
+         */
+        public int getFlags() {
+            return flags;
+        }
+    }
+
+    /**
+     * Configuration values applied to a connection or listen socket on creation, see
+     * {@link #connectP2P(SteamID, int, ConfigOptions)}. Instances can be reused.
+     */
+    public static final class ConfigOptions {
+
+        /**
+         * Size of each option: the value, its data type, and the value itself, or the index of
+         * a string value.
+         */
+        static final int OptionSize = 16;
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4 * OptionSize).order(ByteOrder.nativeOrder());
+        Object[] strings = new Object[0];
+        int count;
+        private int stringCount;
+
+        public ConfigOptions setInt32(SteamNetworkingUtils.ConfigValue value, int intValue) {
+            buffer.putInt(add(value, SteamNetworkingUtils.ConfigDataType.Int32) + 8, intValue);
+            return this;
+        }
+
+        public ConfigOptions setInt64(SteamNetworkingUtils.ConfigValue value, long longValue) {
+            buffer.putLong(add(value, SteamNetworkingUtils.ConfigDataType.Int64) + 8, longValue);
+            return this;
+        }
+
+        public ConfigOptions setFloat(SteamNetworkingUtils.ConfigValue value, float floatValue) {
+            buffer.putFloat(add(value, SteamNetworkingUtils.ConfigDataType.Float) + 8, floatValue);
+            return this;
+        }
+
+        public ConfigOptions setString(SteamNetworkingUtils.ConfigValue value, String stringValue) {
+            buffer.putInt(add(value, SteamNetworkingUtils.ConfigDataType.String) + 8, stringCount);
+
+            if (stringCount == strings.length) {
+                strings = Arrays.copyOf(strings, Math.max(4, 2 * stringCount));
+            }
+            strings[stringCount++] = stringValue;
+            return this;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public void clear() {
+            Arrays.fill(strings, 0, stringCount, null);
+            stringCount = 0;
+            count = 0;
+        }
+
+        private int add(SteamNetworkingUtils.ConfigValue value, SteamNetworkingUtils.ConfigDataType dataType) {
+            int offset = count * OptionSize;
+
+            if (offset + OptionSize > buffer.capacity()) {
+                ByteBuffer grown = ByteBuffer.allocateDirect(2 * buffer.capacity()).order(ByteOrder.nativeOrder());
+                buffer.clear();
+                grown.put(buffer);
+                buffer = grown;
+            }
+
+            buffer.putInt(offset, value.code);
+            buffer.putInt(offset + 4, dataType.code);
+            buffer.putLong(offset + 8, 0L);
+            count++;
+
+            return offset;
+        }
+    }
+
+    /**
+     * Real-time status of a connection, filled by {@link #getConnectionRealTimeStatus(Connection, ConnectionRealTimeStatus)}.
+     * Instances are meant to be reused, and are backed by a direct buffer shared with native code.
+     */
+    public static final class ConnectionRealTimeStatus {
+
+        static final int Size = 56;
+        static final int LaneSize = 24;
+
+        final ByteBuffer buffer;
+        final int numLanes;
+
+        public ConnectionRealTimeStatus() {
+            this(0);
+        }
+
+        /**
+         * @param numLanes The number of lanes to query the status of, see {@link #getLanePendingReliable(int)}.
+         */
+        public ConnectionRealTimeStatus(int numLanes) {
+            this.numLanes = numLanes;
+            this.buffer = ByteBuffer.allocateDirect(Size + numLanes * LaneSize).order(ByteOrder.nativeOrder());
+        }
+
+        public ConnectionState getState() {
+            return ConnectionState.byValue(buffer.getInt(0));
+        }
+
+        public int getPing() {
+            return buffer.getInt(4);
+        }
+
+        /**
+         * Returns the fraction of packets delivered end-to-end from the remote host, between 0 and 1, or a
+         * negative value if unknown.
+         */
+        public float getConnectionQualityLocal() {
+            return buffer.getFloat(8);
+        }
+
+        /**
+         * Returns the fraction of packets delivered end-to-end to the remote host, as reported by the remote host.
+         */
+        public float getConnectionQualityRemote() {
+            return buffer.getFloat(12);
+        }
+
+        public float getOutPacketsPerSec() {
+            return buffer.getFloat(16);
+        }
+
+        public float getOutBytesPerSec() {
+            return buffer.getFloat(20);
+        }
+
+        public float getInPacketsPerSec() {
+            return buffer.getFloat(24);
+        }
+
+        public float getInBytesPerSec() {
+            return buffer.getFloat(28);
+        }
+
+        /**
+         * Returns the estimated bandwidth of the connection, in bytes per second.
+         */
+        public int getSendRateBytesPerSecond() {
+            return buffer.getInt(32);
+        }
+
+        /**
+         * Returns the number of bytes of unreliable messages queued for sending.
+         */
+        public int getPendingUnreliable() {
+            return buffer.getInt(36);
+        }
+
+        /**
+         * Returns the number of bytes of reliable messages queued for sending, not counting those sent, but not
+         * acknowledged yet.
+         */
+        public int getPendingReliable() {
+            return buffer.getInt(40);
+        }
+
+        public int getSentUnackedReliable() {
+            return buffer.getInt(44);
+        }
+
+        /**
+         * Returns the estimated time, in microseconds, a message sent now would wait in the queue before
+         * being put on the wire.
+         */
+        public long getQueueTime() {
+            return buffer.getLong(48);
+        }
+
+        public int getNumLanes() {
+            return numLanes;
+        }
+
+        public int getLanePendingUnreliable(int lane) {
+            return buffer.getInt(Size + lane * LaneSize);
+        }
+
+        public int getLanePendingReliable(int lane) {
+            return buffer.getInt(Size + lane * LaneSize + 4);
+        }
+
+        public int getLaneSentUnackedReliable(int lane) {
+            return buffer.getInt(Size + lane * LaneSize + 8);
+        }
+
+        public long getLaneQueueTime(int lane) {
+            return buffer.getLong(Size + lane * LaneSize + 16);
+        }
+    }
+
     /**
      * Flags used to set options for message sending.
      * This is not an enum, because flags are naturally combined with the or operator.
@@ -294,20 +615,164 @@ public class SteamNetworkingSockets extends SteamInterface {
         int AutoRestartBrokenSession = 32;
     }
 
+    /**
+     * The maximum number of messages returned by a single call to
+     * {@link #receiveMessagesOnConnection(Connection, ByteBuffer, int[], int)} or
+     * {@link #receiveMessagesOnPollGroup(PollGroup, ByteBuffer, int[], int[], int)}.
+     */
+    public static final int MaxMessagesPerReceive = 256;
+
+    private static final long[] NoLongs = new long[0];
+    private static final int[] NoInts = new int[0];
+    private static final float[] NoFloats = new float[0];
+    private static final short[] NoShorts = new short[0];
+    private static final ConfigOptions NoOptions = new ConfigOptions();
+
+    private static final SteamMetrics.Timer ConnectP2P = SteamMetrics.nativeCall("SteamNetworkingSockets.connectP2P");
+    private static final SteamMetrics.Timer CreateListenSocketP2P =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.createListenSocketP2P");
+    private static final SteamMetrics.Timer CreateSocketPair =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.createSocketPair");
+    private static final SteamMetrics.Timer AcceptConnection =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.acceptConnection");
+    private static final SteamMetrics.Timer CloseConnection =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.closeConnection");
+    private static final SteamMetrics.Timer CloseListenSocket =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.closeListenSocket");
+    private static final SteamMetrics.Timer SendMessageToConnection =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.sendMessageToConnection");
+    private static final SteamMetrics.Timer SendMessageToConnectionOnLane =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.sendMessageToConnectionOnLane");
+    private static final SteamMetrics.Timer ConfigureConnectionLanes =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.configureConnectionLanes");
+    private static final SteamMetrics.Timer SendMessages =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.sendMessages");
+    private static final SteamMetrics.Timer FlushMessages =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.flushMessages");
+    private static final SteamMetrics.Timer SetConnectionUserData =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.setConnectionUserData");
+    private static final SteamMetrics.Timer GetConnectionUserData =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.getConnectionUserData");
+    private static final SteamMetrics.Timer ReceiveMessageOnConnection =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.receiveMessageOnConnection");
+    private static final SteamMetrics.Timer ReceiveMessagesOnConnection =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.receiveMessagesOnConnection");
+    private static final SteamMetrics.Timer GetConnectionRealTimeStatus =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.getConnectionRealTimeStatus");
+    private static final SteamMetrics.Timer GetConnectionRealTimeStatuses =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.getConnectionRealTimeStatuses");
+    private static final SteamMetrics.Timer CreatePollGroup =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.createPollGroup");
+    private static final SteamMetrics.Timer DestroyPollGroup =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.destroyPollGroup");
+    private static final SteamMetrics.Timer SetConnectionPollGroup =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.setConnectionPollGroup");
+    private static final SteamMetrics.Timer ReceiveMessagesOnPollGroup =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.receiveMessagesOnPollGroup");
+    private static final SteamMetrics.Timer EnableSymmetricConnect =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.enableSymmetricConnect");
+    private static final SteamMetrics.Timer ReceiveMessageLeasesOnPollGroup =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.receiveMessageLeasesOnPollGroup");
+    private static final SteamMetrics.Timer ReceiveMessageLeasesOnConnection =
+            SteamMetrics.nativeCall("SteamNetworkingSockets.receiveMessageLeasesOnConnection");
+
+    private final SteamNetworkingSocketsBackend backend =
+            SteamAPI.getBackend().networkingSockets;
+
+    private ByteBuffer leaseInfo;
+    private Object[] leaseBuffers;
+
     public SteamNetworkingSockets(SteamNetworkingSocketsCallback callback) {
-        super(SteamNetworkingSocketsNative.createCallback(new SteamNetworkingSocketsCallbackAdapter(callback)));
+        super(SteamAPI.getBackend().networkingSockets.createCallback(new SteamNetworkingSocketsCallbackAdapter(callback)));
     }
 
     public Connection connectP2P(SteamID steamID, int virtualPort){
-        int result = SteamNetworkingSocketsNative.connectP2P(steamID.handle, virtualPort);
+        return connectP2P(steamID, virtualPort, NoOptions);
+    }
+
+    /**
+     * Same as {@link #connectP2P(SteamID, int)}, and applies configuration values to the connection
+     * before it is established.
+     */
+    public Connection connectP2P(SteamID steamID, int virtualPort, ConfigOptions options) {
+        long start = SteamMetrics.begin();
+        int result = backend.connectP2P(steamID.handle, virtualPort, options.buffer, options.count, options.strings);
+        SteamMetrics.end(ConnectP2P, start);
         return new Connection(result);
     }
 
+    /**
+     * Same as {@link #connectP2P(SteamID, int)}, but works on raw handles, and doesn't allocate.
+     *
+     * @return The connection handle, or 0 if the connection could not be created.
+     */
+    public int connectP2PRaw(long steamID, int virtualPort) {
+        return connectP2PRaw(steamID, virtualPort, NoOptions);
+    }
+
+    public int connectP2PRaw(long steamID, int virtualPort, ConfigOptions options) {
+        long start = SteamMetrics.begin();
+        int result = backend.connectP2P(steamID, virtualPort, options.buffer, options.count, options.strings);
+        SteamMetrics.end(ConnectP2P, start);
+        return result;
+    }
+
     public Socket createListenSocketP2P(int virtualPort){
-        int result = SteamNetworkingSocketsNative.createListenSocketP2P(virtualPort);
+        return createListenSocketP2P(virtualPort, NoOptions);
+    }
+
+    /**
+     * Same as {@link #createListenSocketP2P(int)}, and applies configuration values to the listen socket,
+     * which are inherited by the connections it accepts.
+     */
+    public Socket createListenSocketP2P(int virtualPort, ConfigOptions options) {
+        int result = createListenSocketP2PRaw(virtualPort, options);
         return new Socket(result);
     }
 
+    public int createListenSocketP2PRaw(int virtualPort) {
+        return createListenSocketP2PRaw(virtualPort, NoOptions);
+    }
+
+    public int createListenSocketP2PRaw(int virtualPort, ConfigOptions options) {
+        long start = SteamMetrics.begin();
+        int result = backend.createListenSocketP2P(virtualPort, options.buffer, options.count, options.strings);
+        SteamMetrics.end(CreateListenSocketP2P, start);
+        return result;
+    }
+
+    /**
+     * Creates two connections of the local user, linked to each other. Both are connected immediately,
+     * without status callbacks, and everything sent on one is received by the other.
+     * <p>
+     * This is meant for tests and benchmarks of the send and receive path, which don't need a second
+     * Steam account this way.
+     *
+     * @param useNetworkLoopback If true, messages are sent through the network stack over the localhost
+     *                           interface, which includes encryption and packet handling. If false, they
+     *                           are passed in memory. The simulated backend always passes them in memory.
+     *
+     * @return Both ends of the connection, or null if the pair could not be created.
+     */
+    public Connection[] createSocketPair(boolean useNetworkLoopback) {
+        int[] connections = new int[2];
+        if (!createSocketPairRaw(useNetworkLoopback, connections)) {
+            return null;
+        }
+        return new Connection[] { new Connection(connections[0]), new Connection(connections[1]) };
+    }
+
+    /**
+     * Same as {@link #createSocketPair(boolean)}, but writes the connection handles to the first two
+     * elements of {@code connections}.
+     */
+    public boolean createSocketPairRaw(boolean useNetworkLoopback, int[] connections) {
+        long start = SteamMetrics.begin();
+        boolean result = backend.createSocketPair(useNetworkLoopback, connections);
+        SteamMetrics.end(CreateSocketPair, start);
+        return result;
+    }
+
     /**
      * Accepts an incoming connection request.
      *
@@ -321,16 +786,42 @@ public class SteamNetworkingSockets extends SteamInterface {
      * This method communicates with the native SteamNetworkingSockets API to accept a connection.
      */
     public SteamResult acceptConnection(Connection connection) {
-        int result = SteamNetworkingSocketsNative.acceptConnection(connection.handle);
+        return acceptConnection(connection.handle);
+    }
+
+    public SteamResult acceptConnection(int connection) {
+        long start = SteamMetrics.begin();
+        int result = backend.acceptConnection(connection);
+        SteamMetrics.end(AcceptConnection, start);
         return SteamResult.byValue(result);
     }
 
     public boolean closeConnection(Connection connection, int reason, boolean linger){
-        return SteamNetworkingSocketsNative.closeConnection(connection.handle, reason, linger);
+        long start = SteamMetrics.begin();
+        boolean result = backend.closeConnection(connection.handle, reason, linger);
+        SteamMetrics.end(CloseConnection, start);
+        return result;
+    }
+
+    public boolean closeConnection(int connection, int reason, boolean linger) {
+        long start = SteamMetrics.begin();
+        boolean result = backend.closeConnection(connection, reason, linger);
+        SteamMetrics.end(CloseConnection, start);
+        return result;
     }
 
     public boolean closeListenSocket(Socket socket){
-        return SteamNetworkingSocketsNative.closeListenSocket(socket.handle);
+        long start = SteamMetrics.begin();
+        boolean result = backend.closeListenSocket(socket.handle);
+        SteamMetrics.end(CloseListenSocket, start);
+        return result;
+    }
+
+    public boolean closeListenSocket(int socket) {
+        long start = SteamMetrics.begin();
+        boolean result = backend.closeListenSocket(socket);
+        SteamMetrics.end(CloseListenSocket, start);
+        return result;
     }
 
     /**
@@ -350,14 +841,170 @@ public class SteamNetworkingSockets extends SteamInterface {
      * This method interfaces with the native SteamNetworkingSockets API for message transmission.
      */
     public SteamResult sendMessageToConnection(Connection connection, ByteBuffer data, int sendFlags) throws SteamException {
+        return sendMessageToConnection(connection.handle, data, sendFlags);
+    }
+
+    /**
+     * Same as {@link #sendMessageToConnection(Connection, ByteBuffer, int)}, but takes the raw connection handle.
+     */
+    public SteamResult sendMessageToConnection(int connection, ByteBuffer data, int sendFlags) throws SteamException {
+        if (!data.isDirect()) {
+            throw new SteamException("Direct buffer required!");
+        }
+
+        Object event = SteamFlightRecorder.beginNetworking();
+        int size = data.remaining();
+
+        long start = SteamMetrics.begin();
+        int result = backend.sendMessageToConnection(connection, data, data.position(), size, sendFlags);
+        SteamMetrics.end(SendMessageToConnection, start);
+
+        boolean sent = result == SteamResult.OK.getCode();
+        SteamFlightRecorder.endNetworking(event, "SteamNetworkingSockets.sendMessageToConnection",
+                sent ? 1 : 0, sent ? size : 0);
+        return SteamResult.byValue(result);
+    }
+
+    /**
+     * Same as {@link #sendMessageToConnection(Connection, ByteBuffer, int)}, but sends the message on a lane
+     * configured with {@link #configureConnectionLanes(Connection, int[], short[])}.
+     * Returns {@link SteamResult#InvalidParam} if the lane doesn't exist.
+     */
+    public SteamResult sendMessageToConnection(Connection connection, ByteBuffer data, int sendFlags,
+                                               int lane) throws SteamException {
+        return sendMessageToConnection(connection.handle, data, sendFlags, lane);
+    }
+
+    public SteamResult sendMessageToConnection(int connection, ByteBuffer data, int sendFlags,
+                                               int lane) throws SteamException {
+        if (lane == 0) {
+            return sendMessageToConnection(connection, data, sendFlags);
+        }
+
         if (!data.isDirect()) {
             throw new SteamException("Direct buffer required!");
         }
 
-        int result = SteamNetworkingSocketsNative.sendMessageToConnection(connection.handle, data, data.position(), data.remaining(), sendFlags);
+        Object event = SteamFlightRecorder.beginNetworking();
+        int size = data.remaining();
+
+        long start = SteamMetrics.begin();
+        int result = backend.sendMessageToConnectionOnLane(connection, data, data.position(), size, sendFlags, lane);
+        SteamMetrics.end(SendMessageToConnectionOnLane, start);
+
+        boolean sent = result == SteamResult.OK.getCode();
+        SteamFlightRecorder.endNetworking(event, "SteamNetworkingSockets.sendMessageToConnection",
+                sent ? 1 : 0, sent ? size : 0);
         return SteamResult.byValue(result);
     }
 
+    /**
+     * Splits the outgoing messages of a connection into lanes, which are scheduled independently, so that
+     * small, urgent messages don't wait behind bulk transfers queued on the same connection.
+     * <p>
+     * Lanes with a lower priority value are always sent first. Lanes of the same priority share the
+     * bandwidth left by lanes of higher priority, proportional to their weight. Messages are sent on lane
+     * 0 unless specified otherwise. The number of lanes can be increased later, but never reduced.
+     *
+     * @param priorities The priority of each lane, which also sets the number of lanes.
+     * @param weights The weight of each lane, read as unsigned 16 bit values, or null to weigh all lanes equally.
+     *
+     * @return {@link SteamResult#OK}, {@link SteamResult#NoConnection} if the connection handle is invalid, or
+     *         {@link SteamResult#InvalidParam} if the number of lanes is invalid or reduced, or a weight is zero.
+     *
+     * @throws SteamException If {@code weights} holds less elements than {@code priorities}.
+     */
+    public SteamResult configureConnectionLanes(Connection connection, int[] priorities,
+                                                short[] weights) throws SteamException {
+        return configureConnectionLanes(connection.handle, priorities, weights);
+    }
+
+    public SteamResult configureConnectionLanes(int connection, int[] priorities,
+                                                short[] weights) throws SteamException {
+        if (weights != null && weights.length < priorities.length) {
+            throw new SteamException("Weights must hold at least " + priorities.length + " elements.");
+        }
+
+        long start = SteamMetrics.begin();
+        int result = backend.configureConnectionLanes(connection, priorities.length, priorities,
+                weights != null ? weights : NoShorts);
+        SteamMetrics.end(ConfigureConnectionLanes, start);
+        return SteamResult.byValue(result);
+    }
+
+    /**
+     * Sends a batch of messages with a single native call.
+     * <p>
+     * Message payloads are read from the provided direct {@link ByteBuffer}, at {@code offsets} relative to its
+     * current position. Messages may share a payload, e.g. to broadcast the same snapshot to many connections.
+     * The buffer position is not changed.
+     *
+     * @param data A direct {@link ByteBuffer} holding the message payloads.
+     * @param offsets The offset of each payload, relative to the buffer position.
+     * @param sizes The size of each payload.
+     * @param connections The connection handle to send each message to.
+     * @param sendFlags The {@link SendFlags} of each message.
+     * @param lanes The lane of each message, or null to send all messages on the default lane.
+     * @param results Receives the message number assigned to each message, or the negative
+     *                {@link SteamResult} code if the message could not be sent, as documented in
+     *                {@link #sendMessageToConnection(Connection, ByteBuffer, int)}.
+     * @param numMessages The number of messages to send.
+     *
+     * @return The number of messages sent.
+     *
+     * @throws SteamException
+     *     If {@code data} is not a direct buffer, if an array holds less than {@code numMessages} elements, or
+     *     if a payload lies outside of the buffer's remaining bytes.
+     */
+    public int sendMessages(ByteBuffer data, int[] offsets, int[] sizes, int[] connections,
+                            int[] sendFlags, int[] lanes, long[] results, int numMessages) throws SteamException {
+        if (!data.isDirect()) {
+            throw new SteamException("Direct buffer required!");
+        }
+
+        if (offsets.length < numMessages || sizes.length < numMessages || connections.length < numMessages
+                || sendFlags.length < numMessages || results.length < numMessages
+                || (lanes != null && lanes.length < numMessages)) {
+            throw new SteamException("Arrays must hold at least " + numMessages + " elements.");
+        }
+
+        int remaining = data.remaining();
+        int bytes = 0;
+
+        for (int i = 0; i < numMessages; i++) {
+            if (offsets[i] < 0 || sizes[i] < 0 || offsets[i] > remaining - sizes[i]) {
+                throw new SteamException("Message " + i + " out of bounds, offset: " + offsets[i]
+                        + " size: " + sizes[i] + " bytes remaining: " + remaining);
+            }
+            bytes += sizes[i];
+        }
+
+        if (numMessages <= 0) {
+            return 0;
+        }
+
+        Object event = SteamFlightRecorder.beginNetworking();
+
+        long start = SteamMetrics.begin();
+        int sent = backend.sendMessages(data, data.position(), offsets, sizes, connections, sendFlags,
+                lanes != null ? lanes : NoInts, results, numMessages);
+        SteamMetrics.end(SendMessages, start);
+
+        SteamFlightRecorder.endNetworking(event, "SteamNetworkingSockets.sendMessages", sent,
+                sent == numMessages ? bytes : sentBytes(sizes, results, numMessages));
+
+        return sent;
+    }
+
+    private static int sentBytes(int[] sizes, long[] results, int numMessages) {
+        int bytes = 0;
+        for (int i = 0; i < numMessages; i++) {
+            if (results[i] > 0) {
+                bytes += sizes[i];
+            }
+        }
+        return bytes;
+    }
 
     /**
      * Flushes messages for a specified connection.
@@ -373,10 +1020,53 @@ public class SteamNetworkingSockets extends SteamInterface {
      * This method communicates with the native SteamNetworkingSockets API to perform the operation.
      */
     public SteamResult flushMessages(Connection connection) {
-        int result = SteamNetworkingSocketsNative.flushMessages(connection.handle);
+        return flushMessages(connection.handle);
+    }
+
+    public SteamResult flushMessages(int connection) {
+        long start = SteamMetrics.begin();
+        int result = backend.flushMessages(connection);
+        SteamMetrics.end(FlushMessages, start);
         return SteamResult.byValue(result);
     }
 
+    /**
+     * Sets a 64 bit value attached to the connection, which is reported with each status change in
+     * {@link ConnectionInfo#getUserData()}, and with each message received with
+     * {@link #receiveMessagesOnConnection(Connection, SteamNetworkingMessage[], int)}. Games use it to look up
+     * their per-connection state without a map, e.g. with {@link SteamConnectionSessions}.
+     * <p>
+     * Messages already received, but not yet returned by a receive call, are updated, too. This includes
+     * messages kept back by an earlier receive call because they didn't fit into its buffer.
+     *
+     * @return False if the connection handle is invalid.
+     */
+    public boolean setConnectionUserData(Connection connection, long userData) {
+        return setConnectionUserData(connection.handle, userData);
+    }
+
+    public boolean setConnectionUserData(int connection, long userData) {
+        long start = SteamMetrics.begin();
+        boolean result = backend.setConnectionUserData(connection, userData);
+        SteamMetrics.end(SetConnectionUserData, start);
+        return result;
+    }
+
+    /**
+     * Returns the value set with {@link #setConnectionUserData(Connection, long)}, or -1 if none was set, or
+     * the connection handle is invalid.
+     */
+    public long getConnectionUserData(Connection connection) {
+        return getConnectionUserData(connection.handle);
+    }
+
+    public long getConnectionUserData(int connection) {
+        long start = SteamMetrics.begin();
+        long result = backend.getConnectionUserData(connection);
+        SteamMetrics.end(GetConnectionUserData, start);
+        return result;
+    }
+
     /**
      * Attempts to receive a single pending message from a SteamNetworkingSockets connection.
      * <p>
@@ -414,11 +1104,26 @@ public class SteamNetworkingSockets extends SteamInterface {
      *     until it returns {@code 0}, optionally enforcing a per-frame processing limit.
      */
     public int receiveMessageOnConnection(Connection connection, ByteBuffer data) throws SteamException {
+        return receiveMessageOnConnection(connection.handle, data);
+    }
+
+    /**
+     * Same as {@link #receiveMessageOnConnection(Connection, ByteBuffer)}, but takes the raw connection handle.
+     */
+    public int receiveMessageOnConnection(int connection, ByteBuffer data) throws SteamException {
         if (!data.isDirect()) {
             throw new SteamException("Direct buffer required!");
         }
 
-        int bytesWritten = SteamNetworkingSocketsNative.receiveMessageOnConnection(connection.handle, data, data.position(), data.remaining());
+        Object event = SteamFlightRecorder.beginNetworking();
+
+        long start = SteamMetrics.begin();
+        int bytesWritten = backend.receiveMessageOnConnection(connection, data, data.position(), data.remaining());
+        SteamMetrics.end(ReceiveMessageOnConnection, start);
+
+        SteamFlightRecorder.endNetworking(event, "SteamNetworkingSockets.receiveMessageOnConnection",
+                bytesWritten > 0 ? 1 : 0, Math.max(bytesWritten, 0));
+
         if (bytesWritten < 0) {
             throw new SteamException("Buffer Overflow, bytes received: " + (-bytesWritten) + " bytes remaining: " + data.remaining());
         }
@@ -426,11 +1131,365 @@ public class SteamNetworkingSockets extends SteamInterface {
         return bytesWritten;
     }
 
+    /**
+     * Receives up to {@code maxMessages} pending messages from a connection with a single native call.
+     * <p>
+     * The message payloads are copied back to back into the provided direct {@link ByteBuffer}, starting at its
+     * current position, and the buffer position is advanced past the last message. The size of each message is
+     * written to {@code sizes}.
+     * <p>
+     * Messages which don't fit into the buffer anymore stay queued, and are returned by the next call.
+     *
+     * @param connection The connection handle to receive data from.
+     * @param data A direct {@link ByteBuffer} into which the message payloads will be written.
+     * @param sizes Receives the size of each message.
+     * @param maxMessages The maximum number of messages to receive, limited by the length of {@code sizes} and by
+     *                    {@link #MaxMessagesPerReceive}.
+     *
+     * @return The number of messages received, or {@code 0} if no message is currently available.
+     *
+     * @throws SteamException
+     *     If {@code data} is not a direct buffer, or if the next message exceeds the buffer's remaining capacity.
+     */
+    public int receiveMessagesOnConnection(Connection connection, ByteBuffer data,
+                                           int[] sizes, int maxMessages) throws SteamException {
+        return receiveMessagesOnConnection(connection.handle, data, sizes, null, null, null, maxMessages);
+    }
+
+    /**
+     * Same as {@link #receiveMessagesOnConnection(Connection, ByteBuffer, int[], int)}, but takes the raw
+     * connection handle.
+     */
+    public int receiveMessagesOnConnection(int connection, ByteBuffer data,
+                                           int[] sizes, int maxMessages) throws SteamException {
+        return receiveMessagesOnConnection(connection, data, sizes, null, null, null, maxMessages);
+    }
+
+    /**
+     * Same as {@link #receiveMessagesOnConnection(Connection, ByteBuffer, int[], int)}, but also returns message
+     * metadata. Each of the metadata arrays is optional, and may be null.
+     *
+     * @param messageNumbers Receives the message number assigned by the sender.
+     * @param receiveTimes Receives the local time, in microseconds, when each message was received.
+     * @param lanes Receives the lane each message was sent on.
+     */
+    public int receiveMessagesOnConnection(int connection, ByteBuffer data, int[] sizes,
+                                           long[] messageNumbers, long[] receiveTimes, int[] lanes,
+                                           int maxMessages) throws SteamException {
+        if (!data.isDirect()) {
+            throw new SteamException("Direct buffer required!");
+        }
+
+        maxMessages = limitMessages(maxMessages, sizes.length, messageNumbers, receiveTimes, lanes);
+        if (maxMessages <= 0) {
+            return 0;
+        }
+
+        Object event = SteamFlightRecorder.beginNetworking();
+
+        long start = SteamMetrics.begin();
+        int messages = backend.receiveMessagesOnConnection(connection, data, data.position(), data.remaining(),
+                sizes, messageNumbers != null ? messageNumbers : NoLongs, receiveTimes != null ? receiveTimes : NoLongs,
+                lanes != null ? lanes : NoInts, maxMessages);
+        SteamMetrics.end(ReceiveMessagesOnConnection, start);
+
+        if (messages < 0) {
+            SteamFlightRecorder.endNetworking(event, "SteamNetworkingSockets.receiveMessagesOnConnection", 0, 0);
+            throw new SteamException("Buffer Overflow, bytes received: " + (-messages) + " bytes remaining: " + data.remaining());
+        }
+
+        int bytesWritten = 0;
+        for (int i = 0; i < messages; i++) {
+            bytesWritten += sizes[i];
+        }
+
+        data.position(data.position() + bytesWritten);
+
+        SteamFlightRecorder.endNetworking(event, "SteamNetworkingSockets.receiveMessagesOnConnection",
+                messages, bytesWritten);
+
+        return messages;
+    }
+
+    /**
+     * Receives up to {@code maxMessages} pending messages from a connection, without copying their payloads.
+     * <p>
+     * Each message is leased from Steam, and exposes its payload as a direct {@link ByteBuffer} over native
+     * memory. Messages must be returned with {@link SteamNetworkingMessage#release()} once they have been
+     * processed.
+     *
+     * @param messages Receives the leased messages.
+     * @param maxMessages The maximum number of messages to receive, limited by the length of {@code messages} and
+     *                    by {@link #MaxMessagesPerReceive}.
+     *
+     * @return The number of messages received, or {@code 0} if no message is currently available.
+     */
+    public int receiveMessagesOnConnection(Connection connection, SteamNetworkingMessage[] messages, int maxMessages) {
+        return receiveMessagesOnConnection(connection.handle, messages, maxMessages);
+    }
+
+    public int receiveMessagesOnConnection(int connection, SteamNetworkingMessage[] messages, int maxMessages) {
+        return receiveMessageLeases(connection, false, messages, maxMessages);
+    }
+
+    /**
+     * Returns the real-time status of a connection, to adapt the send rate to the available bandwidth before
+     * sends fail with {@link SteamResult#LimitExceeded}.
+     *
+     * @param status Receives the status of the connection, and of as many lanes as it was created for.
+     * @return {@link SteamResult#OK}, {@link SteamResult#NoConnection} if the connection handle is invalid, or
+     *         {@link SteamResult#InvalidParam} if more lanes were requested than the connection has.
+     */
+    public SteamResult getConnectionRealTimeStatus(Connection connection, ConnectionRealTimeStatus status) {
+        return getConnectionRealTimeStatus(connection.handle, status);
+    }
+
+    public SteamResult getConnectionRealTimeStatus(int connection, ConnectionRealTimeStatus status) {
+        long start = SteamMetrics.begin();
+        int result = backend.getConnectionRealTimeStatus(connection, status.buffer, status.numLanes);
+        SteamMetrics.end(GetConnectionRealTimeStatus, start);
+        return SteamResult.byValue(result);
+    }
+
+    /**
+     * Queries the real-time status of many connections with a single native call. Each of the output arrays is
+     * optional, and may be null.
+     *
+     * @param connections The handles of the connections to query.
+     * @param count The number of connections to query.
+     * @param states Receives the {@link ConnectionState} value of each connection, or 0 if its status couldn't
+     *               be queried.
+     * @param pings Receives the ping of each connection, in milliseconds.
+     * @param qualityLocal Receives the connection quality, see
+     *                     {@link ConnectionRealTimeStatus#getConnectionQualityLocal()}.
+     * @param sendRates Receives the estimated bandwidth of each connection, in bytes per second.
+     * @param pendingUnreliable Receives the number of bytes of unreliable messages queued for sending.
+     * @param pendingReliable Receives the number of bytes of reliable messages queued for sending.
+     * @param queueTimes Receives the estimated queue time of each connection, in microseconds.
+     *
+     * @return The number of connections whose status was queried.
+     *
+     * @throws SteamException If an array holds less than {@code count} elements.
+     */
+    public int getConnectionRealTimeStatus(int[] connections, int count, int[] states, int[] pings,
+                                           float[] qualityLocal, int[] sendRates, int[] pendingUnreliable,
+                                           int[] pendingReliable, long[] queueTimes) throws SteamException {
+
+        if (connections.length < count || tooShort(states, count) || tooShort(pings, count)
+                || (qualityLocal != null && qualityLocal.length < count) || tooShort(sendRates, count)
+                || tooShort(pendingUnreliable, count) || tooShort(pendingReliable, count)
+                || (queueTimes != null && queueTimes.length < count)) {
+            throw new SteamException("Arrays must hold at least " + count + " elements.");
+        }
+
+        if (count <= 0) {
+            return 0;
+        }
+
+        long start = SteamMetrics.begin();
+        int result = backend.getConnectionRealTimeStatuses(connections, count,
+                states != null ? states : NoInts, pings != null ? pings : NoInts,
+                qualityLocal != null ? qualityLocal : NoFloats, sendRates != null ? sendRates : NoInts,
+                pendingUnreliable != null ? pendingUnreliable : NoInts,
+                pendingReliable != null ? pendingReliable : NoInts, queueTimes != null ? queueTimes : NoLongs);
+        SteamMetrics.end(GetConnectionRealTimeStatuses, start);
+        return result;
+    }
+
+    private static boolean tooShort(int[] array, int count) {
+        return array != null && array.length < count;
+    }
+
+    /**
+     * Creates a poll group, which receives the messages of all connections assigned to it with
+     * {@link #setConnectionPollGroup(Connection, PollGroup)}.
+     *
+     * @return The poll group. Its handle is 0 if the poll group could not be created.
+     */
+    public PollGroup createPollGroup() {
+        long start = SteamMetrics.begin();
+        int result = backend.createPollGroup();
+        SteamMetrics.end(CreatePollGroup, start);
+        return new PollGroup(result);
+    }
+
+    public int createPollGroupRaw() {
+        long start = SteamMetrics.begin();
+        int result = backend.createPollGroup();
+        SteamMetrics.end(CreatePollGroup, start);
+        return result;
+    }
+
+    /**
+     * Destroys a poll group. Pending messages of its connections are not lost, and can still be received
+     * from each connection.
+     */
+    public boolean destroyPollGroup(PollGroup pollGroup) {
+        long start = SteamMetrics.begin();
+        boolean result = backend.destroyPollGroup(pollGroup.handle);
+        SteamMetrics.end(DestroyPollGroup, start);
+        return result;
+    }
+
+    public boolean destroyPollGroup(int pollGroup) {
+        long start = SteamMetrics.begin();
+        boolean result = backend.destroyPollGroup(pollGroup);
+        SteamMetrics.end(DestroyPollGroup, start);
+        return result;
+    }
+
+    /**
+     * Assigns a connection to a poll group, or removes it from its poll group if {@code pollGroup} is invalid.
+     * A connection belongs to at most one poll group.
+     */
+    public boolean setConnectionPollGroup(Connection connection, PollGroup pollGroup) {
+        long start = SteamMetrics.begin();
+        boolean result = backend.setConnectionPollGroup(connection.handle, pollGroup.handle);
+        SteamMetrics.end(SetConnectionPollGroup, start);
+        return result;
+    }
+
+    public boolean setConnectionPollGroup(int connection, int pollGroup) {
+        long start = SteamMetrics.begin();
+        boolean result = backend.setConnectionPollGroup(connection, pollGroup);
+        SteamMetrics.end(SetConnectionPollGroup, start);
+        return result;
+    }
+
+    /**
+     * Same as {@link #receiveMessagesOnConnection(Connection, ByteBuffer, int[], int)}, but receives the messages
+     * of all connections in a poll group, in the order they arrived. The handle of the connection each message
+     * was received on is written to {@code connections}.
+     */
+    public int receiveMessagesOnPollGroup(PollGroup pollGroup, ByteBuffer data, int[] sizes,
+                                          int[] connections, int maxMessages) throws SteamException {
+        return receiveMessagesOnPollGroup(pollGroup.handle, data, sizes, connections, null, null, null, maxMessages);
+    }
+
+    /**
+     * Same as {@link #receiveMessagesOnPollGroup(PollGroup, ByteBuffer, int[], int[], int)}, but takes the raw
+     * poll group handle, and also returns message metadata. Each of the metadata arrays is optional, and may be
+     * null.
+     *
+     * @see #receiveMessagesOnConnection(int, ByteBuffer, int[], long[], long[], int[], int)
+     */
+    public int receiveMessagesOnPollGroup(int pollGroup, ByteBuffer data, int[] sizes, int[] connections,
+                                          long[] messageNumbers, long[] receiveTimes, int[] lanes,
+                                          int maxMessages) throws SteamException {
+        if (!data.isDirect()) {
+            throw new SteamException("Direct buffer required!");
+        }
+
+        maxMessages = limitMessages(maxMessages, Math.min(sizes.length, connections.length),
+                messageNumbers, receiveTimes, lanes);
+        if (maxMessages <= 0) {
+            return 0;
+        }
+
+        Object event = SteamFlightRecorder.beginNetworking();
+
+        long start = SteamMetrics.begin();
+        int messages = backend.receiveMessagesOnPollGroup(pollGroup, data, data.position(), data.remaining(),
+                sizes, connections, messageNumbers != null ? messageNumbers : NoLongs,
+                receiveTimes != null ? receiveTimes : NoLongs, lanes != null ? lanes : NoInts, maxMessages);
+        SteamMetrics.end(ReceiveMessagesOnPollGroup, start);
+
+        if (messages < 0) {
+            SteamFlightRecorder.endNetworking(event, "SteamNetworkingSockets.receiveMessagesOnPollGroup", 0, 0);
+            throw new SteamException("Buffer Overflow, bytes received: " + (-messages) + " bytes remaining: " + data.remaining());
+        }
+
+        int bytesWritten = 0;
+        for (int i = 0; i < messages; i++) {
+            bytesWritten += sizes[i];
+        }
+
+        data.position(data.position() + bytesWritten);
+
+        SteamFlightRecorder.endNetworking(event, "SteamNetworkingSockets.receiveMessagesOnPollGroup",
+                messages, bytesWritten);
+
+        return messages;
+    }
+
+    /**
+     * Same as {@link #receiveMessagesOnConnection(Connection, SteamNetworkingMessage[], int)}, but receives the
+     * messages of all connections in a poll group.
+     */
+    public int receiveMessagesOnPollGroup(PollGroup pollGroup, SteamNetworkingMessage[] messages, int maxMessages) {
+        return receiveMessagesOnPollGroup(pollGroup.handle, messages, maxMessages);
+    }
+
+    public int receiveMessagesOnPollGroup(int pollGroup, SteamNetworkingMessage[] messages, int maxMessages) {
+        return receiveMessageLeases(pollGroup, true, messages, maxMessages);
+    }
+
+    private int receiveMessageLeases(int handle, boolean isPollGroup, SteamNetworkingMessage[] messages,
+                                     int maxMessages) {
+
+        SteamNetworkingMessage.releaseUnreachable();
+
+        maxMessages = Math.min(Math.min(maxMessages, messages.length), MaxMessagesPerReceive);
+        if (maxMessages <= 0) {
+            return 0;
+        }
+
+        if (leaseInfo == null) {
+            leaseInfo = ByteBuffer.allocateDirect(MaxMessagesPerReceive * SteamNetworkingMessage.InfoSize)
+                    .order(ByteOrder.nativeOrder());
+            leaseBuffers = new Object[MaxMessagesPerReceive];
+        }
+
+        Object event = SteamFlightRecorder.beginNetworking();
+
+        long start = SteamMetrics.begin();
+        int count;
+        if (isPollGroup) {
+            count = backend.receiveMessageLeasesOnPollGroup(handle, leaseInfo, leaseBuffers, maxMessages);
+            SteamMetrics.end(ReceiveMessageLeasesOnPollGroup, start);
+        } else {
+            count = backend.receiveMessageLeasesOnConnection(handle, leaseInfo, leaseBuffers, maxMessages);
+            SteamMetrics.end(ReceiveMessageLeasesOnConnection, start);
+        }
+
+        int bytes = 0;
+        for (int i = 0; i < count; i++) {
+            ByteBuffer data = (ByteBuffer) leaseBuffers[i];
+            leaseBuffers[i] = null;
+            messages[i] = SteamNetworkingMessage.lease(backend, leaseInfo, i * SteamNetworkingMessage.InfoSize, data);
+            bytes += data.capacity();
+        }
+
+        SteamFlightRecorder.endNetworking(event, isPollGroup
+                ? "SteamNetworkingSockets.receiveMessagesOnPollGroup"
+                : "SteamNetworkingSockets.receiveMessagesOnConnection", count, bytes);
+
+        return count;
+    }
+
+    private static int limitMessages(int maxMessages, int length,
+                                     long[] messageNumbers, long[] receiveTimes, int[] lanes) {
+
+        maxMessages = Math.min(Math.min(maxMessages, length), MaxMessagesPerReceive);
+        if (messageNumbers != null) {
+            maxMessages = Math.min(maxMessages, messageNumbers.length);
+        }
+        if (receiveTimes != null) {
+            maxMessages = Math.min(maxMessages, receiveTimes.length);
+        }
+        if (lanes != null) {
+            maxMessages = Math.min(maxMessages, lanes.length);
+        }
+        return maxMessages;
+    }
+
     /**
      * Helper method to globally enable k_ESteamNetworkingConfig_SymmetricConnect
      * Useful to avoid split brain scenarios for P2P matchmaking
      */
     public void enableSymmetricConnect() {
-        SteamNetworkingSocketsNative.enableSymmetricConnect();
+        long start = SteamMetrics.begin();
+        backend.enableSymmetricConnect();
+        SteamMetrics.end(EnableSymmetricConnect, start);
     }
 }
@@ -0,0 +1,102 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Calls made by {@link SteamNetworkingSockets}, implemented by {@link SteamNetworkingSocketsNative} and by the simulated backend.
+ */
+interface SteamNetworkingSocketsBackend {
+
+    long createCallback(SteamNetworkingSocketsCallbackAdapter javaCallback);
+    /**
+     * Options are {@code numOptions} entries of {@link SteamNetworkingSockets.ConfigOptions#OptionSize} bytes,
+     * in native byte order. String values are passed by their index into {@code strings}.
+     */
+    int connectP2P(long steamID, int virtualPort, ByteBuffer options, int numOptions, Object[] strings);
+    int createListenSocketP2P(int virtualPort, ByteBuffer options, int numOptions, Object[] strings);
+    int acceptConnection(int netConnectionHandle);
+    boolean createSocketPair(boolean useNetworkLoopback, int[] connections);
+    boolean closeConnection(int netConnectionHandle, int reason, boolean linger);
+    boolean closeListenSocket(int socketHandle);
+    int sendMessageToConnection(int netConnectionHandle, ByteBuffer data, int offset, int size, int sendFlags);
+    int sendMessageToConnectionOnLane(int netConnectionHandle, ByteBuffer data, int offset, int size, int sendFlags,
+                                      int lane);
+    /**
+     * Sends messages packed into one buffer, at {@code offset} plus their offset. Writes the message number, or
+     * the negative result code, of each message to {@code results}, and returns the number of messages sent.
+     * Lanes may be empty, but never null.
+     */
+    int sendMessages(ByteBuffer data, int offset, int[] offsets, int[] sizes, int[] connections,
+                     int[] sendFlags, int[] lanes, long[] results, int numMessages);
+
+    int receiveMessageOnConnection(int netConnectionHandle, ByteBuffer data, int offset, int size);
+
+    /**
+     * Returns the number of messages received, or the negative size of the next message if it doesn't fit into
+     * the buffer, in which case it stays queued. Metadata arrays may be empty, but are never null.
+     */
+    int receiveMessagesOnConnection(int netConnectionHandle, ByteBuffer data, int offset, int size, int[] sizes,
+                                    long[] messageNumbers, long[] receiveTimes, int[] lanes, int maxMessages);
+    /**
+     * Receives messages without copying them. For each message, writes {@link SteamNetworkingMessage#InfoSize}
+     * bytes of metadata in native byte order to {@code info}, and a direct buffer over its payload to
+     * {@code buffers}. Each message must be returned with {@link #releaseMessage(long)}.
+     */
+    int receiveMessageLeasesOnConnection(int netConnectionHandle, ByteBuffer info, Object[] buffers, int maxMessages);
+
+    int receiveMessageLeasesOnPollGroup(int pollGroup, ByteBuffer info, Object[] buffers, int maxMessages);
+
+    void releaseMessage(long message);
+
+    /**
+     * Writes the status, followed by the status of {@code numLanes} lanes, to {@code status}, using the layout
+     * read by {@link SteamNetworkingSockets.ConnectionRealTimeStatus}.
+     */
+    int getConnectionRealTimeStatus(int netConnectionHandle, ByteBuffer status, int numLanes);
+
+    /**
+     * Output arrays may be empty, but are never null.
+     */
+    int getConnectionRealTimeStatuses(int[] connections, int count, int[] states, int[] pings, float[] qualityLocal,
+                                      int[] sendRates, int[] pendingUnreliable, int[] pendingReliable,
+                                      long[] queueTimes);
+
+    /**
+     * Weights may be empty, but are never null.
+     */
+    int configureConnectionLanes(int netConnectionHandle, int numLanes, int[] priorities, short[] weights);
+
+    int createPollGroup();
+    boolean destroyPollGroup(int pollGroup);
+    boolean setConnectionPollGroup(int netConnectionHandle, int pollGroup);
+
+    /**
+     * Same as {@link #receiveMessagesOnConnection}, and also returns the connection of each message.
+     */
+    int receiveMessagesOnPollGroup(int pollGroup, ByteBuffer data, int offset, int size, int[] sizes, int[] connections,
+                                   long[] messageNumbers, long[] receiveTimes, int[] lanes, int maxMessages);
+
+    int flushMessages(int connectionHandle);
+    boolean setConnectionUserData(int netConnectionHandle, long userData);
+    long getConnectionUserData(int netConnectionHandle);
+
+    /**
+     * Returns the human readable explanation of why the connection ended, or null.
+     */
+    String getConnectionEndDebug(int netConnectionHandle);
+    void enableSymmetricConnect();
+
+    /**
+     * Sets a value of {@link SteamNetworkingUtils}. The argument matching the data type is used, and a data
+     * type of 0 resets the value. The string value is never null.
+     */
+    boolean setConfigValue(int value, int scopeType, long scopeObject, int dataType,
+                           long longValue, float floatValue, String stringValue);
+
+    /**
+     * Writes the size of the value as a 64 bit integer, followed by the value, to {@code result}, in native byte
+     * order. Returns the {@code ESteamNetworkingGetConfigValueResult}.
+     */
+    int getConfigValue(int value, int scopeType, long scopeObject, ByteBuffer result, int size);
+
+}
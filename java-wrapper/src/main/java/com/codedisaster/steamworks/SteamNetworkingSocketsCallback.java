@@ -1,10 +1,40 @@
 package com.codedisaster.steamworks;
 
 import com.codedisaster.steamworks.SteamNetworkingSockets.Connection;
+import com.codedisaster.steamworks.SteamNetworkingSockets.ConnectionInfo;
 import com.codedisaster.steamworks.SteamNetworkingSockets.ConnectionState;
 
 public interface SteamNetworkingSocketsCallback {
 
     void onConnectionStatusChanged(Connection connection, SteamID steamID, ConnectionState state, ConnectionState prevState);
 
+    /**
+     * Receives connection status changes with the full connection info, including the user data set with
+     * {@link SteamNetworkingSockets#setConnectionUserData(Connection, long)}, the listen socket and the end reason.
+     * This is the method called by the callback adapter.
+     * <p>
+     * The default implementation calls {@link #onConnectionStatusChangedRaw(int, long, int, int)}.
+     *
+     * @param info The connection info, which is reused, and only valid during this call.
+     * @param prevState The previous {@link ConnectionState}.
+     */
+    default void onConnectionStatusChanged(ConnectionInfo info, int prevState) {
+        onConnectionStatusChangedRaw(info.getConnection(), info.getSteamIDRemote(), info.getStateRaw(), prevState);
+    }
+
+    /**
+     * Receives connection status changes as raw handles.
+     * <p>
+     * The default implementation wraps the handles and calls
+     * {@link #onConnectionStatusChanged(Connection, SteamID, ConnectionState, ConnectionState)}, which
+     * allocates a {@link Connection} and a {@link SteamID} per event. Override this method to avoid that.
+     *
+     * @param state The new {@link ConnectionState}, see {@link ConnectionState#byValue(int)}.
+     * @param prevState The previous {@link ConnectionState}.
+     */
+    default void onConnectionStatusChangedRaw(int connection, long steamID, int state, int prevState) {
+        onConnectionStatusChanged(new Connection(connection), new SteamID(steamID),
+                ConnectionState.byValue(state), ConnectionState.byValue(prevState));
+    }
+
 }
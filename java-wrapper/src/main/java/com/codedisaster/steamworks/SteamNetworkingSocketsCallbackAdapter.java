@@ -1,15 +1,24 @@
 package com.codedisaster.steamworks;
 
-import com.codedisaster.steamworks.SteamNetworkingSockets.Connection;
-import com.codedisaster.steamworks.SteamNetworkingSockets.ConnectionState;
-
 class SteamNetworkingSocketsCallbackAdapter extends SteamCallbackAdapter<SteamNetworkingSocketsCallback> {
 
+    private static final SteamMetrics.Timer OnConnectionStatusChanged =
+            SteamMetrics.callback("SteamNetworkingSocketsCallback.onConnectionStatusChanged");
+
+    private final SteamNetworkingSockets.ConnectionInfo info = new SteamNetworkingSockets.ConnectionInfo();
+
     SteamNetworkingSocketsCallbackAdapter(SteamNetworkingSocketsCallback callback) {
         super(callback);
     }
 
-    void onConnectionStatusChanged(int connectionHandle, long steamID, int state, int prevState) {
-        callback.onConnectionStatusChanged(new Connection(connectionHandle), new SteamID(steamID), ConnectionState.byValue(state), ConnectionState.byValue(prevState));
+    void onConnectionStatusChanged(int connectionHandle, long steamID, int state, int prevState, long userData,
+                                   int listenSocket, int endReason, int flags) {
+        info.set(connectionHandle, steamID, state, userData, listenSocket, endReason, flags);
+        long start = SteamMetrics.begin();
+        try {
+	        callback.onConnectionStatusChanged(info, prevState);
+        } finally {
+	        SteamMetrics.end(OnConnectionStatusChanged, start);
+        }
     }
 }
@@ -2,57 +2,247 @@ package com.codedisaster.steamworks;
 
 import java.nio.ByteBuffer;
 
-final class SteamNetworkingSocketsNative {
+final class SteamNetworkingSocketsNative implements SteamNetworkingSocketsBackend {
 
     // @off
 
     /*JNI
 		#include <steam_api.h>
 		#include "SteamNetworkingSocketsCallback.h"
+		#include "SteamPendingMessages.h"
 		#include <iostream>
+		#include <vector>
+
+		static const int MaxMessagesPerReceive = 256;
+		static const int MaxMessagesPerSend = 256;
+
+		// Messages which didn't fit into the caller's buffer are kept by connection handle, or by poll
+		// group handle with PollGroupKey set.
+		static const uint64 PollGroupKey = 1ull << 32;
+
+		static SteamPendingMessages s_pendingMessages;
+
+		static int receiveMessages(HSteamNetConnection connection, SteamNetworkingMessage_t** messages, int maxMessages) {
+			int count = s_pendingMessages.take(connection, messages, maxMessages);
+			if (count < maxMessages) {
+				int received = SteamNetworkingSockets()->ReceiveMessagesOnConnection(connection, &messages[count], maxMessages - count);
+				if (received > 0) {
+					count += received;
+				}
+			}
+			return count;
+		}
+
+		static int receiveMessagesOnPollGroup(HSteamNetPollGroup pollGroup, SteamNetworkingMessage_t** messages, int maxMessages) {
+			int count = s_pendingMessages.take(PollGroupKey | pollGroup, messages, maxMessages);
+			if (count < maxMessages) {
+				int received = SteamNetworkingSockets()->ReceiveMessagesOnPollGroup(pollGroup, &messages[count], maxMessages - count);
+				if (received > 0) {
+					count += received;
+				}
+			}
+			return count;
+		}
+
+		// Wraps each payload in a direct buffer, and writes the message metadata read by SteamNetworkingMessage.
+		static int leaseMessages(JNIEnv* env, SteamNetworkingMessage_t** messages, int count,
+				char* info, jobjectArray buffers) {
+
+			for (int i = 0; i < count; i++) {
+				SteamNetworkingMessage_t* message = messages[i];
+
+				jobject buffer = env->NewDirectByteBuffer(message->m_pData, message->m_cbSize);
+				if (buffer == NULL) {
+					// out of memory, the exception is thrown on return
+					for (int j = 0; j < count; j++) {
+						messages[j]->Release();
+					}
+					return 0;
+				}
+
+				env->SetObjectArrayElement(buffers, i, buffer);
+				env->DeleteLocalRef(buffer);
+
+				char* entry = &info[i * 48];
+				*(int64*) &entry[0] = (int64) (intp) message;
+				*(int64*) &entry[8] = message->m_nMessageNumber;
+				*(int64*) &entry[16] = message->m_usecTimeReceived;
+				*(int32*) &entry[24] = (int32) message->m_conn;
+				*(int32*) &entry[28] = message->m_cbSize;
+				*(int32*) &entry[32] = message->m_nFlags;
+				*(int32*) &entry[36] = message->m_idxLane;
+				*(int64*) &entry[40] = message->m_nConnUserData;
+			}
+
+			return count;
+		}
+
+		// Config values written by SteamNetworkingSockets.ConfigOptions, 16 bytes each: the value, its data
+		// type, and the value itself, or the index of a string value. Strings stay pinned until released.
+		struct ConfigOptions {
+			std::vector<SteamNetworkingConfigValue_t> values;
+			std::vector<jstring> strings;
+			std::vector<const char*> chars;
+		};
+
+		static void readConfigOptions(JNIEnv* env, const char* options, int numOptions, jobjectArray strings,
+				ConfigOptions& out) {
+
+			out.values.resize(numOptions);
+
+			for (int i = 0; i < numOptions; i++) {
+				const char* entry = &options[i * 16];
+				SteamNetworkingConfigValue_t& value = out.values[i];
+				value.m_eValue = (ESteamNetworkingConfigValue) *(const int32*) &entry[0];
+				value.m_eDataType = (ESteamNetworkingConfigDataType) *(const int32*) &entry[4];
+				value.m_val.m_int64 = *(const int64*) &entry[8];
+
+				if (value.m_eDataType == k_ESteamNetworkingConfig_String) {
+					jstring string = (jstring) env->GetObjectArrayElement(strings, value.m_val.m_int32);
+					const char* chars = env->GetStringUTFChars(string, NULL);
+					out.strings.push_back(string);
+					out.chars.push_back(chars);
+					value.m_val.m_string = chars;
+				}
+			}
+		}
+
+		static void releaseConfigOptions(JNIEnv* env, ConfigOptions& options) {
+			for (size_t i = 0; i < options.strings.size(); i++) {
+				env->ReleaseStringUTFChars(options.strings[i], options.chars[i]);
+				env->DeleteLocalRef(options.strings[i]);
+			}
+		}
 	*/
 
-    static native long createCallback(SteamNetworkingSocketsCallbackAdapter javaCallback); /*
+    public native long createCallback(SteamNetworkingSocketsCallbackAdapter javaCallback); /*
 		return (intp) new SteamNetworkingSocketsCallback(env, javaCallback);
 	*/
 
-    public static native int connectP2P(long steamID, int virtualPort);/*
+    public native int connectP2P(long steamID, int virtualPort, ByteBuffer options, int numOptions,
+                                 Object[] strings);/*
         SteamNetworkingIdentity identity;
         identity.m_eType = k_ESteamNetworkingIdentityType_SteamID;
         identity.SetSteamID64(steamID);
 
-        HSteamNetConnection connection = SteamNetworkingSockets()->ConnectP2P(identity, virtualPort, 0, NULL);
+        ConfigOptions config;
+        readConfigOptions(env, options, numOptions, strings, config);
+
+        HSteamNetConnection connection = SteamNetworkingSockets()->ConnectP2P(identity, virtualPort,
+            numOptions, numOptions > 0 ? config.values.data() : NULL);
+
+        releaseConfigOptions(env, config);
 
         return connection;
     */
 
-    public static native int createListenSocketP2P(int virtualPort);/*
-        HSteamListenSocket socket = SteamNetworkingSockets()->CreateListenSocketP2P(virtualPort, 0, NULL);
+    public native int createListenSocketP2P(int virtualPort, ByteBuffer options, int numOptions,
+                                            Object[] strings);/*
+        ConfigOptions config;
+        readConfigOptions(env, options, numOptions, strings, config);
+
+        HSteamListenSocket socket = SteamNetworkingSockets()->CreateListenSocketP2P(virtualPort,
+            numOptions, numOptions > 0 ? config.values.data() : NULL);
+
+        releaseConfigOptions(env, config);
 
         return socket;
     */
 
-    public static native int acceptConnection(int netConnectionHandle);/*
+    public native boolean createSocketPair(boolean useNetworkLoopback, int[] connections);/*
+        HSteamNetConnection connection1, connection2;
+
+        if (!SteamNetworkingSockets()->CreateSocketPair(&connection1, &connection2, useNetworkLoopback, NULL, NULL)) {
+            return false;
+        }
+
+        connections[0] = connection1;
+        connections[1] = connection2;
+
+        return true;
+    */
+
+    public native int acceptConnection(int netConnectionHandle);/*
         return SteamNetworkingSockets()->AcceptConnection(netConnectionHandle);
     */
 
-    public static native boolean closeConnection(int netConnectionHandle, int reason, boolean linger);/*
+    public native boolean closeConnection(int netConnectionHandle, int reason, boolean linger);/*
+        HSteamNetConnection connection = (HSteamNetConnection) netConnectionHandle;
+        s_pendingMessages.release([=] (uint64 key, SteamNetworkingMessage_t* message) {
+            return message->m_conn == connection;
+        });
         return SteamNetworkingSockets()->CloseConnection(netConnectionHandle, reason, NULL, linger);
     */
 
-    public static native boolean closeListenSocket(int socketHandle);/*
+    public native boolean closeListenSocket(int socketHandle);/*
         return SteamNetworkingSockets()->CloseListenSocket(socketHandle);
     */
 
-    public static native int sendMessageToConnection(int netConnectionHandle, ByteBuffer data, int offset, int size, int sendFlags);/*
+    public native int sendMessageToConnection(int netConnectionHandle, ByteBuffer data, int offset, int size, int sendFlags);/*
         return SteamNetworkingSockets()->SendMessageToConnection(netConnectionHandle, &data[offset], size, sendFlags, NULL);
     */
 
-    public static native int receiveMessageOnConnection(int netConnectionHandle, ByteBuffer data, int offset, int size);/*
+    public native int sendMessageToConnectionOnLane(int netConnectionHandle, ByteBuffer data, int offset, int size,
+                                                    int sendFlags, int lane);/*
+
+        SteamNetworkingMessage_t* message = SteamNetworkingUtils()->AllocateMessage(size);
+        memcpy(message->m_pData, &data[offset], size);
+        message->m_conn = (HSteamNetConnection) netConnectionHandle;
+        message->m_nFlags = sendFlags;
+        message->m_idxLane = (uint16) lane;
+
+        int64 result;
+        SteamNetworkingSockets()->SendMessages(1, &message, &result);
+
+        return result > 0 ? k_EResultOK : (int) -result;
+    */
+
+    @Override
+    public int sendMessages(ByteBuffer data, int offset, int[] offsets, int[] sizes, int[] connections,
+                            int[] sendFlags, int[] lanes, long[] results, int numMessages) {
+
+        return sendMessages(data, offset, offsets, sizes, connections, sendFlags,
+                lanes, lanes.length > 0, results, numMessages);
+    }
+
+    private static native int sendMessages(ByteBuffer data, int offset, int[] offsets, int[] sizes, int[] connections,
+                                           int[] sendFlags, int[] lanes, boolean withLanes, long[] results,
+                                           int numMessages); /*
+
+        SteamNetworkingMessage_t* messages[MaxMessagesPerSend];
+        int sent = 0;
+
+        for (int first = 0; first < numMessages; first += MaxMessagesPerSend) {
+            int count = numMessages - first < MaxMessagesPerSend ? numMessages - first : MaxMessagesPerSend;
+
+            for (int i = 0; i < count; i++) {
+                int index = first + i;
+                SteamNetworkingMessage_t* message = SteamNetworkingUtils()->AllocateMessage(sizes[index]);
+                memcpy(message->m_pData, &data[offset + offsets[index]], sizes[index]);
+                message->m_conn = (HSteamNetConnection) connections[index];
+                message->m_nFlags = sendFlags[index];
+                message->m_idxLane = withLanes ? (uint16) lanes[index] : 0;
+                messages[i] = message;
+            }
+
+            // takes ownership of all messages, even those which fail
+            SteamNetworkingSockets()->SendMessages(count, messages, (int64*) &results[first]);
+
+            for (int i = 0; i < count; i++) {
+                if (results[first + i] > 0) {
+                    sent++;
+                }
+            }
+        }
+
+        return sent;
+    */
+
+    public native int receiveMessageOnConnection(int netConnectionHandle, ByteBuffer data, int offset, int size);/*
 
         SteamNetworkingMessage_t* messages[1];
 
-        int messagesReceived = SteamNetworkingSockets()->ReceiveMessagesOnConnection((HSteamNetConnection)netConnectionHandle, messages, 1);
+        int messagesReceived = receiveMessages((HSteamNetConnection)netConnectionHandle, messages, 1);
         if (messagesReceived <= 0 || !messages[0]) {
             return 0;
         }
@@ -72,11 +262,267 @@ final class SteamNetworkingSocketsNative {
         return bytesWritten;
     */
 
-    public static native int flushMessages(int connectionHandle);/*
+    @Override
+    public int receiveMessagesOnConnection(int netConnectionHandle, ByteBuffer data, int offset, int size, int[] sizes,
+                                           long[] messageNumbers, long[] receiveTimes, int[] lanes, int maxMessages) {
+
+        return receiveMessagesOnConnection(netConnectionHandle, data, offset, size, sizes,
+                messageNumbers, messageNumbers.length > 0, receiveTimes, receiveTimes.length > 0,
+                lanes, lanes.length > 0, maxMessages);
+    }
+
+    private static native int receiveMessagesOnConnection(int netConnectionHandle, ByteBuffer data, int offset, int size,
+                                                          int[] sizes, long[] messageNumbers, boolean withMessageNumbers,
+                                                          long[] receiveTimes, boolean withReceiveTimes,
+                                                          int[] lanes, boolean withLanes, int maxMessages); /*
+
+        SteamNetworkingMessage_t* messages[MaxMessagesPerReceive];
+
+        if (maxMessages > MaxMessagesPerReceive) {
+            maxMessages = MaxMessagesPerReceive;
+        }
+
+        int messagesReceived = receiveMessages((HSteamNetConnection) netConnectionHandle, messages, maxMessages);
+
+        return s_pendingMessages.copy((uint32) netConnectionHandle, messages, messagesReceived, &data[offset], size,
+            sizes, SteamPendingMessages::Connection, NULL,
+            withMessageNumbers ? (long long*) messageNumbers : NULL,
+            withReceiveTimes ? (long long*) receiveTimes : NULL,
+            withLanes ? lanes : NULL);
+    */
+
+    public native int receiveMessageLeasesOnConnection(int netConnectionHandle, ByteBuffer info, Object[] buffers,
+                                                       int maxMessages);/*
+
+        SteamNetworkingMessage_t* messages[MaxMessagesPerReceive];
+
+        if (maxMessages > MaxMessagesPerReceive) {
+            maxMessages = MaxMessagesPerReceive;
+        }
+
+        int messagesReceived = receiveMessages((HSteamNetConnection) netConnectionHandle, messages, maxMessages);
+
+        return leaseMessages(env, messages, messagesReceived, info, buffers);
+    */
+
+    public native int receiveMessageLeasesOnPollGroup(int pollGroup, ByteBuffer info, Object[] buffers,
+                                                      int maxMessages);/*
+
+        SteamNetworkingMessage_t* messages[MaxMessagesPerReceive];
+
+        if (maxMessages > MaxMessagesPerReceive) {
+            maxMessages = MaxMessagesPerReceive;
+        }
+
+        int messagesReceived = receiveMessagesOnPollGroup((HSteamNetPollGroup) pollGroup, messages, maxMessages);
+
+        return leaseMessages(env, messages, messagesReceived, info, buffers);
+    */
+
+    public native void releaseMessage(long message);/*
+        ((SteamNetworkingMessage_t*) message)->Release();
+    */
+
+    public native int getConnectionRealTimeStatus(int netConnectionHandle, ByteBuffer status, int numLanes);/*
+
+        SteamNetConnectionRealTimeStatus_t realTimeStatus;
+        std::vector<SteamNetConnectionRealTimeLaneStatus_t> lanes(numLanes > 0 ? numLanes : 0);
+
+        EResult result = SteamNetworkingSockets()->GetConnectionRealTimeStatus((HSteamNetConnection) netConnectionHandle,
+            &realTimeStatus, numLanes, numLanes > 0 ? lanes.data() : NULL);
+
+        if (result != k_EResultOK) {
+            return result;
+        }
+
+        *(int32*) &status[0] = realTimeStatus.m_eState;
+        *(int32*) &status[4] = realTimeStatus.m_nPing;
+        *(float*) &status[8] = realTimeStatus.m_flConnectionQualityLocal;
+        *(float*) &status[12] = realTimeStatus.m_flConnectionQualityRemote;
+        *(float*) &status[16] = realTimeStatus.m_flOutPacketsPerSec;
+        *(float*) &status[20] = realTimeStatus.m_flOutBytesPerSec;
+        *(float*) &status[24] = realTimeStatus.m_flInPacketsPerSec;
+        *(float*) &status[28] = realTimeStatus.m_flInBytesPerSec;
+        *(int32*) &status[32] = realTimeStatus.m_nSendRateBytesPerSecond;
+        *(int32*) &status[36] = realTimeStatus.m_cbPendingUnreliable;
+        *(int32*) &status[40] = realTimeStatus.m_cbPendingReliable;
+        *(int32*) &status[44] = realTimeStatus.m_cbSentUnackedReliable;
+        *(int64*) &status[48] = realTimeStatus.m_usecQueueTime;
+
+        for (int i = 0; i < numLanes; i++) {
+            char* lane = &status[56 + i * 24];
+            *(int32*) &lane[0] = lanes[i].m_cbPendingUnreliable;
+            *(int32*) &lane[4] = lanes[i].m_cbPendingReliable;
+            *(int32*) &lane[8] = lanes[i].m_cbSentUnackedReliable;
+            *(int64*) &lane[16] = lanes[i].m_usecQueueTime;
+        }
+
+        return result;
+    */
+
+    private static final int StatusState = 1;
+    private static final int StatusPing = 2;
+    private static final int StatusQualityLocal = 4;
+    private static final int StatusSendRate = 8;
+    private static final int StatusPendingUnreliable = 16;
+    private static final int StatusPendingReliable = 32;
+    private static final int StatusQueueTime = 64;
+
+    @Override
+    public int getConnectionRealTimeStatuses(int[] connections, int count, int[] states, int[] pings,
+                                             float[] qualityLocal, int[] sendRates, int[] pendingUnreliable,
+                                             int[] pendingReliable, long[] queueTimes) {
+
+        int fields = (states.length > 0 ? StatusState : 0)
+                | (pings.length > 0 ? StatusPing : 0)
+                | (qualityLocal.length > 0 ? StatusQualityLocal : 0)
+                | (sendRates.length > 0 ? StatusSendRate : 0)
+                | (pendingUnreliable.length > 0 ? StatusPendingUnreliable : 0)
+                | (pendingReliable.length > 0 ? StatusPendingReliable : 0)
+                | (queueTimes.length > 0 ? StatusQueueTime : 0);
+
+        return getConnectionRealTimeStatuses(connections, count, fields, states, pings, qualityLocal, sendRates,
+                pendingUnreliable, pendingReliable, queueTimes);
+    }
+
+    private static native int getConnectionRealTimeStatuses(int[] connections, int count, int fields,
+                                                            int[] states, int[] pings, float[] qualityLocal,
+                                                            int[] sendRates, int[] pendingUnreliable,
+                                                            int[] pendingReliable, long[] queueTimes); /*
+
+        int queried = 0;
+
+        for (int i = 0; i < count; i++) {
+            SteamNetConnectionRealTimeStatus_t status;
+            EResult result = SteamNetworkingSockets()->GetConnectionRealTimeStatus((HSteamNetConnection) connections[i],
+                &status, 0, NULL);
+
+            if (result != k_EResultOK) {
+                memset(&status, 0, sizeof(status));
+            } else {
+                queried++;
+            }
+
+            // bits of the Status... constants
+            if (fields & 1) states[i] = status.m_eState;
+            if (fields & 2) pings[i] = status.m_nPing;
+            if (fields & 4) qualityLocal[i] = status.m_flConnectionQualityLocal;
+            if (fields & 8) sendRates[i] = status.m_nSendRateBytesPerSecond;
+            if (fields & 16) pendingUnreliable[i] = status.m_cbPendingUnreliable;
+            if (fields & 32) pendingReliable[i] = status.m_cbPendingReliable;
+            if (fields & 64) queueTimes[i] = status.m_usecQueueTime;
+        }
+
+        return queried;
+    */
+
+    @Override
+    public int configureConnectionLanes(int netConnectionHandle, int numLanes, int[] priorities, short[] weights) {
+        return configureConnectionLanes(netConnectionHandle, numLanes, priorities, weights, weights.length > 0);
+    }
+
+    private static native int configureConnectionLanes(int netConnectionHandle, int numLanes, int[] priorities,
+                                                       short[] weights, boolean withWeights); /*
+        return SteamNetworkingSockets()->ConfigureConnectionLanes((HSteamNetConnection) netConnectionHandle, numLanes,
+            priorities, withWeights ? (const uint16*) weights : NULL);
+    */
+
+    public native boolean setConnectionUserData(int netConnectionHandle, long userData);/*
+        HSteamNetConnection connection = (HSteamNetConnection) netConnectionHandle;
+        if (!SteamNetworkingSockets()->SetConnectionUserData(connection, userData)) {
+            return false;
+        }
+
+        // Steam updates the messages it still queues, do the same for the messages kept here
+        s_pendingMessages.update([=] (uint64 key, SteamNetworkingMessage_t* message) {
+            return message->m_conn == connection;
+        }, [=] (SteamNetworkingMessage_t* message) {
+            message->m_nConnUserData = userData;
+        });
+        return true;
+    */
+
+    public native long getConnectionUserData(int netConnectionHandle);/*
+        return SteamNetworkingSockets()->GetConnectionUserData((HSteamNetConnection) netConnectionHandle);
+    */
+
+    public native String getConnectionEndDebug(int netConnectionHandle);/*
+        SteamNetConnectionInfo_t info;
+        if (SteamNetworkingSockets()->GetConnectionInfo((HSteamNetConnection) netConnectionHandle, &info)
+                && info.m_szEndDebug[0] != '\0') {
+            return env->NewStringUTF(info.m_szEndDebug);
+        }
+        return NULL;
+    */
+
+    public native int createPollGroup();/*
+        return SteamNetworkingSockets()->CreatePollGroup();
+    */
+
+    public native boolean destroyPollGroup(int pollGroup);/*
+        // hands messages kept for the poll group back to their connections
+        uint64 pollGroupKey = PollGroupKey | (uint32) pollGroup;
+        s_pendingMessages.move([=] (uint64 key, SteamNetworkingMessage_t* message) {
+            return key == pollGroupKey;
+        }, [] (SteamNetworkingMessage_t* message) {
+            return (uint64) (uint32) message->m_conn;
+        });
+        return SteamNetworkingSockets()->DestroyPollGroup(pollGroup);
+    */
+
+    public native boolean setConnectionPollGroup(int netConnectionHandle, int pollGroup);/*
+        if (!SteamNetworkingSockets()->SetConnectionPollGroup(netConnectionHandle, pollGroup)) {
+            return false;
+        }
+
+        // messages kept for the connection, on its own or in its previous poll group, move along with it
+        HSteamNetConnection connection = (HSteamNetConnection) netConnectionHandle;
+        uint64 connectionKey = pollGroup != k_HSteamNetPollGroup_Invalid
+            ? PollGroupKey | (uint32) pollGroup : (uint32) netConnectionHandle;
+        s_pendingMessages.move([=] (uint64 key, SteamNetworkingMessage_t* message) {
+            return message->m_conn == connection;
+        }, [=] (SteamNetworkingMessage_t* message) {
+            return connectionKey;
+        });
+        return true;
+    */
+
+    @Override
+    public int receiveMessagesOnPollGroup(int pollGroup, ByteBuffer data, int offset, int size, int[] sizes,
+                                          int[] connections, long[] messageNumbers, long[] receiveTimes,
+                                          int[] lanes, int maxMessages) {
+
+        return receiveMessagesOnPollGroup(pollGroup, data, offset, size, sizes, connections,
+                messageNumbers, messageNumbers.length > 0, receiveTimes, receiveTimes.length > 0,
+                lanes, lanes.length > 0, maxMessages);
+    }
+
+    private static native int receiveMessagesOnPollGroup(int pollGroup, ByteBuffer data, int offset, int size,
+                                                         int[] sizes, int[] connections,
+                                                         long[] messageNumbers, boolean withMessageNumbers,
+                                                         long[] receiveTimes, boolean withReceiveTimes,
+                                                         int[] lanes, boolean withLanes, int maxMessages); /*
+
+        SteamNetworkingMessage_t* messages[MaxMessagesPerReceive];
+
+        if (maxMessages > MaxMessagesPerReceive) {
+            maxMessages = MaxMessagesPerReceive;
+        }
+
+        int messagesReceived = receiveMessagesOnPollGroup((HSteamNetPollGroup) pollGroup, messages, maxMessages);
+
+        return s_pendingMessages.copy(PollGroupKey | (uint32) pollGroup, messages, messagesReceived, &data[offset], size,
+            sizes, SteamPendingMessages::Connection, connections,
+            withMessageNumbers ? (long long*) messageNumbers : NULL,
+            withReceiveTimes ? (long long*) receiveTimes : NULL,
+            withLanes ? lanes : NULL);
+    */
+
+    public native int flushMessages(int connectionHandle);/*
         return SteamNetworkingSockets()->FlushMessagesOnConnection(connectionHandle);
     */
 
-    public static native void enableSymmetricConnect();/*
+    public native void enableSymmetricConnect();/*
         int32_t v = 1;
         SteamNetworkingUtils()->SetConfigValue(
             k_ESteamNetworkingConfig_SymmetricConnect,
@@ -86,4 +532,37 @@ final class SteamNetworkingSocketsNative {
             &v
         );
     */
+
+    public native boolean setConfigValue(int value, int scopeType, long scopeObject, int dataType,
+                                         long longValue, float floatValue, String stringValue);/*
+        int32 int32Value = (int32) longValue;
+        int64 int64Value = (int64) longValue;
+        const void* arg = NULL;
+
+        switch (dataType) {
+            case k_ESteamNetworkingConfig_Int32: arg = &int32Value; break;
+            case k_ESteamNetworkingConfig_Int64: arg = &int64Value; break;
+            case k_ESteamNetworkingConfig_Float: arg = &floatValue; break;
+            case k_ESteamNetworkingConfig_String: arg = stringValue; break;
+            default: dataType = k_ESteamNetworkingConfig_Int32; break;
+        }
+
+        // a NULL argument resets the value
+        return SteamNetworkingUtils()->SetConfigValue((ESteamNetworkingConfigValue) value,
+            (ESteamNetworkingConfigScope) scopeType, (intptr_t) scopeObject,
+            (ESteamNetworkingConfigDataType) dataType, arg);
+    */
+
+    public native int getConfigValue(int value, int scopeType, long scopeObject, ByteBuffer result, int size);/*
+        ESteamNetworkingConfigDataType dataType;
+        size_t resultSize = (size_t) size;
+
+        ESteamNetworkingGetConfigValueResult code = SteamNetworkingUtils()->GetConfigValue(
+            (ESteamNetworkingConfigValue) value, (ESteamNetworkingConfigScope) scopeType, (intptr_t) scopeObject,
+            &dataType, &result[8], &resultSize);
+
+        *(int64*) &result[0] = (int64) resultSize;
+
+        return code;
+    */
 }
@@ -0,0 +1,316 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Configuration of the networking sockets library, as provided by {@code ISteamNetworkingUtils}.
+ * <p>
+ * Values are set globally, per {@link SteamNetworkingSockets} interface, per listen socket or per connection.
+ * Unset values are inherited from the next wider scope. Values can also be passed to
+ * {@link SteamNetworkingSockets#connectP2P(SteamID, int, SteamNetworkingSockets.ConfigOptions)} and
+ * {@link SteamNetworkingSockets#createListenSocketP2P(int, SteamNetworkingSockets.ConfigOptions)}, which applies
+ * them before the connection is established.
+ */
+public class SteamNetworkingUtils {
+
+    public enum ConfigScope {
+        Global(1),
+        SocketsInterface(2),
+        ListenSocket(3),
+        Connection(4);
+
+        final int code;
+
+        ConfigScope(int code) {
+            this.code = code;
+        }
+    }
+
+    public enum ConfigDataType {
+        Int32(1),
+        Int64(2),
+        Float(3),
+        String(4);
+
+        final int code;
+
+        ConfigDataType(int code) {
+            this.code = code;
+        }
+    }
+
+    /**
+     * Configuration values, see {@code ESteamNetworkingConfigValue} in the Steamworks SDK for their meaning,
+     * valid scopes and defaults. Callback function pointers can't be set from Java, and aren't listed.
+     */
+    public enum ConfigValue {
+        TimeoutInitial(24, ConfigDataType.Int32),
+        TimeoutConnected(25, ConfigDataType.Int32),
+
+        SendBufferSize(9, ConfigDataType.Int32),
+        RecvBufferSize(47, ConfigDataType.Int32),
+        RecvBufferMessages(48, ConfigDataType.Int32),
+        RecvMaxMessageSize(49, ConfigDataType.Int32),
+        RecvMaxSegmentsPerPacket(50, ConfigDataType.Int32),
+        ConnectionUserData(40, ConfigDataType.Int64),
+        SendRateMin(10, ConfigDataType.Int32),
+        SendRateMax(11, ConfigDataType.Int32),
+        NagleTime(12, ConfigDataType.Int32),
+        IPAllowWithoutAuth(23, ConfigDataType.Int32),
+        IPLocalHostAllowWithoutAuth(52, ConfigDataType.Int32),
+        MTUPacketSize(32, ConfigDataType.Int32),
+        MTUDataSize(33, ConfigDataType.Int32),
+        Unencrypted(34, ConfigDataType.Int32),
+        SymmetricConnect(37, ConfigDataType.Int32),
+        LocalVirtualPort(38, ConfigDataType.Int32),
+        DualWifiEnable(39, ConfigDataType.Int32),
+        EnableDiagnosticsUI(46, ConfigDataType.Int32),
+
+        FakePacketLossSend(2, ConfigDataType.Float),
+        FakePacketLossRecv(3, ConfigDataType.Float),
+        FakePacketLagSend(4, ConfigDataType.Int32),
+        FakePacketLagRecv(5, ConfigDataType.Int32),
+        FakePacketJitterSendAvg(53, ConfigDataType.Int32),
+        FakePacketJitterSendMax(54, ConfigDataType.Int32),
+        FakePacketJitterSendPct(55, ConfigDataType.Float),
+        FakePacketJitterRecvAvg(56, ConfigDataType.Int32),
+        FakePacketJitterRecvMax(57, ConfigDataType.Int32),
+        FakePacketJitterRecvPct(58, ConfigDataType.Float),
+        FakePacketReorderSend(6, ConfigDataType.Float),
+        FakePacketReorderRecv(7, ConfigDataType.Float),
+        FakePacketReorderTime(8, ConfigDataType.Int32),
+        FakePacketDupSend(26, ConfigDataType.Float),
+        FakePacketDupRecv(27, ConfigDataType.Float),
+        FakePacketDupTimeMax(28, ConfigDataType.Int32),
+        PacketTraceMaxBytes(41, ConfigDataType.Int32),
+        FakeRateLimitSendRate(42, ConfigDataType.Int32),
+        FakeRateLimitSendBurst(43, ConfigDataType.Int32),
+        FakeRateLimitRecvRate(44, ConfigDataType.Int32),
+        FakeRateLimitRecvBurst(45, ConfigDataType.Int32),
+        OutOfOrderCorrectionWindowMicroseconds(51, ConfigDataType.Int32),
+
+        P2PSTUNServerList(103, ConfigDataType.String),
+        P2PTransportICEEnable(104, ConfigDataType.Int32),
+        P2PTransportICEPenalty(105, ConfigDataType.Int32),
+        P2PTransportSDRPenalty(106, ConfigDataType.Int32),
+        P2PTURNServerList(107, ConfigDataType.String),
+        P2PTURNUserList(108, ConfigDataType.String),
+        P2PTURNPassList(109, ConfigDataType.String),
+        P2PTransportICEImplementation(110, ConfigDataType.Int32),
+
+        SDRClientConsecutivePingTimeoutsFailInitial(19, ConfigDataType.Int32),
+        SDRClientConsecutivePingTimeoutsFail(20, ConfigDataType.Int32),
+        SDRClientMinPingsBeforePingAccurate(21, ConfigDataType.Int32),
+        SDRClientSingleSocket(22, ConfigDataType.Int32),
+        SDRClientForceRelayCluster(29, ConfigDataType.String),
+        SDRClientDevTicket(30, ConfigDataType.String),
+        SDRClientForceProxyAddr(31, ConfigDataType.String),
+        SDRClientFakeClusterPing(36, ConfigDataType.String),
+        SDRClientLimitPingProbesToNearestN(60, ConfigDataType.Int32),
+
+        LogLevelAckRTT(13, ConfigDataType.Int32),
+        LogLevelPacketDecode(14, ConfigDataType.Int32),
+        LogLevelMessage(15, ConfigDataType.Int32),
+        LogLevelPacketGaps(16, ConfigDataType.Int32),
+        LogLevelP2PRendezvous(17, ConfigDataType.Int32),
+        LogLevelSDRRelayPings(18, ConfigDataType.Int32);
+
+        final int code;
+        private final ConfigDataType dataType;
+
+        private static final ConfigValue[] values = values();
+
+        ConfigValue(int code, ConfigDataType dataType) {
+            this.code = code;
+            this.dataType = dataType;
+        }
+
+        public ConfigDataType getDataType() {
+            return dataType;
+        }
+
+        static ConfigValue byValue(int code) {
+            for (ConfigValue value : values) {
+                if (value.code == code) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Result codes of {@code ISteamNetworkingUtils::GetConfigValue()}.
+     */
+    static final int GetConfigValueBadValue = -1;
+    static final int GetConfigValueBadScopeObject = -2;
+    static final int GetConfigValueBufferTooSmall = -3;
+    static final int GetConfigValueOK = 1;
+    static final int GetConfigValueOKInherited = 2;
+
+    private static final int MaxStringSize = 4096;
+
+    private static final SteamMetrics.Timer SetConfigValue =
+            SteamMetrics.nativeCall("SteamNetworkingUtils.setConfigValue");
+    private static final SteamMetrics.Timer GetConfigValue =
+            SteamMetrics.nativeCall("SteamNetworkingUtils.getConfigValue");
+
+    private final SteamNetworkingSocketsBackend backend =
+            SteamAPI.getBackend().networkingSockets;
+
+    /**
+     * The size of the value, written by the backend, followed by the value itself.
+     */
+    private ByteBuffer result = ByteBuffer.allocateDirect(8 + 256).order(ByteOrder.nativeOrder());
+
+    public boolean setGlobalConfigValue(ConfigValue value, int intValue) {
+        return setConfigValue(value, ConfigScope.Global, 0L, intValue);
+    }
+
+    public boolean setGlobalConfigValue(ConfigValue value, float floatValue) {
+        return setConfigValue(value, ConfigScope.Global, 0L, floatValue);
+    }
+
+    public boolean setGlobalConfigValue(ConfigValue value, String stringValue) {
+        return setConfigValue(value, ConfigScope.Global, 0L, stringValue);
+    }
+
+    public boolean setConnectionConfigValue(int connection, ConfigValue value, int intValue) {
+        return setConfigValue(value, ConfigScope.Connection, connection, intValue);
+    }
+
+    public boolean setConnectionConfigValue(int connection, ConfigValue value, float floatValue) {
+        return setConfigValue(value, ConfigScope.Connection, connection, floatValue);
+    }
+
+    public boolean setConnectionConfigValue(int connection, ConfigValue value, String stringValue) {
+        return setConfigValue(value, ConfigScope.Connection, connection, stringValue);
+    }
+
+    /**
+     * Sets a 32 bit integer value, which is also accepted for 64 bit values.
+     *
+     * @param scopeObject The connection or listen socket handle, or 0 for the global and interface scopes.
+     *
+     * @return False if the value, scope object or data type is invalid.
+     */
+    public boolean setConfigValue(ConfigValue value, ConfigScope scope, long scopeObject, int intValue) {
+        long start = SteamMetrics.begin();
+        boolean set = backend.setConfigValue(value.code, scope.code, scopeObject, ConfigDataType.Int32.code,
+                intValue, 0.0f, "");
+        SteamMetrics.end(SetConfigValue, start);
+        return set;
+    }
+
+    public boolean setConfigValue(ConfigValue value, ConfigScope scope, long scopeObject, long longValue) {
+        long start = SteamMetrics.begin();
+        boolean set = backend.setConfigValue(value.code, scope.code, scopeObject, ConfigDataType.Int64.code,
+                longValue, 0.0f, "");
+        SteamMetrics.end(SetConfigValue, start);
+        return set;
+    }
+
+    public boolean setConfigValue(ConfigValue value, ConfigScope scope, long scopeObject, float floatValue) {
+        long start = SteamMetrics.begin();
+        boolean set = backend.setConfigValue(value.code, scope.code, scopeObject, ConfigDataType.Float.code,
+                0L, floatValue, "");
+        SteamMetrics.end(SetConfigValue, start);
+        return set;
+    }
+
+    public boolean setConfigValue(ConfigValue value, ConfigScope scope, long scopeObject, String stringValue) {
+        long start = SteamMetrics.begin();
+        boolean set = backend.setConfigValue(value.code, scope.code, scopeObject, ConfigDataType.String.code,
+                0L, 0.0f, stringValue);
+        SteamMetrics.end(SetConfigValue, start);
+        return set;
+    }
+
+    /**
+     * Removes the value from the scope, so it is inherited from the next wider scope again, or reset to its
+     * default in the global scope.
+     */
+    public boolean resetConfigValue(ConfigValue value, ConfigScope scope, long scopeObject) {
+        long start = SteamMetrics.begin();
+        boolean set = backend.setConfigValue(value.code, scope.code, scopeObject, 0, 0L, 0.0f, "");
+        SteamMetrics.end(SetConfigValue, start);
+        return set;
+    }
+
+    /**
+     * Returns the value effective in the scope, which may be inherited from a wider scope.
+     *
+     * @throws SteamException If the value isn't a 32 bit integer, or the scope object is invalid.
+     */
+    public int getConfigValueInt32(ConfigValue value, ConfigScope scope, long scopeObject) throws SteamException {
+        checkDataType(value, ConfigDataType.Int32);
+        getConfigValue(value, scope, scopeObject);
+        return result.getInt(8);
+    }
+
+    public long getConfigValueInt64(ConfigValue value, ConfigScope scope, long scopeObject) throws SteamException {
+        checkDataType(value, ConfigDataType.Int64);
+        getConfigValue(value, scope, scopeObject);
+        return result.getLong(8);
+    }
+
+    public float getConfigValueFloat(ConfigValue value, ConfigScope scope, long scopeObject) throws SteamException {
+        checkDataType(value, ConfigDataType.Float);
+        getConfigValue(value, scope, scopeObject);
+        return result.getFloat(8);
+    }
+
+    public String getConfigValueString(ConfigValue value, ConfigScope scope, long scopeObject) throws SteamException {
+        checkDataType(value, ConfigDataType.String);
+        int size = getConfigValue(value, scope, scopeObject);
+
+        // strip the terminating zero
+        byte[] bytes = new byte[Math.max(size - 1, 0)];
+        ByteBuffer string = result.duplicate();
+        string.position(8);
+        string.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void checkDataType(ConfigValue value, ConfigDataType dataType) throws SteamException {
+        if (value.dataType != dataType) {
+            throw new SteamException("Config value " + value + " is of type " + value.dataType + ".");
+        }
+    }
+
+    /**
+     * Reads the value into the result buffer, growing it once if a string value doesn't fit,
+     * and returns its size.
+     */
+    private int getConfigValue(ConfigValue value, ConfigScope scope, long scopeObject) throws SteamException {
+        long start = SteamMetrics.begin();
+        int code = backend.getConfigValue(value.code, scope.code, scopeObject, result, result.capacity() - 8);
+        SteamMetrics.end(GetConfigValue, start);
+
+        if (code == GetConfigValueBufferTooSmall) {
+            int size = (int) result.getLong(0);
+            if (size > MaxStringSize) {
+                throw new SteamException("Config value " + value + " exceeds " + MaxStringSize + " bytes.");
+            }
+            result = ByteBuffer.allocateDirect(8 + size).order(ByteOrder.nativeOrder());
+            start = SteamMetrics.begin();
+            code = backend.getConfigValue(value.code, scope.code, scopeObject, result, size);
+            SteamMetrics.end(GetConfigValue, start);
+        }
+
+        switch (code) {
+            case GetConfigValueOK:
+            case GetConfigValueOKInherited:
+                return (int) result.getLong(0);
+            case GetConfigValueBadValue:
+                throw new SteamException("Invalid config value " + value + ".");
+            case GetConfigValueBadScopeObject:
+                throw new SteamException("Invalid scope object " + scopeObject + " for " + scope + " scope.");
+            default:
+                throw new SteamException("Failed to get config value " + value + ", result: " + code);
+        }
+    }
+
+}
@@ -77,131 +77,323 @@ public class SteamRemoteStorage extends SteamInterface {
 		}
 	}
 
+	private static final SteamMetrics.Timer FileWrite = SteamMetrics.nativeCall("SteamRemoteStorage.fileWrite");
+	private static final SteamMetrics.Timer FileRead = SteamMetrics.nativeCall("SteamRemoteStorage.fileRead");
+	private static final SteamMetrics.Timer FileWriteAsync =
+			SteamMetrics.nativeCall("SteamRemoteStorage.fileWriteAsync");
+	private static final SteamMetrics.Timer FileReadAsync =
+			SteamMetrics.nativeCall("SteamRemoteStorage.fileReadAsync");
+	private static final SteamMetrics.Timer FileReadAsyncComplete =
+			SteamMetrics.nativeCall("SteamRemoteStorage.fileReadAsyncComplete");
+	private static final SteamMetrics.Timer FileForget = SteamMetrics.nativeCall("SteamRemoteStorage.fileForget");
+	private static final SteamMetrics.Timer FileDelete = SteamMetrics.nativeCall("SteamRemoteStorage.fileDelete");
+	private static final SteamMetrics.Timer FileShare = SteamMetrics.nativeCall("SteamRemoteStorage.fileShare");
+	private static final SteamMetrics.Timer SetSyncPlatforms =
+			SteamMetrics.nativeCall("SteamRemoteStorage.setSyncPlatforms");
+	private static final SteamMetrics.Timer FileWriteStreamOpen =
+			SteamMetrics.nativeCall("SteamRemoteStorage.fileWriteStreamOpen");
+	private static final SteamMetrics.Timer FileWriteStreamWriteChunk =
+			SteamMetrics.nativeCall("SteamRemoteStorage.fileWriteStreamWriteChunk");
+	private static final SteamMetrics.Timer FileWriteStreamClose =
+			SteamMetrics.nativeCall("SteamRemoteStorage.fileWriteStreamClose");
+	private static final SteamMetrics.Timer FileWriteStreamCancel =
+			SteamMetrics.nativeCall("SteamRemoteStorage.fileWriteStreamCancel");
+	private static final SteamMetrics.Timer FileExists = SteamMetrics.nativeCall("SteamRemoteStorage.fileExists");
+	private static final SteamMetrics.Timer FilePersisted = SteamMetrics.nativeCall("SteamRemoteStorage.filePersisted");
+	private static final SteamMetrics.Timer GetFileSize = SteamMetrics.nativeCall("SteamRemoteStorage.getFileSize");
+	private static final SteamMetrics.Timer GetFileTimestamp =
+			SteamMetrics.nativeCall("SteamRemoteStorage.getFileTimestamp");
+	private static final SteamMetrics.Timer GetSyncPlatforms =
+			SteamMetrics.nativeCall("SteamRemoteStorage.getSyncPlatforms");
+	private static final SteamMetrics.Timer GetFileCount = SteamMetrics.nativeCall("SteamRemoteStorage.getFileCount");
+	private static final SteamMetrics.Timer GetFileNameAndSize =
+			SteamMetrics.nativeCall("SteamRemoteStorage.getFileNameAndSize");
+	private static final SteamMetrics.Timer GetQuota = SteamMetrics.nativeCall("SteamRemoteStorage.getQuota");
+	private static final SteamMetrics.Timer IsCloudEnabledForAccount =
+			SteamMetrics.nativeCall("SteamRemoteStorage.isCloudEnabledForAccount");
+	private static final SteamMetrics.Timer IsCloudEnabledForApp =
+			SteamMetrics.nativeCall("SteamRemoteStorage.isCloudEnabledForApp");
+	private static final SteamMetrics.Timer SetCloudEnabledForApp =
+			SteamMetrics.nativeCall("SteamRemoteStorage.setCloudEnabledForApp");
+	private static final SteamMetrics.Timer UgcDownload = SteamMetrics.nativeCall("SteamRemoteStorage.ugcDownload");
+	private static final SteamMetrics.Timer GetUGCDownloadProgress =
+			SteamMetrics.nativeCall("SteamRemoteStorage.getUGCDownloadProgress");
+	private static final SteamMetrics.Timer UgcRead = SteamMetrics.nativeCall("SteamRemoteStorage.ugcRead");
+	private static final SteamMetrics.Timer GetCachedUGCCount =
+			SteamMetrics.nativeCall("SteamRemoteStorage.getCachedUGCCount");
+	private static final SteamMetrics.Timer GetCachedUGCHandle =
+			SteamMetrics.nativeCall("SteamRemoteStorage.getCachedUGCHandle");
+	private static final SteamMetrics.Timer PublishWorkshopFile =
+			SteamMetrics.nativeCall("SteamRemoteStorage.publishWorkshopFile");
+	private static final SteamMetrics.Timer CreatePublishedFileUpdateRequest =
+			SteamMetrics.nativeCall("SteamRemoteStorage.createPublishedFileUpdateRequest");
+	private static final SteamMetrics.Timer UpdatePublishedFileFile =
+			SteamMetrics.nativeCall("SteamRemoteStorage.updatePublishedFileFile");
+	private static final SteamMetrics.Timer UpdatePublishedFilePreviewFile =
+			SteamMetrics.nativeCall("SteamRemoteStorage.updatePublishedFilePreviewFile");
+	private static final SteamMetrics.Timer UpdatePublishedFileTitle =
+			SteamMetrics.nativeCall("SteamRemoteStorage.updatePublishedFileTitle");
+	private static final SteamMetrics.Timer UpdatePublishedFileDescription =
+			SteamMetrics.nativeCall("SteamRemoteStorage.updatePublishedFileDescription");
+	private static final SteamMetrics.Timer UpdatePublishedFileVisibility =
+			SteamMetrics.nativeCall("SteamRemoteStorage.updatePublishedFileVisibility");
+	private static final SteamMetrics.Timer UpdatePublishedFileTags =
+			SteamMetrics.nativeCall("SteamRemoteStorage.updatePublishedFileTags");
+	private static final SteamMetrics.Timer CommitPublishedFileUpdate =
+			SteamMetrics.nativeCall("SteamRemoteStorage.commitPublishedFileUpdate");
+
 	public SteamRemoteStorage(SteamRemoteStorageCallback callback) {
 		super(SteamRemoteStorageNative.createCallback(new SteamRemoteStorageCallbackAdapter(callback)));
 	}
 
 	public boolean fileWrite(String file, ByteBuffer data) throws SteamException {
 		checkBuffer(data);
-		return SteamRemoteStorageNative.fileWrite(file, data, data.position(), data.remaining());
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.fileWrite(file, data, data.position(), data.remaining());
+		SteamMetrics.end(FileWrite, start);
+		return result;
 	}
 
 	public int fileRead(String file, ByteBuffer buffer) throws SteamException {
 		checkBuffer(buffer);
-		return SteamRemoteStorageNative.fileRead(file, buffer, buffer.position(), buffer.remaining());
+		long start = SteamMetrics.begin();
+		int result = SteamRemoteStorageNative.fileRead(file, buffer, buffer.position(), buffer.remaining());
+		SteamMetrics.end(FileRead, start);
+		return result;
 	}
 
 	public SteamAPICall fileWriteAsync(String file, ByteBuffer data) throws SteamException {
 		checkBuffer(data);
-		return new SteamAPICall(SteamRemoteStorageNative.fileWriteAsync(
-				callback, file, data, data.position(), data.remaining()));
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.fileWriteAsync(
+				callback, file, data, data.position(), data.remaining());
+		SteamMetrics.end(FileWriteAsync, start);
+		return new SteamAPICall(result);
+	}
+
+	/**
+	 * Same as {@link #fileWriteAsync(String, ByteBuffer)}, but returns a future which completes once the file
+	 * was written, or with a {@link SteamException} if the write failed.
+	 */
+	public SteamCallResult<Void> fileWriteAsyncResult(String file, ByteBuffer data) throws SteamException {
+		return SteamCallResults.register(fileWriteAsync(file, data).handle,
+				SteamCallbackRouter.FileWriteAsyncComplete, true, null);
 	}
 
 	public SteamAPICall fileReadAsync(String file, int offset, int toRead) {
-		return new SteamAPICall(SteamRemoteStorageNative.fileReadAsync(callback, file, offset, toRead));
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.fileReadAsync(callback, file, offset, toRead);
+		SteamMetrics.end(FileReadAsync, start);
+		return new SteamAPICall(result);
+	}
+
+	/**
+	 * Same as {@link #fileReadAsync(String, int, int)}, but returns a future which completes with the number of
+	 * bytes read, or with a {@link SteamException} if the read failed. Pass {@link SteamCallResult#getAPICall()}
+	 * to {@link #fileReadAsyncComplete(SteamAPICall, ByteBuffer, int)} to copy the data.
+	 */
+	public SteamCallResult<Integer> fileReadAsyncResult(String file, int offset, int toRead) {
+		long start = SteamMetrics.begin();
+		long handle = SteamRemoteStorageNative.fileReadAsync(callback, file, offset, toRead);
+		SteamMetrics.end(FileReadAsync, start);
+
+		return SteamCallResults.register(handle, SteamCallbackRouter.FileReadAsyncComplete, true, null);
 	}
 
 	public boolean fileReadAsyncComplete(SteamAPICall readCall, ByteBuffer buffer, int toRead) {
-		return SteamRemoteStorageNative.fileReadAsyncComplete(readCall.handle, buffer, buffer.position(), toRead);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.fileReadAsyncComplete(
+				readCall.handle, buffer, buffer.position(), toRead);
+		SteamMetrics.end(FileReadAsyncComplete, start);
+		return result;
 	}
 
 	public boolean fileForget(String file) {
-		return SteamRemoteStorageNative.fileForget(file);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.fileForget(file);
+		SteamMetrics.end(FileForget, start);
+		return result;
 	}
 
 	public boolean fileDelete(String file) {
-		return SteamRemoteStorageNative.fileDelete(file);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.fileDelete(file);
+		SteamMetrics.end(FileDelete, start);
+		return result;
 	}
 
 	public SteamAPICall fileShare(String file) {
-		return new SteamAPICall(SteamRemoteStorageNative.fileShare(callback, file));
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.fileShare(callback, file);
+		SteamMetrics.end(FileShare, start);
+		return new SteamAPICall(result);
+	}
+
+	/**
+	 * Same as {@link #fileShare(String)}, but returns a future which completes with the handle of the shared
+	 * file, or with a {@link SteamException} if it couldn't be shared.
+	 */
+	public SteamCallResult<SteamUGCHandle> fileShareAsync(String file) {
+		return SteamCallResults.register(fileShare(file).handle, SteamCallbackRouter.FileShareResult, true, null);
 	}
 
 	public boolean setSyncPlatforms(String file, RemoteStoragePlatform remoteStoragePlatform) {
-		return SteamRemoteStorageNative.setSyncPlatforms(file, remoteStoragePlatform.mask);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.setSyncPlatforms(file, remoteStoragePlatform.mask);
+		SteamMetrics.end(SetSyncPlatforms, start);
+		return result;
 	}
 
 	public SteamUGCFileWriteStreamHandle fileWriteStreamOpen(String name) {
-		return new SteamUGCFileWriteStreamHandle(SteamRemoteStorageNative.fileWriteStreamOpen(name));
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.fileWriteStreamOpen(name);
+		SteamMetrics.end(FileWriteStreamOpen, start);
+		return new SteamUGCFileWriteStreamHandle(result);
 	}
 
 	public boolean fileWriteStreamWriteChunk(SteamUGCFileWriteStreamHandle stream, ByteBuffer data) {
-		return SteamRemoteStorageNative.fileWriteStreamWriteChunk(
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.fileWriteStreamWriteChunk(
 				stream.handle, data, data.position(), data.remaining());
+		SteamMetrics.end(FileWriteStreamWriteChunk, start);
+		return result;
 	}
 
 	public boolean fileWriteStreamClose(SteamUGCFileWriteStreamHandle stream) {
-		return SteamRemoteStorageNative.fileWriteStreamClose(stream.handle);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.fileWriteStreamClose(stream.handle);
+		SteamMetrics.end(FileWriteStreamClose, start);
+		return result;
 	}
 
 	public boolean fileWriteStreamCancel(SteamUGCFileWriteStreamHandle stream) {
-		return SteamRemoteStorageNative.fileWriteStreamCancel(stream.handle);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.fileWriteStreamCancel(stream.handle);
+		SteamMetrics.end(FileWriteStreamCancel, start);
+		return result;
 	}
 
 	public boolean fileExists(String file) {
-		return SteamRemoteStorageNative.fileExists(file);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.fileExists(file);
+		SteamMetrics.end(FileExists, start);
+		return result;
 	}
 
 	public boolean filePersisted(String file) {
-		return SteamRemoteStorageNative.filePersisted(file);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.filePersisted(file);
+		SteamMetrics.end(FilePersisted, start);
+		return result;
 	}
 
 	public int getFileSize(String file) {
-		return SteamRemoteStorageNative.getFileSize(file);
+		long start = SteamMetrics.begin();
+		int result = SteamRemoteStorageNative.getFileSize(file);
+		SteamMetrics.end(GetFileSize, start);
+		return result;
 	}
 
 	public long getFileTimestamp(String file) {
-		return SteamRemoteStorageNative.getFileTimestamp(file);
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.getFileTimestamp(file);
+		SteamMetrics.end(GetFileTimestamp, start);
+		return result;
 	}
 
 	public RemoteStoragePlatform[] getSyncPlatforms(String file) {
+		long start = SteamMetrics.begin();
 		int mask = SteamRemoteStorageNative.getSyncPlatforms(file);
+		SteamMetrics.end(GetSyncPlatforms, start);
 		return RemoteStoragePlatform.byMask(mask);
 	}
 
 	public int getFileCount() {
-		return SteamRemoteStorageNative.getFileCount();
+		long start = SteamMetrics.begin();
+		int result = SteamRemoteStorageNative.getFileCount();
+		SteamMetrics.end(GetFileCount, start);
+		return result;
 	}
 
 	public String getFileNameAndSize(int index, int[] sizes) {
-		return SteamRemoteStorageNative.getFileNameAndSize(index, sizes);
+		long start = SteamMetrics.begin();
+		String result = SteamRemoteStorageNative.getFileNameAndSize(index, sizes);
+		SteamMetrics.end(GetFileNameAndSize, start);
+		return result;
 	}
 
 	public boolean getQuota(long[] totalBytes, long[] availableBytes) {
-		return SteamRemoteStorageNative.getQuota(totalBytes, availableBytes);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.getQuota(totalBytes, availableBytes);
+		SteamMetrics.end(GetQuota, start);
+		return result;
 	}
 
 	public boolean isCloudEnabledForAccount() {
-		return SteamRemoteStorageNative.isCloudEnabledForAccount();
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.isCloudEnabledForAccount();
+		SteamMetrics.end(IsCloudEnabledForAccount, start);
+		return result;
 	}
 
 	public boolean isCloudEnabledForApp() {
-		return SteamRemoteStorageNative.isCloudEnabledForApp();
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.isCloudEnabledForApp();
+		SteamMetrics.end(IsCloudEnabledForApp, start);
+		return result;
 	}
 
 	public void setCloudEnabledForApp(boolean enabled) {
+		long start = SteamMetrics.begin();
 		SteamRemoteStorageNative.setCloudEnabledForApp(enabled);
+		SteamMetrics.end(SetCloudEnabledForApp, start);
 	}
 
 	public SteamAPICall ugcDownload(SteamUGCHandle fileHandle, int priority) {
-		return new SteamAPICall(SteamRemoteStorageNative.ugcDownload(callback, fileHandle.handle, priority));
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.ugcDownload(callback, fileHandle.handle, priority);
+		SteamMetrics.end(UgcDownload, start);
+		return new SteamAPICall(result);
+	}
+
+	/**
+	 * Same as {@link #ugcDownload(SteamUGCHandle, int)}, but returns a future which completes once the file
+	 * can be read with {@link #ugcRead(SteamUGCHandle, ByteBuffer, int, int, UGCReadAction)}, or with a
+	 * {@link SteamException} if the download failed.
+	 */
+	public SteamCallResult<SteamUGCHandle> ugcDownloadAsync(SteamUGCHandle fileHandle, int priority) {
+		return SteamCallResults.register(ugcDownload(fileHandle, priority).handle,
+				SteamCallbackRouter.DownloadUGCResult, true, null);
 	}
 
 	public boolean getUGCDownloadProgress(SteamUGCHandle fileHandle, int[] bytesDownloaded, int[] bytesExpected) {
-		return SteamRemoteStorageNative.getUGCDownloadProgress(fileHandle.handle, bytesDownloaded, bytesExpected);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.getUGCDownloadProgress(
+				fileHandle.handle, bytesDownloaded, bytesExpected);
+		SteamMetrics.end(GetUGCDownloadProgress, start);
+		return result;
 	}
 
 	public int ugcRead(SteamUGCHandle fileHandle, ByteBuffer buffer, int dataToRead, int offset, UGCReadAction action) {
-		return SteamRemoteStorageNative.ugcRead(
+		long start = SteamMetrics.begin();
+		int result = SteamRemoteStorageNative.ugcRead(
 				fileHandle.handle, buffer, buffer.position(), dataToRead, offset, action.ordinal());
+		SteamMetrics.end(UgcRead, start);
+		return result;
 	}
 
 	public int getCachedUGCCount() {
-		return SteamRemoteStorageNative.getCachedUGCCount();
+		long start = SteamMetrics.begin();
+		int result = SteamRemoteStorageNative.getCachedUGCCount();
+		SteamMetrics.end(GetCachedUGCCount, start);
+		return result;
 	}
 
 	public SteamUGCHandle getCachedUGCHandle(int cachedContent) {
-		return new SteamUGCHandle(SteamRemoteStorageNative.getCachedUGCHandle(cachedContent));
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.getCachedUGCHandle(cachedContent);
+		SteamMetrics.end(GetCachedUGCHandle, start);
+		return new SteamUGCHandle(result);
 	}
 
 	public SteamAPICall publishWorkshopFile(String file, String previewFile,
@@ -209,45 +401,99 @@ public class SteamRemoteStorage extends SteamInterface {
 											PublishedFileVisibility visibility, String[] tags,
 											WorkshopFileType workshopFileType) {
 
-		return new SteamAPICall(SteamRemoteStorageNative.publishWorkshopFile(
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.publishWorkshopFile(
 				callback, file, previewFile, consumerAppID, title, description,
-				visibility.ordinal(), tags, tags != null ? tags.length : 0, workshopFileType.ordinal()));
+				visibility.ordinal(), tags, tags != null ? tags.length : 0, workshopFileType.ordinal());
+		SteamMetrics.end(PublishWorkshopFile, start);
+		return new SteamAPICall(result);
+	}
+
+	/**
+	 * Same as {@link #publishWorkshopFile(String, String, int, String, String, PublishedFileVisibility, String[],
+	 * WorkshopFileType)}, but returns a future which completes with the ID of the published file, or with a
+	 * {@link SteamException} if it couldn't be published.
+	 */
+	public SteamCallResult<SteamUGC.ItemResult> publishWorkshopFileAsync(String file, String previewFile,
+																		 int consumerAppID, String title,
+																		 String description,
+																		 PublishedFileVisibility visibility,
+																		 String[] tags,
+																		 WorkshopFileType workshopFileType) {
+
+		return SteamCallResults.register(publishWorkshopFile(file, previewFile, consumerAppID, title, description,
+				visibility, tags, workshopFileType).handle, SteamCallbackRouter.PublishFileResult, true, null);
 	}
 
 	public SteamPublishedFileUpdateHandle createPublishedFileUpdateRequest(SteamPublishedFileID publishedFileID) {
-		return new SteamPublishedFileUpdateHandle(
-				SteamRemoteStorageNative.createPublishedFileUpdateRequest(publishedFileID.handle));
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.createPublishedFileUpdateRequest(publishedFileID.handle);
+		SteamMetrics.end(CreatePublishedFileUpdateRequest, start);
+		return new SteamPublishedFileUpdateHandle(result);
 	}
 
 	public boolean updatePublishedFileFile(SteamPublishedFileUpdateHandle updateHandle, String file) {
-		return SteamRemoteStorageNative.updatePublishedFileFile(updateHandle.handle, file);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.updatePublishedFileFile(updateHandle.handle, file);
+		SteamMetrics.end(UpdatePublishedFileFile, start);
+		return result;
 	}
 
 	public boolean updatePublishedFilePreviewFile(SteamPublishedFileUpdateHandle updateHandle, String previewFile) {
-		return SteamRemoteStorageNative.updatePublishedFilePreviewFile(updateHandle.handle, previewFile);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.updatePublishedFilePreviewFile(updateHandle.handle, previewFile);
+		SteamMetrics.end(UpdatePublishedFilePreviewFile, start);
+		return result;
 	}
 
 	public boolean updatePublishedFileTitle(SteamPublishedFileUpdateHandle updateHandle, String title) {
-		return SteamRemoteStorageNative.updatePublishedFileTitle(updateHandle.handle, title);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.updatePublishedFileTitle(updateHandle.handle, title);
+		SteamMetrics.end(UpdatePublishedFileTitle, start);
+		return result;
 	}
 
 	public boolean updatePublishedFileDescription(SteamPublishedFileUpdateHandle updateHandle, String description) {
-		return SteamRemoteStorageNative.updatePublishedFileDescription(updateHandle.handle, description);
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.updatePublishedFileDescription(updateHandle.handle, description);
+		SteamMetrics.end(UpdatePublishedFileDescription, start);
+		return result;
 	}
 
 	public boolean updatePublishedFileVisibility(SteamPublishedFileUpdateHandle updateHandle,
 												 PublishedFileVisibility visibility) {
 
-		return SteamRemoteStorageNative.updatePublishedFileVisibility(updateHandle.handle, visibility.ordinal());
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.updatePublishedFileVisibility(
+				updateHandle.handle, visibility.ordinal());
+		SteamMetrics.end(UpdatePublishedFileVisibility, start);
+		return result;
 	}
 
 	public boolean updatePublishedFileTags(SteamPublishedFileUpdateHandle updateHandle, String[] tags) {
-		return SteamRemoteStorageNative.updatePublishedFileTags(
+		long start = SteamMetrics.begin();
+		boolean result = SteamRemoteStorageNative.updatePublishedFileTags(
 				updateHandle.handle, tags, tags != null ? tags.length : 0);
+		SteamMetrics.end(UpdatePublishedFileTags, start);
+		return result;
 	}
 
 	public SteamAPICall commitPublishedFileUpdate(SteamPublishedFileUpdateHandle updateHandle) {
-		return new SteamAPICall(SteamRemoteStorageNative.commitPublishedFileUpdate(callback, updateHandle.handle));
+		long start = SteamMetrics.begin();
+		long result = SteamRemoteStorageNative.commitPublishedFileUpdate(callback, updateHandle.handle);
+		SteamMetrics.end(CommitPublishedFileUpdate, start);
+		return new SteamAPICall(result);
+	}
+
+	/**
+	 * Same as {@link #commitPublishedFileUpdate(SteamPublishedFileUpdateHandle)}, but returns a future which
+	 * completes once the update was committed, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<SteamUGC.ItemResult> commitPublishedFileUpdateAsync(
+			SteamPublishedFileUpdateHandle updateHandle) {
+
+		return SteamCallResults.register(commitPublishedFileUpdate(updateHandle).handle,
+				SteamCallbackRouter.UpdatePublishedFileResult, true, null);
 	}
 
 }
@@ -3,48 +3,150 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamRemoteStorageCallbackAdapter extends SteamCallbackAdapter<SteamRemoteStorageCallback> {
 
+	private static final SteamMetrics.Timer OnFileShareResult =
+			SteamMetrics.callback("SteamRemoteStorageCallback.onFileShareResult");
+	private static final SteamMetrics.Timer OnDownloadUGCResult =
+			SteamMetrics.callback("SteamRemoteStorageCallback.onDownloadUGCResult");
+	private static final SteamMetrics.Timer OnPublishFileResult =
+			SteamMetrics.callback("SteamRemoteStorageCallback.onPublishFileResult");
+	private static final SteamMetrics.Timer OnUpdatePublishedFileResult =
+			SteamMetrics.callback("SteamRemoteStorageCallback.onUpdatePublishedFileResult");
+	private static final SteamMetrics.Timer OnPublishedFileSubscribed =
+			SteamMetrics.callback("SteamRemoteStorageCallback.onPublishedFileSubscribed");
+	private static final SteamMetrics.Timer OnPublishedFileUnsubscribed =
+			SteamMetrics.callback("SteamRemoteStorageCallback.onPublishedFileUnsubscribed");
+	private static final SteamMetrics.Timer OnPublishedFileDeleted =
+			SteamMetrics.callback("SteamRemoteStorageCallback.onPublishedFileDeleted");
+	private static final SteamMetrics.Timer OnFileWriteAsyncComplete =
+			SteamMetrics.callback("SteamRemoteStorageCallback.onFileWriteAsyncComplete");
+	private static final SteamMetrics.Timer OnFileReadAsyncComplete =
+			SteamMetrics.callback("SteamRemoteStorageCallback.onFileReadAsyncComplete");
+
 	SteamRemoteStorageCallbackAdapter(SteamRemoteStorageCallback callback) {
 		super(callback);
 	}
 
 	void onFileShareResult(long fileHandle, String fileName, int result) {
-		callback.onFileShareResult(new SteamUGCHandle(fileHandle),
-				fileName, SteamResult.byValue(result));
+		SteamUGCHandle file = new SteamUGCHandle(fileHandle);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onFileShareResult(file, fileName, steamResult);
+		} finally {
+			SteamMetrics.end(OnFileShareResult, start);
+		}
+
+		SteamCallResult<SteamUGCHandle> call = SteamCallResults.take(SteamCallbackRouter.FileShareResult);
+		if (call != null) {
+			call.succeedIfOK(steamResult, file, "Failed to share file");
+		}
 	}
 
 	void onDownloadUGCResult(long fileHandle, int result) {
-		callback.onDownloadUGCResult(new SteamUGCHandle(fileHandle), SteamResult.byValue(result));
+		SteamUGCHandle file = new SteamUGCHandle(fileHandle);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onDownloadUGCResult(file, steamResult);
+		} finally {
+			SteamMetrics.end(OnDownloadUGCResult, start);
+		}
+
+		SteamCallResult<SteamUGCHandle> call = SteamCallResults.take(SteamCallbackRouter.DownloadUGCResult);
+		if (call != null) {
+			call.succeedIfOK(steamResult, file, "Failed to download file");
+		}
 	}
 
 	void onPublishFileResult(long publishedFileID, boolean needsToAcceptWLA, int result) {
-		callback.onPublishFileResult(new SteamPublishedFileID(publishedFileID),
-				needsToAcceptWLA, SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onPublishFileResult(file, needsToAcceptWLA, steamResult);
+		} finally {
+			SteamMetrics.end(OnPublishFileResult, start);
+		}
+
+		SteamCallResult<SteamUGC.ItemResult> call = SteamCallResults.take(SteamCallbackRouter.PublishFileResult);
+		if (call != null) {
+			call.succeedIfOK(steamResult, new SteamUGC.ItemResult(file, needsToAcceptWLA), "Failed to publish file");
+		}
 	}
 
 	void onUpdatePublishedFileResult(long publishedFileID, boolean needsToAcceptWLA, int result) {
-		callback.onUpdatePublishedFileResult(new SteamPublishedFileID(publishedFileID),
-				needsToAcceptWLA, SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onUpdatePublishedFileResult(file, needsToAcceptWLA, steamResult);
+		} finally {
+			SteamMetrics.end(OnUpdatePublishedFileResult, start);
+		}
+
+		SteamCallResult<SteamUGC.ItemResult> call =
+				SteamCallResults.take(SteamCallbackRouter.UpdatePublishedFileResult);
+		if (call != null) {
+			call.succeedIfOK(steamResult, new SteamUGC.ItemResult(file, needsToAcceptWLA),
+					"Failed to update published file");
+		}
 	}
 
 	void onPublishedFileSubscribed(long publishedFileID, int appID) {
-		callback.onPublishedFileSubscribed(new SteamPublishedFileID(publishedFileID), appID);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onPublishedFileSubscribed(new SteamPublishedFileID(publishedFileID), appID);
+		} finally {
+			SteamMetrics.end(OnPublishedFileSubscribed, start);
+		}
 	}
 
 	void onPublishedFileUnsubscribed(long publishedFileID, int appID) {
-		callback.onPublishedFileUnsubscribed(new SteamPublishedFileID(publishedFileID), appID);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onPublishedFileUnsubscribed(new SteamPublishedFileID(publishedFileID), appID);
+		} finally {
+			SteamMetrics.end(OnPublishedFileUnsubscribed, start);
+		}
 	}
 
 	void onPublishedFileDeleted(long publishedFileID, int appID) {
-		callback.onPublishedFileDeleted(new SteamPublishedFileID(publishedFileID), appID);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onPublishedFileDeleted(new SteamPublishedFileID(publishedFileID), appID);
+		} finally {
+			SteamMetrics.end(OnPublishedFileDeleted, start);
+		}
 	}
 
 	void onFileWriteAsyncComplete(int result) {
-		callback.onFileWriteAsyncComplete(SteamResult.byValue(result));
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onFileWriteAsyncComplete(steamResult);
+		} finally {
+			SteamMetrics.end(OnFileWriteAsyncComplete, start);
+		}
+
+		SteamCallResult<Void> call = SteamCallResults.take(SteamCallbackRouter.FileWriteAsyncComplete);
+		if (call != null) {
+			call.succeedIfOK(steamResult, null, "Failed to write file");
+		}
 	}
 
 	void onFileReadAsyncComplete(long fileReadAsync, int result, int offset, int read) {
-		callback.onFileReadAsyncComplete(new SteamAPICall(fileReadAsync),
-				SteamResult.byValue(result), offset, read);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onFileReadAsyncComplete(new SteamAPICall(fileReadAsync), steamResult, offset, read);
+		} finally {
+			SteamMetrics.end(OnFileReadAsyncComplete, start);
+		}
+
+		SteamCallResult<Integer> call = SteamCallResults.take(fileReadAsync);
+		if (call != null) {
+			call.succeedIfOK(steamResult, read, "Failed to read file");
+		}
 	}
 
 }
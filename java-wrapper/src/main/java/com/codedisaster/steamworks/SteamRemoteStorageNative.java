@@ -28,14 +28,14 @@ final class SteamRemoteStorageNative {
 									  int bufferOffset, int bufferSize); /*
 		SteamRemoteStorageCallback* cb = (SteamRemoteStorageCallback*) callback;
 		SteamAPICall_t handle = SteamRemoteStorage()->FileWriteAsync(file, &data[bufferOffset], (uint32) bufferSize);
-		cb->onFileWriteAsyncCompleteCall.Set(handle, cb, &SteamRemoteStorageCallback::onFileWriteAsyncComplete);
+		cb->setCallResult(handle, cb, &SteamRemoteStorageCallback::onFileWriteAsyncComplete);
 		return handle;
 	*/
 
 	static native long fileReadAsync(long callback, String file, int offset, int toRead); /*
 		SteamRemoteStorageCallback* cb = (SteamRemoteStorageCallback*) callback;
 		SteamAPICall_t handle = SteamRemoteStorage()->FileReadAsync(file, (uint32) offset, (uint32) toRead);
-        cb->onFileReadAsyncCompleteCall.Set(handle, cb, &SteamRemoteStorageCallback::onFileReadAsyncComplete);
+        cb->setCallResult(handle, cb, &SteamRemoteStorageCallback::onFileReadAsyncComplete);
 		return handle;
 	*/
 
@@ -55,7 +55,7 @@ final class SteamRemoteStorageNative {
 	static native long fileShare(long callback, String file); /*
 		SteamRemoteStorageCallback* cb = (SteamRemoteStorageCallback*) callback;
 		SteamAPICall_t handle = SteamRemoteStorage()->FileShare(file);
-		cb->onFileShareResultCall.Set(handle, cb, &SteamRemoteStorageCallback::onFileShareResult);
+		cb->setCallResult(handle, cb, &SteamRemoteStorageCallback::onFileShareResult);
 		return handle;
 	*/
 
@@ -127,7 +127,7 @@ final class SteamRemoteStorageNative {
 	static native long ugcDownload(long callback, long content, int priority); /*
 		SteamRemoteStorageCallback* cb = (SteamRemoteStorageCallback*) callback;
 		SteamAPICall_t handle = SteamRemoteStorage()->UGCDownload(content, priority);
-		cb->onDownloadUGCResultCall.Set(handle, cb, &SteamRemoteStorageCallback::onDownloadUGCResult);
+		cb->setCallResult(handle, cb, &SteamRemoteStorageCallback::onDownloadUGCResult);
 		return handle;
 	*/
 
@@ -169,7 +169,7 @@ final class SteamRemoteStorageNative {
 		SteamAPICall_t handle = SteamRemoteStorage()->PublishWorkshopFile(file, previewFile, consumerAppID, title, description,
 			(ERemoteStoragePublishedFileVisibility) visibility, &arrayTags, (EWorkshopFileType) workshopFileType);
 
-		cb->onPublishFileResultCall.Set(handle, cb, &SteamRemoteStorageCallback::onPublishFileResult);
+		cb->setCallResult(handle, cb, &SteamRemoteStorageCallback::onPublishFileResult);
 
 		for (int t = 0; t < numTags; t++) {
 			env->ReleaseStringUTFChars((jstring) env->GetObjectArrayElement(tags, t), arrayTags.m_ppStrings[t]);
@@ -224,7 +224,7 @@ final class SteamRemoteStorageNative {
 	static native long commitPublishedFileUpdate(long callback, long updateHandle); /*
 		SteamRemoteStorageCallback* cb = (SteamRemoteStorageCallback*) callback;
 		SteamAPICall_t handle = SteamRemoteStorage()->CommitPublishedFileUpdate(updateHandle);
-		cb->onUpdatePublishedFileResultCall.Set(handle, cb, &SteamRemoteStorageCallback::onUpdatePublishedFileResult);
+		cb->setCallResult(handle, cb, &SteamRemoteStorageCallback::onUpdatePublishedFileResult);
 		return handle;
 	*/
 
@@ -148,6 +148,10 @@ public enum SteamResult {
 		this.code = code;
 	}
 
+	int getCode() {
+		return code;
+	}
+
 	public static SteamResult byValue(int resultCode) {
 		if (resultCode < valuesLookupTable.length) {
 			return valuesLookupTable[resultCode];
@@ -5,40 +5,77 @@ import java.nio.ByteBuffer;
 @SuppressWarnings("unused")
 public class SteamScreenshots extends SteamInterface {
 
+	private static final SteamMetrics.Timer WriteScreenshot =
+			SteamMetrics.nativeCall("SteamScreenshots.writeScreenshot");
+	private static final SteamMetrics.Timer AddScreenshotToLibrary =
+			SteamMetrics.nativeCall("SteamScreenshots.addScreenshotToLibrary");
+	private static final SteamMetrics.Timer TriggerScreenshot =
+			SteamMetrics.nativeCall("SteamScreenshots.triggerScreenshot");
+	private static final SteamMetrics.Timer HookScreenshots =
+			SteamMetrics.nativeCall("SteamScreenshots.hookScreenshots");
+	private static final SteamMetrics.Timer SetLocation = SteamMetrics.nativeCall("SteamScreenshots.setLocation");
+	private static final SteamMetrics.Timer TagUser = SteamMetrics.nativeCall("SteamScreenshots.tagUser");
+	private static final SteamMetrics.Timer TagPublishedFile =
+			SteamMetrics.nativeCall("SteamScreenshots.tagPublishedFile");
+	private static final SteamMetrics.Timer IsScreenshotsHooked =
+			SteamMetrics.nativeCall("SteamScreenshots.isScreenshotsHooked");
+
 	public SteamScreenshots(SteamScreenshotsCallback callback) {
 		super(SteamScreenshotsNative.createCallback(new SteamScreenshotsCallbackAdapter(callback)));
 	}
 
 	public SteamScreenshotHandle writeScreenshot(ByteBuffer rgb, int width, int height) {
-		return new SteamScreenshotHandle(SteamScreenshotsNative.writeScreenshot(rgb, rgb.remaining(), width, height));
+		long start = SteamMetrics.begin();
+		int result = SteamScreenshotsNative.writeScreenshot(rgb, rgb.remaining(), width, height);
+		SteamMetrics.end(WriteScreenshot, start);
+		return new SteamScreenshotHandle(result);
 	}
 
 	public SteamScreenshotHandle addScreenshotToLibrary(String file, String thumbnail, int width, int height) {
-		return new SteamScreenshotHandle(SteamScreenshotsNative.addScreenshotToLibrary(file, thumbnail, width, height));
+		long start = SteamMetrics.begin();
+		int result = SteamScreenshotsNative.addScreenshotToLibrary(file, thumbnail, width, height);
+		SteamMetrics.end(AddScreenshotToLibrary, start);
+		return new SteamScreenshotHandle(result);
 	}
 
 	public void triggerScreenshot() {
+		long start = SteamMetrics.begin();
 		SteamScreenshotsNative.triggerScreenshot();
+		SteamMetrics.end(TriggerScreenshot, start);
 	}
 
 	public void hookScreenshots(boolean hook) {
+		long start = SteamMetrics.begin();
 		SteamScreenshotsNative.hookScreenshots(hook);
+		SteamMetrics.end(HookScreenshots, start);
 	}
 
 	public boolean setLocation(SteamScreenshotHandle screenshot, String location) {
-		return SteamScreenshotsNative.setLocation(screenshot.handle, location);
+		long start = SteamMetrics.begin();
+		boolean result = SteamScreenshotsNative.setLocation(screenshot.handle, location);
+		SteamMetrics.end(SetLocation, start);
+		return result;
 	}
 
 	public boolean tagUser(SteamScreenshotHandle screenshot, SteamID steamID) {
-		return SteamScreenshotsNative.tagUser(screenshot.handle, steamID.handle);
+		long start = SteamMetrics.begin();
+		boolean result = SteamScreenshotsNative.tagUser(screenshot.handle, steamID.handle);
+		SteamMetrics.end(TagUser, start);
+		return result;
 	}
 
 	public boolean tagPublishedFile(SteamScreenshotHandle screenshot, SteamPublishedFileID publishedFileID) {
-		return SteamScreenshotsNative.tagPublishedFile(screenshot.handle, publishedFileID.handle);
+		long start = SteamMetrics.begin();
+		boolean result = SteamScreenshotsNative.tagPublishedFile(screenshot.handle, publishedFileID.handle);
+		SteamMetrics.end(TagPublishedFile, start);
+		return result;
 	}
 
 	public boolean isScreenshotsHooked() {
-		return SteamScreenshotsNative.isScreenshotsHooked();
+		long start = SteamMetrics.begin();
+		boolean result = SteamScreenshotsNative.isScreenshotsHooked();
+		SteamMetrics.end(IsScreenshotsHooked, start);
+		return result;
 	}
 
 }
@@ -3,16 +3,31 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 public class SteamScreenshotsCallbackAdapter extends SteamCallbackAdapter<SteamScreenshotsCallback> {
 
+	private static final SteamMetrics.Timer OnScreenshotReady =
+			SteamMetrics.callback("SteamScreenshotsCallback.onScreenshotReady");
+	private static final SteamMetrics.Timer OnScreenshotRequested =
+			SteamMetrics.callback("SteamScreenshotsCallback.onScreenshotRequested");
+
 	SteamScreenshotsCallbackAdapter(SteamScreenshotsCallback callback) {
 		super(callback);
 	}
 
 	void onScreenshotReady(int local, int result) {
-		callback.onScreenshotReady(new SteamScreenshotHandle(local), SteamResult.byValue(result));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onScreenshotReady(new SteamScreenshotHandle(local), SteamResult.byValue(result));
+		} finally {
+			SteamMetrics.end(OnScreenshotReady, start);
+		}
 	}
 
 	void onScreenshotRequested() {
-		callback.onScreenshotRequested();
+		long start = SteamMetrics.begin();
+		try {
+			callback.onScreenshotRequested();
+		} finally {
+			SteamMetrics.end(OnScreenshotRequested, start);
+		}
 	}
 
 }
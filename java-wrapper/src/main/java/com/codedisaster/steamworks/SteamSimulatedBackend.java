@@ -0,0 +1,339 @@
+package com.codedisaster.steamworks;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A pure Java stand-in for the Steam client, to run and load-test game code without native libraries,
+ * e.g. on CI machines.
+ * <p>
+ * The simulation keeps lobbies, workshop items, stats, leaderboards, P2P sessions and networking
+ * connections in memory, answers calls made through {@link SteamMatchmaking}, {@link SteamUGC},
+ * {@link SteamUserStats}, {@link SteamNetworking}, {@link SteamNetworkingSockets} and
+ * {@link SteamNetworkingMessages}, and dispatches callbacks and call results from {@link SteamAPI#runCallbacks()}.
+ * In addition, it can generate traffic from simulated users at the rates set in its {@link Config}.
+ * <pre>
+ * SteamAPI.setBackend(new SteamSimulatedBackend(new SteamSimulatedBackend.Config()
+ *     .setLobbyChatRate(50.0)
+ *     .setP2PPacketRate(2000.0)));
+ * SteamAPI.init();
+ * </pre>
+ * Other interfaces still call native code, and are not available with this backend.
+ */
+public final class SteamSimulatedBackend extends SteamBackend {
+
+	/**
+	 * Settings of the simulation. Rates are in events per second, and default to zero.
+	 */
+	public static final class Config {
+
+		long seed = 0x5EEDL;
+		LongSupplier clock = System::nanoTime;
+		int epoch = 1700000000;
+		int callbackLatency = 0;
+
+		int appID = 480;
+		long localSteamID = 76561197960265728L + 1000000;
+		int users = 1000;
+
+		int lobbies = 16;
+		int lobbyMemberLimit = 8;
+		int workshopItems = 100;
+		String workshopFolder = "workshop";
+		String[] leaderboards = new String[0];
+		int leaderboardEntries = 100;
+		int currentPlayers = 1000;
+
+		boolean echo = true;
+		int peers = 4;
+		int p2pPacketSize = 64;
+		int socketMessageSize = 64;
+		int socketSendRate;
+		int lobbyChatMessageSize = 32;
+
+		double lobbyChatRate;
+		double lobbyDataRate;
+		double lobbyMemberRate;
+		double workshopItemRate;
+		double leaderboardScoreRate;
+		double p2pPacketRate;
+		double connectionRate;
+		double socketMessageRate;
+
+		/**
+		 * Seed of the random generator used for all simulated content.
+		 */
+		public Config setSeed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		/**
+		 * Time source of the simulation, in nanoseconds. Defaults to {@link System#nanoTime()}.
+		 * A manually advanced clock makes the generated traffic deterministic.
+		 */
+		public Config setClock(LongSupplier clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Unix time, in seconds, when the simulation starts. Timestamps of simulated content, like the
+		 * creation time of workshop items, advance from here with the simulation clock.
+		 */
+		public Config setEpoch(int seconds) {
+			this.epoch = seconds;
+			return this;
+		}
+
+		/**
+		 * Delay between a call, or a generated event, and the dispatch of its callback.
+		 */
+		public Config setCallbackLatency(int milliseconds) {
+			this.callbackLatency = milliseconds;
+			return this;
+		}
+
+		public Config setAppID(int appID) {
+			this.appID = appID;
+			return this;
+		}
+
+		public Config setLocalSteamID(SteamID steamID) {
+			this.localSteamID = steamID.handle;
+			return this;
+		}
+
+		/**
+		 * Number of simulated users who own lobbies and workshop items, chat, and post leaderboard scores.
+		 */
+		public Config setUsers(int users) {
+			this.users = users;
+			return this;
+		}
+
+		/**
+		 * Number of public lobbies created by simulated users on startup.
+		 */
+		public Config setLobbies(int lobbies) {
+			this.lobbies = lobbies;
+			return this;
+		}
+
+		public Config setLobbyMemberLimit(int lobbyMemberLimit) {
+			this.lobbyMemberLimit = lobbyMemberLimit;
+			return this;
+		}
+
+		/**
+		 * Number of workshop items published by simulated users on startup.
+		 */
+		public Config setWorkshopItems(int workshopItems) {
+			this.workshopItems = workshopItems;
+			return this;
+		}
+
+		/**
+		 * Folder reported as install location of subscribed items. Nothing is written to it.
+		 */
+		public Config setWorkshopFolder(String workshopFolder) {
+			this.workshopFolder = workshopFolder;
+			return this;
+		}
+
+		/**
+		 * Names of leaderboards which exist on startup. Other leaderboards are created by
+		 * {@link SteamUserStats#findOrCreateLeaderboard}.
+		 */
+		public Config setLeaderboards(String... leaderboards) {
+			this.leaderboards = leaderboards;
+			return this;
+		}
+
+		/**
+		 * Number of scores posted by simulated users to each new leaderboard.
+		 */
+		public Config setLeaderboardEntries(int leaderboardEntries) {
+			this.leaderboardEntries = leaderboardEntries;
+			return this;
+		}
+
+		public Config setCurrentPlayers(int currentPlayers) {
+			this.currentPlayers = currentPlayers;
+			return this;
+		}
+
+		/**
+		 * If set, simulated users send back each P2P packet and connection message they receive.
+		 * Enabled by default.
+		 */
+		public Config setEcho(boolean echo) {
+			this.echo = echo;
+			return this;
+		}
+
+		/**
+		 * Number of simulated users sending P2P packets.
+		 */
+		public Config setPeers(int peers) {
+			this.peers = peers;
+			return this;
+		}
+
+		public Config setP2PPacketSize(int p2pPacketSize) {
+			this.p2pPacketSize = p2pPacketSize;
+			return this;
+		}
+
+		public Config setSocketMessageSize(int socketMessageSize) {
+			this.socketMessageSize = socketMessageSize;
+			return this;
+		}
+
+		/**
+		 * Bandwidth of each connection, in bytes per second. Messages queue up on their connection lane, and are
+		 * delivered by {@link SteamAPI#runCallbacks()} as bandwidth allows. Zero, the default, delivers
+		 * messages instantly.
+		 */
+		public Config setSocketSendRate(int socketSendRate) {
+			this.socketSendRate = socketSendRate;
+			return this;
+		}
+
+		public Config setLobbyChatMessageSize(int lobbyChatMessageSize) {
+			this.lobbyChatMessageSize = lobbyChatMessageSize;
+			return this;
+		}
+
+		/**
+		 * Chat messages sent by other members to lobbies the local user is in.
+		 */
+		public Config setLobbyChatRate(double lobbyChatRate) {
+			this.lobbyChatRate = lobbyChatRate;
+			return this;
+		}
+
+		/**
+		 * Lobby data changes made by lobby owners.
+		 */
+		public Config setLobbyDataRate(double lobbyDataRate) {
+			this.lobbyDataRate = lobbyDataRate;
+			return this;
+		}
+
+		/**
+		 * Simulated users entering or leaving lobbies the local user is in.
+		 */
+		public Config setLobbyMemberRate(double lobbyMemberRate) {
+			this.lobbyMemberRate = lobbyMemberRate;
+			return this;
+		}
+
+		/**
+		 * New workshop items published by simulated users.
+		 */
+		public Config setWorkshopItemRate(double workshopItemRate) {
+			this.workshopItemRate = workshopItemRate;
+			return this;
+		}
+
+		/**
+		 * Scores uploaded by simulated users to existing leaderboards.
+		 */
+		public Config setLeaderboardScoreRate(double leaderboardScoreRate) {
+			this.leaderboardScoreRate = leaderboardScoreRate;
+			return this;
+		}
+
+		/**
+		 * P2P packets sent by simulated peers to the local user, on channel 0.
+		 */
+		public Config setP2PPacketRate(double p2pPacketRate) {
+			this.p2pPacketRate = p2pPacketRate;
+			return this;
+		}
+
+		/**
+		 * Connection requests by simulated users to listen sockets created by the local user.
+		 */
+		public Config setConnectionRate(double connectionRate) {
+			this.connectionRate = connectionRate;
+			return this;
+		}
+
+		/**
+		 * Messages sent by simulated users over established connections.
+		 */
+		public Config setSocketMessageRate(double socketMessageRate) {
+			this.socketMessageRate = socketMessageRate;
+			return this;
+		}
+	}
+
+	private final SteamSimulation simulation;
+	private boolean isRunning;
+
+	public SteamSimulatedBackend() {
+		this(new Config());
+	}
+
+	public SteamSimulatedBackend(Config config) {
+		this(new SteamSimulation(config));
+	}
+
+	private SteamSimulatedBackend(SteamSimulation simulation) {
+		super(new SteamSimulatedMatchmaking(simulation),
+				new SteamSimulatedUGC(simulation),
+				new SteamSimulatedUserStats(simulation),
+				new SteamSimulatedNetworking(simulation),
+				new SteamSimulatedNetworkingSockets(simulation),
+				new SteamSimulatedNetworkingMessages(simulation));
+
+		this.simulation = simulation;
+	}
+
+	public SteamID getLocalSteamID() {
+		return new SteamID(simulation.getLocalSteamID());
+	}
+
+	/**
+	 * Returns the number of callbacks and call results dispatched so far.
+	 */
+	public long getDispatchedCallbackCount() {
+		return simulation.getDispatchedCount();
+	}
+
+	@Override
+	boolean restartAppIfNecessary(int appId) {
+		return false;
+	}
+
+	@Override
+	SteamAPI.InitResult init() {
+		isRunning = true;
+		return SteamAPI.InitResult.OK;
+	}
+
+	@Override
+	void shutdown() {
+		isRunning = false;
+		simulation.clear();
+	}
+
+	@Override
+	void runCallbacks(int maxCallbacks) {
+		if (isRunning) {
+			simulation.runFrame(maxCallbacks);
+		}
+	}
+
+	@Override
+	boolean isSteamRunning() {
+		return isRunning;
+	}
+
+	@Override
+	void deleteCallback(long callback) {
+		simulation.deleteCallback(callback);
+	}
+
+}
@@ -0,0 +1,724 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+final class SteamSimulatedMatchmaking implements SteamMatchmakingBackend, SteamSimulation.Generator {
+
+	/**
+	 * Public universe, chat account type, lobby instance flag.
+	 */
+	private static final long LobbySteamIDBase = 0x0186040000000000L;
+
+	private static final int MaxChatMessageSize = 4096;
+	private static final int MaxChatHistory = 256;
+	private static final int DefaultResultCount = 50;
+
+	private static final int EnterSuccess = 1;
+	private static final int EnterDoesntExist = 2;
+	private static final int EnterFull = 4;
+
+	private static final int MemberEntered = 0x0001;
+	private static final int MemberLeft = 0x0002;
+
+	private static final int ChatEntryTypeChatMsg = 1;
+	private static final int LobbyTypePublic = 2;
+
+	private static final String[] GameModes = { "coop", "versus", "survival", "sandbox" };
+
+	private static final class ChatMessage {
+
+		final long steamIDUser;
+		final int chatEntryType;
+		final byte[] data;
+
+		ChatMessage(long steamIDUser, int chatEntryType, byte[] data) {
+			this.steamIDUser = steamIDUser;
+			this.chatEntryType = chatEntryType;
+			this.data = data;
+		}
+	}
+
+	private static final class Lobby {
+
+		final long steamID;
+		long owner;
+		int type;
+		int memberLimit;
+		boolean joinable = true;
+
+		final Map<String, String> data = new LinkedHashMap<>();
+		final List<Long> members = new ArrayList<>();
+		final Map<Long, Map<String, String>> memberData = new HashMap<>();
+
+		final List<ChatMessage> chat = new ArrayList<>();
+		int firstChatID;
+
+		int gameServerIP;
+		short gameServerPort;
+		long gameServerSteamID;
+
+		Lobby(long steamID, long owner, int type, int memberLimit) {
+			this.steamID = steamID;
+			this.owner = owner;
+			this.type = type;
+			this.memberLimit = memberLimit;
+			members.add(owner);
+		}
+
+		int addChatMessage(ChatMessage message) {
+			if (chat.size() == MaxChatHistory) {
+				chat.remove(0);
+				firstChatID++;
+			}
+			chat.add(message);
+			return firstChatID + chat.size() - 1;
+		}
+
+		ChatMessage getChatMessage(int chatID) {
+			int index = chatID - firstChatID;
+			return index >= 0 && index < chat.size() ? chat.get(index) : null;
+		}
+
+		boolean isFull() {
+			return members.size() >= memberLimit;
+		}
+	}
+
+	private static final class FavoriteGame {
+
+		final int appID;
+		final int ip;
+		final short connPort;
+		final short queryPort;
+		final int flags;
+		int lastPlayedOnServer;
+
+		FavoriteGame(int appID, int ip, short connPort, short queryPort, int flags, int lastPlayedOnServer) {
+			this.appID = appID;
+			this.ip = ip;
+			this.connPort = connPort;
+			this.queryPort = queryPort;
+			this.flags = flags;
+			this.lastPlayedOnServer = lastPlayedOnServer;
+		}
+
+		boolean matches(int appID, int ip, short connPort, short queryPort, int flags) {
+			return this.appID == appID && this.ip == ip && this.connPort == connPort
+					&& this.queryPort == queryPort && this.flags == flags;
+		}
+	}
+
+	private final SteamSimulation simulation;
+
+	private final Map<Long, Lobby> lobbies = new LinkedHashMap<>();
+	private Lobby lastLobby;
+	private final List<FavoriteGame> favoriteGames = new ArrayList<>();
+
+	private final List<Predicate<Lobby>> lobbyListFilters = new ArrayList<>();
+	private Comparator<Lobby> lobbyListOrder;
+	private int lobbyListResultCount = DefaultResultCount;
+	private final List<Long> lobbyList = new ArrayList<>();
+
+	private long nextLobbyID = 1;
+
+	private final SteamSimulation.Rate chatRate;
+	private final SteamSimulation.Rate dataRate;
+	private final SteamSimulation.Rate memberRate;
+
+	SteamSimulatedMatchmaking(SteamSimulation simulation) {
+		this.simulation = simulation;
+
+		SteamSimulatedBackend.Config config = simulation.config;
+		chatRate = new SteamSimulation.Rate(config.lobbyChatRate);
+		dataRate = new SteamSimulation.Rate(config.lobbyDataRate);
+		memberRate = new SteamSimulation.Rate(config.lobbyMemberRate);
+
+		for (int i = 0; i < config.lobbies; i++) {
+			Lobby lobby = addLobby(simulation.getRandomUserSteamID(), LobbyTypePublic, config.lobbyMemberLimit);
+			lobby.data.put("name", "Lobby " + (i + 1));
+			lobby.data.put("mode", GameModes[simulation.random.nextInt(GameModes.length)]);
+			lobby.data.put("level", Integer.toString(1 + simulation.random.nextInt(50)));
+
+			int members = simulation.random.nextInt(Math.max(lobby.memberLimit - 1, 1));
+			for (int m = 0; m < members; m++) {
+				long user = simulation.getRandomUserSteamID();
+				if (!lobby.members.contains(user)) {
+					lobby.members.add(user);
+				}
+			}
+		}
+
+		simulation.addGenerator(this);
+	}
+
+	private Lobby addLobby(long owner, int type, int memberLimit) {
+		Lobby lobby = new Lobby(LobbySteamIDBase + nextLobbyID++, owner, type, memberLimit);
+		lobbies.put(lobby.steamID, lobby);
+		return lobby;
+	}
+
+	/**
+	 * Looks up a lobby, remembering the last result. Repeated queries on the same lobby, which is
+	 * the common case, then don't box the key.
+	 */
+	private Lobby getLobby(long steamIDLobby) {
+		Lobby lobby = lastLobby;
+		if (lobby == null || lobby.steamID != steamIDLobby) {
+			lobby = lobbies.get(steamIDLobby);
+			if (lobby != null) {
+				lastLobby = lobby;
+			}
+		}
+		return lobby;
+	}
+
+	private boolean isLocalMember(Lobby lobby) {
+		return lobby != null && lobby.members.contains(simulation.getLocalSteamID());
+	}
+
+	private boolean isLocalOwner(Lobby lobby) {
+		return lobby != null && lobby.owner == simulation.getLocalSteamID();
+	}
+
+	private void broadcastDataUpdate(Lobby lobby, long member) {
+		if (isLocalMember(lobby)) {
+			long steamIDLobby = lobby.steamID;
+			simulation.broadcast(SteamMatchmakingCallbackAdapter.class,
+					adapter -> adapter.onLobbyDataUpdate(steamIDLobby, member, true));
+		}
+	}
+
+	private void broadcastChatUpdate(Lobby lobby, long user, int stateChange) {
+		long steamIDLobby = lobby.steamID;
+		simulation.broadcast(SteamMatchmakingCallbackAdapter.class,
+				adapter -> adapter.onLobbyChatUpdate(steamIDLobby, user, user, stateChange));
+	}
+
+	private void addChatMessage(Lobby lobby, long user, byte[] data) {
+		long steamIDLobby = lobby.steamID;
+		int chatID = lobby.addChatMessage(new ChatMessage(user, ChatEntryTypeChatMsg, data));
+		simulation.broadcast(SteamMatchmakingCallbackAdapter.class,
+				adapter -> adapter.onLobbyChatMessage(steamIDLobby, user, ChatEntryTypeChatMsg, chatID));
+	}
+
+	private void removeMember(Lobby lobby, long user) {
+		lobby.members.remove(user);
+		lobby.memberData.remove(user);
+
+		if (lobby.members.isEmpty()) {
+			lobbies.remove(lobby.steamID);
+			lastLobby = null;
+		} else if (lobby.owner == user) {
+			lobby.owner = lobby.members.get(0);
+		}
+	}
+
+	@Override
+	public synchronized void generate(long elapsedNanos) {
+
+		List<Lobby> joined = new ArrayList<>();
+		for (Lobby lobby : lobbies.values()) {
+			if (isLocalMember(lobby)) {
+				joined.add(lobby);
+			}
+		}
+
+		int members = memberRate.advance(elapsedNanos);
+		int messages = chatRate.advance(elapsedNanos);
+		int updates = dataRate.advance(elapsedNanos);
+
+		if (!joined.isEmpty()) {
+
+			for (int i = 0; i < members; i++) {
+				Lobby lobby = joined.get(simulation.random.nextInt(joined.size()));
+				long user = simulation.getRandomUserSteamID();
+
+				if (lobby.members.contains(user) || lobby.isFull()) {
+					user = lobby.members.get(simulation.random.nextInt(lobby.members.size()));
+					if (user != simulation.getLocalSteamID()) {
+						removeMember(lobby, user);
+						broadcastChatUpdate(lobby, user, MemberLeft);
+					}
+				} else {
+					lobby.members.add(user);
+					broadcastChatUpdate(lobby, user, MemberEntered);
+				}
+			}
+
+			for (int i = 0; i < messages; i++) {
+				Lobby lobby = joined.get(simulation.random.nextInt(joined.size()));
+
+				if (lobby.members.size() < 2) {
+					long user = simulation.getRandomUserSteamID();
+					lobby.members.add(user);
+					broadcastChatUpdate(lobby, user, MemberEntered);
+				}
+
+				long user;
+				do {
+					user = lobby.members.get(simulation.random.nextInt(lobby.members.size()));
+				} while (user == simulation.getLocalSteamID());
+
+				addChatMessage(lobby, user, simulation.randomBytes(simulation.config.lobbyChatMessageSize));
+			}
+		}
+
+		if (updates > 0 && !lobbies.isEmpty()) {
+			List<Lobby> all = new ArrayList<>(lobbies.values());
+
+			for (int i = 0; i < updates; i++) {
+				Lobby lobby = all.get(simulation.random.nextInt(all.size()));
+				lobby.data.put("key" + simulation.random.nextInt(8), Integer.toString(simulation.random.nextInt()));
+				broadcastDataUpdate(lobby, lobby.steamID);
+			}
+		}
+	}
+
+	@Override
+	public long createCallback(SteamMatchmakingCallbackAdapter javaCallback) {
+		return simulation.registerCallback(javaCallback);
+	}
+
+	@Override
+	public synchronized int getFavoriteGameCount() {
+		return favoriteGames.size();
+	}
+
+	@Override
+	public synchronized boolean getFavoriteGame(int game, int[] appID, int[] ip, short[] connPort, short[] queryPort,
+												int[] flags, int[] lastPlayedOnServer) {
+
+		if (game < 0 || game >= favoriteGames.size()) {
+			return false;
+		}
+
+		FavoriteGame favorite = favoriteGames.get(game);
+		appID[0] = favorite.appID;
+		ip[0] = favorite.ip;
+		connPort[0] = favorite.connPort;
+		queryPort[0] = favorite.queryPort;
+		flags[0] = favorite.flags;
+		lastPlayedOnServer[0] = favorite.lastPlayedOnServer;
+
+		return true;
+	}
+
+	@Override
+	public synchronized int addFavoriteGame(int appID, int ip, short connPort, short queryPort,
+											int flags, int lastPlayedOnServer) {
+
+		for (int i = 0; i < favoriteGames.size(); i++) {
+			FavoriteGame favorite = favoriteGames.get(i);
+			if (favorite.matches(appID, ip, connPort, queryPort, flags)) {
+				favorite.lastPlayedOnServer = lastPlayedOnServer;
+				return i;
+			}
+		}
+
+		favoriteGames.add(new FavoriteGame(appID, ip, connPort, queryPort, flags, lastPlayedOnServer));
+
+		simulation.broadcast(SteamMatchmakingCallbackAdapter.class,
+				adapter -> adapter.onFavoritesListChanged(ip, queryPort, connPort, appID, flags, true, 0));
+
+		return favoriteGames.size() - 1;
+	}
+
+	@Override
+	public synchronized boolean removeFavoriteGame(int appID, int ip, short connPort, short queryPort, int flags) {
+
+		for (int i = 0; i < favoriteGames.size(); i++) {
+			if (favoriteGames.get(i).matches(appID, ip, connPort, queryPort, flags)) {
+				favoriteGames.remove(i);
+
+				simulation.broadcast(SteamMatchmakingCallbackAdapter.class,
+						adapter -> adapter.onFavoritesListChanged(ip, queryPort, connPort, appID, flags, false, 0));
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public synchronized long requestLobbyList(long callback) {
+
+		lobbyList.clear();
+
+		List<Lobby> matches = new ArrayList<>();
+		for (Lobby lobby : lobbies.values()) {
+			if (lobby.type == LobbyTypePublic && lobby.joinable && lobbyListFilters.stream().allMatch(f -> f.test(lobby))) {
+				matches.add(lobby);
+			}
+		}
+
+		if (lobbyListOrder != null) {
+			matches.sort(lobbyListOrder);
+		}
+
+		for (int i = 0; i < matches.size() && i < lobbyListResultCount; i++) {
+			lobbyList.add(matches.get(i).steamID);
+		}
+
+		lobbyListFilters.clear();
+		lobbyListOrder = null;
+		lobbyListResultCount = DefaultResultCount;
+
+		int lobbiesMatching = lobbyList.size();
+		return simulation.post(callback, SteamMatchmakingCallbackAdapter.class,
+				adapter -> adapter.onLobbyMatchList(lobbiesMatching));
+	}
+
+	private static boolean compare(int order, int comparisonType) {
+		switch (comparisonType) {
+			case -2: return order <= 0;
+			case -1: return order < 0;
+			case 0: return order == 0;
+			case 1: return order > 0;
+			case 2: return order >= 0;
+			case 3: return order != 0;
+			default: return false;
+		}
+	}
+
+	private static int parseInt(String value) {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	@Override
+	public synchronized void addRequestLobbyListStringFilter(String keyToMatch, String valueToMatch, int comparisonType) {
+		lobbyListFilters.add(lobby -> compare(lobby.data.getOrDefault(keyToMatch, "")
+				.compareTo(valueToMatch), comparisonType));
+	}
+
+	@Override
+	public synchronized void addRequestLobbyListNumericalFilter(String keyToMatch, int valueToMatch, int comparisonType) {
+		lobbyListFilters.add(lobby -> compare(Integer.compare(
+				parseInt(lobby.data.get(keyToMatch)), valueToMatch), comparisonType));
+	}
+
+	@Override
+	public synchronized void addRequestLobbyListNearValueFilter(String keyToMatch, int valueToBeCloseTo) {
+		Comparator<Lobby> order = Comparator.comparingLong(
+				lobby -> Math.abs((long) parseInt(lobby.data.get(keyToMatch)) - valueToBeCloseTo));
+		lobbyListOrder = lobbyListOrder != null ? lobbyListOrder.thenComparing(order) : order;
+	}
+
+	@Override
+	public synchronized void addRequestLobbyListFilterSlotsAvailable(int slotsAvailable) {
+		lobbyListFilters.add(lobby -> lobby.memberLimit - lobby.members.size() >= slotsAvailable);
+	}
+
+	@Override
+	public void addRequestLobbyListDistanceFilter(int lobbyDistanceFilter) {
+		// all simulated lobbies are close
+	}
+
+	@Override
+	public synchronized void addRequestLobbyListResultCountFilter(int maxResults) {
+		lobbyListResultCount = maxResults;
+	}
+
+	@Override
+	public void addRequestLobbyListCompatibleMembersFilter(long steamIDLobby) {
+		// no friends, so no members in common
+	}
+
+	@Override
+	public synchronized long getLobbyByIndex(int lobby) {
+		return lobby >= 0 && lobby < lobbyList.size() ? lobbyList.get(lobby) : 0L;
+	}
+
+	@Override
+	public synchronized long createLobby(long callback, int lobbyType, int maxMembers) {
+
+		Lobby lobby = addLobby(simulation.getLocalSteamID(), lobbyType, maxMembers);
+		long steamIDLobby = lobby.steamID;
+
+		long call = simulation.post(callback, SteamMatchmakingCallbackAdapter.class,
+				adapter -> adapter.onLobbyCreated(SteamResult.OK.getCode(), steamIDLobby));
+
+		simulation.broadcast(SteamMatchmakingCallbackAdapter.class,
+				adapter -> adapter.onLobbyEnter(steamIDLobby, 0, false, EnterSuccess));
+
+		return call;
+	}
+
+	@Override
+	public synchronized long joinLobby(long callback, long steamIDLobby) {
+
+		Lobby lobby = getLobby(steamIDLobby);
+		long user = simulation.getLocalSteamID();
+		int response;
+
+		if (lobby == null) {
+			response = EnterDoesntExist;
+		} else if (lobby.members.contains(user)) {
+			response = EnterSuccess;
+		} else if (!lobby.joinable || lobby.isFull()) {
+			response = EnterFull;
+		} else {
+			lobby.members.add(user);
+			response = EnterSuccess;
+		}
+
+		return simulation.post(callback, SteamMatchmakingCallbackAdapter.class,
+				adapter -> adapter.onLobbyEnter(steamIDLobby, 0, false, response));
+	}
+
+	@Override
+	public synchronized void leaveLobby(long steamIDLobby) {
+		Lobby lobby = getLobby(steamIDLobby);
+		if (isLocalMember(lobby)) {
+			removeMember(lobby, simulation.getLocalSteamID());
+		}
+	}
+
+	@Override
+	public synchronized boolean inviteUserToLobby(long steamIDLobby, long steamIDInvitee) {
+		return isLocalMember(getLobby(steamIDLobby));
+	}
+
+	@Override
+	public synchronized int getNumLobbyMembers(long steamIDLobby) {
+		Lobby lobby = getLobby(steamIDLobby);
+		return lobby != null ? lobby.members.size() : 0;
+	}
+
+	@Override
+	public synchronized long getLobbyMemberByIndex(long steamIDLobby, int memberIndex) {
+		Lobby lobby = getLobby(steamIDLobby);
+		return lobby != null && memberIndex >= 0 && memberIndex < lobby.members.size()
+				? lobby.members.get(memberIndex) : 0L;
+	}
+
+	@Override
+	public synchronized String getLobbyData(long steamIDLobby, String key) {
+		Lobby lobby = getLobby(steamIDLobby);
+		return lobby != null ? lobby.data.getOrDefault(key, "") : "";
+	}
+
+	@Override
+	public synchronized boolean setLobbyData(long steamIDLobby, String key, String value) {
+		Lobby lobby = getLobby(steamIDLobby);
+		if (!isLocalOwner(lobby)) {
+			return false;
+		}
+		lobby.data.put(key, value);
+		broadcastDataUpdate(lobby, steamIDLobby);
+		return true;
+	}
+
+	@Override
+	public synchronized String getLobbyMemberData(long steamIDLobby, long steamIDUser, String key) {
+		Lobby lobby = getLobby(steamIDLobby);
+		Map<String, String> data = lobby != null ? lobby.memberData.get(steamIDUser) : null;
+		return data != null ? data.getOrDefault(key, "") : "";
+	}
+
+	@Override
+	public synchronized void setLobbyMemberData(long steamIDLobby, String key, String value) {
+		Lobby lobby = getLobby(steamIDLobby);
+		if (isLocalMember(lobby)) {
+			long user = simulation.getLocalSteamID();
+			lobby.memberData.computeIfAbsent(user, u -> new LinkedHashMap<>()).put(key, value);
+			broadcastDataUpdate(lobby, user);
+		}
+	}
+
+	@Override
+	public synchronized int getLobbyDataCount(long steamIDLobby) {
+		Lobby lobby = getLobby(steamIDLobby);
+		return lobby != null ? lobby.data.size() : 0;
+	}
+
+	@Override
+	public synchronized boolean getLobbyDataByIndex(long steamIDLobby, int lobbyDataIndex,
+													SteamMatchmakingKeyValuePair keyValuePair) {
+
+		Lobby lobby = getLobby(steamIDLobby);
+		if (lobby == null || lobbyDataIndex < 0 || lobbyDataIndex >= lobby.data.size()) {
+			return false;
+		}
+
+		int index = 0;
+		for (Map.Entry<String, String> entry : lobby.data.entrySet()) {
+			if (index++ == lobbyDataIndex) {
+				keyValuePair.key = entry.getKey();
+				keyValuePair.value = entry.getValue();
+				break;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean deleteLobbyData(long steamIDLobby, String key) {
+		Lobby lobby = getLobby(steamIDLobby);
+		if (!isLocalOwner(lobby) || lobby.data.remove(key) == null) {
+			return false;
+		}
+		broadcastDataUpdate(lobby, steamIDLobby);
+		return true;
+	}
+
+	@Override
+	public boolean sendLobbyChatMsg(long steamIDLobby, ByteBuffer data, int offset, int size) {
+		byte[] message = new byte[size];
+		ByteBuffer source = data.duplicate();
+		source.position(offset);
+		source.get(message);
+		return sendLobbyChatMsg(steamIDLobby, message);
+	}
+
+	@Override
+	public boolean sendLobbyChatMsg(long steamIDLobby, String message) {
+		byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+		byte[] terminated = new byte[bytes.length + 1];
+		System.arraycopy(bytes, 0, terminated, 0, bytes.length);
+		return sendLobbyChatMsg(steamIDLobby, terminated);
+	}
+
+	private synchronized boolean sendLobbyChatMsg(long steamIDLobby, byte[] message) {
+		Lobby lobby = getLobby(steamIDLobby);
+		if (!isLocalMember(lobby) || message.length > MaxChatMessageSize) {
+			return false;
+		}
+		addChatMessage(lobby, simulation.getLocalSteamID(), message);
+		return true;
+	}
+
+	@Override
+	public synchronized int getLobbyChatEntry(long steamIDLobby, int chatID, SteamMatchmaking.ChatEntry chatEntry,
+											  ByteBuffer buffer, int offset, int size) {
+
+		Lobby lobby = getLobby(steamIDLobby);
+		ChatMessage message = lobby != null ? lobby.getChatMessage(chatID) : null;
+
+		if (message == null) {
+			return 0;
+		}
+
+		int length = Math.min(size, message.data.length);
+		ByteBuffer dest = buffer.duplicate();
+		dest.position(offset);
+		dest.put(message.data, 0, length);
+
+		chatEntry.steamIDUser = message.steamIDUser;
+		chatEntry.chatEntryType = message.chatEntryType;
+
+		return length;
+	}
+
+	@Override
+	public synchronized boolean requestLobbyData(long steamIDLobby) {
+		Lobby lobby = getLobby(steamIDLobby);
+		boolean success = lobby != null;
+		simulation.broadcast(SteamMatchmakingCallbackAdapter.class,
+				adapter -> adapter.onLobbyDataUpdate(steamIDLobby, steamIDLobby, success));
+		return true;
+	}
+
+	@Override
+	public synchronized void setLobbyGameServer(long steamIDLobby, int gameServerIP, short gameServerPort,
+												long steamIDGameServer) {
+
+		Lobby lobby = getLobby(steamIDLobby);
+		if (isLocalOwner(lobby)) {
+			lobby.gameServerIP = gameServerIP;
+			lobby.gameServerPort = gameServerPort;
+			lobby.gameServerSteamID = steamIDGameServer;
+
+			simulation.broadcast(SteamMatchmakingCallbackAdapter.class,
+					adapter -> adapter.onLobbyGameCreated(steamIDLobby, steamIDGameServer, gameServerIP, gameServerPort));
+		}
+	}
+
+	@Override
+	public synchronized boolean getLobbyGameServer(long steamIDLobby, int[] gameServerIP, short[] gameServerPort,
+												   long[] steamIDGameServer) {
+
+		Lobby lobby = getLobby(steamIDLobby);
+		if (lobby == null || (lobby.gameServerIP == 0 && lobby.gameServerSteamID == 0L)) {
+			return false;
+		}
+
+		gameServerIP[0] = lobby.gameServerIP;
+		gameServerPort[0] = lobby.gameServerPort;
+		steamIDGameServer[0] = lobby.gameServerSteamID;
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean setLobbyMemberLimit(long steamIDLobby, int maxMembers) {
+		Lobby lobby = getLobby(steamIDLobby);
+		if (!isLocalOwner(lobby)) {
+			return false;
+		}
+		lobby.memberLimit = maxMembers;
+		return true;
+	}
+
+	@Override
+	public synchronized int getLobbyMemberLimit(long steamIDLobby) {
+		Lobby lobby = getLobby(steamIDLobby);
+		return lobby != null ? lobby.memberLimit : 0;
+	}
+
+	@Override
+	public synchronized boolean setLobbyType(long steamIDLobby, int lobbyType) {
+		Lobby lobby = getLobby(steamIDLobby);
+		if (!isLocalOwner(lobby)) {
+			return false;
+		}
+		lobby.type = lobbyType;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean setLobbyJoinable(long steamIDLobby, boolean joinable) {
+		Lobby lobby = getLobby(steamIDLobby);
+		if (!isLocalOwner(lobby)) {
+			return false;
+		}
+		lobby.joinable = joinable;
+		return true;
+	}
+
+	@Override
+	public synchronized long getLobbyOwner(long steamIDLobby) {
+		Lobby lobby = getLobby(steamIDLobby);
+		return isLocalMember(lobby) ? lobby.owner : 0L;
+	}
+
+	@Override
+	public synchronized boolean setLobbyOwner(long steamIDLobby, long steamIDNewOwner) {
+		Lobby lobby = getLobby(steamIDLobby);
+		if (!isLocalOwner(lobby) || !lobby.members.contains(steamIDNewOwner)) {
+			return false;
+		}
+		lobby.owner = steamIDNewOwner;
+		broadcastDataUpdate(lobby, steamIDLobby);
+		return true;
+	}
+
+	@Override
+	public synchronized boolean setLinkedLobby(long steamIDLobby, long steamIDLobbyDependent) {
+		return isLocalOwner(getLobby(steamIDLobby));
+	}
+
+}
@@ -0,0 +1,194 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+final class SteamSimulatedNetworking implements SteamNetworkingBackend, SteamSimulation.Generator {
+
+	private static final int MaxUnreliablePacketSize = 1200;
+	private static final int MaxReliablePacketSize = 1024 * 1024;
+	private static final int MaxQueuedPackets = 4096;
+
+	private static final int SendUnreliableNoDelay = 1;
+
+	private static final class Packet {
+
+		final long steamIDRemote;
+		final byte[] data;
+
+		Packet(long steamIDRemote, byte[] data) {
+			this.steamIDRemote = steamIDRemote;
+			this.data = data;
+		}
+	}
+
+	/**
+	 * The client and the game server each have their own sessions and packet queues.
+	 */
+	private static final class Endpoint {
+
+		final Map<Integer, ArrayDeque<Packet>> channels = new HashMap<>();
+		final Map<Long, Boolean> sessions = new HashMap<>();
+		boolean allowRelay = true;
+
+		ArrayDeque<Packet> getChannel(int channel) {
+			return channels.computeIfAbsent(channel, c -> new ArrayDeque<>());
+		}
+	}
+
+	private final SteamSimulation simulation;
+	private final Endpoint[] endpoints = { new Endpoint(), new Endpoint() };
+
+	private final SteamSimulation.Rate packetRate;
+
+	SteamSimulatedNetworking(SteamSimulation simulation) {
+		this.simulation = simulation;
+		this.packetRate = new SteamSimulation.Rate(simulation.config.p2pPacketRate);
+		simulation.addGenerator(this);
+	}
+
+	private Endpoint getEndpoint(boolean server) {
+		return endpoints[server ? 1 : 0];
+	}
+
+	private void receive(Endpoint endpoint, long steamIDRemote, byte[] data, int channel) {
+
+		if (!endpoint.sessions.containsKey(steamIDRemote)) {
+			endpoint.sessions.put(steamIDRemote, false);
+			simulation.broadcast(SteamNetworkingCallbackAdapter.class,
+					adapter -> adapter.onP2PSessionRequest(steamIDRemote));
+		}
+
+		ArrayDeque<Packet> packets = endpoint.getChannel(channel);
+		if (packets.size() < MaxQueuedPackets) {
+			packets.add(new Packet(steamIDRemote, data));
+		}
+	}
+
+	@Override
+	public synchronized void generate(long elapsedNanos) {
+		int peers = simulation.config.peers;
+		if (peers > 0) {
+			Endpoint endpoint = getEndpoint(false);
+			for (int i = packetRate.advance(elapsedNanos); i > 0; i--) {
+				long peer = simulation.getUserSteamID(1 + simulation.random.nextInt(peers));
+				receive(endpoint, peer, simulation.randomBytes(simulation.config.p2pPacketSize), 0);
+			}
+		}
+	}
+
+	@Override
+	public long createCallback(SteamNetworkingCallbackAdapter javaCallback) {
+		return simulation.registerCallback(javaCallback);
+	}
+
+	@Override
+	public synchronized boolean sendP2PPacket(boolean server, long steamIDRemote, ByteBuffer data,
+											  int offset, int size, int sendType, int channel) {
+
+		int maxSize = sendType <= SendUnreliableNoDelay ? MaxUnreliablePacketSize : MaxReliablePacketSize;
+		if (size > maxSize) {
+			return false;
+		}
+
+		Endpoint endpoint = getEndpoint(server);
+		endpoint.sessions.put(steamIDRemote, true);
+
+		if (simulation.config.echo) {
+			byte[] packet = new byte[size];
+			ByteBuffer source = data.duplicate();
+			source.position(offset);
+			source.get(packet);
+			receive(endpoint, steamIDRemote, packet, channel);
+		}
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean isP2PPacketAvailable(boolean server, int[] msgSize, int channel) {
+		Packet packet = getEndpoint(server).getChannel(channel).peek();
+		if (packet == null) {
+			return false;
+		}
+		msgSize[0] = packet.data.length;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean readP2PPacket(boolean server, ByteBuffer dest, int offset, int size,
+											  int[] msgSizeInBytes, long[] steamIDRemote, int channel) {
+
+		Packet packet = getEndpoint(server).getChannel(channel).poll();
+		if (packet == null) {
+			return false;
+		}
+
+		int length = Math.min(size, packet.data.length);
+		ByteBuffer target = dest.duplicate();
+		target.position(offset);
+		target.put(packet.data, 0, length);
+
+		msgSizeInBytes[0] = length;
+		steamIDRemote[0] = packet.steamIDRemote;
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean acceptP2PSessionWithUser(boolean server, long steamIDRemote) {
+		getEndpoint(server).sessions.put(steamIDRemote, true);
+		return true;
+	}
+
+	@Override
+	public synchronized boolean closeP2PSessionWithUser(boolean server, long steamIDRemote) {
+		Endpoint endpoint = getEndpoint(server);
+		for (ArrayDeque<Packet> packets : endpoint.channels.values()) {
+			packets.removeIf(packet -> packet.steamIDRemote == steamIDRemote);
+		}
+		return endpoint.sessions.remove(steamIDRemote) != null;
+	}
+
+	@Override
+	public synchronized boolean closeP2PChannelWithUser(boolean server, long steamIDRemote, int channel) {
+		Endpoint endpoint = getEndpoint(server);
+		if (!endpoint.sessions.containsKey(steamIDRemote)) {
+			return false;
+		}
+		endpoint.getChannel(channel).removeIf(packet -> packet.steamIDRemote == steamIDRemote);
+		return true;
+	}
+
+	@Override
+	public synchronized boolean getP2PSessionState(boolean server, long steamIDRemote,
+												   SteamNetworking.P2PSessionState connectionState) {
+
+		Endpoint endpoint = getEndpoint(server);
+		Boolean accepted = endpoint.sessions.get(steamIDRemote);
+
+		if (accepted == null) {
+			return false;
+		}
+
+		connectionState.connectionActive = (byte) (accepted ? 1 : 0);
+		connectionState.connecting = (byte) (accepted ? 0 : 1);
+		connectionState.sessionError = 0;
+		connectionState.usingRelay = (byte) (endpoint.allowRelay ? 1 : 0);
+		connectionState.bytesQueuedForSend = 0;
+		connectionState.packetsQueuedForSend = 0;
+		connectionState.remoteIP = 0;
+		connectionState.remotePort = 0;
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean allowP2PPacketRelay(boolean server, boolean allow) {
+		getEndpoint(server).allowRelay = allow;
+		return true;
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+final class SteamSimulatedNetworkingMessages implements SteamNetworkingMessagesBackend {
+
+	private static final int MaxMessageSize = 512 * 1024;
+	private static final int MaxQueuedMessages = 4096;
+
+	private static final class Message {
+
+		final long steamIDRemote;
+		final int channel;
+		final byte[] data;
+
+		Message(long steamIDRemote, int channel, byte[] data) {
+			this.steamIDRemote = steamIDRemote;
+			this.channel = channel;
+			this.data = data;
+		}
+	}
+
+	/**
+	 * Messages of a session are held back until the session has been accepted.
+	 */
+	private static final class Session {
+
+		boolean accepted;
+		final ArrayDeque<Message> pending = new ArrayDeque<>();
+	}
+
+	private final SteamSimulation simulation;
+
+	private final Map<Long, Session> sessions = new HashMap<>();
+	private final Map<Integer, ArrayDeque<Message>> channels = new HashMap<>();
+
+	SteamSimulatedNetworkingMessages(SteamSimulation simulation) {
+		this.simulation = simulation;
+	}
+
+	private ArrayDeque<Message> getChannel(int channel) {
+		return channels.computeIfAbsent(channel, c -> new ArrayDeque<>());
+	}
+
+	private void receive(long steamIDRemote, int channel, byte[] data) {
+		Session session = sessions.get(steamIDRemote);
+
+		if (session == null) {
+			session = new Session();
+			sessions.put(steamIDRemote, session);
+			simulation.broadcast(SteamNetworkingMessagesCallbackAdapter.class,
+					adapter -> adapter.onSessionRequest(steamIDRemote));
+		}
+
+		ArrayDeque<Message> messages = session.accepted ? getChannel(channel) : session.pending;
+		if (messages.size() < MaxQueuedMessages) {
+			messages.add(new Message(steamIDRemote, channel, data));
+		}
+	}
+
+	@Override
+	public long createCallback(SteamNetworkingMessagesCallbackAdapter javaCallback) {
+		return simulation.registerCallback(javaCallback);
+	}
+
+	@Override
+	public synchronized int sendMessageToUser(long steamIDRemote, ByteBuffer data, int offset, int size,
+											  int sendFlags, int channel) {
+
+		if (size > MaxMessageSize) {
+			return SteamResult.InvalidParam.getCode();
+		}
+
+		// sending to a user accepts the session with this user
+		sessions.computeIfAbsent(steamIDRemote, id -> new Session()).accepted = true;
+
+		if (simulation.config.echo) {
+			byte[] message = new byte[size];
+			ByteBuffer source = data.duplicate();
+			source.position(offset);
+			source.get(message);
+			receive(steamIDRemote, channel, message);
+		}
+
+		return SteamResult.OK.getCode();
+	}
+
+	@Override
+	public synchronized int receiveMessagesOnChannel(int channel, ByteBuffer data, int offset, int size,
+													 int[] sizes, long[] steamIDsRemote, int maxMessages) {
+
+		ArrayDeque<Message> messages = channels.get(channel);
+
+		if (messages == null) {
+			return 0;
+		}
+
+		ByteBuffer target = data.duplicate();
+		target.position(offset);
+		target.limit(offset + size);
+
+		int count = 0;
+		while (count < maxMessages) {
+			Message message = messages.peek();
+			if (message == null) {
+				break;
+			}
+
+			if (message.data.length > target.remaining()) {
+				if (count == 0) {
+					return -message.data.length;
+				}
+				break;
+			}
+
+			messages.poll();
+			target.put(message.data);
+
+			sizes[count] = message.data.length;
+			steamIDsRemote[count] = message.steamIDRemote;
+
+			count++;
+		}
+
+		return count;
+	}
+
+	@Override
+	public synchronized boolean acceptSessionWithUser(long steamIDRemote) {
+		Session session = sessions.get(steamIDRemote);
+
+		if (session == null) {
+			return false;
+		}
+
+		if (!session.accepted) {
+			session.accepted = true;
+			for (Message message : session.pending) {
+				getChannel(message.channel).add(message);
+			}
+			session.pending.clear();
+		}
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean closeSessionWithUser(long steamIDRemote) {
+		for (ArrayDeque<Message> messages : channels.values()) {
+			messages.removeIf(message -> message.steamIDRemote == steamIDRemote);
+		}
+		return sessions.remove(steamIDRemote) != null;
+	}
+
+	@Override
+	public synchronized boolean closeChannelWithUser(long steamIDRemote, int channel) {
+		Session session = sessions.get(steamIDRemote);
+
+		if (session == null) {
+			return false;
+		}
+
+		getChannel(channel).removeIf(message -> message.steamIDRemote == steamIDRemote);
+		session.pending.removeIf(message -> message.channel == channel);
+
+		return true;
+	}
+
+	@Override
+	public synchronized int getSessionConnectionState(long steamIDRemote) {
+		Session session = sessions.get(steamIDRemote);
+
+		if (session == null) {
+			return SteamNetworkingSockets.ConnectionState.None.getValue();
+		}
+
+		return session.accepted
+				? SteamNetworkingSockets.ConnectionState.Connected.getValue()
+				: SteamNetworkingSockets.ConnectionState.Connecting.getValue();
+	}
+
+}
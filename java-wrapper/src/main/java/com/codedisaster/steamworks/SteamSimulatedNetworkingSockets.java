@@ -0,0 +1,1152 @@
+package com.codedisaster.steamworks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SteamSimulatedNetworkingSockets implements SteamNetworkingSocketsBackend, SteamSimulation.Generator {
+
+    private static final int MaxMessageSize = 512 * 1024;
+    private static final int MaxQueuedMessages = 4096;
+    private static final int MaxLanes = 255;
+
+    /**
+     * Bandwidth reported if the send rate isn't limited. Messages are delivered instantly, so nothing is
+     * ever pending.
+     */
+    private static final int SendRate = 256 * 1024;
+
+    private static final int StateNone = 0;
+    private static final int StateConnecting = 1;
+    private static final int StateConnected = 3;
+    private static final int StateClosedByPeer = 4;
+
+    private static final class Message {
+
+        final int connection;
+        final byte[] data;
+        final long number;
+        final long timeReceived;
+        final int flags;
+        final int lane;
+
+        Message(int connection, byte[] data, long number, long timeReceived, int flags, int lane) {
+            this.connection = connection;
+            this.data = data;
+            this.number = number;
+            this.timeReceived = timeReceived;
+            this.flags = flags;
+            this.lane = lane;
+        }
+    }
+
+    /**
+     * Outgoing messages of a connection, if the send rate is limited. Lanes of the same priority are served
+     * in order of their virtual time, which advances by the bytes sent divided by the lane weight.
+     */
+    private static final class Lane {
+
+        int priority;
+        int weight = 1;
+
+        final ArrayDeque<Message> messages = new ArrayDeque<>();
+        int pendingUnreliable;
+        int pendingReliable;
+        double virtualTime;
+    }
+
+    private static final class Connection {
+
+        final int handle;
+        final long steamIDRemote;
+        final int listenSocket;
+        int state = StateConnecting;
+        int endReason;
+
+        /**
+         * The other end of a connection between two sockets of the local user, or null
+         * if the remote end is a simulated user.
+         */
+        Connection peer;
+
+        final ArrayDeque<Message> messages = new ArrayDeque<>();
+        long nextMessageNumber = 1;
+
+        Lane[] lanes = { new Lane() };
+        int pendingBytes;
+        double sendBudget;
+        double virtualTime;
+
+        PollGroup pollGroup;
+
+        Connection(int handle, long steamIDRemote, int listenSocket) {
+            this.handle = handle;
+            this.steamIDRemote = steamIDRemote;
+            this.listenSocket = listenSocket;
+        }
+    }
+
+    /**
+     * Connections of a poll group, once per message delivered while they were assigned to it. Entries of
+     * connections which were closed, reassigned, or drained directly are skipped on receive.
+     */
+    private static final class PollGroup {
+
+        final ArrayDeque<Connection> ready = new ArrayDeque<>();
+    }
+
+    private static final int ConfigGlobal = SteamNetworkingUtils.ConfigScope.Global.code;
+    private static final int ConfigSocketsInterface = SteamNetworkingUtils.ConfigScope.SocketsInterface.code;
+    private static final int ConfigListenSocket = SteamNetworkingUtils.ConfigScope.ListenSocket.code;
+    private static final int ConfigConnection = SteamNetworkingUtils.ConfigScope.Connection.code;
+
+    /**
+     * Defaults of the config values the SDK doesn't default to zero.
+     */
+    private static final Map<SteamNetworkingUtils.ConfigValue, Object> configDefaults =
+            new EnumMap<>(SteamNetworkingUtils.ConfigValue.class);
+
+    static {
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.TimeoutInitial, 10000);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.TimeoutConnected, 10000);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.SendBufferSize, 512 * 1024);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.RecvBufferSize, 1024 * 1024);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.RecvBufferMessages, 1000);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.RecvMaxMessageSize, MaxMessageSize);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.RecvMaxSegmentsPerPacket, 256);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.SendRateMin, SendRate);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.SendRateMax, SendRate);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.NagleTime, 5000);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.MTUPacketSize, 1300);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.MTUDataSize, 1248);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.P2PTransportICEEnable, 4);
+        configDefaults.put(SteamNetworkingUtils.ConfigValue.ConnectionUserData, -1L);
+    }
+
+    private final SteamSimulation simulation;
+
+    /**
+     * Config values set per scope, keyed by {@link #configKey(int, long)}.
+     */
+    private final Map<Long, Map<SteamNetworkingUtils.ConfigValue, Object>> config = new HashMap<>();
+
+    private final Map<Integer, Connection> connections = new LinkedHashMap<>();
+    private final Map<Integer, Integer> listenSockets = new HashMap<>();
+    private final Map<Integer, PollGroup> pollGroups = new HashMap<>();
+    private int nextHandle = 1;
+    private long nextLease = 1;
+
+    private final SteamSimulation.Rate connectionRate;
+    private final SteamSimulation.Rate messageRate;
+
+    SteamSimulatedNetworkingSockets(SteamSimulation simulation) {
+        this.simulation = simulation;
+        this.connectionRate = new SteamSimulation.Rate(simulation.config.connectionRate);
+        this.messageRate = new SteamSimulation.Rate(simulation.config.socketMessageRate);
+        simulation.addGenerator(this);
+    }
+
+    private Connection createConnection(long steamIDRemote, int listenSocket) {
+        Connection connection = new Connection(nextHandle++, steamIDRemote, listenSocket);
+        connections.put(connection.handle, connection);
+        return connection;
+    }
+
+    private void setState(Connection connection, int state) {
+        int handle = connection.handle;
+        long steamIDRemote = connection.steamIDRemote;
+        int prevState = connection.state;
+        long userData = getConnectionUserData(connection.handle);
+        int listenSocket = connection.listenSocket;
+        int endReason = connection.endReason;
+
+        connection.state = state;
+
+        simulation.broadcast(SteamNetworkingSocketsCallbackAdapter.class,
+                adapter -> adapter.onConnectionStatusChanged(handle, steamIDRemote, state, prevState,
+                        userData, listenSocket, endReason, 0));
+    }
+
+    private boolean deliver(Connection connection, byte[] message, long number, int flags, int lane) {
+        if (connection.messages.size() >= MaxQueuedMessages) {
+            return false;
+        }
+        long timeReceived = simulation.config.clock.getAsLong() / 1000L;
+        connection.messages.add(new Message(connection.handle, message, number, timeReceived, flags, lane));
+        if (connection.pollGroup != null) {
+            connection.pollGroup.ready.add(connection);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void generate(long elapsedNanos) {
+
+        int incoming = connectionRate.advance(elapsedNanos);
+        if (incoming > 0 && !listenSockets.isEmpty()) {
+            List<Integer> sockets = new ArrayList<>(listenSockets.keySet());
+            for (int i = 0; i < incoming; i++) {
+                int socket = sockets.get(simulation.random.nextInt(sockets.size()));
+                Connection connection = createConnection(simulation.getRandomUserSteamID(), socket);
+                connection.state = StateNone;
+                setState(connection, StateConnecting);
+            }
+        }
+
+        int messages = messageRate.advance(elapsedNanos);
+        if (messages > 0) {
+            List<Connection> remote = new ArrayList<>();
+            for (Connection connection : connections.values()) {
+                if (connection.peer == null && connection.state == StateConnected) {
+                    remote.add(connection);
+                }
+            }
+            if (!remote.isEmpty()) {
+                for (int i = 0; i < messages; i++) {
+                    Connection connection = remote.get(simulation.random.nextInt(remote.size()));
+                    deliver(connection, simulation.randomBytes(simulation.config.socketMessageSize),
+                            connection.nextMessageNumber++, SteamNetworkingSockets.SendFlags.Reliable, 0);
+                }
+            }
+        }
+
+        if (simulation.config.socketSendRate > 0) {
+            transmit(elapsedNanos);
+        }
+    }
+
+    /**
+     * Delivers the messages pending in connection lanes, as far as the send rate allows.
+     */
+    private void transmit(long elapsedNanos) {
+        double bytes = simulation.config.socketSendRate * (elapsedNanos / 1e9);
+
+        for (Connection connection : connections.values()) {
+            if (connection.pendingBytes == 0) {
+                // idle connections don't save up bandwidth
+                connection.sendBudget = 0.0;
+                continue;
+            }
+
+            connection.sendBudget += bytes;
+
+            Lane lane;
+            while (connection.sendBudget > 0.0 && (lane = nextLane(connection)) != null) {
+                Message message = lane.messages.poll();
+                int size = message.data.length;
+
+                if ((message.flags & SteamNetworkingSockets.SendFlags.Reliable) != 0) {
+                    lane.pendingReliable -= size;
+                } else {
+                    lane.pendingUnreliable -= size;
+                }
+                connection.pendingBytes -= size;
+                connection.sendBudget -= size;
+
+                connection.virtualTime = lane.virtualTime;
+                lane.virtualTime += (double) size / lane.weight;
+
+                Connection target = getTarget(connection);
+                if (target != null && connection.state == StateConnected) {
+                    deliver(target, message.data, message.number, message.flags, message.lane);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the non-empty lane of highest priority, and of lowest virtual time among those.
+     */
+    private static Lane nextLane(Connection connection) {
+        Lane next = null;
+        for (Lane lane : connection.lanes) {
+            if (!lane.messages.isEmpty() && (next == null || lane.priority < next.priority
+                    || (lane.priority == next.priority && lane.virtualTime < next.virtualTime))) {
+                next = lane;
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public long createCallback(SteamNetworkingSocketsCallbackAdapter javaCallback) {
+        return simulation.registerCallback(javaCallback);
+    }
+
+    @Override
+    public synchronized int connectP2P(long steamID, int virtualPort, ByteBuffer options, int numOptions,
+                                      Object[] strings) {
+
+        Integer listenSocket = null;
+        if (steamID == simulation.getLocalSteamID()) {
+            for (Map.Entry<Integer, Integer> socket : listenSockets.entrySet()) {
+                if (socket.getValue() == virtualPort) {
+                    listenSocket = socket.getKey();
+                }
+            }
+        }
+
+        Connection connection = createConnection(steamID, 0);
+        setConfigOptions(ConfigConnection, connection.handle, options, numOptions, strings);
+
+        if (listenSocket != null) {
+            // loopback: the listen socket sees an incoming connection, which needs to be accepted
+            Connection peer = createConnection(steamID, listenSocket);
+            peer.state = StateNone;
+            connection.peer = peer;
+            peer.peer = connection;
+            setState(peer, StateConnecting);
+        } else {
+            // simulated users accept all connections
+            int handle = connection.handle;
+            simulation.schedule(() -> onRemoteAccepted(handle));
+        }
+
+        return connection.handle;
+    }
+
+    private synchronized void onRemoteAccepted(int handle) {
+        Connection connection = connections.get(handle);
+        if (connection != null && connection.state == StateConnecting) {
+            setState(connection, StateConnected);
+        }
+    }
+
+    @Override
+    public synchronized int createListenSocketP2P(int virtualPort, ByteBuffer options, int numOptions,
+                                                  Object[] strings) {
+        int handle = nextHandle++;
+        listenSockets.put(handle, virtualPort);
+        setConfigOptions(ConfigListenSocket, handle, options, numOptions, strings);
+        return handle;
+    }
+
+    @Override
+    public synchronized boolean createSocketPair(boolean useNetworkLoopback, int[] connections) {
+
+        long steamID = simulation.getLocalSteamID();
+
+        Connection connection = createConnection(steamID, 0);
+        Connection peer = createConnection(steamID, 0);
+
+        connection.peer = peer;
+        peer.peer = connection;
+        connection.state = StateConnected;
+        peer.state = StateConnected;
+
+        connections[0] = connection.handle;
+        connections[1] = peer.handle;
+
+        return true;
+    }
+
+    @Override
+    public synchronized int acceptConnection(int netConnectionHandle) {
+
+        Connection connection = connections.get(netConnectionHandle);
+
+        if (connection == null) {
+            return SteamResult.InvalidParam.getCode();
+        }
+
+        if (connection.listenSocket == 0 || connection.state != StateConnecting) {
+            return SteamResult.InvalidState.getCode();
+        }
+
+        setState(connection, StateConnected);
+
+        if (connection.peer != null) {
+            setState(connection.peer, StateConnected);
+        }
+
+        return SteamResult.OK.getCode();
+    }
+
+    @Override
+    public synchronized boolean closeConnection(int netConnectionHandle, int reason, boolean linger) {
+
+        Connection connection = connections.remove(netConnectionHandle);
+
+        if (connection == null) {
+            return false;
+        }
+
+        config.remove(configKey(ConfigConnection, netConnectionHandle));
+
+        connection.pollGroup = null;
+
+        Connection peer = connection.peer;
+        if (peer != null && connections.containsKey(peer.handle)) {
+            peer.peer = null;
+            peer.endReason = reason;
+            setState(peer, StateClosedByPeer);
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean closeListenSocket(int socketHandle) {
+
+        if (listenSockets.remove(socketHandle) == null) {
+            return false;
+        }
+
+        config.remove(configKey(ConfigListenSocket, socketHandle));
+
+        List<Integer> accepted = new ArrayList<>();
+        for (Connection connection : connections.values()) {
+            if (connection.listenSocket == socketHandle) {
+                accepted.add(connection.handle);
+            }
+        }
+
+        for (int handle : accepted) {
+            closeConnection(handle, 0, false);
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized int sendMessageToConnection(int netConnectionHandle, ByteBuffer data,
+                                                    int offset, int size, int sendFlags) {
+
+        long result = send(netConnectionHandle, data, offset, size, sendFlags, 0);
+        return result > 0 ? SteamResult.OK.getCode() : (int) -result;
+    }
+
+    @Override
+    public synchronized int sendMessageToConnectionOnLane(int netConnectionHandle, ByteBuffer data,
+                                                          int offset, int size, int sendFlags, int lane) {
+
+        long result = send(netConnectionHandle, data, offset, size, sendFlags, lane);
+        return result > 0 ? SteamResult.OK.getCode() : (int) -result;
+    }
+
+    @Override
+    public synchronized int sendMessages(ByteBuffer data, int offset, int[] offsets, int[] sizes, int[] connections,
+                                         int[] sendFlags, int[] lanes, long[] results, int numMessages) {
+        int sent = 0;
+        for (int i = 0; i < numMessages; i++) {
+            results[i] = send(connections[i], data, offset + offsets[i], sizes[i], sendFlags[i],
+                    lanes.length > 0 ? lanes[i] : 0);
+            if (results[i] > 0) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Returns the message number, or the negative result code if the message couldn't be sent.
+     */
+    private long send(int netConnectionHandle, ByteBuffer data, int offset, int size, int sendFlags, int lane) {
+
+        Connection connection = connections.get(netConnectionHandle);
+
+        if (connection == null || size > MaxMessageSize || lane < 0 || lane >= connection.lanes.length) {
+            return -SteamResult.InvalidParam.getCode();
+        }
+
+        if (connection.state == StateClosedByPeer) {
+            return -SteamResult.NoConnection.getCode();
+        }
+
+        if (connection.state != StateConnected) {
+            return -SteamResult.InvalidState.getCode();
+        }
+
+        int flags = sendFlags & SteamNetworkingSockets.SendFlags.Reliable;
+
+        if (simulation.config.socketSendRate > 0) {
+            int sendBufferSize = (Integer) getConfigValue(SteamNetworkingUtils.ConfigValue.SendBufferSize,
+                    ConfigConnection, connection.handle);
+            if (connection.pendingBytes + size > sendBufferSize) {
+                return -SteamResult.LimitExceeded.getCode();
+            }
+
+            Lane queue = connection.lanes[lane];
+            if (queue.messages.isEmpty()) {
+                // lanes don't get credit for the time they were idle
+                queue.virtualTime = Math.max(queue.virtualTime, connection.virtualTime);
+            }
+
+            queue.messages.add(new Message(connection.handle, copy(data, offset, size),
+                    connection.nextMessageNumber, 0L, flags, lane));
+
+            if (flags != 0) {
+                queue.pendingReliable += size;
+            } else {
+                queue.pendingUnreliable += size;
+            }
+            connection.pendingBytes += size;
+
+            return connection.nextMessageNumber++;
+        }
+
+        Connection target = getTarget(connection);
+
+        if (target != null) {
+            if (target.messages.size() >= MaxQueuedMessages) {
+                return -SteamResult.LimitExceeded.getCode();
+            }
+
+            deliver(target, copy(data, offset, size), connection.nextMessageNumber, flags, lane);
+        }
+
+        return connection.nextMessageNumber++;
+    }
+
+    /**
+     * Returns the connection receiving the messages sent on a connection, or null if they are dropped.
+     */
+    private Connection getTarget(Connection connection) {
+        return connection.peer != null ? connection.peer : simulation.config.echo ? connection : null;
+    }
+
+    private static byte[] copy(ByteBuffer data, int offset, int size) {
+        byte[] message = new byte[size];
+        ByteBuffer source = data.duplicate();
+        source.position(offset);
+        source.get(message);
+        return message;
+    }
+
+    @Override
+    public synchronized int configureConnectionLanes(int netConnectionHandle, int numLanes, int[] priorities,
+                                                     short[] weights) {
+
+        Connection connection = connections.get(netConnectionHandle);
+
+        if (connection == null) {
+            return SteamResult.NoConnection.getCode();
+        }
+
+        if (numLanes < connection.lanes.length || numLanes > MaxLanes) {
+            return SteamResult.InvalidParam.getCode();
+        }
+
+        for (int i = 0; i < weights.length && i < numLanes; i++) {
+            if (weights[i] == 0) {
+                return SteamResult.InvalidParam.getCode();
+            }
+        }
+
+        Lane[] lanes = Arrays.copyOf(connection.lanes, numLanes);
+        for (int i = 0; i < numLanes; i++) {
+            if (lanes[i] == null) {
+                lanes[i] = new Lane();
+                lanes[i].virtualTime = connection.virtualTime;
+            }
+            lanes[i].priority = priorities[i];
+            lanes[i].weight = weights.length > 0 ? weights[i] & 0xffff : 1;
+        }
+        connection.lanes = lanes;
+
+        return SteamResult.OK.getCode();
+    }
+
+    @Override
+    public synchronized int receiveMessageOnConnection(int netConnectionHandle, ByteBuffer data, int offset, int size) {
+
+        Connection connection = connections.get(netConnectionHandle);
+        Message message = connection != null ? connection.messages.poll() : null;
+
+        if (message == null) {
+            return 0;
+        }
+
+        if (message.data.length > size) {
+            return -message.data.length;
+        }
+
+        ByteBuffer target = data.duplicate();
+        target.position(offset);
+        target.put(message.data);
+
+        return message.data.length;
+    }
+
+    @Override
+    public synchronized int receiveMessagesOnConnection(int netConnectionHandle, ByteBuffer data, int offset, int size,
+                                                        int[] sizes, long[] messageNumbers, long[] receiveTimes,
+                                                        int[] lanes, int maxMessages) {
+
+        Connection connection = connections.get(netConnectionHandle);
+
+        if (connection == null) {
+            return 0;
+        }
+
+        ByteBuffer target = data.duplicate();
+        target.position(offset);
+        target.limit(offset + size);
+
+        int count = 0;
+        while (count < maxMessages) {
+            Message message = connection.messages.peek();
+            if (message == null) {
+                break;
+            }
+
+            if (message.data.length > target.remaining()) {
+                if (count == 0) {
+                    return -message.data.length;
+                }
+                break;
+            }
+
+            connection.messages.poll();
+            target.put(message.data);
+
+            sizes[count] = message.data.length;
+            if (messageNumbers.length > 0) {
+                messageNumbers[count] = message.number;
+            }
+            if (receiveTimes.length > 0) {
+                receiveTimes[count] = message.timeReceived;
+            }
+            if (lanes.length > 0) {
+                lanes[count] = message.lane;
+            }
+
+            count++;
+        }
+
+        return count;
+    }
+
+    @Override
+    public synchronized int receiveMessageLeasesOnConnection(int netConnectionHandle, ByteBuffer info,
+                                                             Object[] buffers, int maxMessages) {
+
+        Connection connection = connections.get(netConnectionHandle);
+
+        if (connection == null) {
+            return 0;
+        }
+
+        int count = 0;
+        Message message;
+        while (count < maxMessages && (message = connection.messages.poll()) != null) {
+            lease(message, info, buffers, count++);
+        }
+
+        return count;
+    }
+
+    @Override
+    public synchronized int receiveMessageLeasesOnPollGroup(int pollGroup, ByteBuffer info,
+                                                            Object[] buffers, int maxMessages) {
+
+        PollGroup group = pollGroups.get(pollGroup);
+
+        if (group == null) {
+            return 0;
+        }
+
+        int count = 0;
+        Message message;
+        while (count < maxMessages && (message = poll(group)) != null) {
+            lease(message, info, buffers, count++);
+        }
+
+        return count;
+    }
+
+    /**
+     * Copies the message to a new direct buffer, which stands in for the native payload.
+     */
+    private void lease(Message message, ByteBuffer info, Object[] buffers, int index) {
+        ByteBuffer data = ByteBuffer.allocateDirect(message.data.length);
+        data.put(message.data);
+        data.clear();
+        buffers[index] = data;
+
+        int offset = index * SteamNetworkingMessage.InfoSize;
+        info.putLong(offset, nextLease++);
+        info.putLong(offset + 8, message.number);
+        info.putLong(offset + 16, message.timeReceived);
+        info.putInt(offset + 24, message.connection);
+        info.putInt(offset + 28, message.data.length);
+        info.putInt(offset + 32, message.flags);
+        info.putInt(offset + 36, message.lane);
+        info.putLong(offset + 40, getConnectionUserData(message.connection));
+    }
+
+    @Override
+    public void releaseMessage(long message) {
+        // leased messages are copies
+    }
+
+    @Override
+    public synchronized int getConnectionRealTimeStatus(int netConnectionHandle, ByteBuffer status, int numLanes) {
+
+        Connection connection = connections.get(netConnectionHandle);
+
+        if (connection == null) {
+            return SteamResult.NoConnection.getCode();
+        }
+
+        if (numLanes > connection.lanes.length) {
+            return SteamResult.InvalidParam.getCode();
+        }
+
+        for (int i = 0; i < status.capacity(); i += 4) {
+            status.putInt(i, 0);
+        }
+
+        int pendingUnreliable = 0;
+        int pendingReliable = 0;
+        for (Lane lane : connection.lanes) {
+            pendingUnreliable += lane.pendingUnreliable;
+            pendingReliable += lane.pendingReliable;
+        }
+
+        status.putInt(0, connection.state);
+        status.putInt(4, getPing(connection));
+        status.putFloat(8, 1.0f);
+        status.putFloat(12, 1.0f);
+        status.putInt(32, getSendRate());
+        status.putInt(36, pendingUnreliable);
+        status.putInt(40, pendingReliable);
+        status.putLong(48, getQueueTime(connection.pendingBytes));
+
+        for (int i = 0; i < numLanes; i++) {
+            Lane lane = connection.lanes[i];
+            int offset = SteamNetworkingSockets.ConnectionRealTimeStatus.Size
+                    + i * SteamNetworkingSockets.ConnectionRealTimeStatus.LaneSize;
+            status.putInt(offset, lane.pendingUnreliable);
+            status.putInt(offset + 4, lane.pendingReliable);
+            status.putLong(offset + 16, getQueueTime(lane.pendingUnreliable + lane.pendingReliable));
+        }
+
+        return SteamResult.OK.getCode();
+    }
+
+    @Override
+    public synchronized int getConnectionRealTimeStatuses(int[] connections, int count, int[] states, int[] pings,
+                                                          float[] qualityLocal, int[] sendRates,
+                                                          int[] pendingUnreliable, int[] pendingReliable,
+                                                          long[] queueTimes) {
+        int queried = 0;
+
+        for (int i = 0; i < count; i++) {
+            Connection connection = this.connections.get(connections[i]);
+
+            if (connection != null) {
+                queried++;
+            }
+
+            if (states.length > 0) {
+                states[i] = connection != null ? connection.state : StateNone;
+            }
+            if (pings.length > 0) {
+                pings[i] = connection != null ? getPing(connection) : 0;
+            }
+            if (qualityLocal.length > 0) {
+                qualityLocal[i] = connection != null ? 1.0f : 0.0f;
+            }
+            if (sendRates.length > 0) {
+                sendRates[i] = connection != null ? getSendRate() : 0;
+            }
+            if (pendingUnreliable.length > 0) {
+                pendingUnreliable[i] = 0;
+                if (connection != null) {
+                    for (Lane lane : connection.lanes) {
+                        pendingUnreliable[i] += lane.pendingUnreliable;
+                    }
+                }
+            }
+            if (pendingReliable.length > 0) {
+                pendingReliable[i] = 0;
+                if (connection != null) {
+                    for (Lane lane : connection.lanes) {
+                        pendingReliable[i] += lane.pendingReliable;
+                    }
+                }
+            }
+            if (queueTimes.length > 0) {
+                queueTimes[i] = connection != null ? getQueueTime(connection.pendingBytes) : 0L;
+            }
+        }
+
+        return queried;
+    }
+
+    private int getSendRate() {
+        return simulation.config.socketSendRate > 0 ? simulation.config.socketSendRate : SendRate;
+    }
+
+    /**
+     * Returns the time, in microseconds, until pending bytes are sent.
+     */
+    private long getQueueTime(int pendingBytes) {
+        return pendingBytes * 1000000L / getSendRate();
+    }
+
+    /**
+     * Loopback connections have no latency, remote ones report the round trip of the callback latency.
+     */
+    private int getPing(Connection connection) {
+        return connection.peer != null ? 0 : 2 * simulation.config.callbackLatency;
+    }
+
+    @Override
+    public synchronized boolean setConnectionUserData(int netConnectionHandle, long userData) {
+        return setConfigValue(SteamNetworkingUtils.ConfigValue.ConnectionUserData.code, ConfigConnection,
+                netConnectionHandle, SteamNetworkingUtils.ConfigDataType.Int64.code, userData, 0.0f, "");
+    }
+
+    @Override
+    public synchronized long getConnectionUserData(int netConnectionHandle) {
+        if (!connections.containsKey(netConnectionHandle)) {
+            return -1L;
+        }
+        return (Long) getConfigValue(SteamNetworkingUtils.ConfigValue.ConnectionUserData, ConfigConnection,
+                netConnectionHandle);
+    }
+
+    @Override
+    public String getConnectionEndDebug(int netConnectionHandle) {
+        return null;
+    }
+
+    @Override
+    public synchronized int createPollGroup() {
+        int handle = nextHandle++;
+        pollGroups.put(handle, new PollGroup());
+        return handle;
+    }
+
+    @Override
+    public synchronized boolean destroyPollGroup(int pollGroup) {
+
+        PollGroup group = pollGroups.remove(pollGroup);
+
+        if (group == null) {
+            return false;
+        }
+
+        for (Connection connection : connections.values()) {
+            if (connection.pollGroup == group) {
+                connection.pollGroup = null;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean setConnectionPollGroup(int netConnectionHandle, int pollGroup) {
+
+        Connection connection = connections.get(netConnectionHandle);
+
+        if (connection == null) {
+            return false;
+        }
+
+        PollGroup group = pollGroups.get(pollGroup);
+
+        if (group == null && pollGroup != 0) {
+            return false;
+        }
+
+        connection.pollGroup = group;
+
+        if (group != null) {
+            for (int i = 0; i < connection.messages.size(); i++) {
+                group.ready.add(connection);
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized int receiveMessagesOnPollGroup(int pollGroup, ByteBuffer data, int offset, int size,
+                                                       int[] sizes, int[] connections, long[] messageNumbers,
+                                                       long[] receiveTimes, int[] lanes, int maxMessages) {
+
+        PollGroup group = pollGroups.get(pollGroup);
+
+        if (group == null) {
+            return 0;
+        }
+
+        ByteBuffer target = data.duplicate();
+        target.position(offset);
+        target.limit(offset + size);
+
+        int count = 0;
+        while (count < maxMessages) {
+            Message message = peek(group);
+            if (message == null) {
+                break;
+            }
+
+            if (message.data.length > target.remaining()) {
+                if (count == 0) {
+                    return -message.data.length;
+                }
+                break;
+            }
+
+            poll(group);
+            target.put(message.data);
+
+            sizes[count] = message.data.length;
+            connections[count] = message.connection;
+            if (messageNumbers.length > 0) {
+                messageNumbers[count] = message.number;
+            }
+            if (receiveTimes.length > 0) {
+                receiveTimes[count] = message.timeReceived;
+            }
+            if (lanes.length > 0) {
+                lanes[count] = message.lane;
+            }
+
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the next message of a poll group, skipping stale entries.
+     */
+    private static Message peek(PollGroup group) {
+        Connection connection;
+        while ((connection = group.ready.peek()) != null) {
+            Message message = connection.messages.peek();
+            if (connection.pollGroup == group && message != null) {
+                return message;
+            }
+            group.ready.poll();
+        }
+        return null;
+    }
+
+    private static Message poll(PollGroup group) {
+        Message message = peek(group);
+        if (message != null) {
+            group.ready.poll().messages.poll();
+        }
+        return message;
+    }
+
+    @Override
+    public synchronized int flushMessages(int connectionHandle) {
+        return connections.containsKey(connectionHandle)
+                ? SteamResult.OK.getCode() : SteamResult.InvalidParam.getCode();
+    }
+
+    @Override
+    public synchronized void enableSymmetricConnect() {
+        // connections between simulated users never cross, but the value can be read back
+        setConfigValue(SteamNetworkingUtils.ConfigValue.SymmetricConnect.code, ConfigGlobal, 0L,
+                SteamNetworkingUtils.ConfigDataType.Int32.code, 1L, 0.0f, "");
+    }
+
+    @Override
+    public synchronized boolean setConfigValue(int value, int scopeType, long scopeObject, int dataType,
+                                               long longValue, float floatValue, String stringValue) {
+
+        SteamNetworkingUtils.ConfigValue configValue = SteamNetworkingUtils.ConfigValue.byValue(value);
+
+        if (configValue == null || !isScopeObject(scopeType, scopeObject)) {
+            return false;
+        }
+
+        Object setting;
+        switch (configValue.getDataType()) {
+            case Int32:
+                setting = (int) longValue;
+                break;
+            case Int64:
+                setting = longValue;
+                break;
+            case Float:
+                setting = floatValue;
+                break;
+            default:
+                setting = stringValue;
+                break;
+        }
+
+        long key = configKey(scopeType, scopeObject);
+
+        if (dataType == 0) {
+            Map<SteamNetworkingUtils.ConfigValue, Object> values = config.get(key);
+            if (values != null) {
+                values.remove(configValue);
+            }
+            return true;
+        }
+
+        // like the SDK, accept 32 bit integers for 64 bit values
+        boolean int32ForInt64 = dataType == SteamNetworkingUtils.ConfigDataType.Int32.code
+                && configValue.getDataType() == SteamNetworkingUtils.ConfigDataType.Int64;
+
+        if (dataType != configValue.getDataType().code && !int32ForInt64) {
+            return false;
+        }
+
+        config.computeIfAbsent(key, k -> new EnumMap<>(SteamNetworkingUtils.ConfigValue.class))
+                .put(configValue, setting);
+        return true;
+    }
+
+    @Override
+    public synchronized int getConfigValue(int value, int scopeType, long scopeObject, ByteBuffer result, int size) {
+
+        SteamNetworkingUtils.ConfigValue configValue = SteamNetworkingUtils.ConfigValue.byValue(value);
+
+        if (configValue == null) {
+            return SteamNetworkingUtils.GetConfigValueBadValue;
+        }
+
+        if (!isScopeObject(scopeType, scopeObject)) {
+            return SteamNetworkingUtils.GetConfigValueBadScopeObject;
+        }
+
+        Map<SteamNetworkingUtils.ConfigValue, Object> values = config.get(configKey(scopeType, scopeObject));
+        boolean inherited = values == null || !values.containsKey(configValue);
+        Object setting = getConfigValue(configValue, scopeType, scopeObject);
+
+        int required;
+        switch (configValue.getDataType()) {
+            case Int32:
+                required = 4;
+                if (size >= required) {
+                    result.putInt(8, (Integer) setting);
+                }
+                break;
+            case Int64:
+                required = 8;
+                if (size >= required) {
+                    result.putLong(8, (Long) setting);
+                }
+                break;
+            case Float:
+                required = 4;
+                if (size >= required) {
+                    result.putFloat(8, (Float) setting);
+                }
+                break;
+            default:
+                byte[] string = ((String) setting).getBytes(StandardCharsets.UTF_8);
+                required = string.length + 1;
+                if (size >= required) {
+                    ByteBuffer target = result.duplicate();
+                    target.position(8);
+                    target.put(string);
+                    target.put((byte) 0);
+                }
+                break;
+        }
+
+        result.putLong(0, required);
+
+        if (size < required) {
+            return SteamNetworkingUtils.GetConfigValueBufferTooSmall;
+        }
+
+        return inherited ? SteamNetworkingUtils.GetConfigValueOKInherited : SteamNetworkingUtils.GetConfigValueOK;
+    }
+
+    /**
+     * Returns the value effective in a scope: set on the connection, on the listen socket which accepted it,
+     * on the interface, globally, or the default.
+     */
+    private Object getConfigValue(SteamNetworkingUtils.ConfigValue configValue, int scopeType, long scopeObject) {
+        Object setting = null;
+
+        if (scopeType == ConfigConnection) {
+            setting = getConfigValueInScope(configValue, ConfigConnection, scopeObject);
+            Connection connection = connections.get((int) scopeObject);
+            if (setting == null && connection != null && connection.listenSocket != 0) {
+                setting = getConfigValueInScope(configValue, ConfigListenSocket, connection.listenSocket);
+            }
+        } else if (scopeType == ConfigListenSocket) {
+            setting = getConfigValueInScope(configValue, ConfigListenSocket, scopeObject);
+        }
+
+        if (setting == null && scopeType != ConfigGlobal) {
+            setting = getConfigValueInScope(configValue, ConfigSocketsInterface, 0L);
+        }
+
+        if (setting == null) {
+            setting = getConfigValueInScope(configValue, ConfigGlobal, 0L);
+        }
+
+        if (setting == null) {
+            setting = configDefaults.get(configValue);
+        }
+
+        if (setting == null) {
+            switch (configValue.getDataType()) {
+                case Int32:
+                    return 0;
+                case Int64:
+                    return 0L;
+                case Float:
+                    return 0.0f;
+                default:
+                    return "";
+            }
+        }
+
+        return setting;
+    }
+
+    private Object getConfigValueInScope(SteamNetworkingUtils.ConfigValue configValue, int scopeType,
+                                         long scopeObject) {
+        Map<SteamNetworkingUtils.ConfigValue, Object> values = config.get(configKey(scopeType, scopeObject));
+        return values != null ? values.get(configValue) : null;
+    }
+
+    private boolean isScopeObject(int scopeType, long scopeObject) {
+        if (scopeType == ConfigConnection) {
+            return connections.containsKey((int) scopeObject);
+        }
+        if (scopeType == ConfigListenSocket) {
+            return listenSockets.containsKey((int) scopeObject);
+        }
+        return scopeType == ConfigGlobal || scopeType == ConfigSocketsInterface;
+    }
+
+    private static long configKey(int scopeType, long scopeObject) {
+        return ((long) scopeType << 32) | (scopeObject & 0xffffffffL);
+    }
+
+    /**
+     * Applies the options passed on creation of a connection or listen socket.
+     */
+    private void setConfigOptions(int scopeType, int scopeObject, ByteBuffer options, int numOptions,
+                                  Object[] strings) {
+        for (int i = 0; i < numOptions; i++) {
+            int offset = i * SteamNetworkingSockets.ConfigOptions.OptionSize;
+            int value = options.getInt(offset);
+            int dataType = options.getInt(offset + 4);
+
+            long longValue = dataType == SteamNetworkingUtils.ConfigDataType.Int32.code
+                    ? options.getInt(offset + 8) : options.getLong(offset + 8);
+            float floatValue = options.getFloat(offset + 8);
+            String stringValue = dataType == SteamNetworkingUtils.ConfigDataType.String.code
+                    ? (String) strings[options.getInt(offset + 8)] : "";
+
+            setConfigValue(value, scopeType, scopeObject, dataType, longValue, floatValue, stringValue);
+        }
+    }
+
+}
@@ -0,0 +1,844 @@
+package com.codedisaster.steamworks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+final class SteamSimulatedUGC implements SteamUGCBackend, SteamSimulation.Generator {
+
+	private static final long PublishedFileIDBase = 1000000L;
+	private static final int ResultsPerPage = 50;
+	private static final int MaxDescriptionLength = 8000;
+
+	private static final int ItemStateSubscribed = 1;
+	private static final int ItemStateInstalled = 4;
+
+	private static final int StatisticNumSubscriptions = 0;
+	private static final int StatisticNumFavorites = 1;
+
+	private static final String[] Tags = { "Map", "Mod", "Skin", "Scenario", "Tool", "Audio", "Interface", "Campaign" };
+
+	private static final class Item {
+
+		final long publishedFileID;
+		final long owner;
+		final int fileType;
+		final int timeCreated;
+		int timeUpdated;
+
+		String title = "";
+		String description = "";
+		String metadata = "";
+		final List<String> tags = new ArrayList<>();
+		final List<String[]> keyValueTags = new ArrayList<>();
+		int visibility;
+		int fileSize;
+
+		int votesUp;
+		int votesDown;
+		int subscriptions;
+		int favorites;
+
+		boolean subscribed;
+		boolean installed;
+		boolean favorited;
+		int userVote;
+
+		Item(long publishedFileID, long owner, int fileType, int timeCreated) {
+			this.publishedFileID = publishedFileID;
+			this.owner = owner;
+			this.fileType = fileType;
+			this.timeCreated = timeCreated;
+			this.timeUpdated = timeCreated;
+		}
+
+		String getTags() {
+			return String.join(",", tags);
+		}
+
+		float getScore() {
+			int votes = votesUp + votesDown;
+			return votes > 0 ? (float) votesUp / votes : 0.0f;
+		}
+	}
+
+	private static final class Query {
+
+		final List<Item> candidates;
+		final Comparator<Item> order;
+		final int page;
+
+		final List<String> requiredTags = new ArrayList<>();
+		final List<String> excludedTags = new ArrayList<>();
+		final List<String[]> requiredKeyValueTags = new ArrayList<>();
+		boolean matchAnyTag;
+		String searchText;
+		boolean returnLongDescription;
+		boolean returnTotalOnly;
+
+		final List<Item> results = new ArrayList<>();
+
+		Query(List<Item> candidates, Comparator<Item> order, int page) {
+			this.candidates = candidates;
+			this.order = order;
+			this.page = page;
+		}
+
+		boolean matches(Item item) {
+
+			if (!requiredTags.isEmpty()) {
+				boolean any = requiredTags.stream().anyMatch(item.tags::contains);
+				boolean all = item.tags.containsAll(requiredTags);
+				if (matchAnyTag ? !any : !all) {
+					return false;
+				}
+			}
+
+			if (excludedTags.stream().anyMatch(item.tags::contains)) {
+				return false;
+			}
+
+			for (String[] keyValue : requiredKeyValueTags) {
+				if (item.keyValueTags.stream().noneMatch(t -> t[0].equals(keyValue[0]) && t[1].equals(keyValue[1]))) {
+					return false;
+				}
+			}
+
+			if (searchText != null && !searchText.isEmpty()) {
+				String text = searchText.toLowerCase(Locale.ROOT);
+				return item.title.toLowerCase(Locale.ROOT).contains(text)
+						|| item.description.toLowerCase(Locale.ROOT).contains(text);
+			}
+
+			return true;
+		}
+	}
+
+	private static final class Update {
+
+		final Item item;
+
+		String title;
+		String description;
+		String metadata;
+		Integer visibility;
+		String[] tags;
+		final List<String> removedKeys = new ArrayList<>();
+		final List<String[]> addedKeyValueTags = new ArrayList<>();
+
+		Update(Item item) {
+			this.item = item;
+		}
+
+		void apply(int time) {
+			if (title != null) {
+				item.title = title;
+			}
+			if (description != null) {
+				item.description = description;
+			}
+			if (metadata != null) {
+				item.metadata = metadata;
+			}
+			if (visibility != null) {
+				item.visibility = visibility;
+			}
+			if (tags != null) {
+				item.tags.clear();
+				item.tags.addAll(Arrays.asList(tags));
+			}
+			item.keyValueTags.removeIf(t -> removedKeys.contains(t[0]));
+			item.keyValueTags.addAll(addedKeyValueTags);
+			item.timeUpdated = time;
+		}
+	}
+
+	private static final Comparator<Item> ByCreationDesc = Comparator.comparingInt((Item item) -> item.timeCreated)
+			.thenComparingLong(item -> item.publishedFileID).reversed();
+
+	private static final Comparator<Item> ByVoteScoreDesc = Comparator.comparingInt((Item item) -> item.votesUp - item.votesDown)
+			.reversed().thenComparing(ByCreationDesc);
+
+	private final SteamSimulation simulation;
+
+	private final Map<Long, Item> items = new LinkedHashMap<>();
+	private final Map<Long, Query> queries = new HashMap<>();
+	private final Map<Long, Update> updates = new HashMap<>();
+
+	private long nextPublishedFileID = PublishedFileIDBase;
+	private long nextQuery = 1;
+	private long nextUpdate = 1;
+
+	private final SteamSimulation.Rate itemRate;
+
+	SteamSimulatedUGC(SteamSimulation simulation) {
+		this.simulation = simulation;
+		this.itemRate = new SteamSimulation.Rate(simulation.config.workshopItemRate);
+
+		for (int i = 0; i < simulation.config.workshopItems; i++) {
+			publishRandomItem();
+		}
+
+		simulation.addGenerator(this);
+	}
+
+	private Item createItem(long owner, int fileType) {
+		Item item = new Item(nextPublishedFileID++, owner, fileType, simulation.getTime());
+		items.put(item.publishedFileID, item);
+		return item;
+	}
+
+	private void publishRandomItem() {
+		Item item = createItem(simulation.getRandomUserSteamID(), 0);
+
+		String tag = Tags[simulation.random.nextInt(Tags.length)];
+		item.title = tag + " #" + item.publishedFileID;
+		item.description = "Simulated workshop item " + item.publishedFileID;
+		item.tags.add(tag);
+		item.fileSize = 1024 + simulation.random.nextInt(64 * 1024 * 1024);
+		item.votesUp = simulation.random.nextInt(1000);
+		item.votesDown = simulation.random.nextInt(100);
+		item.subscriptions = simulation.random.nextInt(10000);
+		item.favorites = simulation.random.nextInt(item.subscriptions + 1);
+	}
+
+	@Override
+	public synchronized void generate(long elapsedNanos) {
+		for (int i = itemRate.advance(elapsedNanos); i > 0; i--) {
+			publishRandomItem();
+		}
+	}
+
+	private Item getResult(long query, int index) {
+		Query q = queries.get(query);
+		return q != null && index >= 0 && index < q.results.size() ? q.results.get(index) : null;
+	}
+
+	private long createQuery(List<Item> candidates, Comparator<Item> order, int page) {
+		long handle = nextQuery++;
+		queries.put(handle, new Query(candidates, order, Math.max(page, 1)));
+		return handle;
+	}
+
+	private boolean withQuery(long query, Consumer<Query> action) {
+		Query q = queries.get(query);
+		if (q == null) {
+			return false;
+		}
+		action.accept(q);
+		return true;
+	}
+
+	private boolean withUpdate(long update, Consumer<Update> action) {
+		Update u = updates.get(update);
+		if (u == null) {
+			return false;
+		}
+		action.accept(u);
+		return true;
+	}
+
+	@Override
+	public long createCallback(SteamUGCCallbackAdapter javaCallback) {
+		return simulation.registerCallback(javaCallback);
+	}
+
+	@Override
+	public synchronized long createQueryUserUGCRequest(int accountID, int listType, int matchingType, int sortOrder,
+													   int creatorAppID, int consumerAppID, int page) {
+
+		List<Item> candidates = new ArrayList<>();
+
+		for (Item item : items.values()) {
+			boolean match;
+			switch (SteamUGC.UserUGCList.values()[listType]) {
+				case Published: match = (int) item.owner == accountID; break;
+				case VotedOn: match = item.userVote != 0; break;
+				case VotedUp: match = item.userVote > 0; break;
+				case VotedDown: match = item.userVote < 0; break;
+				case Favorited: match = item.favorited; break;
+				case Subscribed: match = item.subscribed; break;
+				default: match = false; break;
+			}
+			if (match) {
+				candidates.add(item);
+			}
+		}
+
+		Comparator<Item> order;
+		switch (SteamUGC.UserUGCListSortOrder.values()[sortOrder]) {
+			case CreationOrderAsc: order = ByCreationDesc.reversed(); break;
+			case TitleAsc: order = Comparator.comparing((Item item) -> item.title); break;
+			case LastUpdatedDesc: order = Comparator.comparingInt((Item item) -> item.timeUpdated).reversed(); break;
+			case VoteScoreDesc: order = ByVoteScoreDesc; break;
+			default: order = ByCreationDesc; break;
+		}
+
+		return createQuery(candidates, order, page);
+	}
+
+	@Override
+	public synchronized long createQueryAllUGCRequest(int queryType, int matchingType, int creatorAppID,
+													  int consumerAppID, int page) {
+
+		Comparator<Item> order;
+		switch (SteamUGC.UGCQueryType.values()[queryType]) {
+			case RankedByPublicationDate: order = ByCreationDesc; break;
+			case RankedByVotesUp: order = Comparator.comparingInt((Item item) -> item.votesUp).reversed(); break;
+			case RankedByTotalUniqueSubscriptions: order = Comparator.comparingInt((Item item) -> item.subscriptions).reversed(); break;
+			default: order = ByVoteScoreDesc; break;
+		}
+
+		return createQuery(new ArrayList<>(items.values()), order, page);
+	}
+
+	@Override
+	public synchronized long createQueryUGCDetailsRequest(long[] publishedFileIDs, int numPublishedFileIDs) {
+		List<Item> candidates = new ArrayList<>();
+		for (int i = 0; i < numPublishedFileIDs; i++) {
+			Item item = items.get(publishedFileIDs[i]);
+			if (item != null) {
+				candidates.add(item);
+			}
+		}
+		return createQuery(candidates, null, 1);
+	}
+
+	@Override
+	public synchronized long sendQueryUGCRequest(long callback, long query) {
+
+		Query q = queries.get(query);
+
+		if (q == null) {
+			return simulation.post(callback, SteamUGCCallbackAdapter.class,
+					adapter -> adapter.onUGCQueryCompleted(query, 0, 0, false, SteamResult.InvalidParam.getCode()));
+		}
+
+		List<Item> matches = new ArrayList<>();
+		for (Item item : q.candidates) {
+			if (q.matches(item)) {
+				matches.add(item);
+			}
+		}
+
+		if (q.order != null) {
+			matches.sort(q.order);
+		}
+
+		q.results.clear();
+		if (!q.returnTotalOnly) {
+			int first = (q.page - 1) * ResultsPerPage;
+			for (int i = first; i < matches.size() && i < first + ResultsPerPage; i++) {
+				q.results.add(matches.get(i));
+			}
+		}
+
+		int numResultsReturned = q.results.size();
+		int totalMatchingResults = matches.size();
+
+		return simulation.post(callback, SteamUGCCallbackAdapter.class,
+				adapter -> adapter.onUGCQueryCompleted(query, numResultsReturned, totalMatchingResults,
+						false, SteamResult.OK.getCode()));
+	}
+
+	@Override
+	public synchronized boolean getQueryUGCResult(long query, int index, SteamUGCDetails details) {
+
+		Item item = getResult(query, index);
+		if (item == null) {
+			return false;
+		}
+
+		boolean longDescription = queries.get(query).returnLongDescription;
+
+		details.publishedFileID = item.publishedFileID;
+		details.result = SteamResult.OK.getCode();
+		details.fileType = item.fileType;
+		details.title = item.title;
+		details.description = longDescription || item.description.length() <= MaxDescriptionLength
+				? item.description : item.description.substring(0, MaxDescriptionLength);
+		details.ownerID = item.owner;
+		details.timeCreated = item.timeCreated;
+		details.timeUpdated = item.timeUpdated;
+		details.tagsTruncated = false;
+		details.tags = item.getTags();
+		details.fileHandle = item.publishedFileID;
+		details.previewFileHandle = item.publishedFileID;
+		details.fileName = item.publishedFileID + ".bin";
+		details.fileSize = item.fileSize;
+		details.previewFileSize = 0;
+		details.url = "";
+		details.votesUp = item.votesUp;
+		details.votesDown = item.votesDown;
+
+		return true;
+	}
+
+	@Override
+	public synchronized String getQueryUGCPreviewURL(long query, int index) {
+		return getResult(query, index) != null ? "" : null;
+	}
+
+	@Override
+	public synchronized String getQueryUGCMetadata(long query, int index) {
+		Item item = getResult(query, index);
+		return item != null ? item.metadata : null;
+	}
+
+	@Override
+	public synchronized long getQueryUGCStatistic(long query, int index, int statType) {
+		Item item = getResult(query, index);
+		if (item == null) {
+			return 0;
+		}
+		switch (statType) {
+			case StatisticNumSubscriptions: return item.subscriptions;
+			case StatisticNumFavorites: return item.favorites;
+			default: return 0;
+		}
+	}
+
+	@Override
+	public int getQueryUGCNumAdditionalPreviews(long query, int index) {
+		return 0;
+	}
+
+	@Override
+	public boolean getQueryUGCAdditionalPreview(long query, int index, int previewIndex,
+												SteamUGC.ItemAdditionalPreview previewData) {
+		return false;
+	}
+
+	@Override
+	public synchronized int getQueryUGCNumKeyValueTags(long query, int index) {
+		Item item = getResult(query, index);
+		return item != null ? item.keyValueTags.size() : 0;
+	}
+
+	@Override
+	public synchronized boolean getQueryUGCKeyValueTag(long query, int index, int keyValueTagIndex, String[] keyAndValue) {
+		Item item = getResult(query, index);
+		if (item == null || keyValueTagIndex < 0 || keyValueTagIndex >= item.keyValueTags.size()) {
+			return false;
+		}
+		String[] keyValue = item.keyValueTags.get(keyValueTagIndex);
+		keyAndValue[0] = keyValue[0];
+		keyAndValue[1] = keyValue[1];
+		return true;
+	}
+
+	@Override
+	public synchronized boolean releaseQueryUserUGCRequest(long query) {
+		return queries.remove(query) != null;
+	}
+
+	@Override
+	public synchronized boolean addRequiredTag(long query, String tagName) {
+		return withQuery(query, q -> q.requiredTags.add(tagName));
+	}
+
+	@Override
+	public synchronized boolean addExcludedTag(long query, String tagName) {
+		return withQuery(query, q -> q.excludedTags.add(tagName));
+	}
+
+	@Override
+	public synchronized boolean setReturnOnlyIDs(long query, boolean returnOnlyIDs) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean setReturnKeyValueTags(long query, boolean returnKeyValueTags) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean setReturnLongDescription(long query, boolean returnLongDescription) {
+		return withQuery(query, q -> q.returnLongDescription = returnLongDescription);
+	}
+
+	@Override
+	public synchronized boolean setReturnMetadata(long query, boolean returnMetadata) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean setReturnChildren(long query, boolean returnChildren) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean setReturnAdditionalPreviews(long query, boolean returnAdditionalPreviews) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean setReturnTotalOnly(long query, boolean returnTotalOnly) {
+		return withQuery(query, q -> q.returnTotalOnly = returnTotalOnly);
+	}
+
+	@Override
+	public synchronized boolean setReturnPlaytimeStats(long query, int days) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean setLanguage(long query, String language) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean setAllowCachedResponse(long query, int maxAgeSeconds) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean setCloudFileNameFilter(long query, String matchCloudFileName) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean setMatchAnyTag(long query, boolean matchAnyTag) {
+		return withQuery(query, q -> q.matchAnyTag = matchAnyTag);
+	}
+
+	@Override
+	public synchronized boolean setSearchText(long query, String searchText) {
+		return withQuery(query, q -> q.searchText = searchText);
+	}
+
+	@Override
+	public synchronized boolean setRankedByTrendDays(long query, int days) {
+		return queries.containsKey(query);
+	}
+
+	@Override
+	public synchronized boolean addRequiredKeyValueTag(long query, String key, String value) {
+		return withQuery(query, q -> q.requiredKeyValueTags.add(new String[] { key, value }));
+	}
+
+	@Override
+	public synchronized long requestUGCDetails(long callback, long publishedFileID, int maxAgeSeconds) {
+
+		Item item = items.get(publishedFileID);
+
+		if (item == null) {
+			return simulation.post(callback, SteamUGCCallbackAdapter.class,
+					adapter -> adapter.onRequestUGCDetails(publishedFileID, SteamResult.FileNotFound.getCode(),
+							0, "", "", false, "", 0L, 0L, "", 0, 0, "", 0, 0, 0L, 0, 0, 0.0f, 0, 0L));
+		}
+
+		int fileType = item.fileType;
+		String title = item.title;
+		String description = item.description;
+		String tags = item.getTags();
+		int fileSize = item.fileSize;
+		int votesUp = item.votesUp;
+		int votesDown = item.votesDown;
+		long owner = item.owner;
+		int timeCreated = item.timeCreated;
+		int timeUpdated = item.timeUpdated;
+		float score = item.getScore();
+
+		return simulation.post(callback, SteamUGCCallbackAdapter.class,
+				adapter -> adapter.onRequestUGCDetails(publishedFileID, SteamResult.OK.getCode(), fileType,
+						title, description, false, tags, publishedFileID, publishedFileID,
+						publishedFileID + ".bin", fileSize, 0, "", votesUp, votesDown, owner,
+						timeCreated, timeUpdated, score, 0, fileSize));
+	}
+
+	@Override
+	public synchronized long createItem(long callback, int consumerAppID, int fileType) {
+		long publishedFileID = createItem(simulation.getLocalSteamID(), fileType).publishedFileID;
+		return simulation.post(callback, SteamUGCCallbackAdapter.class,
+				adapter -> adapter.onCreateItem(publishedFileID, false, SteamResult.OK.getCode()));
+	}
+
+	@Override
+	public synchronized long startItemUpdate(int consumerAppID, long publishedFileID) {
+		Item item = items.get(publishedFileID);
+		if (item == null || item.owner != simulation.getLocalSteamID()) {
+			return -1L;
+		}
+		long handle = nextUpdate++;
+		updates.put(handle, new Update(item));
+		return handle;
+	}
+
+	@Override
+	public synchronized boolean setItemTitle(long update, String title) {
+		return withUpdate(update, u -> u.title = title);
+	}
+
+	@Override
+	public synchronized boolean setItemDescription(long update, String description) {
+		return withUpdate(update, u -> u.description = description);
+	}
+
+	@Override
+	public synchronized boolean setItemUpdateLanguage(long update, String language) {
+		return updates.containsKey(update);
+	}
+
+	@Override
+	public synchronized boolean setItemMetadata(long update, String metaData) {
+		return withUpdate(update, u -> u.metadata = metaData);
+	}
+
+	@Override
+	public synchronized boolean setItemVisibility(long update, int visibility) {
+		return withUpdate(update, u -> u.visibility = visibility);
+	}
+
+	@Override
+	public synchronized boolean setItemTags(long update, String[] tags, int numTags) {
+		return withUpdate(update, u -> u.tags = Arrays.copyOf(tags, numTags));
+	}
+
+	@Override
+	public synchronized boolean setItemContent(long update, String contentFolder) {
+		return updates.containsKey(update);
+	}
+
+	@Override
+	public synchronized boolean setItemPreview(long update, String previewFile) {
+		return updates.containsKey(update);
+	}
+
+	@Override
+	public synchronized boolean removeItemKeyValueTags(long update, String key) {
+		return withUpdate(update, u -> u.removedKeys.add(key));
+	}
+
+	@Override
+	public synchronized boolean addItemKeyValueTag(long update, String key, String value) {
+		return withUpdate(update, u -> u.addedKeyValueTags.add(new String[] { key, value }));
+	}
+
+	@Override
+	public synchronized long submitItemUpdate(long callback, long update, String changeNote) {
+
+		Update u = updates.remove(update);
+
+		if (u == null) {
+			return simulation.post(callback, SteamUGCCallbackAdapter.class,
+					adapter -> adapter.onSubmitItemUpdate(0L, false, SteamResult.InvalidParam.getCode()));
+		}
+
+		u.apply(simulation.getTime());
+
+		long publishedFileID = u.item.publishedFileID;
+		return simulation.post(callback, SteamUGCCallbackAdapter.class,
+				adapter -> adapter.onSubmitItemUpdate(publishedFileID, false, SteamResult.OK.getCode()));
+	}
+
+	@Override
+	public int getItemUpdateProgress(long update, long[] bytesProcessedAndTotal) {
+		// updates are committed immediately, so there's never one in progress
+		bytesProcessedAndTotal[0] = 0;
+		bytesProcessedAndTotal[1] = 0;
+		return SteamUGC.ItemUpdateStatus.Invalid.ordinal();
+	}
+
+	private long postItemResult(long callback, long publishedFileID,
+								BiConsumer<SteamUGCCallbackAdapter, Integer> action) {
+
+		int result = items.containsKey(publishedFileID) ? SteamResult.OK.getCode() : SteamResult.FileNotFound.getCode();
+		return simulation.post(callback, SteamUGCCallbackAdapter.class, adapter -> action.accept(adapter, result));
+	}
+
+	@Override
+	public synchronized long setUserItemVote(long callback, long publishedFileID, boolean voteUp) {
+		Item item = items.get(publishedFileID);
+		if (item != null) {
+			if (item.userVote > 0) {
+				item.votesUp--;
+			} else if (item.userVote < 0) {
+				item.votesDown--;
+			}
+			if (voteUp) {
+				item.votesUp++;
+			} else {
+				item.votesDown++;
+			}
+			item.userVote = voteUp ? 1 : -1;
+		}
+		return postItemResult(callback, publishedFileID,
+				(adapter, result) -> adapter.onSetUserItemVote(publishedFileID, voteUp, result));
+	}
+
+	@Override
+	public synchronized long getUserItemVote(long callback, long publishedFileID) {
+		Item item = items.get(publishedFileID);
+		int vote = item != null ? item.userVote : 0;
+		return postItemResult(callback, publishedFileID,
+				(adapter, result) -> adapter.onGetUserItemVote(publishedFileID, vote > 0, vote < 0, false, result));
+	}
+
+	@Override
+	public synchronized long addItemToFavorites(long callback, int appID, long publishedFileID) {
+		Item item = items.get(publishedFileID);
+		if (item != null && !item.favorited) {
+			item.favorited = true;
+			item.favorites++;
+		}
+		return postItemResult(callback, publishedFileID,
+				(adapter, result) -> adapter.onUserFavoriteItemsListChanged(publishedFileID, true, result));
+	}
+
+	@Override
+	public synchronized long removeItemFromFavorites(long callback, int appID, long publishedFileID) {
+		Item item = items.get(publishedFileID);
+		if (item != null && item.favorited) {
+			item.favorited = false;
+			item.favorites--;
+		}
+		return postItemResult(callback, publishedFileID,
+				(adapter, result) -> adapter.onUserFavoriteItemsListChanged(publishedFileID, false, result));
+	}
+
+	private void install(Item item) {
+		item.installed = true;
+		int appID = simulation.getAppID();
+		long publishedFileID = item.publishedFileID;
+		simulation.broadcast(SteamUGCCallbackAdapter.class,
+				adapter -> adapter.onDownloadItemResult(appID, publishedFileID, SteamResult.OK.getCode()));
+	}
+
+	@Override
+	public synchronized long subscribeItem(long callback, long publishedFileID) {
+		Item item = items.get(publishedFileID);
+		long call = postItemResult(callback, publishedFileID,
+				(adapter, result) -> adapter.onSubscribeItem(publishedFileID, result));
+		if (item != null && !item.subscribed) {
+			item.subscribed = true;
+			item.subscriptions++;
+			install(item);
+		}
+		return call;
+	}
+
+	@Override
+	public synchronized long unsubscribeItem(long callback, long publishedFileID) {
+		Item item = items.get(publishedFileID);
+		if (item != null && item.subscribed) {
+			item.subscribed = false;
+			item.installed = false;
+			item.subscriptions--;
+		}
+		return postItemResult(callback, publishedFileID,
+				(adapter, result) -> adapter.onUnsubscribeItem(publishedFileID, result));
+	}
+
+	@Override
+	public synchronized int getNumSubscribedItems(boolean includeLocallyDisabled) {
+		return (int) items.values().stream().filter(item -> item.subscribed).count();
+	}
+
+	@Override
+	public synchronized int getSubscribedItems(long[] files, int maxEntries, boolean includeLocallyDisabled) {
+		int count = 0;
+		for (Item item : items.values()) {
+			if (count >= maxEntries) {
+				break;
+			}
+			if (item.subscribed) {
+				files[count++] = item.publishedFileID;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public synchronized int getItemState(long publishedFileID) {
+		Item item = items.get(publishedFileID);
+		if (item == null) {
+			return 0;
+		}
+		return (item.subscribed ? ItemStateSubscribed : 0) | (item.installed ? ItemStateInstalled : 0);
+	}
+
+	@Override
+	public synchronized boolean getItemInstallInfo(long publishedFileID, SteamUGC.ItemInstallInfo installInfo) {
+		Item item = items.get(publishedFileID);
+		if (item == null || !item.installed) {
+			return false;
+		}
+		installInfo.folder = simulation.config.workshopFolder + "/" + publishedFileID;
+		installInfo.sizeOnDisk = item.fileSize;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean getItemDownloadInfo(long publishedFileID, long[] bytesDownloadedAndTotal) {
+		Item item = items.get(publishedFileID);
+		if (item == null || !item.subscribed) {
+			return false;
+		}
+		bytesDownloadedAndTotal[0] = item.installed ? item.fileSize : 0;
+		bytesDownloadedAndTotal[1] = item.fileSize;
+		return true;
+	}
+
+	@Override
+	public synchronized long deleteItem(long callback, long publishedFileID) {
+		Item item = items.get(publishedFileID);
+		int result;
+		if (item == null) {
+			result = SteamResult.FileNotFound.getCode();
+		} else if (item.owner != simulation.getLocalSteamID()) {
+			result = SteamResult.AccessDenied.getCode();
+		} else {
+			items.remove(publishedFileID);
+			result = SteamResult.OK.getCode();
+		}
+		return simulation.post(callback, SteamUGCCallbackAdapter.class,
+				adapter -> adapter.onDeleteItem(publishedFileID, result));
+	}
+
+	@Override
+	public synchronized boolean downloadItem(long publishedFileID, boolean highPriority) {
+		Item item = items.get(publishedFileID);
+		if (item == null) {
+			return false;
+		}
+		install(item);
+		return true;
+	}
+
+	@Override
+	public boolean initWorkshopForGameServer(int workshopDepotID, String folder) {
+		return true;
+	}
+
+	@Override
+	public void suspendDownloads(boolean suspend) {
+		// downloads complete immediately
+	}
+
+	@Override
+	public long startPlaytimeTracking(long callback, long[] publishedFileIDs, int numPublishedFileIDs) {
+		return simulation.post(callback, SteamUGCCallbackAdapter.class,
+				adapter -> adapter.onStartPlaytimeTracking(SteamResult.OK.getCode()));
+	}
+
+	@Override
+	public long stopPlaytimeTracking(long callback, long[] publishedFileIDs, int numPublishedFileIDs) {
+		return simulation.post(callback, SteamUGCCallbackAdapter.class,
+				adapter -> adapter.onStopPlaytimeTracking(SteamResult.OK.getCode()));
+	}
+
+	@Override
+	public long stopPlaytimeTrackingForAllItems(long callback) {
+		return simulation.post(callback, SteamUGCCallbackAdapter.class,
+				adapter -> adapter.onStopPlaytimeTrackingForAllItems(SteamResult.OK.getCode()));
+	}
+
+}
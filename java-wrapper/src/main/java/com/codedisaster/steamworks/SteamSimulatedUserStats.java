@@ -0,0 +1,527 @@
+package com.codedisaster.steamworks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class SteamSimulatedUserStats implements SteamUserStatsBackend, SteamSimulation.Generator {
+
+	private static final int SortAscending = 1;
+	private static final int SortDescending = 2;
+	private static final int DisplayNumeric = 1;
+
+	private static final int RequestGlobal = 0;
+	private static final int RequestGlobalAroundUser = 1;
+
+	private static final int UploadForceUpdate = 2;
+
+	private static final int MaxDownloadedEntries = 64;
+
+	private static final class Entry {
+
+		final long steamIDUser;
+		int score;
+		int[] details;
+		int globalRank;
+
+		Entry(long steamIDUser, int score, int[] details) {
+			this.steamIDUser = steamIDUser;
+			this.score = score;
+			this.details = details;
+		}
+
+		Entry copy() {
+			Entry entry = new Entry(steamIDUser, score, details);
+			entry.globalRank = globalRank;
+			return entry;
+		}
+	}
+
+	private static final class Leaderboard {
+
+		final long handle;
+		final String name;
+		final int sortMethod;
+		final int displayType;
+
+		final List<Entry> entries = new ArrayList<>();
+		final Map<Long, Entry> entriesByUser = new HashMap<>();
+
+		Leaderboard(long handle, String name, int sortMethod, int displayType) {
+			this.handle = handle;
+			this.name = name;
+			this.sortMethod = sortMethod;
+			this.displayType = displayType;
+		}
+
+		boolean isBetter(int score, int than) {
+			return sortMethod == SortAscending ? score < than : score > than;
+		}
+
+		/**
+		 * Inserts or moves the entry of a user, and returns the previous rank, or 0.
+		 */
+		int setScore(long steamIDUser, int score, int[] details) {
+
+			Entry entry = entriesByUser.get(steamIDUser);
+			int previousRank = 0;
+
+			if (entry != null) {
+				previousRank = entry.globalRank;
+				entries.remove(previousRank - 1);
+				entry.score = score;
+				entry.details = details;
+			} else {
+				entry = new Entry(steamIDUser, score, details);
+				entriesByUser.put(steamIDUser, entry);
+			}
+
+			Comparator<Entry> order = sortMethod == SortAscending
+					? Comparator.comparingInt(e -> e.score)
+					: Comparator.comparingInt((Entry e) -> e.score).reversed();
+
+			int index = 0;
+			while (index < entries.size() && order.compare(entries.get(index), entry) <= 0) {
+				index++;
+			}
+			entries.add(index, entry);
+
+			int from = previousRank > 0 ? Math.min(index, previousRank - 1) : index;
+			for (int i = from; i < entries.size(); i++) {
+				entries.get(i).globalRank = i + 1;
+			}
+
+			return previousRank;
+		}
+	}
+
+	private final SteamSimulation simulation;
+
+	private final Map<String, Integer> intStats = new LinkedHashMap<>();
+	private final Map<String, Float> floatStats = new LinkedHashMap<>();
+	private final Map<String, Boolean> achievements = new LinkedHashMap<>();
+	private final Set<String> unstoredAchievements = new LinkedHashSet<>();
+	private int globalStatHistoryDays;
+
+	private final Map<Long, Leaderboard> leaderboards = new LinkedHashMap<>();
+	private final Map<String, Leaderboard> leaderboardsByName = new HashMap<>();
+	private long nextLeaderboard = 1;
+
+	private final Map<Long, List<Entry>> downloadedEntries = new LinkedHashMap<Long, List<Entry>>() {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, List<SteamSimulatedUserStats.Entry>> eldest) {
+			return size() > MaxDownloadedEntries;
+		}
+	};
+	private long nextDownloadedEntries = 1;
+
+	private final SteamSimulation.Rate scoreRate;
+
+	SteamSimulatedUserStats(SteamSimulation simulation) {
+		this.simulation = simulation;
+		this.scoreRate = new SteamSimulation.Rate(simulation.config.leaderboardScoreRate);
+
+		for (String name : simulation.config.leaderboards) {
+			createLeaderboard(name, SortDescending, DisplayNumeric);
+		}
+
+		simulation.addGenerator(this);
+	}
+
+	private Leaderboard createLeaderboard(String name, int sortMethod, int displayType) {
+		Leaderboard leaderboard = new Leaderboard(nextLeaderboard++, name, sortMethod, displayType);
+		leaderboards.put(leaderboard.handle, leaderboard);
+		leaderboardsByName.put(name, leaderboard);
+
+		for (int i = 0; i < simulation.config.leaderboardEntries; i++) {
+			leaderboard.setScore(simulation.getRandomUserSteamID(), simulation.random.nextInt(100000), null);
+		}
+
+		return leaderboard;
+	}
+
+	@Override
+	public synchronized void generate(long elapsedNanos) {
+		int scores = scoreRate.advance(elapsedNanos);
+		if (scores > 0 && !leaderboards.isEmpty()) {
+			List<Leaderboard> all = new ArrayList<>(leaderboards.values());
+			for (int i = 0; i < scores; i++) {
+				Leaderboard leaderboard = all.get(simulation.random.nextInt(all.size()));
+				leaderboard.setScore(simulation.getRandomUserSteamID(), simulation.random.nextInt(100000), null);
+			}
+		}
+	}
+
+	@Override
+	public long createCallback(SteamUserStatsCallbackAdapter javaCallback) {
+		return simulation.registerCallback(javaCallback);
+	}
+
+	@Override
+	public boolean requestCurrentStats() {
+		long gameID = simulation.getAppID();
+		long steamIDUser = simulation.getLocalSteamID();
+		simulation.broadcast(SteamUserStatsCallbackAdapter.class,
+				adapter -> adapter.onUserStatsReceived(gameID, steamIDUser, SteamResult.OK.getCode()));
+		return true;
+	}
+
+	@Override
+	public synchronized boolean getStat(String name, int[] value) {
+		Integer stat = intStats.get(name);
+		if (stat == null) {
+			return false;
+		}
+		value[0] = stat;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean setStat(String name, int value) {
+		if (floatStats.containsKey(name)) {
+			return false;
+		}
+		intStats.put(name, value);
+		return true;
+	}
+
+	@Override
+	public synchronized boolean getStat(String name, float[] value) {
+		Float stat = floatStats.get(name);
+		if (stat == null) {
+			return false;
+		}
+		value[0] = stat;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean setStat(String name, float value) {
+		if (intStats.containsKey(name)) {
+			return false;
+		}
+		floatStats.put(name, value);
+		return true;
+	}
+
+	@Override
+	public synchronized boolean getAchievement(String name, boolean[] achieved) {
+		Boolean achievement = achievements.get(name);
+		if (achievement == null) {
+			return false;
+		}
+		achieved[0] = achievement;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean setAchievement(String name) {
+		if (achievements.put(name, true) != Boolean.TRUE) {
+			unstoredAchievements.add(name);
+		}
+		return true;
+	}
+
+	@Override
+	public synchronized boolean clearAchievement(String name) {
+		achievements.put(name, false);
+		unstoredAchievements.remove(name);
+		return true;
+	}
+
+	@Override
+	public synchronized boolean storeStats() {
+
+		long gameID = simulation.getAppID();
+
+		simulation.broadcast(SteamUserStatsCallbackAdapter.class,
+				adapter -> adapter.onUserStatsStored(gameID, SteamResult.OK.getCode()));
+
+		for (String name : unstoredAchievements) {
+			simulation.broadcast(SteamUserStatsCallbackAdapter.class,
+					adapter -> adapter.onUserAchievementStored(gameID, false, name, 0, 0));
+		}
+		unstoredAchievements.clear();
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean indicateAchievementProgress(String name, int curProgress, int maxProgress) {
+		if (achievements.getOrDefault(name, false)) {
+			return false;
+		}
+		achievements.putIfAbsent(name, false);
+
+		long gameID = simulation.getAppID();
+		simulation.broadcast(SteamUserStatsCallbackAdapter.class,
+				adapter -> adapter.onUserAchievementStored(gameID, false, name, curProgress, maxProgress));
+		return true;
+	}
+
+	@Override
+	public synchronized int getNumAchievements() {
+		return achievements.size();
+	}
+
+	@Override
+	public synchronized String getAchievementName(int index) {
+		return index >= 0 && index < achievements.size()
+				? new ArrayList<>(achievements.keySet()).get(index) : null;
+	}
+
+	@Override
+	public synchronized boolean resetAllStats(boolean achievementsToo) {
+		intStats.replaceAll((name, value) -> 0);
+		floatStats.replaceAll((name, value) -> 0.0f);
+		if (achievementsToo) {
+			achievements.replaceAll((name, value) -> false);
+			unstoredAchievements.clear();
+		}
+		return true;
+	}
+
+	private long postFindResult(long callback, Leaderboard leaderboard) {
+		long handle = leaderboard != null ? leaderboard.handle : 0L;
+		boolean found = leaderboard != null;
+		return simulation.post(callback, SteamUserStatsCallbackAdapter.class,
+				adapter -> adapter.onLeaderboardFindResult(handle, found));
+	}
+
+	@Override
+	public synchronized long findOrCreateLeaderboard(long callback, String leaderboardName,
+													 int leaderboardSortMethod, int leaderboardDisplayType) {
+
+		Leaderboard leaderboard = leaderboardsByName.get(leaderboardName);
+		if (leaderboard == null) {
+			leaderboard = createLeaderboard(leaderboardName, leaderboardSortMethod, leaderboardDisplayType);
+		}
+		return postFindResult(callback, leaderboard);
+	}
+
+	@Override
+	public synchronized long findLeaderboard(long callback, String leaderboardName) {
+		return postFindResult(callback, leaderboardsByName.get(leaderboardName));
+	}
+
+	@Override
+	public synchronized String getLeaderboardName(long leaderboard) {
+		Leaderboard l = leaderboards.get(leaderboard);
+		return l != null ? l.name : "";
+	}
+
+	@Override
+	public synchronized int getLeaderboardEntryCount(long leaderboard) {
+		Leaderboard l = leaderboards.get(leaderboard);
+		return l != null ? l.entries.size() : 0;
+	}
+
+	@Override
+	public synchronized int getLeaderboardSortMethod(long leaderboard) {
+		Leaderboard l = leaderboards.get(leaderboard);
+		return l != null ? l.sortMethod : 0;
+	}
+
+	@Override
+	public synchronized int getLeaderboardDisplayType(long leaderboard) {
+		Leaderboard l = leaderboards.get(leaderboard);
+		return l != null ? l.displayType : 0;
+	}
+
+	private long postDownloadedEntries(long callback, long leaderboard, List<Entry> entries) {
+		long handle = nextDownloadedEntries++;
+		downloadedEntries.put(handle, entries);
+		int numEntries = entries.size();
+		return simulation.post(callback, SteamUserStatsCallbackAdapter.class,
+				adapter -> adapter.onLeaderboardScoresDownloaded(leaderboard, handle, numEntries));
+	}
+
+	@Override
+	public synchronized long downloadLeaderboardEntries(long callback, long leaderboard,
+														int leaderboardDataRequest, int rangeStart, int rangeEnd) {
+
+		Leaderboard l = leaderboards.get(leaderboard);
+		List<Entry> entries = new ArrayList<>();
+
+		if (l != null) {
+			int first;
+			int last;
+
+			if (leaderboardDataRequest == RequestGlobal) {
+				first = rangeStart - 1;
+				last = rangeEnd - 1;
+			} else if (leaderboardDataRequest == RequestGlobalAroundUser) {
+				Entry own = l.entriesByUser.get(simulation.getLocalSteamID());
+				first = own != null ? own.globalRank - 1 + rangeStart : 0;
+				last = own != null ? own.globalRank - 1 + rangeEnd : -1;
+			} else {
+				// the local user has no friends, so this is just the user's own entry
+				Entry own = l.entriesByUser.get(simulation.getLocalSteamID());
+				first = own != null ? own.globalRank - 1 : 0;
+				last = own != null ? first : -1;
+			}
+
+			for (int i = Math.max(first, 0); i <= last && i < l.entries.size(); i++) {
+				entries.add(l.entries.get(i).copy());
+			}
+		}
+
+		return postDownloadedEntries(callback, leaderboard, entries);
+	}
+
+	@Override
+	public synchronized long downloadLeaderboardEntriesForUsers(long callback, long leaderboard, long[] users, int count) {
+
+		Leaderboard l = leaderboards.get(leaderboard);
+		List<Entry> entries = new ArrayList<>();
+
+		if (l != null) {
+			for (int i = 0; i < count; i++) {
+				Entry entry = l.entriesByUser.get(users[i]);
+				if (entry != null) {
+					entries.add(entry.copy());
+				}
+			}
+			entries.sort(Comparator.comparingInt(e -> e.globalRank));
+		}
+
+		return postDownloadedEntries(callback, leaderboard, entries);
+	}
+
+	@Override
+	public synchronized boolean getDownloadedLeaderboardEntry(long entries, int index, SteamLeaderboardEntry entry,
+															  int[] details, int detailsMax) {
+
+		if (!getDownloadedLeaderboardEntry(entries, index, entry)) {
+			return false;
+		}
+
+		int[] source = downloadedEntries.get(entries).get(index).details;
+		if (source != null) {
+			System.arraycopy(source, 0, details, 0, Math.min(source.length, detailsMax));
+		}
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean getDownloadedLeaderboardEntry(long entries, int index, SteamLeaderboardEntry entry) {
+
+		List<Entry> downloaded = downloadedEntries.get(entries);
+		if (downloaded == null || index < 0 || index >= downloaded.size()) {
+			return false;
+		}
+
+		Entry source = downloaded.get(index);
+		entry.steamIDUser = source.steamIDUser;
+		entry.globalRank = source.globalRank;
+		entry.score = source.score;
+		entry.details = source.details != null ? source.details.length : 0;
+
+		return true;
+	}
+
+	@Override
+	public synchronized long uploadLeaderboardScore(long callback, long leaderboard, int method, int score,
+													int[] scoreDetails, int scoreDetailsCount) {
+
+		Leaderboard l = leaderboards.get(leaderboard);
+
+		if (l == null) {
+			return simulation.post(callback, SteamUserStatsCallbackAdapter.class,
+					adapter -> adapter.onLeaderboardScoreUploaded(false, leaderboard, score, false, 0, 0));
+		}
+
+		long user = simulation.getLocalSteamID();
+		Entry own = l.entriesByUser.get(user);
+
+		boolean changed = own == null || (method == UploadForceUpdate ? own.score != score : l.isBetter(score, own.score));
+		int previousRank = own != null ? own.globalRank : 0;
+
+		if (changed) {
+			int[] details = scoreDetails != null ? Arrays.copyOf(scoreDetails, scoreDetailsCount) : null;
+			previousRank = l.setScore(user, score, details);
+		}
+
+		int rankNew = l.entriesByUser.get(user).globalRank;
+		int rankPrevious = previousRank;
+
+		return simulation.post(callback, SteamUserStatsCallbackAdapter.class,
+				adapter -> adapter.onLeaderboardScoreUploaded(true, leaderboard, score, changed, rankNew, rankPrevious));
+	}
+
+	@Override
+	public long uploadLeaderboardScore(long callback, long leaderboard, int method, int score) {
+		return uploadLeaderboardScore(callback, leaderboard, method, score, null, 0);
+	}
+
+	@Override
+	public long getNumberOfCurrentPlayers(long callback) {
+		int players = simulation.config.currentPlayers;
+		int current = players + (players > 20 ? simulation.random.nextInt(players / 10) - players / 20 : 0);
+		return simulation.post(callback, SteamUserStatsCallbackAdapter.class,
+				adapter -> adapter.onNumberOfCurrentPlayersReceived(true, current));
+	}
+
+	@Override
+	public synchronized long requestGlobalStats(long callback, int historyDays) {
+		globalStatHistoryDays = Math.max(Math.min(historyDays, 60), 0);
+		long gameID = simulation.getAppID();
+		return simulation.post(callback, SteamUserStatsCallbackAdapter.class,
+				adapter -> adapter.onGlobalStatsReceived(gameID, SteamResult.OK.getCode()));
+	}
+
+	/*
+		Global stats are simulated as the local user's stats, and their history as
+		the same value for each day.
+	 */
+
+	@Override
+	public synchronized boolean getGlobalStat(String name, long[] value) {
+		Integer stat = intStats.get(name);
+		if (stat == null) {
+			return false;
+		}
+		value[0] = stat;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean getGlobalStat(String name, double[] value) {
+		Float stat = floatStats.get(name);
+		if (stat == null) {
+			return false;
+		}
+		value[0] = stat;
+		return true;
+	}
+
+	@Override
+	public synchronized int getGlobalStatHistory(String name, long[] values, int count) {
+		Integer stat = intStats.get(name);
+		if (stat == null) {
+			return 0;
+		}
+		int days = Math.min(count, globalStatHistoryDays);
+		Arrays.fill(values, 0, days, stat);
+		return days;
+	}
+
+	@Override
+	public synchronized int getGlobalStatHistory(String name, double[] values, int count) {
+		Float stat = floatStats.get(name);
+		if (stat == null) {
+			return 0;
+		}
+		int days = Math.min(count, globalStatHistoryDays);
+		Arrays.fill(values, 0, days, stat);
+		return days;
+	}
+
+}
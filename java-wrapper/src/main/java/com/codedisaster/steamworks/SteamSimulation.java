@@ -0,0 +1,262 @@
+package com.codedisaster.steamworks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * State shared by the interfaces of {@link SteamSimulatedBackend}: the simulation clock, registered callback
+ * adapters, and the queue of pending callbacks and call results.
+ * <p>
+ * Callbacks are only dispatched from {@link SteamAPI#runCallbacks()}, the same as with the native backend.
+ * They are invoked without holding any lock, so callback handlers can call back into the simulated interfaces.
+ */
+final class SteamSimulation {
+
+	/**
+	 * Generates background activity, like lobby chat or incoming packets, once per frame.
+	 */
+	interface Generator {
+		void generate(long elapsedNanos);
+	}
+
+	/**
+	 * Turns an event rate into a number of events per frame, carrying fractions to the next frame.
+	 */
+	static final class Rate {
+
+		private final double perSecond;
+		private double pending;
+
+		Rate(double perSecond) {
+			this.perSecond = perSecond;
+		}
+
+		int advance(long elapsedNanos) {
+			if (perSecond <= 0.0) {
+				return 0;
+			}
+			pending += perSecond * elapsedNanos / 1e9;
+			int count = (int) pending;
+			pending -= count;
+			return count;
+		}
+	}
+
+	private static final class Event implements Comparable<Event> {
+
+		final long time;
+		final long sequence;
+		final long callback;
+		final long apiCall;
+		final Class<?> type;
+		final Consumer<?> action;
+
+		Event(long time, long sequence, long callback, long apiCall, Class<?> type, Consumer<?> action) {
+			this.time = time;
+			this.sequence = sequence;
+			this.callback = callback;
+			this.apiCall = apiCall;
+			this.type = type;
+			this.action = action;
+		}
+
+		@Override
+		public int compareTo(Event other) {
+			int order = Long.compare(time, other.time);
+			return order != 0 ? order : Long.compare(sequence, other.sequence);
+		}
+	}
+
+	/**
+	 * The simulation never catches up on more than this, e.g. after the process was suspended.
+	 */
+	private static final long MaxFrameNanos = 1000000000L;
+
+	private static final long IndividualSteamIDBase = 76561197960265728L;
+
+	final SteamSimulatedBackend.Config config;
+	final Random random;
+
+	private final Map<Long, SteamCallbackAdapter<?>> callbacks = new LinkedHashMap<>();
+	private final PriorityQueue<Event> events = new PriorityQueue<>();
+	private final List<Generator> generators = new ArrayList<>();
+	private final List<SteamCallbackAdapter<?>> targets = new ArrayList<>();
+
+	private long nextCallback = 1;
+	private long nextAPICall = 1;
+	private long sequence;
+	private final long startTime;
+	private long lastFrameTime;
+	private long dispatched;
+
+	SteamSimulation(SteamSimulatedBackend.Config config) {
+		this.config = config;
+		this.random = new Random(config.seed);
+		this.startTime = config.clock.getAsLong();
+		this.lastFrameTime = startTime;
+	}
+
+	long getLocalSteamID() {
+		return config.localSteamID;
+	}
+
+	int getAppID() {
+		return config.appID;
+	}
+
+	/**
+	 * Returns the SteamID of one of the simulated users. Index 0 is reserved for the local user.
+	 */
+	long getUserSteamID(int index) {
+		return IndividualSteamIDBase + 1000000 + index;
+	}
+
+	long getRandomUserSteamID() {
+		return getUserSteamID(1 + random.nextInt(config.users));
+	}
+
+	int getTime() {
+		return config.epoch + (int) ((config.clock.getAsLong() - startTime) / 1000000000L);
+	}
+
+	byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+
+	void addGenerator(Generator generator) {
+		generators.add(generator);
+	}
+
+	synchronized long registerCallback(SteamCallbackAdapter<?> adapter) {
+		long handle = nextCallback++;
+		callbacks.put(handle, adapter);
+		return handle;
+	}
+
+	synchronized void deleteCallback(long handle) {
+		SteamCallbackAdapter<?> adapter = callbacks.remove(handle);
+		if (adapter != null) {
+			SteamCallbackQueue.unregister(adapter.id);
+		}
+	}
+
+	/**
+	 * Queues a call result for the callback adapter with the given handle, and returns the new SteamAPICall handle.
+	 */
+	synchronized <T extends SteamCallbackAdapter<?>> long post(long callback, Class<T> type, Consumer<T> action) {
+		long apiCall = nextAPICall++;
+		queue(callback, apiCall, type, action);
+		SteamFlightRecorder.apiCallIssued(apiCall);
+		return apiCall;
+	}
+
+	/**
+	 * Queues a callback for all registered callback adapters of the given type.
+	 */
+	synchronized <T extends SteamCallbackAdapter<?>> void broadcast(Class<T> type, Consumer<T> action) {
+		queue(0L, 0L, type, action);
+	}
+
+	/**
+	 * Queues a task, e.g. a state change, which is run from the dispatch loop once the callback latency has passed.
+	 */
+	synchronized void schedule(Runnable task) {
+		queue(0L, 0L, null, ignored -> task.run());
+	}
+
+	synchronized void clear() {
+		events.clear();
+	}
+
+	synchronized long getDispatchedCount() {
+		return dispatched;
+	}
+
+	private void queue(long callback, long apiCall, Class<?> type, Consumer<?> action) {
+		long time = config.clock.getAsLong() + config.callbackLatency * 1000000L;
+		events.add(new Event(time, sequence++, callback, apiCall, type, action));
+	}
+
+	void runFrame(int maxCallbacks) {
+
+		long now = config.clock.getAsLong();
+		long elapsed = Math.min(Math.max(now - lastFrameTime, 0L), MaxFrameNanos);
+		lastFrameTime = now;
+
+		for (Generator generator : generators) {
+			generator.generate(elapsed);
+		}
+
+		for (int count = 0; count < maxCallbacks; ) {
+
+			Event event;
+
+			synchronized (this) {
+				event = events.peek();
+				if (event == null || event.time > now) {
+					break;
+				}
+				events.poll();
+
+				targets.clear();
+				if (event.type != null) {
+					if (event.callback != 0L) {
+						SteamCallbackAdapter<?> adapter = callbacks.get(event.callback);
+						if (event.type.isInstance(adapter)) {
+							targets.add(adapter);
+						}
+					} else {
+						for (SteamCallbackAdapter<?> adapter : callbacks.values()) {
+							if (event.type.isInstance(adapter)) {
+								targets.add(adapter);
+							}
+						}
+					}
+				}
+			}
+
+			if (event.type == null) {
+				dispatch(event, null);
+				continue;
+			}
+
+			SteamCallResults.beginDispatch(event.apiCall, false);
+
+			for (SteamCallbackAdapter<?> adapter : targets) {
+				dispatch(event, adapter);
+			}
+
+			SteamCallResults.endDispatch();
+
+			if (event.apiCall != 0L) {
+				SteamFlightRecorder.apiCallCompleted(event.apiCall, false);
+			}
+
+			synchronized (this) {
+				dispatched++;
+			}
+
+			count++;
+		}
+
+		targets.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void dispatch(Event event, SteamCallbackAdapter<?> adapter) {
+		try {
+			((Consumer<Object>) event.action).accept(adapter);
+		} catch (RuntimeException e) {
+			// same as an exception thrown from a native callback, which is printed and cleared
+			e.printStackTrace();
+		}
+	}
+
+}
@@ -179,8 +179,8 @@ public class SteamUGC extends SteamInterface {
 	@SuppressWarnings("unused")
 	public static class ItemInstallInfo {
 
-		private String folder;
-		private int sizeOnDisk;
+		String folder;
+		int sizeOnDisk;
 
 		public String getFolder() {
 			return folder;
@@ -225,29 +225,216 @@ public class SteamUGC extends SteamInterface {
 		}
 	}
 
+	public static class QueryCompleted {
+
+		private final SteamUGCQuery query;
+		private final int numResultsReturned;
+		private final int totalMatchingResults;
+		private final boolean isCachedData;
+
+		QueryCompleted(SteamUGCQuery query, int numResultsReturned, int totalMatchingResults, boolean isCachedData) {
+			this.query = query;
+			this.numResultsReturned = numResultsReturned;
+			this.totalMatchingResults = totalMatchingResults;
+			this.isCachedData = isCachedData;
+		}
+
+		public SteamUGCQuery getQuery() {
+			return query;
+		}
+
+		public int getNumResultsReturned() {
+			return numResultsReturned;
+		}
+
+		public int getTotalMatchingResults() {
+			return totalMatchingResults;
+		}
+
+		public boolean isCachedData() {
+			return isCachedData;
+		}
+	}
+
+	public static class ItemResult {
+
+		private final SteamPublishedFileID publishedFileID;
+		private final boolean needsToAcceptWLA;
+
+		ItemResult(SteamPublishedFileID publishedFileID, boolean needsToAcceptWLA) {
+			this.publishedFileID = publishedFileID;
+			this.needsToAcceptWLA = needsToAcceptWLA;
+		}
+
+		public SteamPublishedFileID getPublishedFileID() {
+			return publishedFileID;
+		}
+
+		public boolean needsToAcceptWLA() {
+			return needsToAcceptWLA;
+		}
+	}
+
+	public static class ItemVote {
+
+		private final SteamPublishedFileID publishedFileID;
+		private final boolean votedUp;
+		private final boolean votedDown;
+		private final boolean voteSkipped;
+
+		ItemVote(SteamPublishedFileID publishedFileID, boolean votedUp, boolean votedDown, boolean voteSkipped) {
+			this.publishedFileID = publishedFileID;
+			this.votedUp = votedUp;
+			this.votedDown = votedDown;
+			this.voteSkipped = voteSkipped;
+		}
+
+		public SteamPublishedFileID getPublishedFileID() {
+			return publishedFileID;
+		}
+
+		public boolean isVotedUp() {
+			return votedUp;
+		}
+
+		public boolean isVotedDown() {
+			return votedDown;
+		}
+
+		public boolean isVoteSkipped() {
+			return voteSkipped;
+		}
+	}
+
+	private static final SteamMetrics.Timer CreateQueryUserUGCRequest =
+			SteamMetrics.nativeCall("SteamUGC.createQueryUserUGCRequest");
+	private static final SteamMetrics.Timer CreateQueryAllUGCRequest =
+			SteamMetrics.nativeCall("SteamUGC.createQueryAllUGCRequest");
+	private static final SteamMetrics.Timer CreateQueryUGCDetailsRequest =
+			SteamMetrics.nativeCall("SteamUGC.createQueryUGCDetailsRequest");
+	private static final SteamMetrics.Timer SendQueryUGCRequest =
+			SteamMetrics.nativeCall("SteamUGC.sendQueryUGCRequest");
+	private static final SteamMetrics.Timer GetQueryUGCResult = SteamMetrics.nativeCall("SteamUGC.getQueryUGCResult");
+	private static final SteamMetrics.Timer GetQueryUGCPreviewURL =
+			SteamMetrics.nativeCall("SteamUGC.getQueryUGCPreviewURL");
+	private static final SteamMetrics.Timer GetQueryUGCMetadata =
+			SteamMetrics.nativeCall("SteamUGC.getQueryUGCMetadata");
+	private static final SteamMetrics.Timer GetQueryUGCStatistic =
+			SteamMetrics.nativeCall("SteamUGC.getQueryUGCStatistic");
+	private static final SteamMetrics.Timer GetQueryUGCNumAdditionalPreviews =
+			SteamMetrics.nativeCall("SteamUGC.getQueryUGCNumAdditionalPreviews");
+	private static final SteamMetrics.Timer GetQueryUGCAdditionalPreview =
+			SteamMetrics.nativeCall("SteamUGC.getQueryUGCAdditionalPreview");
+	private static final SteamMetrics.Timer GetQueryUGCNumKeyValueTags =
+			SteamMetrics.nativeCall("SteamUGC.getQueryUGCNumKeyValueTags");
+	private static final SteamMetrics.Timer GetQueryUGCKeyValueTag =
+			SteamMetrics.nativeCall("SteamUGC.getQueryUGCKeyValueTag");
+	private static final SteamMetrics.Timer ReleaseQueryUserUGCRequest =
+			SteamMetrics.nativeCall("SteamUGC.releaseQueryUserUGCRequest");
+	private static final SteamMetrics.Timer AddRequiredTag = SteamMetrics.nativeCall("SteamUGC.addRequiredTag");
+	private static final SteamMetrics.Timer AddExcludedTag = SteamMetrics.nativeCall("SteamUGC.addExcludedTag");
+	private static final SteamMetrics.Timer SetReturnOnlyIDs = SteamMetrics.nativeCall("SteamUGC.setReturnOnlyIDs");
+	private static final SteamMetrics.Timer SetReturnKeyValueTags =
+			SteamMetrics.nativeCall("SteamUGC.setReturnKeyValueTags");
+	private static final SteamMetrics.Timer SetReturnLongDescription =
+			SteamMetrics.nativeCall("SteamUGC.setReturnLongDescription");
+	private static final SteamMetrics.Timer SetReturnMetadata = SteamMetrics.nativeCall("SteamUGC.setReturnMetadata");
+	private static final SteamMetrics.Timer SetReturnChildren = SteamMetrics.nativeCall("SteamUGC.setReturnChildren");
+	private static final SteamMetrics.Timer SetReturnAdditionalPreviews =
+			SteamMetrics.nativeCall("SteamUGC.setReturnAdditionalPreviews");
+	private static final SteamMetrics.Timer SetReturnTotalOnly = SteamMetrics.nativeCall("SteamUGC.setReturnTotalOnly");
+	private static final SteamMetrics.Timer SetReturnPlaytimeStats =
+			SteamMetrics.nativeCall("SteamUGC.setReturnPlaytimeStats");
+	private static final SteamMetrics.Timer SetLanguage = SteamMetrics.nativeCall("SteamUGC.setLanguage");
+	private static final SteamMetrics.Timer SetAllowCachedResponse =
+			SteamMetrics.nativeCall("SteamUGC.setAllowCachedResponse");
+	private static final SteamMetrics.Timer SetCloudFileNameFilter =
+			SteamMetrics.nativeCall("SteamUGC.setCloudFileNameFilter");
+	private static final SteamMetrics.Timer SetMatchAnyTag = SteamMetrics.nativeCall("SteamUGC.setMatchAnyTag");
+	private static final SteamMetrics.Timer SetSearchText = SteamMetrics.nativeCall("SteamUGC.setSearchText");
+	private static final SteamMetrics.Timer SetRankedByTrendDays =
+			SteamMetrics.nativeCall("SteamUGC.setRankedByTrendDays");
+	private static final SteamMetrics.Timer AddRequiredKeyValueTag =
+			SteamMetrics.nativeCall("SteamUGC.addRequiredKeyValueTag");
+	private static final SteamMetrics.Timer RequestUGCDetails = SteamMetrics.nativeCall("SteamUGC.requestUGCDetails");
+	private static final SteamMetrics.Timer CreateItem = SteamMetrics.nativeCall("SteamUGC.createItem");
+	private static final SteamMetrics.Timer StartItemUpdate = SteamMetrics.nativeCall("SteamUGC.startItemUpdate");
+	private static final SteamMetrics.Timer SetItemTitle = SteamMetrics.nativeCall("SteamUGC.setItemTitle");
+	private static final SteamMetrics.Timer SetItemDescription = SteamMetrics.nativeCall("SteamUGC.setItemDescription");
+	private static final SteamMetrics.Timer SetItemUpdateLanguage =
+			SteamMetrics.nativeCall("SteamUGC.setItemUpdateLanguage");
+	private static final SteamMetrics.Timer SetItemMetadata = SteamMetrics.nativeCall("SteamUGC.setItemMetadata");
+	private static final SteamMetrics.Timer SetItemVisibility = SteamMetrics.nativeCall("SteamUGC.setItemVisibility");
+	private static final SteamMetrics.Timer SetItemTags = SteamMetrics.nativeCall("SteamUGC.setItemTags");
+	private static final SteamMetrics.Timer SetItemContent = SteamMetrics.nativeCall("SteamUGC.setItemContent");
+	private static final SteamMetrics.Timer SetItemPreview = SteamMetrics.nativeCall("SteamUGC.setItemPreview");
+	private static final SteamMetrics.Timer RemoveItemKeyValueTags =
+			SteamMetrics.nativeCall("SteamUGC.removeItemKeyValueTags");
+	private static final SteamMetrics.Timer AddItemKeyValueTag = SteamMetrics.nativeCall("SteamUGC.addItemKeyValueTag");
+	private static final SteamMetrics.Timer SubmitItemUpdate = SteamMetrics.nativeCall("SteamUGC.submitItemUpdate");
+	private static final SteamMetrics.Timer GetItemUpdateProgress =
+			SteamMetrics.nativeCall("SteamUGC.getItemUpdateProgress");
+	private static final SteamMetrics.Timer SetUserItemVote = SteamMetrics.nativeCall("SteamUGC.setUserItemVote");
+	private static final SteamMetrics.Timer GetUserItemVote = SteamMetrics.nativeCall("SteamUGC.getUserItemVote");
+	private static final SteamMetrics.Timer AddItemToFavorites = SteamMetrics.nativeCall("SteamUGC.addItemToFavorites");
+	private static final SteamMetrics.Timer RemoveItemFromFavorites =
+			SteamMetrics.nativeCall("SteamUGC.removeItemFromFavorites");
+	private static final SteamMetrics.Timer SubscribeItem = SteamMetrics.nativeCall("SteamUGC.subscribeItem");
+	private static final SteamMetrics.Timer UnsubscribeItem = SteamMetrics.nativeCall("SteamUGC.unsubscribeItem");
+	private static final SteamMetrics.Timer GetNumSubscribedItems =
+			SteamMetrics.nativeCall("SteamUGC.getNumSubscribedItems");
+	private static final SteamMetrics.Timer GetSubscribedItems = SteamMetrics.nativeCall("SteamUGC.getSubscribedItems");
+	private static final SteamMetrics.Timer GetItemState = SteamMetrics.nativeCall("SteamUGC.getItemState");
+	private static final SteamMetrics.Timer GetItemInstallInfo = SteamMetrics.nativeCall("SteamUGC.getItemInstallInfo");
+	private static final SteamMetrics.Timer GetItemDownloadInfo =
+			SteamMetrics.nativeCall("SteamUGC.getItemDownloadInfo");
+	private static final SteamMetrics.Timer DeleteItem = SteamMetrics.nativeCall("SteamUGC.deleteItem");
+	private static final SteamMetrics.Timer DownloadItem = SteamMetrics.nativeCall("SteamUGC.downloadItem");
+	private static final SteamMetrics.Timer InitWorkshopForGameServer =
+			SteamMetrics.nativeCall("SteamUGC.initWorkshopForGameServer");
+	private static final SteamMetrics.Timer SuspendDownloads = SteamMetrics.nativeCall("SteamUGC.suspendDownloads");
+	private static final SteamMetrics.Timer StartPlaytimeTracking =
+			SteamMetrics.nativeCall("SteamUGC.startPlaytimeTracking");
+	private static final SteamMetrics.Timer StopPlaytimeTracking =
+			SteamMetrics.nativeCall("SteamUGC.stopPlaytimeTracking");
+	private static final SteamMetrics.Timer StopPlaytimeTrackingForAllItems =
+			SteamMetrics.nativeCall("SteamUGC.stopPlaytimeTrackingForAllItems");
+
+	private final SteamUGCBackend backend =
+			SteamAPI.getBackend().ugc;
+
 	public SteamUGC(SteamUGCCallback callback) {
-		super(SteamUGCNative.createCallback(new SteamUGCCallbackAdapter(callback)));
+		super(SteamAPI.getBackend().ugc.createCallback(new SteamUGCCallbackAdapter(callback)));
 	}
 
 	public SteamUGCQuery createQueryUserUGCRequest(int accountID, UserUGCList listType,
 												   MatchingUGCType matchingType, UserUGCListSortOrder sortOrder,
 												   int creatorAppID, int consumerAppID, int page) {
 
-		return new SteamUGCQuery(SteamUGCNative.createQueryUserUGCRequest(accountID, listType.ordinal(),
-				matchingType.value, sortOrder.ordinal(), creatorAppID, consumerAppID, page));
+		long start = SteamMetrics.begin();
+		long result = backend.createQueryUserUGCRequest(accountID, listType.ordinal(),
+				matchingType.value, sortOrder.ordinal(), creatorAppID, consumerAppID, page);
+		SteamMetrics.end(CreateQueryUserUGCRequest, start);
+		return new SteamUGCQuery(result);
 	}
 
 	public SteamUGCQuery createQueryAllUGCRequest(UGCQueryType queryType, MatchingUGCType matchingType,
 												  int creatorAppID, int consumerAppID, int page) {
 
-		return new SteamUGCQuery(SteamUGCNative.createQueryAllUGCRequest(queryType.ordinal(), matchingType.value,
-				creatorAppID, consumerAppID, page));
+		long start = SteamMetrics.begin();
+		long result = backend.createQueryAllUGCRequest(queryType.ordinal(), matchingType.value,
+				creatorAppID, consumerAppID, page);
+		SteamMetrics.end(CreateQueryAllUGCRequest, start);
+		return new SteamUGCQuery(result);
 	}
 
 	public SteamUGCQuery createQueryUGCDetailsRequest(SteamPublishedFileID publishedFileID) {
 		long[] fileIDs = new long[1];
 		fileIDs[0] = publishedFileID.handle;
-		return new SteamUGCQuery(SteamUGCNative.createQueryUGCDetailsRequest(fileIDs, 1));
+		long start = SteamMetrics.begin();
+		long result = backend.createQueryUGCDetailsRequest(fileIDs, 1);
+		SteamMetrics.end(CreateQueryUGCDetailsRequest, start);
+		return new SteamUGCQuery(result);
 	}
 
 	public SteamUGCQuery createQueryUGCDetailsRequest(Collection<SteamPublishedFileID> publishedFileIDs) {
@@ -259,217 +446,473 @@ public class SteamUGC extends SteamInterface {
 			fileIDs[index++] = fileID.handle;
 		}
 
-		return new SteamUGCQuery(SteamUGCNative.createQueryUGCDetailsRequest(fileIDs, size));
+		long start = SteamMetrics.begin();
+		long result = backend.createQueryUGCDetailsRequest(fileIDs, size);
+		SteamMetrics.end(CreateQueryUGCDetailsRequest, start);
+		return new SteamUGCQuery(result);
 	}
 
 	public SteamAPICall sendQueryUGCRequest(SteamUGCQuery query) {
-		return new SteamAPICall(SteamUGCNative.sendQueryUGCRequest(callback, query.handle));
+		long start = SteamMetrics.begin();
+		long handle = backend.sendQueryUGCRequest(callback, query.handle);
+		SteamMetrics.end(SendQueryUGCRequest, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #sendQueryUGCRequest(SteamUGCQuery)}, but returns a future which completes once the query
+	 * results can be read with {@link #getQueryUGCResult(SteamUGCQuery, int, SteamUGCDetails)}, or with a
+	 * {@link SteamException} if the query failed. The query must still be released by the caller.
+	 */
+	public SteamCallResult<QueryCompleted> sendQueryUGCRequestAsync(SteamUGCQuery query) {
+		long start = SteamMetrics.begin();
+		long handle = backend.sendQueryUGCRequest(callback, query.handle);
+		SteamMetrics.end(SendQueryUGCRequest, start);
+
+		return SteamCallResults.register(handle, SteamCallbackRouter.UGCQueryCompleted,
+				SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public boolean getQueryUGCResult(SteamUGCQuery query, int index, SteamUGCDetails details) {
-		return SteamUGCNative.getQueryUGCResult(query.handle, index, details);
+		long start = SteamMetrics.begin();
+		boolean result = backend.getQueryUGCResult(query.handle, index, details);
+		SteamMetrics.end(GetQueryUGCResult, start);
+		return result;
 	}
 
 	public String getQueryUGCPreviewURL(SteamUGCQuery query, int index) {
-		return SteamUGCNative.getQueryUGCPreviewURL(query.handle, index);
+		long start = SteamMetrics.begin();
+		String result = backend.getQueryUGCPreviewURL(query.handle, index);
+		SteamMetrics.end(GetQueryUGCPreviewURL, start);
+		return result;
 	}
 
 	public String getQueryUGCMetadata(SteamUGCQuery query, int index) {
-		return SteamUGCNative.getQueryUGCMetadata(query.handle, index);
+		long start = SteamMetrics.begin();
+		String result = backend.getQueryUGCMetadata(query.handle, index);
+		SteamMetrics.end(GetQueryUGCMetadata, start);
+		return result;
 	}
 
 	public long getQueryUGCStatistic(SteamUGCQuery query, int index, ItemStatistic statType) {
-		return SteamUGCNative.getQueryUGCStatistic(query.handle, index, statType.ordinal());
+		long start = SteamMetrics.begin();
+		long result = backend.getQueryUGCStatistic(query.handle, index, statType.ordinal());
+		SteamMetrics.end(GetQueryUGCStatistic, start);
+		return result;
 	}
 
 	public int getQueryUGCNumAdditionalPreviews(SteamUGCQuery query, int index) {
-		return SteamUGCNative.getQueryUGCNumAdditionalPreviews(query.handle, index);
+		long start = SteamMetrics.begin();
+		int result = backend.getQueryUGCNumAdditionalPreviews(query.handle, index);
+		SteamMetrics.end(GetQueryUGCNumAdditionalPreviews, start);
+		return result;
 	}
 
 	public boolean getQueryUGCAdditionalPreview(SteamUGCQuery query, int index, int previewIndex,
 												ItemAdditionalPreview previewInfo) {
 
-		return SteamUGCNative.getQueryUGCAdditionalPreview(query.handle, index, previewIndex, previewInfo);
+		long start = SteamMetrics.begin();
+		boolean result = backend.getQueryUGCAdditionalPreview(query.handle, index, previewIndex, previewInfo);
+		SteamMetrics.end(GetQueryUGCAdditionalPreview, start);
+		return result;
 	}
 
 	public int getQueryUGCNumKeyValueTags(SteamUGCQuery query, int index) {
-		return SteamUGCNative.getQueryUGCNumKeyValueTags(query.handle, index);
+		long start = SteamMetrics.begin();
+		int result = backend.getQueryUGCNumKeyValueTags(query.handle, index);
+		SteamMetrics.end(GetQueryUGCNumKeyValueTags, start);
+		return result;
 	}
 
 	public boolean getQueryUGCKeyValueTag(SteamUGCQuery query, int index, int keyValueTagIndex, String[] keyAndValue) {
-		return SteamUGCNative.getQueryUGCKeyValueTag(query.handle, index, keyValueTagIndex, keyAndValue);
+		long start = SteamMetrics.begin();
+		boolean result = backend.getQueryUGCKeyValueTag(query.handle, index, keyValueTagIndex, keyAndValue);
+		SteamMetrics.end(GetQueryUGCKeyValueTag, start);
+		return result;
 	}
 
 	public boolean releaseQueryUserUGCRequest(SteamUGCQuery query) {
-		return SteamUGCNative.releaseQueryUserUGCRequest(query.handle);
+		long start = SteamMetrics.begin();
+		boolean result = backend.releaseQueryUserUGCRequest(query.handle);
+		SteamMetrics.end(ReleaseQueryUserUGCRequest, start);
+		return result;
 	}
 
 	public boolean addRequiredTag(SteamUGCQuery query, String tagName) {
-		return SteamUGCNative.addRequiredTag(query.handle, tagName);
+		long start = SteamMetrics.begin();
+		boolean result = backend.addRequiredTag(query.handle, tagName);
+		SteamMetrics.end(AddRequiredTag, start);
+		return result;
 	}
 
 	public boolean addExcludedTag(SteamUGCQuery query, String tagName) {
-		return SteamUGCNative.addExcludedTag(query.handle, tagName);
+		long start = SteamMetrics.begin();
+		boolean result = backend.addExcludedTag(query.handle, tagName);
+		SteamMetrics.end(AddExcludedTag, start);
+		return result;
 	}
 
 	public boolean setReturnOnlyIDs(SteamUGCQuery query, boolean returnOnlyIDs) {
-		return SteamUGCNative.setReturnOnlyIDs(query.handle, returnOnlyIDs);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setReturnOnlyIDs(query.handle, returnOnlyIDs);
+		SteamMetrics.end(SetReturnOnlyIDs, start);
+		return result;
 	}
 
 	public boolean setReturnKeyValueTags(SteamUGCQuery query, boolean returnKeyValueTags) {
-		return SteamUGCNative.setReturnKeyValueTags(query.handle, returnKeyValueTags);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setReturnKeyValueTags(query.handle, returnKeyValueTags);
+		SteamMetrics.end(SetReturnKeyValueTags, start);
+		return result;
 	}
 
 	public boolean setReturnLongDescription(SteamUGCQuery query, boolean returnLongDescription) {
-		return SteamUGCNative.setReturnLongDescription(query.handle, returnLongDescription);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setReturnLongDescription(query.handle, returnLongDescription);
+		SteamMetrics.end(SetReturnLongDescription, start);
+		return result;
 	}
 
 	public boolean setReturnMetadata(SteamUGCQuery query, boolean returnMetadata) {
-		return SteamUGCNative.setReturnMetadata(query.handle, returnMetadata);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setReturnMetadata(query.handle, returnMetadata);
+		SteamMetrics.end(SetReturnMetadata, start);
+		return result;
 	}
 
 	public boolean setReturnChildren(SteamUGCQuery query, boolean returnChildren) {
-		return SteamUGCNative.setReturnChildren(query.handle, returnChildren);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setReturnChildren(query.handle, returnChildren);
+		SteamMetrics.end(SetReturnChildren, start);
+		return result;
 	}
 
 	public boolean setReturnAdditionalPreviews(SteamUGCQuery query, boolean returnAdditionalPreviews) {
-		return SteamUGCNative.setReturnAdditionalPreviews(query.handle, returnAdditionalPreviews);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setReturnAdditionalPreviews(query.handle, returnAdditionalPreviews);
+		SteamMetrics.end(SetReturnAdditionalPreviews, start);
+		return result;
 	}
 
 	public boolean setReturnTotalOnly(SteamUGCQuery query, boolean returnTotalOnly) {
-		return SteamUGCNative.setReturnTotalOnly(query.handle, returnTotalOnly);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setReturnTotalOnly(query.handle, returnTotalOnly);
+		SteamMetrics.end(SetReturnTotalOnly, start);
+		return result;
 	}
 
 	public boolean setReturnPlaytimeStats(SteamUGCQuery query, int days) {
-		return SteamUGCNative.setReturnPlaytimeStats(query.handle, days);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setReturnPlaytimeStats(query.handle, days);
+		SteamMetrics.end(SetReturnPlaytimeStats, start);
+		return result;
 	}
 
 	public boolean setLanguage(SteamUGCQuery query, String language) {
-		return SteamUGCNative.setLanguage(query.handle, language);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setLanguage(query.handle, language);
+		SteamMetrics.end(SetLanguage, start);
+		return result;
 	}
 
 	public boolean setAllowCachedResponse(SteamUGCQuery query, int maxAgeSeconds) {
-		return SteamUGCNative.setAllowCachedResponse(query.handle, maxAgeSeconds);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setAllowCachedResponse(query.handle, maxAgeSeconds);
+		SteamMetrics.end(SetAllowCachedResponse, start);
+		return result;
 	}
 
 	public boolean setCloudFileNameFilter(SteamUGCQuery query, String matchCloudFileName) {
-		return SteamUGCNative.setCloudFileNameFilter(query.handle, matchCloudFileName);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setCloudFileNameFilter(query.handle, matchCloudFileName);
+		SteamMetrics.end(SetCloudFileNameFilter, start);
+		return result;
 	}
 
 	public boolean setMatchAnyTag(SteamUGCQuery query, boolean matchAnyTag) {
-		return SteamUGCNative.setMatchAnyTag(query.handle, matchAnyTag);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setMatchAnyTag(query.handle, matchAnyTag);
+		SteamMetrics.end(SetMatchAnyTag, start);
+		return result;
 	}
 
 	public boolean setSearchText(SteamUGCQuery query, String searchText) {
-		return SteamUGCNative.setSearchText(query.handle, searchText);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setSearchText(query.handle, searchText);
+		SteamMetrics.end(SetSearchText, start);
+		return result;
 	}
 
 	public boolean setRankedByTrendDays(SteamUGCQuery query, int days) {
-		return SteamUGCNative.setRankedByTrendDays(query.handle, days);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setRankedByTrendDays(query.handle, days);
+		SteamMetrics.end(SetRankedByTrendDays, start);
+		return result;
 	}
 
 	public boolean addRequiredKeyValueTag(SteamUGCQuery query, String key, String value) {
-		return SteamUGCNative.addRequiredKeyValueTag(query.handle, key, value);
+		long start = SteamMetrics.begin();
+		boolean result = backend.addRequiredKeyValueTag(query.handle, key, value);
+		SteamMetrics.end(AddRequiredKeyValueTag, start);
+		return result;
 	}
 
 	@Deprecated // API docs: use createQueryUGCDetailsRequest call instead
 	public SteamAPICall requestUGCDetails(SteamPublishedFileID publishedFileID, int maxAgeSeconds) {
-		return new SteamAPICall(SteamUGCNative.requestUGCDetails(callback, publishedFileID.handle, maxAgeSeconds));
+		long start = SteamMetrics.begin();
+		long handle = backend.requestUGCDetails(callback, publishedFileID.handle, maxAgeSeconds);
+		SteamMetrics.end(RequestUGCDetails, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #requestUGCDetails(SteamPublishedFileID, int)}, but returns a future which completes with
+	 * the item details, or with a {@link SteamException} if the request failed.
+	 */
+	@Deprecated
+	public SteamCallResult<SteamUGCDetails> requestUGCDetailsAsync(SteamPublishedFileID publishedFileID,
+																   int maxAgeSeconds) {
+
+		return SteamCallResults.register(requestUGCDetails(publishedFileID, maxAgeSeconds).handle,
+				SteamCallbackRouter.RequestUGCDetails, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall createItem(int consumerAppID, SteamRemoteStorage.WorkshopFileType fileType) {
-		return new SteamAPICall(SteamUGCNative.createItem(callback, consumerAppID, fileType.ordinal()));
+		long start = SteamMetrics.begin();
+		long handle = backend.createItem(callback, consumerAppID, fileType.ordinal());
+		SteamMetrics.end(CreateItem, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #createItem(int, SteamRemoteStorage.WorkshopFileType)}, but returns a future which completes
+	 * with the ID of the new item, or with a {@link SteamException} if it couldn't be created.
+	 */
+	public SteamCallResult<ItemResult> createItemAsync(int consumerAppID, SteamRemoteStorage.WorkshopFileType fileType) {
+		return SteamCallResults.register(createItem(consumerAppID, fileType).handle,
+				SteamCallbackRouter.CreateItem, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamUGCUpdateHandle startItemUpdate(int consumerAppID, SteamPublishedFileID publishedFileID) {
-		return new SteamUGCUpdateHandle(SteamUGCNative.startItemUpdate(consumerAppID, publishedFileID.handle));
+		long start = SteamMetrics.begin();
+		long result = backend.startItemUpdate(consumerAppID, publishedFileID.handle);
+		SteamMetrics.end(StartItemUpdate, start);
+		return new SteamUGCUpdateHandle(result);
 	}
 
 	public boolean setItemTitle(SteamUGCUpdateHandle update, String title) {
-		return SteamUGCNative.setItemTitle(update.handle, title);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setItemTitle(update.handle, title);
+		SteamMetrics.end(SetItemTitle, start);
+		return result;
 	}
 
 	public boolean setItemDescription(SteamUGCUpdateHandle update, String description) {
-		return SteamUGCNative.setItemDescription(update.handle, description);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setItemDescription(update.handle, description);
+		SteamMetrics.end(SetItemDescription, start);
+		return result;
 	}
 
 	public boolean setItemUpdateLanguage(SteamUGCUpdateHandle update, String language) {
-		return SteamUGCNative.setItemUpdateLanguage(update.handle, language);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setItemUpdateLanguage(update.handle, language);
+		SteamMetrics.end(SetItemUpdateLanguage, start);
+		return result;
 	}
 
 	public boolean setItemMetadata(SteamUGCUpdateHandle update, String metaData) {
-		return SteamUGCNative.setItemMetadata(update.handle, metaData);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setItemMetadata(update.handle, metaData);
+		SteamMetrics.end(SetItemMetadata, start);
+		return result;
 	}
 
 	public boolean setItemVisibility(SteamUGCUpdateHandle update,
 									 SteamRemoteStorage.PublishedFileVisibility visibility) {
 
-		return SteamUGCNative.setItemVisibility(update.handle, visibility.ordinal());
+		long start = SteamMetrics.begin();
+		boolean result = backend.setItemVisibility(update.handle, visibility.ordinal());
+		SteamMetrics.end(SetItemVisibility, start);
+		return result;
 	}
 
 	public boolean setItemTags(SteamUGCUpdateHandle update, String[] tags) {
-		return SteamUGCNative.setItemTags(update.handle, tags, tags.length);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setItemTags(update.handle, tags, tags.length);
+		SteamMetrics.end(SetItemTags, start);
+		return result;
 	}
 
 	public boolean setItemContent(SteamUGCUpdateHandle update, String contentFolder) {
-		return SteamUGCNative.setItemContent(update.handle, contentFolder);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setItemContent(update.handle, contentFolder);
+		SteamMetrics.end(SetItemContent, start);
+		return result;
 	}
 
 	public boolean setItemPreview(SteamUGCUpdateHandle update, String previewFile) {
-		return SteamUGCNative.setItemPreview(update.handle, previewFile);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setItemPreview(update.handle, previewFile);
+		SteamMetrics.end(SetItemPreview, start);
+		return result;
 	}
 
 	public boolean removeItemKeyValueTags(SteamUGCUpdateHandle update, String key) {
-		return SteamUGCNative.removeItemKeyValueTags(update.handle, key);
+		long start = SteamMetrics.begin();
+		boolean result = backend.removeItemKeyValueTags(update.handle, key);
+		SteamMetrics.end(RemoveItemKeyValueTags, start);
+		return result;
 	}
 
 	public boolean addItemKeyValueTag(SteamUGCUpdateHandle update, String key, String value) {
-		return SteamUGCNative.addItemKeyValueTag(update.handle, key, value);
+		long start = SteamMetrics.begin();
+		boolean result = backend.addItemKeyValueTag(update.handle, key, value);
+		SteamMetrics.end(AddItemKeyValueTag, start);
+		return result;
 	}
 
 	public SteamAPICall submitItemUpdate(SteamUGCUpdateHandle update, String changeNote) {
-		return new SteamAPICall(SteamUGCNative.submitItemUpdate(callback, update.handle, maybeNull(changeNote)));
+		long start = SteamMetrics.begin();
+		long handle = backend.submitItemUpdate(callback, update.handle, maybeNull(changeNote));
+		SteamMetrics.end(SubmitItemUpdate, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #submitItemUpdate(SteamUGCUpdateHandle, String)}, but returns a future which completes once
+	 * the update was submitted, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<ItemResult> submitItemUpdateAsync(SteamUGCUpdateHandle update, String changeNote) {
+		return SteamCallResults.register(submitItemUpdate(update, changeNote).handle,
+				SteamCallbackRouter.SubmitItemUpdate, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public ItemUpdateStatus getItemUpdateProgress(SteamUGCUpdateHandle update, ItemUpdateInfo updateInfo) {
 		long[] values = new long[2];
-		ItemUpdateStatus status = ItemUpdateStatus.byOrdinal(SteamUGCNative.getItemUpdateProgress(update.handle, values));
+		long start = SteamMetrics.begin();
+		int result = backend.getItemUpdateProgress(update.handle, values);
+		SteamMetrics.end(GetItemUpdateProgress, start);
+		ItemUpdateStatus status = ItemUpdateStatus.byOrdinal(result);
 		updateInfo.bytesProcessed = values[0];
 		updateInfo.bytesTotal = values[1];
 		return status;
 	}
 
 	public SteamAPICall setUserItemVote(SteamPublishedFileID publishedFileID, boolean voteUp) {
-		return new SteamAPICall(SteamUGCNative.setUserItemVote(callback, publishedFileID.handle, voteUp));
+		long start = SteamMetrics.begin();
+		long handle = backend.setUserItemVote(callback, publishedFileID.handle, voteUp);
+		SteamMetrics.end(SetUserItemVote, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #setUserItemVote(SteamPublishedFileID, boolean)}, but returns a future which completes once
+	 * the vote was cast, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<SteamPublishedFileID> setUserItemVoteAsync(SteamPublishedFileID publishedFileID,
+																	  boolean voteUp) {
+
+		return SteamCallResults.register(setUserItemVote(publishedFileID, voteUp).handle,
+				SteamCallbackRouter.SetUserItemVote, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall getUserItemVote(SteamPublishedFileID publishedFileID) {
-		return new SteamAPICall(SteamUGCNative.getUserItemVote(callback, publishedFileID.handle));
+		long start = SteamMetrics.begin();
+		long handle = backend.getUserItemVote(callback, publishedFileID.handle);
+		SteamMetrics.end(GetUserItemVote, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #getUserItemVote(SteamPublishedFileID)}, but returns a future which completes with the vote
+	 * of the user, or with a {@link SteamException} if the request failed.
+	 */
+	public SteamCallResult<ItemVote> getUserItemVoteAsync(SteamPublishedFileID publishedFileID) {
+		return SteamCallResults.register(getUserItemVote(publishedFileID).handle,
+				SteamCallbackRouter.GetUserItemVote, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall addItemToFavorites(int appID, SteamPublishedFileID publishedFileID) {
-		return new SteamAPICall(SteamUGCNative.addItemToFavorites(callback, appID, publishedFileID.handle));
+		long start = SteamMetrics.begin();
+		long handle = backend.addItemToFavorites(callback, appID, publishedFileID.handle);
+		SteamMetrics.end(AddItemToFavorites, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #addItemToFavorites(int, SteamPublishedFileID)}, but returns a future which completes once
+	 * the item was added, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<SteamPublishedFileID> addItemToFavoritesAsync(int appID,
+																		 SteamPublishedFileID publishedFileID) {
+
+		return SteamCallResults.register(addItemToFavorites(appID, publishedFileID).handle,
+				SteamCallbackRouter.UserFavoriteItemsListChanged, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall removeItemFromFavorites(int appID, SteamPublishedFileID publishedFileID) {
-		return new SteamAPICall(SteamUGCNative.removeItemFromFavorites(callback, appID, publishedFileID.handle));
+		long start = SteamMetrics.begin();
+		long handle = backend.removeItemFromFavorites(callback, appID, publishedFileID.handle);
+		SteamMetrics.end(RemoveItemFromFavorites, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #removeItemFromFavorites(int, SteamPublishedFileID)}, but returns a future which completes
+	 * once the item was removed, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<SteamPublishedFileID> removeItemFromFavoritesAsync(int appID,
+																			  SteamPublishedFileID publishedFileID) {
+
+		return SteamCallResults.register(removeItemFromFavorites(appID, publishedFileID).handle,
+				SteamCallbackRouter.UserFavoriteItemsListChanged, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall subscribeItem(SteamPublishedFileID publishedFileID) {
-		return new SteamAPICall(SteamUGCNative.subscribeItem(callback, publishedFileID.handle));
+		long start = SteamMetrics.begin();
+		long handle = backend.subscribeItem(callback, publishedFileID.handle);
+		SteamMetrics.end(SubscribeItem, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #subscribeItem(SteamPublishedFileID)}, but returns a future which completes once the user
+	 * is subscribed, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<SteamPublishedFileID> subscribeItemAsync(SteamPublishedFileID publishedFileID) {
+		return SteamCallResults.register(subscribeItem(publishedFileID).handle,
+				SteamCallbackRouter.SubscribeItem, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall unsubscribeItem(SteamPublishedFileID publishedFileID) {
-		return new SteamAPICall(SteamUGCNative.unsubscribeItem(callback, publishedFileID.handle));
+		long start = SteamMetrics.begin();
+		long handle = backend.unsubscribeItem(callback, publishedFileID.handle);
+		SteamMetrics.end(UnsubscribeItem, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #unsubscribeItem(SteamPublishedFileID)}, but returns a future which completes once the user
+	 * is unsubscribed, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<SteamPublishedFileID> unsubscribeItemAsync(SteamPublishedFileID publishedFileID) {
+		return SteamCallResults.register(unsubscribeItem(publishedFileID).handle,
+				SteamCallbackRouter.UnsubscribeItem, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public int getNumSubscribedItems(boolean includeLocallyDisabled) {
-		return SteamUGCNative.getNumSubscribedItems(includeLocallyDisabled);
+		long start = SteamMetrics.begin();
+		int result = backend.getNumSubscribedItems(includeLocallyDisabled);
+		SteamMetrics.end(GetNumSubscribedItems, start);
+		return result;
 	}
 
 	public int getSubscribedItems(SteamPublishedFileID[] publishedFileIds, boolean includeLocallyDisabled) {
 		long[] ids = new long[publishedFileIds.length];
-		int nb = SteamUGCNative.getSubscribedItems(ids, publishedFileIds.length, includeLocallyDisabled);
+		long start = SteamMetrics.begin();
+		int nb = backend.getSubscribedItems(ids, publishedFileIds.length, includeLocallyDisabled);
+		SteamMetrics.end(GetSubscribedItems, start);
 
 		for (int i = 0; i < nb; i++) {
 			publishedFileIds[i] = new SteamPublishedFileID(ids[i]);
@@ -479,16 +922,25 @@ public class SteamUGC extends SteamInterface {
 	}
 
 	public Collection<ItemState> getItemState(SteamPublishedFileID publishedFileID) {
-		return ItemState.fromBits(SteamUGCNative.getItemState(publishedFileID.handle));
+		long start = SteamMetrics.begin();
+		int result = backend.getItemState(publishedFileID.handle);
+		SteamMetrics.end(GetItemState, start);
+		return ItemState.fromBits(result);
 	}
 
 	public boolean getItemInstallInfo(SteamPublishedFileID publishedFileID, ItemInstallInfo installInfo) {
-		return SteamUGCNative.getItemInstallInfo(publishedFileID.handle, installInfo);
+		long start = SteamMetrics.begin();
+		boolean result = backend.getItemInstallInfo(publishedFileID.handle, installInfo);
+		SteamMetrics.end(GetItemInstallInfo, start);
+		return result;
 	}
 
 	public boolean getItemDownloadInfo(SteamPublishedFileID publishedFileID, ItemDownloadInfo downloadInfo) {
 		long[] values = new long[2];
-		if (SteamUGCNative.getItemDownloadInfo(publishedFileID.handle, values)) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.getItemDownloadInfo(publishedFileID.handle, values);
+		SteamMetrics.end(GetItemDownloadInfo, start);
+		if (result) {
 			downloadInfo.bytesDownloaded = values[0];
 			downloadInfo.bytesTotal = values[1];
 			return true;
@@ -497,19 +949,39 @@ public class SteamUGC extends SteamInterface {
 	}
 
 	public SteamAPICall deleteItem(SteamPublishedFileID publishedFileID) {
-		return new SteamAPICall(SteamUGCNative.deleteItem(callback, publishedFileID.handle));
+		long start = SteamMetrics.begin();
+		long handle = backend.deleteItem(callback, publishedFileID.handle);
+		SteamMetrics.end(DeleteItem, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #deleteItem(SteamPublishedFileID)}, but returns a future which completes once the item was
+	 * deleted, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<SteamPublishedFileID> deleteItemAsync(SteamPublishedFileID publishedFileID) {
+		return SteamCallResults.register(deleteItem(publishedFileID).handle,
+				SteamCallbackRouter.DeleteItem, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public boolean downloadItem(SteamPublishedFileID publishedFileID, boolean highPriority) {
-		return SteamUGCNative.downloadItem(publishedFileID.handle, highPriority);
+		long start = SteamMetrics.begin();
+		boolean result = backend.downloadItem(publishedFileID.handle, highPriority);
+		SteamMetrics.end(DownloadItem, start);
+		return result;
 	}
 
 	public boolean initWorkshopForGameServer(int workshopDepotID, String folder) {
-		return SteamUGCNative.initWorkshopForGameServer(workshopDepotID, folder);
+		long start = SteamMetrics.begin();
+		boolean result = backend.initWorkshopForGameServer(workshopDepotID, folder);
+		SteamMetrics.end(InitWorkshopForGameServer, start);
+		return result;
 	}
 
 	public void suspendDownloads(boolean suspend) {
-		SteamUGCNative.suspendDownloads(suspend);
+		long start = SteamMetrics.begin();
+		backend.suspendDownloads(suspend);
+		SteamMetrics.end(SuspendDownloads, start);
 	}
 
 	public SteamAPICall startPlaytimeTracking(SteamPublishedFileID[] publishedFileIDs) {
@@ -519,7 +991,19 @@ public class SteamUGC extends SteamInterface {
 			ids[i] = publishedFileIDs[i].handle;
 		}
 
-		return new SteamAPICall(SteamUGCNative.startPlaytimeTracking(callback, ids, ids.length));
+		long start = SteamMetrics.begin();
+		long handle = backend.startPlaytimeTracking(callback, ids, ids.length);
+		SteamMetrics.end(StartPlaytimeTracking, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #startPlaytimeTracking(SteamPublishedFileID[])}, but returns a future which completes once
+	 * tracking started, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<Void> startPlaytimeTrackingAsync(SteamPublishedFileID[] publishedFileIDs) {
+		return SteamCallResults.register(startPlaytimeTracking(publishedFileIDs).handle,
+				SteamCallbackRouter.StartPlaytimeTracking, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall stopPlaytimeTracking(SteamPublishedFileID[] publishedFileIDs) {
@@ -529,11 +1013,35 @@ public class SteamUGC extends SteamInterface {
 			ids[i] = publishedFileIDs[i].handle;
 		}
 
-		return new SteamAPICall(SteamUGCNative.stopPlaytimeTracking(callback, ids, ids.length));
+		long start = SteamMetrics.begin();
+		long handle = backend.stopPlaytimeTracking(callback, ids, ids.length);
+		SteamMetrics.end(StopPlaytimeTracking, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #stopPlaytimeTracking(SteamPublishedFileID[])}, but returns a future which completes once
+	 * tracking stopped, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<Void> stopPlaytimeTrackingAsync(SteamPublishedFileID[] publishedFileIDs) {
+		return SteamCallResults.register(stopPlaytimeTracking(publishedFileIDs).handle,
+				SteamCallbackRouter.StopPlaytimeTracking, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall stopPlaytimeTrackingForAllItems() {
-		return new SteamAPICall(SteamUGCNative.stopPlaytimeTrackingForAllItems(callback));
+		long start = SteamMetrics.begin();
+		long handle = backend.stopPlaytimeTrackingForAllItems(callback);
+		SteamMetrics.end(StopPlaytimeTrackingForAllItems, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #stopPlaytimeTrackingForAllItems()}, but returns a future which completes once tracking
+	 * stopped, or with a {@link SteamException} if it failed.
+	 */
+	public SteamCallResult<Void> stopPlaytimeTrackingForAllItemsAsync() {
+		return SteamCallResults.register(stopPlaytimeTrackingForAllItems().handle,
+				SteamCallbackRouter.StopPlaytimeTracking, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 }
@@ -0,0 +1,73 @@
+package com.codedisaster.steamworks;
+
+/**
+ * Calls made by {@link SteamUGC}, implemented by {@link SteamUGCNative} and by the simulated backend.
+ */
+interface SteamUGCBackend {
+
+	long createCallback(SteamUGCCallbackAdapter javaCallback);
+	long createQueryUserUGCRequest(int accountID, int listType, int matchingType, int sortOrder, int creatorAppID, int consumerAppID, int page);
+	long createQueryAllUGCRequest(int queryType, int matchingType, int creatorAppID, int consumerAppID, int page);
+	long createQueryUGCDetailsRequest(long[] publishedFileIDs, int numPublishedFileIDs);
+	long sendQueryUGCRequest(long callback, long query);
+	boolean getQueryUGCResult(long query, int index, SteamUGCDetails details);
+	String getQueryUGCPreviewURL(long query, int index);
+	String getQueryUGCMetadata(long query, int index);
+	long getQueryUGCStatistic(long query, int index, int statType);
+	int getQueryUGCNumAdditionalPreviews(long query, int index);
+	boolean getQueryUGCAdditionalPreview(long query, int index, int previewIndex, SteamUGC.ItemAdditionalPreview previewData);
+	int getQueryUGCNumKeyValueTags(long query, int index);
+	boolean getQueryUGCKeyValueTag(long query, int index, int keyValueTagIndex, String[] keyAndValue);
+	boolean releaseQueryUserUGCRequest(long query);
+	boolean addRequiredTag(long query, String tagName);
+	boolean addExcludedTag(long query, String tagName);
+	boolean setReturnOnlyIDs(long query, boolean returnOnlyIDs);
+	boolean setReturnKeyValueTags(long query, boolean returnKeyValueTags);
+	boolean setReturnLongDescription(long query, boolean returnLongDescription);
+	boolean setReturnMetadata(long query, boolean returnMetadata);
+	boolean setReturnChildren(long query, boolean returnChildren);
+	boolean setReturnAdditionalPreviews(long query, boolean returnAdditionalPreviews);
+	boolean setReturnTotalOnly(long query, boolean returnTotalOnly);
+	boolean setReturnPlaytimeStats(long query, int days);
+	boolean setLanguage(long query, String language);
+	boolean setAllowCachedResponse(long query, int maxAgeSeconds);
+	boolean setCloudFileNameFilter(long query, String matchCloudFileName);
+	boolean setMatchAnyTag(long query, boolean matchAnyTag);
+	boolean setSearchText(long query, String searchText);
+	boolean setRankedByTrendDays(long query, int days);
+	boolean addRequiredKeyValueTag(long query, String key, String value);
+	long requestUGCDetails(long callback, long publishedFileID, int maxAgeSeconds);
+	long createItem(long callback, int consumerAppID, int fileType);
+	long startItemUpdate(int consumerAppID, long publishedFileID);
+	boolean setItemTitle(long update, String title);
+	boolean setItemDescription(long update, String description);
+	boolean setItemUpdateLanguage(long update, String language);
+	boolean setItemMetadata(long update, String metaData);
+	boolean setItemVisibility(long update, int visibility);
+	boolean setItemTags(long update, String[] tags, int numTags);
+	boolean setItemContent(long update, String contentFolder);
+	boolean setItemPreview(long update, String previewFile);
+	boolean removeItemKeyValueTags(long update, String key);
+	boolean addItemKeyValueTag(long update, String key, String value);
+	long submitItemUpdate(long callback, long update, String changeNote);
+	int getItemUpdateProgress(long update, long[] bytesProcessedAndTotal);
+	long setUserItemVote(long callback, long publishedFileID, boolean voteUp);
+	long getUserItemVote(long callback, long publishedFileID);
+	long addItemToFavorites(long callback, int appID, long publishedFileID);
+	long removeItemFromFavorites(long callback, int appID, long publishedFileID);
+	long subscribeItem(long callback, long publishedFileID);
+	long unsubscribeItem(long callback, long publishedFileID);
+	int getNumSubscribedItems(boolean includeLocallyDisabled);
+	int getSubscribedItems(long[] files, int maxEntries, boolean includeLocallyDisabled);
+	int getItemState(long publishedFileID);
+	boolean getItemInstallInfo(long publishedFileID, SteamUGC.ItemInstallInfo installInfo);
+	boolean getItemDownloadInfo(long publishedFileID, long[] bytesDownloadedAndTotal);
+	long deleteItem(long callback, long publishedFileID);
+	boolean downloadItem(long publishedFileID, boolean highPriority);
+	boolean initWorkshopForGameServer(int workshopDepotID, String folder);
+	void suspendDownloads(boolean suspend);
+	long startPlaytimeTracking(long callback, long[] publishedFileIDs, int numPublishedFileIDs);
+	long stopPlaytimeTracking(long callback, long[] publishedFileIDs, int numPublishedFileIDs);
+	long stopPlaytimeTrackingForAllItems(long callback);
+
+}
@@ -3,6 +3,35 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamUGCCallbackAdapter extends SteamCallbackAdapter<SteamUGCCallback> {
 
+	private static final SteamMetrics.Timer OnUGCQueryCompleted =
+			SteamMetrics.callback("SteamUGCCallback.onUGCQueryCompleted");
+	private static final SteamMetrics.Timer OnSubscribeItem =
+			SteamMetrics.callback("SteamUGCCallback.onSubscribeItem");
+	private static final SteamMetrics.Timer OnUnsubscribeItem =
+			SteamMetrics.callback("SteamUGCCallback.onUnsubscribeItem");
+	private static final SteamMetrics.Timer OnRequestUGCDetails =
+			SteamMetrics.callback("SteamUGCCallback.onRequestUGCDetails");
+	private static final SteamMetrics.Timer OnCreateItem =
+			SteamMetrics.callback("SteamUGCCallback.onCreateItem");
+	private static final SteamMetrics.Timer OnSubmitItemUpdate =
+			SteamMetrics.callback("SteamUGCCallback.onSubmitItemUpdate");
+	private static final SteamMetrics.Timer OnDownloadItemResult =
+			SteamMetrics.callback("SteamUGCCallback.onDownloadItemResult");
+	private static final SteamMetrics.Timer OnUserFavoriteItemsListChanged =
+			SteamMetrics.callback("SteamUGCCallback.onUserFavoriteItemsListChanged");
+	private static final SteamMetrics.Timer OnSetUserItemVote =
+			SteamMetrics.callback("SteamUGCCallback.onSetUserItemVote");
+	private static final SteamMetrics.Timer OnGetUserItemVote =
+			SteamMetrics.callback("SteamUGCCallback.onGetUserItemVote");
+	private static final SteamMetrics.Timer OnStartPlaytimeTracking =
+			SteamMetrics.callback("SteamUGCCallback.onStartPlaytimeTracking");
+	private static final SteamMetrics.Timer OnStopPlaytimeTracking =
+			SteamMetrics.callback("SteamUGCCallback.onStopPlaytimeTracking");
+	private static final SteamMetrics.Timer OnStopPlaytimeTrackingForAllItems =
+			SteamMetrics.callback("SteamUGCCallback.onStopPlaytimeTrackingForAllItems");
+	private static final SteamMetrics.Timer OnDeleteItem =
+			SteamMetrics.callback("SteamUGCCallback.onDeleteItem");
+
 	SteamUGCCallbackAdapter(SteamUGCCallback callback) {
 		super(callback);
 	}
@@ -10,16 +39,52 @@ class SteamUGCCallbackAdapter extends SteamCallbackAdapter<SteamUGCCallback> {
 	void onUGCQueryCompleted(long handle, int numResultsReturned, int totalMatchingResults,
 							 boolean isCachedData, int result) {
 
-		callback.onUGCQueryCompleted(new SteamUGCQuery(handle), numResultsReturned,
-				totalMatchingResults, isCachedData, SteamResult.byValue(result));
+		SteamUGCQuery query = new SteamUGCQuery(handle);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onUGCQueryCompleted(query, numResultsReturned, totalMatchingResults, isCachedData, steamResult);
+		} finally {
+			SteamMetrics.end(OnUGCQueryCompleted, start);
+		}
+
+		SteamCallResult<SteamUGC.QueryCompleted> call = SteamCallResults.take(SteamCallbackRouter.UGCQueryCompleted);
+		if (call != null) {
+			call.succeedIfOK(steamResult, new SteamUGC.QueryCompleted(query, numResultsReturned,
+					totalMatchingResults, isCachedData), "UGC query failed");
+		}
 	}
 
 	void onSubscribeItem(long publishedFileID, int result) {
-		callback.onSubscribeItem(new SteamPublishedFileID(publishedFileID), SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onSubscribeItem(file, steamResult);
+		} finally {
+			SteamMetrics.end(OnSubscribeItem, start);
+		}
+
+		SteamCallResult<SteamPublishedFileID> call = SteamCallResults.take(SteamCallbackRouter.SubscribeItem);
+		if (call != null) {
+			call.succeedIfOK(steamResult, file, "Failed to subscribe item");
+		}
 	}
 	
 	void onUnsubscribeItem(long publishedFileID, int result) {
-		callback.onUnsubscribeItem(new SteamPublishedFileID(publishedFileID), SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onUnsubscribeItem(file, steamResult);
+		} finally {
+			SteamMetrics.end(OnUnsubscribeItem, start);
+		}
+
+		SteamCallResult<SteamPublishedFileID> call = SteamCallResults.take(SteamCallbackRouter.UnsubscribeItem);
+		if (call != null) {
+			call.succeedIfOK(steamResult, file, "Failed to unsubscribe item");
+		}
 	}
 	
 	void onRequestUGCDetails(long publishedFileID,
@@ -66,49 +131,172 @@ class SteamUGCCallbackAdapter extends SteamCallbackAdapter<SteamUGCCallback> {
 		details.numChildren = numChildren;
 		details.totalFileSize = totalFileSize;
 		
-		callback.onRequestUGCDetails(details, SteamResult.byValue(result));
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onRequestUGCDetails(details, steamResult);
+		} finally {
+			SteamMetrics.end(OnRequestUGCDetails, start);
+		}
+
+		SteamCallResult<SteamUGCDetails> call = SteamCallResults.take(SteamCallbackRouter.RequestUGCDetails);
+		if (call != null) {
+			call.succeedIfOK(steamResult, details, "Failed to request item details");
+		}
 	}
 
 	void onCreateItem(long publishedFileID, boolean needsToAcceptWLA, int result) {
-		callback.onCreateItem(new SteamPublishedFileID(publishedFileID), needsToAcceptWLA, SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onCreateItem(file, needsToAcceptWLA, steamResult);
+		} finally {
+			SteamMetrics.end(OnCreateItem, start);
+		}
+
+		SteamCallResult<SteamUGC.ItemResult> call = SteamCallResults.take(SteamCallbackRouter.CreateItem);
+		if (call != null) {
+			call.succeedIfOK(steamResult, new SteamUGC.ItemResult(file, needsToAcceptWLA), "Failed to create item");
+		}
 	}
 
 	void onSubmitItemUpdate(long publishedFileID, boolean needsToAcceptWLA, int result) {
-		callback.onSubmitItemUpdate(new SteamPublishedFileID(publishedFileID),
-				needsToAcceptWLA, SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onSubmitItemUpdate(file, needsToAcceptWLA, steamResult);
+		} finally {
+			SteamMetrics.end(OnSubmitItemUpdate, start);
+		}
+
+		SteamCallResult<SteamUGC.ItemResult> call = SteamCallResults.take(SteamCallbackRouter.SubmitItemUpdate);
+		if (call != null) {
+			call.succeedIfOK(steamResult, new SteamUGC.ItemResult(file, needsToAcceptWLA), "Failed to update item");
+		}
 	}
 
 	void onDownloadItemResult(int appID, long publishedFileID, int result) {
-		callback.onDownloadItemResult(appID, new SteamPublishedFileID(publishedFileID), SteamResult.byValue(result));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onDownloadItemResult(
+					appID, new SteamPublishedFileID(publishedFileID), SteamResult.byValue(result));
+		} finally {
+			SteamMetrics.end(OnDownloadItemResult, start);
+		}
 	}
 
 	void onUserFavoriteItemsListChanged(long publishedFileID, boolean wasAddRequest, int result) {
-		callback.onUserFavoriteItemsListChanged(new SteamPublishedFileID(publishedFileID),
-				wasAddRequest, SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onUserFavoriteItemsListChanged(file, wasAddRequest, steamResult);
+		} finally {
+			SteamMetrics.end(OnUserFavoriteItemsListChanged, start);
+		}
+
+		SteamCallResult<SteamPublishedFileID> call =
+				SteamCallResults.take(SteamCallbackRouter.UserFavoriteItemsListChanged);
+		if (call != null) {
+			call.succeedIfOK(steamResult, file, "Failed to change favorite items");
+		}
 	}
 
 	void onSetUserItemVote(long publishedFileID, boolean voteUp, int result) {
-		callback.onSetUserItemVote(new SteamPublishedFileID(publishedFileID), voteUp, SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onSetUserItemVote(file, voteUp, steamResult);
+		} finally {
+			SteamMetrics.end(OnSetUserItemVote, start);
+		}
+
+		SteamCallResult<SteamPublishedFileID> call = SteamCallResults.take(SteamCallbackRouter.SetUserItemVote);
+		if (call != null) {
+			call.succeedIfOK(steamResult, file, "Failed to vote on item");
+		}
 	}
 
 	void onGetUserItemVote(long publishedFileID, boolean votedUp, boolean votedDown, boolean voteSkipped, int result) {
-		callback.onGetUserItemVote(new SteamPublishedFileID(publishedFileID),
-				votedUp, votedDown, voteSkipped, SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onGetUserItemVote(file, votedUp, votedDown, voteSkipped, steamResult);
+		} finally {
+			SteamMetrics.end(OnGetUserItemVote, start);
+		}
+
+		SteamCallResult<SteamUGC.ItemVote> call = SteamCallResults.take(SteamCallbackRouter.GetUserItemVote);
+		if (call != null) {
+			call.succeedIfOK(steamResult, new SteamUGC.ItemVote(file, votedUp, votedDown, voteSkipped),
+					"Failed to get item vote");
+		}
 	}
 
 	void onStartPlaytimeTracking(int result) {
-		callback.onStartPlaytimeTracking(SteamResult.byValue(result));
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onStartPlaytimeTracking(steamResult);
+		} finally {
+			SteamMetrics.end(OnStartPlaytimeTracking, start);
+		}
+
+		SteamCallResult<Void> call = SteamCallResults.take(SteamCallbackRouter.StartPlaytimeTracking);
+		if (call != null) {
+			call.succeedIfOK(steamResult, null, "Failed to start playtime tracking");
+		}
 	}
 
 	void onStopPlaytimeTracking(int result) {
-		callback.onStopPlaytimeTracking(SteamResult.byValue(result));
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onStopPlaytimeTracking(steamResult);
+		} finally {
+			SteamMetrics.end(OnStopPlaytimeTracking, start);
+		}
+
+		completeStopPlaytimeTracking(steamResult);
 	}
 
 	void onStopPlaytimeTrackingForAllItems(int result) {
-		callback.onStopPlaytimeTrackingForAllItems(SteamResult.byValue(result));
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onStopPlaytimeTrackingForAllItems(steamResult);
+		} finally {
+			SteamMetrics.end(OnStopPlaytimeTrackingForAllItems, start);
+		}
+
+		completeStopPlaytimeTracking(steamResult);
 	}
 	
 	void onDeleteItem(long publishedFileID, int result) {
-		callback.onDeleteItem(new SteamPublishedFileID(publishedFileID), SteamResult.byValue(result));
+		SteamPublishedFileID file = new SteamPublishedFileID(publishedFileID);
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onDeleteItem(file, steamResult);
+		} finally {
+			SteamMetrics.end(OnDeleteItem, start);
+		}
+
+		SteamCallResult<SteamPublishedFileID> call = SteamCallResults.take(SteamCallbackRouter.DeleteItem);
+		if (call != null) {
+			call.succeedIfOK(steamResult, file, "Failed to delete item");
+		}
+	}
+
+	private static void completeStopPlaytimeTracking(SteamResult steamResult) {
+		// both calls have the same result type, and are routed as the same event by manual dispatch
+		SteamCallResult<Void> call = SteamCallResults.take(SteamCallbackRouter.StopPlaytimeTracking);
+		if (call != null) {
+			call.succeedIfOK(steamResult, null, "Failed to stop playtime tracking");
+		}
 	}
 }
@@ -24,12 +24,56 @@ public class SteamUser extends SteamInterface {
 		}
 	}
 
+	private static final SteamMetrics.Timer GetSteamID = SteamMetrics.nativeCall("SteamUser.getSteamID");
+	private static final SteamMetrics.Timer GetSteamIDRaw = SteamMetrics.nativeCall("SteamUser.getSteamIDRaw");
+	private static final SteamMetrics.Timer InitiateGameConnection =
+			SteamMetrics.nativeCall("SteamUser.initiateGameConnection");
+	private static final SteamMetrics.Timer TerminateGameConnection =
+			SteamMetrics.nativeCall("SteamUser.terminateGameConnection");
+	private static final SteamMetrics.Timer StartVoiceRecording =
+			SteamMetrics.nativeCall("SteamUser.startVoiceRecording");
+	private static final SteamMetrics.Timer StopVoiceRecording =
+			SteamMetrics.nativeCall("SteamUser.stopVoiceRecording");
+	private static final SteamMetrics.Timer GetAvailableVoice = SteamMetrics.nativeCall("SteamUser.getAvailableVoice");
+	private static final SteamMetrics.Timer GetVoice = SteamMetrics.nativeCall("SteamUser.getVoice");
+	private static final SteamMetrics.Timer DecompressVoice = SteamMetrics.nativeCall("SteamUser.decompressVoice");
+	private static final SteamMetrics.Timer GetVoiceOptimalSampleRate =
+			SteamMetrics.nativeCall("SteamUser.getVoiceOptimalSampleRate");
+	private static final SteamMetrics.Timer GetAuthSessionTicket =
+			SteamMetrics.nativeCall("SteamUser.getAuthSessionTicket");
+	private static final SteamMetrics.Timer GetAuthTicketForWebApi =
+			SteamMetrics.nativeCall("SteamUser.getAuthTicketForWebApi");
+	private static final SteamMetrics.Timer BeginAuthSession = SteamMetrics.nativeCall("SteamUser.beginAuthSession");
+	private static final SteamMetrics.Timer EndAuthSession = SteamMetrics.nativeCall("SteamUser.endAuthSession");
+	private static final SteamMetrics.Timer CancelAuthTicket = SteamMetrics.nativeCall("SteamUser.cancelAuthTicket");
+	private static final SteamMetrics.Timer UserHasLicenseForApp =
+			SteamMetrics.nativeCall("SteamUser.userHasLicenseForApp");
+	private static final SteamMetrics.Timer RequestEncryptedAppTicket =
+			SteamMetrics.nativeCall("SteamUser.requestEncryptedAppTicket");
+	private static final SteamMetrics.Timer GetEncryptedAppTicket =
+			SteamMetrics.nativeCall("SteamUser.getEncryptedAppTicket");
+	private static final SteamMetrics.Timer IsBehindNAT = SteamMetrics.nativeCall("SteamUser.isBehindNAT");
+	private static final SteamMetrics.Timer AdvertiseGame = SteamMetrics.nativeCall("SteamUser.advertiseGame");
+
 	public SteamUser(SteamUserCallback callback) {
 		super(SteamUserNative.createCallback(new SteamUserCallbackAdapter(callback)));
 	}
 
 	public SteamID getSteamID() {
-		return new SteamID(SteamUserNative.getSteamID());
+		long start = SteamMetrics.begin();
+		long result = SteamUserNative.getSteamID();
+		SteamMetrics.end(GetSteamID, start);
+		return new SteamID(result);
+	}
+
+	/**
+	 * Same as {@link #getSteamID()}, but returns the raw handle instead of a new {@link SteamID}.
+	 */
+	public long getSteamIDRaw() {
+		long start = SteamMetrics.begin();
+		long result = SteamUserNative.getSteamID();
+		SteamMetrics.end(GetSteamIDRaw, start);
+		return result;
 	}
 
 	@Deprecated
@@ -40,8 +84,10 @@ public class SteamUser extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
+		long start = SteamMetrics.begin();
 		int bytesWritten = SteamUserNative.initiateGameConnection(authBlob, authBlob.position(), authBlob.remaining(),
 				steamIDGameServer.handle, serverIP, serverPort, secure);
+		SteamMetrics.end(InitiateGameConnection, start);
 
 		if (bytesWritten > 0) {
 			authBlob.limit(bytesWritten);
@@ -52,19 +98,27 @@ public class SteamUser extends SteamInterface {
 
 	@Deprecated
 	public void terminateGameConnection(int serverIP, short serverPort) {
+		long start = SteamMetrics.begin();
 		SteamUserNative.terminateGameConnection(serverIP, serverPort);
+		SteamMetrics.end(TerminateGameConnection, start);
 	}
 
 	public void startVoiceRecording() {
+		long start = SteamMetrics.begin();
 		SteamUserNative.startVoiceRecording();
+		SteamMetrics.end(StartVoiceRecording, start);
 	}
 
 	public void stopVoiceRecording() {
+		long start = SteamMetrics.begin();
 		SteamUserNative.stopVoiceRecording();
+		SteamMetrics.end(StopVoiceRecording, start);
 	}
 
 	public VoiceResult getAvailableVoice(int[] bytesAvailable) {
+		long start = SteamMetrics.begin();
 		int result = SteamUserNative.getAvailableVoice(bytesAvailable);
+		SteamMetrics.end(GetAvailableVoice, start);
 
 		return VoiceResult.byOrdinal(result);
 	}
@@ -75,7 +129,9 @@ public class SteamUser extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
+		long start = SteamMetrics.begin();
 		int result = SteamUserNative.getVoice(voiceData, voiceData.position(), voiceData.remaining(), bytesWritten);
+		SteamMetrics.end(GetVoice, start);
 
 		return VoiceResult.byOrdinal(result);
 	}
@@ -90,16 +146,21 @@ public class SteamUser extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
+		long start = SteamMetrics.begin();
 		int result = SteamUserNative.decompressVoice(
 				voiceData, voiceData.position(), voiceData.remaining(),
 				audioData, audioData.position(), audioData.remaining(),
 				bytesWritten, desiredSampleRate);
+		SteamMetrics.end(DecompressVoice, start);
 
 		return VoiceResult.byOrdinal(result);
 	}
 
 	public int getVoiceOptimalSampleRate() {
-		return SteamUserNative.getVoiceOptimalSampleRate();
+		long start = SteamMetrics.begin();
+		int result = SteamUserNative.getVoiceOptimalSampleRate();
+		SteamMetrics.end(GetVoiceOptimalSampleRate, start);
+		return result;
 	}
 
 	public SteamAuthTicket getAuthSessionTicket(ByteBuffer authTicket, int[] sizeInBytes) throws SteamException {
@@ -108,8 +169,10 @@ public class SteamUser extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
+		long start = SteamMetrics.begin();
 		int ticket = SteamUserNative.getAuthSessionTicket(authTicket,
 				authTicket.position(), authTicket.remaining(), sizeInBytes);
+		SteamMetrics.end(GetAuthSessionTicket, start);
 
 		if (ticket != SteamAuthTicket.AuthTicketInvalid) {
 			authTicket.limit(sizeInBytes[0]);
@@ -119,7 +182,9 @@ public class SteamUser extends SteamInterface {
 	}
 
 	public SteamAuthTicket getAuthTicketForWebApi(String identity) {
+		long start = SteamMetrics.begin();
 		int ticket = SteamUserNative.getAuthTicketForWebApi(maybeNull(identity));
+		SteamMetrics.end(GetAuthTicketForWebApi, start);
 		return new SteamAuthTicket(ticket);
 	}
 
@@ -129,23 +194,31 @@ public class SteamUser extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
+		long start = SteamMetrics.begin();
 		int result = SteamUserNative.beginAuthSession(authTicket,
 				authTicket.position(), authTicket.remaining(), steamID.handle);
+		SteamMetrics.end(BeginAuthSession, start);
 
 		return SteamAuth.BeginAuthSessionResult.byOrdinal(result);
 	}
 
 	public void endAuthSession(SteamID steamID) {
+		long start = SteamMetrics.begin();
 		SteamUserNative.endAuthSession(steamID.handle);
+		SteamMetrics.end(EndAuthSession, start);
 	}
 
 	public void cancelAuthTicket(SteamAuthTicket authTicket) {
+		long start = SteamMetrics.begin();
 		SteamUserNative.cancelAuthTicket((int) authTicket.handle);
+		SteamMetrics.end(CancelAuthTicket, start);
 	}
 
 	public SteamAuth.UserHasLicenseForAppResult userHasLicenseForApp(SteamID steamID, int appID) {
-		return SteamAuth.UserHasLicenseForAppResult.byOrdinal(
-				SteamUserNative.userHasLicenseForApp(steamID.handle, appID));
+		long start = SteamMetrics.begin();
+		int result = SteamUserNative.userHasLicenseForApp(steamID.handle, appID);
+		SteamMetrics.end(UserHasLicenseForApp, start);
+		return SteamAuth.UserHasLicenseForAppResult.byOrdinal(result);
 	}
 
 	public SteamAPICall requestEncryptedAppTicket(ByteBuffer dataToInclude) throws SteamException {
@@ -154,8 +227,21 @@ public class SteamUser extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
-		return new SteamAPICall(SteamUserNative.requestEncryptedAppTicket(callback, dataToInclude,
-				dataToInclude.position(), dataToInclude.remaining()));
+		long start = SteamMetrics.begin();
+		long result = SteamUserNative.requestEncryptedAppTicket(callback, dataToInclude,
+				dataToInclude.position(), dataToInclude.remaining());
+		SteamMetrics.end(RequestEncryptedAppTicket, start);
+		return new SteamAPICall(result);
+	}
+
+	/**
+	 * Same as {@link #requestEncryptedAppTicket(ByteBuffer)}, but returns a future which completes once the ticket
+	 * can be read with {@link #getEncryptedAppTicket(ByteBuffer, int[])}, or with a {@link SteamException} if the
+	 * request failed.
+	 */
+	public SteamCallResult<Void> requestEncryptedAppTicketAsync(ByteBuffer dataToInclude) throws SteamException {
+		return SteamCallResults.register(requestEncryptedAppTicket(dataToInclude).handle,
+				SteamCallbackRouter.EncryptedAppTicket, true, null);
 	}
 
 	public boolean getEncryptedAppTicket(ByteBuffer ticket, int[] sizeInBytes) throws SteamException {
@@ -164,15 +250,24 @@ public class SteamUser extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
-		return SteamUserNative.getEncryptedAppTicket(ticket, ticket.position(), ticket.remaining(), sizeInBytes);
+		long start = SteamMetrics.begin();
+		boolean result = SteamUserNative.getEncryptedAppTicket(
+				ticket, ticket.position(), ticket.remaining(), sizeInBytes);
+		SteamMetrics.end(GetEncryptedAppTicket, start);
+		return result;
 	}
 
 	public boolean isBehindNAT() {
-		return SteamUserNative.isBehindNAT();
+		long start = SteamMetrics.begin();
+		boolean result = SteamUserNative.isBehindNAT();
+		SteamMetrics.end(IsBehindNAT, start);
+		return result;
 	}
 
 	public void advertiseGame(SteamID steamIDGameServer, int serverIP, short serverPort) {
+		long start = SteamMetrics.begin();
 		SteamUserNative.advertiseGame(steamIDGameServer.handle, serverIP, serverPort);
+		SteamMetrics.end(AdvertiseGame, start);
 	}
 
 }
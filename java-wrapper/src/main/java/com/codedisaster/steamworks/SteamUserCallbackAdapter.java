@@ -3,29 +3,71 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamUserCallbackAdapter extends SteamCallbackAdapter<SteamUserCallback> {
 
+	private static final SteamMetrics.Timer OnAuthSessionTicket =
+			SteamMetrics.callback("SteamUserCallback.onAuthSessionTicket");
+	private static final SteamMetrics.Timer OnValidateAuthTicket =
+			SteamMetrics.callback("SteamUserCallback.onValidateAuthTicket");
+	private static final SteamMetrics.Timer OnMicroTxnAuthorization =
+			SteamMetrics.callback("SteamUserCallback.onMicroTxnAuthorization");
+	private static final SteamMetrics.Timer OnEncryptedAppTicket =
+			SteamMetrics.callback("SteamUserCallback.onEncryptedAppTicket");
+	private static final SteamMetrics.Timer OnGetTicketForWebApi =
+			SteamMetrics.callback("SteamUserCallback.onGetTicketForWebApi");
+
 	SteamUserCallbackAdapter(SteamUserCallback callback) {
 		super(callback);
 	}
 
 	void onAuthSessionTicket(long authTicket, int result) {
-		callback.onAuthSessionTicket(new SteamAuthTicket(authTicket), SteamResult.byValue(result));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onAuthSessionTicket(new SteamAuthTicket(authTicket), SteamResult.byValue(result));
+		} finally {
+			SteamMetrics.end(OnAuthSessionTicket, start);
+		}
 	}
 
 	void onValidateAuthTicket(long steamID, int authSessionResponse, long ownerSteamID) {
-		callback.onValidateAuthTicket(new SteamID(steamID),
-				SteamAuth.AuthSessionResponse.byOrdinal(authSessionResponse), new SteamID(ownerSteamID));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onValidateAuthTicket(new SteamID(steamID),
+					SteamAuth.AuthSessionResponse.byOrdinal(authSessionResponse), new SteamID(ownerSteamID));
+		} finally {
+			SteamMetrics.end(OnValidateAuthTicket, start);
+		}
 	}
 
 	void onMicroTxnAuthorization(int appID, long orderID, boolean authorized) {
-		callback.onMicroTxnAuthorization(appID, orderID, authorized);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onMicroTxnAuthorization(appID, orderID, authorized);
+		} finally {
+			SteamMetrics.end(OnMicroTxnAuthorization, start);
+		}
 	}
 
 	void onEncryptedAppTicket(int result) {
-		callback.onEncryptedAppTicket(SteamResult.byValue(result));
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onEncryptedAppTicket(steamResult);
+		} finally {
+			SteamMetrics.end(OnEncryptedAppTicket, start);
+		}
+
+		SteamCallResult<Void> call = SteamCallResults.take(SteamCallbackRouter.EncryptedAppTicket);
+		if (call != null) {
+			call.succeedIfOK(steamResult, null, "Failed to request encrypted app ticket");
+		}
 	}
 
 	void onGetTicketForWebApi(long authTicket, int result, byte[] ticketData) {
-		callback.onGetTicketForWebApi(new SteamAuthTicket(authTicket), SteamResult.byValue(result), ticketData);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onGetTicketForWebApi(new SteamAuthTicket(authTicket), SteamResult.byValue(result), ticketData);
+		} finally {
+			SteamMetrics.end(OnGetTicketForWebApi, start);
+		}
 	}
 
 }
@@ -95,7 +95,7 @@ final class SteamUserNative {
 												 ByteBuffer dataToInclude, int bufferOffset, int bufferSize); /*
 		SteamUserCallback* cb = (SteamUserCallback*) callback;
 		SteamAPICall_t handle = SteamUser()->RequestEncryptedAppTicket(&dataToInclude[bufferOffset], bufferSize);
-		cb->onRequestEncryptedAppTicketCall.Set(handle, cb, &SteamUserCallback::onRequestEncryptedAppTicket);
+		cb->setCallResult(handle, cb, &SteamUserCallback::onRequestEncryptedAppTicket);
 		return handle;
 	*/
 
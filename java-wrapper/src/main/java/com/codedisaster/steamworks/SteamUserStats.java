@@ -29,100 +29,297 @@ public class SteamUserStats extends SteamInterface {
 		ForceUpdate
 	}
 
+	public static class LeaderboardScoresDownloaded {
+
+		private final SteamLeaderboardHandle leaderboard;
+		private final SteamLeaderboardEntriesHandle entries;
+		private final int numEntries;
+
+		LeaderboardScoresDownloaded(SteamLeaderboardHandle leaderboard, SteamLeaderboardEntriesHandle entries,
+									int numEntries) {
+			this.leaderboard = leaderboard;
+			this.entries = entries;
+			this.numEntries = numEntries;
+		}
+
+		public SteamLeaderboardHandle getLeaderboard() {
+			return leaderboard;
+		}
+
+		public SteamLeaderboardEntriesHandle getEntries() {
+			return entries;
+		}
+
+		public int getNumEntries() {
+			return numEntries;
+		}
+	}
+
+	public static class LeaderboardScoreUploaded {
+
+		private final SteamLeaderboardHandle leaderboard;
+		private final int score;
+		private final boolean changed;
+		private final int globalRankNew;
+		private final int globalRankPrevious;
+
+		LeaderboardScoreUploaded(SteamLeaderboardHandle leaderboard, int score, boolean changed,
+								 int globalRankNew, int globalRankPrevious) {
+			this.leaderboard = leaderboard;
+			this.score = score;
+			this.changed = changed;
+			this.globalRankNew = globalRankNew;
+			this.globalRankPrevious = globalRankPrevious;
+		}
+
+		public SteamLeaderboardHandle getLeaderboard() {
+			return leaderboard;
+		}
+
+		public int getScore() {
+			return score;
+		}
+
+		public boolean isChanged() {
+			return changed;
+		}
+
+		public int getGlobalRankNew() {
+			return globalRankNew;
+		}
+
+		public int getGlobalRankPrevious() {
+			return globalRankPrevious;
+		}
+	}
+
+	private static final SteamMetrics.Timer RequestCurrentStats =
+			SteamMetrics.nativeCall("SteamUserStats.requestCurrentStats");
+	private static final SteamMetrics.Timer GetStat = SteamMetrics.nativeCall("SteamUserStats.getStat");
+	private static final SteamMetrics.Timer SetStat = SteamMetrics.nativeCall("SteamUserStats.setStat");
+	private static final SteamMetrics.Timer GetAchievement = SteamMetrics.nativeCall("SteamUserStats.getAchievement");
+	private static final SteamMetrics.Timer SetAchievement = SteamMetrics.nativeCall("SteamUserStats.setAchievement");
+	private static final SteamMetrics.Timer ClearAchievement =
+			SteamMetrics.nativeCall("SteamUserStats.clearAchievement");
+	private static final SteamMetrics.Timer StoreStats = SteamMetrics.nativeCall("SteamUserStats.storeStats");
+	private static final SteamMetrics.Timer IndicateAchievementProgress =
+			SteamMetrics.nativeCall("SteamUserStats.indicateAchievementProgress");
+	private static final SteamMetrics.Timer GetNumAchievements =
+			SteamMetrics.nativeCall("SteamUserStats.getNumAchievements");
+	private static final SteamMetrics.Timer GetAchievementName =
+			SteamMetrics.nativeCall("SteamUserStats.getAchievementName");
+	private static final SteamMetrics.Timer ResetAllStats = SteamMetrics.nativeCall("SteamUserStats.resetAllStats");
+	private static final SteamMetrics.Timer FindOrCreateLeaderboard =
+			SteamMetrics.nativeCall("SteamUserStats.findOrCreateLeaderboard");
+	private static final SteamMetrics.Timer FindLeaderboard = SteamMetrics.nativeCall("SteamUserStats.findLeaderboard");
+	private static final SteamMetrics.Timer GetLeaderboardName =
+			SteamMetrics.nativeCall("SteamUserStats.getLeaderboardName");
+	private static final SteamMetrics.Timer GetLeaderboardEntryCount =
+			SteamMetrics.nativeCall("SteamUserStats.getLeaderboardEntryCount");
+	private static final SteamMetrics.Timer GetLeaderboardSortMethod =
+			SteamMetrics.nativeCall("SteamUserStats.getLeaderboardSortMethod");
+	private static final SteamMetrics.Timer GetLeaderboardDisplayType =
+			SteamMetrics.nativeCall("SteamUserStats.getLeaderboardDisplayType");
+	private static final SteamMetrics.Timer DownloadLeaderboardEntries =
+			SteamMetrics.nativeCall("SteamUserStats.downloadLeaderboardEntries");
+	private static final SteamMetrics.Timer DownloadLeaderboardEntriesForUsers =
+			SteamMetrics.nativeCall("SteamUserStats.downloadLeaderboardEntriesForUsers");
+	private static final SteamMetrics.Timer GetNumberOfCurrentPlayers =
+			SteamMetrics.nativeCall("SteamUserStats.getNumberOfCurrentPlayers");
+	private static final SteamMetrics.Timer RequestGlobalStats =
+			SteamMetrics.nativeCall("SteamUserStats.requestGlobalStats");
+	private static final SteamMetrics.Timer GetGlobalStat = SteamMetrics.nativeCall("SteamUserStats.getGlobalStat");
+	private static final SteamMetrics.Timer GetGlobalStatHistory =
+			SteamMetrics.nativeCall("SteamUserStats.getGlobalStatHistory");
+	private static final SteamMetrics.Timer GetDownloadedLeaderboardEntry =
+			SteamMetrics.nativeCall("SteamUserStats.getDownloadedLeaderboardEntry");
+	private static final SteamMetrics.Timer UploadLeaderboardScore =
+			SteamMetrics.nativeCall("SteamUserStats.uploadLeaderboardScore");
+
+	private final SteamUserStatsBackend backend =
+			SteamAPI.getBackend().userStats;
+
 	public SteamUserStats(SteamUserStatsCallback callback) {
-		super(SteamUserStatsNative.createCallback(new SteamUserStatsCallbackAdapter(callback)));
+		super(SteamAPI.getBackend().userStats.createCallback(new SteamUserStatsCallbackAdapter(callback)));
 	}
 
 	public boolean requestCurrentStats() {
-		return SteamUserStatsNative.requestCurrentStats();
+		long start = SteamMetrics.begin();
+		boolean result = backend.requestCurrentStats();
+		SteamMetrics.end(RequestCurrentStats, start);
+		return result;
 	}
 
 	public int getStatI(String name, int defaultValue) {
 		int[] values = new int[1];
-		if (SteamUserStatsNative.getStat(name, values)) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.getStat(name, values);
+		SteamMetrics.end(GetStat, start);
+		if (result) {
 			return values[0];
 		}
 		return defaultValue;
 	}
 
 	public boolean setStatI(String name, int value) {
-		return SteamUserStatsNative.setStat(name, value);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setStat(name, value);
+		SteamMetrics.end(SetStat, start);
+		return result;
 	}
 
 	public float getStatF(String name, float defaultValue) {
 		float[] values = new float[1];
-		if (SteamUserStatsNative.getStat(name, values)) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.getStat(name, values);
+		SteamMetrics.end(GetStat, start);
+		if (result) {
 			return values[0];
 		}
 		return defaultValue;
 	}
 
 	public boolean setStatF(String name, float value) {
-		return SteamUserStatsNative.setStat(name, value);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setStat(name, value);
+		SteamMetrics.end(SetStat, start);
+		return result;
 	}
 
 	public boolean isAchieved(String name, boolean defaultValue) {
 		boolean[] achieved = new boolean[1];
-		if (SteamUserStatsNative.getAchievement(name, achieved)) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.getAchievement(name, achieved);
+		SteamMetrics.end(GetAchievement, start);
+		if (result) {
 			return achieved[0];
 		}
 		return defaultValue;
 	}
 
 	public boolean setAchievement(String name) {
-		return SteamUserStatsNative.setAchievement(name);
+		long start = SteamMetrics.begin();
+		boolean result = backend.setAchievement(name);
+		SteamMetrics.end(SetAchievement, start);
+		return result;
 	}
 
 	public boolean clearAchievement(String name) {
-		return SteamUserStatsNative.clearAchievement(name);
+		long start = SteamMetrics.begin();
+		boolean result = backend.clearAchievement(name);
+		SteamMetrics.end(ClearAchievement, start);
+		return result;
 	}
 
 	public boolean storeStats() {
-		return SteamUserStatsNative.storeStats();
+		long start = SteamMetrics.begin();
+		boolean result = backend.storeStats();
+		SteamMetrics.end(StoreStats, start);
+		return result;
 	}
 
 	public boolean indicateAchievementProgress(String name, int curProgress, int maxProgress) {
-		return SteamUserStatsNative.indicateAchievementProgress(name, curProgress, maxProgress);
+		long start = SteamMetrics.begin();
+		boolean result = backend.indicateAchievementProgress(name, curProgress, maxProgress);
+		SteamMetrics.end(IndicateAchievementProgress, start);
+		return result;
 	}
 
 	public int getNumAchievements() {
-		return SteamUserStatsNative.getNumAchievements();
+		long start = SteamMetrics.begin();
+		int result = backend.getNumAchievements();
+		SteamMetrics.end(GetNumAchievements, start);
+		return result;
 	}
 
 	public String getAchievementName(int index) {
-		return SteamUserStatsNative.getAchievementName(index);
+		long start = SteamMetrics.begin();
+		String result = backend.getAchievementName(index);
+		SteamMetrics.end(GetAchievementName, start);
+		return result;
 	}
 
 	public boolean resetAllStats(boolean achievementsToo) {
-		return SteamUserStatsNative.resetAllStats(achievementsToo);
+		long start = SteamMetrics.begin();
+		boolean result = backend.resetAllStats(achievementsToo);
+		SteamMetrics.end(ResetAllStats, start);
+		return result;
 	}
 
 	public SteamAPICall findOrCreateLeaderboard(String leaderboardName,
 												LeaderboardSortMethod leaderboardSortMethod,
 												LeaderboardDisplayType leaderboardDisplayType) {
 
-		return new SteamAPICall(SteamUserStatsNative.findOrCreateLeaderboard(callback, leaderboardName,
-				leaderboardSortMethod.ordinal(), leaderboardDisplayType.ordinal()));
+		long start = SteamMetrics.begin();
+		long handle = backend.findOrCreateLeaderboard(callback, leaderboardName,
+				leaderboardSortMethod.ordinal(), leaderboardDisplayType.ordinal());
+		SteamMetrics.end(FindOrCreateLeaderboard, start);
+		return new SteamAPICall(handle);
 	}
 
 	public SteamAPICall findLeaderboard(String leaderboardName) {
-		return new SteamAPICall(SteamUserStatsNative.findLeaderboard(callback, leaderboardName));
+		long start = SteamMetrics.begin();
+		long handle = backend.findLeaderboard(callback, leaderboardName);
+		SteamMetrics.end(FindLeaderboard, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #findOrCreateLeaderboard(String, LeaderboardSortMethod, LeaderboardDisplayType)}, but
+	 * returns a future which completes with the leaderboard handle, or null if it wasn't found.
+	 */
+	public SteamCallResult<SteamLeaderboardHandle> findOrCreateLeaderboardAsync(String leaderboardName,
+																			  LeaderboardSortMethod leaderboardSortMethod,
+																			  LeaderboardDisplayType leaderboardDisplayType) {
+
+		long start = SteamMetrics.begin();
+		long handle = backend.findOrCreateLeaderboard(callback, leaderboardName,
+				leaderboardSortMethod.ordinal(), leaderboardDisplayType.ordinal());
+		SteamMetrics.end(FindOrCreateLeaderboard, start);
+
+		return SteamCallResults.register(handle, SteamCallbackRouter.LeaderboardFindResult,
+				SteamAPI.getBackend() instanceof SteamNativeBackend, null);
+	}
+
+	/**
+	 * Same as {@link #findLeaderboard(String)}, but returns a future which completes with the leaderboard
+	 * handle, or null if it wasn't found.
+	 */
+	public SteamCallResult<SteamLeaderboardHandle> findLeaderboardAsync(String leaderboardName) {
+		long start = SteamMetrics.begin();
+		long handle = backend.findLeaderboard(callback, leaderboardName);
+		SteamMetrics.end(FindLeaderboard, start);
+
+		return SteamCallResults.register(handle, SteamCallbackRouter.LeaderboardFindResult,
+				SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public String getLeaderboardName(SteamLeaderboardHandle leaderboard) {
-		return SteamUserStatsNative.getLeaderboardName(leaderboard.handle);
+		long start = SteamMetrics.begin();
+		String result = backend.getLeaderboardName(leaderboard.handle);
+		SteamMetrics.end(GetLeaderboardName, start);
+		return result;
 	}
 
 	public int getLeaderboardEntryCount(SteamLeaderboardHandle leaderboard) {
-		return SteamUserStatsNative.getLeaderboardEntryCount(leaderboard.handle);
+		long start = SteamMetrics.begin();
+		int result = backend.getLeaderboardEntryCount(leaderboard.handle);
+		SteamMetrics.end(GetLeaderboardEntryCount, start);
+		return result;
 	}
 
 	public LeaderboardSortMethod getLeaderboardSortMethod(SteamLeaderboardHandle leaderboard) {
-		return LeaderboardSortMethod.values()[SteamUserStatsNative.getLeaderboardSortMethod(leaderboard.handle)];
+		long start = SteamMetrics.begin();
+		int result = backend.getLeaderboardSortMethod(leaderboard.handle);
+		SteamMetrics.end(GetLeaderboardSortMethod, start);
+		return LeaderboardSortMethod.values()[result];
 	}
 
 	public LeaderboardDisplayType getLeaderboardDisplayType(SteamLeaderboardHandle leaderboard) {
-		return LeaderboardDisplayType.values()[SteamUserStatsNative.getLeaderboardDisplayType(leaderboard.handle)];
+		long start = SteamMetrics.begin();
+		int result = backend.getLeaderboardDisplayType(leaderboard.handle);
+		SteamMetrics.end(GetLeaderboardDisplayType, start);
+		return LeaderboardDisplayType.values()[result];
 	}
 
 	public SteamAPICall downloadLeaderboardEntries(SteamLeaderboardHandle leaderboard,
@@ -130,8 +327,25 @@ public class SteamUserStats extends SteamInterface {
 												   int rangeStart,
 												   int rangeEnd) {
 
-		return new SteamAPICall(SteamUserStatsNative.downloadLeaderboardEntries(callback, leaderboard.handle,
-				leaderboardDataRequest.ordinal(), rangeStart, rangeEnd));
+		long start = SteamMetrics.begin();
+		long handle = backend.downloadLeaderboardEntries(callback, leaderboard.handle,
+				leaderboardDataRequest.ordinal(), rangeStart, rangeEnd);
+		SteamMetrics.end(DownloadLeaderboardEntries, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #downloadLeaderboardEntries(SteamLeaderboardHandle, LeaderboardDataRequest, int, int)}, but
+	 * returns a future which completes once the entries can be read with
+	 * {@link #getDownloadedLeaderboardEntry(SteamLeaderboardEntriesHandle, int, SteamLeaderboardEntry, int[])}.
+	 */
+	public SteamCallResult<LeaderboardScoresDownloaded> downloadLeaderboardEntriesAsync(
+			SteamLeaderboardHandle leaderboard, LeaderboardDataRequest leaderboardDataRequest,
+			int rangeStart, int rangeEnd) {
+
+		return SteamCallResults.register(
+				downloadLeaderboardEntries(leaderboard, leaderboardDataRequest, rangeStart, rangeEnd).handle,
+				SteamCallbackRouter.LeaderboardScoresDownloaded, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall downloadLeaderboardEntriesForUsers(SteamLeaderboardHandle leaderboard,
@@ -144,8 +358,22 @@ public class SteamUserStats extends SteamInterface {
 			handles[i] = users[i].handle;
 		}
 
-		return new SteamAPICall(SteamUserStatsNative.downloadLeaderboardEntriesForUsers(
-				callback, leaderboard.handle, handles, count));
+		long start = SteamMetrics.begin();
+		long handle = backend.downloadLeaderboardEntriesForUsers(
+				callback, leaderboard.handle, handles, count);
+		SteamMetrics.end(DownloadLeaderboardEntriesForUsers, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #downloadLeaderboardEntriesForUsers(SteamLeaderboardHandle, SteamID[])}, but returns a future
+	 * which completes once the entries can be read.
+	 */
+	public SteamCallResult<LeaderboardScoresDownloaded> downloadLeaderboardEntriesForUsersAsync(
+			SteamLeaderboardHandle leaderboard, SteamID[] users) {
+
+		return SteamCallResults.register(downloadLeaderboardEntriesForUsers(leaderboard, users).handle,
+				SteamCallbackRouter.LeaderboardScoresDownloaded, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	/**
@@ -155,9 +383,12 @@ public class SteamUserStats extends SteamInterface {
 	public boolean getDownloadedLeaderboardEntry(SteamLeaderboardEntriesHandle leaderboardEntries,
 												 int index, SteamLeaderboardEntry entry, int[] details) {
 
-		return details == null
-				? SteamUserStatsNative.getDownloadedLeaderboardEntry(leaderboardEntries.handle, index, entry)
-				: SteamUserStatsNative.getDownloadedLeaderboardEntry(leaderboardEntries.handle, index, entry, details, details.length);
+		long start = SteamMetrics.begin();
+		boolean result = details == null
+				? backend.getDownloadedLeaderboardEntry(leaderboardEntries.handle, index, entry)
+				: backend.getDownloadedLeaderboardEntry(leaderboardEntries.handle, index, entry, details, details.length);
+		SteamMetrics.end(GetDownloadedLeaderboardEntry, start);
+		return result;
 	}
 
 	/**
@@ -167,22 +398,66 @@ public class SteamUserStats extends SteamInterface {
 											   LeaderboardUploadScoreMethod method,
 											   int score, int[] scoreDetails) {
 
-		return new SteamAPICall(scoreDetails == null
-				? SteamUserStatsNative.uploadLeaderboardScore(callback, leaderboard.handle, method.ordinal(), score)
-				: SteamUserStatsNative.uploadLeaderboardScore(callback, leaderboard.handle, method.ordinal(), score, scoreDetails, scoreDetails.length));
+		long start = SteamMetrics.begin();
+		long handle = scoreDetails == null
+				? backend.uploadLeaderboardScore(callback, leaderboard.handle, method.ordinal(), score)
+				: backend.uploadLeaderboardScore(callback, leaderboard.handle, method.ordinal(), score, scoreDetails, scoreDetails.length);
+		SteamMetrics.end(UploadLeaderboardScore, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #uploadLeaderboardScore(SteamLeaderboardHandle, LeaderboardUploadScoreMethod, int, int[])},
+	 * but returns a future which completes with the new rank, or with a {@link SteamException} if the upload
+	 * failed.
+	 */
+	public SteamCallResult<LeaderboardScoreUploaded> uploadLeaderboardScoreAsync(SteamLeaderboardHandle leaderboard,
+																				 LeaderboardUploadScoreMethod method,
+																				 int score, int[] scoreDetails) {
+
+		return SteamCallResults.register(uploadLeaderboardScore(leaderboard, method, score, scoreDetails).handle,
+				SteamCallbackRouter.LeaderboardScoreUploaded, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall getNumberOfCurrentPlayers() {
-		return new SteamAPICall(SteamUserStatsNative.getNumberOfCurrentPlayers(callback));
+		long start = SteamMetrics.begin();
+		long handle = backend.getNumberOfCurrentPlayers(callback);
+		SteamMetrics.end(GetNumberOfCurrentPlayers, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #getNumberOfCurrentPlayers()}, but returns a future which completes with the number of
+	 * players, or with a {@link SteamException} if the request failed.
+	 */
+	public SteamCallResult<Integer> getNumberOfCurrentPlayersAsync() {
+		return SteamCallResults.register(getNumberOfCurrentPlayers().handle,
+				SteamCallbackRouter.NumberOfCurrentPlayers, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public SteamAPICall requestGlobalStats(int historyDays) {
-		return new SteamAPICall(SteamUserStatsNative.requestGlobalStats(callback, historyDays));
+		long start = SteamMetrics.begin();
+		long handle = backend.requestGlobalStats(callback, historyDays);
+		SteamMetrics.end(RequestGlobalStats, start);
+		return new SteamAPICall(handle);
+	}
+
+	/**
+	 * Same as {@link #requestGlobalStats(int)}, but returns a future which completes with the game ID once the
+	 * stats can be read with {@link #getGlobalStat(String, long)}, or with a {@link SteamException} if the request
+	 * failed.
+	 */
+	public SteamCallResult<Long> requestGlobalStatsAsync(int historyDays) {
+		return SteamCallResults.register(requestGlobalStats(historyDays).handle,
+				SteamCallbackRouter.GlobalStatsReceived, SteamAPI.getBackend() instanceof SteamNativeBackend, null);
 	}
 
 	public long getGlobalStat(String name, long defaultValue) {
 		long[] values = new long[1];
-		if (SteamUserStatsNative.getGlobalStat(name, values)) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.getGlobalStat(name, values);
+		SteamMetrics.end(GetGlobalStat, start);
+		if (result) {
 			return values[0];
 		}
 		return defaultValue;
@@ -190,18 +465,27 @@ public class SteamUserStats extends SteamInterface {
 
 	public double getGlobalStat(String name, double defaultValue) {
 		double[] values = new double[1];
-		if (SteamUserStatsNative.getGlobalStat(name, values)) {
+		long start = SteamMetrics.begin();
+		boolean result = backend.getGlobalStat(name, values);
+		SteamMetrics.end(GetGlobalStat, start);
+		if (result) {
 			return values[0];
 		}
 		return defaultValue;
 	}
 
 	public int getGlobalStatHistory(String name, long[] data) {
-		return SteamUserStatsNative.getGlobalStatHistory(name, data, data.length);
+		long start = SteamMetrics.begin();
+		int result = backend.getGlobalStatHistory(name, data, data.length);
+		SteamMetrics.end(GetGlobalStatHistory, start);
+		return result;
 	}
 
 	public int getGlobalStatHistory(String name, double[] data) {
-		return SteamUserStatsNative.getGlobalStatHistory(name, data, data.length);
+		long start = SteamMetrics.begin();
+		int result = backend.getGlobalStatHistory(name, data, data.length);
+		SteamMetrics.end(GetGlobalStatHistory, start);
+		return result;
 	}
 
 }
@@ -0,0 +1,41 @@
+package com.codedisaster.steamworks;
+
+/**
+ * Calls made by {@link SteamUserStats}, implemented by {@link SteamUserStatsNative} and by the simulated backend.
+ */
+interface SteamUserStatsBackend {
+
+	long createCallback(SteamUserStatsCallbackAdapter javaCallback);
+	boolean requestCurrentStats();
+	boolean getStat(String name, int[] value);
+	boolean setStat(String name, int value);
+	boolean getStat(String name, float[] value);
+	boolean setStat(String name, float value);
+	boolean getAchievement(String name, boolean[] achieved);
+	boolean setAchievement(String name);
+	boolean clearAchievement(String name);
+	boolean storeStats();
+	boolean indicateAchievementProgress(String name, int curProgress, int maxProgress);
+	int getNumAchievements();
+	String getAchievementName(int index);
+	boolean resetAllStats(boolean achievementsToo);
+	long findOrCreateLeaderboard(long callback, String leaderboardName, int leaderboardSortMethod, int leaderboardDisplayType);
+	long findLeaderboard(long callback, String leaderboardName);
+	String getLeaderboardName(long leaderboard);
+	int getLeaderboardEntryCount(long leaderboard);
+	int getLeaderboardSortMethod(long leaderboard);
+	int getLeaderboardDisplayType(long leaderboard);
+	long downloadLeaderboardEntries(long callback, long leaderboard, int leaderboardDataRequest, int rangeStart, int rangeEnd);
+	long downloadLeaderboardEntriesForUsers(long callback, long leaderboard, long[] users, int count);
+	boolean getDownloadedLeaderboardEntry(long entries, int index, SteamLeaderboardEntry entry, int[] details, int detailsMax);
+	boolean getDownloadedLeaderboardEntry(long entries, int index, SteamLeaderboardEntry entry);
+	long uploadLeaderboardScore(long callback, long leaderboard, int method, int score, int[] scoreDetails, int scoreDetailsCount);
+	long uploadLeaderboardScore(long callback, long leaderboard, int method, int score);
+	long getNumberOfCurrentPlayers(long callback);
+	long requestGlobalStats(long callback, int historyDays);
+	boolean getGlobalStat(String name, long[] value);
+	boolean getGlobalStat(String name, double[] value);
+	int getGlobalStatHistory(String name, long[] values, int count);
+	int getGlobalStatHistory(String name, double[] values, int count);
+
+}
@@ -3,48 +3,152 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamUserStatsCallbackAdapter extends SteamCallbackAdapter<SteamUserStatsCallback> {
 
+	private static final SteamMetrics.Timer OnUserStatsReceived =
+			SteamMetrics.callback("SteamUserStatsCallback.onUserStatsReceived");
+	private static final SteamMetrics.Timer OnUserStatsStored =
+			SteamMetrics.callback("SteamUserStatsCallback.onUserStatsStored");
+	private static final SteamMetrics.Timer OnUserStatsUnloaded =
+			SteamMetrics.callback("SteamUserStatsCallback.onUserStatsUnloaded");
+	private static final SteamMetrics.Timer OnUserAchievementStored =
+			SteamMetrics.callback("SteamUserStatsCallback.onUserAchievementStored");
+	private static final SteamMetrics.Timer OnLeaderboardFindResult =
+			SteamMetrics.callback("SteamUserStatsCallback.onLeaderboardFindResult");
+	private static final SteamMetrics.Timer OnLeaderboardScoresDownloaded =
+			SteamMetrics.callback("SteamUserStatsCallback.onLeaderboardScoresDownloaded");
+	private static final SteamMetrics.Timer OnLeaderboardScoreUploaded =
+			SteamMetrics.callback("SteamUserStatsCallback.onLeaderboardScoreUploaded");
+	private static final SteamMetrics.Timer OnNumberOfCurrentPlayersReceived =
+			SteamMetrics.callback("SteamUserStatsCallback.onNumberOfCurrentPlayersReceived");
+	private static final SteamMetrics.Timer OnGlobalStatsReceived =
+			SteamMetrics.callback("SteamUserStatsCallback.onGlobalStatsReceived");
+
 	SteamUserStatsCallbackAdapter(SteamUserStatsCallback callback) {
 		super(callback);
 	}
 
 	void onUserStatsReceived(long gameId, long steamIDUser, int result) {
-		callback.onUserStatsReceived(gameId, new SteamID(steamIDUser), SteamResult.byValue(result));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onUserStatsReceived(gameId, new SteamID(steamIDUser), SteamResult.byValue(result));
+		} finally {
+			SteamMetrics.end(OnUserStatsReceived, start);
+		}
 	}
 
 	void onUserStatsStored(long gameId, int result) {
-		callback.onUserStatsStored(gameId, SteamResult.byValue(result));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onUserStatsStored(gameId, SteamResult.byValue(result));
+		} finally {
+			SteamMetrics.end(OnUserStatsStored, start);
+		}
 	}
 
 	void onUserStatsUnloaded(long steamIDUser) {
-		callback.onUserStatsUnloaded(new SteamID(steamIDUser));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onUserStatsUnloaded(new SteamID(steamIDUser));
+		} finally {
+			SteamMetrics.end(OnUserStatsUnloaded, start);
+		}
 	}
 
 	void onUserAchievementStored(long gameId, boolean isGroupAchievement, String achievementName,
 								 int curProgress, int maxProgress) {
-		callback.onUserAchievementStored(gameId, isGroupAchievement, achievementName, curProgress, maxProgress);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onUserAchievementStored(gameId, isGroupAchievement, achievementName, curProgress, maxProgress);
+		} finally {
+			SteamMetrics.end(OnUserAchievementStored, start);
+		}
 	}
 
 	void onLeaderboardFindResult(long handle, boolean found) {
-		callback.onLeaderboardFindResult(new SteamLeaderboardHandle(handle), found);
+		SteamLeaderboardHandle leaderboard = new SteamLeaderboardHandle(handle);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLeaderboardFindResult(leaderboard, found);
+		} finally {
+			SteamMetrics.end(OnLeaderboardFindResult, start);
+		}
+
+		SteamCallResult<SteamLeaderboardHandle> call = SteamCallResults.take(SteamCallbackRouter.LeaderboardFindResult);
+		if (call != null) {
+			call.succeed(found ? leaderboard : null);
+		}
 	}
 
 	void onLeaderboardScoresDownloaded(long handle, long entries, int numEntries) {
-		callback.onLeaderboardScoresDownloaded(new SteamLeaderboardHandle(handle),
-				new SteamLeaderboardEntriesHandle(entries), numEntries);
+		SteamLeaderboardHandle leaderboard = new SteamLeaderboardHandle(handle);
+		SteamLeaderboardEntriesHandle entriesHandle = new SteamLeaderboardEntriesHandle(entries);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLeaderboardScoresDownloaded(leaderboard, entriesHandle, numEntries);
+		} finally {
+			SteamMetrics.end(OnLeaderboardScoresDownloaded, start);
+		}
+
+		SteamCallResult<SteamUserStats.LeaderboardScoresDownloaded> call =
+				SteamCallResults.take(SteamCallbackRouter.LeaderboardScoresDownloaded);
+		if (call != null) {
+			call.succeed(new SteamUserStats.LeaderboardScoresDownloaded(leaderboard, entriesHandle, numEntries));
+		}
 	}
 
 	void onLeaderboardScoreUploaded(boolean success, long handle, int score, boolean changed,
 									int globalRankNew, int globalRankPrevious) {
-		callback.onLeaderboardScoreUploaded(success, new SteamLeaderboardHandle(handle), score, changed,
-				globalRankNew, globalRankPrevious);
+		SteamLeaderboardHandle leaderboard = new SteamLeaderboardHandle(handle);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onLeaderboardScoreUploaded(
+					success, leaderboard, score, changed, globalRankNew, globalRankPrevious);
+		} finally {
+			SteamMetrics.end(OnLeaderboardScoreUploaded, start);
+		}
+
+		SteamCallResult<SteamUserStats.LeaderboardScoreUploaded> call =
+				SteamCallResults.take(SteamCallbackRouter.LeaderboardScoreUploaded);
+		if (call != null) {
+			if (success) {
+				call.succeed(new SteamUserStats.LeaderboardScoreUploaded(leaderboard, score, changed,
+						globalRankNew, globalRankPrevious));
+			} else {
+				call.fail(new SteamException("Failed to upload leaderboard score."));
+			}
+		}
 	}
 
 	void onNumberOfCurrentPlayersReceived(boolean success, int players) {
-		callback.onNumberOfCurrentPlayersReceived(success, players);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onNumberOfCurrentPlayersReceived(success, players);
+		} finally {
+			SteamMetrics.end(OnNumberOfCurrentPlayersReceived, start);
+		}
+
+		SteamCallResult<Integer> call = SteamCallResults.take(SteamCallbackRouter.NumberOfCurrentPlayers);
+		if (call != null) {
+			if (success) {
+				call.succeed(players);
+			} else {
+				call.fail(new SteamException("Failed to get number of current players."));
+			}
+		}
 	}
 
 	void onGlobalStatsReceived(long gameId, int result) {
-		callback.onGlobalStatsReceived(gameId, SteamResult.byValue(result));
+		SteamResult steamResult = SteamResult.byValue(result);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onGlobalStatsReceived(gameId, steamResult);
+		} finally {
+			SteamMetrics.end(OnGlobalStatsReceived, start);
+		}
+
+		SteamCallResult<Long> call = SteamCallResults.take(SteamCallbackRouter.GlobalStatsReceived);
+		if (call != null) {
+			call.succeedIfOK(steamResult, gameId, "Failed to request global stats");
+		}
 	}
 
 }
@@ -43,6 +43,42 @@ public class SteamUtils extends SteamInterface {
 		ModeNumeric,
 	}
 
+	private static final SteamMetrics.Timer GetSecondsSinceAppActive =
+			SteamMetrics.nativeCall("SteamUtils.getSecondsSinceAppActive");
+	private static final SteamMetrics.Timer GetSecondsSinceComputerActive =
+			SteamMetrics.nativeCall("SteamUtils.getSecondsSinceComputerActive");
+	private static final SteamMetrics.Timer GetConnectedUniverse =
+			SteamMetrics.nativeCall("SteamUtils.getConnectedUniverse");
+	private static final SteamMetrics.Timer GetServerRealTime = SteamMetrics.nativeCall("SteamUtils.getServerRealTime");
+	private static final SteamMetrics.Timer GetImageWidth = SteamMetrics.nativeCall("SteamUtils.getImageWidth");
+	private static final SteamMetrics.Timer GetImageHeight = SteamMetrics.nativeCall("SteamUtils.getImageHeight");
+	private static final SteamMetrics.Timer GetImageSize = SteamMetrics.nativeCall("SteamUtils.getImageSize");
+	private static final SteamMetrics.Timer GetImageRGBA = SteamMetrics.nativeCall("SteamUtils.getImageRGBA");
+	private static final SteamMetrics.Timer GetAppID = SteamMetrics.nativeCall("SteamUtils.getAppID");
+	private static final SteamMetrics.Timer SetOverlayNotificationPosition =
+			SteamMetrics.nativeCall("SteamUtils.setOverlayNotificationPosition");
+	private static final SteamMetrics.Timer IsAPICallCompleted =
+			SteamMetrics.nativeCall("SteamUtils.isAPICallCompleted");
+	private static final SteamMetrics.Timer GetAPICallFailureReason =
+			SteamMetrics.nativeCall("SteamUtils.getAPICallFailureReason");
+	private static final SteamMetrics.Timer SetWarningMessageHook =
+			SteamMetrics.nativeCall("SteamUtils.setWarningMessageHook");
+	private static final SteamMetrics.Timer IsOverlayEnabled = SteamMetrics.nativeCall("SteamUtils.isOverlayEnabled");
+	private static final SteamMetrics.Timer IsSteamInBigPictureMode =
+			SteamMetrics.nativeCall("SteamUtils.isSteamInBigPictureMode");
+	private static final SteamMetrics.Timer IsSteamChinaLauncher =
+			SteamMetrics.nativeCall("SteamUtils.isSteamChinaLauncher");
+	private static final SteamMetrics.Timer IsSteamRunningOnSteamDeck =
+			SteamMetrics.nativeCall("SteamUtils.isSteamRunningOnSteamDeck");
+	private static final SteamMetrics.Timer ShowFloatingGamepadTextInput =
+			SteamMetrics.nativeCall("SteamUtils.showFloatingGamepadTextInput");
+	private static final SteamMetrics.Timer SetGameLauncherMode =
+			SteamMetrics.nativeCall("SteamUtils.setGameLauncherMode");
+	private static final SteamMetrics.Timer DismissFloatingGamepadTextInput =
+			SteamMetrics.nativeCall("SteamUtils.dismissFloatingGamepadTextInput");
+	private static final SteamMetrics.Timer DismissGamepadTextInput =
+			SteamMetrics.nativeCall("SteamUtils.dismissGamepadTextInput");
+
 	private final SteamUtilsCallbackAdapter callbackAdapter;
 
 	public SteamUtils(SteamUtilsCallback callback) {
@@ -51,92 +87,152 @@ public class SteamUtils extends SteamInterface {
 	}
 
 	public int getSecondsSinceAppActive() {
-		return SteamUtilsNative.getSecondsSinceAppActive();
+		long start = SteamMetrics.begin();
+		int result = SteamUtilsNative.getSecondsSinceAppActive();
+		SteamMetrics.end(GetSecondsSinceAppActive, start);
+		return result;
 	}
 
 	public int getSecondsSinceComputerActive() {
-		return SteamUtilsNative.getSecondsSinceComputerActive();
+		long start = SteamMetrics.begin();
+		int result = SteamUtilsNative.getSecondsSinceComputerActive();
+		SteamMetrics.end(GetSecondsSinceComputerActive, start);
+		return result;
 	}
 
 	public SteamUniverse getConnectedUniverse() {
-		return SteamUniverse.byValue(SteamUtilsNative.getConnectedUniverse());
+		long start = SteamMetrics.begin();
+		int result = SteamUtilsNative.getConnectedUniverse();
+		SteamMetrics.end(GetConnectedUniverse, start);
+		return SteamUniverse.byValue(result);
 	}
 
 	public int getServerRealTime() {
-		return SteamUtilsNative.getServerRealTime();
+		long start = SteamMetrics.begin();
+		int result = SteamUtilsNative.getServerRealTime();
+		SteamMetrics.end(GetServerRealTime, start);
+		return result;
 	}
 
 	public int getImageWidth(int image) {
-		return SteamUtilsNative.getImageWidth(image);
+		long start = SteamMetrics.begin();
+		int result = SteamUtilsNative.getImageWidth(image);
+		SteamMetrics.end(GetImageWidth, start);
+		return result;
 	}
 
 	public int getImageHeight(int image) {
-		return SteamUtilsNative.getImageHeight(image);
+		long start = SteamMetrics.begin();
+		int result = SteamUtilsNative.getImageHeight(image);
+		SteamMetrics.end(GetImageHeight, start);
+		return result;
 	}
 
 	public boolean getImageSize(int image, int[] size) {
-		return SteamUtilsNative.getImageSize(image, size);
+		long start = SteamMetrics.begin();
+		boolean result = SteamUtilsNative.getImageSize(image, size);
+		SteamMetrics.end(GetImageSize, start);
+		return result;
 	}
 
 	public boolean getImageRGBA(int image, ByteBuffer dest) throws SteamException {
 		checkBuffer(dest);
-		return SteamUtilsNative.getImageRGBA(image, dest, dest.position(), dest.remaining());
+		long start = SteamMetrics.begin();
+		boolean result = SteamUtilsNative.getImageRGBA(image, dest, dest.position(), dest.remaining());
+		SteamMetrics.end(GetImageRGBA, start);
+		return result;
 	}
 
 	public int getAppID() {
-		return SteamUtilsNative.getAppID();
+		long start = SteamMetrics.begin();
+		int result = SteamUtilsNative.getAppID();
+		SteamMetrics.end(GetAppID, start);
+		return result;
 	}
 
 	public void setOverlayNotificationPosition(NotificationPosition position) {
+		long start = SteamMetrics.begin();
 		SteamUtilsNative.setOverlayNotificationPosition(position.ordinal());
+		SteamMetrics.end(SetOverlayNotificationPosition, start);
 	}
 
 	public boolean isAPICallCompleted(SteamAPICall handle, boolean[] result) {
-		return SteamUtilsNative.isAPICallCompleted(handle.handle, result);
+		long start = SteamMetrics.begin();
+		boolean value = SteamUtilsNative.isAPICallCompleted(handle.handle, result);
+		SteamMetrics.end(IsAPICallCompleted, start);
+		return value;
 	}
 
 	public SteamAPICallFailure getAPICallFailureReason(SteamAPICall handle) {
-		return SteamAPICallFailure.byValue(SteamUtilsNative.getAPICallFailureReason(handle.handle));
+		long start = SteamMetrics.begin();
+		int result = SteamUtilsNative.getAPICallFailureReason(handle.handle);
+		SteamMetrics.end(GetAPICallFailureReason, start);
+		return SteamAPICallFailure.byValue(result);
 	}
 
 	public void setWarningMessageHook(SteamAPIWarningMessageHook messageHook) {
 		callbackAdapter.setWarningMessageHook(messageHook);
+		long start = SteamMetrics.begin();
 		SteamUtilsNative.enableWarningMessageHook(this.callback, messageHook != null);
+		SteamMetrics.end(SetWarningMessageHook, start);
 	}
 
 	public boolean isOverlayEnabled() {
-		return SteamUtilsNative.isOverlayEnabled();
+		long start = SteamMetrics.begin();
+		boolean result = SteamUtilsNative.isOverlayEnabled();
+		SteamMetrics.end(IsOverlayEnabled, start);
+		return result;
 	}
 
 	public boolean isSteamInBigPictureMode() {
-		return SteamUtilsNative.isSteamInBigPictureMode();
+		long start = SteamMetrics.begin();
+		boolean result = SteamUtilsNative.isSteamInBigPictureMode();
+		SteamMetrics.end(IsSteamInBigPictureMode, start);
+		return result;
 	}
 
 	public boolean isSteamChinaLauncher() {
-		return SteamUtilsNative.isSteamChinaLauncher();
+		long start = SteamMetrics.begin();
+		boolean result = SteamUtilsNative.isSteamChinaLauncher();
+		SteamMetrics.end(IsSteamChinaLauncher, start);
+		return result;
 	}
 
 	public boolean isSteamRunningOnSteamDeck() {
-		return SteamUtilsNative.isSteamRunningOnSteamDeck();
+		long start = SteamMetrics.begin();
+		boolean result = SteamUtilsNative.isSteamRunningOnSteamDeck();
+		SteamMetrics.end(IsSteamRunningOnSteamDeck, start);
+		return result;
 	}
 
 	public boolean showFloatingGamepadTextInput(FloatingGamepadTextInputMode keyboardMode,
 												int textFieldXPosition, int textFieldYPosition,
 												int textFieldWidth, int textFieldHeight) {
-		return SteamUtilsNative.showFloatingGamepadTextInput(keyboardMode.ordinal(),
+		long start = SteamMetrics.begin();
+		boolean result = SteamUtilsNative.showFloatingGamepadTextInput(keyboardMode.ordinal(),
 				textFieldXPosition, textFieldYPosition, textFieldWidth, textFieldHeight);
+		SteamMetrics.end(ShowFloatingGamepadTextInput, start);
+		return result;
 	}
 
 	public void setGameLauncherMode(boolean isLauncherMode) {
+		long start = SteamMetrics.begin();
 		SteamUtilsNative.setGameLauncherMode(isLauncherMode);
+		SteamMetrics.end(SetGameLauncherMode, start);
 	}
 
 	public boolean dismissFloatingGamepadTextInput() {
-		return SteamUtilsNative.dismissFloatingGamepadTextInput();
+		long start = SteamMetrics.begin();
+		boolean result = SteamUtilsNative.dismissFloatingGamepadTextInput();
+		SteamMetrics.end(DismissFloatingGamepadTextInput, start);
+		return result;
 	}
 
 	public boolean dismissGamepadTextInput() {
-		return SteamUtilsNative.dismissGamepadTextInput();
+		long start = SteamMetrics.begin();
+		boolean result = SteamUtilsNative.dismissGamepadTextInput();
+		SteamMetrics.end(DismissGamepadTextInput, start);
+		return result;
 	}
 
 }
@@ -3,6 +3,11 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamUtilsCallbackAdapter extends SteamCallbackAdapter<SteamUtilsCallback> {
 
+	private static final SteamMetrics.Timer OnSteamShutdown =
+			SteamMetrics.callback("SteamUtilsCallback.onSteamShutdown");
+	private static final SteamMetrics.Timer OnFloatingGamepadTextInputDismissed =
+			SteamMetrics.callback("SteamUtilsCallback.onFloatingGamepadTextInputDismissed");
+
 	private SteamAPIWarningMessageHook messageHook;
 
 	SteamUtilsCallbackAdapter(SteamUtilsCallback callback) {
@@ -20,11 +25,21 @@ class SteamUtilsCallbackAdapter extends SteamCallbackAdapter<SteamUtilsCallback>
 	}
 
 	void onSteamShutdown() {
-		callback.onSteamShutdown();
+		long start = SteamMetrics.begin();
+		try {
+			callback.onSteamShutdown();
+		} finally {
+			SteamMetrics.end(OnSteamShutdown, start);
+		}
 	}
 
 	void onFloatingGamepadTextInputDismissed() {
-		callback.onFloatingGamepadTextInputDismissed();
+		long start = SteamMetrics.begin();
+		try {
+			callback.onFloatingGamepadTextInputDismissed();
+		} finally {
+			SteamMetrics.end(OnFloatingGamepadTextInputDismissed, start);
+		}
 	}
 
 }
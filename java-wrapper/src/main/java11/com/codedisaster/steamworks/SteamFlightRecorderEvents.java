@@ -0,0 +1,174 @@
+package com.codedisaster.steamworks;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Java 11 version of the JFR event factory, see {@link SteamFlightRecorder}.
+ */
+final class SteamFlightRecorderEvents {
+
+	static boolean isSupported() {
+		return true;
+	}
+
+	/**
+	 * Upper limit of API calls waiting for their result, to not leak memory if results are never
+	 * reported, e.g. because the call was issued before shutting down.
+	 */
+	private static final int MaxPendingAPICalls = 4096;
+
+	@Name("steamworks4j.NativeCall")
+	@Label("Steam Native Call")
+	@Category("Steamworks")
+	@Description("Native Steam API call which took longer than the threshold")
+	static final class NativeCall extends Event {
+
+		@Label("Method")
+		String method;
+
+		@Label("Call Duration")
+		@Timespan
+		long callDuration;
+	}
+
+	@Name("steamworks4j.RunCallbacks")
+	@Label("Steam Run Callbacks")
+	@Category("Steamworks")
+	@Description("Call to SteamAPI.runCallbacks() or SteamGameServerAPI.runCallbacks()")
+	@StackTrace(false)
+	static final class RunCallbacks extends Event {
+
+		@Label("Game Server")
+		boolean gameServer;
+	}
+
+	@Name("steamworks4j.Callback")
+	@Label("Steam Callback")
+	@Category("Steamworks")
+	@Description("Callback delivered to an application callback interface")
+	@StackTrace(false)
+	static final class Callback extends Event {
+
+		@Label("Callback")
+		String callback;
+
+		@Label("Call Duration")
+		@Timespan
+		long callDuration;
+	}
+
+	@Name("steamworks4j.Networking")
+	@Label("Steam Networking")
+	@Category("Steamworks")
+	@Description("Messages sent or received by SteamNetworking or SteamNetworkingSockets")
+	@StackTrace(false)
+	static final class Networking extends Event {
+
+		@Label("Operation")
+		String operation;
+
+		@Label("Messages")
+		int messages;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+	}
+
+	@Name("steamworks4j.APICall")
+	@Label("Steam API Call")
+	@Category("Steamworks")
+	@Description("Asynchronous Steam API call, from issue to result")
+	@StackTrace(false)
+	static final class APICall extends Event {
+
+		@Label("Handle")
+		long apiCall;
+
+		@Label("I/O Failure")
+		boolean ioFailure;
+	}
+
+	private static final Map<Long, APICall> pendingAPICalls = new ConcurrentHashMap<>();
+
+	static void nativeCall(String method, long nanos) {
+		NativeCall event = new NativeCall();
+		if (event.isEnabled()) {
+			event.method = method;
+			event.callDuration = nanos;
+			event.commit();
+		}
+	}
+
+	static Object beginRunCallbacks() {
+		RunCallbacks event = new RunCallbacks();
+		event.begin();
+		return event;
+	}
+
+	static void endRunCallbacks(Object event, boolean gameServer) {
+		RunCallbacks runCallbacks = (RunCallbacks) event;
+		runCallbacks.end();
+		if (runCallbacks.shouldCommit()) {
+			runCallbacks.gameServer = gameServer;
+			runCallbacks.commit();
+		}
+	}
+
+	static void callback(String callback, long nanos) {
+		Callback event = new Callback();
+		if (event.isEnabled()) {
+			event.callback = callback;
+			event.callDuration = nanos;
+			event.commit();
+		}
+	}
+
+	static Object beginNetworking() {
+		Networking event = new Networking();
+		event.begin();
+		return event;
+	}
+
+	static void endNetworking(Object event, String operation, int messages, long bytes) {
+		Networking networking = (Networking) event;
+		networking.end();
+		if (networking.shouldCommit()) {
+			networking.operation = operation;
+			networking.messages = messages;
+			networking.bytes = bytes;
+			networking.commit();
+		}
+	}
+
+	static void apiCallIssued(long apiCall) {
+		APICall event = new APICall();
+		if (event.isEnabled() && pendingAPICalls.size() < MaxPendingAPICalls) {
+			event.apiCall = apiCall;
+			event.begin();
+			pendingAPICalls.put(apiCall, event);
+		}
+	}
+
+	static void apiCallCompleted(long apiCall, boolean ioFailure) {
+		APICall event = pendingAPICalls.remove(apiCall);
+		if (event != null) {
+			event.end();
+			if (event.shouldCommit()) {
+				event.ioFailure = ioFailure;
+				event.commit();
+			}
+		}
+	}
+
+}
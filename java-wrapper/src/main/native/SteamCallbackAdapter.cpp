@@ -1,81 +1,245 @@
 #include "SteamCallbackAdapter.h"
+#include "SteamCallbackQueue.h"
+#include "SteamJavaClasses.h"
+
+#include <atomic>
+
+#ifdef WINDOWS
+	#include <windows.h>
+	#include <mutex>
+#else
+	#include <pthread.h>
+#endif
+
+jclass SteamCallbackAdapter::s_exceptionClass = 0;
+
+static std::atomic<jlong> s_threadAttachCount(0);
+
+#ifdef WINDOWS
+
+static DWORD s_threadExitHook = FLS_OUT_OF_INDEXES;
+
+static void WINAPI onThreadExit(void* vm) {
+	if (vm != nullptr) {
+		((JavaVM*) vm)->DetachCurrentThread();
+	}
+}
+
+static void registerThreadExitHook(JavaVM* vm) {
+	static std::once_flag once;
+	std::call_once(once, [] { s_threadExitHook = FlsAlloc(onThreadExit); });
+	FlsSetValue(s_threadExitHook, vm);
+}
+
+#else
+
+static pthread_key_t s_threadExitHook;
+static pthread_once_t s_threadExitHookOnce = PTHREAD_ONCE_INIT;
+
+static void onThreadExit(void* vm) {
+	((JavaVM*) vm)->DetachCurrentThread();
+}
+
+static void createThreadExitHook() {
+	pthread_key_create(&s_threadExitHook, onThreadExit);
+}
+
+static void registerThreadExitHook(JavaVM* vm) {
+	pthread_once(&s_threadExitHookOnce, createThreadExitHook);
+	pthread_setspecific(s_threadExitHook, vm);
+}
+
+#endif
 
 SteamCallbackAdapter::SteamCallbackAdapter(JNIEnv* env, jobject callback) {
 	env->GetJavaVM(&m_vm);
 	m_callback = env->NewGlobalRef(callback);
 	m_callbackClass = 0;
+	m_adapterID = resolveAdapterID(env, callback);
+	m_apiCall = k_uAPICallInvalid;
+	m_ioFailure = false;
+	resolveExceptionClass(env);
 }
 
 SteamCallbackAdapter::SteamCallbackAdapter(JNIEnv* env, jclass callbackClass) {
 	env->GetJavaVM(&m_vm);
 	m_callback = 0;
 	m_callbackClass = callbackClass;
+	m_adapterID = 0;
+	m_apiCall = k_uAPICallInvalid;
+	m_ioFailure = false;
+	resolveExceptionClass(env);
 }
 
 SteamCallbackAdapter::~SteamCallbackAdapter() {
+	for (size_t i = 0; i < m_callResults.size(); i++) {
+		delete m_callResults[i];
+	}
+
     if (m_callback != 0) {
-        JNIEnv* env;
-        bool attached = attachThread(&env);
+        JNIEnv* env = attachThread();
         env->DeleteGlobalRef(m_callback);
-        if (attached) {
-            detachThread();
-        }
     }
 }
 
+jlong SteamCallbackAdapter::getThreadAttachCount() {
+	return s_threadAttachCount;
+}
+
 void SteamCallbackAdapter::attach(SteamInvokeCallbackFunction fn) const {
-    JNIEnv* env;
-    bool attached = attachThread(&env);
-    fn(env);
-    if (attached) {
-        detachThread();
-    }
+    fn(attachThread());
 }
 
-bool SteamCallbackAdapter::attachThread(JNIEnv** env) const {
-    jint status = m_vm->GetEnv((void**) env, JNI_VERSION_1_6);
-    if (status == JNI_EDETACHED) {
-    	m_vm->AttachCurrentThread((void**) env, NULL);
-    	return true;
-    }
-    return false;
+JNIEnv* SteamCallbackAdapter::attachThread() const {
+	JNIEnv* env;
+	if (m_vm->GetEnv((void**) &env, JNI_VERSION_1_6) == JNI_EDETACHED) {
+		// Steam's service threads are attached once, as daemons so they don't keep the JVM
+		// alive, and are detached by the thread exit hook
+		m_vm->AttachCurrentThreadAsDaemon((void**) &env, NULL);
+		s_threadAttachCount++;
+		registerThreadExitHook(m_vm);
+	}
+	return env;
 }
 
-void SteamCallbackAdapter::detachThread() const {
-	m_vm->DetachCurrentThread();
+void SteamCallbackAdapter::resolveExceptionClass(JNIEnv* env) {
+	if (s_exceptionClass == 0) {
+		jclass ex = env->FindClass("com/codedisaster/steamworks/SteamException");
+		s_exceptionClass = (jclass) env->NewGlobalRef(ex);
+		env->DeleteLocalRef(ex);
+	}
 }
 
-void SteamCallbackAdapter::callVoidMethod(JNIEnv* env, const char* method, const char* signature, ...) const {
+jint SteamCallbackAdapter::resolveAdapterID(JNIEnv* env, jobject callback) {
+	// the matchmaking response proxies don't derive from SteamCallbackAdapter, and always call directly
+	const SteamJavaClasses::CallbackAdapter& adapter = SteamJavaClasses::callbackAdapter;
+	if (!env->IsInstanceOf(callback, adapter.clazz)) {
+		return 0;
+	}
+	return env->GetIntField(callback, adapter.id);
+}
+
+jmethodID SteamCallbackAdapter::resolveMethod(JNIEnv* env, const char* method, const char* signature) {
 	jclass clazz = env->GetObjectClass(m_callback);
-	jclass ex = env->FindClass("com/codedisaster/steamworks/SteamException");
 	if (clazz == 0) {
-	    env->ThrowNew(ex, "Couldn't retrieve class for callback object.");
-	} else {
-		jmethodID methodID = env->GetMethodID(clazz, method, signature);
-		if (methodID == 0) {
-    	    env->ThrowNew(ex, "Couldn't retrieve callback method.");
-		} else {
-			va_list args;
-			va_start(args, signature);
-			env->CallVoidMethodV(m_callback, methodID, args);
-			va_end(args);
+	    env->ThrowNew(s_exceptionClass, "Couldn't retrieve class for callback object.");
+		return 0;
+	}
+
+	jmethodID methodID = env->GetMethodID(clazz, method, signature);
+	env->DeleteLocalRef(clazz);
+
+	if (methodID == 0) {
+		// GetMethodID() leaves a NoSuchMethodError pending, replace it with our own exception
+		env->ExceptionClear();
+	    env->ThrowNew(s_exceptionClass, "Couldn't retrieve callback method.");
+		return methodID;
+	}
+
+	jint size = SteamCallbackQueue::recordSize(signature);
+	if (m_adapterID != 0 && size > 0) {
+		jint index = (jint) m_queuedMethods.size();
+		m_queuedMethods.push_back({methodID, signature, size});
+
+		jstring name = env->NewStringUTF(method);
+		jstring sig = env->NewStringUTF(signature);
+		env->CallVoidMethod(m_callback, SteamJavaClasses::callbackAdapter.registerQueuedMethod, index, name, sig);
+		env->DeleteLocalRef(name);
+		env->DeleteLocalRef(sig);
+	}
+
+	return methodID;
+}
+
+void SteamCallbackAdapter::callVoidMethod(JNIEnv* env, jmethodID methodID, ...) const {
+	if (methodID == 0) {
+		return;
+	}
+
+	va_list args;
+
+	if (m_adapterID != 0 && SteamCallbackQueue::isEnabled()) {
+		va_start(args, methodID);
+		bool queued = queueMethod(methodID, args);
+		va_end(args);
+		if (queued) {
+			return;
+		}
 
-			jthrowable ex = env->ExceptionOccurred();
-			if (ex != NULL) {
-				env->ExceptionDescribe();
-				env->ExceptionClear();
-				env->DeleteLocalRef(ex);
+		// a direct upcall must not overtake the records queued before, so dispatch them first,
+		// which also makes room to queue this callback if the buffer was full
+		if (flushQueue(env)) {
+			va_start(args, methodID);
+			queued = queueMethod(methodID, args);
+			va_end(args);
+			if (queued) {
+				return;
 			}
 		}
-		env->DeleteLocalRef(clazz);
 	}
+
+	va_start(args, methodID);
+	callMethod(env, methodID, args);
+	va_end(args);
+}
+
+void SteamCallbackAdapter::callMethod(JNIEnv* env, jmethodID methodID, va_list args) const {
+	const SteamJavaClasses::CallResults& callResults = SteamJavaClasses::callResults;
+
+	// tells SteamCallResults which call this result belongs to
+	if (m_apiCall != k_uAPICallInvalid) {
+		env->CallStaticVoidMethod(callResults.clazz, callResults.beginDispatch, (jlong) m_apiCall, (jboolean) m_ioFailure);
+	}
+
+	env->CallVoidMethodV(m_callback, methodID, args);
+
+	jthrowable ex = env->ExceptionOccurred();
+	if (ex != NULL) {
+		env->ExceptionDescribe();
+		env->ExceptionClear();
+		env->DeleteLocalRef(ex);
+	}
+
+	if (m_apiCall != k_uAPICallInvalid) {
+		env->CallStaticVoidMethod(callResults.clazz, callResults.endNativeDispatch);
+	}
+}
+
+bool SteamCallbackAdapter::queueMethod(jmethodID methodID, va_list args) const {
+	for (size_t index = 0; index < m_queuedMethods.size(); index++) {
+		const QueuedMethod& method = m_queuedMethods[index];
+		if (method.methodID == methodID) {
+			return SteamCallbackQueue::write(m_adapterID, (jint) index, (jlong) m_apiCall, m_ioFailure,
+											 method.signature.c_str(), method.size, args);
+		}
+	}
+	return false;
+}
+
+bool SteamCallbackAdapter::flushQueue(JNIEnv* env) const {
+	// records written by other threads are dispatched with the next SteamAPI.runCallbacks()
+	if (!SteamCallbackQueue::isDispatching() || SteamCallbackQueue::consume(0) == 0) {
+		return false;
+	}
+
+	const SteamJavaClasses::CallbackQueue& queue = SteamJavaClasses::callbackQueue;
+	env->CallStaticVoidMethod(queue.clazz, queue.flush);
+
+	jthrowable ex = env->ExceptionOccurred();
+	if (ex != NULL) {
+		env->ExceptionDescribe();
+		env->ExceptionClear();
+		env->DeleteLocalRef(ex);
+	}
+
+	return true;
 }
 
 void SteamCallbackAdapter::callStaticVoidMethod(JNIEnv* env, const char* method, const char* signature, ...) const {
 	jmethodID methodID = env->GetStaticMethodID(m_callbackClass, method, signature);
-	jclass ex = env->FindClass("com/codedisaster/steamworks/SteamException");
 	if (methodID == 0) {
-	    env->ThrowNew(ex, "Couldn't retrieve static callback method.");
+		env->ExceptionClear();
+	    env->ThrowNew(s_exceptionClass, "Couldn't retrieve static callback method.");
 	} else {
 		va_list args;
 		va_start(args, signature);
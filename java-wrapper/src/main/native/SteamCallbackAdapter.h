@@ -1,6 +1,10 @@
 #pragma once
 
+#include "SteamManualDispatch.h"
 #include <jni.h>
+#include <steam_api.h>
+#include <string>
+#include <vector>
 
 #ifdef MACOSX
 
@@ -12,9 +16,8 @@
     */
 
     #define invokeCallback(fn) \
-        JNIEnv* env; bool attached = attachThread(&env); \
-        fn \
-        if (attached) detachThread();
+        JNIEnv* env = attachThread(); \
+        fn
 
     // dummy function pointer type to please the compiler, this workaround doesn't call attach()
     typedef void (* SteamInvokeCallbackFunction) (JNIEnv* env);
@@ -27,29 +30,145 @@
 
 #endif
 
+/**
+	Type-erased base of SteamPendingCallResult, so callback adapters can keep a list of them.
+*/
+class SteamPendingCallResultBase {
+
+public:
+	virtual ~SteamPendingCallResultBase() {}
+	virtual bool isPending() const = 0;
+
+};
+
 class SteamCallbackAdapter {
 
 public:
     virtual ~SteamCallbackAdapter();
 
+	/**
+		Number of times a native thread has been attached to the JVM to dispatch a callback.
+		Threads stay attached until they exit, so this should stay low and stable.
+	*/
+	static jlong getThreadAttachCount();
+
+	/**
+		SteamCallbackAdapter.id of the Java callback adapter, or 0 if it isn't dispatched through the queue.
+	*/
+	jint getAdapterID() const { return m_adapterID; }
+
 protected:
     SteamCallbackAdapter(JNIEnv* env, jobject callback);
     SteamCallbackAdapter(JNIEnv* env, jclass callbackClass);
 
     void attach(SteamInvokeCallbackFunction fn) const;
 
-	void callVoidMethod(JNIEnv* env, const char* method, const char* signature, ...) const;
+	/**
+		Looks up a method of the Java callback adapter. Subclasses call this once per callback
+		in their constructor and keep the result, so dispatching a callback doesn't need to
+		query class and method IDs again.
+
+		Methods with only primitive arguments are also registered with the Java adapter, so
+		they can be written to the SteamCallbackQueue instead of being called directly.
+	*/
+	jmethodID resolveMethod(JNIEnv* env, const char* method, const char* signature);
+
+	/**
+		Registers a call result handler for one API call. Unlike a CCallResult member, which only tracks
+		the call set last, each call gets its own CCallResult, so any number of calls of the same type
+		can be in flight. The handle of the call is passed on to Java with the callback.
+	*/
+	template<class T, class P> void setCallResult(SteamAPICall_t handle, T* adapter, void (T::*method)(P*, bool));
+
+	void callVoidMethod(JNIEnv* env, jmethodID methodID, ...) const;
 	void callStaticVoidMethod(JNIEnv* env, const char* method, const char* signature, ...) const;
 
 #ifndef MACOSX
 private:
 #endif
-	bool attachThread(JNIEnv** env) const;
-	void detachThread() const;
+	JNIEnv* attachThread() const;
 
 private:
+	template<class T, class P> friend class SteamPendingCallResult;
+
+	struct QueuedMethod {
+		jmethodID methodID;
+		std::string signature;
+		jint size;
+	};
+
+	static void resolveExceptionClass(JNIEnv* env);
+	static jint resolveAdapterID(JNIEnv* env, jobject callback);
+
+	bool queueMethod(jmethodID methodID, va_list args) const;
+	bool flushQueue(JNIEnv* env) const;
+	void callMethod(JNIEnv* env, jmethodID methodID, va_list args) const;
+
+	static jclass s_exceptionClass;
+
+	jint m_adapterID;
+	std::vector<QueuedMethod> m_queuedMethods;
+
+	std::vector<SteamPendingCallResultBase*> m_callResults;
+
+	// handle of the call result being dispatched, or 0 for other callbacks
+	SteamAPICall_t m_apiCall;
+	bool m_ioFailure;
+
     JavaVM* m_vm;
     jobject m_callback;
 	jclass m_callbackClass;
 
 };
+
+/**
+	One CCallResult per API call, owned by the callback adapter which issued the call.
+*/
+template<class T, class P> class SteamPendingCallResult : public SteamPendingCallResultBase {
+
+public:
+	SteamPendingCallResult(SteamAPICall_t handle, T* adapter, void (T::*method)(P*, bool))
+		: m_handle(handle), m_adapter(adapter), m_method(method) {
+		m_callResult.Set(handle, this, &SteamPendingCallResult::onResult);
+	}
+
+	bool isPending() const {
+		return m_callResult.IsActive();
+	}
+
+private:
+	void onResult(P* result, bool ioFailure) {
+		// CCallResult is inactive from here on, and deleted by the adapter with the next call
+		m_adapter->m_apiCall = m_handle;
+		m_adapter->m_ioFailure = ioFailure;
+		(m_adapter->*m_method)(result, ioFailure);
+		m_adapter->m_apiCall = k_uAPICallInvalid;
+	}
+
+	SteamAPICall_t m_handle;
+	T* m_adapter;
+	void (T::*m_method)(P*, bool);
+	CCallResult<SteamPendingCallResult, P> m_callResult;
+
+};
+
+template<class T, class P> void SteamCallbackAdapter::setCallResult(SteamAPICall_t handle, T* adapter,
+																	void (T::*method)(P*, bool)) {
+	// with manual dispatch, results are routed by handle from the dispatch loop instead
+	if (handle == k_uAPICallInvalid || SteamManualDispatch::isEnabled()) {
+		return;
+	}
+
+	// completed results can't be deleted from their own callback, so they are swept here instead
+	for (size_t i = 0; i < m_callResults.size(); ) {
+		if (!m_callResults[i]->isPending()) {
+			delete m_callResults[i];
+			m_callResults[i] = m_callResults.back();
+			m_callResults.pop_back();
+		} else {
+			i++;
+		}
+	}
+
+	m_callResults.push_back(new SteamPendingCallResult<T, P>(handle, adapter, method));
+}
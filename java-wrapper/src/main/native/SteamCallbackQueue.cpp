@@ -0,0 +1,120 @@
+#include "SteamCallbackQueue.h"
+
+#include <atomic>
+#include <mutex>
+#include <string.h>
+
+static std::mutex s_mutex;
+static std::atomic<bool> s_enabled(false);
+static thread_local bool s_dispatching = false;
+
+static unsigned char* s_buffer = nullptr;
+static jlong s_capacity = 0;
+static jlong s_position = 0;
+
+void SteamCallbackQueue::setBuffer(void* address, jlong capacity) {
+	std::lock_guard<std::mutex> lock(s_mutex);
+	s_buffer = (unsigned char*) address;
+	s_capacity = address != nullptr ? capacity : 0;
+	s_position = 0;
+	s_enabled = address != nullptr;
+}
+
+bool SteamCallbackQueue::isEnabled() {
+	return s_enabled;
+}
+
+void SteamCallbackQueue::setDispatching(bool dispatching) {
+	s_dispatching = dispatching;
+}
+
+bool SteamCallbackQueue::isDispatching() {
+	return s_dispatching;
+}
+
+jint SteamCallbackQueue::recordSize(const char* signature) {
+	if (*signature++ != '(') {
+		return 0;
+	}
+
+	jint size = HeaderSize;
+
+	for (; *signature != ')'; signature++) {
+		switch (*signature) {
+			case 'Z':
+			case 'B':
+			case 'C':
+			case 'S':
+			case 'I':
+			case 'F':
+				size += 4;
+				break;
+			case 'J':
+			case 'D':
+				size += 8;
+				break;
+			default:
+				return 0;
+		}
+	}
+
+	return signature[1] == 'V' ? size : 0;
+}
+
+template<typename T> static void put(unsigned char*& dst, T value) {
+	memcpy(dst, &value, sizeof(T));
+	dst += sizeof(T);
+}
+
+bool SteamCallbackQueue::write(jint adapterID, jint methodIndex, jlong apiCall, bool ioFailure,
+							   const char* signature, jint size, va_list args) {
+	std::lock_guard<std::mutex> lock(s_mutex);
+
+	if (s_buffer == nullptr || s_position + size > s_capacity) {
+		return false;
+	}
+
+	unsigned char* dst = s_buffer + s_position;
+	put<jint>(dst, size);
+	put<jint>(dst, adapterID);
+	put<jint>(dst, methodIndex);
+	put<jint>(dst, ioFailure ? 1 : 0);
+	put<jlong>(dst, apiCall);
+
+	// arguments are subject to default argument promotion when passed through '...'
+	for (signature++; *signature != ')'; signature++) {
+		switch (*signature) {
+			case 'J':
+				put<jlong>(dst, va_arg(args, jlong));
+				break;
+			case 'D':
+				put<jdouble>(dst, va_arg(args, jdouble));
+				break;
+			case 'F':
+				put<jfloat>(dst, (jfloat) va_arg(args, jdouble));
+				break;
+			default:
+				put<jint>(dst, va_arg(args, jint));
+				break;
+		}
+	}
+
+	s_position += size;
+	return true;
+}
+
+jint SteamCallbackQueue::consume(jint consumed) {
+	std::lock_guard<std::mutex> lock(s_mutex);
+
+	if (s_buffer == nullptr) {
+		return 0;
+	}
+
+	if (consumed > 0) {
+		// records may have been added by other threads since the last call
+		memmove(s_buffer, s_buffer + consumed, (size_t) (s_position - consumed));
+		s_position -= consumed;
+	}
+
+	return (jint) s_position;
+}
@@ -0,0 +1,59 @@
+#pragma once
+
+#include <jni.h>
+#include <stdarg.h>
+
+/**
+	Native side of the batched callback mode.
+
+	While a buffer is attached, SteamCallbackAdapter::callVoidMethod() doesn't call into Java, but
+	appends a record to this queue instead. Each record is laid out in native byte order:
+
+		int32 size			total size of the record, in bytes, including this header
+		int32 adapterID		SteamCallbackAdapter.id of the Java callback adapter
+		int32 methodIndex	index of the callback method, as registered by the adapter
+		int32 ioFailure		1 if the call result reported an I/O failure, otherwise 0
+		int64 apiCall		handle of the call result, or 0 for other callbacks
+		...					arguments, 4 bytes for Z, B, C, S, I, F and 8 bytes for J, D
+
+	The Java side reads all records written so far after SteamAPI_RunCallbacks() returned,
+	then tells the queue how many bytes it has consumed with the next call.
+
+	Callbacks which can't be queued are called directly. To keep them in order, the thread running
+	SteamAPI_RunCallbacks() first has the Java side dispatch all records queued before.
+*/
+class SteamCallbackQueue {
+
+public:
+	static const jint HeaderSize = 24;
+
+	static void setBuffer(void* address, jlong capacity);
+	static bool isEnabled();
+
+	/**
+		Marks the calling thread as the one running SteamAPI_RunCallbacks() in batched mode,
+		which is the only thread allowed to dispatch records before a direct upcall.
+	*/
+	static void setDispatching(bool dispatching);
+	static bool isDispatching();
+
+	/**
+		Computes the record size for a Java method signature. Returns 0 if the
+		signature contains other than primitive arguments, or doesn't return void.
+	*/
+	static jint recordSize(const char* signature);
+
+	/**
+		Appends a record. Returns false if there's not enough space left in the buffer,
+		in which case the caller falls back to a direct upcall.
+	*/
+	static bool write(jint adapterID, jint methodIndex, jlong apiCall, bool ioFailure,
+					  const char* signature, jint size, va_list args);
+
+	/**
+		Discards the first 'consumed' bytes, which have been dispatched by the Java side,
+		and returns the number of bytes pending in the buffer.
+	*/
+	static jint consume(jint consumed);
+
+};
@@ -9,7 +9,13 @@ SteamFriendsCallback::SteamFriendsCallback(JNIEnv* env, jobject callback)
 	, m_CallbackFriendRichPresenceUpdate(this, &SteamFriendsCallback::onFriendRichPresenceUpdate)
     , m_CallbackGameRichPresenceJoinRequested(this, &SteamFriendsCallback::onGameRichPresenceJoinRequested)
 	, m_CallbackGameServerChangeRequested(this, &SteamFriendsCallback::onGameServerChangeRequested) {
-
+	m_onPersonaStateChange = resolveMethod(env, "onPersonaStateChange", "(JI)V");
+	m_onGameOverlayActivated = resolveMethod(env, "onGameOverlayActivated", "(ZZI)V");
+	m_onGameLobbyJoinRequested = resolveMethod(env, "onGameLobbyJoinRequested", "(JJ)V");
+	m_onAvatarImageLoaded = resolveMethod(env, "onAvatarImageLoaded", "(JIII)V");
+	m_onFriendRichPresenceUpdate = resolveMethod(env, "onFriendRichPresenceUpdate", "(JI)V");
+	m_onGameRichPresenceJoinRequested = resolveMethod(env, "onGameRichPresenceJoinRequested", "(JLjava/lang/String;)V");
+	m_onGameServerChangeRequested = resolveMethod(env, "onGameServerChangeRequested", "(Ljava/lang/String;Ljava/lang/String;)V");
 }
 
 SteamFriendsCallback::~SteamFriendsCallback() {
@@ -18,21 +24,21 @@ SteamFriendsCallback::~SteamFriendsCallback() {
 
 void SteamFriendsCallback::onPersonaStateChange(PersonaStateChange_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onPersonaStateChange", "(JI)V",
+		callVoidMethod(env, m_onPersonaStateChange,
 			(jlong) callback->m_ulSteamID, (jint) callback->m_nChangeFlags);
 	});
 }
 
 void SteamFriendsCallback::onGameOverlayActivated(GameOverlayActivated_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onGameOverlayActivated", "(ZZI)V",
+		callVoidMethod(env, m_onGameOverlayActivated,
 			callback->m_bActive, callback->m_bUserInitiated, callback->m_nAppID);
 	});
 }
 
 void SteamFriendsCallback::onGameLobbyJoinRequested(GameLobbyJoinRequested_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onGameLobbyJoinRequested", "(JJ)V",
+		callVoidMethod(env, m_onGameLobbyJoinRequested,
 			(jlong) callback->m_steamIDLobby.ConvertToUint64(),
 			(jlong) callback->m_steamIDFriend.ConvertToUint64());
 	});
@@ -40,7 +46,7 @@ void SteamFriendsCallback::onGameLobbyJoinRequested(GameLobbyJoinRequested_t* ca
 
 void SteamFriendsCallback::onAvatarImageLoaded(AvatarImageLoaded_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onAvatarImageLoaded", "(JIII)V",
+		callVoidMethod(env, m_onAvatarImageLoaded,
 			(jlong) callback->m_steamID.ConvertToUint64(), callback->m_iImage,
 			callback->m_iWide, callback->m_iTall);
 	});
@@ -48,14 +54,14 @@ void SteamFriendsCallback::onAvatarImageLoaded(AvatarImageLoaded_t* callback) {
 
 void SteamFriendsCallback::onFriendRichPresenceUpdate(FriendRichPresenceUpdate_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onFriendRichPresenceUpdate", "(JI)V",
+		callVoidMethod(env, m_onFriendRichPresenceUpdate,
 			(jlong) callback->m_steamIDFriend.ConvertToUint64(), callback->m_nAppID);
 	});
 }
 
 void SteamFriendsCallback::onGameRichPresenceJoinRequested(GameRichPresenceJoinRequested_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onGameRichPresenceJoinRequested", "(JLjava/lang/String;)V",
+		callVoidMethod(env, m_onGameRichPresenceJoinRequested,
 			(jlong) callback->m_steamIDFriend.ConvertToUint64(),
 			env->NewStringUTF(callback->m_rgchConnect));
 	});
@@ -63,7 +69,7 @@ void SteamFriendsCallback::onGameRichPresenceJoinRequested(GameRichPresenceJoinR
 
 void SteamFriendsCallback::onGameServerChangeRequested(GameServerChangeRequested_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onGameServerChangeRequested", "(Ljava/lang/String;Ljava/lang/String;)V",
+		callVoidMethod(env, m_onGameServerChangeRequested,
 		env->NewStringUTF(callback->m_rgchServer),
 		env->NewStringUTF(callback->m_rgchPassword));
 	});
@@ -16,4 +16,13 @@ public:
 	STEAM_CALLBACK(SteamFriendsCallback, onFriendRichPresenceUpdate, FriendRichPresenceUpdate_t, m_CallbackFriendRichPresenceUpdate);
 	STEAM_CALLBACK(SteamFriendsCallback, onGameRichPresenceJoinRequested, GameRichPresenceJoinRequested_t, m_CallbackGameRichPresenceJoinRequested);
 	STEAM_CALLBACK(SteamFriendsCallback, onGameServerChangeRequested, GameServerChangeRequested_t, m_CallbackGameServerChangeRequested);
+
+private:
+	jmethodID m_onPersonaStateChange;
+	jmethodID m_onGameOverlayActivated;
+	jmethodID m_onGameLobbyJoinRequested;
+	jmethodID m_onAvatarImageLoaded;
+	jmethodID m_onFriendRichPresenceUpdate;
+	jmethodID m_onGameRichPresenceJoinRequested;
+	jmethodID m_onGameServerChangeRequested;
 };
@@ -4,7 +4,9 @@ SteamHTTPCallback::SteamHTTPCallback(JNIEnv* env, jobject callback)
 	: SteamCallbackAdapter(env, callback)
 	, m_CallbackHTTPRequestHeadersReceived(this, &SteamHTTPCallback::onHTTPRequestHeadersReceived)
 	, m_CallbackHTTPRequestDataReceived(this, &SteamHTTPCallback::onHTTPRequestDataReceived) {
-
+	m_onHTTPRequestCompleted = resolveMethod(env, "onHTTPRequestCompleted", "(JJZII)V");
+	m_onHTTPRequestHeadersReceived = resolveMethod(env, "onHTTPRequestHeadersReceived", "(JJ)V");
+	m_onHTTPRequestDataReceived = resolveMethod(env, "onHTTPRequestDataReceived", "(JJII)V");
 }
 
 SteamHTTPCallback::~SteamHTTPCallback() {
@@ -13,7 +15,7 @@ SteamHTTPCallback::~SteamHTTPCallback() {
 
 void SteamHTTPCallback::onHTTPRequestCompleted(HTTPRequestCompleted_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onHTTPRequestCompleted", "(JJZII)V",
+		callVoidMethod(env, m_onHTTPRequestCompleted,
 			(jlong) callback->m_hRequest, (jlong) callback->m_ulContextValue, callback->m_bRequestSuccessful,
 			(jint) callback->m_eStatusCode, (jint) callback->m_unBodySize);
 	});
@@ -21,14 +23,14 @@ void SteamHTTPCallback::onHTTPRequestCompleted(HTTPRequestCompleted_t* callback,
 
 void SteamHTTPCallback::onHTTPRequestHeadersReceived(HTTPRequestHeadersReceived_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onHTTPRequestHeadersReceived", "(JJ)V",
+		callVoidMethod(env, m_onHTTPRequestHeadersReceived,
 			(jlong) callback->m_hRequest, (jlong) callback->m_ulContextValue);
 	});
 }
 
 void SteamHTTPCallback::onHTTPRequestDataReceived(HTTPRequestDataReceived_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onHTTPRequestDataReceived", "(JJII)V",
+		callVoidMethod(env, m_onHTTPRequestDataReceived,
 			(jlong) callback->m_hRequest, (jlong) callback->m_ulContextValue,
 			(jint) callback->m_cOffset, (jint) callback->m_cBytesReceived);
 	});
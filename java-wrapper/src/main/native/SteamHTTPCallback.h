@@ -10,8 +10,12 @@ public:
 	~SteamHTTPCallback();
 
 	void onHTTPRequestCompleted(HTTPRequestCompleted_t* callback, bool error);
-	CCallResult<SteamHTTPCallback, HTTPRequestCompleted_t> onHTTPRequestCompletedCall;
 
 	STEAM_CALLBACK(SteamHTTPCallback, onHTTPRequestHeadersReceived, HTTPRequestHeadersReceived_t, m_CallbackHTTPRequestHeadersReceived);
 	STEAM_CALLBACK(SteamHTTPCallback, onHTTPRequestDataReceived, HTTPRequestDataReceived_t, m_CallbackHTTPRequestDataReceived);
+
+private:
+	jmethodID m_onHTTPRequestCompleted;
+	jmethodID m_onHTTPRequestHeadersReceived;
+	jmethodID m_onHTTPRequestDataReceived;
 };
@@ -0,0 +1,254 @@
+#include "SteamJavaClasses.h"
+
+SteamJavaClasses::CallbackAdapter SteamJavaClasses::callbackAdapter;
+SteamJavaClasses::CallbackQueue SteamJavaClasses::callbackQueue;
+SteamJavaClasses::CallResults SteamJavaClasses::callResults;
+SteamJavaClasses::UGCDetails SteamJavaClasses::ugcDetails;
+SteamJavaClasses::UGCItemAdditionalPreview SteamJavaClasses::ugcItemAdditionalPreview;
+SteamJavaClasses::UGCItemInstallInfo SteamJavaClasses::ugcItemInstallInfo;
+SteamJavaClasses::LeaderboardEntry SteamJavaClasses::leaderboardEntry;
+SteamJavaClasses::P2PSessionState SteamJavaClasses::p2pSessionState;
+SteamJavaClasses::ControllerDigitalActionData SteamJavaClasses::controllerDigitalActionData;
+SteamJavaClasses::ControllerAnalogActionData SteamJavaClasses::controllerAnalogActionData;
+SteamJavaClasses::MatchmakingKeyValuePair SteamJavaClasses::matchmakingKeyValuePair;
+SteamJavaClasses::MatchmakingChatEntry SteamJavaClasses::matchmakingChatEntry;
+SteamJavaClasses::FriendGameInfo SteamJavaClasses::friendGameInfo;
+SteamJavaClasses::MatchmakingServerNetAdr SteamJavaClasses::matchmakingServerNetAdr;
+SteamJavaClasses::MatchmakingGameServerItem SteamJavaClasses::matchmakingGameServerItem;
+
+#define STRING_SIG "Ljava/lang/String;"
+
+/**
+	Small helper to look up classes and members. Lookups are skipped after the first failure,
+	which leaves the pending NoClassDefFoundError or NoSuchFieldError to be reported.
+*/
+class SteamJavaClassResolver {
+
+public:
+	SteamJavaClassResolver(JNIEnv* env) : m_env(env), m_clazz(nullptr), m_failed(false) {
+
+	}
+
+	jclass findClass(const char* name) {
+		m_clazz = nullptr;
+		if (!m_failed) {
+			jclass local = m_env->FindClass(name);
+			if (local != nullptr) {
+				m_clazz = (jclass) m_env->NewGlobalRef(local);
+				m_env->DeleteLocalRef(local);
+			} else {
+				m_failed = true;
+			}
+		}
+		return m_clazz;
+	}
+
+	jfieldID field(const char* name, const char* signature) {
+		jfieldID field = nullptr;
+		if (!m_failed) {
+			field = m_env->GetFieldID(m_clazz, name, signature);
+			m_failed = field == nullptr;
+		}
+		return field;
+	}
+
+	jmethodID method(const char* name, const char* signature) {
+		jmethodID method = nullptr;
+		if (!m_failed) {
+			method = m_env->GetMethodID(m_clazz, name, signature);
+			m_failed = method == nullptr;
+		}
+		return method;
+	}
+
+	jmethodID staticMethod(const char* name, const char* signature) {
+		jmethodID method = nullptr;
+		if (!m_failed) {
+			method = m_env->GetStaticMethodID(m_clazz, name, signature);
+			m_failed = method == nullptr;
+		}
+		return method;
+	}
+
+	bool failed() const {
+		return m_failed;
+	}
+
+private:
+	JNIEnv* m_env;
+	jclass m_clazz;
+	bool m_failed;
+};
+
+bool SteamJavaClasses::load(JNIEnv* env) {
+	SteamJavaClassResolver r(env);
+
+	CallbackAdapter& adapter = callbackAdapter;
+	adapter.clazz = r.findClass("com/codedisaster/steamworks/SteamCallbackAdapter");
+	adapter.id = r.field("id", "I");
+	adapter.registerQueuedMethod = r.method("registerQueuedMethod", "(ILjava/lang/String;Ljava/lang/String;)V");
+
+	CallbackQueue& queue = callbackQueue;
+	queue.clazz = r.findClass("com/codedisaster/steamworks/SteamCallbackQueue");
+	queue.flush = r.staticMethod("flush", "()V");
+
+	CallResults& results = callResults;
+	results.clazz = r.findClass("com/codedisaster/steamworks/SteamCallResults");
+	results.beginDispatch = r.staticMethod("beginDispatch", "(JZ)V");
+	results.endNativeDispatch = r.staticMethod("endNativeDispatch", "()V");
+
+	UGCDetails& ugc = ugcDetails;
+	ugc.clazz = r.findClass("com/codedisaster/steamworks/SteamUGCDetails");
+	ugc.publishedFileID = r.field("publishedFileID", "J");
+	ugc.result = r.field("result", "I");
+	ugc.fileType = r.field("fileType", "I");
+	ugc.title = r.field("title", STRING_SIG);
+	ugc.description = r.field("description", STRING_SIG);
+	ugc.ownerID = r.field("ownerID", "J");
+	ugc.timeCreated = r.field("timeCreated", "I");
+	ugc.timeUpdated = r.field("timeUpdated", "I");
+	ugc.tagsTruncated = r.field("tagsTruncated", "Z");
+	ugc.tags = r.field("tags", STRING_SIG);
+	ugc.fileHandle = r.field("fileHandle", "J");
+	ugc.previewFileHandle = r.field("previewFileHandle", "J");
+	ugc.fileName = r.field("fileName", STRING_SIG);
+	ugc.fileSize = r.field("fileSize", "I");
+	ugc.previewFileSize = r.field("previewFileSize", "I");
+	ugc.url = r.field("url", STRING_SIG);
+	ugc.votesUp = r.field("votesUp", "I");
+	ugc.votesDown = r.field("votesDown", "I");
+
+	UGCItemAdditionalPreview& preview = ugcItemAdditionalPreview;
+	preview.clazz = r.findClass("com/codedisaster/steamworks/SteamUGC$ItemAdditionalPreview");
+	preview.urlOrVideoID = r.field("urlOrVideoID", STRING_SIG);
+	preview.originalFileName = r.field("originalFileName", STRING_SIG);
+	preview.previewType = r.field("previewType", "I");
+
+	UGCItemInstallInfo& installInfo = ugcItemInstallInfo;
+	installInfo.clazz = r.findClass("com/codedisaster/steamworks/SteamUGC$ItemInstallInfo");
+	installInfo.folder = r.field("folder", STRING_SIG);
+	installInfo.sizeOnDisk = r.field("sizeOnDisk", "I");
+
+	LeaderboardEntry& entry = leaderboardEntry;
+	entry.clazz = r.findClass("com/codedisaster/steamworks/SteamLeaderboardEntry");
+	entry.steamIDUser = r.field("steamIDUser", "J");
+	entry.globalRank = r.field("globalRank", "I");
+	entry.score = r.field("score", "I");
+	entry.details = r.field("details", "I");
+
+	P2PSessionState& p2p = p2pSessionState;
+	p2p.clazz = r.findClass("com/codedisaster/steamworks/SteamNetworking$P2PSessionState");
+	p2p.connectionActive = r.field("connectionActive", "B");
+	p2p.connecting = r.field("connecting", "B");
+	p2p.sessionError = r.field("sessionError", "B");
+	p2p.usingRelay = r.field("usingRelay", "B");
+	p2p.bytesQueuedForSend = r.field("bytesQueuedForSend", "I");
+	p2p.packetsQueuedForSend = r.field("packetsQueuedForSend", "I");
+	p2p.remoteIP = r.field("remoteIP", "I");
+	p2p.remotePort = r.field("remotePort", "S");
+
+	ControllerDigitalActionData& digital = controllerDigitalActionData;
+	digital.clazz = r.findClass("com/codedisaster/steamworks/SteamControllerDigitalActionData");
+	digital.state = r.field("state", "Z");
+	digital.active = r.field("active", "Z");
+
+	ControllerAnalogActionData& analog = controllerAnalogActionData;
+	analog.clazz = r.findClass("com/codedisaster/steamworks/SteamControllerAnalogActionData");
+	analog.mode = r.field("mode", "I");
+	analog.x = r.field("x", "F");
+	analog.y = r.field("y", "F");
+	analog.active = r.field("active", "Z");
+
+	MatchmakingKeyValuePair& keyValuePair = matchmakingKeyValuePair;
+	keyValuePair.clazz = r.findClass("com/codedisaster/steamworks/SteamMatchmakingKeyValuePair");
+	keyValuePair.key = r.field("key", STRING_SIG);
+	keyValuePair.value = r.field("value", STRING_SIG);
+
+	MatchmakingChatEntry& chatEntry = matchmakingChatEntry;
+	chatEntry.clazz = r.findClass("com/codedisaster/steamworks/SteamMatchmaking$ChatEntry");
+	chatEntry.steamIDUser = r.field("steamIDUser", "J");
+	chatEntry.chatEntryType = r.field("chatEntryType", "I");
+
+	FriendGameInfo& gameInfo = friendGameInfo;
+	gameInfo.clazz = r.findClass("com/codedisaster/steamworks/SteamFriends$FriendGameInfo");
+	gameInfo.gameID = r.field("gameID", "J");
+	gameInfo.gameIP = r.field("gameIP", "I");
+	gameInfo.gamePort = r.field("gamePort", "S");
+	gameInfo.queryPort = r.field("queryPort", "S");
+	gameInfo.steamIDLobby = r.field("steamIDLobby", "J");
+
+	MatchmakingServerNetAdr& netAdr = matchmakingServerNetAdr;
+	netAdr.clazz = r.findClass("com/codedisaster/steamworks/SteamMatchmakingServerNetAdr");
+	netAdr.connectionPort = r.field("connectionPort", "S");
+	netAdr.queryPort = r.field("queryPort", "S");
+	netAdr.ip = r.field("ip", "I");
+
+	MatchmakingGameServerItem& item = matchmakingGameServerItem;
+	item.clazz = r.findClass("com/codedisaster/steamworks/SteamMatchmakingGameServerItem");
+	item.ctor = r.method("<init>", "()V");
+	item.netAdr = r.field("netAdr", "Lcom/codedisaster/steamworks/SteamMatchmakingServerNetAdr;");
+	item.ping = r.field("ping", "I");
+	item.hadSuccessfulResponse = r.field("hadSuccessfulResponse", "Z");
+	item.doNotRefresh = r.field("doNotRefresh", "Z");
+	item.gameDir = r.field("gameDir", STRING_SIG);
+	item.map = r.field("map", STRING_SIG);
+	item.gameDescription = r.field("gameDescription", STRING_SIG);
+	item.appID = r.field("appID", "I");
+	item.players = r.field("players", "I");
+	item.maxPlayers = r.field("maxPlayers", "I");
+	item.botPlayers = r.field("botPlayers", "I");
+	item.password = r.field("password", "Z");
+	item.secure = r.field("secure", "Z");
+	item.timeLastPlayed = r.field("timeLastPlayed", "I");
+	item.serverVersion = r.field("serverVersion", "I");
+	item.serverName = r.field("serverName", STRING_SIG);
+	item.gameTags = r.field("gameTags", STRING_SIG);
+	item.steamID = r.field("steamID", "J");
+
+	return !r.failed();
+}
+
+static void deleteClassRef(JNIEnv* env, jclass& clazz) {
+	if (clazz != nullptr) {
+		env->DeleteGlobalRef(clazz);
+		clazz = nullptr;
+	}
+}
+
+void SteamJavaClasses::unload(JNIEnv* env) {
+	deleteClassRef(env, callbackAdapter.clazz);
+	deleteClassRef(env, callbackQueue.clazz);
+	deleteClassRef(env, callResults.clazz);
+	deleteClassRef(env, ugcDetails.clazz);
+	deleteClassRef(env, ugcItemAdditionalPreview.clazz);
+	deleteClassRef(env, ugcItemInstallInfo.clazz);
+	deleteClassRef(env, leaderboardEntry.clazz);
+	deleteClassRef(env, p2pSessionState.clazz);
+	deleteClassRef(env, controllerDigitalActionData.clazz);
+	deleteClassRef(env, controllerAnalogActionData.clazz);
+	deleteClassRef(env, matchmakingKeyValuePair.clazz);
+	deleteClassRef(env, matchmakingChatEntry.clazz);
+	deleteClassRef(env, friendGameInfo.clazz);
+	deleteClassRef(env, matchmakingServerNetAdr.clazz);
+	deleteClassRef(env, matchmakingGameServerItem.clazz);
+}
+
+extern "C" JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM* vm, void* reserved) {
+	JNIEnv* env;
+	if (vm->GetEnv((void**) &env, JNI_VERSION_1_6) != JNI_OK) {
+		return JNI_ERR;
+	}
+
+	if (!SteamJavaClasses::load(env)) {
+		return JNI_ERR;
+	}
+
+	return JNI_VERSION_1_6;
+}
+
+extern "C" JNIEXPORT void JNICALL JNI_OnUnload(JavaVM* vm, void* reserved) {
+	JNIEnv* env;
+	if (vm->GetEnv((void**) &env, JNI_VERSION_1_6) == JNI_OK) {
+		SteamJavaClasses::unload(env);
+	}
+}
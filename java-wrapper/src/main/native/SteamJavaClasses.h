@@ -0,0 +1,171 @@
+#pragma once
+
+#include <jni.h>
+
+/**
+	Global references to the Java classes which are used to marshal native structs, plus their field IDs.
+
+	All members are resolved once in JNI_OnLoad(), so the native functions filling in these
+	objects don't need to call GetObjectClass() and GetFieldID() on every invocation.
+*/
+class SteamJavaClasses {
+
+public:
+
+	struct CallbackAdapter {
+		jclass clazz;
+		jfieldID id;
+		jmethodID registerQueuedMethod;
+	};
+
+	struct CallbackQueue {
+		jclass clazz;
+		jmethodID flush;
+	};
+
+	struct CallResults {
+		jclass clazz;
+		jmethodID beginDispatch;
+		jmethodID endNativeDispatch;
+	};
+
+	struct UGCDetails {
+		jclass clazz;
+		jfieldID publishedFileID;
+		jfieldID result;
+		jfieldID fileType;
+		jfieldID title;
+		jfieldID description;
+		jfieldID ownerID;
+		jfieldID timeCreated;
+		jfieldID timeUpdated;
+		jfieldID tagsTruncated;
+		jfieldID tags;
+		jfieldID fileHandle;
+		jfieldID previewFileHandle;
+		jfieldID fileName;
+		jfieldID fileSize;
+		jfieldID previewFileSize;
+		jfieldID url;
+		jfieldID votesUp;
+		jfieldID votesDown;
+	};
+
+	struct UGCItemAdditionalPreview {
+		jclass clazz;
+		jfieldID urlOrVideoID;
+		jfieldID originalFileName;
+		jfieldID previewType;
+	};
+
+	struct UGCItemInstallInfo {
+		jclass clazz;
+		jfieldID folder;
+		jfieldID sizeOnDisk;
+	};
+
+	struct LeaderboardEntry {
+		jclass clazz;
+		jfieldID steamIDUser;
+		jfieldID globalRank;
+		jfieldID score;
+		jfieldID details;
+	};
+
+	struct P2PSessionState {
+		jclass clazz;
+		jfieldID connectionActive;
+		jfieldID connecting;
+		jfieldID sessionError;
+		jfieldID usingRelay;
+		jfieldID bytesQueuedForSend;
+		jfieldID packetsQueuedForSend;
+		jfieldID remoteIP;
+		jfieldID remotePort;
+	};
+
+	struct ControllerDigitalActionData {
+		jclass clazz;
+		jfieldID state;
+		jfieldID active;
+	};
+
+	struct ControllerAnalogActionData {
+		jclass clazz;
+		jfieldID mode;
+		jfieldID x;
+		jfieldID y;
+		jfieldID active;
+	};
+
+	struct MatchmakingKeyValuePair {
+		jclass clazz;
+		jfieldID key;
+		jfieldID value;
+	};
+
+	struct MatchmakingChatEntry {
+		jclass clazz;
+		jfieldID steamIDUser;
+		jfieldID chatEntryType;
+	};
+
+	struct FriendGameInfo {
+		jclass clazz;
+		jfieldID gameID;
+		jfieldID gameIP;
+		jfieldID gamePort;
+		jfieldID queryPort;
+		jfieldID steamIDLobby;
+	};
+
+	struct MatchmakingServerNetAdr {
+		jclass clazz;
+		jfieldID connectionPort;
+		jfieldID queryPort;
+		jfieldID ip;
+	};
+
+	struct MatchmakingGameServerItem {
+		jclass clazz;
+		jmethodID ctor;
+		jfieldID netAdr;
+		jfieldID ping;
+		jfieldID hadSuccessfulResponse;
+		jfieldID doNotRefresh;
+		jfieldID gameDir;
+		jfieldID map;
+		jfieldID gameDescription;
+		jfieldID appID;
+		jfieldID players;
+		jfieldID maxPlayers;
+		jfieldID botPlayers;
+		jfieldID password;
+		jfieldID secure;
+		jfieldID timeLastPlayed;
+		jfieldID serverVersion;
+		jfieldID serverName;
+		jfieldID gameTags;
+		jfieldID steamID;
+	};
+
+	static CallbackAdapter callbackAdapter;
+	static CallbackQueue callbackQueue;
+	static CallResults callResults;
+	static UGCDetails ugcDetails;
+	static UGCItemAdditionalPreview ugcItemAdditionalPreview;
+	static UGCItemInstallInfo ugcItemInstallInfo;
+	static LeaderboardEntry leaderboardEntry;
+	static P2PSessionState p2pSessionState;
+	static ControllerDigitalActionData controllerDigitalActionData;
+	static ControllerAnalogActionData controllerAnalogActionData;
+	static MatchmakingKeyValuePair matchmakingKeyValuePair;
+	static MatchmakingChatEntry matchmakingChatEntry;
+	static FriendGameInfo friendGameInfo;
+	static MatchmakingServerNetAdr matchmakingServerNetAdr;
+	static MatchmakingGameServerItem matchmakingGameServerItem;
+
+	static bool load(JNIEnv* env);
+	static void unload(JNIEnv* env);
+
+};
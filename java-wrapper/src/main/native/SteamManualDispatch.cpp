@@ -0,0 +1,566 @@
+#include "SteamManualDispatch.h"
+
+#include <string.h>
+#include <vector>
+
+/**
+	Appends records to the Java buffer. Argument conversions mirror the ones done by the
+	native callback classes when they call into the Java callback adapters.
+*/
+class SteamManualDispatchWriter {
+
+public:
+	SteamManualDispatchWriter(void* buffer, jlong capacity)
+		: m_buffer((unsigned char*) buffer), m_capacity(capacity), m_position(0), m_record(0),
+		  m_apiCall(k_uAPICallInvalid), m_ioFailure(false) {
+
+	}
+
+	jlong remaining() const {
+		return m_capacity - m_position;
+	}
+
+	jint position() const {
+		return (jint) m_position;
+	}
+
+	/**
+		Sets the API call which the following records are the result of.
+	*/
+	void setAPICall(SteamAPICall_t apiCall, bool ioFailure) {
+		m_apiCall = apiCall;
+		m_ioFailure = ioFailure;
+	}
+
+	void begin(SteamManualDispatch::Event event) {
+		m_record = m_position;
+		putInt(0);
+		putInt(event);
+		putLong((jlong) m_apiCall);
+		putBoolean(m_ioFailure);
+	}
+
+	void end() {
+		jint size = (jint) (m_position - m_record);
+		memcpy(m_buffer + m_record, &size, sizeof(jint));
+	}
+
+	void putInt(jint value) {
+		put(&value, sizeof(jint));
+	}
+
+	void putLong(jlong value) {
+		put(&value, sizeof(jlong));
+	}
+
+	void putFloat(jfloat value) {
+		put(&value, sizeof(jfloat));
+	}
+
+	void putBoolean(bool value) {
+		putInt(value ? 1 : 0);
+	}
+
+	void putString(const char* value) {
+		jint length = (jint) strlen(value);
+		putInt(length);
+		put(value, length);
+	}
+
+	void putBytes(const void* value, jint length) {
+		putInt(length);
+		put(value, length);
+	}
+
+	void putNull() {
+		putInt(-1);
+	}
+
+private:
+	void put(const void* value, size_t size) {
+		memcpy(m_buffer + m_position, value, size);
+		m_position += size;
+	}
+
+	unsigned char* m_buffer;
+	jlong m_capacity;
+	jlong m_position;
+	jlong m_record;
+	SteamAPICall_t m_apiCall;
+	bool m_ioFailure;
+};
+
+#define CALLBACK_CASE(type, event) \
+	case type::k_iCallback: { \
+		type* callback = (type*) data; \
+		w.begin(SteamManualDispatch::event);
+
+#define CALLBACK_CASE_END \
+		w.end(); \
+		return; \
+	}
+
+static void writeEvent(SteamManualDispatchWriter& w, int callbackID, void* data) {
+
+	switch (callbackID) {
+
+		// SteamFriendsCallback
+
+		CALLBACK_CASE(PersonaStateChange_t, PersonaStateChange)
+			w.putLong((jlong) callback->m_ulSteamID);
+			w.putInt((jint) callback->m_nChangeFlags);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(GameOverlayActivated_t, GameOverlayActivated)
+			w.putBoolean(callback->m_bActive != 0);
+			w.putBoolean(callback->m_bUserInitiated);
+			w.putInt((jint) callback->m_nAppID);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(GameLobbyJoinRequested_t, GameLobbyJoinRequested)
+			w.putLong((jlong) callback->m_steamIDLobby.ConvertToUint64());
+			w.putLong((jlong) callback->m_steamIDFriend.ConvertToUint64());
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(AvatarImageLoaded_t, AvatarImageLoaded)
+			w.putLong((jlong) callback->m_steamID.ConvertToUint64());
+			w.putInt(callback->m_iImage);
+			w.putInt(callback->m_iWide);
+			w.putInt(callback->m_iTall);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(FriendRichPresenceUpdate_t, FriendRichPresenceUpdate)
+			w.putLong((jlong) callback->m_steamIDFriend.ConvertToUint64());
+			w.putInt((jint) callback->m_nAppID);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(GameRichPresenceJoinRequested_t, GameRichPresenceJoinRequested)
+			w.putLong((jlong) callback->m_steamIDFriend.ConvertToUint64());
+			w.putString(callback->m_rgchConnect);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(GameServerChangeRequested_t, GameServerChangeRequested)
+			w.putString(callback->m_rgchServer);
+			w.putString(callback->m_rgchPassword);
+		CALLBACK_CASE_END
+
+		// SteamHTTPCallback
+
+		CALLBACK_CASE(HTTPRequestCompleted_t, HTTPRequestCompleted)
+			w.putLong((jlong) callback->m_hRequest);
+			w.putLong((jlong) callback->m_ulContextValue);
+			w.putBoolean(callback->m_bRequestSuccessful);
+			w.putInt((jint) callback->m_eStatusCode);
+			w.putInt((jint) callback->m_unBodySize);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(HTTPRequestHeadersReceived_t, HTTPRequestHeadersReceived)
+			w.putLong((jlong) callback->m_hRequest);
+			w.putLong((jlong) callback->m_ulContextValue);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(HTTPRequestDataReceived_t, HTTPRequestDataReceived)
+			w.putLong((jlong) callback->m_hRequest);
+			w.putLong((jlong) callback->m_ulContextValue);
+			w.putInt((jint) callback->m_cOffset);
+			w.putInt((jint) callback->m_cBytesReceived);
+		CALLBACK_CASE_END
+
+		// SteamMatchmakingCallback
+
+		CALLBACK_CASE(LobbyMatchList_t, LobbyMatchList)
+			w.putInt((jint) callback->m_nLobbiesMatching);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LobbyCreated_t, LobbyCreated)
+			w.putInt((jint) callback->m_eResult);
+			w.putLong((jlong) callback->m_ulSteamIDLobby);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LobbyEnter_t, LobbyEnter)
+			w.putLong((jlong) callback->m_ulSteamIDLobby);
+			w.putInt((jint) callback->m_rgfChatPermissions);
+			w.putBoolean(callback->m_bLocked);
+			w.putInt((jint) callback->m_EChatRoomEnterResponse);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LobbyInvite_t, LobbyInvite)
+			w.putLong((jlong) callback->m_ulSteamIDUser);
+			w.putLong((jlong) callback->m_ulSteamIDLobby);
+			w.putLong((jlong) callback->m_ulGameID);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LobbyKicked_t, LobbyKicked)
+			w.putLong((jlong) callback->m_ulSteamIDLobby);
+			w.putLong((jlong) callback->m_ulSteamIDAdmin);
+			w.putBoolean(callback->m_bKickedDueToDisconnect != 0);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LobbyDataUpdate_t, LobbyDataUpdate)
+			w.putLong((jlong) callback->m_ulSteamIDLobby);
+			w.putLong((jlong) callback->m_ulSteamIDMember);
+			w.putBoolean(callback->m_bSuccess != 0);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LobbyChatUpdate_t, LobbyChatUpdate)
+			w.putLong((jlong) callback->m_ulSteamIDLobby);
+			w.putLong((jlong) callback->m_ulSteamIDUserChanged);
+			w.putLong((jlong) callback->m_ulSteamIDMakingChange);
+			w.putInt((jint) callback->m_rgfChatMemberStateChange);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LobbyChatMsg_t, LobbyChatMsg)
+			w.putLong((jlong) callback->m_ulSteamIDLobby);
+			w.putLong((jlong) callback->m_ulSteamIDUser);
+			w.putInt((jint) callback->m_eChatEntryType);
+			w.putInt((jint) callback->m_iChatID);
+		CALLBACK_CASE_END
+
+		// SteamNetworkingCallback
+
+		CALLBACK_CASE(P2PSessionConnectFail_t, P2PSessionConnectFail)
+			w.putLong((jlong) callback->m_steamIDRemote.ConvertToUint64());
+			w.putInt((jint) callback->m_eP2PSessionError);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(P2PSessionRequest_t, P2PSessionRequest)
+			w.putLong((jlong) callback->m_steamIDRemote.ConvertToUint64());
+		CALLBACK_CASE_END
+
+		// SteamNetworkingSocketsCallback
+
+		CALLBACK_CASE(SteamNetConnectionStatusChangedCallback_t, ConnectionStatusChanged)
+			w.putInt((jint) callback->m_hConn);
+			w.putLong((jlong) callback->m_info.m_identityRemote.GetSteamID64());
+			w.putInt((jint) callback->m_info.m_eState);
+			w.putInt((jint) callback->m_eOldState);
+			w.putLong((jlong) callback->m_info.m_nUserData);
+			w.putInt((jint) callback->m_info.m_hListenSocket);
+			w.putInt((jint) callback->m_info.m_eEndReason);
+			w.putInt((jint) callback->m_info.m_nFlags);
+		CALLBACK_CASE_END
+
+		// SteamRemoteStorageCallback
+
+		CALLBACK_CASE(RemoteStorageFileWriteAsyncComplete_t, FileWriteAsyncComplete)
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStorageFileReadAsyncComplete_t, FileReadAsyncComplete)
+			w.putLong((jlong) callback->m_hFileReadAsync);
+			w.putInt((jint) callback->m_eResult);
+			w.putInt((jint) callback->m_nOffset);
+			w.putInt((jint) callback->m_cubRead);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStorageFileShareResult_t, FileShareResult)
+			w.putLong((jlong) callback->m_hFile);
+			w.putString(callback->m_rgchFilename);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStorageDownloadUGCResult_t, DownloadUGCResult)
+			w.putLong((jlong) callback->m_hFile);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStoragePublishFileResult_t, PublishFileResult)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putBoolean(callback->m_bUserNeedsToAcceptWorkshopLegalAgreement);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStorageUpdatePublishedFileResult_t, UpdatePublishedFileResult)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putBoolean(callback->m_bUserNeedsToAcceptWorkshopLegalAgreement);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStoragePublishedFileSubscribed_t, PublishedFileSubscribed)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putInt((jint) callback->m_nAppID);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStoragePublishedFileUnsubscribed_t, PublishedFileUnsubscribed)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putInt((jint) callback->m_nAppID);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStoragePublishedFileDeleted_t, PublishedFileDeleted)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putInt((jint) callback->m_nAppID);
+		CALLBACK_CASE_END
+
+		// SteamScreenshotsCallback
+
+		CALLBACK_CASE(ScreenshotReady_t, ScreenshotReady)
+			w.putInt((jint) callback->m_hLocal);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(ScreenshotRequested_t, ScreenshotRequested)
+			(void) callback;
+		CALLBACK_CASE_END
+
+		// SteamUGCCallback
+
+		CALLBACK_CASE(SteamUGCQueryCompleted_t, UGCQueryCompleted)
+			w.putLong((jlong) callback->m_handle);
+			w.putInt((jint) callback->m_unNumResultsReturned);
+			w.putInt((jint) callback->m_unTotalMatchingResults);
+			w.putBoolean(callback->m_bCachedData);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStorageSubscribePublishedFileResult_t, SubscribeItem)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(RemoteStorageUnsubscribePublishedFileResult_t, UnsubscribeItem)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(SteamUGCRequestUGCDetailsResult_t, RequestUGCDetails)
+			const SteamUGCDetails_t& details = callback->m_details;
+			w.putLong((jlong) details.m_nPublishedFileId);
+			w.putInt((jint) details.m_eResult);
+			w.putInt((jint) details.m_eFileType);
+			w.putString(details.m_rgchTitle);
+			w.putString(details.m_rgchDescription);
+			w.putBoolean(details.m_bTagsTruncated);
+			w.putString(details.m_rgchTags);
+			w.putLong((jlong) details.m_hFile);
+			w.putLong((jlong) details.m_hPreviewFile);
+			w.putString(details.m_pchFileName);
+			w.putInt((jint) details.m_nFileSize);
+			w.putInt((jint) details.m_nPreviewFileSize);
+			w.putString(details.m_rgchURL);
+			w.putInt((jint) details.m_unVotesUp);
+			w.putInt((jint) details.m_unVotesDown);
+			w.putLong((jlong) details.m_ulSteamIDOwner);
+			w.putInt((jint) details.m_rtimeCreated);
+			w.putInt((jint) details.m_rtimeUpdated);
+			w.putFloat((jfloat) details.m_flScore);
+			w.putInt((jint) details.m_unNumChildren);
+			w.putLong((jlong) details.m_ulTotalFilesSize);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(CreateItemResult_t, CreateItem)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putBoolean(callback->m_bUserNeedsToAcceptWorkshopLegalAgreement);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(SubmitItemUpdateResult_t, SubmitItemUpdate)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putBoolean(callback->m_bUserNeedsToAcceptWorkshopLegalAgreement);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(DownloadItemResult_t, DownloadItemResult)
+			w.putInt((jint) callback->m_unAppID);
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(UserFavoriteItemsListChanged_t, UserFavoriteItemsListChanged)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putBoolean(callback->m_bWasAddRequest);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(SetUserItemVoteResult_t, SetUserItemVote)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putBoolean(callback->m_bVoteUp);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(GetUserItemVoteResult_t, GetUserItemVote)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putBoolean(callback->m_bVotedUp);
+			w.putBoolean(callback->m_bVotedDown);
+			w.putBoolean(callback->m_bVoteSkipped);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(StartPlaytimeTrackingResult_t, StartPlaytimeTracking)
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		// StopPlaytimeTracking() and StopPlaytimeTrackingForAllItems() share the same result type
+		CALLBACK_CASE(StopPlaytimeTrackingResult_t, StopPlaytimeTracking)
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(DeleteItemResult_t, DeleteItem)
+			w.putLong((jlong) callback->m_nPublishedFileId);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		// SteamUserCallback
+
+		CALLBACK_CASE(GetAuthSessionTicketResponse_t, AuthSessionTicket)
+			w.putLong((jlong) callback->m_hAuthTicket);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(ValidateAuthTicketResponse_t, ValidateAuthTicket)
+			w.putLong((jlong) callback->m_SteamID.ConvertToUint64());
+			w.putInt((jint) callback->m_eAuthSessionResponse);
+			w.putLong((jlong) callback->m_OwnerSteamID.ConvertToUint64());
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(MicroTxnAuthorizationResponse_t, MicroTxnAuthorization)
+			w.putInt((jint) callback->m_unAppID);
+			w.putLong((jlong) callback->m_ulOrderID);
+			w.putBoolean(callback->m_bAuthorized != 0);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(EncryptedAppTicketResponse_t, EncryptedAppTicket)
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(GetTicketForWebApiResponse_t, GetTicketForWebApi)
+			w.putLong((jlong) callback->m_hAuthTicket);
+			w.putInt((jint) callback->m_eResult);
+			if (callback->m_eResult == k_EResultOK) {
+				w.putBytes(callback->m_rgubTicket, callback->m_cubTicket);
+			} else {
+				w.putNull();
+			}
+		CALLBACK_CASE_END
+
+		// SteamUserStatsCallback
+
+		CALLBACK_CASE(UserStatsReceived_t, UserStatsReceived)
+			w.putLong((jlong) callback->m_nGameID);
+			w.putLong((jlong) callback->m_steamIDUser.ConvertToUint64());
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(UserStatsStored_t, UserStatsStored)
+			w.putLong((jlong) callback->m_nGameID);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(UserStatsUnloaded_t, UserStatsUnloaded)
+			w.putLong((jlong) callback->m_steamIDUser.ConvertToUint64());
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(UserAchievementStored_t, UserAchievementStored)
+			w.putLong((jlong) callback->m_nGameID);
+			w.putBoolean(callback->m_bGroupAchievement);
+			w.putString(callback->m_rgchAchievementName);
+			w.putInt((jint) callback->m_nCurProgress);
+			w.putInt((jint) callback->m_nMaxProgress);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LeaderboardFindResult_t, LeaderboardFindResult)
+			w.putLong((jlong) callback->m_hSteamLeaderboard);
+			w.putBoolean(callback->m_bLeaderboardFound != 0u);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LeaderboardScoresDownloaded_t, LeaderboardScoresDownloaded)
+			w.putLong((jlong) callback->m_hSteamLeaderboard);
+			w.putLong((jlong) callback->m_hSteamLeaderboardEntries);
+			w.putInt((jint) callback->m_cEntryCount);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(LeaderboardScoreUploaded_t, LeaderboardScoreUploaded)
+			w.putBoolean(callback->m_bSuccess != 0);
+			w.putLong((jlong) callback->m_hSteamLeaderboard);
+			w.putInt((jint) callback->m_nScore);
+			w.putBoolean(callback->m_bScoreChanged != 0);
+			w.putInt((jint) callback->m_nGlobalRankNew);
+			w.putInt((jint) callback->m_nGlobalRankPrevious);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(NumberOfCurrentPlayers_t, NumberOfCurrentPlayers)
+			w.putBoolean(callback->m_bSuccess != 0);
+			w.putInt((jint) callback->m_cPlayers);
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(GlobalStatsReceived_t, GlobalStatsReceived)
+			w.putLong((jlong) callback->m_nGameID);
+			w.putInt((jint) callback->m_eResult);
+		CALLBACK_CASE_END
+
+		// SteamUtilsCallback
+
+		CALLBACK_CASE(SteamShutdown_t, SteamShutdown)
+			(void) callback;
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(FloatingGamepadTextInputDismissed_t, FloatingGamepadTextInputDismissed)
+			(void) callback;
+		CALLBACK_CASE_END
+
+		// SteamNetworkingMessagesCallback
+
+		CALLBACK_CASE(SteamNetworkingMessagesSessionRequest_t, NetworkingMessagesSessionRequest)
+			w.putLong((jlong) callback->m_identityRemote.GetSteamID64());
+		CALLBACK_CASE_END
+
+		CALLBACK_CASE(SteamNetworkingMessagesSessionFailed_t, NetworkingMessagesSessionFailed)
+			w.putLong((jlong) callback->m_info.m_identityRemote.GetSteamID64());
+			w.putInt((jint) callback->m_info.m_eEndReason);
+			w.putString(callback->m_info.m_szEndDebug);
+		CALLBACK_CASE_END
+
+		default:
+			// not handled by any of the callback interfaces
+			return;
+	}
+}
+
+#undef CALLBACK_CASE
+#undef CALLBACK_CASE_END
+
+static bool s_enabled = false;
+
+void SteamManualDispatch::init() {
+	SteamAPI_ManualDispatch_Init();
+	s_enabled = true;
+}
+
+bool SteamManualDispatch::isEnabled() {
+	return s_enabled;
+}
+
+jint SteamManualDispatch::runFrame(void* buffer, jlong capacity, jint maxCallbacks) {
+	HSteamPipe pipe = SteamAPI_GetHSteamPipe();
+	SteamAPI_ManualDispatch_RunFrame(pipe);
+
+	SteamManualDispatchWriter writer(buffer, capacity);
+	std::vector<unsigned char> callResult;
+	CallbackMsg_t msg;
+
+	for (jint count = 0; count < maxCallbacks && writer.remaining() >= MaxRecordSize; count++) {
+
+		if (!SteamAPI_ManualDispatch_GetNextCallback(pipe, &msg)) {
+			break;
+		}
+
+		if (msg.m_iCallback == SteamAPICallCompleted_t::k_iCallback) {
+			SteamAPICallCompleted_t* completed = (SteamAPICallCompleted_t*) msg.m_pubParam;
+			callResult.resize(completed->m_cubParam);
+
+			// like CCallResult, this dispatches results with an I/O failure, too
+			bool failed;
+			if (SteamAPI_ManualDispatch_GetAPICallResult(pipe, completed->m_hAsyncCall, callResult.data(),
+					completed->m_cubParam, completed->m_iCallback, &failed)) {
+				writer.setAPICall(completed->m_hAsyncCall, failed);
+				writeEvent(writer, completed->m_iCallback, callResult.data());
+				writer.setAPICall(k_uAPICallInvalid, false);
+			}
+		} else {
+			writeEvent(writer, msg.m_iCallback, msg.m_pubParam);
+		}
+
+		SteamAPI_ManualDispatch_FreeLastCallback(pipe);
+	}
+
+	return writer.position();
+}
@@ -0,0 +1,121 @@
+#pragma once
+
+#include <jni.h>
+#include <steam_api.h>
+
+/**
+	Native side of the manual callback dispatch mode, built on SteamAPI_ManualDispatch_*().
+
+	runFrame() pulls callbacks and call results from the Steam pipe, and writes one record per
+	event into a buffer owned by Java. Events are identified by the Event enum below, which has
+	to match the constants in SteamCallbackRouter.java. Records are laid out in native byte order:
+
+		int32 size			total size of the record, in bytes, including this header
+		int32 event			one of the Event values
+		int64 apiCall		handle of the API call for call results, 0 for other callbacks
+		int32 ioFailure		1 if the call result failed with an I/O error, 0 otherwise
+		...					arguments, in the same order and width as passed to the Java callback
+							adapter: 4 bytes for int, float and boolean, 8 bytes for long,
+							int32 length plus UTF-8 bytes for strings, int32 length plus bytes
+							for byte arrays (length -1 for null)
+*/
+class SteamManualDispatch {
+
+public:
+	enum Event {
+		PersonaStateChange = 1,
+		GameOverlayActivated,
+		GameLobbyJoinRequested,
+		AvatarImageLoaded,
+		FriendRichPresenceUpdate,
+		GameRichPresenceJoinRequested,
+		GameServerChangeRequested,
+
+		HTTPRequestCompleted = 100,
+		HTTPRequestHeadersReceived,
+		HTTPRequestDataReceived,
+
+		LobbyMatchList = 200,
+		LobbyCreated,
+		LobbyEnter,
+		LobbyInvite,
+		LobbyKicked,
+		LobbyDataUpdate,
+		LobbyChatUpdate,
+		LobbyChatMsg,
+
+		P2PSessionConnectFail = 300,
+		P2PSessionRequest,
+
+		ConnectionStatusChanged = 400,
+
+		FileWriteAsyncComplete = 500,
+		FileReadAsyncComplete,
+		FileShareResult,
+		DownloadUGCResult,
+		PublishFileResult,
+		UpdatePublishedFileResult,
+		PublishedFileSubscribed,
+		PublishedFileUnsubscribed,
+		PublishedFileDeleted,
+
+		ScreenshotReady = 600,
+		ScreenshotRequested,
+
+		UGCQueryCompleted = 700,
+		SubscribeItem,
+		UnsubscribeItem,
+		RequestUGCDetails,
+		CreateItem,
+		SubmitItemUpdate,
+		DownloadItemResult,
+		UserFavoriteItemsListChanged,
+		SetUserItemVote,
+		GetUserItemVote,
+		StartPlaytimeTracking,
+		StopPlaytimeTracking,
+		DeleteItem,
+
+		AuthSessionTicket = 800,
+		ValidateAuthTicket,
+		MicroTxnAuthorization,
+		EncryptedAppTicket,
+		GetTicketForWebApi,
+
+		UserStatsReceived = 900,
+		UserStatsStored,
+		UserStatsUnloaded,
+		UserAchievementStored,
+		LeaderboardFindResult,
+		LeaderboardScoresDownloaded,
+		LeaderboardScoreUploaded,
+		NumberOfCurrentPlayers,
+		GlobalStatsReceived,
+
+		SteamShutdown = 1000,
+		FloatingGamepadTextInputDismissed,
+
+		NetworkingMessagesSessionRequest = 1100,
+		NetworkingMessagesSessionFailed
+	};
+
+	/**
+		Upper bound of a single record. runFrame() stops pulling events once the space left in
+		the buffer drops below this size. The largest record is RequestUGCDetails.
+	*/
+	static const jint MaxRecordSize = 16 * 1024;
+
+	static void init();
+
+	/**
+		True once init() has been called. Steam doesn't dispatch CCallResult objects in this mode.
+	*/
+	static bool isEnabled();
+
+	/**
+		Runs a frame, then writes up to maxCallbacks events to the buffer. Returns the number of
+		bytes written. Events which don't fit stay in the Steam pipe until the next call.
+	*/
+	static jint runFrame(void* buffer, jlong capacity, jint maxCallbacks);
+
+};
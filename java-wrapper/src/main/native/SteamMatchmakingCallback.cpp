@@ -7,7 +7,14 @@ SteamMatchmakingCallback::SteamMatchmakingCallback(JNIEnv* env, jobject callback
 	, m_CallbackLobbyDataUpdate(this, &SteamMatchmakingCallback::onLobbyDataUpdate)
 	, m_CallbackLobbyChatUpdate(this, &SteamMatchmakingCallback::onLobbyChatUpdate)
 	, m_CallbackLobbyChatMsg(this, &SteamMatchmakingCallback::onLobbyChatMsg) {
-
+	m_onLobbyMatchList = resolveMethod(env, "onLobbyMatchList", "(I)V");
+	m_onLobbyCreated = resolveMethod(env, "onLobbyCreated", "(IJ)V");
+	m_onLobbyEnter = resolveMethod(env, "onLobbyEnter", "(JIZI)V");
+	m_onLobbyInvite = resolveMethod(env, "onLobbyInvite", "(JJJ)V");
+	m_onLobbyKicked = resolveMethod(env, "onLobbyKicked", "(JJZ)V");
+	m_onLobbyDataUpdate = resolveMethod(env, "onLobbyDataUpdate", "(JJZ)V");
+	m_onLobbyChatUpdate = resolveMethod(env, "onLobbyChatUpdate", "(JJJI)V");
+	m_onLobbyChatMessage = resolveMethod(env, "onLobbyChatMessage", "(JJII)V");
 }
 
 SteamMatchmakingCallback::~SteamMatchmakingCallback() {
@@ -16,20 +23,20 @@ SteamMatchmakingCallback::~SteamMatchmakingCallback() {
 
 void SteamMatchmakingCallback::onLobbyMatchList(LobbyMatchList_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onLobbyMatchList", "(I)V", (jint) callback->m_nLobbiesMatching);
+		callVoidMethod(env, m_onLobbyMatchList, (jint) callback->m_nLobbiesMatching);
 	});
 }
 
 void SteamMatchmakingCallback::onLobbyCreated(LobbyCreated_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onLobbyCreated", "(IJ)V",
+		callVoidMethod(env, m_onLobbyCreated,
 			(jint) callback->m_eResult, (jlong) callback->m_ulSteamIDLobby);
 	});
 }
 
 void SteamMatchmakingCallback::onLobbyEnter(LobbyEnter_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onLobbyEnter", "(JIZI)V", (jlong) callback->m_ulSteamIDLobby,
+		callVoidMethod(env, m_onLobbyEnter, (jlong) callback->m_ulSteamIDLobby,
 			(jint) callback->m_rgfChatPermissions, callback->m_bLocked,
 			(jint) callback->m_EChatRoomEnterResponse);
 	});
@@ -37,28 +44,28 @@ void SteamMatchmakingCallback::onLobbyEnter(LobbyEnter_t* callback, bool error)
 
 void SteamMatchmakingCallback::onLobbyInvite(LobbyInvite_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onLobbyInvite", "(JJJ)V", (jlong) callback->m_ulSteamIDUser,
+		callVoidMethod(env, m_onLobbyInvite, (jlong) callback->m_ulSteamIDUser,
 			(jlong) callback->m_ulSteamIDLobby, (jlong) callback->m_ulGameID);
 	});
 }
 
 void SteamMatchmakingCallback::onLobbyKicked(LobbyKicked_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onLobbyKicked", "(JJZ)V", (jlong) callback->m_ulSteamIDLobby,
+		callVoidMethod(env, m_onLobbyKicked, (jlong) callback->m_ulSteamIDLobby,
 			(jlong) callback->m_ulSteamIDAdmin, callback->m_bKickedDueToDisconnect);
 	});
 }
 
 void SteamMatchmakingCallback::onLobbyDataUpdate(LobbyDataUpdate_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onLobbyDataUpdate", "(JJZ)V", (jlong) callback->m_ulSteamIDLobby,
+		callVoidMethod(env, m_onLobbyDataUpdate, (jlong) callback->m_ulSteamIDLobby,
 			(jlong) callback->m_ulSteamIDMember, callback->m_bSuccess);
 	});
 }
 
 void SteamMatchmakingCallback::onLobbyChatUpdate(LobbyChatUpdate_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onLobbyChatUpdate", "(JJJI)V", (jlong) callback->m_ulSteamIDLobby,
+		callVoidMethod(env, m_onLobbyChatUpdate, (jlong) callback->m_ulSteamIDLobby,
 			(jlong) callback->m_ulSteamIDUserChanged, (jlong) callback->m_ulSteamIDMakingChange,
 			(jint) callback->m_rgfChatMemberStateChange);
 	});
@@ -66,7 +73,7 @@ void SteamMatchmakingCallback::onLobbyChatUpdate(LobbyChatUpdate_t* callback) {
 
 void SteamMatchmakingCallback::onLobbyChatMsg(LobbyChatMsg_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onLobbyChatMessage", "(JJII)V", (jlong) callback->m_ulSteamIDLobby,
+		callVoidMethod(env, m_onLobbyChatMessage, (jlong) callback->m_ulSteamIDLobby,
 			(jlong) callback->m_ulSteamIDUser, (jint) callback->m_eChatEntryType,
 			(jint) callback->m_iChatID);
 	});
@@ -16,11 +16,16 @@ public:
 	STEAM_CALLBACK(SteamMatchmakingCallback, onLobbyChatMsg, LobbyChatMsg_t, m_CallbackLobbyChatMsg);
 
 	void onLobbyMatchList(LobbyMatchList_t* callback, bool error);
-	CCallResult<SteamMatchmakingCallback, LobbyMatchList_t> onLobbyMatchListCall;
-
 	void onLobbyCreated(LobbyCreated_t* callback, bool error);
-	CCallResult<SteamMatchmakingCallback, LobbyCreated_t> onLobbyCreatedCall;
-
 	void onLobbyEnter(LobbyEnter_t* callback, bool error);
-	CCallResult<SteamMatchmakingCallback, LobbyEnter_t> onLobbyEnterCall;
+
+private:
+	jmethodID m_onLobbyMatchList;
+	jmethodID m_onLobbyCreated;
+	jmethodID m_onLobbyEnter;
+	jmethodID m_onLobbyInvite;
+	jmethodID m_onLobbyKicked;
+	jmethodID m_onLobbyDataUpdate;
+	jmethodID m_onLobbyChatUpdate;
+	jmethodID m_onLobbyChatMessage;
 };
@@ -3,7 +3,8 @@
 
 SteamMatchmakingPingResponse::SteamMatchmakingPingResponse(JNIEnv* env, jobject callback)
 	: SteamCallbackAdapter(env, callback) {
-
+	m_serverResponded = resolveMethod(env, "serverResponded", "(Lcom/codedisaster/steamworks/SteamMatchmakingGameServerItem;)V");
+	m_serverFailedToRespond = resolveMethod(env, "serverFailedToRespond", "()V");
 }
 
 SteamMatchmakingPingResponse::~SteamMatchmakingPingResponse() {
@@ -13,13 +14,12 @@ SteamMatchmakingPingResponse::~SteamMatchmakingPingResponse() {
 void SteamMatchmakingPingResponse::ServerResponded(gameserveritem_t &server) {
 	invokeCallback({
 		jobject item = createGameServerItem(env, server);
-		callVoidMethod(env, "serverResponded",
-					   "(Lcom/codedisaster/steamworks/SteamMatchmakingGameServerItem;)V", item);
+		callVoidMethod(env, m_serverResponded, item);
 	});
 }
 
 void SteamMatchmakingPingResponse::ServerFailedToRespond() {
 	invokeCallback({
-		callVoidMethod(env, "serverFailedToRespond", "()V");
+		callVoidMethod(env, m_serverFailedToRespond);
 	});
 }
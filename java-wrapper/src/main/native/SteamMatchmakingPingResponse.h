@@ -13,4 +13,8 @@ public:
 
 	void ServerResponded(gameserveritem_t &server);
 	void ServerFailedToRespond();
+
+private:
+	jmethodID m_serverResponded;
+	jmethodID m_serverFailedToRespond;
 };
@@ -2,7 +2,9 @@
 
 SteamMatchmakingPlayersResponse::SteamMatchmakingPlayersResponse(JNIEnv* env, jobject callback)
 	: SteamCallbackAdapter(env, callback) {
-
+	m_addPlayerToList = resolveMethod(env, "addPlayerToList", "(Ljava/lang/String;IF)V");
+	m_playersFailedToRespond = resolveMethod(env, "playersFailedToRespond", "()V");
+	m_playersRefreshComplete = resolveMethod(env, "playersRefreshComplete", "()V");
 }
 
 SteamMatchmakingPlayersResponse::~SteamMatchmakingPlayersResponse() {
@@ -10,19 +12,19 @@ SteamMatchmakingPlayersResponse::~SteamMatchmakingPlayersResponse() {
 
 void SteamMatchmakingPlayersResponse::AddPlayerToList(const char *pchName, int nScore, float flTimePlayed) {
 	invokeCallback({
-		callVoidMethod(env, "addPlayerToList", "(Ljava/lang/String;IF)V",
+		callVoidMethod(env, m_addPlayerToList,
 			env->NewStringUTF(pchName), nScore, flTimePlayed);
 	});
 }
 
 void SteamMatchmakingPlayersResponse::PlayersFailedToRespond() {
 	invokeCallback({
-		callVoidMethod(env, "playersFailedToRespond", "()V");
+		callVoidMethod(env, m_playersFailedToRespond);
 	});
 }
 
 void SteamMatchmakingPlayersResponse::PlayersRefreshComplete() {
 	invokeCallback({
-		callVoidMethod(env, "playersRefreshComplete", "()V");
+		callVoidMethod(env, m_playersRefreshComplete);
 	});
 }
@@ -14,4 +14,9 @@ public:
 	void AddPlayerToList(const char *pchName, int nScore, float flTimePlayed);
 	void PlayersFailedToRespond();
 	void PlayersRefreshComplete();
+
+private:
+	jmethodID m_addPlayerToList;
+	jmethodID m_playersFailedToRespond;
+	jmethodID m_playersRefreshComplete;
 };
@@ -2,7 +2,9 @@
 
 SteamMatchmakingRulesResponse::SteamMatchmakingRulesResponse(JNIEnv* env, jobject callback)
 	: SteamCallbackAdapter(env, callback) {
-
+	m_rulesResponded = resolveMethod(env, "rulesResponded", "(Ljava/lang/String;Ljava/lang/String;)V");
+	m_rulesFailedToRespond = resolveMethod(env, "rulesFailedToRespond", "()V");
+	m_rulesRefreshComplete = resolveMethod(env, "rulesRefreshComplete", "()V");
 }
 
 SteamMatchmakingRulesResponse::~SteamMatchmakingRulesResponse() {
@@ -11,19 +13,19 @@ SteamMatchmakingRulesResponse::~SteamMatchmakingRulesResponse() {
 
 void SteamMatchmakingRulesResponse::RulesResponded(const char *pchRule, const char *pchValue) {
 	invokeCallback({
-		callVoidMethod(env, "rulesResponded", "(Ljava/lang/String;Ljava/lang/String;)V",
+		callVoidMethod(env, m_rulesResponded,
 			env->NewStringUTF(pchRule), env->NewStringUTF(pchValue));
 	});
 }
 
 void SteamMatchmakingRulesResponse::RulesFailedToRespond() {
 	invokeCallback({
-		callVoidMethod(env, "rulesFailedToRespond", "()V");
+		callVoidMethod(env, m_rulesFailedToRespond);
 	});
 }
 
 void SteamMatchmakingRulesResponse::RulesRefreshComplete() {
 	invokeCallback({
-		callVoidMethod(env, "rulesRefreshComplete", "()V");
+		callVoidMethod(env, m_rulesRefreshComplete);
 	});
 }
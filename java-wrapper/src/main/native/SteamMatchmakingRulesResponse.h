@@ -14,4 +14,9 @@ public:
 	void RulesResponded(const char *pchRule, const char *pchValue);
 	void RulesFailedToRespond();
 	void RulesRefreshComplete();
+
+private:
+	jmethodID m_rulesResponded;
+	jmethodID m_rulesFailedToRespond;
+	jmethodID m_rulesRefreshComplete;
 };
@@ -2,7 +2,9 @@
 
 SteamMatchmakingServerListResponse::SteamMatchmakingServerListResponse(JNIEnv* env, jobject callback)
 	: SteamCallbackAdapter(env, callback) {
-
+	m_serverResponded = resolveMethod(env, "serverResponded", "(JI)V");
+	m_serverFailedToRespond = resolveMethod(env, "serverFailedToRespond", "(JI)V");
+	m_refreshComplete = resolveMethod(env, "refreshComplete", "(JI)V");
 }
 
 SteamMatchmakingServerListResponse::~SteamMatchmakingServerListResponse() {
@@ -11,18 +13,18 @@ SteamMatchmakingServerListResponse::~SteamMatchmakingServerListResponse() {
 
 void SteamMatchmakingServerListResponse::ServerResponded(HServerListRequest hRequest, int iServer) {
 	invokeCallback({
-		callVoidMethod(env, "serverResponded", "(JI)V", (jlong) hRequest, iServer);
+		callVoidMethod(env, m_serverResponded, (jlong) hRequest, iServer);
 	});
 }
 
 void SteamMatchmakingServerListResponse::ServerFailedToRespond(HServerListRequest hRequest, int iServer) {
 	invokeCallback({
-		callVoidMethod(env, "serverFailedToRespond", "(JI)V", (jlong) hRequest, iServer);
+		callVoidMethod(env, m_serverFailedToRespond, (jlong) hRequest, iServer);
 	});
 }
 
 void SteamMatchmakingServerListResponse::RefreshComplete(HServerListRequest hRequest, EMatchMakingServerResponse response) {
 	invokeCallback({
-		callVoidMethod(env, "refreshComplete", "(JI)V", (jlong) hRequest, (jint) response);
+		callVoidMethod(env, m_refreshComplete, (jlong) hRequest, (jint) response);
 	});
 }
@@ -14,4 +14,9 @@ public:
 	void ServerResponded(HServerListRequest hRequest, int iServer);
 	void ServerFailedToRespond(HServerListRequest hRequest, int iServer);
 	void RefreshComplete(HServerListRequest hRequest, EMatchMakingServerResponse response);
+
+private:
+	jmethodID m_serverResponded;
+	jmethodID m_serverFailedToRespond;
+	jmethodID m_refreshComplete;
 };
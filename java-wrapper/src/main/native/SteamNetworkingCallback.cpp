@@ -4,7 +4,8 @@ SteamNetworkingCallback::SteamNetworkingCallback(JNIEnv* env, jobject callback)
 	: SteamCallbackAdapter(env, callback)
 	, m_CallbackP2PSessionConnectFail(this, &SteamNetworkingCallback::onP2PSessionConnectFail)
 	, m_CallbackP2PSessionRequest(this, &SteamNetworkingCallback::onP2PSessionRequest) {
-
+	m_onP2PSessionConnectFail = resolveMethod(env, "onP2PSessionConnectFail", "(JI)V");
+	m_onP2PSessionRequest = resolveMethod(env, "onP2PSessionRequest", "(J)V");
 }
 
 SteamNetworkingCallback::~SteamNetworkingCallback() {
@@ -13,14 +14,14 @@ SteamNetworkingCallback::~SteamNetworkingCallback() {
 
 void SteamNetworkingCallback::onP2PSessionConnectFail(P2PSessionConnectFail_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onP2PSessionConnectFail", "(JI)V",
+		callVoidMethod(env, m_onP2PSessionConnectFail,
 			(jlong) callback->m_steamIDRemote.ConvertToUint64(), (jint) callback->m_eP2PSessionError);
 	});
 }
 
 void SteamNetworkingCallback::onP2PSessionRequest(P2PSessionRequest_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onP2PSessionRequest", "(J)V",
+		callVoidMethod(env, m_onP2PSessionRequest,
 			(jlong) callback->m_steamIDRemote.ConvertToUint64());
 	});
 }
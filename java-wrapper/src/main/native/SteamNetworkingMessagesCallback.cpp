@@ -0,0 +1,27 @@
+#include "SteamNetworkingMessagesCallback.h"
+
+SteamNetworkingMessagesCallback::SteamNetworkingMessagesCallback(JNIEnv* env, jobject callback) :
+	SteamCallbackAdapter(env, callback) {
+	m_onSessionRequest = resolveMethod(env, "onSessionRequest", "(J)V");
+	m_onSessionFailed = resolveMethod(env, "onSessionFailed", "(JILjava/lang/String;)V");
+}
+
+SteamNetworkingMessagesCallback::~SteamNetworkingMessagesCallback() {
+}
+
+void SteamNetworkingMessagesCallback::onSessionRequest(SteamNetworkingMessagesSessionRequest_t* callback) {
+	invokeCallback({
+		callVoidMethod(env, m_onSessionRequest,
+			(jlong) callback->m_identityRemote.GetSteamID64());
+	});
+}
+
+void SteamNetworkingMessagesCallback::onSessionFailed(SteamNetworkingMessagesSessionFailed_t* callback) {
+	invokeCallback({
+		const char* endDebug = callback->m_info.m_szEndDebug;
+		callVoidMethod(env, m_onSessionFailed,
+			(jlong) callback->m_info.m_identityRemote.GetSteamID64(),
+			(jint) callback->m_info.m_eEndReason,
+			endDebug[0] != '\0' ? env->NewStringUTF(endDebug) : NULL);
+	});
+}
@@ -0,0 +1,18 @@
+#pragma once
+
+#include "SteamCallbackAdapter.h"
+#include <steam_api.h>
+
+class SteamNetworkingMessagesCallback : public SteamCallbackAdapter {
+
+public:
+	SteamNetworkingMessagesCallback(JNIEnv* env, jobject callback);
+	~SteamNetworkingMessagesCallback();
+
+	STEAM_CALLBACK(SteamNetworkingMessagesCallback, onSessionRequest, SteamNetworkingMessagesSessionRequest_t);
+	STEAM_CALLBACK(SteamNetworkingMessagesCallback, onSessionFailed, SteamNetworkingMessagesSessionFailed_t);
+
+private:
+	jmethodID m_onSessionRequest;
+	jmethodID m_onSessionFailed;
+};
@@ -2,6 +2,7 @@
 
 SteamNetworkingSocketsCallback::SteamNetworkingSocketsCallback(JNIEnv* env, jobject callback) : 
 	SteamCallbackAdapter(env, callback) {
+	m_onConnectionStatusChanged = resolveMethod(env, "onConnectionStatusChanged", "(IJIIJIII)V");
 }
 
 SteamNetworkingSocketsCallback::~SteamNetworkingSocketsCallback() {
@@ -9,10 +10,14 @@ SteamNetworkingSocketsCallback::~SteamNetworkingSocketsCallback() {
 
 void SteamNetworkingSocketsCallback::onConnectionStatusChanged(SteamNetConnectionStatusChangedCallback_t* callback) {
 	invokeCallback({
-			callVoidMethod(env, "onConnectionStatusChanged", "(IJII)V",
+			callVoidMethod(env, m_onConnectionStatusChanged,
 				callback->m_hConn,
 				callback->m_info.m_identityRemote.GetSteamID64(),
 				callback->m_info.m_eState,
-				callback->m_eOldState);
+				callback->m_eOldState,
+				(jlong) callback->m_info.m_nUserData,
+				(jint) callback->m_info.m_hListenSocket,
+				(jint) callback->m_info.m_eEndReason,
+				(jint) callback->m_info.m_nFlags);
 		});
 }
\ No newline at end of file
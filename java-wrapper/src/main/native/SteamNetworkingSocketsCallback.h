@@ -11,4 +11,6 @@ public:
 
 	STEAM_CALLBACK(SteamNetworkingSocketsCallback, onConnectionStatusChanged, SteamNetConnectionStatusChangedCallback_t);
 
-};
\ No newline at end of file
+private:
+	jmethodID m_onConnectionStatusChanged;
+};
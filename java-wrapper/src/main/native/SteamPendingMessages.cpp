@@ -0,0 +1,75 @@
+#include "SteamPendingMessages.h"
+
+#include <string.h>
+
+int SteamPendingMessages::take(uint64 key, SteamNetworkingMessage_t** messages, int maxMessages) {
+	std::lock_guard<std::mutex> lock(m_mutex);
+	int count = 0;
+	auto it = m_messages.find(key);
+	if (it != m_messages.end()) {
+		Queue& pending = it->second;
+		while (count < maxMessages && !pending.empty()) {
+			messages[count++] = pending.front();
+			pending.pop_front();
+		}
+		if (pending.empty()) {
+			m_messages.erase(it);
+		}
+	}
+	return count;
+}
+
+void SteamPendingMessages::keep(uint64 key, SteamNetworkingMessage_t** messages, int count) {
+	std::lock_guard<std::mutex> lock(m_mutex);
+	Queue& pending = m_messages[key];
+	for (int i = count - 1; i >= 0; i--) {
+		pending.push_front(messages[i]);
+	}
+}
+
+int SteamPendingMessages::copy(uint64 key, SteamNetworkingMessage_t** messages, int messagesReceived,
+							   char* data, int size, int* sizes, Sender sender, void* senders,
+							   long long* messageNumbers, long long* receiveTimes, int* lanes) {
+	int count = 0;
+	int written = 0;
+
+	for (; count < messagesReceived; count++) {
+		SteamNetworkingMessage_t* message = messages[count];
+		if (message->m_cbSize > size - written) {
+			break;
+		}
+
+		memcpy(&data[written], message->m_pData, message->m_cbSize);
+		written += message->m_cbSize;
+
+		sizes[count] = message->m_cbSize;
+		if (senders) {
+			if (sender == Connection) {
+				((int*) senders)[count] = message->m_conn;
+			} else {
+				((long long*) senders)[count] = (long long) message->m_identityPeer.GetSteamID64();
+			}
+		}
+		if (messageNumbers) {
+			messageNumbers[count] = message->m_nMessageNumber;
+		}
+		if (receiveTimes) {
+			receiveTimes[count] = message->m_usecTimeReceived;
+		}
+		if (lanes) {
+			lanes[count] = message->m_idxLane;
+		}
+
+		message->Release();
+	}
+
+	if (count < messagesReceived) {
+		int required = messages[count]->m_cbSize;
+		keep(key, &messages[count], messagesReceived - count);
+		if (count == 0) {
+			return -required;
+		}
+	}
+
+	return count;
+}
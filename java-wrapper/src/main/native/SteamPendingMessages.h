@@ -0,0 +1,117 @@
+#pragma once
+
+#include <steam_api.h>
+#include <algorithm>
+#include <deque>
+#include <mutex>
+#include <unordered_map>
+#include <utility>
+#include <vector>
+
+/**
+	Messages received from Steam which didn't fit into the caller's buffer. They are kept in the
+	order they were received, and handed out first by the next receive with the same key.
+
+	SteamNetworkingSockets keys them by connection, or by poll group, and SteamNetworkingMessages
+	by channel. Each user of this class keeps its own instance.
+*/
+class SteamPendingMessages {
+
+public:
+	/**
+		The sender copy() writes for each message.
+	*/
+	enum Sender {
+		Connection,		// int32 connection handle
+		SteamID			// int64 Steam ID of the remote user
+	};
+
+	int take(uint64 key, SteamNetworkingMessage_t** messages, int maxMessages);
+	void keep(uint64 key, SteamNetworkingMessage_t** messages, int count);
+
+	/**
+		Copies messages back to back, releases them, and keeps those which don't fit. Returns the number of
+		messages copied, or the negative size of the first message if it doesn't fit. Senders and the
+		metadata arrays may be NULL.
+	*/
+	int copy(uint64 key, SteamNetworkingMessage_t** messages, int messagesReceived, char* data, int size,
+			 int* sizes, Sender sender, void* senders, long long* messageNumbers, long long* receiveTimes, int* lanes);
+
+	/**
+		Releases the kept messages for which matches(key, message) returns true.
+	*/
+	template<class Matches> void release(Matches matches);
+
+	/**
+		Moves the kept messages for which matches(key, message) returns true to the key returned by
+		newKey(message), behind the messages already kept there.
+	*/
+	template<class Matches, class NewKey> void move(Matches matches, NewKey newKey);
+
+	/**
+		Calls update(message) for the kept messages for which matches(key, message) returns true.
+	*/
+	template<class Matches, class Update> void update(Matches matches, Update update);
+
+private:
+	typedef std::deque<SteamNetworkingMessage_t*> Queue;
+	typedef std::pair<uint64, SteamNetworkingMessage_t*> Entry;
+
+	std::mutex m_mutex;
+	std::unordered_map<uint64, Queue> m_messages;
+
+};
+
+template<class Matches> void SteamPendingMessages::release(Matches matches) {
+	std::lock_guard<std::mutex> lock(m_mutex);
+	for (auto it = m_messages.begin(); it != m_messages.end(); ) {
+		Queue& pending = it->second;
+		for (auto m = pending.begin(); m != pending.end(); ) {
+			if (matches(it->first, *m)) {
+				(*m)->Release();
+				m = pending.erase(m);
+			} else {
+				++m;
+			}
+		}
+		it = pending.empty() ? m_messages.erase(it) : std::next(it);
+	}
+}
+
+template<class Matches, class NewKey> void SteamPendingMessages::move(Matches matches, NewKey newKey) {
+	std::lock_guard<std::mutex> lock(m_mutex);
+	std::vector<Entry> moved;
+	for (auto it = m_messages.begin(); it != m_messages.end(); ) {
+		Queue& pending = it->second;
+		for (auto m = pending.begin(); m != pending.end(); ) {
+			uint64 key = newKey(*m);
+			if (key != it->first && matches(it->first, *m)) {
+				moved.push_back(Entry(key, *m));
+				m = pending.erase(m);
+			} else {
+				++m;
+			}
+		}
+		it = pending.empty() ? m_messages.erase(it) : std::next(it);
+	}
+
+	// messages of a connection may come from two queues, restore the order they were received in
+	std::stable_sort(moved.begin(), moved.end(), [] (const Entry& a, const Entry& b) {
+		return a.second->m_nMessageNumber < b.second->m_nMessageNumber;
+	});
+
+	for (const Entry& entry : moved) {
+		m_messages[entry.first].push_back(entry.second);
+	}
+}
+
+template<class Matches, class Update> void SteamPendingMessages::update(Matches matches, Update update) {
+	std::lock_guard<std::mutex> lock(m_mutex);
+	for (auto& it : m_messages) {
+		for (SteamNetworkingMessage_t* message : it.second) {
+			if (matches(it.first, message)) {
+				update(message);
+			}
+		}
+	}
+}
@@ -6,7 +6,15 @@ SteamRemoteStorageCallback::SteamRemoteStorageCallback(JNIEnv* env, jobject call
     , m_CallbackPublishedFileSubscribed(this, &SteamRemoteStorageCallback::onPublishedFileSubscribed)
     , m_CallbackPublishedFileUnsubscribed(this, &SteamRemoteStorageCallback::onPublishedFileUnsubscribed)
     , m_CallbackPublishedFileDeleted(this, &SteamRemoteStorageCallback::onPublishedFileDeleted) {
-
+    m_onFileWriteAsyncComplete = resolveMethod(env, "onFileWriteAsyncComplete", "(I)V");
+    m_onFileReadAsyncComplete = resolveMethod(env, "onFileReadAsyncComplete", "(JIII)V");
+    m_onFileShareResult = resolveMethod(env, "onFileShareResult", "(JLjava/lang/String;I)V");
+    m_onDownloadUGCResult = resolveMethod(env, "onDownloadUGCResult", "(JI)V");
+    m_onPublishFileResult = resolveMethod(env, "onPublishFileResult", "(JZI)V");
+    m_onUpdatePublishedFileResult = resolveMethod(env, "onUpdatePublishedFileResult", "(JZI)V");
+    m_onPublishedFileSubscribed = resolveMethod(env, "onPublishedFileSubscribed", "(JI)V");
+    m_onPublishedFileUnsubscribed = resolveMethod(env, "onPublishedFileUnsubscribed", "(JI)V");
+    m_onPublishedFileDeleted = resolveMethod(env, "onPublishedFileDeleted", "(JI)V");
 }
 
 SteamRemoteStorageCallback::~SteamRemoteStorageCallback() {
@@ -15,60 +23,61 @@ SteamRemoteStorageCallback::~SteamRemoteStorageCallback() {
 
 void SteamRemoteStorageCallback::onFileWriteAsyncComplete(RemoteStorageFileWriteAsyncComplete_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onFileWriteAsyncComplete", "(I)V", (jint) callback->m_eResult);
+        callVoidMethod(env, m_onFileWriteAsyncComplete, (jint) callback->m_eResult);
     });
 }
 
 void SteamRemoteStorageCallback::onFileReadAsyncComplete(RemoteStorageFileReadAsyncComplete_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onFileReadAsyncComplete", "(I)V", (jint) callback->m_eResult);
+        callVoidMethod(env, m_onFileReadAsyncComplete, (jlong) callback->m_hFileReadAsync,
+            (jint) callback->m_eResult, (jint) callback->m_nOffset, (jint) callback->m_cubRead);
     });
 }
 
 void SteamRemoteStorageCallback::onFileShareResult(RemoteStorageFileShareResult_t* callback, bool error) {
 	invokeCallback({
-        callVoidMethod(env, "onFileShareResult", "(JLjava/lang/String;I)V",
+        callVoidMethod(env, m_onFileShareResult,
             (jlong) callback->m_hFile, env->NewStringUTF(callback->m_rgchFilename), (jint) callback->m_eResult);
 	});
 }
 
 void SteamRemoteStorageCallback::onDownloadUGCResult(RemoteStorageDownloadUGCResult_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onDownloadUGCResult", "(JI)V", (jlong) callback->m_hFile, (jint) callback->m_eResult);
+        callVoidMethod(env, m_onDownloadUGCResult, (jlong) callback->m_hFile, (jint) callback->m_eResult);
     });
 }
 
 void SteamRemoteStorageCallback::onPublishFileResult(RemoteStoragePublishFileResult_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onPublishFileResult", "(JZI)V", (jlong) callback->m_nPublishedFileId,
+        callVoidMethod(env, m_onPublishFileResult, (jlong) callback->m_nPublishedFileId,
             callback->m_bUserNeedsToAcceptWorkshopLegalAgreement, (jint) callback->m_eResult);
     });
 }
 
 void SteamRemoteStorageCallback::onUpdatePublishedFileResult(RemoteStorageUpdatePublishedFileResult_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onUpdatePublishedFileResult", "(JZI)V", (jlong) callback->m_nPublishedFileId,
+        callVoidMethod(env, m_onUpdatePublishedFileResult, (jlong) callback->m_nPublishedFileId,
             callback->m_bUserNeedsToAcceptWorkshopLegalAgreement, (jint) callback->m_eResult);
     });
 }
 
 void SteamRemoteStorageCallback::onPublishedFileSubscribed(RemoteStoragePublishedFileSubscribed_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onPublishedFileSubscribed", "(JI)V",
+        callVoidMethod(env, m_onPublishedFileSubscribed,
                 (jlong) callback->m_nPublishedFileId, callback->m_nAppID);
     });
 }
 
 void SteamRemoteStorageCallback::onPublishedFileUnsubscribed(RemoteStoragePublishedFileUnsubscribed_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onPublishedFileUnsubscribed", "(JI)V",
+        callVoidMethod(env, m_onPublishedFileUnsubscribed,
                 (jlong) callback->m_nPublishedFileId, callback->m_nAppID);
     });
 }
 
 void SteamRemoteStorageCallback::onPublishedFileDeleted(RemoteStoragePublishedFileDeleted_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onPublishedFileDeleted", "(JI)V",
+        callVoidMethod(env, m_onPublishedFileDeleted,
                 (jlong) callback->m_nPublishedFileId, callback->m_nAppID);
     });
 }
@@ -10,24 +10,24 @@ public:
     ~SteamRemoteStorageCallback();
 
     void onFileWriteAsyncComplete(RemoteStorageFileWriteAsyncComplete_t* callback, bool error);
-	CCallResult<SteamRemoteStorageCallback, RemoteStorageFileWriteAsyncComplete_t> onFileWriteAsyncCompleteCall;
-
     void onFileReadAsyncComplete(RemoteStorageFileReadAsyncComplete_t* callback, bool error);
-	CCallResult<SteamRemoteStorageCallback, RemoteStorageFileReadAsyncComplete_t> onFileReadAsyncCompleteCall;
-
 	void onFileShareResult(RemoteStorageFileShareResult_t* callback, bool error);
-	CCallResult<SteamRemoteStorageCallback, RemoteStorageFileShareResult_t> onFileShareResultCall;
-
 	void onDownloadUGCResult(RemoteStorageDownloadUGCResult_t* callback, bool error);
-	CCallResult<SteamRemoteStorageCallback, RemoteStorageDownloadUGCResult_t> onDownloadUGCResultCall;
-
 	void onPublishFileResult(RemoteStoragePublishFileResult_t* callback, bool error);
-	CCallResult<SteamRemoteStorageCallback, RemoteStoragePublishFileResult_t> onPublishFileResultCall;
-
 	void onUpdatePublishedFileResult(RemoteStorageUpdatePublishedFileResult_t* callback, bool error);
-	CCallResult<SteamRemoteStorageCallback, RemoteStorageUpdatePublishedFileResult_t> onUpdatePublishedFileResultCall;
 
     STEAM_CALLBACK(SteamRemoteStorageCallback, onPublishedFileSubscribed, RemoteStoragePublishedFileSubscribed_t, m_CallbackPublishedFileSubscribed);
     STEAM_CALLBACK(SteamRemoteStorageCallback, onPublishedFileUnsubscribed, RemoteStoragePublishedFileUnsubscribed_t, m_CallbackPublishedFileUnsubscribed);
     STEAM_CALLBACK(SteamRemoteStorageCallback, onPublishedFileDeleted, RemoteStoragePublishedFileDeleted_t, m_CallbackPublishedFileDeleted);
+
+private:
+    jmethodID m_onFileWriteAsyncComplete;
+    jmethodID m_onFileReadAsyncComplete;
+    jmethodID m_onFileShareResult;
+    jmethodID m_onDownloadUGCResult;
+    jmethodID m_onPublishFileResult;
+    jmethodID m_onUpdatePublishedFileResult;
+    jmethodID m_onPublishedFileSubscribed;
+    jmethodID m_onPublishedFileUnsubscribed;
+    jmethodID m_onPublishedFileDeleted;
 };
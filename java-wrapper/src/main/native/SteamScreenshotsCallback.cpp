@@ -5,7 +5,8 @@ SteamScreenshotsCallback::SteamScreenshotsCallback(JNIEnv* env, jobject callback
     : SteamCallbackAdapter(env, callback)
 	, m_CallbackScreenshotReady(this, &SteamScreenshotsCallback::onScreenshotReady)
 	, m_CallbackScreenshotRequested(this, &SteamScreenshotsCallback::onScreenshotRequested) {
-
+    m_onScreenshotReady = resolveMethod(env, "onScreenshotReady", "(II)V");
+    m_onScreenshotRequested = resolveMethod(env, "onScreenshotRequested", "()V");
 }
 
 SteamScreenshotsCallback::~SteamScreenshotsCallback() {
@@ -14,13 +15,13 @@ SteamScreenshotsCallback::~SteamScreenshotsCallback() {
 
 void SteamScreenshotsCallback::onScreenshotReady(ScreenshotReady_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onScreenshotReady", "(II)V",
+        callVoidMethod(env, m_onScreenshotReady,
             (jint) callback->m_hLocal, (jint) callback->m_eResult);
     });
 }
 
 void SteamScreenshotsCallback::onScreenshotRequested(ScreenshotRequested_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onScreenshotRequested", "()V");
+        callVoidMethod(env, m_onScreenshotRequested);
     });
 }
@@ -11,4 +11,8 @@ public:
 
 	STEAM_CALLBACK(SteamScreenshotsCallback, onScreenshotReady, ScreenshotReady_t, m_CallbackScreenshotReady);
 	STEAM_CALLBACK(SteamScreenshotsCallback, onScreenshotRequested, ScreenshotRequested_t, m_CallbackScreenshotRequested);
+
+private:
+    jmethodID m_onScreenshotReady;
+    jmethodID m_onScreenshotRequested;
 };
@@ -3,7 +3,20 @@
 SteamUGCCallback::SteamUGCCallback(JNIEnv* env, jobject callback)
 	: SteamCallbackAdapter(env, callback)
 	, m_CallbackDownloadItemResult(this, &SteamUGCCallback::onDownloadItemResult) {
-
+	m_onUGCQueryCompleted = resolveMethod(env, "onUGCQueryCompleted", "(JIIZI)V");
+	m_onSubscribeItem = resolveMethod(env, "onSubscribeItem", "(JI)V");
+	m_onDeleteItem = resolveMethod(env, "onDeleteItem", "(JI)V");
+	m_onUnsubscribeItem = resolveMethod(env, "onUnsubscribeItem", "(JI)V");
+	m_onRequestUGCDetails = resolveMethod(env, "onRequestUGCDetails", "(JIILjava/lang/String;Ljava/lang/String;ZLjava/lang/String;JJLjava/lang/String;IILjava/lang/String;IIJIIFIJ)V");
+	m_onCreateItem = resolveMethod(env, "onCreateItem", "(JZI)V");
+	m_onSubmitItemUpdate = resolveMethod(env, "onSubmitItemUpdate", "(JZI)V");
+	m_onDownloadItemResult = resolveMethod(env, "onDownloadItemResult", "(IJI)V");
+	m_onUserFavoriteItemsListChanged = resolveMethod(env, "onUserFavoriteItemsListChanged", "(JZI)V");
+	m_onSetUserItemVote = resolveMethod(env, "onSetUserItemVote", "(JZI)V");
+	m_onGetUserItemVote = resolveMethod(env, "onGetUserItemVote", "(JZZZI)V");
+	m_onStartPlaytimeTracking = resolveMethod(env, "onStartPlaytimeTracking", "(I)V");
+	m_onStopPlaytimeTracking = resolveMethod(env, "onStopPlaytimeTracking", "(I)V");
+	m_onStopPlaytimeTrackingForAllItems = resolveMethod(env, "onStopPlaytimeTrackingForAllItems", "(I)V");
 }
 
 SteamUGCCallback::~SteamUGCCallback() {
@@ -12,7 +25,7 @@ SteamUGCCallback::~SteamUGCCallback() {
 
 void SteamUGCCallback::onUGCQueryCompleted(SteamUGCQueryCompleted_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onUGCQueryCompleted", "(JIIZI)V", (jlong) callback->m_handle,
+		callVoidMethod(env, m_onUGCQueryCompleted, (jlong) callback->m_handle,
 			(jint) callback->m_unNumResultsReturned, (jint) callback->m_unTotalMatchingResults,
 			(jboolean) callback->m_bCachedData, (jint) callback->m_eResult);
 	});
@@ -20,25 +33,25 @@ void SteamUGCCallback::onUGCQueryCompleted(SteamUGCQueryCompleted_t* callback, b
 
 void SteamUGCCallback::onSubscribeItem(RemoteStorageSubscribePublishedFileResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onSubscribeItem", "(JI)V", (jlong) callback->m_nPublishedFileId, (jint) callback->m_eResult);
+		callVoidMethod(env, m_onSubscribeItem, (jlong) callback->m_nPublishedFileId, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onDeleteItem(DeleteItemResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onDeleteItem", "(JI)V", (jlong) callback->m_nPublishedFileId, (jint) callback->m_eResult);
+		callVoidMethod(env, m_onDeleteItem, (jlong) callback->m_nPublishedFileId, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onUnsubscribeItem(RemoteStorageUnsubscribePublishedFileResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onUnsubscribeItem", "(JI)V", (jlong) callback->m_nPublishedFileId, (jint) callback->m_eResult);
+		callVoidMethod(env, m_onUnsubscribeItem, (jlong) callback->m_nPublishedFileId, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onRequestUGCDetails(SteamUGCRequestUGCDetailsResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onRequestUGCDetails", "(JIILjava/lang/String;Ljava/lang/String;ZLjava/lang/String;JJLjava/lang/String;IILjava/lang/String;IIJIIFIJ)V",
+		callVoidMethod(env, m_onRequestUGCDetails,
 			(jlong) callback->m_details.m_nPublishedFileId,
 			(jint) callback->m_details.m_eResult,
 			(jint) callback->m_details.m_eFileType,
@@ -65,42 +78,42 @@ void SteamUGCCallback::onRequestUGCDetails(SteamUGCRequestUGCDetailsResult_t* ca
 
 void SteamUGCCallback::onCreateItem(CreateItemResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onCreateItem", "(JZI)V", (jlong) callback->m_nPublishedFileId,
+		callVoidMethod(env, m_onCreateItem, (jlong) callback->m_nPublishedFileId,
 		    (jboolean) callback->m_bUserNeedsToAcceptWorkshopLegalAgreement, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onSubmitItemUpdate(SubmitItemUpdateResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onSubmitItemUpdate", "(JZI)V", (jlong) callback->m_nPublishedFileId,
+		callVoidMethod(env, m_onSubmitItemUpdate, (jlong) callback->m_nPublishedFileId,
 		    (jboolean) callback->m_bUserNeedsToAcceptWorkshopLegalAgreement, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onDownloadItemResult(DownloadItemResult_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onDownloadItemResult", "(IJI)V", (jint) callback->m_unAppID,
+		callVoidMethod(env, m_onDownloadItemResult, (jint) callback->m_unAppID,
 		    (jlong) callback->m_nPublishedFileId, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onUserFavoriteItemsListChanged(UserFavoriteItemsListChanged_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onUserFavoriteItemsListChanged", "(JZI)V", (jlong) callback->m_nPublishedFileId,
+		callVoidMethod(env, m_onUserFavoriteItemsListChanged, (jlong) callback->m_nPublishedFileId,
 		    (jboolean) callback->m_bWasAddRequest, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onSetUserItemVote(SetUserItemVoteResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onSetUserItemVote", "(JZI)V", (jlong) callback->m_nPublishedFileId,
+		callVoidMethod(env, m_onSetUserItemVote, (jlong) callback->m_nPublishedFileId,
 		    (jboolean) callback->m_bVoteUp, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onGetUserItemVote(GetUserItemVoteResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onGetUserItemVote", "(JZZZI)V", (jlong) callback->m_nPublishedFileId,
+		callVoidMethod(env, m_onGetUserItemVote, (jlong) callback->m_nPublishedFileId,
 		    (jboolean) callback->m_bVotedUp, (jboolean) callback->m_bVotedDown,
 		    (jboolean) callback->m_bVoteSkipped, (jint) callback->m_eResult);
 	});
@@ -108,18 +121,18 @@ void SteamUGCCallback::onGetUserItemVote(GetUserItemVoteResult_t* callback, bool
 
 void SteamUGCCallback::onStartPlaytimeTracking(StartPlaytimeTrackingResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onStartPlaytimeTracking", "(I)V", (jint) callback->m_eResult);
+		callVoidMethod(env, m_onStartPlaytimeTracking, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onStopPlaytimeTracking(StopPlaytimeTrackingResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onStopPlaytimeTracking", "(I)V", (jint) callback->m_eResult);
+		callVoidMethod(env, m_onStopPlaytimeTracking, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUGCCallback::onStopPlaytimeTrackingForAllItems(StopPlaytimeTrackingResult_t* callback, bool error) {
 	invokeCallback({
-		callVoidMethod(env, "onStopPlaytimeTrackingForAllItems", "(I)V", (jint) callback->m_eResult);
+		callVoidMethod(env, m_onStopPlaytimeTrackingForAllItems, (jint) callback->m_eResult);
 	});
 }
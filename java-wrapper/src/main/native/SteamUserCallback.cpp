@@ -6,7 +6,11 @@ SteamUserCallback::SteamUserCallback(JNIEnv* env, jobject callback)
 	, m_CallbackValidateAuthTicket(this, &SteamUserCallback::onValidateAuthTicket)
 	, m_CallbackMicroTxnAuthorization(this, &SteamUserCallback::onMicroTxnAuthorization)
 	, m_CallbackGetTicketForWebApi(this, &SteamUserCallback::onGetTicketForWebApi) {
-
+	m_onAuthSessionTicket = resolveMethod(env, "onAuthSessionTicket", "(JI)V");
+	m_onValidateAuthTicket = resolveMethod(env, "onValidateAuthTicket", "(JIJ)V");
+	m_onMicroTxnAuthorization = resolveMethod(env, "onMicroTxnAuthorization", "(IJZ)V");
+	m_onEncryptedAppTicket = resolveMethod(env, "onEncryptedAppTicket", "(I)V");
+	m_onGetTicketForWebApi = resolveMethod(env, "onGetTicketForWebApi", "(JI[B)V");
 }
 
 SteamUserCallback::~SteamUserCallback() {
@@ -15,14 +19,14 @@ SteamUserCallback::~SteamUserCallback() {
 
 void SteamUserCallback::onAuthSessionTicket(GetAuthSessionTicketResponse_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onAuthSessionTicket", "(JI)V",
+		callVoidMethod(env, m_onAuthSessionTicket,
 			(jlong) callback->m_hAuthTicket, (jint) callback->m_eResult);
 	});
 }
 
 void SteamUserCallback::onValidateAuthTicket(ValidateAuthTicketResponse_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onValidateAuthTicket", "(JIJ)V",
+		callVoidMethod(env, m_onValidateAuthTicket,
 			(jlong) callback->m_SteamID.ConvertToUint64(), (jint) callback->m_eAuthSessionResponse,
 			(jlong) callback->m_OwnerSteamID.ConvertToUint64());
 	});
@@ -30,7 +34,7 @@ void SteamUserCallback::onValidateAuthTicket(ValidateAuthTicketResponse_t* callb
 
 void SteamUserCallback::onMicroTxnAuthorization(MicroTxnAuthorizationResponse_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onMicroTxnAuthorization", "(IJZ)V",
+		callVoidMethod(env, m_onMicroTxnAuthorization,
 			(jint) callback->m_unAppID, (jlong) callback->m_ulOrderID,
 			(jboolean) callback->m_bAuthorized);
 	});
@@ -38,7 +42,7 @@ void SteamUserCallback::onMicroTxnAuthorization(MicroTxnAuthorizationResponse_t*
 
 void SteamUserCallback::onRequestEncryptedAppTicket(EncryptedAppTicketResponse_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onEncryptedAppTicket", "(I)V", (jint) callback->m_eResult);
+        callVoidMethod(env, m_onEncryptedAppTicket, (jint) callback->m_eResult);
     });
 }
 
@@ -50,7 +54,7 @@ void SteamUserCallback::onGetTicketForWebApi(GetTicketForWebApiResponse_t* callb
             env->SetByteArrayRegion(arr, 0, callback->m_cubTicket, (const jbyte*) callback->m_rgubTicket);
         }
 
-		callVoidMethod(env, "onGetTicketForWebApi", "(JI[B)V",
+		callVoidMethod(env, m_onGetTicketForWebApi,
 			(jlong) callback->m_hAuthTicket, (jint) callback->m_eResult, arr);
 
 		if (arr != nullptr) {
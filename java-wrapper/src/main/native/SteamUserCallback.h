@@ -15,5 +15,11 @@ public:
 	STEAM_CALLBACK(SteamUserCallback, onGetTicketForWebApi, GetTicketForWebApiResponse_t, m_CallbackGetTicketForWebApi);
 
     void onRequestEncryptedAppTicket(EncryptedAppTicketResponse_t* callback, bool error);
-    CCallResult<SteamUserCallback, EncryptedAppTicketResponse_t> onRequestEncryptedAppTicketCall;
+
+private:
+	jmethodID m_onAuthSessionTicket;
+	jmethodID m_onValidateAuthTicket;
+	jmethodID m_onMicroTxnAuthorization;
+	jmethodID m_onEncryptedAppTicket;
+	jmethodID m_onGetTicketForWebApi;
 };
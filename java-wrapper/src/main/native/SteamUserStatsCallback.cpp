@@ -6,7 +6,15 @@ SteamUserStatsCallback::SteamUserStatsCallback(JNIEnv* env, jobject callback)
     , m_CallbackUserStatsStored(this, &SteamUserStatsCallback::onUserStatsStored)
     , m_CallbackUserStatsUnloaded(this, &SteamUserStatsCallback::onUserStatsUnloaded)
     , m_CallbackUserAchievementStored(this, &SteamUserStatsCallback::onUserAchievementStored) {
-
+    m_onUserStatsReceived = resolveMethod(env, "onUserStatsReceived", "(JJI)V");
+    m_onUserStatsStored = resolveMethod(env, "onUserStatsStored", "(JI)V");
+    m_onUserStatsUnloaded = resolveMethod(env, "onUserStatsUnloaded", "(J)V");
+    m_onUserAchievementStored = resolveMethod(env, "onUserAchievementStored", "(JZLjava/lang/String;II)V");
+    m_onLeaderboardFindResult = resolveMethod(env, "onLeaderboardFindResult", "(JZ)V");
+    m_onLeaderboardScoresDownloaded = resolveMethod(env, "onLeaderboardScoresDownloaded", "(JJI)V");
+    m_onLeaderboardScoreUploaded = resolveMethod(env, "onLeaderboardScoreUploaded", "(ZJIZII)V");
+    m_onNumberOfCurrentPlayersReceived = resolveMethod(env, "onNumberOfCurrentPlayersReceived", "(ZI)V");
+    m_onGlobalStatsReceived = resolveMethod(env, "onGlobalStatsReceived", "(JI)V");
 }
 
 SteamUserStatsCallback::~SteamUserStatsCallback() {
@@ -15,26 +23,26 @@ SteamUserStatsCallback::~SteamUserStatsCallback() {
 
 void SteamUserStatsCallback::onUserStatsReceived(UserStatsReceived_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onUserStatsReceived", "(JJI)V", (jlong) callback->m_nGameID,
+        callVoidMethod(env, m_onUserStatsReceived, (jlong) callback->m_nGameID,
             (jlong) callback->m_steamIDUser.ConvertToUint64(), (jint) callback->m_eResult);
     });
 }
 
 void SteamUserStatsCallback::onUserStatsStored(UserStatsStored_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onUserStatsStored", "(JI)V", (jlong) callback->m_nGameID, (jint) callback->m_eResult);
+        callVoidMethod(env, m_onUserStatsStored, (jlong) callback->m_nGameID, (jint) callback->m_eResult);
     });
 }
 
 void SteamUserStatsCallback::onUserStatsUnloaded(UserStatsUnloaded_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onUserStatsUnloaded", "(J)V", (jlong) callback->m_steamIDUser.ConvertToUint64());
+        callVoidMethod(env, m_onUserStatsUnloaded, (jlong) callback->m_steamIDUser.ConvertToUint64());
     });
 }
 
 void SteamUserStatsCallback::onUserAchievementStored(UserAchievementStored_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onUserAchievementStored", "(JZLjava/lang/String;II)V", (jlong) callback->m_nGameID,
+        callVoidMethod(env, m_onUserAchievementStored, (jlong) callback->m_nGameID,
             (jboolean) callback->m_bGroupAchievement, env->NewStringUTF(callback->m_rgchAchievementName),
             (jint) callback->m_nCurProgress, (jint) callback->m_nMaxProgress);
     });
@@ -42,21 +50,21 @@ void SteamUserStatsCallback::onUserAchievementStored(UserAchievementStored_t* ca
 
 void SteamUserStatsCallback::onLeaderboardFindResult(LeaderboardFindResult_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onLeaderboardFindResult", "(JZ)V", (jlong) callback->m_hSteamLeaderboard,
+        callVoidMethod(env, m_onLeaderboardFindResult, (jlong) callback->m_hSteamLeaderboard,
             (jboolean) (callback->m_bLeaderboardFound != 0u));
     });
 }
 
 void SteamUserStatsCallback::onLeaderboardScoresDownloaded(LeaderboardScoresDownloaded_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onLeaderboardScoresDownloaded", "(JJI)V", (jlong) callback->m_hSteamLeaderboard,
+        callVoidMethod(env, m_onLeaderboardScoresDownloaded, (jlong) callback->m_hSteamLeaderboard,
             (jlong) callback->m_hSteamLeaderboardEntries, (jint) callback->m_cEntryCount);
     });
 }
 
 void SteamUserStatsCallback::onLeaderboardScoreUploaded(LeaderboardScoreUploaded_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onLeaderboardScoreUploaded", "(ZJIZII)V", (jboolean) (callback->m_bSuccess != 0),
+        callVoidMethod(env, m_onLeaderboardScoreUploaded, (jboolean) (callback->m_bSuccess != 0),
             (jlong) callback->m_hSteamLeaderboard, (jint) callback->m_nScore,
             (jboolean) (callback->m_bScoreChanged != 0), (jint) callback->m_nGlobalRankNew,
             (jint) callback->m_nGlobalRankPrevious);
@@ -65,14 +73,14 @@ void SteamUserStatsCallback::onLeaderboardScoreUploaded(LeaderboardScoreUploaded
 
 void SteamUserStatsCallback::onNumberOfCurrentPlayersReceived(NumberOfCurrentPlayers_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onNumberOfCurrentPlayersReceived", "(ZI)V", (jboolean) (callback->m_bSuccess != 0),
+        callVoidMethod(env, m_onNumberOfCurrentPlayersReceived, (jboolean) (callback->m_bSuccess != 0),
             (jint) callback->m_cPlayers);
     });
 }
 
 void SteamUserStatsCallback::onGlobalStatsReceived(GlobalStatsReceived_t* callback, bool error) {
     invokeCallback({
-        callVoidMethod(env, "onGlobalStatsReceived", "(JI)V", (jlong) callback->m_nGameID,
+        callVoidMethod(env, m_onGlobalStatsReceived, (jlong) callback->m_nGameID,
             (jint) callback->m_eResult);
     });
 }
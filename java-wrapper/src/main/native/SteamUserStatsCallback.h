@@ -15,17 +15,19 @@ public:
     STEAM_CALLBACK(SteamUserStatsCallback, onUserAchievementStored, UserAchievementStored_t, m_CallbackUserAchievementStored);
 
     void onLeaderboardFindResult(LeaderboardFindResult_t* callback, bool error);
-    CCallResult<SteamUserStatsCallback, LeaderboardFindResult_t> onLeaderboardFindResultCall;
-
     void onLeaderboardScoresDownloaded(LeaderboardScoresDownloaded_t* callback, bool error);
-    CCallResult<SteamUserStatsCallback, LeaderboardScoresDownloaded_t> onLeaderboardScoresDownloadedCall;
-
     void onLeaderboardScoreUploaded(LeaderboardScoreUploaded_t* callback, bool error);
-    CCallResult<SteamUserStatsCallback, LeaderboardScoreUploaded_t> onLeaderboardScoreUploadedCall;
-
     void onNumberOfCurrentPlayersReceived(NumberOfCurrentPlayers_t* callback, bool error);
-    CCallResult<SteamUserStatsCallback, NumberOfCurrentPlayers_t> onNumberOfCurrentPlayersReceivedCall;
-
     void onGlobalStatsReceived(GlobalStatsReceived_t* callback, bool error);
-    CCallResult<SteamUserStatsCallback, GlobalStatsReceived_t> onGlobalStatsReceivedCall;
+
+private:
+    jmethodID m_onUserStatsReceived;
+    jmethodID m_onUserStatsStored;
+    jmethodID m_onUserStatsUnloaded;
+    jmethodID m_onUserAchievementStored;
+    jmethodID m_onLeaderboardFindResult;
+    jmethodID m_onLeaderboardScoresDownloaded;
+    jmethodID m_onLeaderboardScoreUploaded;
+    jmethodID m_onNumberOfCurrentPlayersReceived;
+    jmethodID m_onGlobalStatsReceived;
 };
@@ -6,7 +6,9 @@ SteamUtilsCallback::SteamUtilsCallback(JNIEnv* env, jobject callback)
 	: SteamCallbackAdapter(env, callback)
 	, m_CallbackSteamShutdown(this, &SteamUtilsCallback::onSteamShutdown)
 	, m_CallbackFloatingGamepadTextInputDismissed(this, &SteamUtilsCallback::onFloatingGamepadTextInputDismissed) {
-
+	m_onWarningMessage = resolveMethod(env, "onWarningMessage", "(ILjava/lang/String;)V");
+	m_onSteamShutdown = resolveMethod(env, "onSteamShutdown", "()V");
+	m_onFloatingGamepadTextInputDismissed = resolveMethod(env, "onFloatingGamepadTextInputDismissed", "()V");
 }
 
 SteamUtilsCallback::~SteamUtilsCallback() {
@@ -26,19 +28,19 @@ void SteamUtilsCallback::enableWarningMessageHook(bool enabled) {
 
 void SteamUtilsCallback::onWarningMessage(int severity, const char *debugText) {
 	invokeCallback({
-		callVoidMethod(env, "onWarningMessage", "(ILjava/lang/String;)V",
+		callVoidMethod(env, m_onWarningMessage,
 			severity, env->NewStringUTF(debugText));
 	});
 }
 
 void SteamUtilsCallback::onSteamShutdown(SteamShutdown_t* callback) {
     invokeCallback({
-        callVoidMethod(env, "onSteamShutdown", "()V");
+        callVoidMethod(env, m_onSteamShutdown);
     });
 }
 
 void SteamUtilsCallback::onFloatingGamepadTextInputDismissed(FloatingGamepadTextInputDismissed_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onFloatingGamepadTextInputDismissed", "()V");
+		callVoidMethod(env, m_onFloatingGamepadTextInputDismissed);
 	});
 }
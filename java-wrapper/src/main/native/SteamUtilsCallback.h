@@ -14,4 +14,9 @@ public:
 
     STEAM_CALLBACK(SteamUtilsCallback, onSteamShutdown, SteamShutdown_t, m_CallbackSteamShutdown);
 	STEAM_CALLBACK(SteamUtilsCallback, onFloatingGamepadTextInputDismissed, FloatingGamepadTextInputDismissed_t, m_CallbackFloatingGamepadTextInputDismissed);
+
+private:
+	jmethodID m_onWarningMessage;
+	jmethodID m_onSteamShutdown;
+	jmethodID m_onFloatingGamepadTextInputDismissed;
 };
@@ -6,6 +6,23 @@ public class SteamEncryptedAppTicket extends SteamInterface {
 
 	public static final int SymmetricKeyLen = 32;
 
+	private static final SteamMetrics.Timer DecryptTicket =
+			SteamMetrics.nativeCall("SteamEncryptedAppTicket.decryptTicket");
+	private static final SteamMetrics.Timer IsTicketForApp =
+			SteamMetrics.nativeCall("SteamEncryptedAppTicket.isTicketForApp");
+	private static final SteamMetrics.Timer GetTicketIssueTime =
+			SteamMetrics.nativeCall("SteamEncryptedAppTicket.getTicketIssueTime");
+	private static final SteamMetrics.Timer GetTicketSteamID =
+			SteamMetrics.nativeCall("SteamEncryptedAppTicket.getTicketSteamID");
+	private static final SteamMetrics.Timer GetTicketAppID =
+			SteamMetrics.nativeCall("SteamEncryptedAppTicket.getTicketAppID");
+	private static final SteamMetrics.Timer UserOwnsAppInTicket =
+			SteamMetrics.nativeCall("SteamEncryptedAppTicket.userOwnsAppInTicket");
+	private static final SteamMetrics.Timer UserIsVacBanned =
+			SteamMetrics.nativeCall("SteamEncryptedAppTicket.userIsVacBanned");
+	private static final SteamMetrics.Timer GetUserVariableData =
+			SteamMetrics.nativeCall("SteamEncryptedAppTicket.getUserVariableData");
+
 	public static boolean loadLibraries(SteamLibraryLoader loader) {
 		boolean success = loader.loadLibrary("sdkencryptedappticket");
 		success = success && loader.loadLibrary("steamworks4j-encryptedappticket");
@@ -23,58 +40,79 @@ public class SteamEncryptedAppTicket extends SteamInterface {
 		checkBuffer(ticketDecrypted);
 		checkArray(key, SymmetricKeyLen);
 
-		return SteamEncryptedAppTicketNative.decryptTicket(
+		long start = SteamMetrics.begin();
+		boolean result = SteamEncryptedAppTicketNative.decryptTicket(
 				ticketEncrypted, ticketEncrypted.position(), ticketEncrypted.remaining(),
 				ticketDecrypted, ticketDecrypted.position(), ticketDecrypted.remaining(),
 				key, SymmetricKeyLen, ticketDecryptedOutputSize);
+		SteamMetrics.end(DecryptTicket, start);
+		return result;
 	}
 
 	public boolean isTicketForApp(ByteBuffer ticketDecrypted, int appID) throws SteamException {
 
 		checkBuffer(ticketDecrypted);
 
-		return SteamEncryptedAppTicketNative.isTicketForApp(
+		long start = SteamMetrics.begin();
+		boolean result = SteamEncryptedAppTicketNative.isTicketForApp(
 				ticketDecrypted, ticketDecrypted.position(), ticketDecrypted.remaining(), appID);
+		SteamMetrics.end(IsTicketForApp, start);
+		return result;
 	}
 
 	public int getTicketIssueTime(ByteBuffer ticketDecrypted) throws SteamException {
 
 		checkBuffer(ticketDecrypted);
 
-		return SteamEncryptedAppTicketNative.getTicketIssueTime(
+		long start = SteamMetrics.begin();
+		int result = SteamEncryptedAppTicketNative.getTicketIssueTime(
 				ticketDecrypted, ticketDecrypted.position(), ticketDecrypted.remaining());
+		SteamMetrics.end(GetTicketIssueTime, start);
+		return result;
 	}
 
 	public SteamID getTicketSteamID(ByteBuffer ticketDecrypted) throws SteamException {
 
 		checkBuffer(ticketDecrypted);
 
-		return new SteamID(SteamEncryptedAppTicketNative.getTicketSteamID(
-				ticketDecrypted, ticketDecrypted.position(), ticketDecrypted.remaining()));
+		long start = SteamMetrics.begin();
+		long result = SteamEncryptedAppTicketNative.getTicketSteamID(
+				ticketDecrypted, ticketDecrypted.position(), ticketDecrypted.remaining());
+		SteamMetrics.end(GetTicketSteamID, start);
+		return new SteamID(result);
 	}
 
 	public int getTicketAppID(ByteBuffer ticketDecrypted) throws SteamException {
 
 		checkBuffer(ticketDecrypted);
 
-		return SteamEncryptedAppTicketNative.getTicketAppID(
+		long start = SteamMetrics.begin();
+		int result = SteamEncryptedAppTicketNative.getTicketAppID(
 				ticketDecrypted, ticketDecrypted.position(), ticketDecrypted.remaining());
+		SteamMetrics.end(GetTicketAppID, start);
+		return result;
 	}
 
 	public boolean userOwnsAppInTicket(ByteBuffer ticketDecrypted, int appID) throws SteamException {
 
 		checkBuffer(ticketDecrypted);
 
-		return SteamEncryptedAppTicketNative.userOwnsAppInTicket(
+		long start = SteamMetrics.begin();
+		boolean result = SteamEncryptedAppTicketNative.userOwnsAppInTicket(
 				ticketDecrypted, ticketDecrypted.position(), ticketDecrypted.remaining(), appID);
+		SteamMetrics.end(UserOwnsAppInTicket, start);
+		return result;
 	}
 
 	public boolean userIsVacBanned(ByteBuffer ticketDecrypted) throws SteamException {
 
 		checkBuffer(ticketDecrypted);
 
-		return SteamEncryptedAppTicketNative.userIsVacBanned(
+		long start = SteamMetrics.begin();
+		boolean result = SteamEncryptedAppTicketNative.userIsVacBanned(
 				ticketDecrypted, ticketDecrypted.position(), ticketDecrypted.remaining());
+		SteamMetrics.end(UserIsVacBanned, start);
+		return result;
 	}
 
 	public int getUserVariableData(ByteBuffer ticketDecrypted, ByteBuffer userData) throws SteamException {
@@ -82,9 +120,12 @@ public class SteamEncryptedAppTicket extends SteamInterface {
 		checkBuffer(ticketDecrypted);
 		checkBuffer(userData);
 
-		return SteamEncryptedAppTicketNative.getUserVariableData(
+		long start = SteamMetrics.begin();
+		int result = SteamEncryptedAppTicketNative.getUserVariableData(
 				ticketDecrypted, ticketDecrypted.position(), ticketDecrypted.remaining(),
 				userData, userData.position(), userData.remaining());
+		SteamMetrics.end(GetUserVariableData, start);
+		return result;
 	}
 
 }
@@ -30,104 +30,218 @@ public class SteamGameServer extends SteamInterface {
 		}
 	}
 
+	private static final SteamMetrics.Timer SetProduct = SteamMetrics.nativeCall("SteamGameServer.setProduct");
+	private static final SteamMetrics.Timer SetGameDescription =
+			SteamMetrics.nativeCall("SteamGameServer.setGameDescription");
+	private static final SteamMetrics.Timer SetModDir = SteamMetrics.nativeCall("SteamGameServer.setModDir");
+	private static final SteamMetrics.Timer SetDedicatedServer =
+			SteamMetrics.nativeCall("SteamGameServer.setDedicatedServer");
+	private static final SteamMetrics.Timer LogOn = SteamMetrics.nativeCall("SteamGameServer.logOn");
+	private static final SteamMetrics.Timer LogOnAnonymous = SteamMetrics.nativeCall("SteamGameServer.logOnAnonymous");
+	private static final SteamMetrics.Timer LogOff = SteamMetrics.nativeCall("SteamGameServer.logOff");
+	private static final SteamMetrics.Timer IsLoggedOn = SteamMetrics.nativeCall("SteamGameServer.isLoggedOn");
+	private static final SteamMetrics.Timer IsSecure = SteamMetrics.nativeCall("SteamGameServer.isSecure");
+	private static final SteamMetrics.Timer GetSteamID = SteamMetrics.nativeCall("SteamGameServer.getSteamID");
+	private static final SteamMetrics.Timer WasRestartRequested =
+			SteamMetrics.nativeCall("SteamGameServer.wasRestartRequested");
+	private static final SteamMetrics.Timer SetMaxPlayerCount =
+			SteamMetrics.nativeCall("SteamGameServer.setMaxPlayerCount");
+	private static final SteamMetrics.Timer SetBotPlayerCount =
+			SteamMetrics.nativeCall("SteamGameServer.setBotPlayerCount");
+	private static final SteamMetrics.Timer SetServerName = SteamMetrics.nativeCall("SteamGameServer.setServerName");
+	private static final SteamMetrics.Timer SetMapName = SteamMetrics.nativeCall("SteamGameServer.setMapName");
+	private static final SteamMetrics.Timer SetPasswordProtected =
+			SteamMetrics.nativeCall("SteamGameServer.setPasswordProtected");
+	private static final SteamMetrics.Timer SetSpectatorPort =
+			SteamMetrics.nativeCall("SteamGameServer.setSpectatorPort");
+	private static final SteamMetrics.Timer SetSpectatorServerName =
+			SteamMetrics.nativeCall("SteamGameServer.setSpectatorServerName");
+	private static final SteamMetrics.Timer ClearAllKeyValues =
+			SteamMetrics.nativeCall("SteamGameServer.clearAllKeyValues");
+	private static final SteamMetrics.Timer SetKeyValue = SteamMetrics.nativeCall("SteamGameServer.setKeyValue");
+	private static final SteamMetrics.Timer SetGameTags = SteamMetrics.nativeCall("SteamGameServer.setGameTags");
+	private static final SteamMetrics.Timer SetGameData = SteamMetrics.nativeCall("SteamGameServer.setGameData");
+	private static final SteamMetrics.Timer SetRegion = SteamMetrics.nativeCall("SteamGameServer.setRegion");
+	private static final SteamMetrics.Timer SetAdvertiseServerActive =
+			SteamMetrics.nativeCall("SteamGameServer.setAdvertiseServerActive");
+	private static final SteamMetrics.Timer SendUserConnectAndAuthenticate =
+			SteamMetrics.nativeCall("SteamGameServer.sendUserConnectAndAuthenticate");
+	private static final SteamMetrics.Timer CreateUnauthenticatedUserConnection =
+			SteamMetrics.nativeCall("SteamGameServer.createUnauthenticatedUserConnection");
+	private static final SteamMetrics.Timer SendUserDisconnect =
+			SteamMetrics.nativeCall("SteamGameServer.sendUserDisconnect");
+	private static final SteamMetrics.Timer UpdateUserData = SteamMetrics.nativeCall("SteamGameServer.updateUserData");
+	private static final SteamMetrics.Timer GetAuthSessionTicket =
+			SteamMetrics.nativeCall("SteamGameServer.getAuthSessionTicket");
+	private static final SteamMetrics.Timer BeginAuthSession =
+			SteamMetrics.nativeCall("SteamGameServer.beginAuthSession");
+	private static final SteamMetrics.Timer EndAuthSession = SteamMetrics.nativeCall("SteamGameServer.endAuthSession");
+	private static final SteamMetrics.Timer CancelAuthTicket =
+			SteamMetrics.nativeCall("SteamGameServer.cancelAuthTicket");
+	private static final SteamMetrics.Timer UserHasLicenseForApp =
+			SteamMetrics.nativeCall("SteamGameServer.userHasLicenseForApp");
+	private static final SteamMetrics.Timer RequestUserGroupStatus =
+			SteamMetrics.nativeCall("SteamGameServer.requestUserGroupStatus");
+	private static final SteamMetrics.Timer GetPublicIP = SteamMetrics.nativeCall("SteamGameServer.getPublicIP");
+	private static final SteamMetrics.Timer HandleIncomingPacket =
+			SteamMetrics.nativeCall("SteamGameServer.handleIncomingPacket");
+	private static final SteamMetrics.Timer GetNextOutgoingPacket =
+			SteamMetrics.nativeCall("SteamGameServer.getNextOutgoingPacket");
+	private static final SteamMetrics.Timer AssociateWithClan =
+			SteamMetrics.nativeCall("SteamGameServer.associateWithClan");
+	private static final SteamMetrics.Timer ComputeNewPlayerCompatibility =
+			SteamMetrics.nativeCall("SteamGameServer.computeNewPlayerCompatibility");
+
 	public SteamGameServer(SteamGameServerCallback callback) {
 		super(SteamGameServerNative.createCallback(new SteamGameServerCallbackAdapter(callback)));
 	}
 
 	public void setProduct(String product) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setProduct(product);
+		SteamMetrics.end(SetProduct, start);
 	}
 
 	public void setGameDescription(String gameDescription) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setGameDescription(gameDescription);
+		SteamMetrics.end(SetGameDescription, start);
 	}
 
 	public void setModDir(String modDir) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setModDir(modDir);
+		SteamMetrics.end(SetModDir, start);
 	}
 
 	public void setDedicatedServer(boolean dedicated) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setDedicatedServer(dedicated);
+		SteamMetrics.end(SetDedicatedServer, start);
 	}
 
 	public void logOn(String token) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.logOn(token);
+		SteamMetrics.end(LogOn, start);
 	}
 
 	public void logOnAnonymous() {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.logOnAnonymous();
+		SteamMetrics.end(LogOnAnonymous, start);
 	}
 
 	public void logOff() {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.logOff();
+		SteamMetrics.end(LogOff, start);
 	}
 
 	public boolean isLoggedOn() {
-		return SteamGameServerNative.isLoggedOn();
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerNative.isLoggedOn();
+		SteamMetrics.end(IsLoggedOn, start);
+		return result;
 	}
 
 	public boolean isSecure() {
-		return SteamGameServerNative.isSecure();
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerNative.isSecure();
+		SteamMetrics.end(IsSecure, start);
+		return result;
 	}
 
 	public SteamID getSteamID() {
-		return new SteamID(SteamGameServerNative.getSteamID());
+		long start = SteamMetrics.begin();
+		long result = SteamGameServerNative.getSteamID();
+		SteamMetrics.end(GetSteamID, start);
+		return new SteamID(result);
 	}
 
 	public boolean wasRestartRequested() {
-		return SteamGameServerNative.wasRestartRequested();
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerNative.wasRestartRequested();
+		SteamMetrics.end(WasRestartRequested, start);
+		return result;
 	}
 
 	public void setMaxPlayerCount(int playersMax) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setMaxPlayerCount(playersMax);
+		SteamMetrics.end(SetMaxPlayerCount, start);
 	}
 
 	public void setBotPlayerCount(int botplayers) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setBotPlayerCount(botplayers);
+		SteamMetrics.end(SetBotPlayerCount, start);
 	}
 
 	public void setServerName(String serverName) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setServerName(serverName);
+		SteamMetrics.end(SetServerName, start);
 	}
 
 	public void setMapName(String mapName) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setMapName(mapName);
+		SteamMetrics.end(SetMapName, start);
 	}
 
 	public void setPasswordProtected(boolean passwordProtected) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setPasswordProtected(passwordProtected);
+		SteamMetrics.end(SetPasswordProtected, start);
 	}
 
 	public void setSpectatorPort(short spectatorPort) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setSpectatorPort(spectatorPort);
+		SteamMetrics.end(SetSpectatorPort, start);
 	}
 
 	public void setSpectatorServerName(String spectatorServerName) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setSpectatorServerName(spectatorServerName);
+		SteamMetrics.end(SetSpectatorServerName, start);
 	}
 
 	public void clearAllKeyValues() {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.clearAllKeyValues();
+		SteamMetrics.end(ClearAllKeyValues, start);
 	}
 
 	public void setKeyValue(String key, String value) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setKeyValue(key, value);
+		SteamMetrics.end(SetKeyValue, start);
 	}
 
 	public void setGameTags(String gameTags) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setGameTags(gameTags);
+		SteamMetrics.end(SetGameTags, start);
 	}
 
 	public void setGameData(String gameData) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setGameData(gameData);
+		SteamMetrics.end(SetGameData, start);
 	}
 
 	public void setRegion(String region) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setRegion(region);
+		SteamMetrics.end(SetRegion, start);
 	}
 
 	public void setAdvertiseServerActive(boolean active) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.setAdvertiseServerActive(active);
+		SteamMetrics.end(SetAdvertiseServerActive, start);
 	}
 
 	@Deprecated
@@ -137,8 +251,11 @@ public class SteamGameServer extends SteamInterface {
 
 		long[] ids = new long[1];
 
-		if (SteamGameServerNative.sendUserConnectAndAuthenticate(
-				clientIP, authBlob, authBlob.position(), authBlob.remaining(), ids)) {
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerNative.sendUserConnectAndAuthenticate(
+				clientIP, authBlob, authBlob.position(), authBlob.remaining(), ids);
+		SteamMetrics.end(SendUserConnectAndAuthenticate, start);
+		if (result) {
 			steamIDUser.handle = ids[0];
 			return true;
 		}
@@ -147,16 +264,24 @@ public class SteamGameServer extends SteamInterface {
 	}
 
 	public SteamID createUnauthenticatedUserConnection() {
-		return new SteamID(SteamGameServerNative.createUnauthenticatedUserConnection());
+		long start = SteamMetrics.begin();
+		long result = SteamGameServerNative.createUnauthenticatedUserConnection();
+		SteamMetrics.end(CreateUnauthenticatedUserConnection, start);
+		return new SteamID(result);
 	}
 
 	@Deprecated
 	public void sendUserDisconnect(SteamID steamIDUser) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.sendUserDisconnect(steamIDUser.handle);
+		SteamMetrics.end(SendUserDisconnect, start);
 	}
 
 	public boolean updateUserData(SteamID steamIDUser, String playerName, int score) {
-		return SteamGameServerNative.updateUserData(steamIDUser.handle, playerName, score);
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerNative.updateUserData(steamIDUser.handle, playerName, score);
+		SteamMetrics.end(UpdateUserData, start);
+		return result;
 	}
 
 	public SteamAuthTicket getAuthSessionTicket(ByteBuffer authTicket, int[] sizeInBytes) throws SteamException {
@@ -165,8 +290,10 @@ public class SteamGameServer extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
+		long start = SteamMetrics.begin();
 		int ticket = SteamGameServerNative.getAuthSessionTicket(authTicket,
 				authTicket.position(), authTicket.remaining(), sizeInBytes);
+		SteamMetrics.end(GetAuthSessionTicket, start);
 
 		if (ticket != SteamAuthTicket.AuthTicketInvalid) {
 			// TODO: this doesn't match the rest of the API
@@ -182,50 +309,76 @@ public class SteamGameServer extends SteamInterface {
 			throw new SteamException("Direct buffer required!");
 		}
 
+		long start = SteamMetrics.begin();
 		int result = SteamGameServerNative.beginAuthSession(
 				authTicket, authTicket.position(), authTicket.remaining(), steamID.handle);
+		SteamMetrics.end(BeginAuthSession, start);
 
 		return SteamAuth.BeginAuthSessionResult.byOrdinal(result);
 	}
 
 	public void endAuthSession(SteamID steamID) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.endAuthSession(steamID.handle);
+		SteamMetrics.end(EndAuthSession, start);
 	}
 
 	public void cancelAuthTicket(SteamAuthTicket authTicket) {
+		long start = SteamMetrics.begin();
 		SteamGameServerNative.cancelAuthTicket((int) authTicket.handle);
+		SteamMetrics.end(CancelAuthTicket, start);
 	}
 
 	public SteamAuth.UserHasLicenseForAppResult userHasLicenseForApp(SteamID steamID, int appID) {
-		return SteamAuth.UserHasLicenseForAppResult.byOrdinal(
-				SteamGameServerNative.userHasLicenseForApp(steamID.handle, appID));
+		long start = SteamMetrics.begin();
+		int result = SteamGameServerNative.userHasLicenseForApp(steamID.handle, appID);
+		SteamMetrics.end(UserHasLicenseForApp, start);
+		return SteamAuth.UserHasLicenseForAppResult.byOrdinal(result);
 	}
 
 	public boolean requestUserGroupStatus(SteamID steamIDUser, SteamID steamIDGroup) {
-		return SteamGameServerNative.requestUserGroupStatus(steamIDUser.handle, steamIDGroup.handle);
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerNative.requestUserGroupStatus(steamIDUser.handle, steamIDGroup.handle);
+		SteamMetrics.end(RequestUserGroupStatus, start);
+		return result;
 	}
 
 	public int getPublicIP() {
-		return SteamGameServerNative.getPublicIP();
+		long start = SteamMetrics.begin();
+		int result = SteamGameServerNative.getPublicIP();
+		SteamMetrics.end(GetPublicIP, start);
+		return result;
 	}
 
 	public boolean handleIncomingPacket(ByteBuffer data, int srcIP, short srcPort) {
-		return SteamGameServerNative.handleIncomingPacket(
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerNative.handleIncomingPacket(
 				data, data.position(), data.remaining(), srcIP, srcPort);
+		SteamMetrics.end(HandleIncomingPacket, start);
+		return result;
 	}
 
 	public int getNextOutgoingPacket(ByteBuffer out, int[] netAdr, short[] port) {
 		// todo: improve return values (buffers? dedicated data type?)
-		return SteamGameServerNative.getNextOutgoingPacket(
+		long start = SteamMetrics.begin();
+		int result = SteamGameServerNative.getNextOutgoingPacket(
 				out, out.position(), out.remaining(), netAdr, port);
+		SteamMetrics.end(GetNextOutgoingPacket, start);
+		return result;
 	}
 
 	public SteamAPICall associateWithClan(SteamID steamIDClan) {
-		return new SteamAPICall(SteamGameServerNative.associateWithClan(steamIDClan.handle));
+		long start = SteamMetrics.begin();
+		long result = SteamGameServerNative.associateWithClan(steamIDClan.handle);
+		SteamMetrics.end(AssociateWithClan, start);
+		return new SteamAPICall(result);
 	}
 
 	public SteamAPICall computeNewPlayerCompatibility(SteamID steamIDNewPlayer) {
-		return new SteamAPICall(SteamGameServerNative.computeNewPlayerCompatibility(steamIDNewPlayer.handle));
+		long start = SteamMetrics.begin();
+		long result = SteamGameServerNative.computeNewPlayerCompatibility(steamIDNewPlayer.handle);
+		SteamMetrics.end(ComputeNewPlayerCompatibility, start);
+		return new SteamAPICall(result);
 	}
 
 }
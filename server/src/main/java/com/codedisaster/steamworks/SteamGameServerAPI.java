@@ -41,7 +41,15 @@ public class SteamGameServerAPI {
 	}
 
 	public static void runCallbacks() {
-		SteamGameServerAPINative.runCallbacks();
+		long start = SteamMetrics.begin();
+		Object event = SteamFlightRecorder.beginRunCallbacks();
+		try {
+			SteamGameServerAPINative.runCallbacks();
+			SteamCallResults.expire();
+		} finally {
+			SteamFlightRecorder.endRunCallbacks(event, true);
+			SteamMetrics.end(SteamMetrics.gameServerRunCallbacks, start);
+		}
 	}
 
 	public static boolean isSecure() {
@@ -52,4 +60,11 @@ public class SteamGameServerAPI {
 		return new SteamID(SteamGameServerAPINative.nativeGetSteamID());
 	}
 
+	/**
+	 * @see SteamAPI#getCallbackThreadAttachCount()
+	 */
+	public static long getCallbackThreadAttachCount() {
+		return SteamGameServerAPINative.getCallbackThreadAttachCount();
+	}
+
 }
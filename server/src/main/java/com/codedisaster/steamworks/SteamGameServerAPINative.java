@@ -6,6 +6,7 @@ class SteamGameServerAPINative {
 
 	/*JNI
 		 #include <steam_gameserver.h>
+		 #include "SteamGameServerCallbackAdapter.h"
 		 static JavaVM* staticVM = 0;
 	*/
 
@@ -36,4 +37,8 @@ class SteamGameServerAPINative {
 		return SteamGameServer_GetSteamID();
 	*/
 
+	static native long getCallbackThreadAttachCount(); /*
+		return SteamGameServerCallbackAdapter::getThreadAttachCount();
+	*/
+
 }
@@ -3,45 +3,111 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamGameServerCallbackAdapter extends SteamCallbackAdapter<SteamGameServerCallback> {
 
+	private static final SteamMetrics.Timer OnValidateAuthTicketResponse =
+			SteamMetrics.callback("SteamGameServerCallback.onValidateAuthTicketResponse");
+	private static final SteamMetrics.Timer OnSteamServersConnected =
+			SteamMetrics.callback("SteamGameServerCallback.onSteamServersConnected");
+	private static final SteamMetrics.Timer OnSteamServerConnectFailure =
+			SteamMetrics.callback("SteamGameServerCallback.onSteamServerConnectFailure");
+	private static final SteamMetrics.Timer OnSteamServersDisconnected =
+			SteamMetrics.callback("SteamGameServerCallback.onSteamServersDisconnected");
+	private static final SteamMetrics.Timer OnClientApprove =
+			SteamMetrics.callback("SteamGameServerCallback.onClientApprove");
+	private static final SteamMetrics.Timer OnClientDeny =
+			SteamMetrics.callback("SteamGameServerCallback.onClientDeny");
+	private static final SteamMetrics.Timer OnClientKick =
+			SteamMetrics.callback("SteamGameServerCallback.onClientKick");
+	private static final SteamMetrics.Timer OnClientGroupStatus =
+			SteamMetrics.callback("SteamGameServerCallback.onClientGroupStatus");
+	private static final SteamMetrics.Timer OnAssociateWithClanResult =
+			SteamMetrics.callback("SteamGameServerCallback.onAssociateWithClanResult");
+	private static final SteamMetrics.Timer OnComputeNewPlayerCompatibilityResult =
+			SteamMetrics.callback("SteamGameServerCallback.onComputeNewPlayerCompatibilityResult");
+
 	SteamGameServerCallbackAdapter(SteamGameServerCallback callback) {
 		super(callback);
 	}
 
 	void onValidateAuthTicketResponse(long steamID, int authSessionResponse, long ownerSteamID) {
-		callback.onValidateAuthTicketResponse(new SteamID(steamID),
-				SteamAuth.AuthSessionResponse.byOrdinal(authSessionResponse), new SteamID(ownerSteamID));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onValidateAuthTicketResponse(new SteamID(steamID),
+					SteamAuth.AuthSessionResponse.byOrdinal(authSessionResponse), new SteamID(ownerSteamID));
+		} finally {
+			SteamMetrics.end(OnValidateAuthTicketResponse, start);
+		}
 	}
 
 	void onSteamServersConnected() {
-		callback.onSteamServersConnected();
+		long start = SteamMetrics.begin();
+		try {
+			callback.onSteamServersConnected();
+		} finally {
+			SteamMetrics.end(OnSteamServersConnected, start);
+		}
 	}
 
 	void onSteamServerConnectFailure(int result, boolean stillRetrying) {
-		callback.onSteamServerConnectFailure(SteamResult.byValue(result), stillRetrying);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onSteamServerConnectFailure(SteamResult.byValue(result), stillRetrying);
+		} finally {
+			SteamMetrics.end(OnSteamServerConnectFailure, start);
+		}
 	}
 
 	void onSteamServersDisconnected(int result) {
-		callback.onSteamServersDisconnected(SteamResult.byValue(result));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onSteamServersDisconnected(SteamResult.byValue(result));
+		} finally {
+			SteamMetrics.end(OnSteamServersDisconnected, start);
+		}
 	}
 
 	void onClientApprove(long steamID, long ownerSteamID) {
-		callback.onClientApprove(new SteamID(steamID), new SteamID(ownerSteamID));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onClientApprove(new SteamID(steamID), new SteamID(ownerSteamID));
+		} finally {
+			SteamMetrics.end(OnClientApprove, start);
+		}
 	}
 
 	void onClientDeny(long steamID, int denyReason, String optionalText) {
-		callback.onClientDeny(new SteamID(steamID), SteamGameServer.DenyReason.byOrdinal(denyReason), optionalText);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onClientDeny(new SteamID(steamID), SteamGameServer.DenyReason.byOrdinal(denyReason), optionalText);
+		} finally {
+			SteamMetrics.end(OnClientDeny, start);
+		}
 	}
 
 	void onClientKick(long steamID, int denyReason) {
-		callback.onClientKick(new SteamID(steamID), SteamGameServer.DenyReason.byOrdinal(denyReason));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onClientKick(new SteamID(steamID), SteamGameServer.DenyReason.byOrdinal(denyReason));
+		} finally {
+			SteamMetrics.end(OnClientKick, start);
+		}
 	}
 
 	void onClientGroupStatus(long steamID, long steamIDGroup, boolean isMember, boolean isOfficer) {
-		callback.onClientGroupStatus(new SteamID(steamID), new SteamID(steamIDGroup), isMember, isOfficer);
+		long start = SteamMetrics.begin();
+		try {
+			callback.onClientGroupStatus(new SteamID(steamID), new SteamID(steamIDGroup), isMember, isOfficer);
+		} finally {
+			SteamMetrics.end(OnClientGroupStatus, start);
+		}
 	}
 
 	void onAssociateWithClanResult(int result) {
-		callback.onAssociateWithClanResult(SteamResult.byValue(result));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onAssociateWithClanResult(SteamResult.byValue(result));
+		} finally {
+			SteamMetrics.end(OnAssociateWithClanResult, start);
+		}
 	}
 
 	void onComputeNewPlayerCompatibilityResult(int result,
@@ -49,7 +115,12 @@ class SteamGameServerCallbackAdapter extends SteamCallbackAdapter<SteamGameServe
 											   int playersThatCandidateDoesntLike,
 											   int clanPlayersThatDontLikeCandidate,
 											   long steamIDCandidate) {
-		callback.onComputeNewPlayerCompatibilityResult(SteamResult.byValue(result), playersThatDontLikeCandidate,
-				playersThatCandidateDoesntLike, clanPlayersThatDontLikeCandidate, new SteamID(steamIDCandidate));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onComputeNewPlayerCompatibilityResult(SteamResult.byValue(result), playersThatDontLikeCandidate,
+					playersThatCandidateDoesntLike, clanPlayersThatDontLikeCandidate, new SteamID(steamIDCandidate));
+		} finally {
+			SteamMetrics.end(OnComputeNewPlayerCompatibilityResult, start);
+		}
 	}
 }
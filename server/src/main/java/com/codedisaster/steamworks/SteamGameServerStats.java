@@ -3,17 +3,40 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 public class SteamGameServerStats extends SteamInterface {
 
+	private static final SteamMetrics.Timer RequestUserStats =
+			SteamMetrics.nativeCall("SteamGameServerStats.requestUserStats");
+	private static final SteamMetrics.Timer GetUserStatI = SteamMetrics.nativeCall("SteamGameServerStats.getUserStatI");
+	private static final SteamMetrics.Timer GetUserStatF = SteamMetrics.nativeCall("SteamGameServerStats.getUserStatF");
+	private static final SteamMetrics.Timer GetUserAchievement =
+			SteamMetrics.nativeCall("SteamGameServerStats.getUserAchievement");
+	private static final SteamMetrics.Timer SetUserStatI = SteamMetrics.nativeCall("SteamGameServerStats.setUserStatI");
+	private static final SteamMetrics.Timer SetUserStatF = SteamMetrics.nativeCall("SteamGameServerStats.setUserStatF");
+	private static final SteamMetrics.Timer UpdateUserAvgRateStat =
+			SteamMetrics.nativeCall("SteamGameServerStats.updateUserAvgRateStat");
+	private static final SteamMetrics.Timer SetUserAchievement =
+			SteamMetrics.nativeCall("SteamGameServerStats.setUserAchievement");
+	private static final SteamMetrics.Timer ClearUserAchievement =
+			SteamMetrics.nativeCall("SteamGameServerStats.clearUserAchievement");
+	private static final SteamMetrics.Timer StoreUserStats =
+			SteamMetrics.nativeCall("SteamGameServerStats.storeUserStats");
+
 	public SteamGameServerStats(SteamGameServerStatsCallback callback) {
 		super(SteamGameServerStatsNative.createCallback(new SteamGameServerStatsCallbackAdapter(callback)));
 	}
 
 	public SteamAPICall requestUserStats(SteamID steamIDUser) {
-		return new SteamAPICall(SteamGameServerStatsNative.requestUserStats(steamIDUser.handle));
+		long start = SteamMetrics.begin();
+		long result = SteamGameServerStatsNative.requestUserStats(steamIDUser.handle);
+		SteamMetrics.end(RequestUserStats, start);
+		return new SteamAPICall(result);
 	}
 
 	public int getUserStatI(SteamID steamIDUser, String name, int defaultValue) {
 		int[] values = new int[1];
-		if (SteamGameServerStatsNative.getUserStat(steamIDUser.handle, name, values)) {
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerStatsNative.getUserStat(steamIDUser.handle, name, values);
+		SteamMetrics.end(GetUserStatI, start);
+		if (result) {
 			return values[0];
 		}
 		return defaultValue;
@@ -21,7 +44,10 @@ public class SteamGameServerStats extends SteamInterface {
 
 	public float getUserStatF(SteamID steamIDUser, String name, float defaultValue) {
 		float[] values = new float[1];
-		if (SteamGameServerStatsNative.getUserStat(steamIDUser.handle, name, values)) {
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerStatsNative.getUserStat(steamIDUser.handle, name, values);
+		SteamMetrics.end(GetUserStatF, start);
+		if (result) {
 			return values[0];
 		}
 		return defaultValue;
@@ -29,35 +55,56 @@ public class SteamGameServerStats extends SteamInterface {
 
 	public boolean getUserAchievement(SteamID steamIDUser, String name, boolean defaultValue) {
 		boolean[] achieved = new boolean[1];
-		if (SteamGameServerStatsNative.getUserAchievement(steamIDUser.handle, name, achieved)) {
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerStatsNative.getUserAchievement(steamIDUser.handle, name, achieved);
+		SteamMetrics.end(GetUserAchievement, start);
+		if (result) {
 			return achieved[0];
 		}
 		return defaultValue;
 	}
 
 	public boolean setUserStatI(SteamID steamIDUser, String name, int value) {
-		return SteamGameServerStatsNative.setUserStat(steamIDUser.handle, name, value);
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerStatsNative.setUserStat(steamIDUser.handle, name, value);
+		SteamMetrics.end(SetUserStatI, start);
+		return result;
 	}
 
 	public boolean setUserStatF(SteamID steamIDUser, String name, float value) {
-		return SteamGameServerStatsNative.setUserStat(steamIDUser.handle, name, value);
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerStatsNative.setUserStat(steamIDUser.handle, name, value);
+		SteamMetrics.end(SetUserStatF, start);
+		return result;
 	}
 
 	public boolean updateUserAvgRateStat(SteamID steamIDUser, String name, float countThisSession, double sessionLength) {
-		return SteamGameServerStatsNative.updateUserAvgRateStat(
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerStatsNative.updateUserAvgRateStat(
 				steamIDUser.handle, name, countThisSession, sessionLength);
+		SteamMetrics.end(UpdateUserAvgRateStat, start);
+		return result;
 	}
 
 	public boolean setUserAchievement(SteamID steamIDUser, String name) {
-		return SteamGameServerStatsNative.setUserAchievement(steamIDUser.handle, name);
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerStatsNative.setUserAchievement(steamIDUser.handle, name);
+		SteamMetrics.end(SetUserAchievement, start);
+		return result;
 	}
 
 	public boolean clearUserAchievement(SteamID steamIDUser, String name) {
-		return SteamGameServerStatsNative.clearUserAchievement(steamIDUser.handle, name);
+		long start = SteamMetrics.begin();
+		boolean result = SteamGameServerStatsNative.clearUserAchievement(steamIDUser.handle, name);
+		SteamMetrics.end(ClearUserAchievement, start);
+		return result;
 	}
 
 	public SteamAPICall storeUserStats(SteamID steamIDUser) {
-		return new SteamAPICall(SteamGameServerStatsNative.storeUserStats(steamIDUser.handle));
+		long start = SteamMetrics.begin();
+		long result = SteamGameServerStatsNative.storeUserStats(steamIDUser.handle);
+		SteamMetrics.end(StoreUserStats, start);
+		return new SteamAPICall(result);
 	}
 
 }
@@ -3,19 +3,41 @@ package com.codedisaster.steamworks;
 @SuppressWarnings("unused")
 class SteamGameServerStatsCallbackAdapter extends SteamCallbackAdapter<SteamGameServerStatsCallback> {
 
+	private static final SteamMetrics.Timer OnStatsReceived =
+			SteamMetrics.callback("SteamGameServerStatsCallback.onStatsReceived");
+	private static final SteamMetrics.Timer OnStatsStored =
+			SteamMetrics.callback("SteamGameServerStatsCallback.onStatsStored");
+	private static final SteamMetrics.Timer OnStatsUnloaded =
+			SteamMetrics.callback("SteamGameServerStatsCallback.onStatsUnloaded");
+
 	SteamGameServerStatsCallbackAdapter(SteamGameServerStatsCallback callback) {
 		super(callback);
 	}
 
 	void onStatsReceived(int result, long steamIDUser) {
-		callback.onStatsReceived(SteamResult.byValue(result), new SteamID(steamIDUser));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onStatsReceived(SteamResult.byValue(result), new SteamID(steamIDUser));
+		} finally {
+			SteamMetrics.end(OnStatsReceived, start);
+		}
 	}
 
 	void onStatsStored(int result, long steamIDUser) {
-		callback.onStatsStored(SteamResult.byValue(result), new SteamID(steamIDUser));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onStatsStored(SteamResult.byValue(result), new SteamID(steamIDUser));
+		} finally {
+			SteamMetrics.end(OnStatsStored, start);
+		}
 	}
 	
 	void onStatsUnloaded(long steamIDUser) {
-		callback.onStatsUnloaded(new SteamID(steamIDUser));
+		long start = SteamMetrics.begin();
+		try {
+			callback.onStatsUnloaded(new SteamID(steamIDUser));
+		} finally {
+			SteamMetrics.end(OnStatsUnloaded, start);
+		}
 	}
 }
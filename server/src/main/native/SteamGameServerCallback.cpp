@@ -12,7 +12,16 @@ SteamGameServerCallback::SteamGameServerCallback(JNIEnv* env, jobject callback)
 	, m_CallbackClientGroupStatus(this, &SteamGameServerCallback::onClientGroupStatus)
 	, m_CallbackAssociateWithClanResult(this, &SteamGameServerCallback::onAssociateWithClanResult)
 	, m_CallbackComputeNewPlayerCompatibilityResult(this, &SteamGameServerCallback::onComputeNewPlayerCompatibilityResult) {
-
+	m_onValidateAuthTicketResponse = resolveMethod(env, "onValidateAuthTicketResponse", "(JIJ)V");
+	m_onSteamServersConnected = resolveMethod(env, "onSteamServersConnected", "()V");
+	m_onSteamServerConnectFailure = resolveMethod(env, "onSteamServerConnectFailure", "(IZ)V");
+	m_onSteamServersDisconnected = resolveMethod(env, "onSteamServersDisconnected", "(I)V");
+	m_onClientApprove = resolveMethod(env, "onClientApprove", "(JJ)V");
+	m_onClientDeny = resolveMethod(env, "onClientDeny", "(JILjava/lang/String;)V");
+	m_onClientKick = resolveMethod(env, "onClientKick", "(JI)V");
+	m_onClientGroupStatus = resolveMethod(env, "onClientGroupStatus", "(JJZZ)V");
+	m_onAssociateWithClanResult = resolveMethod(env, "onAssociateWithClanResult", "(I)V");
+	m_onComputeNewPlayerCompatibilityResult = resolveMethod(env, "onComputeNewPlayerCompatibilityResult", "(IIIIJ)V");
 }
 
 SteamGameServerCallback::~SteamGameServerCallback() {
@@ -21,7 +30,7 @@ SteamGameServerCallback::~SteamGameServerCallback() {
 
 void SteamGameServerCallback::onValidateAuthTicketResponse(ValidateAuthTicketResponse_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onValidateAuthTicketResponse", "(JIJ)V",
+		callVoidMethod(env, m_onValidateAuthTicketResponse,
 			(jlong) callback->m_SteamID.ConvertToUint64(), (jint) callback->m_eAuthSessionResponse,
 			(jlong) callback->m_OwnerSteamID.ConvertToUint64());
 	});
@@ -29,48 +38,49 @@ void SteamGameServerCallback::onValidateAuthTicketResponse(ValidateAuthTicketRes
 
 void SteamGameServerCallback::onSteamServersConnected(SteamServersConnected_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onSteamServersConnected", "()V");
+		callVoidMethod(env, m_onSteamServersConnected);
 	});
 }
 
 void SteamGameServerCallback::onSteamServerConnectFailure(SteamServerConnectFailure_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onSteamServerConnectFailure", "(IZ)V",
+		callVoidMethod(env, m_onSteamServerConnectFailure,
 			(jint) callback->m_eResult, callback->m_bStillRetrying);
 	});
 }
 
 void SteamGameServerCallback::onSteamServersDisconnected(SteamServersDisconnected_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onSteamServersDisconnected", "(I)V",
+		callVoidMethod(env, m_onSteamServersDisconnected,
 			(jint) callback->m_eResult);
 	});
 }
 
 void SteamGameServerCallback::onClientApprove(GSClientApprove_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onClientApprove", "(JJ)V",
+		callVoidMethod(env, m_onClientApprove,
 			(jlong) callback->m_SteamID.ConvertToUint64(), (jlong) callback->m_OwnerSteamID.ConvertToUint64());
 	});
 }
 
 void SteamGameServerCallback::onClientDeny(GSClientDeny_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onClientDeny", "(JI[char)V",
-			(jlong) callback->m_SteamID.ConvertToUint64(), (jint) callback->m_eDenyReason, (jcharArray) callback->m_rgchOptionalText);
+		callVoidMethod(env, m_onClientDeny,
+			(jlong) callback->m_SteamID.ConvertToUint64(), (jint) callback->m_eDenyReason,
+			env->NewStringUTF(callback->m_rgchOptionalText));
 	});
 }
 
 void SteamGameServerCallback::onClientKick(GSClientKick_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onClientKick", "(JI)V",
+		callVoidMethod(env, m_onClientKick,
 			(jlong) callback->m_SteamID.ConvertToUint64(), (jint) callback->m_eDenyReason);
 	});
 }
 
 void SteamGameServerCallback::onClientGroupStatus(GSClientGroupStatus_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onClientGroupStatus", "(JJZZ)V",
+		callVoidMethod(env, m_onClientGroupStatus,
 			(jlong) callback->m_SteamIDUser.ConvertToUint64(), (jlong) callback->m_SteamIDGroup.ConvertToUint64(),
 			(jboolean) callback->m_bMember, (jboolean) callback->m_bOfficer);
 	});
@@ -78,14 +88,14 @@ void SteamGameServerCallback::onClientGroupStatus(GSClientGroupStatus_t* callbac
 
 void SteamGameServerCallback::onAssociateWithClanResult(AssociateWithClanResult_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onAssociateWithClanResult", "(I)V",
+		callVoidMethod(env, m_onAssociateWithClanResult,
 			(jint) callback->m_eResult);
 	});
 }
 
 void SteamGameServerCallback::onComputeNewPlayerCompatibilityResult(ComputeNewPlayerCompatibilityResult_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onComputeNewPlayerCompatibilityResult", "(IIIIJ)V",
+		callVoidMethod(env, m_onComputeNewPlayerCompatibilityResult,
 			(jint) callback->m_eResult, (jint) callback->m_cPlayersThatDontLikeCandidate,
 			(jint) callback->m_cPlayersThatCandidateDoesntLike, (jint) callback->m_cClanPlayersThatDontLikeCandidate,
 			(jlong) callback->m_SteamIDCandidate.ConvertToUint64());
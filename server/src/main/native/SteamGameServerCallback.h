@@ -19,4 +19,16 @@ public:
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerCallback, onClientGroupStatus, GSClientGroupStatus_t, m_CallbackClientGroupStatus);
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerCallback, onAssociateWithClanResult, AssociateWithClanResult_t, m_CallbackAssociateWithClanResult);
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerCallback, onComputeNewPlayerCompatibilityResult, ComputeNewPlayerCompatibilityResult_t, m_CallbackComputeNewPlayerCompatibilityResult);
+
+private:
+	jmethodID m_onValidateAuthTicketResponse;
+	jmethodID m_onSteamServersConnected;
+	jmethodID m_onSteamServerConnectFailure;
+	jmethodID m_onSteamServersDisconnected;
+	jmethodID m_onClientApprove;
+	jmethodID m_onClientDeny;
+	jmethodID m_onClientKick;
+	jmethodID m_onClientGroupStatus;
+	jmethodID m_onAssociateWithClanResult;
+	jmethodID m_onComputeNewPlayerCompatibilityResult;
 };
@@ -1,81 +1,145 @@
 #include "SteamGameServerCallbackAdapter.h"
 
+#include <atomic>
+
+#ifdef WINDOWS
+	#include <windows.h>
+	#include <mutex>
+#else
+	#include <pthread.h>
+#endif
+
+jclass SteamGameServerCallbackAdapter::s_exceptionClass = 0;
+
+static std::atomic<jlong> s_threadAttachCount(0);
+
+#ifdef WINDOWS
+
+static DWORD s_threadExitHook = FLS_OUT_OF_INDEXES;
+
+static void WINAPI onThreadExit(void* vm) {
+	if (vm != nullptr) {
+		((JavaVM*) vm)->DetachCurrentThread();
+	}
+}
+
+static void registerThreadExitHook(JavaVM* vm) {
+	static std::once_flag once;
+	std::call_once(once, [] { s_threadExitHook = FlsAlloc(onThreadExit); });
+	FlsSetValue(s_threadExitHook, vm);
+}
+
+#else
+
+static pthread_key_t s_threadExitHook;
+static pthread_once_t s_threadExitHookOnce = PTHREAD_ONCE_INIT;
+
+static void onThreadExit(void* vm) {
+	((JavaVM*) vm)->DetachCurrentThread();
+}
+
+static void createThreadExitHook() {
+	pthread_key_create(&s_threadExitHook, onThreadExit);
+}
+
+static void registerThreadExitHook(JavaVM* vm) {
+	pthread_once(&s_threadExitHookOnce, createThreadExitHook);
+	pthread_setspecific(s_threadExitHook, vm);
+}
+
+#endif
+
 SteamGameServerCallbackAdapter::SteamGameServerCallbackAdapter(JNIEnv* env, jobject callback) {
 	env->GetJavaVM(&m_vm);
 	m_callback = env->NewGlobalRef(callback);
 	m_callbackClass = 0;
+	resolveExceptionClass(env);
 }
 
 SteamGameServerCallbackAdapter::SteamGameServerCallbackAdapter(JNIEnv* env, jclass callbackClass) {
 	env->GetJavaVM(&m_vm);
 	m_callback = 0;
 	m_callbackClass = callbackClass;
+	resolveExceptionClass(env);
 }
 
 SteamGameServerCallbackAdapter::~SteamGameServerCallbackAdapter() {
     if (m_callback != 0) {
-        JNIEnv* env;
-        bool attached = attachThread(&env);
+        JNIEnv* env = attachThread();
         env->DeleteGlobalRef(m_callback);
-        if (attached) {
-            detachThread();
-        }
     }
 }
 
+jlong SteamGameServerCallbackAdapter::getThreadAttachCount() {
+	return s_threadAttachCount;
+}
+
 void SteamGameServerCallbackAdapter::attach(SteamInvokeCallbackFunction fn) const {
-    JNIEnv* env;
-    bool attached = attachThread(&env);
-    fn(env);
-    if (attached) {
-        detachThread();
-    }
+    fn(attachThread());
 }
 
-bool SteamGameServerCallbackAdapter::attachThread(JNIEnv** env) const {
-    jint status = m_vm->GetEnv((void**) env, JNI_VERSION_1_6);
-    if (status == JNI_EDETACHED) {
-    	m_vm->AttachCurrentThread((void**) env, NULL);
-    	return true;
-    }
-    return false;
+JNIEnv* SteamGameServerCallbackAdapter::attachThread() const {
+	JNIEnv* env;
+	if (m_vm->GetEnv((void**) &env, JNI_VERSION_1_6) == JNI_EDETACHED) {
+		// Steam's service threads are attached once, as daemons so they don't keep the JVM
+		// alive, and are detached by the thread exit hook
+		m_vm->AttachCurrentThreadAsDaemon((void**) &env, NULL);
+		s_threadAttachCount++;
+		registerThreadExitHook(m_vm);
+	}
+	return env;
 }
 
-void SteamGameServerCallbackAdapter::detachThread() const {
-	m_vm->DetachCurrentThread();
+void SteamGameServerCallbackAdapter::resolveExceptionClass(JNIEnv* env) {
+	if (s_exceptionClass == 0) {
+		jclass ex = env->FindClass("com/codedisaster/steamworks/SteamException");
+		s_exceptionClass = (jclass) env->NewGlobalRef(ex);
+		env->DeleteLocalRef(ex);
+	}
 }
 
-void SteamGameServerCallbackAdapter::callVoidMethod(JNIEnv* env, const char* method, const char* signature, ...) const {
+jmethodID SteamGameServerCallbackAdapter::resolveMethod(JNIEnv* env, const char* method, const char* signature) const {
 	jclass clazz = env->GetObjectClass(m_callback);
-	jclass ex = env->FindClass("com/codedisaster/steamworks/SteamException");
 	if (clazz == 0) {
-	    env->ThrowNew(ex, "Couldn't retrieve class for callback object.");
-	} else {
-		jmethodID methodID = env->GetMethodID(clazz, method, signature);
-		if (methodID == 0) {
-    	    env->ThrowNew(ex, "Couldn't retrieve callback method.");
-		} else {
-			va_list args;
-			va_start(args, signature);
-			env->CallVoidMethodV(m_callback, methodID, args);
-			va_end(args);
-
-			jthrowable ex = env->ExceptionOccurred();
-			if (ex != NULL) {
-				env->ExceptionDescribe();
-				env->ExceptionClear();
-				env->DeleteLocalRef(ex);
-			}
-		}
-		env->DeleteLocalRef(clazz);
+	    env->ThrowNew(s_exceptionClass, "Couldn't retrieve class for callback object.");
+		return 0;
+	}
+
+	jmethodID methodID = env->GetMethodID(clazz, method, signature);
+	env->DeleteLocalRef(clazz);
+
+	if (methodID == 0) {
+		// GetMethodID() leaves a NoSuchMethodError pending, replace it with our own exception
+		env->ExceptionClear();
+	    env->ThrowNew(s_exceptionClass, "Couldn't retrieve callback method.");
+	}
+
+	return methodID;
+}
+
+void SteamGameServerCallbackAdapter::callVoidMethod(JNIEnv* env, jmethodID methodID, ...) const {
+	if (methodID == 0) {
+		return;
+	}
+
+	va_list args;
+	va_start(args, methodID);
+	env->CallVoidMethodV(m_callback, methodID, args);
+	va_end(args);
+
+	jthrowable ex = env->ExceptionOccurred();
+	if (ex != NULL) {
+		env->ExceptionDescribe();
+		env->ExceptionClear();
+		env->DeleteLocalRef(ex);
 	}
 }
 
 void SteamGameServerCallbackAdapter::callStaticVoidMethod(JNIEnv* env, const char* method, const char* signature, ...) const {
 	jmethodID methodID = env->GetStaticMethodID(m_callbackClass, method, signature);
-	jclass ex = env->FindClass("com/codedisaster/steamworks/SteamException");
 	if (methodID == 0) {
-	    env->ThrowNew(ex, "Couldn't retrieve static callback method.");
+		env->ExceptionClear();
+	    env->ThrowNew(s_exceptionClass, "Couldn't retrieve static callback method.");
 	} else {
 		va_list args;
 		va_start(args, signature);
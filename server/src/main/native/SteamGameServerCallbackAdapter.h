@@ -12,9 +12,8 @@
     */
 
     #define invokeCallback(fn) \
-        JNIEnv* env; bool attached = attachThread(&env); \
-        fn \
-        if (attached) detachThread();
+        JNIEnv* env = attachThread(); \
+        fn
 
     // dummy function pointer type to please the compiler, this workaround doesn't call attach()
     typedef void (* SteamInvokeCallbackFunction) (JNIEnv* env);
@@ -32,22 +31,38 @@ class SteamGameServerCallbackAdapter {
 public:
     virtual ~SteamGameServerCallbackAdapter();
 
+	/**
+		Number of times a native thread has been attached to the JVM to dispatch a callback.
+		Threads stay attached until they exit, so this should stay low and stable.
+	*/
+	static jlong getThreadAttachCount();
+
 protected:
     SteamGameServerCallbackAdapter(JNIEnv* env, jobject callback);
     SteamGameServerCallbackAdapter(JNIEnv* env, jclass callbackClass);
 
     void attach(SteamInvokeCallbackFunction fn) const;
 
-	void callVoidMethod(JNIEnv* env, const char* method, const char* signature, ...) const;
+	/**
+		Looks up a method of the Java callback adapter. Subclasses call this once per callback
+		in their constructor and keep the result, so dispatching a callback doesn't need to
+		query class and method IDs again.
+	*/
+	jmethodID resolveMethod(JNIEnv* env, const char* method, const char* signature) const;
+
+	void callVoidMethod(JNIEnv* env, jmethodID methodID, ...) const;
 	void callStaticVoidMethod(JNIEnv* env, const char* method, const char* signature, ...) const;
 
 #ifndef MACOSX
 private:
 #endif
-	bool attachThread(JNIEnv** env) const;
-	void detachThread() const;
+	JNIEnv* attachThread() const;
 
 private:
+	static void resolveExceptionClass(JNIEnv* env);
+
+	static jclass s_exceptionClass;
+
     JavaVM* m_vm;
     jobject m_callback;
 	jclass m_callbackClass;
@@ -14,4 +14,9 @@ public:
 
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerHTTPCallback, onHTTPRequestHeadersReceived, HTTPRequestHeadersReceived_t, m_CallbackHTTPRequestHeadersReceived);
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerHTTPCallback, onHTTPRequestDataReceived, HTTPRequestDataReceived_t, m_CallbackHTTPRequestDataReceived);
+
+private:
+	jmethodID m_onHTTPRequestCompleted;
+	jmethodID m_onHTTPRequestHeadersReceived;
+	jmethodID m_onHTTPRequestDataReceived;
 };
@@ -4,7 +4,8 @@ SteamGameServerNetworkingCallback::SteamGameServerNetworkingCallback(JNIEnv* env
 	: SteamGameServerCallbackAdapter(env, callback)
 	, m_CallbackP2PSessionConnectFail(this, &SteamGameServerNetworkingCallback::onP2PSessionConnectFail)
 	, m_CallbackP2PSessionRequest(this, &SteamGameServerNetworkingCallback::onP2PSessionRequest) {
-
+	m_onP2PSessionConnectFail = resolveMethod(env, "onP2PSessionConnectFail", "(JI)V");
+	m_onP2PSessionRequest = resolveMethod(env, "onP2PSessionRequest", "(J)V");
 }
 
 SteamGameServerNetworkingCallback::~SteamGameServerNetworkingCallback() {
@@ -13,14 +14,14 @@ SteamGameServerNetworkingCallback::~SteamGameServerNetworkingCallback() {
 
 void SteamGameServerNetworkingCallback::onP2PSessionConnectFail(P2PSessionConnectFail_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onP2PSessionConnectFail", "(JI)V",
+		callVoidMethod(env, m_onP2PSessionConnectFail,
 			(jlong) callback->m_steamIDRemote.ConvertToUint64(), (jint) callback->m_eP2PSessionError);
 	});
 }
 
 void SteamGameServerNetworkingCallback::onP2PSessionRequest(P2PSessionRequest_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onP2PSessionRequest", "(J)V",
+		callVoidMethod(env, m_onP2PSessionRequest,
 			(jlong) callback->m_steamIDRemote.ConvertToUint64());
 	});
 }
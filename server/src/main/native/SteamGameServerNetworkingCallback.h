@@ -11,4 +11,8 @@ public:
 
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerNetworkingCallback, onP2PSessionConnectFail, P2PSessionConnectFail_t, m_CallbackP2PSessionConnectFail);
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerNetworkingCallback, onP2PSessionRequest, P2PSessionRequest_t, m_CallbackP2PSessionRequest);
+
+private:
+	jmethodID m_onP2PSessionConnectFail;
+	jmethodID m_onP2PSessionRequest;
 };
@@ -5,6 +5,9 @@ SteamGameServerStatsCallback::SteamGameServerStatsCallback(JNIEnv* env, jobject
 	, m_CallbackStatsReceived(this, &SteamGameServerStatsCallback::onStatsReceived)
 	, m_CallbackStatsStored(this, &SteamGameServerStatsCallback::onStatsStored)
 	, m_CallbackStatsUnloaded(this, &SteamGameServerStatsCallback::onStatsUnloaded) {
+	m_onStatsReceived = resolveMethod(env, "onStatsReceived", "(IJ)V");
+	m_onStatsStored = resolveMethod(env, "onStatsStored", "(IJ)V");
+	m_onStatsUnloaded = resolveMethod(env, "onStatsUnloaded", "(J)V");
 }
 
 SteamGameServerStatsCallback::~SteamGameServerStatsCallback() {
@@ -13,21 +16,21 @@ SteamGameServerStatsCallback::~SteamGameServerStatsCallback() {
 
 void SteamGameServerStatsCallback::onStatsReceived(GSStatsReceived_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onStatsReceived", "(IJ)V",
+		callVoidMethod(env, m_onStatsReceived,
 			(jint) callback->m_eResult,(jlong) callback->m_steamIDUser.ConvertToUint64());
 	});
 }
 
 void SteamGameServerStatsCallback::onStatsStored(GSStatsStored_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onStatsStored", "(IJ)V",
+		callVoidMethod(env, m_onStatsStored,
 			(jint) callback->m_eResult,(jlong) callback->m_steamIDUser.ConvertToUint64());
 	});
 }
 
 void SteamGameServerStatsCallback::onStatsUnloaded(GSStatsUnloaded_t* callback) {
 	invokeCallback({
-		callVoidMethod(env, "onStatsUnloaded", "(J)V",
+		callVoidMethod(env, m_onStatsUnloaded,
 			(jlong) callback->m_steamIDUser.ConvertToUint64());
 	});
 }
\ No newline at end of file
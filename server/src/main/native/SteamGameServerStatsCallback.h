@@ -12,4 +12,9 @@ public:
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerStatsCallback, onStatsReceived, GSStatsReceived_t, m_CallbackStatsReceived);
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerStatsCallback, onStatsStored, GSStatsStored_t, m_CallbackStatsStored);
 	STEAM_GAMESERVER_CALLBACK(SteamGameServerStatsCallback, onStatsUnloaded, GSStatsUnloaded_t, m_CallbackStatsUnloaded);
+
+private:
+	jmethodID m_onStatsReceived;
+	jmethodID m_onStatsStored;
+	jmethodID m_onStatsUnloaded;
 };
@@ -0,0 +1,101 @@
+package com.codedisaster.steamworks.test;
+
+import com.codedisaster.steamworks.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Checks that {@link SteamNetworkPump} doesn't drop inbound messages once the game thread drained a full ring.
+ * Runs on {@link SteamSimulatedBackend}, without Steam.
+ * <p>
+ * The first round fills the inbound ring. Each following round sends three quarters of its capacity, and
+ * receives them all, so the pump needs to see the slots freed by the game thread to keep up.
+ */
+public class SteamNetworkPumpTest {
+
+	private static final int Slots = 64;
+	private static final int SlotSize = 16;
+	private static final int Rounds = 8;
+	private static final long DeliveryMillis = 100L;
+
+	public static void main(String[] arguments) throws Exception {
+		SteamAPI.setBackend(new SteamSimulatedBackend(new SteamSimulatedBackend.Config().setEcho(false)));
+
+		if (!SteamAPI.init()) {
+			System.err.println("Failed to initialize simulated backend");
+			System.exit(-1);
+		}
+
+		SteamNetworkingSockets sockets = new SteamNetworkingSockets((connection, steamID, state, prevState) -> {});
+
+		int[] pair = new int[2];
+		if (!sockets.createSocketPairRaw(false, pair)) {
+			System.err.println("Failed to create socket pair");
+			System.exit(-1);
+		}
+
+		int pollGroup = sockets.createPollGroupRaw();
+		sockets.setConnectionPollGroup(pair[1], pollGroup);
+
+		SteamNetworkPump pump = new SteamNetworkPump(sockets, pollGroup, new SteamNetworkPump.Config()
+				.setInboundSlots(Slots)
+				.setSlotSize(SlotSize)
+				.setOverflowPolicy(SteamNetworkPump.OverflowPolicy.Drop));
+		pump.start();
+
+		ByteBuffer sendBuffer = ByteBuffer.allocateDirect(SlotSize);
+		ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(Slots * SlotSize);
+		int[] sizes = new int[Slots];
+		int[] connections = new int[Slots];
+
+		boolean passed = true;
+		int sequence = 0;
+
+		for (int round = 0; round < Rounds; round++) {
+			int count = round == 0 ? Slots : Slots * 3 / 4;
+
+			for (int i = 0; i < count; i++) {
+				sendBuffer.clear();
+				sendBuffer.putInt(0, sequence + i);
+				sockets.sendMessageToConnection(pair[0], sendBuffer, SteamNetworkingSockets.SendFlags.Reliable);
+			}
+
+			Thread.sleep(DeliveryMillis);
+
+			receiveBuffer.clear();
+			int received = pump.receive(receiveBuffer, sizes, connections, Slots);
+
+			for (int i = 0, offset = 0; i < received; offset += sizes[i++]) {
+				if (receiveBuffer.getInt(offset) != sequence + i) {
+					System.err.println("Round " + round + ": message " + i + " out of order");
+					passed = false;
+					break;
+				}
+			}
+
+			if (received != count || pump.getInboundDropped() != 0) {
+				System.err.println("Round " + round + ": received " + received + " of " + count + " messages, "
+						+ pump.getInboundDropped() + " dropped so far");
+				passed = false;
+			}
+
+			sequence += count;
+		}
+
+		pump.stop();
+		sockets.destroyPollGroup(pollGroup);
+		sockets.closeConnection(pair[0], 0, false);
+		sockets.closeConnection(pair[1], 0, false);
+		sockets.dispose();
+		SteamAPI.shutdown();
+
+		if (pump.getFailure() != null) {
+			pump.getFailure().printStackTrace();
+			passed = false;
+		}
+
+		System.out.println(passed ? "passed" : "failed");
+		System.exit(passed ? 0 : -1);
+	}
+
+}
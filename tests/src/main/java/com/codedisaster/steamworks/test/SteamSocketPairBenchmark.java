@@ -0,0 +1,431 @@
+package com.codedisaster.steamworks.test;
+
+import com.codedisaster.steamworks.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Sends a mix of messages across a socket pair of the local user, and reports throughput and latency.
+ * Meant as a regression gauge for changes to the send and receive path.
+ * <p>
+ * Each message carries its send time, so latency is measured from the call to send until the message
+ * is returned by the receive call, which includes Nagle delays and queueing on the sender.
+ * <p>
+ * Arguments:
+ * <ul>
+ *   <li>{@code --simulated}: runs on {@link SteamSimulatedBackend}, without Steam.</li>
+ *   <li>{@code --loopback}: sends through the network stack on localhost, instead of in memory.</li>
+ *   <li>{@code --mix <size>:<flags>,...}: message sizes and {@link SteamNetworkingSockets.SendFlags}, sent in turn.
+ *   Repeat an entry to send it more often. Defaults to {@value #DefaultMix}.</li>
+ *   <li>{@code --rate <messages>}: messages per second, or 0 to send as fast as possible. Defaults to
+ *   {@value #DefaultRate}.</li>
+ *   <li>{@code --nagle-time <microseconds>}: Nagle delay of the sending connection.</li>
+ *   <li>{@code --batched}: sends the messages of each tick with one call to
+ *   {@link SteamNetworkingSockets#sendMessages}.</li>
+ *   <li>{@code --pump}: sends and receives through a {@link SteamNetworkPump}, which makes the native calls
+ *   on its own thread.</li>
+ *   <li>{@code --bulk <bytes>}: keeps this many reliable bytes pending on lane 0 of the sending connection, as a
+ *   bulk transfer competing with the message mix. Bulk messages are not counted.</li>
+ *   <li>{@code --lane <index>}: lane the message mix is sent on. Lanes above 0 get a higher priority than the bulk
+ *   lane, so comparing {@code --lane 0} with {@code --lane 1} shows the latency gained by a priority lane.</li>
+ *   <li>{@code --send-rate <bytes>}: bandwidth of the sending connection, in bytes per second.</li>
+ *   <li>{@code --warmup <seconds>}, {@code --duration <seconds>}: defaults to 2 and 10 seconds.</li>
+ * </ul>
+ */
+public class SteamSocketPairBenchmark {
+
+	private static final String DefaultMix = "64:UnreliableNoNagle,64:UnreliableNoNagle,256:ReliableNoNagle,1200:Reliable";
+	private static final int DefaultRate = 20000;
+
+	private static final int TimestampSize = 8;
+	private static final int BulkSize = 1200;
+	private static final int MaxMessagesPerTick = SteamNetworkingSockets.MaxMessagesPerReceive;
+
+	private boolean simulated;
+	private boolean loopback;
+	private boolean batched;
+	private boolean pumped;
+	private int bulk;
+	private int lane;
+	private int sendRate;
+	private int rate = DefaultRate;
+	private int nagleTime = -1;
+	private double warmupSeconds = 2.0;
+	private double durationSeconds = 10.0;
+
+	private String mix = DefaultMix;
+	private int[] mixSizes;
+	private int[] mixFlags;
+	private int mixIndex;
+
+	private SteamNetworkingSockets sockets;
+	private int sender;
+	private int receiver;
+
+	private int pollGroup;
+	private SteamNetworkPump pump;
+
+	private SteamNetworkingSockets.ConnectionRealTimeStatus status;
+	private ByteBuffer bulkBuffer;
+
+	private ByteBuffer sendBuffer;
+	private ByteBuffer receiveBuffer;
+
+	private final int[] offsets = new int[MaxMessagesPerTick];
+	private final int[] sizes = new int[MaxMessagesPerTick];
+	private final int[] connections = new int[MaxMessagesPerTick];
+	private final int[] flags = new int[MaxMessagesPerTick];
+	private final int[] lanes = new int[MaxMessagesPerTick];
+	private final long[] results = new long[MaxMessagesPerTick];
+	private final int[] receivedSizes = new int[MaxMessagesPerTick];
+	private final int[] receivedConnections = new int[MaxMessagesPerTick];
+
+	private long[] latencies = new long[1 << 16];
+	private int latencyCount;
+
+	private long sent;
+	private long rejected;
+	private long received;
+	private long receivedBytes;
+	private boolean measuring;
+
+	private void parseArguments(String[] arguments) {
+		for (int i = 0; i < arguments.length; i++) {
+			switch (arguments[i]) {
+				case "--simulated":
+					simulated = true;
+					break;
+				case "--loopback":
+					loopback = true;
+					break;
+				case "--batched":
+					batched = true;
+					break;
+				case "--pump":
+					pumped = true;
+					break;
+				case "--bulk":
+					bulk = Integer.parseInt(arguments[++i]);
+					break;
+				case "--lane":
+					lane = Integer.parseInt(arguments[++i]);
+					break;
+				case "--send-rate":
+					sendRate = Integer.parseInt(arguments[++i]);
+					break;
+				case "--mix":
+					mix = arguments[++i];
+					break;
+				case "--rate":
+					rate = Integer.parseInt(arguments[++i]);
+					break;
+				case "--nagle-time":
+					nagleTime = Integer.parseInt(arguments[++i]);
+					break;
+				case "--warmup":
+					warmupSeconds = Double.parseDouble(arguments[++i]);
+					break;
+				case "--duration":
+					durationSeconds = Double.parseDouble(arguments[++i]);
+					break;
+			}
+		}
+
+		String[] entries = mix.split(",");
+		mixSizes = new int[entries.length];
+		mixFlags = new int[entries.length];
+
+		for (int i = 0; i < entries.length; i++) {
+			String[] entry = entries[i].split(":");
+			mixSizes[i] = Math.max(Integer.parseInt(entry[0].trim()), TimestampSize);
+			mixFlags[i] = entry.length > 1 ? parseSendFlags(entry[1].trim()) : SteamNetworkingSockets.SendFlags.Reliable;
+		}
+	}
+
+	private static int parseSendFlags(String name) {
+		switch (name) {
+			case "Unreliable":
+				return SteamNetworkingSockets.SendFlags.Unreliable;
+			case "UnreliableNoNagle":
+				return SteamNetworkingSockets.SendFlags.UnreliableNoNagle;
+			case "UnreliableNoDelay":
+				return SteamNetworkingSockets.SendFlags.UnreliableNoDelay;
+			case "Reliable":
+				return SteamNetworkingSockets.SendFlags.Reliable;
+			case "ReliableNoNagle":
+				return SteamNetworkingSockets.SendFlags.ReliableNoNagle;
+			default:
+				throw new IllegalArgumentException("Unknown send flags: " + name);
+		}
+	}
+
+	private boolean init(String[] arguments) throws SteamException {
+		if (simulated) {
+			SteamAPI.setBackend(new SteamSimulatedBackend(new SteamSimulatedBackend.Config()
+					.setEcho(false)
+					.setSocketSendRate(sendRate)));
+		} else if (!SteamAPI.loadLibraries(SteamTestApp.createLibraryLoader(arguments))) {
+			System.err.println("Failed to load native libraries");
+			return false;
+		}
+
+		if (!SteamAPI.init()) {
+			SteamAPI.printDebugInfo(System.err);
+			return false;
+		}
+
+		sockets = new SteamNetworkingSockets((connection, steamID, state, prevState) ->
+				System.out.println("Connection " + connection.getHandle() + ": " + prevState + " -> " + state));
+
+		int[] pair = new int[2];
+		if (!sockets.createSocketPairRaw(loopback, pair)) {
+			System.err.println("Failed to create socket pair");
+			return false;
+		}
+
+		sender = pair[0];
+		receiver = pair[1];
+
+		if (nagleTime >= 0) {
+			new SteamNetworkingUtils().setConnectionConfigValue(sender,
+					SteamNetworkingUtils.ConfigValue.NagleTime, nagleTime);
+		}
+
+		if (sendRate > 0 && !simulated) {
+			SteamNetworkingUtils utils = new SteamNetworkingUtils();
+			utils.setConnectionConfigValue(sender, SteamNetworkingUtils.ConfigValue.SendRateMin, sendRate);
+			utils.setConnectionConfigValue(sender, SteamNetworkingUtils.ConfigValue.SendRateMax, sendRate);
+		}
+
+		if (lane > 0) {
+			// lower numbers are sent first, so the bulk transfer on lane 0 goes last
+			int[] priorities = new int[lane + 1];
+			priorities[0] = 1;
+			SteamResult result = sockets.configureConnectionLanes(sender, priorities, null);
+			if (result != SteamResult.OK) {
+				System.err.println("Failed to configure lanes: " + result);
+				return false;
+			}
+		}
+
+		Arrays.fill(lanes, lane);
+
+		status = new SteamNetworkingSockets.ConnectionRealTimeStatus(lane + 1);
+		bulkBuffer = ByteBuffer.allocateDirect(BulkSize);
+
+		int maxSize = 0;
+		for (int size : mixSizes) {
+			maxSize = Math.max(maxSize, size);
+		}
+
+		sendBuffer = ByteBuffer.allocateDirect(maxSize * MaxMessagesPerTick);
+		receiveBuffer = ByteBuffer.allocateDirect(maxSize * MaxMessagesPerTick);
+
+		if (pumped) {
+			pollGroup = sockets.createPollGroupRaw();
+			sockets.setConnectionPollGroup(receiver, pollGroup);
+
+			pump = new SteamNetworkPump(sockets, pollGroup, new SteamNetworkPump.Config()
+					.setSlotSize(maxSize)
+					.setInboundSlots(4 * MaxMessagesPerTick)
+					.setOutboundSlots(4 * MaxMessagesPerTick));
+			pump.start();
+		}
+
+		return true;
+	}
+
+	private void run() throws SteamException {
+		long start = System.nanoTime();
+		long measureStart = start + (long) (warmupSeconds * 1e9);
+		long end = measureStart + (long) (durationSeconds * 1e9);
+
+		long due = 0;
+		long lastTick = start;
+
+		for (long now = start; now < end; now = System.nanoTime()) {
+
+			if (!measuring && now >= measureStart) {
+				measuring = true;
+			}
+
+			// messages due since the last tick, or one full batch if unlimited
+			int count;
+			if (rate > 0) {
+				due += (now - lastTick) * rate;
+				count = (int) Math.min(due / 1000000000L, MaxMessagesPerTick);
+				due -= count * 1000000000L;
+			} else {
+				count = MaxMessagesPerTick;
+			}
+			lastTick = now;
+
+			saturate();
+			send(count);
+
+			SteamAPI.runCallbacks();
+
+			receive();
+		}
+	}
+
+	private void send(int count) throws SteamException {
+		if (count == 0) {
+			return;
+		}
+
+		int offset = 0;
+		for (int i = 0; i < count; i++) {
+			offsets[i] = offset;
+			sizes[i] = mixSizes[mixIndex];
+			connections[i] = sender;
+			flags[i] = mixFlags[mixIndex];
+			offset += sizes[i];
+			mixIndex = (mixIndex + 1) % mixSizes.length;
+		}
+
+		if (pumped) {
+			for (int i = 0; i < count; i++) {
+				sendBuffer.limit(offsets[i] + sizes[i]);
+				sendBuffer.position(offsets[i]);
+				sendBuffer.putLong(offsets[i], System.nanoTime());
+
+				boolean queued = pump.send(sender, sendBuffer, flags[i], lane);
+				count(queued ? 1 : 0, queued ? 0 : 1);
+			}
+		} else if (batched) {
+			long timestamp = System.nanoTime();
+			for (int i = 0; i < count; i++) {
+				sendBuffer.putLong(offsets[i], timestamp);
+			}
+
+			sendBuffer.clear();
+			int accepted = sockets.sendMessages(sendBuffer, offsets, sizes, connections, flags, lanes, results, count);
+
+			count(accepted, count - accepted);
+		} else {
+			for (int i = 0; i < count; i++) {
+				sendBuffer.limit(offsets[i] + sizes[i]);
+				sendBuffer.position(offsets[i]);
+				sendBuffer.putLong(offsets[i], System.nanoTime());
+
+				SteamResult result = sockets.sendMessageToConnection(sender, sendBuffer, flags[i], lane);
+				count(result == SteamResult.OK ? 1 : 0, result == SteamResult.OK ? 0 : 1);
+			}
+		}
+	}
+
+	/**
+	 * Tops up the bulk transfer. Bulk messages carry a zero timestamp, so the receiver can tell them apart.
+	 */
+	private void saturate() throws SteamException {
+		if (bulk == 0) {
+			return;
+		}
+
+		sockets.getConnectionRealTimeStatus(sender, status);
+
+		for (int pending = status.getLanePendingReliable(0); pending < bulk; pending += BulkSize) {
+			bulkBuffer.clear();
+			sockets.sendMessageToConnection(sender, bulkBuffer, SteamNetworkingSockets.SendFlags.Reliable, 0);
+		}
+	}
+
+	private void count(int accepted, int failed) {
+		if (measuring) {
+			sent += accepted;
+			rejected += failed;
+		}
+	}
+
+	private void receive() throws SteamException {
+		int messages;
+		do {
+			receiveBuffer.clear();
+			messages = pumped
+					? pump.receive(receiveBuffer, receivedSizes, receivedConnections, MaxMessagesPerTick)
+					: sockets.receiveMessagesOnConnection(receiver, receiveBuffer, receivedSizes, MaxMessagesPerTick);
+
+			long now = System.nanoTime();
+			int offset = 0;
+
+			for (int i = 0; i < messages; i++) {
+				long timestamp = receiveBuffer.getLong(offset);
+				offset += receivedSizes[i];
+
+				if (measuring && timestamp != 0L) {
+					long latency = now - timestamp;
+					received++;
+					receivedBytes += receivedSizes[i];
+					addLatency(latency);
+				}
+			}
+		} while (messages > 0);
+	}
+
+	private void addLatency(long latency) {
+		if (latencyCount == latencies.length) {
+			latencies = Arrays.copyOf(latencies, 2 * latencies.length);
+		}
+		latencies[latencyCount++] = latency;
+	}
+
+	private void report() {
+		Arrays.sort(latencies, 0, latencyCount);
+
+		System.out.println("backend:     " + (simulated ? "simulated" : loopback ? "network loopback" : "in memory"));
+		System.out.println("mix:         " + mix + (pumped ? " (pump)" : batched ? " (batched)" : ""));
+		if (bulk > 0) {
+			System.out.printf("lanes:       mix on lane %d, %d bytes pending on bulk lane 0%n", lane, bulk);
+		}
+		System.out.printf("sent:        %d messages, %d rejected%n", sent, rejected);
+		if (pumped) {
+			System.out.printf("pump:        %d inbound dropped, %d send failures%n",
+					pump.getInboundDropped(), pump.getSendFailures());
+		}
+		System.out.printf("received:    %d messages, %.0f messages/s, %.2f MB/s%n", received,
+				received / durationSeconds, receivedBytes / durationSeconds / (1024.0 * 1024.0));
+		System.out.printf("latency:     p50 %.1f us, p99 %.1f us, max %.1f us%n",
+				percentile(0.50) / 1000.0, percentile(0.99) / 1000.0, percentile(1.0) / 1000.0);
+	}
+
+	private long percentile(double percentile) {
+		if (latencyCount == 0) {
+			return 0L;
+		}
+		int index = (int) Math.ceil(percentile * latencyCount) - 1;
+		return latencies[Math.max(index, 0)];
+	}
+
+	private void shutdown() {
+		if (pump != null) {
+			pump.stop();
+			sockets.destroyPollGroup(pollGroup);
+		}
+		sockets.closeConnection(sender, 0, false);
+		sockets.closeConnection(receiver, 0, false);
+		sockets.dispose();
+		SteamAPI.shutdown();
+	}
+
+	public static void main(String[] arguments) {
+		SteamSocketPairBenchmark benchmark = new SteamSocketPairBenchmark();
+		benchmark.parseArguments(arguments);
+
+		try {
+			if (!benchmark.init(arguments)) {
+				System.exit(-1);
+			}
+
+			benchmark.run();
+			benchmark.report();
+			benchmark.shutdown();
+
+		} catch (SteamException e) {
+			e.printStackTrace();
+			System.exit(-1);
+		}
+	}
+
+}
@@ -256,7 +256,7 @@ public abstract class SteamTestApp {
 		}
 	}
 
-	private static SteamLibraryLoader createLibraryLoader(String[] arguments) {
+	static SteamLibraryLoader createLibraryLoader(String[] arguments) {
 
 		SteamLibraryLoader loader = null;
 